@@ -1,6 +1,7 @@
 package com.linkedin.davinci;
 
 import static com.linkedin.venice.ConfigKeys.PUSH_STATUS_INSTANCE_NAME_SUFFIX;
+import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_HANDOVER_WARM_UP_KEY_COUNT;
 import static com.linkedin.venice.ConfigKeys.VALIDATE_VENICE_INTERNAL_SCHEMA_VERSION;
 import static com.linkedin.venice.pushmonitor.ExecutionStatus.DVC_INGESTION_ERROR_DISK_FULL;
 import static com.linkedin.venice.pushmonitor.ExecutionStatus.DVC_INGESTION_ERROR_MEMORY_LIMIT_REACHED;
@@ -28,6 +29,7 @@ import com.linkedin.davinci.stats.MetadataUpdateStats;
 import com.linkedin.davinci.stats.RocksDBMemoryStats;
 import com.linkedin.davinci.storage.StorageEngineMetadataService;
 import com.linkedin.davinci.storage.StorageMetadataService;
+import com.linkedin.davinci.storage.StoragePartitionWarmer;
 import com.linkedin.davinci.storage.StorageService;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.cache.backend.ObjectCacheBackend;
@@ -108,6 +110,7 @@ public class DaVinciBackend implements Closeable {
   private final StorageEngineBackedCompressorFactory compressorFactory;
   private final Optional<ObjectCacheBackend> cacheBackend;
   private IngestionBackend ingestionBackend;
+  private StoragePartitionWarmer storagePartitionWarmer;
   private final AggVersionedStorageEngineStats aggVersionedStorageEngineStats;
   private final boolean useDaVinciSpecificExecutionStatusForError;
   private BlobTransferManager<Void> blobTransferManager;
@@ -126,6 +129,11 @@ public class DaVinciBackend implements Closeable {
       useDaVinciSpecificExecutionStatusForError = backendConfig.useDaVinciSpecificExecutionStatusForError();
       writeBatchingPushStatus = backendConfig.getDaVinciPushStatusCheckIntervalInMs() >= 0;
       this.configLoader = configLoader;
+      if (isIsolatedIngestion() && backendConfig.getRocksDBServerConfig().isSharedInstanceEnabled()) {
+        // The isolated process and the main process would open the shared RocksDB instance at the same time.
+        throw new IllegalArgumentException(
+            "Ingestion isolated and shared RocksDB instance are incompatible configs!!  Aborting start up!");
+      }
       metricsRepository = Optional.ofNullable(clientConfig.getMetricsRepository())
           .orElse(TehutiUtils.getMetricsRepository("davinci-client"));
       VeniceMetadataRepositoryBuilder veniceMetadataRepositoryBuilder =
@@ -295,7 +303,9 @@ public class DaVinciBackend implements Closeable {
             configLoader.getVeniceServerConfig().getDvcP2pBlobTransferClientPort(),
             configLoader.getVeniceServerConfig().getRocksDBPath(),
             clientConfig,
-            storageMetadataService);
+            storageMetadataService,
+            configLoader.getVeniceServerConfig().getParallelBlobTransferConfig(),
+            configLoader.getVeniceServerConfig().getBlobTransferMaxBandwidthInBytesPerSecond());
       } else {
         blobTransferManager = null;
       }
@@ -440,21 +450,30 @@ public class DaVinciBackend implements Closeable {
       }
     }
 
-    ingestionBackend = isIsolatedIngestion()
-        ? new IsolatedIngestionBackend(
-            configLoader,
-            metricsRepository,
-            storageMetadataService,
-            ingestionService,
-            storageService,
-            blobTransferManager,
-            this::getVeniceCurrentVersionNumber)
-        : new DefaultIngestionBackend(
-            storageMetadataService,
-            ingestionService,
-            storageService,
-            blobTransferManager,
-            configLoader.getVeniceServerConfig());
+    if (isIsolatedIngestion()) {
+      IsolatedIngestionBackend isolatedIngestionBackend = new IsolatedIngestionBackend(
+          configLoader,
+          metricsRepository,
+          storageMetadataService,
+          ingestionService,
+          storageService,
+          blobTransferManager,
+          this::getVeniceCurrentVersionNumber);
+      int warmUpKeyCount =
+          configLoader.getCombinedProperties().getInt(SERVER_INGESTION_ISOLATION_HANDOVER_WARM_UP_KEY_COUNT, 0);
+      if (warmUpKeyCount > 0) {
+        storagePartitionWarmer = new StoragePartitionWarmer(warmUpKeyCount);
+        isolatedIngestionBackend.setStoragePartitionWarmer(storagePartitionWarmer);
+      }
+      ingestionBackend = isolatedIngestionBackend;
+    } else {
+      ingestionBackend = new DefaultIngestionBackend(
+          storageMetadataService,
+          ingestionService,
+          storageService,
+          blobTransferManager,
+          configLoader.getVeniceServerConfig());
+    }
     ingestionBackend.addIngestionNotifier(ingestionListener);
 
     // Subscribe all bootstrap version partitions.
@@ -561,6 +580,13 @@ public class DaVinciBackend implements Closeable {
     return schemaRepository;
   }
 
+  /**
+   * @return the warmer of the partitions handed over by the isolated ingestion process, or null if it is disabled.
+   */
+  StoragePartitionWarmer getStoragePartitionWarmer() {
+    return storagePartitionWarmer;
+  }
+
   StorageService getStorageService() {
     return storageService;
   }
@@ -583,6 +609,43 @@ public class DaVinciBackend implements Closeable {
     }
   }
 
+  /**
+   * Registers the value fields to maintain a secondary index for in the versions of the store, before a client
+   * subscribes to it. All the clients of a store must index the same fields, since they share its local data.
+   */
+  public synchronized void registerSecondaryIndexFields(String storeName, List<String> secondaryIndexFields) {
+    if (isIsolatedIngestion()) {
+      // The isolated ingestion process only knows about the fields of the backend config it was started with.
+      List<String> isolatedProcessFields =
+          configLoader.getVeniceServerConfig().getRocksDBServerConfig().getSecondaryIndexFields(storeName);
+      if (!isolatedProcessFields.equals(secondaryIndexFields)) {
+        throw new VeniceClientException(
+            "Secondary index fields conflict with the isolated ingestion process, storeName=" + storeName
+                + "; existing fields: " + isolatedProcessFields + "; new fields: " + secondaryIndexFields);
+      }
+    }
+    List<String> registeredFields = configLoader.registerSecondaryIndexFields(storeName, secondaryIndexFields);
+    if (!registeredFields.equals(secondaryIndexFields)) {
+      throw new VeniceClientException(
+          "Secondary index fields conflict with existing backend, storeName=" + storeName + "; existing fields: "
+              + registeredFields + "; new fields: " + secondaryIndexFields);
+    }
+    // The versions restored at start-up are opened with the fields they were persisted with, so the ones indexed with
+    // other fields are closed, to be reopened and rebuilt with the registered fields once subscribed.
+    for (AbstractStorageEngine storageEngine: storageService.getStorageEngineRepository().getAllLocalStorageEngines()) {
+      String kafkaTopic = storageEngine.getStoreVersionName();
+      if (Version.parseStoreFromKafkaTopicName(kafkaTopic).equals(storeName)
+          && !storageEngine.getSecondaryIndexFields().equals(registeredFields)) {
+        LOGGER.info(
+            "Closing storage engine: {} indexed with fields: {} to reopen it with fields: {}",
+            kafkaTopic,
+            storageEngine.getSecondaryIndexFields(),
+            registeredFields);
+        storageService.closeStorageEngine(kafkaTopic);
+      }
+    }
+  }
+
   final Map<String, VersionBackend> getVersionByTopicMap() {
     return versionByTopicMap;
   }
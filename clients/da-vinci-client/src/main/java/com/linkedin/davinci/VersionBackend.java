@@ -1,5 +1,6 @@
 package com.linkedin.davinci;
 
+import static com.linkedin.venice.ConfigKeys.DAVINCI_SNAPSHOT_READ_REUSE_WINDOW_IN_MS;
 import static com.linkedin.venice.ConfigKeys.PUSH_STATUS_STORE_ENABLED;
 import static com.linkedin.venice.ConfigKeys.PUSH_STATUS_STORE_HEARTBEAT_INTERVAL_IN_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_STOP_CONSUMPTION_TIMEOUT_IN_SECONDS;
@@ -7,8 +8,10 @@ import static com.linkedin.venice.ConfigKeys.SERVER_STOP_CONSUMPTION_TIMEOUT_IN_
 import com.linkedin.davinci.config.VeniceStoreVersionConfig;
 import com.linkedin.davinci.listener.response.NoOpReadResponseStats;
 import com.linkedin.davinci.notifier.DaVinciPushStatusUpdateTask;
+import com.linkedin.davinci.storage.StoragePartitionWarmer;
 import com.linkedin.davinci.storage.chunking.AbstractAvroChunkingAdapter;
 import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.StoragePartitionSnapshot;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.compression.VeniceCompressor;
 import com.linkedin.venice.compute.ComputeRequestWrapper;
@@ -25,6 +28,7 @@ import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.utils.ComplementSet;
 import com.linkedin.venice.utils.ExceptionUtils;
 import com.linkedin.venice.utils.PartitionUtils;
+import com.linkedin.venice.utils.ReferenceCounted;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.utils.lazy.Lazy;
 import java.nio.ByteBuffer;
@@ -39,6 +43,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -54,6 +59,7 @@ public class VersionBackend {
 
   private static final int DEFAULT_PUSH_STATUS_HEARTBEAT_INTERVAL_IN_SECONDS = 10;
   private static final int MAX_INCREMENTAL_PUSH_ENTRY_NUM = 50;
+  private static final long DEFAULT_SNAPSHOT_READ_REUSE_WINDOW_IN_MS = 10;
 
   private final DaVinciBackend backend;
   private final Version version;
@@ -71,6 +77,24 @@ public class VersionBackend {
       new VeniceConcurrentHashMap<>();
   private final Map<Integer, Boolean> partitionToBatchReportEOIPEnabled = new VeniceConcurrentHashMap<>();
   private final boolean batchReportEOIPStatusEnabled;
+  private final StoragePartitionWarmer storagePartitionWarmer;
+  private final long snapshotReadReuseWindowInMs;
+  private final Map<Integer, SharedReadSnapshot> partitionToSharedReadSnapshot = new VeniceConcurrentHashMap<>();
+
+  /**
+   * A snapshot shared by the snapshot reads of a partition until it is expired. The cache holds one reference of the
+   * snapshot, and every reader holds another one, so the snapshot is closed after it is expired and all the readers
+   * are done with it.
+   */
+  private static class SharedReadSnapshot {
+    private final ReferenceCounted<StoragePartitionSnapshot> snapshotRef;
+    private final long expirationTimeInMs;
+
+    SharedReadSnapshot(StoragePartitionSnapshot snapshot, long expirationTimeInMs) {
+      this.snapshotRef = new ReferenceCounted<>(snapshot, StoragePartitionSnapshot::close);
+      this.expirationTimeInMs = expirationTimeInMs;
+    }
+  }
 
   /*
    * if daVinciPushStatusStoreEnabled, VersionBackend will schedule a periodic job sending heartbeats
@@ -107,7 +131,11 @@ public class VersionBackend {
         .getInt(PUSH_STATUS_STORE_HEARTBEAT_INTERVAL_IN_SECONDS, DEFAULT_PUSH_STATUS_HEARTBEAT_INTERVAL_IN_SECONDS);
     this.stopConsumptionTimeoutInSeconds =
         backend.getConfigLoader().getCombinedProperties().getInt(SERVER_STOP_CONSUMPTION_TIMEOUT_IN_SECONDS, 60);
+    this.snapshotReadReuseWindowInMs = backend.getConfigLoader()
+        .getCombinedProperties()
+        .getLong(DAVINCI_SNAPSHOT_READ_REUSE_WINDOW_IN_MS, DEFAULT_SNAPSHOT_READ_REUSE_WINDOW_IN_MS);
     this.storeDeserializerCache = backend.getStoreOrThrow(store.getName()).getStoreDeserializerCache();
+    this.storagePartitionWarmer = backend.getStoragePartitionWarmer();
     this.compressor = Lazy.of(
         () -> backend.getCompressorFactory().getCompressor(version.getCompressionStrategy(), version.kafkaTopicName()));
     backend.getVersionByTopicMap().put(version.kafkaTopicName(), this);
@@ -143,6 +171,9 @@ public class VersionBackend {
     if (daVinciPushStatusUpdateTask != null) {
       daVinciPushStatusUpdateTask.shutdown();
     }
+    for (int partition: new ArrayList<>(partitionToSharedReadSnapshot.keySet())) {
+      releaseSharedReadSnapshot(partition);
+    }
   }
 
   synchronized void delete() {
@@ -224,6 +255,12 @@ public class VersionBackend {
     }
   }
 
+  private void recordKeyAccess(byte[] keyBytes) {
+    if (storagePartitionWarmer != null) {
+      storagePartitionWarmer.recordKeyAccess(version.getStoreName(), keyBytes);
+    }
+  }
+
   public <V> V read(
       int userPartition,
       byte[] keyBytes,
@@ -233,6 +270,7 @@ public class VersionBackend {
       BinaryDecoder binaryDecoder,
       ByteBuffer reusableRawValue,
       V reusableValue) {
+    recordKeyAccess(keyBytes);
     return chunkingAdaptor.get(
         getStorageEngineOrThrow(),
         userPartition,
@@ -247,6 +285,32 @@ public class VersionBackend {
         compressor.get());
   }
 
+  /**
+   * Reads the keys of the same partition with one batch lookup of the storage engine.
+   *
+   * @return the values in the order of the keys, where the value of a missing key is null.
+   */
+  public <V> List<V> multiRead(
+      int userPartition,
+      List<byte[]> keyBytesList,
+      AbstractAvroChunkingAdapter<V> chunkingAdaptor,
+      StoreDeserializerCache<V> storeDeserializerCache,
+      int readerSchemaId,
+      BinaryDecoder binaryDecoder) {
+    for (byte[] keyBytes: keyBytesList) {
+      recordKeyAccess(keyBytes);
+    }
+    return chunkingAdaptor.multiGet(
+        getStorageEngineOrThrow(),
+        userPartition,
+        keyBytesList,
+        version.isChunkingEnabled(),
+        binaryDecoder,
+        readerSchemaId,
+        storeDeserializerCache,
+        compressor.get());
+  }
+
   public GenericRecord compute(
       int userPartition,
       byte[] keyBytes,
@@ -260,6 +324,7 @@ public class VersionBackend {
       ComputeRequestWrapper computeRequestWrapper,
       Schema computeResultSchema) {
 
+    recordKeyAccess(keyBytes);
     reusableValueRecord = chunkingAdaptor.get(
         getStorageEngineOrThrow(),
         userPartition,
@@ -281,6 +346,108 @@ public class VersionBackend {
         computeResultSchema);
   }
 
+  /**
+   * Acquires a snapshot of the partition for the reads which need a consistent view of multiple keys. The snapshot is
+   * shared by the concurrent readers of the partition within {@link #snapshotReadReuseWindowInMs}, and the caller
+   * must release it once done.
+   */
+  public ReferenceCounted<StoragePartitionSnapshot> acquireReadSnapshot(int userPartition) {
+    if (snapshotReadReuseWindowInMs <= 0) {
+      StoragePartitionSnapshot snapshot = getStorageEngineOrThrow().openReadSnapshot(userPartition);
+      return new ReferenceCounted<>(snapshot, StoragePartitionSnapshot::close);
+    }
+    ReferenceCounted<StoragePartitionSnapshot>[] acquiredSnapshotRef = new ReferenceCounted[1];
+    partitionToSharedReadSnapshot.compute(userPartition, (partition, sharedSnapshot) -> {
+      long currentTimeInMs = System.currentTimeMillis();
+      if (sharedSnapshot == null || currentTimeInMs >= sharedSnapshot.expirationTimeInMs) {
+        if (sharedSnapshot != null) {
+          sharedSnapshot.snapshotRef.release();
+        }
+        sharedSnapshot = new SharedReadSnapshot(
+            getStorageEngineOrThrow().openReadSnapshot(partition),
+            currentTimeInMs + snapshotReadReuseWindowInMs);
+        scheduleSharedReadSnapshotExpiration(partition, sharedSnapshot);
+      }
+      // Retained before it is visible to other readers, so it cannot be closed by a concurrent replacement.
+      sharedSnapshot.snapshotRef.retain();
+      acquiredSnapshotRef[0] = sharedSnapshot.snapshotRef;
+      return sharedSnapshot;
+    });
+    return acquiredSnapshotRef[0];
+  }
+
+  /**
+   * Releases the expired snapshot even if the partition is not read anymore, since an open snapshot keeps RocksDB from
+   * reclaiming the overwritten data.
+   */
+  private void scheduleSharedReadSnapshotExpiration(int partition, SharedReadSnapshot sharedSnapshot) {
+    backend.getExecutor().schedule(() -> {
+      if (partitionToSharedReadSnapshot.remove(partition, sharedSnapshot)) {
+        sharedSnapshot.snapshotRef.release();
+      }
+    }, snapshotReadReuseWindowInMs, TimeUnit.MILLISECONDS);
+  }
+
+  private void releaseSharedReadSnapshot(int partition) {
+    SharedReadSnapshot sharedSnapshot = partitionToSharedReadSnapshot.remove(partition);
+    if (sharedSnapshot != null) {
+      sharedSnapshot.snapshotRef.release();
+    }
+  }
+
+  public <V> V readFromSnapshot(
+      StoragePartitionSnapshot snapshot,
+      int userPartition,
+      byte[] keyBytes,
+      AbstractAvroChunkingAdapter<V> chunkingAdaptor,
+      StoreDeserializerCache<V> storeDeserializerCache,
+      int readerSchemaId,
+      BinaryDecoder binaryDecoder,
+      V reusableValue) {
+    recordKeyAccess(keyBytes);
+    return chunkingAdaptor.getFromSnapshot(
+        snapshot,
+        version.kafkaTopicName(),
+        userPartition,
+        ByteBuffer.wrap(keyBytes),
+        version.isChunkingEnabled(),
+        reusableValue,
+        binaryDecoder,
+        readerSchemaId,
+        storeDeserializerCache,
+        compressor.get());
+  }
+
+  public GenericRecord computeFromSnapshot(
+      StoragePartitionSnapshot snapshot,
+      int userPartition,
+      byte[] keyBytes,
+      AbstractAvroChunkingAdapter<GenericRecord> chunkingAdaptor,
+      AvroStoreDeserializerCache<GenericRecord> storeDeserializerCache,
+      int readerSchemaId,
+      BinaryDecoder binaryDecoder,
+      GenericRecord reusableValueRecord,
+      Map<String, Object> sharedContext,
+      ComputeRequestWrapper computeRequestWrapper,
+      Schema computeResultSchema) {
+    reusableValueRecord = readFromSnapshot(
+        snapshot,
+        userPartition,
+        keyBytes,
+        chunkingAdaptor,
+        storeDeserializerCache,
+        readerSchemaId,
+        binaryDecoder,
+        reusableValueRecord);
+
+    return ComputeUtils.computeResult(
+        computeRequestWrapper.getOperations(),
+        computeRequestWrapper.getOperationResultFields(),
+        sharedContext,
+        reusableValueRecord,
+        computeResultSchema);
+  }
+
   public void computeWithKeyPrefixFilter(
       byte[] keyPrefix,
       int partition,
@@ -328,6 +495,57 @@ public class VersionBackend {
         computingCallback);
   }
 
+  /**
+   * Iterates over the keys of the partition in the range of [startKeyBytes, endKeyBytes), in the order of the
+   * serialized keys, and passes the deserialized values to the consumer in the calling thread.
+   */
+  public <V> void scan(
+      int userPartition,
+      byte[] startKeyBytes,
+      byte[] endKeyBytes,
+      AbstractAvroChunkingAdapter<V> chunkingAdaptor,
+      StoreDeserializerCache<V> storeDeserializerCache,
+      int readerSchemaId,
+      BinaryDecoder binaryDecoder,
+      BiConsumer<byte[], V> recordConsumer) {
+    chunkingAdaptor.getByKeyRange(
+        getStorageEngineOrThrow(),
+        userPartition,
+        startKeyBytes,
+        endKeyBytes,
+        binaryDecoder,
+        version.isChunkingEnabled(),
+        readerSchemaId,
+        storeDeserializerCache,
+        compressor.get(),
+        recordConsumer);
+  }
+
+  /**
+   * Looks up the records of the partition whose secondary index entries are in the range of
+   * [startEntryKey, endEntryKey), and passes the deserialized values to the consumer in the calling thread.
+   */
+  public <V> void scanBySecondaryIndex(
+      int userPartition,
+      byte[] startEntryKey,
+      byte[] endEntryKey,
+      AbstractAvroChunkingAdapter<V> chunkingAdaptor,
+      StoreDeserializerCache<V> storeDeserializerCache,
+      int readerSchemaId,
+      BinaryDecoder binaryDecoder,
+      BiConsumer<byte[], V> recordConsumer) {
+    chunkingAdaptor.getBySecondaryIndexRange(
+        getStorageEngineOrThrow(),
+        userPartition,
+        startEntryKey,
+        endEntryKey,
+        binaryDecoder,
+        readerSchemaId,
+        storeDeserializerCache,
+        compressor.get(),
+        recordConsumer);
+  }
+
   public int getPartitionCount() {
     return version.getPartitionCount();
   }
@@ -421,6 +639,7 @@ public class VersionBackend {
         return;
       }
       completePartition(partition);
+      releaseSharedReadSnapshot(partition);
       backend.getIngestionBackend().dropStoragePartitionGracefully(config, partition, stopConsumptionTimeoutInSeconds);
       partitionFutures.remove(partition);
       partitionToPendingReportIncrementalPushList.remove(partition);
@@ -0,0 +1,72 @@
+package com.linkedin.davinci.blobtransfer;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Objects;
+
+
+/**
+ * This class describes one file of a partition snapshot in a {@link BlobTransferManifest}.
+ */
+public class BlobTransferFileInfo {
+  public String fileName;
+  public long size;
+  public long checksum;
+
+  public BlobTransferFileInfo() {
+  }
+
+  public BlobTransferFileInfo(
+      @JsonProperty("fileName") String fileName,
+      @JsonProperty("size") long size,
+      @JsonProperty("checksum") long checksum) {
+    this.fileName = fileName;
+    this.size = size;
+    this.checksum = checksum;
+  }
+
+  public String getFileName() {
+    return fileName;
+  }
+
+  public void setFileName(String fileName) {
+    this.fileName = fileName;
+  }
+
+  public long getSize() {
+    return size;
+  }
+
+  public void setSize(long size) {
+    this.size = size;
+  }
+
+  public long getChecksum() {
+    return checksum;
+  }
+
+  public void setChecksum(long checksum) {
+    this.checksum = checksum;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    BlobTransferFileInfo that = (BlobTransferFileInfo) o;
+    return size == that.size && checksum == that.checksum && Objects.equals(fileName, that.fileName);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(fileName, size, checksum);
+  }
+
+  @Override
+  public String toString() {
+    return "BlobTransferFileInfo {" + " fileName='" + fileName + ", size=" + size + ", checksum=" + checksum + " }";
+  }
+}
@@ -0,0 +1,57 @@
+package com.linkedin.davinci.blobtransfer;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+
+/**
+ * This class lists the files of a partition snapshot held by a peer, so that the files, or the byte ranges of the
+ * large files, could be fetched from multiple peers in parallel, and be verified once they are received.
+ */
+public class BlobTransferManifest {
+  public String topicName;
+  public int partitionId;
+  public List<BlobTransferFileInfo> files;
+
+  public BlobTransferManifest() {
+  }
+
+  public BlobTransferManifest(
+      @JsonProperty("topicName") String topicName,
+      @JsonProperty("partitionId") int partitionId,
+      @JsonProperty("files") List<BlobTransferFileInfo> files) {
+    this.topicName = topicName;
+    this.partitionId = partitionId;
+    this.files = files;
+  }
+
+  public String getTopicName() {
+    return topicName;
+  }
+
+  public void setTopicName(String topicName) {
+    this.topicName = topicName;
+  }
+
+  public int getPartitionId() {
+    return partitionId;
+  }
+
+  public void setPartitionId(int partitionId) {
+    this.partitionId = partitionId;
+  }
+
+  public List<BlobTransferFileInfo> getFiles() {
+    return files;
+  }
+
+  public void setFiles(List<BlobTransferFileInfo> files) {
+    this.files = files;
+  }
+
+  @Override
+  public String toString() {
+    return "BlobTransferManifest {" + " topicName='" + topicName + ", partitionId=" + partitionId + ", files=" + files
+        + " }";
+  }
+}
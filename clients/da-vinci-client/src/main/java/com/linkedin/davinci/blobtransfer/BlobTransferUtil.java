@@ -5,12 +5,14 @@ import static com.linkedin.venice.client.store.ClientFactory.getTransportClient;
 import com.linkedin.davinci.blobtransfer.client.NettyFileTransferClient;
 import com.linkedin.davinci.blobtransfer.server.P2PBlobTransferService;
 import com.linkedin.davinci.storage.StorageMetadataService;
+import com.linkedin.venice.blobtransfer.BlobFinder;
 import com.linkedin.venice.blobtransfer.DaVinciBlobFinder;
 import com.linkedin.venice.blobtransfer.ServerBlobFinder;
 import com.linkedin.venice.client.store.AbstractAvroStoreClient;
 import com.linkedin.venice.client.store.AvroGenericStoreClientImpl;
 import com.linkedin.venice.client.store.ClientConfig;
 import com.linkedin.venice.helix.HelixCustomizedViewOfflinePushRepository;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -47,13 +49,42 @@ public class BlobTransferUtil {
       String baseDir,
       ClientConfig clientConfig,
       StorageMetadataService storageMetadataService) {
+    return getP2PBlobTransferManagerForDVCAndStart(
+        p2pTransferServerPort,
+        p2pTransferClientPort,
+        baseDir,
+        clientConfig,
+        storageMetadataService,
+        Optional.empty(),
+        0);
+  }
+
+  /**
+   * Get a P2P blob transfer manager for DaVinci Client and start it.
+   * @param parallelBlobTransferConfig the config of the parallel mode, or empty to fetch each partition from one peer
+   * @param maxBandwidthInBytesPerSecond the max bandwidth used by the transfers to this host, non-positive for no limit
+   */
+  public static BlobTransferManager<Void> getP2PBlobTransferManagerForDVCAndStart(
+      int p2pTransferServerPort,
+      int p2pTransferClientPort,
+      String baseDir,
+      ClientConfig clientConfig,
+      StorageMetadataService storageMetadataService,
+      Optional<ParallelBlobTransferConfig> parallelBlobTransferConfig,
+      long maxBandwidthInBytesPerSecond) {
     try {
       AbstractAvroStoreClient storeClient =
           new AvroGenericStoreClientImpl<>(getTransportClient(clientConfig), false, clientConfig);
-      BlobTransferManager<Void> manager = new NettyP2PBlobTransferManager(
+      BlobTransferManager<Void> manager = createManager(
           new P2PBlobTransferService(p2pTransferServerPort, baseDir, storageMetadataService),
-          new NettyFileTransferClient(p2pTransferClientPort, baseDir, storageMetadataService),
-          new DaVinciBlobFinder(storeClient));
+          new NettyFileTransferClient(
+              p2pTransferClientPort,
+              baseDir,
+              storageMetadataService,
+              maxBandwidthInBytesPerSecond),
+          new DaVinciBlobFinder(storeClient),
+          baseDir,
+          parallelBlobTransferConfig);
       manager.start();
       return manager;
     } catch (Exception e) {
@@ -77,11 +108,40 @@ public class BlobTransferUtil {
       String baseDir,
       CompletableFuture<HelixCustomizedViewOfflinePushRepository> customizedViewFuture,
       StorageMetadataService storageMetadataService) {
+    return getP2PBlobTransferManagerForServerAndStart(
+        p2pTransferServerPort,
+        p2pTransferClientPort,
+        baseDir,
+        customizedViewFuture,
+        storageMetadataService,
+        Optional.empty(),
+        0);
+  }
+
+  /**
+   * Get a P2P blob transfer manager for Server and start it.
+   * @param parallelBlobTransferConfig the config of the parallel mode, or empty to fetch each partition from one peer
+   * @param maxBandwidthInBytesPerSecond the max bandwidth used by the transfers to this host, non-positive for no limit
+   */
+  public static BlobTransferManager<Void> getP2PBlobTransferManagerForServerAndStart(
+      int p2pTransferServerPort,
+      int p2pTransferClientPort,
+      String baseDir,
+      CompletableFuture<HelixCustomizedViewOfflinePushRepository> customizedViewFuture,
+      StorageMetadataService storageMetadataService,
+      Optional<ParallelBlobTransferConfig> parallelBlobTransferConfig,
+      long maxBandwidthInBytesPerSecond) {
     try {
-      BlobTransferManager<Void> manager = new NettyP2PBlobTransferManager(
+      BlobTransferManager<Void> manager = createManager(
           new P2PBlobTransferService(p2pTransferServerPort, baseDir, storageMetadataService),
-          new NettyFileTransferClient(p2pTransferClientPort, baseDir, storageMetadataService),
-          new ServerBlobFinder(customizedViewFuture));
+          new NettyFileTransferClient(
+              p2pTransferClientPort,
+              baseDir,
+              storageMetadataService,
+              maxBandwidthInBytesPerSecond),
+          new ServerBlobFinder(customizedViewFuture),
+          baseDir,
+          parallelBlobTransferConfig);
       manager.start();
       return manager;
     } catch (Exception e) {
@@ -90,4 +150,21 @@ public class BlobTransferUtil {
       return null;
     }
   }
+
+  private static BlobTransferManager<Void> createManager(
+      P2PBlobTransferService blobTransferService,
+      NettyFileTransferClient nettyClient,
+      BlobFinder peerFinder,
+      String baseDir,
+      Optional<ParallelBlobTransferConfig> parallelBlobTransferConfig) {
+    if (parallelBlobTransferConfig.isPresent()) {
+      return new ParallelP2PBlobTransferManager(
+          blobTransferService,
+          nettyClient,
+          peerFinder,
+          baseDir,
+          parallelBlobTransferConfig.get());
+    }
+    return new NettyP2PBlobTransferManager(blobTransferService, nettyClient, peerFinder);
+  }
 }
@@ -1,15 +1,28 @@
 package com.linkedin.davinci.blobtransfer;
 
 import io.netty.handler.codec.http.HttpResponse;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.zip.CRC32;
 
 
 public class BlobTransferUtils {
   public static final String BLOB_TRANSFER_STATUS = "X-Blob-Transfer-Status";
   public static final String BLOB_TRANSFER_COMPLETED = "Completed";
   public static final String BLOB_TRANSFER_TYPE = "X-Blob-Transfer-Type";
+  /**
+   * The path segments, following /store/version/partition, of the requests used by the parallel blob transfer.
+   */
+  public static final String BLOB_TRANSFER_MANIFEST_PATH = "manifest";
+  public static final String BLOB_TRANSFER_METADATA_PATH = "metadata";
+  public static final String BLOB_TRANSFER_FILES_PATH = "files";
+
+  private static final int CHECKSUM_BUFFER_SIZE = 1024 * 1024;
 
   public enum BlobTransferType {
-    FILE, METADATA
+    FILE, METADATA, MANIFEST
   }
 
   /**
@@ -24,4 +37,21 @@ public class BlobTransferUtils {
     }
     return metadataHeader.equals(BlobTransferUtils.BlobTransferType.METADATA.name());
   }
+
+  /**
+   * Computes the CRC32 checksum of the whole file, which is used to verify the files transferred between peers.
+   * @param file the file to compute the checksum for
+   * @return the checksum of the file
+   */
+  public static long computeFileChecksum(File file) throws IOException {
+    CRC32 crc32 = new CRC32();
+    byte[] buffer = new byte[CHECKSUM_BUFFER_SIZE];
+    try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+      int bytesRead;
+      while ((bytesRead = inputStream.read(buffer)) != -1) {
+        crc32.update(buffer, 0, bytesRead);
+      }
+    }
+    return crc32.getValue();
+  }
 }
@@ -75,21 +75,11 @@ public class NettyP2PBlobTransferManager implements P2PBlobTransferManager<Void>
   public CompletionStage<InputStream> get(String storeName, int version, int partition)
       throws VenicePeersNotFoundException {
     // error case 1: no peers are found for the requested blob
-    BlobPeersDiscoveryResponse response = peerFinder.discoverBlobPeers(storeName, version, partition);
-    if (response == null || response.isError()) {
-      throw new VenicePeersNotFoundException("Failed to obtain the peers for the requested blob");
-    }
-
-    List<String> discoverPeers = response.getDiscoveryResult();
-    if (discoverPeers == null || discoverPeers.isEmpty()) {
-      throw new VenicePeersNotFoundException("No peers found for the requested blob");
-    }
-    LOGGER
-        .info("Discovered peers {} for store {} version {} partition {}", discoverPeers, storeName, version, partition);
+    List<String> discoverPeers = discoverPeers(storeName, version, partition);
 
     Instant startTime = Instant.now();
     for (String peer: discoverPeers) {
-      String chosenHost = peer.split("_")[0];
+      String chosenHost = getHostName(peer);
       int retryCount = 0;
       while (retryCount < MAX_RETRIES_FOR_BLOB_TRANSFER_PER_HOST) {
         try {
@@ -169,6 +159,33 @@ public class NettyP2PBlobTransferManager implements P2PBlobTransferManager<Void>
     throw new VenicePeersNotFoundException(errorMessage);
   }
 
+  /**
+   * @return the peers which hold the requested blob, in the format of <hostName>_<applicationPort>
+   * @throws VenicePeersNotFoundException if no peer is found
+   */
+  protected List<String> discoverPeers(String storeName, int version, int partition)
+      throws VenicePeersNotFoundException {
+    BlobPeersDiscoveryResponse response = peerFinder.discoverBlobPeers(storeName, version, partition);
+    if (response == null || response.isError()) {
+      throw new VenicePeersNotFoundException("Failed to obtain the peers for the requested blob");
+    }
+
+    List<String> discoverPeers = response.getDiscoveryResult();
+    if (discoverPeers == null || discoverPeers.isEmpty()) {
+      throw new VenicePeersNotFoundException("No peers found for the requested blob");
+    }
+    LOGGER
+        .info("Discovered peers {} for store {} version {} partition {}", discoverPeers, storeName, version, partition);
+    return discoverPeers;
+  }
+
+  /**
+   * The instance name of a peer comes as a format of <hostName>_<applicationPort>.
+   */
+  protected static String getHostName(String peer) {
+    return peer.split("_")[0];
+  }
+
   @Override
   public void close() throws Exception {
     blobTransferService.close();
@@ -0,0 +1,43 @@
+package com.linkedin.davinci.blobtransfer;
+
+/**
+ * The tunables of {@link ParallelP2PBlobTransferManager}.
+ */
+public class ParallelBlobTransferConfig {
+  private final int maxPeersPerPartition;
+  private final int maxConcurrentRangesPerPartition;
+  private final long rangeSizeInBytes;
+
+  /**
+   * @param maxPeersPerPartition the max number of peers to fetch the snapshot of a partition from
+   * @param maxConcurrentRangesPerPartition the max number of ranges of a partition snapshot in flight
+   * @param rangeSizeInBytes the size of the byte ranges the snapshot files are split into, which is also the amount of
+   *                         data fetched again when the transfer of a range fails
+   */
+  public ParallelBlobTransferConfig(
+      int maxPeersPerPartition,
+      int maxConcurrentRangesPerPartition,
+      long rangeSizeInBytes) {
+    if (maxPeersPerPartition <= 0 || maxConcurrentRangesPerPartition <= 0 || rangeSizeInBytes <= 0) {
+      throw new IllegalArgumentException(
+          "Invalid parallel blob transfer config, maxPeersPerPartition: " + maxPeersPerPartition
+              + ", maxConcurrentRangesPerPartition: " + maxConcurrentRangesPerPartition + ", rangeSizeInBytes: "
+              + rangeSizeInBytes);
+    }
+    this.maxPeersPerPartition = maxPeersPerPartition;
+    this.maxConcurrentRangesPerPartition = maxConcurrentRangesPerPartition;
+    this.rangeSizeInBytes = rangeSizeInBytes;
+  }
+
+  public int getMaxPeersPerPartition() {
+    return maxPeersPerPartition;
+  }
+
+  public int getMaxConcurrentRangesPerPartition() {
+    return maxConcurrentRangesPerPartition;
+  }
+
+  public long getRangeSizeInBytes() {
+    return rangeSizeInBytes;
+  }
+}
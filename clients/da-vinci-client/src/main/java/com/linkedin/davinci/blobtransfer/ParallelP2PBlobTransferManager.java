@@ -0,0 +1,550 @@
+package com.linkedin.davinci.blobtransfer;
+
+import com.linkedin.davinci.blobtransfer.client.NettyFileTransferClient;
+import com.linkedin.davinci.blobtransfer.server.P2PBlobTransferService;
+import com.linkedin.venice.blobtransfer.BlobFinder;
+import com.linkedin.venice.exceptions.VeniceBlobTransferFileNotFoundException;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.exceptions.VenicePeersNotFoundException;
+import io.netty.channel.Channel;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * This class fetches the snapshot of a partition from multiple peers in parallel, while
+ * {@link NettyP2PBlobTransferManager} streams all the files from a single peer over a single connection.
+ *
+ * The transfer works as follows:
+ * 1. The {@link BlobTransferManifest} of the snapshot is requested from up to
+ *    {@link ParallelBlobTransferConfig#getMaxPeersPerPartition()} peers at once. The first peer which returns its
+ *    manifest is the reference peer, whose snapshot is rebuilt locally, and the manifests of the other peers are only
+ *    waited for {@link #MANIFEST_GRACE_PERIOD_IN_SEC} more seconds.
+ * 2. The files of the reference snapshot are split into byte ranges, and each range is fetched from any peer holding
+ *    the identical file, i.e. the same name, size and checksum, with the least ranges in flight. Since the SST files
+ *    are immutable, the peers usually share most of the SST files, while the other files, such as the MANIFEST, are
+ *    only fetched from the reference peer. The ranges fetched from a peer are all requested over a single connection
+ *    to the peer, without waiting for the previous ranges to be received.
+ * 3. A range which fails is fetched again, from another peer if possible, rather than restarting the transfer from
+ *    scratch. A peer is no longer used once it fails {@link #MAX_RETRIES_FOR_BLOB_TRANSFER_PER_HOST} times.
+ * 4. Each file is received into a temporary file, which is renamed once its size and checksum match the manifest, or
+ *    fetched again otherwise.
+ * 5. The metadata of the partition is fetched from the reference peer once all the files are received, so that the
+ *    ingestion resumes from the offset matching the snapshot.
+ * 6. The connections to the peers are closed once the files are received. If the transfer fails or times out, the
+ *    ranges still in flight are abandoned along with the connections, and the temporary files are deleted.
+ *
+ * The transfer is incremental: the files of the reference snapshot which this host already holds in the partition
+ * directory, with the same name, size and checksum, e.g. the SST files of an older snapshot kept by a host rejoining
+ * after a short outage, are not fetched again, and the local files which are not part of the reference snapshot are
+ * deleted once all the files are received, so that the partition directory ends up holding exactly the snapshot.
+ *
+ * The bandwidth used by the transfers of the host is bounded by {@link NettyFileTransferClient}.
+ */
+public class ParallelP2PBlobTransferManager extends NettyP2PBlobTransferManager {
+  private static final Logger LOGGER = LogManager.getLogger(ParallelP2PBlobTransferManager.class);
+  static final String TEMP_FILE_SUFFIX = ".part";
+  private static final int MAX_VERIFICATION_ATTEMPTS_PER_FILE = 3;
+  private static final int MAX_TIMEOUT_FOR_MANIFEST_IN_MIN = 10;
+  private static final int MANIFEST_GRACE_PERIOD_IN_SEC = 10;
+  private static final int MAX_TIMEOUT_FOR_CLOSING_CONNECTION_IN_SEC = 10;
+
+  private final String baseDir;
+  private final ParallelBlobTransferConfig config;
+
+  public ParallelP2PBlobTransferManager(
+      P2PBlobTransferService blobTransferService,
+      NettyFileTransferClient nettyClient,
+      BlobFinder peerFinder,
+      String baseDir,
+      ParallelBlobTransferConfig config) {
+    super(blobTransferService, nettyClient, peerFinder);
+    this.baseDir = baseDir;
+    this.config = config;
+  }
+
+  /**
+   * Get the blobs for the given storeName and partition from multiple peers in parallel.
+   * error cases:
+   * 1. [Fatal Case] If no peers info are found for the requested blob, or none of the peers returns the manifest of
+   *    its snapshot, a VenicePeersNotFoundException is thrown, and Kafka is used for bootstrapping instead.
+   * 2. [Fatal Case] If a file cannot be fetched from any of the peers holding it, or the transfer doesn't complete in
+   *    time, a VeniceException is thrown, and blob transfer is skipped for bootstrapping.
+   */
+  @Override
+  public CompletionStage<InputStream> get(String storeName, int version, int partition)
+      throws VenicePeersNotFoundException {
+    List<String> discoverPeers = discoverPeers(storeName, version, partition);
+    Map<String, BlobTransferManifest> manifests = fetchManifests(discoverPeers, storeName, version, partition);
+    if (manifests.isEmpty()) {
+      String errorMessage = String.format(
+          "Failed to fetch the manifest from any peer for partition %d store %s version %d",
+          partition,
+          storeName,
+          version);
+      LOGGER.warn(errorMessage);
+      throw new VenicePeersNotFoundException(errorMessage);
+    }
+
+    Instant startTime = Instant.now();
+    String referenceHost = manifests.keySet().iterator().next();
+    BlobTransferPayload payload = new BlobTransferPayload(baseDir, storeName, version, partition);
+    long deadlineInNs = System.nanoTime() + TimeUnit.MINUTES.toNanos(MAX_TIMEOUT_FOR_BLOB_TRANSFER_IN_MIN);
+    try {
+      PartitionTransfer partitionTransfer =
+          new PartitionTransfer(storeName, version, payload, manifests, referenceHost, deadlineInNs);
+      partitionTransfer.run();
+      nettyClient.getMetadata(referenceHost, storeName, version, partition)
+          .toCompletableFuture()
+          .get(Math.max(deadlineInNs - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+      LOGGER.info(
+          "Successfully fetched {} bytes of blobs, and reused {} bytes of local files, from peers {} "
+              + "for store {} partition {} version {} in {} seconds",
+          partitionTransfer.totalBytes - partitionTransfer.reusedBytes,
+          partitionTransfer.reusedBytes,
+          manifests.keySet(),
+          storeName,
+          partition,
+          version,
+          Duration.between(startTime, Instant.now()).getSeconds());
+      return CompletableFuture.completedFuture(null);
+    } catch (Exception e) {
+      if (e instanceof InterruptedException) {
+        Thread.currentThread().interrupt();
+      }
+      String errorMessage = String.format(
+          "Failed to fetch blobs from peers %s for partition %d store %s version %d. "
+              + "Skip bootstrap the partition from blob transfer.",
+          manifests.keySet(),
+          partition,
+          storeName,
+          version);
+      LOGGER.error(errorMessage, e);
+      throw new VeniceException(errorMessage, e);
+    }
+  }
+
+  /**
+   * Fetches the manifests from the given peers, requesting them from up to
+   * {@link ParallelBlobTransferConfig#getMaxPeersPerPartition()} peers at a time, and from the next peers as the
+   * requests fail, until enough peers return their manifest. Once the first manifest is received, the other peers are
+   * only waited for {@link #MANIFEST_GRACE_PERIOD_IN_SEC} seconds, and their manifests received later are ignored.
+   * @return the manifests by the host of the peers, in the order they are received
+   */
+  private Map<String, BlobTransferManifest> fetchManifests(
+      List<String> discoverPeers,
+      String storeName,
+      int version,
+      int partition) {
+    Map<String, BlobTransferManifest> manifests = new LinkedHashMap<>();
+    BlockingQueue<ManifestResult> completedManifests = new LinkedBlockingQueue<>();
+    Set<String> requestedHosts = new HashSet<>();
+    int maxPeers = config.getMaxPeersPerPartition();
+    int nextPeerIndex = 0;
+    int inFlightRequests = 0;
+    long deadlineInNs = System.nanoTime() + TimeUnit.MINUTES.toNanos(MAX_TIMEOUT_FOR_MANIFEST_IN_MIN);
+    while (manifests.size() < maxPeers) {
+      while (inFlightRequests < maxPeers - manifests.size() && nextPeerIndex < discoverPeers.size()) {
+        String host = getHostName(discoverPeers.get(nextPeerIndex++));
+        if (requestedHosts.add(host)) {
+          inFlightRequests++;
+          nettyClient.getManifest(host, storeName, version, partition)
+              .whenComplete(
+                  (manifest, throwable) -> completedManifests.add(new ManifestResult(host, manifest, throwable)));
+        }
+      }
+      if (inFlightRequests == 0) {
+        break;
+      }
+      ManifestResult result;
+      try {
+        long remainingTimeInNs = deadlineInNs - System.nanoTime();
+        result = remainingTimeInNs > 0 ? completedManifests.poll(remainingTimeInNs, TimeUnit.NANOSECONDS) : null;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new VeniceException("Interrupted while fetching the manifests", e);
+      }
+      if (result == null) {
+        LOGGER.warn(
+            "Stopped waiting for the manifests of {} peers for store {} version {} partition {}",
+            inFlightRequests,
+            storeName,
+            version,
+            partition);
+        break;
+      }
+      inFlightRequests--;
+      if (result.throwable != null) {
+        LOGGER.warn(
+            "Failed to fetch the manifest from peer {} for store {} version {} partition {}",
+            result.host,
+            storeName,
+            version,
+            partition,
+            result.throwable);
+      } else if (result.manifest == null || result.manifest.getFiles() == null
+          || result.manifest.getFiles().isEmpty()) {
+        LOGGER.warn(
+            "Peer {} returned an empty manifest for store {} version {} partition {}",
+            result.host,
+            storeName,
+            version,
+            partition);
+      } else {
+        manifests.put(result.host, result.manifest);
+        if (manifests.size() == 1) {
+          long gracePeriodInNs = TimeUnit.SECONDS.toNanos(MANIFEST_GRACE_PERIOD_IN_SEC);
+          deadlineInNs = Math.min(deadlineInNs, System.nanoTime() + gracePeriodInNs);
+        }
+      }
+    }
+    return manifests;
+  }
+
+  /**
+   * The state of the transfer of one partition, which is only accessed by the thread calling {@link #get}: the
+   * completions of the ranges are handed over through {@link #completedRanges}. The ranges fetched from a peer share
+   * one connection, opened when the first range is fetched from the peer and reopened if it breaks.
+   */
+  private class PartitionTransfer {
+    private final String storeName;
+    private final int version;
+    private final BlobTransferPayload payload;
+    private final Map<String, BlobTransferManifest> manifests;
+    private final String referenceHost;
+    private final long deadlineInNs;
+    private final Deque<RangeTransfer> pendingRanges = new ArrayDeque<>();
+    private final BlockingQueue<RangeResult> completedRanges = new LinkedBlockingQueue<>();
+    private final Map<String, Integer> inFlightRangesPerPeer = new HashMap<>();
+    private final Map<String, Integer> failuresPerPeer = new HashMap<>();
+    private final Map<String, Channel> connectionsPerPeer = new HashMap<>();
+    private final List<FileTransfer> files = new ArrayList<>();
+    private int inFlightRanges = 0;
+    private int remainingFiles = 0;
+    private long totalBytes = 0;
+    private long reusedBytes = 0;
+
+    private PartitionTransfer(
+        String storeName,
+        int version,
+        BlobTransferPayload payload,
+        Map<String, BlobTransferManifest> manifests,
+        String referenceHost,
+        long deadlineInNs) {
+      this.storeName = storeName;
+      this.version = version;
+      this.payload = payload;
+      this.manifests = manifests;
+      this.referenceHost = referenceHost;
+      this.deadlineInNs = deadlineInNs;
+    }
+
+    private void run() throws IOException, InterruptedException {
+      boolean succeeded = false;
+      try {
+        fetchFiles();
+        succeeded = true;
+      } finally {
+        closeConnections();
+        if (!succeeded) {
+          deleteTempFiles();
+        }
+      }
+    }
+
+    private void fetchFiles() throws IOException, InterruptedException {
+      Path partitionDir = Paths.get(payload.getPartitionDir());
+      Files.createDirectories(partitionDir);
+      Set<String> snapshotFileNames = new HashSet<>();
+      for (BlobTransferFileInfo fileInfo: manifests.get(referenceHost).getFiles()) {
+        snapshotFileNames.add(fileInfo.getFileName());
+        totalBytes += fileInfo.getSize();
+        if (isIdenticalLocalFile(partitionDir.resolve(fileInfo.getFileName()), fileInfo)) {
+          reusedBytes += fileInfo.getSize();
+          continue;
+        }
+        List<String> peers = new ArrayList<>();
+        for (Map.Entry<String, BlobTransferManifest> entry: manifests.entrySet()) {
+          if (entry.getValue().getFiles().contains(fileInfo)) {
+            peers.add(entry.getKey());
+          }
+        }
+        FileTransfer file = new FileTransfer(fileInfo, peers, partitionDir);
+        files.add(file);
+        Files.deleteIfExists(file.tempFile);
+        remainingFiles++;
+        if (fileInfo.getSize() == 0) {
+          Files.createFile(file.tempFile);
+          verifyAndCommit(file);
+        } else {
+          addRanges(file);
+        }
+      }
+
+      while (remainingFiles > 0) {
+        while (inFlightRanges < config.getMaxConcurrentRangesPerPartition() && !pendingRanges.isEmpty()) {
+          startRange(pendingRanges.poll());
+        }
+        long remainingTimeInNs = deadlineInNs - System.nanoTime();
+        RangeResult result =
+            remainingTimeInNs > 0 ? completedRanges.poll(remainingTimeInNs, TimeUnit.NANOSECONDS) : null;
+        if (result == null) {
+          throw new VeniceException("Timed out fetching blobs for " + payload.getFullResourceName());
+        }
+        inFlightRanges--;
+        inFlightRangesPerPeer.merge(result.host, -1, Integer::sum);
+        if (result.throwable == null) {
+          FileTransfer file = result.range.file;
+          if (--file.remainingRanges == 0) {
+            verifyAndCommit(file);
+          }
+        } else {
+          onRangeFailure(result);
+        }
+      }
+      deleteStaleFiles(partitionDir, snapshotFileNames);
+    }
+
+    private boolean isIdenticalLocalFile(Path localFile, BlobTransferFileInfo fileInfo) throws IOException {
+      return Files.isRegularFile(localFile) && Files.size(localFile) == fileInfo.getSize()
+          && BlobTransferUtils.computeFileChecksum(localFile.toFile()) == fileInfo.getChecksum();
+    }
+
+    /**
+     * Deletes the local files which are not part of the snapshot, e.g. the obsolete SST files or the WAL of an older
+     * snapshot, which RocksDB would otherwise pick up. The sub-directories, such as the local snapshot, are kept.
+     */
+    private void deleteStaleFiles(Path partitionDir, Set<String> snapshotFileNames) throws IOException {
+      try (DirectoryStream<Path> localFiles = Files.newDirectoryStream(partitionDir, Files::isRegularFile)) {
+        for (Path localFile: localFiles) {
+          if (!snapshotFileNames.contains(localFile.getFileName().toString())) {
+            LOGGER.debug("Deleting stale file {} for {}", localFile, payload.getFullResourceName());
+            Files.delete(localFile);
+          }
+        }
+      }
+    }
+
+    private void addRanges(FileTransfer file) {
+      long size = file.fileInfo.getSize();
+      long rangeSize = config.getRangeSizeInBytes();
+      for (long offset = 0; offset < size; offset += rangeSize) {
+        pendingRanges.add(new RangeTransfer(file, offset, Math.min(rangeSize, size - offset)));
+        file.remainingRanges++;
+      }
+    }
+
+    private void startRange(RangeTransfer range) {
+      String host = choosePeer(range);
+      if (host == null) {
+        throw new VeniceException(
+            "No peer left to fetch file " + range.file.fileInfo.getFileName() + " for "
+                + payload.getFullResourceName());
+      }
+      inFlightRanges++;
+      inFlightRangesPerPeer.merge(host, 1, Integer::sum);
+      Channel connection;
+      try {
+        connection = getConnection(host);
+      } catch (Exception e) {
+        completedRanges.add(new RangeResult(range, host, e));
+        return;
+      }
+      nettyClient
+          .getFileRange(
+              connection,
+              storeName,
+              version,
+              payload.getPartition(),
+              range.file.fileInfo.getFileName(),
+              range.offset,
+              range.length,
+              range.file.tempFile)
+          .whenComplete((ignored, throwable) -> completedRanges.add(new RangeResult(range, host, throwable)));
+    }
+
+    private Channel getConnection(String host) {
+      Channel connection = connectionsPerPeer.get(host);
+      if (connection == null || !connection.isActive()) {
+        connection = nettyClient.openFileRangeConnection(host, storeName, version, payload.getPartition());
+        connectionsPerPeer.put(host, connection);
+      }
+      return connection;
+    }
+
+    /**
+     * Closes the connections to the peers, which fails the ranges still in flight. Once a connection is closed, nothing
+     * is written into the temporary files through it anymore.
+     */
+    private void closeConnections() {
+      for (Map.Entry<String, Channel> entry: connectionsPerPeer.entrySet()) {
+        if (!entry.getValue()
+            .close()
+            .awaitUninterruptibly(MAX_TIMEOUT_FOR_CLOSING_CONNECTION_IN_SEC, TimeUnit.SECONDS)) {
+          LOGGER.warn(
+              "Timed out closing the connection to peer {} for {}",
+              entry.getKey(),
+              payload.getFullResourceName());
+        }
+      }
+      connectionsPerPeer.clear();
+    }
+
+    private void deleteTempFiles() {
+      for (FileTransfer file: files) {
+        try {
+          Files.deleteIfExists(file.tempFile);
+        } catch (IOException e) {
+          LOGGER.warn("Failed to delete temporary file {} for {}", file.tempFile, payload.getFullResourceName(), e);
+        }
+      }
+    }
+
+    /**
+     * Picks the peer with the least ranges in flight among the peers holding the file, preferring the peers which
+     * haven't failed this range yet.
+     */
+    private String choosePeer(RangeTransfer range) {
+      String chosenPeer = null;
+      boolean chosenPeerFailedRange = true;
+      int chosenPeerInFlightRanges = Integer.MAX_VALUE;
+      for (String peer: range.file.peers) {
+        if (failuresPerPeer.getOrDefault(peer, 0) >= MAX_RETRIES_FOR_BLOB_TRANSFER_PER_HOST) {
+          continue;
+        }
+        boolean failedRange = range.failedPeers.contains(peer);
+        int peerInFlightRanges = inFlightRangesPerPeer.getOrDefault(peer, 0);
+        if (chosenPeer == null || (chosenPeerFailedRange && !failedRange)
+            || (chosenPeerFailedRange == failedRange && peerInFlightRanges < chosenPeerInFlightRanges)) {
+          chosenPeer = peer;
+          chosenPeerFailedRange = failedRange;
+          chosenPeerInFlightRanges = peerInFlightRanges;
+        }
+      }
+      return chosenPeer;
+    }
+
+    private void onRangeFailure(RangeResult result) {
+      RangeTransfer range = result.range;
+      LOGGER.warn(
+          "Failed to fetch range at {} of file {} for {} from peer {}, fetching it again",
+          range.offset,
+          range.file.fileInfo.getFileName(),
+          payload.getFullResourceName(),
+          result.host,
+          result.throwable);
+      range.failedPeers.add(result.host);
+      // The peer doesn't hold the snapshot anymore, e.g. the snapshot has been refreshed.
+      int failures = result.throwable instanceof VeniceBlobTransferFileNotFoundException
+          ? MAX_RETRIES_FOR_BLOB_TRANSFER_PER_HOST
+          : failuresPerPeer.getOrDefault(result.host, 0) + 1;
+      failuresPerPeer.put(result.host, failures);
+      pendingRanges.addFirst(range);
+    }
+
+    private void verifyAndCommit(FileTransfer file) throws IOException {
+      BlobTransferFileInfo fileInfo = file.fileInfo;
+      long size = Files.size(file.tempFile);
+      long checksum = BlobTransferUtils.computeFileChecksum(file.tempFile.toFile());
+      if (size == fileInfo.getSize() && checksum == fileInfo.getChecksum()) {
+        Files.move(file.tempFile, file.targetFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        remainingFiles--;
+        LOGGER.debug("A file {} received successfully for {}", fileInfo.getFileName(), payload.getFullResourceName());
+        return;
+      }
+      if (++file.verificationAttempts >= MAX_VERIFICATION_ATTEMPTS_PER_FILE) {
+        throw new VeniceException(
+            "Failed to verify file " + fileInfo.getFileName() + " for " + payload.getFullResourceName()
+                + " after " + file.verificationAttempts + " attempts");
+      }
+      LOGGER.warn(
+          "File {} for {} doesn't match the manifest, expected size: {}, checksum: {}, actual size: {}, checksum: {}. "
+              + "Fetching it again.",
+          fileInfo.getFileName(),
+          payload.getFullResourceName(),
+          fileInfo.getSize(),
+          fileInfo.getChecksum(),
+          size,
+          checksum);
+      Files.deleteIfExists(file.tempFile);
+      addRanges(file);
+    }
+  }
+
+  private static class FileTransfer {
+    private final BlobTransferFileInfo fileInfo;
+    // The peers holding the identical file
+    private final List<String> peers;
+    private final Path tempFile;
+    private final Path targetFile;
+    private int remainingRanges = 0;
+    private int verificationAttempts = 0;
+
+    private FileTransfer(BlobTransferFileInfo fileInfo, List<String> peers, Path partitionDir) {
+      this.fileInfo = fileInfo;
+      this.peers = peers;
+      this.tempFile = partitionDir.resolve(fileInfo.getFileName() + TEMP_FILE_SUFFIX);
+      this.targetFile = partitionDir.resolve(fileInfo.getFileName());
+    }
+  }
+
+  private static class RangeTransfer {
+    private final FileTransfer file;
+    private final long offset;
+    private final long length;
+    private final Set<String> failedPeers = new HashSet<>();
+
+    private RangeTransfer(FileTransfer file, long offset, long length) {
+      this.file = file;
+      this.offset = offset;
+      this.length = length;
+    }
+  }
+
+  private static class ManifestResult {
+    private final String host;
+    private final BlobTransferManifest manifest;
+    private final Throwable throwable;
+
+    private ManifestResult(String host, BlobTransferManifest manifest, Throwable throwable) {
+      this.host = host;
+      this.manifest = manifest;
+      this.throwable = throwable;
+    }
+  }
+
+  private static class RangeResult {
+    private final RangeTransfer range;
+    private final String host;
+    private final Throwable throwable;
+
+    private RangeResult(RangeTransfer range, String host, Throwable throwable) {
+      this.range = range;
+      this.host = host;
+      this.throwable = throwable;
+    }
+  }
+}
@@ -1,9 +1,18 @@
 package com.linkedin.davinci.blobtransfer.client;
 
+import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_FILES_PATH;
+import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_MANIFEST_PATH;
+import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_METADATA_PATH;
+
+import com.linkedin.davinci.blobtransfer.BlobTransferManifest;
+import com.linkedin.davinci.blobtransfer.BlobTransferPartitionMetadata;
 import com.linkedin.davinci.storage.StorageMetadataService;
+import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VenicePeersConnectionException;
+import com.linkedin.venice.utils.ObjectMapperFactory;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
@@ -13,9 +22,14 @@ import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
 import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.traffic.GlobalTrafficShapingHandler;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import org.apache.logging.log4j.LogManager;
@@ -30,22 +44,45 @@ public class NettyFileTransferClient {
   private final String baseDir;
   private final int serverPort;
   private StorageMetadataService storageMetadataService;
+  /**
+   * Shared by all the connections of this client, so that the blob transfers of this host, no matter how many peers
+   * and partitions they involve, are bounded by the same bandwidth limit. Null means unlimited.
+   */
+  private final GlobalTrafficShapingHandler trafficShapingHandler;
 
   // TODO 1: move tunable configs to a config class
   // TODO 2: consider either increasing worker threads or have a dedicated thread pool to handle requests.
   public NettyFileTransferClient(int serverPort, String baseDir, StorageMetadataService storageMetadataService) {
+    this(serverPort, baseDir, storageMetadataService, 0);
+  }
+
+  /**
+   * @param maxBandwidthInBytesPerSecond the max rate at which this host receives blobs from its peers, and 0 means
+   *                                     unlimited.
+   */
+  public NettyFileTransferClient(
+      int serverPort,
+      String baseDir,
+      StorageMetadataService storageMetadataService,
+      long maxBandwidthInBytesPerSecond) {
     this.baseDir = baseDir;
     this.serverPort = serverPort;
     this.storageMetadataService = storageMetadataService;
 
     clientBootstrap = new Bootstrap();
     workerGroup = new NioEventLoopGroup();
+    trafficShapingHandler = maxBandwidthInBytesPerSecond > 0
+        ? new GlobalTrafficShapingHandler(workerGroup, 0, maxBandwidthInBytesPerSecond)
+        : null;
     clientBootstrap.group(workerGroup);
     clientBootstrap.channel(NioSocketChannel.class);
     clientBootstrap.option(ChannelOption.SO_KEEPALIVE, true);
     clientBootstrap.handler(new ChannelInitializer<SocketChannel>() {
       @Override
       public void initChannel(SocketChannel ch) {
+        if (trafficShapingHandler != null) {
+          ch.pipeline().addLast(trafficShapingHandler);
+        }
         ch.pipeline().addLast(new HttpClientCodec());
       }
     });
@@ -74,7 +111,114 @@ public class NettyFileTransferClient {
     return inputStream;
   }
 
+  /**
+   * Fetches the manifest of the partition snapshot held by the given peer.
+   */
+  public CompletionStage<BlobTransferManifest> getManifest(String host, String storeName, int version, int partition) {
+    return getFullResponse(host, storeName, version, partition, BLOB_TRANSFER_MANIFEST_PATH, "manifest")
+        .thenApply(body -> {
+          try {
+            return ObjectMapperFactory.getInstance().readValue(body, BlobTransferManifest.class);
+          } catch (IOException e) {
+            throw new VeniceException("Failed to parse the manifest from host: " + host, e);
+          }
+        });
+  }
+
+  /**
+   * Fetches the metadata of the partition snapshot held by the given peer, and updates the local partition metadata
+   * with it.
+   */
+  public CompletionStage<Void> getMetadata(String host, String storeName, int version, int partition) {
+    return getFullResponse(host, storeName, version, partition, BLOB_TRANSFER_METADATA_PATH, "metadata")
+        .thenAccept(body -> {
+          BlobTransferPartitionMetadata metadata;
+          try {
+            metadata = ObjectMapperFactory.getInstance().readValue(body, BlobTransferPartitionMetadata.class);
+          } catch (IOException e) {
+            throw new VeniceException("Failed to parse the metadata from host: " + host, e);
+          }
+          if (metadata == null) {
+            throw new VeniceException("No metadata received from host: " + host);
+          }
+          new P2PMetadataTransferHandler(storageMetadataService, baseDir, storeName, version, partition)
+              .updateStorePartitionMetadata(storageMetadataService, metadata);
+        });
+  }
+
+  /**
+   * Opens a connection to the given peer, over which the byte ranges of the snapshot files are then fetched through
+   * {@link #getFileRange}. The caller is responsible for closing it.
+   */
+  public Channel openFileRangeConnection(String host, String storeName, int version, int partition) {
+    Channel ch = connectToHost(host, storeName, version, partition);
+    ch.pipeline().addLast(new P2PFileRangeTransferClientHandler());
+    return ch;
+  }
+
+  /**
+   * Fetches the given byte range of a snapshot file over a connection opened by {@link #openFileRangeConnection}, and
+   * writes it at the same position of the target file. The request is sent right away, even if the responses to the
+   * previous requests on the connection are still being received.
+   */
+  public CompletionStage<Void> getFileRange(
+      Channel ch,
+      String storeName,
+      int version,
+      int partition,
+      String fileName,
+      long offset,
+      long length,
+      Path targetFile) {
+    CompletableFuture<Void> rangeFuture = new CompletableFuture<>();
+    FullHttpRequest request =
+        prepareRequest(storeName, version, partition, BLOB_TRANSFER_FILES_PATH + "/" + fileName);
+    request.headers().set(HttpHeaderNames.RANGE, "bytes=" + offset + "-" + (offset + length - 1));
+    try {
+      // Registering the range and sending its request on the event loop keeps the ranges in the order of the requests.
+      ch.eventLoop().execute(() -> {
+        P2PFileRangeTransferClientHandler handler = ch.pipeline().get(P2PFileRangeTransferClientHandler.class);
+        if (!ch.isActive() || handler == null) {
+          request.release();
+          rangeFuture.completeExceptionally(
+              new VenicePeersConnectionException("Connection to " + ch.remoteAddress() + " is closed"));
+          return;
+        }
+        handler.addRange(new P2PFileRangeTransferClientHandler.FileRange(targetFile, offset, length, rangeFuture));
+        // A failed write closes the connection, which fails the pending ranges.
+        ch.writeAndFlush(request).addListener(ChannelFutureListener.CLOSE_ON_FAILURE);
+      });
+    } catch (Exception e) {
+      request.release();
+      rangeFuture.completeExceptionally(e);
+    }
+    return rangeFuture;
+  }
+
+  private CompletableFuture<byte[]> getFullResponse(
+      String host,
+      String storeName,
+      int version,
+      int partition,
+      String path,
+      String description) {
+    CompletableFuture<byte[]> responseFuture = new CompletableFuture<>();
+    try {
+      Channel ch = connectToHost(host, storeName, version, partition);
+      ch.pipeline()
+          .addLast(new HttpObjectAggregator(MAX_METADATA_CONTENT_LENGTH))
+          .addLast(new P2PFullResponseClientHandler(description, responseFuture));
+      ch.writeAndFlush(prepareRequest(storeName, version, partition, path));
+    } catch (Exception e) {
+      responseFuture.completeExceptionally(e);
+    }
+    return responseFuture;
+  }
+
   public void close() {
+    if (trafficShapingHandler != null) {
+      trafficShapingHandler.release();
+    }
     workerGroup.shutdownGracefully();
   }
 
@@ -85,6 +229,13 @@ public class NettyFileTransferClient {
         String.format("/%s/%d/%d", storeName, version, partition));
   }
 
+  private FullHttpRequest prepareRequest(String storeName, int version, int partition, String path) {
+    return new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.GET,
+        String.format("/%s/%d/%d/%s", storeName, version, partition, path));
+  }
+
   /**
    * Connects to the host
    */
@@ -0,0 +1,164 @@
+package com.linkedin.davinci.blobtransfer.client;
+
+import com.linkedin.venice.exceptions.VeniceBlobTransferFileNotFoundException;
+import com.linkedin.venice.exceptions.VeniceException;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.LastHttpContent;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * The client-side Netty handler to receive byte ranges of snapshot files from a peer over a single connection. The
+ * range requests are pipelined, i.e. sent without waiting for the previous responses, and the peer responds to them in
+ * order, so each response belongs to the oldest pending range. The bytes are written at their position in the target
+ * file, so that the ranges of the same file could be received from different peers in parallel.
+ *
+ * An error response only fails its own range, while a connection which breaks fails all the pending ranges. All the
+ * methods are called from the event loop of the connection, so the pending ranges need no synchronization.
+ */
+public class P2PFileRangeTransferClientHandler extends SimpleChannelInboundHandler<HttpObject> {
+  private static final Logger LOGGER = LogManager.getLogger(P2PFileRangeTransferClientHandler.class);
+  private final Deque<FileRange> pendingRanges = new ArrayDeque<>();
+
+  private FileChannel outputFileChannel;
+  private long receivedBytes = 0;
+  /**
+   * The failure of the range being received, whose response body is skipped until its end.
+   */
+  private Exception responseFailure;
+
+  /**
+   * Registers a range whose request is about to be sent on the connection.
+   */
+  void addRange(FileRange range) {
+    pendingRanges.add(range);
+  }
+
+  @Override
+  protected void channelRead0(ChannelHandlerContext ctx, HttpObject msg) throws Exception {
+    FileRange range = pendingRanges.peek();
+    if (range == null) {
+      throw new VeniceException("Received a response from remote peer without any pending range");
+    }
+    if (msg instanceof HttpResponse) {
+      HttpResponse response = (HttpResponse) msg;
+      receivedBytes = 0;
+      responseFailure = null;
+      if (response.status().equals(HttpResponseStatus.NOT_FOUND)) {
+        responseFailure = new VeniceBlobTransferFileNotFoundException(
+            "Requested file " + range.targetFile.getFileName() + " from remote peer is not found");
+      } else if (!response.status().equals(HttpResponseStatus.PARTIAL_CONTENT)
+          && !response.status().equals(HttpResponseStatus.OK)) {
+        responseFailure = new VeniceException(
+            "Failed to fetch file " + range.targetFile.getFileName() + " from remote peer. Response: "
+                + response.status());
+      } else {
+        outputFileChannel = FileChannel.open(range.targetFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+      }
+    }
+    if (msg instanceof HttpContent) {
+      if (responseFailure == null) {
+        writeContent(range, ((HttpContent) msg).content());
+      }
+      if (msg instanceof LastHttpContent) {
+        if (responseFailure != null) {
+          pendingRanges.poll();
+          range.future.completeExceptionally(responseFailure);
+          responseFailure = null;
+          return;
+        }
+        if (receivedBytes != range.length) {
+          throw new VeniceException(
+              "Range size mismatch for " + range.targetFile + ". Expected: " + range.length + ", Actual: "
+                  + receivedBytes);
+        }
+        outputFileChannel.force(true);
+        closeFileChannel();
+        pendingRanges.poll();
+        range.future.complete(null);
+      }
+    }
+  }
+
+  private void writeContent(FileRange range, ByteBuf content) throws IOException {
+    // defensive check
+    if (outputFileChannel == null) {
+      throw new VeniceException("No file opened to write for " + range.targetFile);
+    }
+    ByteBuffer byteBuffer = content.nioBuffer();
+    while (byteBuffer.hasRemaining()) {
+      receivedBytes += outputFileChannel.write(byteBuffer, range.offset + receivedBytes);
+    }
+    if (receivedBytes > range.length) {
+      throw new VeniceException(
+          "Received more bytes than requested for " + range.targetFile + ". Expected: " + range.length + ", Actual: "
+              + receivedBytes);
+    }
+  }
+
+  @Override
+  public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+    super.channelInactive(ctx);
+    closeFileChannel();
+    FileRange range;
+    while ((range = pendingRanges.poll()) != null) {
+      range.future.completeExceptionally(
+          new VeniceException(
+              "Connection closed before receiving the range of " + range.targetFile + " at " + range.offset));
+    }
+  }
+
+  /**
+   * The responses of the ranges which follow can no longer be told apart, so the connection is closed, which fails
+   * them as well.
+   */
+  @Override
+  public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws IOException {
+    FileRange range = pendingRanges.poll();
+    if (range != null) {
+      LOGGER.error("Exception caught when receiving the range of {} at {}", range.targetFile, range.offset, cause);
+      range.future.completeExceptionally(cause);
+    }
+    closeFileChannel();
+    ctx.close();
+  }
+
+  private void closeFileChannel() throws IOException {
+    if (outputFileChannel != null) {
+      outputFileChannel.close();
+      outputFileChannel = null;
+    }
+  }
+
+  /**
+   * One byte range of a snapshot file, and the future completed once it is written into the target file.
+   */
+  static class FileRange {
+    private final Path targetFile;
+    private final long offset;
+    private final long length;
+    private final CompletableFuture<Void> future;
+
+    FileRange(Path targetFile, long offset, long length, CompletableFuture<Void> future) {
+      this.targetFile = targetFile;
+      this.offset = offset;
+      this.length = length;
+      this.future = future;
+    }
+  }
+}
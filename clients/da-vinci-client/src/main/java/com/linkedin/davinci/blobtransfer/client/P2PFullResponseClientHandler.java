@@ -0,0 +1,57 @@
+package com.linkedin.davinci.blobtransfer.client;
+
+import com.linkedin.venice.exceptions.VeniceBlobTransferFileNotFoundException;
+import com.linkedin.venice.exceptions.VeniceException;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import java.util.concurrent.CompletableFuture;
+
+
+/**
+ * The client-side Netty handler to receive a single aggregated response from a peer, such as the manifest or the
+ * metadata of a partition snapshot, and to complete the given future with its body.
+ */
+public class P2PFullResponseClientHandler extends SimpleChannelInboundHandler<FullHttpResponse> {
+  private final String description;
+  private final CompletableFuture<byte[]> responseFuture;
+
+  public P2PFullResponseClientHandler(String description, CompletableFuture<byte[]> responseFuture) {
+    this.description = description;
+    this.responseFuture = responseFuture;
+  }
+
+  @Override
+  protected void channelRead0(ChannelHandlerContext ctx, FullHttpResponse msg) {
+    if (msg.status().equals(HttpResponseStatus.NOT_FOUND)) {
+      responseFuture.completeExceptionally(
+          new VeniceBlobTransferFileNotFoundException("Requested " + description + " is not found on remote peer"));
+    } else if (!msg.status().equals(HttpResponseStatus.OK)) {
+      responseFuture.completeExceptionally(
+          new VeniceException("Failed to fetch " + description + " from remote peer. Response: " + msg.status()));
+    } else {
+      ByteBuf content = msg.content();
+      byte[] body = new byte[content.readableBytes()];
+      content.readBytes(body);
+      responseFuture.complete(body);
+    }
+    ctx.close();
+  }
+
+  @Override
+  public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+    super.channelInactive(ctx);
+    if (!responseFuture.isDone()) {
+      responseFuture.completeExceptionally(
+          new VeniceException("Connection closed before receiving " + description + " from remote peer"));
+    }
+  }
+
+  @Override
+  public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+    responseFuture.completeExceptionally(cause);
+    ctx.close();
+  }
+}
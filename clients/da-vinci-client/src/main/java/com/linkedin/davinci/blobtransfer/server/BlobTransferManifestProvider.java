@@ -0,0 +1,101 @@
+package com.linkedin.davinci.blobtransfer.server;
+
+import com.linkedin.davinci.blobtransfer.BlobTransferFileInfo;
+import com.linkedin.davinci.blobtransfer.BlobTransferManifest;
+import com.linkedin.davinci.blobtransfer.BlobTransferPayload;
+import com.linkedin.davinci.blobtransfer.BlobTransferUtils;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+
+/**
+ * This class builds the {@link BlobTransferManifest} of the partition snapshots served by this host.
+ *
+ * Computing the checksums requires reading the whole snapshot, so it runs in a dedicated thread pool instead of the
+ * Netty event loop, and the checksums are cached by the path, size and modification time of the files. The SST files
+ * are immutable, so the checksums of the files shared by the successive snapshots of a partition are only computed
+ * once.
+ */
+public class BlobTransferManifestProvider implements AutoCloseable {
+  private static final int MAX_CACHED_CHECKSUM_COUNT = 100000;
+  private static final int CHECKSUM_THREAD_COUNT = 2;
+
+  private final ExecutorService executor =
+      Executors.newFixedThreadPool(CHECKSUM_THREAD_COUNT, new DaemonThreadFactory("blob-transfer-checksum"));
+  // Guarded by itself
+  private final Map<String, CachedChecksum> checksumCache =
+      new LinkedHashMap<String, CachedChecksum>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedChecksum> eldest) {
+          return size() > MAX_CACHED_CHECKSUM_COUNT;
+        }
+      };
+
+  public CompletableFuture<BlobTransferManifest> getManifest(BlobTransferPayload payload, File snapshotDir) {
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return buildManifest(payload, snapshotDir);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }, executor);
+  }
+
+  BlobTransferManifest buildManifest(BlobTransferPayload payload, File snapshotDir) throws IOException {
+    File[] files = snapshotDir.listFiles(File::isFile);
+    if (files == null) {
+      throw new IOException("Failed to access files at " + snapshotDir);
+    }
+    Arrays.sort(files, Comparator.comparing(File::getName));
+    List<BlobTransferFileInfo> fileInfos = new ArrayList<>(files.length);
+    for (File file: files) {
+      fileInfos.add(new BlobTransferFileInfo(file.getName(), file.length(), getChecksum(file)));
+    }
+    return new BlobTransferManifest(payload.getTopicName(), payload.getPartition(), fileInfos);
+  }
+
+  private long getChecksum(File file) throws IOException {
+    String path = file.getAbsolutePath();
+    long size = file.length();
+    long lastModified = file.lastModified();
+    synchronized (checksumCache) {
+      CachedChecksum cachedChecksum = checksumCache.get(path);
+      if (cachedChecksum != null && cachedChecksum.size == size && cachedChecksum.lastModified == lastModified) {
+        return cachedChecksum.checksum;
+      }
+    }
+    long checksum = BlobTransferUtils.computeFileChecksum(file);
+    synchronized (checksumCache) {
+      checksumCache.put(path, new CachedChecksum(size, lastModified, checksum));
+    }
+    return checksum;
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  private static class CachedChecksum {
+    private final long size;
+    private final long lastModified;
+    private final long checksum;
+
+    private CachedChecksum(long size, long lastModified, long checksum) {
+      this.size = size;
+      this.lastModified = lastModified;
+      this.checksum = checksum;
+    }
+  }
+}
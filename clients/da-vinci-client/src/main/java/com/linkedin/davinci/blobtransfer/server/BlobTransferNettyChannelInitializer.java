@@ -13,10 +13,15 @@ import io.netty.handler.timeout.IdleStateHandler;
 public class BlobTransferNettyChannelInitializer extends ChannelInitializer<SocketChannel> {
   private final String baseDir;
   private StorageMetadataService storageMetadataService;
+  private final BlobTransferManifestProvider manifestProvider;
 
-  public BlobTransferNettyChannelInitializer(String baseDir, StorageMetadataService storageMetadataService) {
+  public BlobTransferNettyChannelInitializer(
+      String baseDir,
+      StorageMetadataService storageMetadataService,
+      BlobTransferManifestProvider manifestProvider) {
     this.baseDir = baseDir;
     this.storageMetadataService = storageMetadataService;
+    this.manifestProvider = manifestProvider;
   }
 
   @Override
@@ -32,6 +37,8 @@ public class BlobTransferNettyChannelInitializer extends ChannelInitializer<Sock
         // for safe writing of chunks for responses
         .addLast("chunker", new ChunkedWriteHandler())
         // for handling p2p file transfer
-        .addLast("p2pFileTransferHandler", new P2PFileTransferServerHandler(baseDir, storageMetadataService));
+        .addLast(
+            "p2pFileTransferHandler",
+            new P2PFileTransferServerHandler(baseDir, storageMetadataService, manifestProvider));
   }
 }
@@ -24,6 +24,7 @@ public class P2PBlobTransferService extends AbstractVeniceService {
   private EventLoopGroup workerGroup;
   private final int port;
   private ChannelFuture channelFuture;
+  private final BlobTransferManifestProvider manifestProvider = new BlobTransferManifestProvider();
   // TODO 1: move tunable configs to a config class
   // TODO 2: add SSL/auth/Quota support
   // TODO 3: consider adding support for HTTP2
@@ -48,7 +49,7 @@ public class P2PBlobTransferService extends AbstractVeniceService {
 
     serverBootstrap.group(bossGroup, workerGroup)
         .channel(socketChannelClass)
-        .childHandler(new BlobTransferNettyChannelInitializer(baseDir, storageMetadataService))
+        .childHandler(new BlobTransferNettyChannelInitializer(baseDir, storageMetadataService, manifestProvider))
         .option(ChannelOption.SO_BACKLOG, 1000)
         .option(ChannelOption.SO_REUSEADDR, true)
         .childOption(ChannelOption.SO_KEEPALIVE, true)
@@ -69,5 +70,6 @@ public class P2PBlobTransferService extends AbstractVeniceService {
     bossGroup.shutdownGracefully();
     workerGroup.shutdownGracefully();
     channelFuture.channel().closeFuture().sync();
+    manifestProvider.close();
   }
 }
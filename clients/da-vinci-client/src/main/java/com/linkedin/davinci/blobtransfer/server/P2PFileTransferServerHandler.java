@@ -1,6 +1,9 @@
 package com.linkedin.davinci.blobtransfer.server;
 
 import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_COMPLETED;
+import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_FILES_PATH;
+import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_MANIFEST_PATH;
+import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_METADATA_PATH;
 import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_STATUS;
 import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_TYPE;
 import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BlobTransferType;
@@ -10,6 +13,7 @@ import static io.netty.handler.codec.http.HttpHeaderValues.APPLICATION_OCTET_STR
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.davinci.blobtransfer.BlobTransferManifest;
 import com.linkedin.davinci.blobtransfer.BlobTransferPartitionMetadata;
 import com.linkedin.davinci.blobtransfer.BlobTransferPayload;
 import com.linkedin.davinci.storage.StorageMetadataService;
@@ -45,6 +49,8 @@ import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -59,12 +65,18 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
   private static final InternalAvroSpecificSerializer<StoreVersionState> storeVersionStateSerializer =
       AvroProtocolDefinition.STORE_VERSION_STATE.getSerializer();
   private boolean useZeroCopy = false;
+  private static final Pattern RANGE_PATTERN = Pattern.compile("bytes=(\\d+)-(\\d+)");
   private final String baseDir;
   private StorageMetadataService storageMetadataService;
+  private final BlobTransferManifestProvider manifestProvider;
 
-  public P2PFileTransferServerHandler(String baseDir, StorageMetadataService storageMetadataService) {
+  public P2PFileTransferServerHandler(
+      String baseDir,
+      StorageMetadataService storageMetadataService,
+      BlobTransferManifestProvider manifestProvider) {
     this.baseDir = baseDir;
     this.storageMetadataService = storageMetadataService;
+    this.manifestProvider = manifestProvider;
   }
 
   @Override
@@ -78,7 +90,13 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
 
   /**
    * This method is called with the request that is received from the client.
-   * It validates the incoming request, and currently it only supports GET
+   * It validates the incoming request, and currently it only supports GET.
+   *
+   * Besides /store/version/partition, which streams the whole snapshot followed by the metadata, the parallel blob
+   * transfer fetches the pieces of the snapshot separately:
+   * 1. /store/version/partition/manifest returns the {@link BlobTransferManifest} of the snapshot.
+   * 2. /store/version/partition/files/fileName returns one snapshot file, or the byte range given by the Range header.
+   * 3. /store/version/partition/metadata returns the metadata of the partition.
    * @param ctx           the {@link ChannelHandlerContext} which this {@link SimpleChannelInboundHandler}
    *                      belongs to
    * @param httpRequest           the message to handle
@@ -99,10 +117,12 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
           ctx);
       return;
     }
+    final String[] requestParts;
     final BlobTransferPayload blobTransferRequest;
     final File snapshotDir;
     try {
-      blobTransferRequest = parseBlobTransferPayload(URI.create(httpRequest.uri()));
+      requestParts = RequestHelper.getRequestParts(URI.create(httpRequest.uri()));
+      blobTransferRequest = parseBlobTransferPayload(requestParts, httpRequest.uri());
       snapshotDir = new File(blobTransferRequest.getSnapshotDir());
       if (!snapshotDir.exists() || !snapshotDir.isDirectory()) {
         byte[] errBody = ("Snapshot for " + blobTransferRequest.getFullResourceName() + " doesn't exist").getBytes();
@@ -117,6 +137,19 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
       return;
     }
 
+    if (requestParts.length == 5 && BLOB_TRANSFER_MANIFEST_PATH.equals(requestParts[4])) {
+      sendManifest(blobTransferRequest, snapshotDir, ctx);
+      return;
+    }
+    if (requestParts.length == 5 && BLOB_TRANSFER_METADATA_PATH.equals(requestParts[4])) {
+      sendMetadata(blobTransferRequest, ctx);
+      return;
+    }
+    if (requestParts.length == 6 && BLOB_TRANSFER_FILES_PATH.equals(requestParts[4])) {
+      sendFileRange(snapshotDir, requestParts[5], httpRequest.headers().get(HttpHeaderNames.RANGE), ctx);
+      return;
+    }
+
     File[] files = snapshotDir.listFiles();
     if (files == null || files.length == 0) {
       setupResponseAndFlush(
@@ -174,10 +207,63 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
 
   private void sendFile(File file, ChannelHandlerContext ctx) throws IOException {
     RandomAccessFile raf = new RandomAccessFile(file, "r");
+    HttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+    sendFileRegion(file, raf, 0, raf.length(), response, ctx);
+  }
+
+  /**
+   * Sends one file of the snapshot, or the byte range of it given by the Range header, which only supports a single
+   * range with both the first and the last byte positions, e.g. "bytes=0-1023".
+   */
+  private void sendFileRange(File snapshotDir, String fileName, String rangeHeader, ChannelHandlerContext ctx)
+      throws IOException {
+    File file = new File(snapshotDir, fileName);
+    // Only the files directly under the snapshot directory are served.
+    if (fileName.isEmpty() || fileName.contains("/") || fileName.contains("\\") || fileName.equals("..")
+        || !file.isFile()) {
+      byte[] errBody = ("File " + fileName + " doesn't exist in " + snapshotDir).getBytes();
+      setupResponseAndFlush(HttpResponseStatus.NOT_FOUND, errBody, false, ctx);
+      return;
+    }
+    RandomAccessFile raf = new RandomAccessFile(file, "r");
+    long fileLength = raf.length();
+    if (rangeHeader == null) {
+      HttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+      sendFileRegion(file, raf, 0, fileLength, response, ctx);
+      return;
+    }
+    Matcher matcher = RANGE_PATTERN.matcher(rangeHeader.trim());
+    long first = -1;
+    long last = -1;
+    if (matcher.matches()) {
+      try {
+        first = Long.parseLong(matcher.group(1));
+        last = Long.parseLong(matcher.group(2));
+      } catch (NumberFormatException e) {
+        // Handled below as an unsatisfiable range.
+      }
+    }
+    if (first < 0 || first > last || last >= fileLength) {
+      raf.close();
+      byte[] errBody = ("Invalid range: " + rangeHeader + " for file " + fileName + " of length " + fileLength)
+          .getBytes();
+      setupResponseAndFlush(HttpResponseStatus.REQUESTED_RANGE_NOT_SATISFIABLE, errBody, false, ctx);
+      return;
+    }
+    HttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.PARTIAL_CONTENT);
+    response.headers().set(HttpHeaderNames.CONTENT_RANGE, "bytes " + first + "-" + last + "/" + fileLength);
+    sendFileRegion(file, raf, first, last - first + 1, response, ctx);
+  }
+
+  private void sendFileRegion(
+      File file,
+      RandomAccessFile raf,
+      long offset,
+      long length,
+      HttpResponse response,
+      ChannelHandlerContext ctx) throws IOException {
     ChannelFuture sendFileFuture;
     ChannelFuture lastContentFuture;
-    long length = raf.length();
-    HttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
     response.headers().set(HttpHeaderNames.CONTENT_LENGTH, length);
     response.headers().set(HttpHeaderNames.CONTENT_TYPE, APPLICATION_OCTET_STREAM);
     response.headers().set(HttpHeaderNames.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getName() + "\"");
@@ -186,10 +272,10 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
     ctx.write(response);
 
     if (useZeroCopy) {
-      sendFileFuture = ctx.writeAndFlush(new DefaultFileRegion(raf.getChannel(), 0, length));
+      sendFileFuture = ctx.writeAndFlush(new DefaultFileRegion(raf.getChannel(), offset, length));
       lastContentFuture = ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
     } else {
-      sendFileFuture = ctx.writeAndFlush(new HttpChunkedInput(new ChunkedFile(raf)));
+      sendFileFuture = ctx.writeAndFlush(new HttpChunkedInput(new ChunkedFile(raf, offset, length, 8192)));
       lastContentFuture = sendFileFuture;
     }
 
@@ -210,6 +296,34 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
     });
   }
 
+  private void sendManifest(BlobTransferPayload blobTransferRequest, File snapshotDir, ChannelHandlerContext ctx) {
+    manifestProvider.getManifest(blobTransferRequest, snapshotDir).whenComplete((manifest, throwable) -> {
+      if (throwable != null) {
+        LOGGER.error("Failed to build the manifest for {}", blobTransferRequest.getFullResourceName(), throwable);
+        byte[] errBody = ("Failed to build the manifest for " + blobTransferRequest.getFullResourceName()).getBytes();
+        setupResponseAndFlush(HttpResponseStatus.INTERNAL_SERVER_ERROR, errBody, false, ctx);
+        return;
+      }
+      byte[] manifestBytes;
+      try {
+        manifestBytes = ObjectMapperFactory.getInstance().writeValueAsBytes(manifest);
+      } catch (JsonProcessingException e) {
+        byte[] errBody =
+            ("Failed to serialize the manifest for " + blobTransferRequest.getFullResourceName()).getBytes();
+        setupResponseAndFlush(HttpResponseStatus.INTERNAL_SERVER_ERROR, errBody, false, ctx);
+        return;
+      }
+      FullHttpResponse manifestResponse = new DefaultFullHttpResponse(
+          HttpVersion.HTTP_1_1,
+          HttpResponseStatus.OK,
+          Unpooled.wrappedBuffer(manifestBytes));
+      manifestResponse.headers().set(HttpHeaderNames.CONTENT_LENGTH, manifestBytes.length);
+      manifestResponse.headers().set(HttpHeaderNames.CONTENT_TYPE, APPLICATION_JSON);
+      manifestResponse.headers().set(BLOB_TRANSFER_TYPE, BlobTransferType.MANIFEST);
+      ctx.writeAndFlush(manifestResponse);
+    });
+  }
+
   public void sendMetadata(BlobTransferPayload blobTransferRequest, ChannelHandlerContext ctx)
       throws JsonProcessingException {
     // prepare metadata
@@ -259,18 +373,18 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
    * @param uri
    * @return
    */
-  private BlobTransferPayload parseBlobTransferPayload(URI uri) throws IllegalArgumentException {
-    // Parse the request uri to obtain the storeName and partition
-    String[] requestParts = RequestHelper.getRequestParts(uri);
-    if (requestParts.length == 4) {
-      // [0]""/[1]"store"/[2]"version"/[3]"partition"
+  private BlobTransferPayload parseBlobTransferPayload(String[] requestParts, String uri)
+      throws IllegalArgumentException {
+    // [0]""/[1]"store"/[2]"version"/[3]"partition", optionally followed by [4]"manifest", [4]"metadata", or
+    // [4]"files"/[5]"fileName"
+    if (requestParts.length >= 4 && requestParts.length <= 6) {
       return new BlobTransferPayload(
           baseDir,
           requestParts[1],
           Integer.parseInt(requestParts[2]),
           Integer.parseInt(requestParts[3]));
     } else {
-      throw new IllegalArgumentException("Invalid request for fetching blob at " + uri.getPath());
+      throw new IllegalArgumentException("Invalid request for fetching blob at " + uri);
     }
   }
 }
@@ -0,0 +1,76 @@
+package com.linkedin.davinci.client;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Decides how many concurrent chunks a batch get is split into, based on the observed per-key read latency of the
+ * client and the current load of the executor running the chunks.
+ *
+ * A chunk should be large enough to amortize the cost of handing it over to another thread, so the chunk size is the
+ * number of keys which can be read within {@link #TARGET_CHUNK_LATENCY_NS}, capped by the configured split threshold.
+ * The number of chunks is then limited by the idle threads of the executor, and the request is not split at all when
+ * the executor already has queued tasks, since the chunks would only wait behind the other requests.
+ */
+class AdaptiveBatchGetSplitter {
+  static final long TARGET_CHUNK_LATENCY_NS = TimeUnit.MICROSECONDS.toNanos(200);
+  private static final double LATENCY_SMOOTHING_FACTOR = 0.2;
+
+  private final Executor executor;
+  private final int maxChunkSize;
+
+  /**
+   * Exponential moving average of the per-key latency, which is not updated atomically since a lost update barely
+   * matters to the estimation.
+   */
+  private volatile double averageKeyLatencyInNS = -1;
+
+  AdaptiveBatchGetSplitter(Executor executor, int maxChunkSize) {
+    this.executor = executor;
+    this.maxChunkSize = maxChunkSize;
+  }
+
+  /**
+   * @return the number of chunks to split the request into, one of which is executed by the calling thread.
+   */
+  int getParallelism(int keyCount) {
+    int chunkSize = getChunkSize();
+    int chunkCount = (keyCount + chunkSize - 1) / chunkSize;
+    // The calling thread executes one of the chunks.
+    return Math.max(1, Math.min(chunkCount, getIdleThreadCount() + 1));
+  }
+
+  int getChunkSize() {
+    double keyLatencyInNS = averageKeyLatencyInNS;
+    if (keyLatencyInNS <= 0) {
+      // No observation yet, so it falls back to the static split threshold.
+      return maxChunkSize;
+    }
+    return (int) Math.max(1, Math.min(maxChunkSize, TARGET_CHUNK_LATENCY_NS / keyLatencyInNS));
+  }
+
+  void recordLatency(long elapsedTimeInNS, int keyCount) {
+    if (keyCount <= 0) {
+      return;
+    }
+    double keyLatencyInNS = (double) elapsedTimeInNS / keyCount;
+    double previousAverage = averageKeyLatencyInNS;
+    averageKeyLatencyInNS = previousAverage <= 0
+        ? keyLatencyInNS
+        : previousAverage + LATENCY_SMOOTHING_FACTOR * (keyLatencyInNS - previousAverage);
+  }
+
+  private int getIdleThreadCount() {
+    if (!(executor instanceof ThreadPoolExecutor)) {
+      // The load of other executors is unknown.
+      return Integer.MAX_VALUE - 1;
+    }
+    ThreadPoolExecutor threadPool = (ThreadPoolExecutor) executor;
+    if (!threadPool.getQueue().isEmpty()) {
+      return 0;
+    }
+    return Math.max(0, threadPool.getMaximumPoolSize() - threadPool.getActiveCount());
+  }
+}
@@ -1,6 +1,7 @@
 package com.linkedin.davinci.client;
 
 import static com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils.INGESTION_ISOLATION_CONFIG_PREFIX;
+import static com.linkedin.davinci.kafka.consumer.KafkaConsumerService.ConsumerAssignmentStrategy.PARTITION_WISE_SHARED_CONSUMER_ASSIGNMENT_STRATEGY;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.RECORD_TRANSFORMER_VALUE_SCHEMA;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEVEL0_FILE_NUM_COMPACTION_TRIGGER;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEVEL0_FILE_NUM_COMPACTION_TRIGGER_WRITE_ONLY_VERSION;
@@ -9,15 +10,19 @@ import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEV
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEVEL0_STOPS_WRITES_TRIGGER;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEVEL0_STOPS_WRITES_TRIGGER_WRITE_ONLY_VERSION;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_PLAIN_TABLE_FORMAT_ENABLED;
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_SECONDARY_INDEX_FIELDS;
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_SHARED_INSTANCE_ENABLED;
 import static com.linkedin.venice.ConfigKeys.CLUSTER_NAME;
 import static com.linkedin.venice.ConfigKeys.INGESTION_MEMORY_LIMIT;
 import static com.linkedin.venice.ConfigKeys.INGESTION_USE_DA_VINCI_CLIENT;
 import static com.linkedin.venice.ConfigKeys.KAFKA_ADMIN_CLASS;
 import static com.linkedin.venice.ConfigKeys.KAFKA_BOOTSTRAP_SERVERS;
+import static com.linkedin.venice.ConfigKeys.SERVER_SHARED_CONSUMER_ASSIGNMENT_STRATEGY;
 import static com.linkedin.venice.ConfigKeys.ZOOKEEPER_ADDRESS;
 import static com.linkedin.venice.client.store.ClientFactory.getTransportClient;
 import static org.apache.avro.Schema.Type.RECORD;
 
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.davinci.DaVinciBackend;
 import com.linkedin.davinci.StoreBackend;
 import com.linkedin.davinci.VersionBackend;
@@ -25,8 +30,11 @@ import com.linkedin.davinci.config.VeniceConfigLoader;
 import com.linkedin.davinci.storage.chunking.AbstractAvroChunkingAdapter;
 import com.linkedin.davinci.storage.chunking.GenericChunkingAdapter;
 import com.linkedin.davinci.storage.chunking.GenericRecordChunkingAdapter;
+import com.linkedin.davinci.store.StoragePartitionSnapshot;
 import com.linkedin.davinci.store.cache.backend.ObjectCacheBackend;
 import com.linkedin.davinci.store.cache.backend.ObjectCacheConfig;
+import com.linkedin.davinci.store.index.SecondaryIndexExtractor;
+import com.linkedin.davinci.store.index.SecondaryIndexKeyEncoder;
 import com.linkedin.venice.client.exceptions.ServiceDiscoveryException;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.stats.ClientStats;
@@ -45,6 +53,7 @@ import com.linkedin.venice.compute.ComputeUtils;
 import com.linkedin.venice.controllerapi.D2ServiceDiscoveryResponse;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceUnsupportedOperationException;
+import com.linkedin.venice.meta.ReadOnlySchemaRepository;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.pubsub.adapter.kafka.admin.ApacheKafkaAdminAdapter;
@@ -65,6 +74,7 @@ import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -76,9 +86,15 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -116,6 +132,14 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
       Runtime.getRuntime().availableProcessors(),
       new DaemonThreadFactory("DaVinci_Read_Chunk_Executor"));
   public static final int DEFAULT_CHUNK_SPLIT_THRESHOLD = 100;
+  /**
+   * The scans run the callbacks of the application for every record of a partition, so they get their own executor,
+   * which a long scan can't starve the batch gets of.
+   */
+  public static final ExecutorService SCAN_EXECUTOR = Executors.newFixedThreadPool(
+      Runtime.getRuntime().availableProcessors(),
+      new DaemonThreadFactory("DaVinci_Scan_Executor"));
+  private static final long READ_CHUNK_THREAD_KEEP_ALIVE_IN_SECONDS = 60;
 
   private final DaVinciConfig daVinciConfig;
   private final ClientConfig clientConfig;
@@ -137,6 +161,11 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
 
   private final AbstractAvroChunkingAdapter<V> chunkingAdapter;
   private final Executor readChunkExecutorForLargeRequest;
+  /**
+   * The executor created for the large requests of this client, if any, which is shut down along with the client.
+   */
+  private final ExecutorService ownedReadChunkExecutor;
+  private final AdaptiveBatchGetSplitter batchGetSplitter;
 
   public AvroGenericDaVinciClient(
       DaVinciConfig daVinciConfig,
@@ -180,11 +209,41 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
     this.managedClients = managedClients;
     this.icProvider = icProvider;
     this.chunkingAdapter = chunkingAdapter;
-    this.readChunkExecutorForLargeRequest =
-        readChunkExecutorForLargeRequest != null ? readChunkExecutorForLargeRequest : READ_CHUNK_EXECUTOR;
+    if (readChunkExecutorForLargeRequest == null && daVinciConfig.getLargeBatchRequestThreadCount() > 0) {
+      this.ownedReadChunkExecutor =
+          createReadChunkExecutor(daVinciConfig.getLargeBatchRequestThreadCount(), clientConfig.getStoreName());
+    } else {
+      this.ownedReadChunkExecutor = null;
+    }
+    if (readChunkExecutorForLargeRequest != null) {
+      this.readChunkExecutorForLargeRequest = readChunkExecutorForLargeRequest;
+    } else if (ownedReadChunkExecutor != null) {
+      this.readChunkExecutorForLargeRequest = ownedReadChunkExecutor;
+    } else {
+      this.readChunkExecutorForLargeRequest = READ_CHUNK_EXECUTOR;
+    }
+    this.batchGetSplitter = new AdaptiveBatchGetSplitter(
+        this.readChunkExecutorForLargeRequest,
+        daVinciConfig.getLargeBatchRequestSplitThreshold());
     preValidation.run();
   }
 
+  /**
+   * Creates the executor dedicated to the large requests of one client, so that a client cannot starve the others
+   * sharing {@link #READ_CHUNK_EXECUTOR}. The idle threads time out, and the executor is shut down in {@link #close()}.
+   */
+  private static ExecutorService createReadChunkExecutor(int threadCount, String storeName) {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(
+        threadCount,
+        threadCount,
+        READ_CHUNK_THREAD_KEEP_ALIVE_IN_SECONDS,
+        TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(),
+        new DaemonThreadFactory("DaVinci_Read_Chunk_Executor_" + storeName));
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
   @Override
   public SchemaReader getSchemaReader() {
     return new SchemaRepoBackedSchemaReader(getBackend().getSchemaRepository(), getStoreName());
@@ -228,6 +287,7 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
 
   protected CompletableFuture<Void> subscribe(ComplementSet<Integer> partitions) {
     throwIfNotReady();
+    getBackend().registerSecondaryIndexFields(getStoreName(), daVinciConfig.getSecondaryIndexFields());
     subscription.addAll(partitions);
     return storeBackend.subscribe(partitions);
   }
@@ -342,6 +402,10 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
     return this.keySerializer;
   }
 
+  RecordDeserializer<K> getKeyDeserializer() {
+    return this.keyDeserializer;
+  }
+
   StoreDeserializerCache<V> getStoreDeserializerCache() {
     return this.storeDeserializerCache;
   }
@@ -354,9 +418,19 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
     return this.readChunkExecutorForLargeRequest;
   }
 
+  AdaptiveBatchGetSplitter getBatchGetSplitter() {
+    return this.batchGetSplitter;
+  }
+
   CompletableFuture<Map<K, V>> batchGetFromLocalStorage(Iterable<K> keys) {
     // expose underlying getAll functionality.
     Map<K, V> result = new VeniceConcurrentHashMap<>();
+    if (getDaVinciConfig().isSnapshotReadEnabled()) {
+      return batchGetFromSnapshots(keys, result, new VeniceConcurrentHashMap<>()).thenApply(ignored -> result);
+    }
+    if (getDaVinciConfig().isAdaptiveBatchGetEnabled()) {
+      return batchGetByPartition(keys);
+    }
     try (ReferenceCounted<VersionBackend> versionRef = getStoreBackend().getDaVinciCurrentVersion()) {
       VersionBackend versionBackend = versionRef.get();
       if (versionBackend == null) {
@@ -448,6 +522,209 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
     }
   }
 
+  @Override
+  public CompletableFuture<DaVinciSnapshotBatchGetResult<K, V>> batchGetFromSnapshot(Set<K> keys) {
+    throwIfNotReady();
+    Map<K, V> result = new VeniceConcurrentHashMap<>();
+    Map<Integer, Long> partitionToHighWatermarkOffset = new VeniceConcurrentHashMap<>();
+    return batchGetFromSnapshots(keys, result, partitionToHighWatermarkOffset)
+        .thenApply(ignored -> new DaVinciSnapshotBatchGetResult<>(result, partitionToHighWatermarkOffset));
+  }
+
+  /**
+   * Groups the keys by partition, and reads all the keys of a partition from one snapshot of the partition. The
+   * partitions are read concurrently if the request is large.
+   */
+  private CompletableFuture<Void> batchGetFromSnapshots(
+      Iterable<K> keys,
+      Map<K, V> result,
+      Map<Integer, Long> partitionToHighWatermarkOffset) {
+    // The version is held until all the partitions are read, so it cannot be deleted by a version swap meanwhile.
+    ReferenceCounted<VersionBackend> versionRef = getStoreBackend().getDaVinciCurrentVersion();
+    VersionBackend versionBackend = versionRef.get();
+    Map<Integer, Map<K, byte[]>> partitionToKeys;
+    try {
+      partitionToKeys = groupKeysByPartition(versionBackend, keys);
+    } catch (RuntimeException e) {
+      versionRef.release();
+      throw e;
+    }
+    int keyCount = partitionToKeys.values().stream().mapToInt(Map::size).sum();
+
+    int readerSchemaId = versionBackend.getSupersetOrLatestValueSchemaId();
+    Consumer<Map.Entry<Integer, Map<K, byte[]>>> partitionReader = partitionKeys -> {
+      int partition = partitionKeys.getKey();
+      BinaryDecoder binaryDecoder = REUSABLE_OBJECTS.get().binaryDecoder;
+      try (ReferenceCounted<StoragePartitionSnapshot> snapshotRef = versionBackend.acquireReadSnapshot(partition)) {
+        for (Map.Entry<K, byte[]> entry: partitionKeys.getValue().entrySet()) {
+          V value = versionBackend.readFromSnapshot(
+              snapshotRef.get(),
+              partition,
+              entry.getValue(),
+              getAvroChunkingAdapter(),
+              getStoreDeserializerCache(),
+              readerSchemaId,
+              binaryDecoder,
+              null);
+          if (value != null) {
+            result.put(entry.getKey(), value);
+          }
+        }
+        partitionToHighWatermarkOffset.put(partition, snapshotRef.get().getHighWatermarkOffset());
+      }
+    };
+
+    if (partitionToKeys.size() <= 1 || keyCount <= getDaVinciConfig().getLargeBatchRequestSplitThreshold()) {
+      try {
+        partitionToKeys.entrySet().forEach(partitionReader);
+      } finally {
+        versionRef.release();
+      }
+      return CompletableFuture.completedFuture(null);
+    }
+    CompletableFuture[] partitionFutures = partitionToKeys.entrySet()
+        .stream()
+        .map(
+            partitionKeys -> CompletableFuture
+                .runAsync(() -> partitionReader.accept(partitionKeys), getReadChunkExecutorForLargeRequest()))
+        .toArray(CompletableFuture[]::new);
+    return CompletableFuture.allOf(partitionFutures).whenComplete((ignored, throwable) -> versionRef.release());
+  }
+
+  /**
+   * Serializes the keys and groups them by partition, and throws if any partition cannot be read locally.
+   */
+  private Map<Integer, Map<K, byte[]>> groupKeysByPartition(VersionBackend versionBackend, Iterable<K> keys) {
+    if (versionBackend == null) {
+      getStoreBackend().getStats().recordBadRequest();
+      throw new VeniceClientException("Da Vinci client is not subscribed, storeName=" + getStoreName());
+    }
+    Map<Integer, Map<K, byte[]>> partitionToKeys = new HashMap<>();
+    for (K key: keys) {
+      byte[] keyBytes = getKeySerializer().serialize(key);
+      int partition = versionBackend.getPartition(keyBytes);
+      if (!isPartitionReadyToServe(versionBackend, partition)) {
+        if (!isPartitionSubscribed(versionBackend, partition)) {
+          getStoreBackend().getStats().recordBadRequest();
+          throw new NonLocalAccessException(versionBackend.toString(), partition);
+        }
+        throw new VeniceClientException(
+            "Partition: " + partition + " for store version: " + versionBackend + " is not ready to serve");
+      }
+      partitionToKeys.computeIfAbsent(partition, p -> new HashMap<>()).put(key, keyBytes);
+    }
+    return partitionToKeys;
+  }
+
+  /**
+   * The keys of the same partition in one chunk of a batch get, which are looked up together.
+   */
+  private static class PartitionKeySlice<K> {
+    final int partition;
+    final List<K> keys;
+    final List<byte[]> keyBytesList;
+
+    PartitionKeySlice(int partition, List<K> keys, List<byte[]> keyBytesList) {
+      this.partition = partition;
+      this.keys = keys;
+      this.keyBytesList = keyBytesList;
+    }
+  }
+
+  /**
+   * Groups the keys by partition, so the keys of each partition are looked up with the batch lookup of the storage
+   * engine, and splits the request into chunks sized by {@link AdaptiveBatchGetSplitter}. One of the chunks is read by
+   * the calling thread, and the others are read concurrently by {@link #getReadChunkExecutorForLargeRequest()}.
+   */
+  private CompletableFuture<Map<K, V>> batchGetByPartition(Iterable<K> keys) {
+    // The version is held until all the chunks are read, so it cannot be deleted by a version swap meanwhile.
+    ReferenceCounted<VersionBackend> versionRef = getStoreBackend().getDaVinciCurrentVersion();
+    VersionBackend versionBackend = versionRef.get();
+    Map<Integer, Map<K, byte[]>> partitionToKeys;
+    try {
+      partitionToKeys = groupKeysByPartition(versionBackend, keys);
+    } catch (RuntimeException e) {
+      versionRef.release();
+      throw e;
+    }
+    int keyCount = partitionToKeys.values().stream().mapToInt(Map::size).sum();
+    AdaptiveBatchGetSplitter splitter = getBatchGetSplitter();
+    int parallelism = splitter.getParallelism(keyCount);
+    int chunkSize = Math.max(1, (keyCount + parallelism - 1) / parallelism);
+
+    List<List<PartitionKeySlice<K>>> chunks = new ArrayList<>(parallelism);
+    List<PartitionKeySlice<K>> currentChunk = new ArrayList<>();
+    int currentChunkSize = 0;
+    for (Map.Entry<Integer, Map<K, byte[]>> partitionKeys: partitionToKeys.entrySet()) {
+      List<K> partitionKeyList = new ArrayList<>(partitionKeys.getValue().keySet());
+      List<byte[]> partitionKeyBytesList = new ArrayList<>(partitionKeys.getValue().values());
+      int from = 0;
+      while (from < partitionKeyList.size()) {
+        int to = Math.min(partitionKeyList.size(), from + chunkSize - currentChunkSize);
+        currentChunk.add(
+            new PartitionKeySlice<>(
+                partitionKeys.getKey(),
+                partitionKeyList.subList(from, to),
+                partitionKeyBytesList.subList(from, to)));
+        currentChunkSize += to - from;
+        from = to;
+        if (currentChunkSize == chunkSize) {
+          chunks.add(currentChunk);
+          currentChunk = new ArrayList<>();
+          currentChunkSize = 0;
+        }
+      }
+    }
+    if (!currentChunk.isEmpty()) {
+      chunks.add(currentChunk);
+    }
+
+    Map<K, V> result = new VeniceConcurrentHashMap<>();
+    int readerSchemaId = versionBackend.getSupersetOrLatestValueSchemaId();
+    Consumer<List<PartitionKeySlice<K>>> chunkReader = chunk -> {
+      long startTimeInNS = System.nanoTime();
+      int chunkKeyCount = 0;
+      BinaryDecoder binaryDecoder = REUSABLE_OBJECTS.get().binaryDecoder;
+      for (PartitionKeySlice<K> slice: chunk) {
+        List<V> values = versionBackend.multiRead(
+            slice.partition,
+            slice.keyBytesList,
+            getAvroChunkingAdapter(),
+            getStoreDeserializerCache(),
+            readerSchemaId,
+            binaryDecoder);
+        for (int i = 0; i < values.size(); i++) {
+          V value = values.get(i);
+          if (value != null) {
+            // The result should only contain entries for the keys that have a value associated with them
+            result.put(slice.keys.get(i), value);
+          }
+        }
+        chunkKeyCount += slice.keys.size();
+      }
+      splitter.recordLatency(System.nanoTime() - startTimeInNS, chunkKeyCount);
+    };
+
+    CompletableFuture[] chunkFutures = new CompletableFuture[chunks.size()];
+    for (int i = 1; i < chunks.size(); i++) {
+      List<PartitionKeySlice<K>> chunk = chunks.get(i);
+      chunkFutures[i] =
+          CompletableFuture.runAsync(() -> chunkReader.accept(chunk), getReadChunkExecutorForLargeRequest());
+    }
+    if (!chunks.isEmpty()) {
+      CompletableFuture<Void> callingThreadChunkFuture = new CompletableFuture<>();
+      try {
+        chunkReader.accept(chunks.get(0));
+        callingThreadChunkFuture.complete(null);
+      } catch (Throwable e) {
+        callingThreadChunkFuture.completeExceptionally(e);
+      }
+      chunkFutures[0] = callingThreadChunkFuture;
+    }
+    return CompletableFuture.allOf(chunkFutures).whenComplete((ignored, throwable) -> versionRef.release()).thenApply(
+        ignored -> result);
+  }
+
   @Override
   public void streamingBatchGet(Set<K> keys, StreamingCallback<K, V> callback) throws VeniceClientException {
     throw new VeniceUnsupportedOperationException("streamingBatchGet for DaVinci client");
@@ -511,36 +788,61 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
 
       Map<String, Object> globalContext = new HashMap<>();
       Schema computeResultSchema = getComputeResultSchema(computeRequestWrapper);
+      // The keys of the same partition are computed against one snapshot, which is acquired by the first of them.
+      Map<Integer, ReferenceCounted<StoragePartitionSnapshot>> partitionToSnapshotRef =
+          daVinciConfig.isSnapshotReadEnabled() ? new HashMap<>() : null;
 
-      for (K key: keys) {
-        byte[] keyBytes = keySerializer.serialize(key);
-        int partition = versionBackend.getPartition(keyBytes);
+      try {
+        for (K key: keys) {
+          byte[] keyBytes = keySerializer.serialize(key);
+          int partition = versionBackend.getPartition(keyBytes);
 
-        if (isPartitionReadyToServe(versionBackend, partition)) {
-          GenericRecord computeResultValue = versionBackend.compute(
-              partition,
-              keyBytes,
-              getGenericRecordChunkingAdapter(),
-              genericRecordStoreDeserializerCache,
-              valueSchemaId,
-              reusableObjects.binaryDecoder,
-              reusableObjects.rawValue,
-              reuseValueRecord,
-              globalContext,
-              computeRequestWrapper,
-              computeResultSchema);
-
-          if (computeResultValue != null) {
-            callback.onRecordReceived(
-                key,
-                new ComputeGenericRecord(computeResultValue, computeRequestWrapper.getValueSchema()));
-          } else {
-            callback.onRecordReceived(key, null);
+          if (isPartitionReadyToServe(versionBackend, partition)) {
+            GenericRecord computeResultValue;
+            if (partitionToSnapshotRef != null) {
+              computeResultValue = versionBackend.computeFromSnapshot(
+                  partitionToSnapshotRef.computeIfAbsent(partition, versionBackend::acquireReadSnapshot).get(),
+                  partition,
+                  keyBytes,
+                  getGenericRecordChunkingAdapter(),
+                  genericRecordStoreDeserializerCache,
+                  valueSchemaId,
+                  reusableObjects.binaryDecoder,
+                  reuseValueRecord,
+                  globalContext,
+                  computeRequestWrapper,
+                  computeResultSchema);
+            } else {
+              computeResultValue = versionBackend.compute(
+                  partition,
+                  keyBytes,
+                  getGenericRecordChunkingAdapter(),
+                  genericRecordStoreDeserializerCache,
+                  valueSchemaId,
+                  reusableObjects.binaryDecoder,
+                  reusableObjects.rawValue,
+                  reuseValueRecord,
+                  globalContext,
+                  computeRequestWrapper,
+                  computeResultSchema);
+            }
+
+            if (computeResultValue != null) {
+              callback.onRecordReceived(
+                  key,
+                  new ComputeGenericRecord(computeResultValue, computeRequestWrapper.getValueSchema()));
+            } else {
+              callback.onRecordReceived(key, null);
+            }
+          } else if (!isPartitionSubscribed(versionBackend, partition)) {
+            storeBackend.getStats().recordBadRequest();
+            callback.onCompletion(Optional.of(new NonLocalAccessException(versionBackend.toString(), partition)));
+            return;
           }
-        } else if (!isPartitionSubscribed(versionBackend, partition)) {
-          storeBackend.getStats().recordBadRequest();
-          callback.onCompletion(Optional.of(new NonLocalAccessException(versionBackend.toString(), partition)));
-          return;
+        }
+      } finally {
+        if (partitionToSnapshotRef != null) {
+          partitionToSnapshotRef.values().forEach(ReferenceCounted::release);
         }
       }
 
@@ -604,6 +906,195 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
     }
   }
 
+  @Override
+  public void scan(DaVinciScanRequest<K> scanRequest, StreamingCallback<K, V> callback) {
+    throwIfNotReady();
+    StoreDeserializerCache<V> scanDeserializerCache;
+    byte[] startKeyBytes;
+    byte[] endKeyBytes;
+    try {
+      scanDeserializerCache = getScanDeserializerCache(scanRequest.getProjectedFields());
+      K startKey = scanRequest.getStartKey();
+      K endKey = scanRequest.getEndKey();
+      startKeyBytes = startKey == null ? null : getKeySerializer().serialize(startKey);
+      endKeyBytes = endKey == null ? null : getKeySerializer().serialize(endKey);
+    } catch (Exception e) {
+      callback.onCompletion(Optional.of(e));
+      return;
+    }
+    Executor scanExecutor = scanRequest.getExecutor() == null ? SCAN_EXECUTOR : scanRequest.getExecutor();
+    scanReadyPartitions(
+        callback,
+        scanExecutor,
+        (versionBackend, partition, recordConsumer) -> versionBackend.scan(
+            partition,
+            startKeyBytes,
+            endKeyBytes,
+            getAvroChunkingAdapter(),
+            scanDeserializerCache,
+            versionBackend.getSupersetOrLatestValueSchemaId(),
+            REUSABLE_OBJECTS.get().binaryDecoder,
+            recordConsumer));
+  }
+
+  @Override
+  public void getBySecondaryIndex(String fieldName, Object fieldValue, StreamingCallback<K, V> callback) {
+    throwIfNotReady();
+    byte[][] entryKeyRange;
+    try {
+      entryKeyRange =
+          SecondaryIndexKeyEncoder.getEqualityRange(fieldName, getSecondaryIndexFieldSchema(fieldName), fieldValue);
+    } catch (Exception e) {
+      callback.onCompletion(Optional.of(e));
+      return;
+    }
+    scanBySecondaryIndex(entryKeyRange, callback);
+  }
+
+  @Override
+  public void getBySecondaryIndexRange(
+      String fieldName,
+      Object startValue,
+      Object endValue,
+      StreamingCallback<K, V> callback) {
+    throwIfNotReady();
+    byte[][] entryKeyRange;
+    try {
+      Schema fieldSchema = getSecondaryIndexFieldSchema(fieldName);
+      entryKeyRange = SecondaryIndexKeyEncoder.getRange(fieldName, fieldSchema, startValue, endValue);
+    } catch (Exception e) {
+      callback.onCompletion(Optional.of(e));
+      return;
+    }
+    scanBySecondaryIndex(entryKeyRange, callback);
+  }
+
+  private void scanBySecondaryIndex(byte[][] entryKeyRange, StreamingCallback<K, V> callback) {
+    scanReadyPartitions(
+        callback,
+        SCAN_EXECUTOR,
+        (versionBackend, partition, recordConsumer) -> versionBackend.scanBySecondaryIndex(
+            partition,
+            entryKeyRange[0],
+            entryKeyRange[1],
+            getAvroChunkingAdapter(),
+            getStoreDeserializerCache(),
+            versionBackend.getSupersetOrLatestValueSchemaId(),
+            REUSABLE_OBJECTS.get().binaryDecoder,
+            recordConsumer));
+  }
+
+  /**
+   * Returns the schema of the indexed field in the latest value schema, which the ingestion encodes the index entries
+   * with.
+   */
+  Schema getSecondaryIndexFieldSchema(String fieldName) {
+    if (!daVinciConfig.getSecondaryIndexFields().contains(fieldName)) {
+      throw new VeniceClientException("Field: " + fieldName + " is not indexed, storeName=" + getStoreName());
+    }
+    return SecondaryIndexExtractor
+        .getProjectedSchema(getBackend().getSchemaRepository(), getStoreName(), Collections.singletonList(fieldName))
+        .getField(fieldName)
+        .schema();
+  }
+
+  private interface PartitionScanner<V> {
+    void scan(VersionBackend versionBackend, int partition, BiConsumer<byte[], V> recordConsumer);
+  }
+
+  /**
+   * Runs the scanner on every ready-to-serve partition of the current version concurrently on the given executor, and
+   * completes the callback once all the partitions are scanned, or with the first failure.
+   */
+  private void scanReadyPartitions(
+      StreamingCallback<K, V> callback,
+      Executor scanExecutor,
+      PartitionScanner<V> scanner) {
+    // The version is held until all the partitions are scanned, so it cannot be deleted by a version swap meanwhile.
+    ReferenceCounted<VersionBackend> versionRef = getStoreBackend().getDaVinciCurrentVersion();
+    VersionBackend versionBackend = versionRef.get();
+    if (versionBackend == null) {
+      versionRef.release();
+      getStoreBackend().getStats().recordBadRequest();
+      callback.onCompletion(
+          Optional.of(new VeniceClientException("Da Vinci client is not subscribed, storeName=" + getStoreName())));
+      return;
+    }
+
+    List<CompletableFuture<Void>> partitionFutures = new ArrayList<>();
+    AtomicReference<Exception> scanFailure = new AtomicReference<>();
+    for (int partition = 0; partition < versionBackend.getPartitionCount(); partition++) {
+      if (!isPartitionReadyToServe(versionBackend, partition)) {
+        continue;
+      }
+      int currPartition = partition;
+      partitionFutures.add(CompletableFuture.runAsync(() -> {
+        try {
+          scanner.scan(versionBackend, currPartition, (keyBytes, value) -> {
+            if (scanFailure.get() != null) {
+              // Stop the iteration of the other partitions once any partition failed.
+              throw new VeniceClientException("Scan is aborted, storeName=" + getStoreName());
+            }
+            callback.onRecordReceived(getKeyDeserializer().deserialize(keyBytes), value);
+          });
+        } catch (Exception e) {
+          scanFailure.compareAndSet(null, e);
+        }
+      }, scanExecutor));
+    }
+
+    CompletableFuture.allOf(partitionFutures.toArray(new CompletableFuture[0])).whenComplete((ignored, throwable) -> {
+      versionRef.release();
+      callback.onCompletion(Optional.ofNullable(scanFailure.get()));
+    });
+  }
+
+  /**
+   * Returns the deserializers of the scan. When a subset of the value fields is requested, the values are deserialized
+   * with a reader schema which only has these fields, so Avro skips the other fields instead of materializing them.
+   */
+  private StoreDeserializerCache<V> getScanDeserializerCache(Set<String> projectedFields) {
+    if (projectedFields.isEmpty()) {
+      return getStoreDeserializerCache();
+    }
+    if (clientConfig.isSpecificClient()) {
+      throw new VeniceClientException("Field projection is not supported by the specific client");
+    }
+    ReadOnlySchemaRepository schemaRepository = getBackend().getSchemaRepository();
+    Schema valueSchema = schemaRepository.getSupersetOrLatestValueSchema(getStoreName()).getSchema();
+    if (RECORD != valueSchema.getType()) {
+      throw new VeniceClientException("Value schema must be of type Record to project fields");
+    }
+    List<Schema.Field> fields = new ArrayList<>(projectedFields.size());
+    for (String fieldName: projectedFields) {
+      Schema.Field field = valueSchema.getField(fieldName);
+      if (field == null) {
+        throw new VeniceClientException("Unknown field: " + fieldName + " in value schema of store: " + getStoreName());
+      }
+      fields.add(AvroCompatibilityHelper.newField(field).build());
+    }
+    Schema projectedSchema =
+        Schema.createRecord(valueSchema.getName(), valueSchema.getDoc(), valueSchema.getNamespace(), false);
+    projectedSchema.setFields(fields);
+
+    Map<Integer, RecordDeserializer<V>> writerSchemaIdToDeserializerMap = new VeniceConcurrentHashMap<>();
+    return new StoreDeserializerCache<V>() {
+      @Override
+      public RecordDeserializer<V> getDeserializer(int writerSchemaId, int readerSchemaId) {
+        return getDeserializer(writerSchemaId);
+      }
+
+      @Override
+      public RecordDeserializer<V> getDeserializer(int writerSchemaId) {
+        return writerSchemaIdToDeserializerMap.computeIfAbsent(
+            writerSchemaId,
+            id -> FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(
+                schemaRepository.getValueSchema(getStoreName(), id).getSchema(),
+                projectedSchema));
+      }
+    };
+  }
+
   private boolean handleCallbackForEmptyKeySet(Set<K> keys, StreamingCallback callback) {
     if (keys.isEmpty()) {
       // no result for empty key set
@@ -688,7 +1179,13 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
     if (kafkaBootstrapServers == null) {
       kafkaBootstrapServers = backendConfig.getString(KAFKA_BOOTSTRAP_SERVERS);
     }
-    VeniceProperties config = new PropertyBuilder().put(KAFKA_ADMIN_CLASS, ApacheKafkaAdminAdapter.class.getName())
+    PropertyBuilder configBuilder = new PropertyBuilder();
+    if (daVinciConfig.isSharedIngestionEnabled()) {
+      // Spreads the partitions of the small stores evenly over the pooled consumers.
+      configBuilder.put(ROCKSDB_SHARED_INSTANCE_ENABLED, true)
+          .put(SERVER_SHARED_CONSUMER_ASSIGNMENT_STRATEGY, PARTITION_WISE_SHARED_CONSUMER_ASSIGNMENT_STRATEGY.name());
+    }
+    VeniceProperties config = configBuilder.put(KAFKA_ADMIN_CLASS, ApacheKafkaAdminAdapter.class.getName())
         .put(ROCKSDB_LEVEL0_FILE_NUM_COMPACTION_TRIGGER, 4) // RocksDB default config
         .put(ROCKSDB_LEVEL0_SLOWDOWN_WRITES_TRIGGER, 20) // RocksDB default config
         .put(ROCKSDB_LEVEL0_STOPS_WRITES_TRIGGER, 36) // RocksDB default config
@@ -706,6 +1203,13 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
                 // We're creating a new record transformer here just to get the schema
                 ? daVinciConfig.getRecordTransformer(0).getValueOutputSchema().toString()
                 : "null")
+        // Used by the isolated ingestion process, while the clients register their fields when they subscribe.
+        .put(
+            ROCKSDB_SECONDARY_INDEX_FIELDS,
+            daVinciConfig.getSecondaryIndexFields()
+                .stream()
+                .map(field -> getStoreName() + ":" + field)
+                .collect(Collectors.joining(",")))
         .put(INGESTION_ISOLATION_CONFIG_PREFIX + "." + INGESTION_MEMORY_LIMIT, -1) // Explicitly disable memory limiter
                                                                                    // in Isolated Process
         .put(backendConfig.toProperties())
@@ -821,6 +1325,9 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
       if (cacheBackend != null) {
         cacheBackend.close();
       }
+      if (ownedReadChunkExecutor != null) {
+        ownedReadChunkExecutor.shutdown();
+      }
       daVinciBackend.release();
       logger.info("Client is closed successfully, storeName=" + getStoreName());
     } catch (Throwable e) {
@@ -44,6 +44,21 @@ public class BlockingDaVinciRecordTransformer<K, V, O> extends DaVinciRecordTran
     }
   }
 
+  public void putBatch(int partition, DaVinciRecordTransformerBatch<K, V, O> batch) {
+    try {
+      // Waiting for onStartIngestionTask to complete before proceeding
+      startLatch.await();
+      this.recordTransformer.putBatch(partition, batch);
+    } catch (InterruptedException e) {
+      // Restore the interrupt status
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  public boolean isBatchTransformationEnabled() {
+    return this.recordTransformer.isBatchTransformationEnabled();
+  }
+
   public O delete(Lazy<K> key) {
     return (O) this.recordTransformer.delete(key);
   }
@@ -1,6 +1,7 @@
 package com.linkedin.davinci.client;
 
 import com.linkedin.venice.client.store.AvroGenericStoreClient;
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
@@ -55,4 +56,59 @@ public interface DaVinciClient<K, V> extends AvroGenericStoreClient<K, V> {
    * @return partition count
    */
   int getPartitionCount();
+
+  /**
+   * Stream the key-value pairs of all the partitions ready to serve locally, optionally restricted to a key range and
+   * to a subset of the value fields.
+   *
+   * The partitions are iterated concurrently on {@link DaVinciScanRequest#getExecutor()}, or on a scan executor shared
+   * by the clients when it is not set, but never on the executor serving the batch gets. The keys of each partition
+   * are delivered in the order of the serialized keys. The callback is invoked synchronously by the iterating threads,
+   * so it must be thread-safe, and a slow callback slows down the iteration instead of buffering the records in memory.
+   *
+   * Each partition is read in chunks of records, and the storage is not locked while the callback handles a chunk, so
+   * a long scan does not hold off the version being closed or dropped; the scan then fails instead.
+   * {@link StreamingCallback#onCompletion} is invoked once all the partitions are scanned, or with the first failure.
+   *
+   * @param scanRequest the key range and the projected fields of the scan
+   * @param callback the callback receiving the records
+   */
+  void scan(DaVinciScanRequest<K> scanRequest, StreamingCallback<K, V> callback);
+
+  /**
+   * Stream the key-value pairs of the local partitions whose indexed field is equal to the given value. The field must
+   * be one of {@link DaVinciConfig#getSecondaryIndexFields()}, and the callback is invoked the same way as
+   * {@link #scan}.
+   *
+   * @param fieldName the indexed value field
+   * @param fieldValue the value to look up, which could be null for a nullable field
+   * @param callback the callback receiving the records
+   */
+  void getBySecondaryIndex(String fieldName, Object fieldValue, StreamingCallback<K, V> callback);
+
+  /**
+   * Stream the key-value pairs of the local partitions whose indexed field is in the range of [startValue, endValue),
+   * in the natural order of the field values inside each partition. A null bound leaves that side of the range open,
+   * and the records with a null field value are never returned.
+   *
+   * @param fieldName the indexed value field
+   * @param startValue the inclusive lower bound, or null
+   * @param endValue the exclusive upper bound, or null
+   * @param callback the callback receiving the records
+   */
+  void getBySecondaryIndexRange(
+      String fieldName,
+      Object startValue,
+      Object endValue,
+      StreamingCallback<K, V> callback);
+
+  /**
+   * Get the values of the keys from a snapshot of each local partition, so that the keys of the same partition are read
+   * from a consistent view of the data while the ingestion keeps writing, no matter whether
+   * {@link DaVinciConfig#isSnapshotReadEnabled()}.
+   *
+   * @param keys the keys to look up
+   * @return a future of the values along with the high watermark offset of each snapshot
+   */
+  CompletableFuture<DaVinciSnapshotBatchGetResult<K, V>> batchGetFromSnapshot(Set<K> keys);
 }
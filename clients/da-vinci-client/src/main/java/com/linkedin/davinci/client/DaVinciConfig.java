@@ -1,6 +1,9 @@
 package com.linkedin.davinci.client;
 
 import com.linkedin.davinci.store.cache.backend.ObjectCacheConfig;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.Function;
 
 
@@ -48,6 +51,44 @@ public class DaVinciConfig {
    */
   private int largeBatchRequestSplitThreshold = AvroGenericDaVinciClient.DEFAULT_CHUNK_SPLIT_THRESHOLD;
 
+  /**
+   * Whether the batch get requests group the keys by partition and look them up with the batch lookup of the storage
+   * engine, and split the request into concurrent chunks sized by the observed read latency and the load of the thread
+   * pool, instead of splitting it into chunks of {@link #largeBatchRequestSplitThreshold} keys.
+   */
+  private boolean adaptiveBatchGetEnabled = false;
+
+  /**
+   * The number of threads dedicated to the large batch requests of this client. When it is 0, the chunks are executed
+   * in a thread pool shared by all the clients of the process.
+   */
+  private int largeBatchRequestThreadCount = 0;
+
+  /**
+   * The value fields to maintain a secondary index for, which can be looked up by
+   * {@link DaVinciClient#getBySecondaryIndex} and {@link DaVinciClient#getBySecondaryIndexRange}. Only supported by
+   * {@link StorageClass#DISK}, and changing the fields of a store re-bootstraps its local data.
+   */
+  private List<String> secondaryIndexFields = Collections.emptyList();
+
+  /**
+   * Whether the batch get and compute requests read each partition from a RocksDB snapshot, so that the keys of the
+   * same partition are read from a consistent view of the data while the ingestion keeps writing. The snapshots are
+   * shared by the concurrent requests for a short window, see
+   * {@link com.linkedin.venice.ConfigKeys#DAVINCI_SNAPSHOT_READ_REUSE_WINDOW_IN_MS}.
+   */
+  private boolean snapshotReadEnabled = false;
+
+  /**
+   * Whether the stores of the process share the ingestion resources, for processes hosting many small stores: the data
+   * partitions of the stores are kept in a single RocksDB instance, see
+   * {@link com.linkedin.davinci.store.rocksdb.RocksDBServerConfig#ROCKSDB_SHARED_INSTANCE_ENABLED}, and the partitions
+   * are spread evenly over the pooled consumers instead of assigning the partitions of a topic to the same consumer.
+   * It applies to the backend of the process, so it should be set for all the clients, and it's not supported with
+   * the ingestion isolation.
+   */
+  private boolean sharedIngestionEnabled = false;
+
   public DaVinciConfig() {
   }
 
@@ -55,7 +96,12 @@ public class DaVinciConfig {
     return new DaVinciConfig().setManaged(isManaged())
         .setIsolated(isIsolated())
         .setStorageClass(getStorageClass())
-        .setCacheConfig(getCacheConfig());
+        .setCacheConfig(getCacheConfig())
+        .setSecondaryIndexFields(getSecondaryIndexFields())
+        .setSnapshotReadEnabled(isSnapshotReadEnabled())
+        .setSharedIngestionEnabled(isSharedIngestionEnabled())
+        .setAdaptiveBatchGetEnabled(isAdaptiveBatchGetEnabled())
+        .setLargeBatchRequestThreadCount(getLargeBatchRequestThreadCount());
   }
 
   @Override
@@ -71,6 +117,16 @@ public class DaVinciConfig {
         .append(cacheConfig)
         .append(", largeBatchRequestSplitThreshold=")
         .append(largeBatchRequestSplitThreshold)
+        .append(", adaptiveBatchGetEnabled=")
+        .append(adaptiveBatchGetEnabled)
+        .append(", largeBatchRequestThreadCount=")
+        .append(largeBatchRequestThreadCount)
+        .append(", secondaryIndexFields=")
+        .append(secondaryIndexFields)
+        .append(", snapshotReadEnabled=")
+        .append(snapshotReadEnabled)
+        .append(", sharedIngestionEnabled=")
+        .append(sharedIngestionEnabled)
         .append("}");
     return sb.toString();
   }
@@ -152,4 +208,60 @@ public class DaVinciConfig {
     this.largeBatchRequestSplitThreshold = largeBatchRequestSplitThreshold;
     return this;
   }
+
+  public boolean isAdaptiveBatchGetEnabled() {
+    return adaptiveBatchGetEnabled;
+  }
+
+  public DaVinciConfig setAdaptiveBatchGetEnabled(boolean adaptiveBatchGetEnabled) {
+    this.adaptiveBatchGetEnabled = adaptiveBatchGetEnabled;
+    return this;
+  }
+
+  public int getLargeBatchRequestThreadCount() {
+    return largeBatchRequestThreadCount;
+  }
+
+  public DaVinciConfig setLargeBatchRequestThreadCount(int largeBatchRequestThreadCount) {
+    if (largeBatchRequestThreadCount < 0) {
+      throw new IllegalArgumentException("'largeBatchRequestThreadCount' param cannot be negative");
+    }
+    this.largeBatchRequestThreadCount = largeBatchRequestThreadCount;
+    return this;
+  }
+
+  public boolean isSecondaryIndexEnabled() {
+    return !secondaryIndexFields.isEmpty();
+  }
+
+  public List<String> getSecondaryIndexFields() {
+    return secondaryIndexFields;
+  }
+
+  /**
+   * The value fields to maintain a secondary index for. They are registered when the client subscribes, which fails if
+   * another client of the same store in this process registered different fields, since they share the local data.
+   */
+  public DaVinciConfig setSecondaryIndexFields(List<String> secondaryIndexFields) {
+    this.secondaryIndexFields = Collections.unmodifiableList(new ArrayList<>(secondaryIndexFields));
+    return this;
+  }
+
+  public boolean isSnapshotReadEnabled() {
+    return snapshotReadEnabled;
+  }
+
+  public DaVinciConfig setSnapshotReadEnabled(boolean snapshotReadEnabled) {
+    this.snapshotReadEnabled = snapshotReadEnabled;
+    return this;
+  }
+
+  public boolean isSharedIngestionEnabled() {
+    return sharedIngestionEnabled;
+  }
+
+  public DaVinciConfig setSharedIngestionEnabled(boolean sharedIngestionEnabled) {
+    this.sharedIngestionEnabled = sharedIngestionEnabled;
+    return this;
+  }
 }
@@ -4,6 +4,8 @@ import com.linkedin.venice.annotation.Experimental;
 import com.linkedin.venice.serializer.AvroSerializer;
 import com.linkedin.venice.utils.lazy.Lazy;
 import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
 import org.apache.avro.Schema;
 
 
@@ -24,11 +26,21 @@ import org.apache.avro.Schema;
  */
 @Experimental
 public abstract class DaVinciRecordTransformer<K, V, O> {
+  /**
+   * The schema id prepended to the serialized values. It is only read by {@link AvroSerializer}.
+   */
+  private static final ByteBuffer SCHEMA_ID_HEADER = ByteBuffer.allocate(Integer.BYTES).putInt(0, 1);
+
   /**
    * Version of the store of when the transformer is initialized.
    */
   private final int storeVersion;
 
+  /**
+   * The output schema rarely changes, so the last used serializer is kept instead of looking it up per record.
+   */
+  private volatile CachedSerializer<V> cachedSerializer;
+
   public DaVinciRecordTransformer(int storeVersion) {
     this.storeVersion = storeVersion;
   }
@@ -49,6 +61,37 @@ public abstract class DaVinciRecordTransformer<K, V, O> {
    */
   public abstract O put(Lazy<K> key, Lazy<V> value);
 
+  /**
+   * Transforms a batch of records of one partition, which are consumed from the version topic. The batches are
+   * transformed one at a time on a thread dedicated to the version, apart from the threads consuming and writing the
+   * records, and the batches of the same partition are transformed in the order they are consumed. This is only used
+   * when {@link #isBatchTransformationEnabled()}.
+   *
+   * By default, each record is transformed with {@link #put}. This can be overridden to transform the records of the
+   * batch together, e.g. to derive the features of all the records at once.
+   *
+   * @param partition of the records
+   * @param batch the keys and values of the records, whose outputs are to be set to the objects to keep in storage
+   */
+  public void putBatch(int partition, DaVinciRecordTransformerBatch<K, V, O> batch) {
+    List<Lazy<K>> keys = batch.getKeys();
+    List<Lazy<V>> values = batch.getValues();
+    for (int i = 0; i < batch.size(); i++) {
+      batch.setOutput(i, put(keys.get(i), values.get(i)));
+    }
+  }
+
+  /**
+   * Whether the records are transformed with {@link #putBatch} as soon as a batch of them is consumed, rather than one
+   * at a time with {@link #put} right before each of them is written. The records which are found to be duplicates
+   * after they are consumed are then transformed despite not being written.
+   *
+   * By default, it is disabled.
+   */
+  public boolean isBatchTransformationEnabled() {
+    return false;
+  }
+
   /**
    * By default, deletes will proceed. This can be overridden if some deleted records should be kept.
    *
@@ -82,17 +125,20 @@ public abstract class DaVinciRecordTransformer<K, V, O> {
   /**
    * Takes a value, serializes it and wrap it in a ByteByffer.
    *
+   * The serializer of the schema is reused across the records, and the value is serialized right after the schema id
+   * header, so that each record only allocates its output buffer.
+   *
    * @param schema the Avro schema defining the serialization format
    * @param value value the value to be serialized
    * @return a ByteBuffer containing the serialized value wrapped according to Avro specifications
    */
   public final ByteBuffer getValueBytes(Schema schema, V value) {
-    ByteBuffer transformedBytes = ByteBuffer.wrap(new AvroSerializer(schema).serialize(value));
-    ByteBuffer newBuffer = ByteBuffer.allocate(Integer.BYTES + transformedBytes.remaining());
-    newBuffer.putInt(1);
-    newBuffer.put(transformedBytes);
-    newBuffer.flip();
-    return newBuffer;
+    CachedSerializer<V> serializer = cachedSerializer;
+    if (serializer == null || serializer.schema != schema) {
+      serializer = new CachedSerializer<>(schema);
+      cachedSerializer = serializer;
+    }
+    return ByteBuffer.wrap(serializer.serializer.serializeObjects(Collections.singletonList(value), SCHEMA_ID_HEADER));
   }
 
   /**
@@ -102,4 +148,14 @@ public abstract class DaVinciRecordTransformer<K, V, O> {
   public final int getStoreVersion() {
     return storeVersion;
   }
+
+  private static class CachedSerializer<V> {
+    private final Schema schema;
+    private final AvroSerializer<V> serializer;
+
+    private CachedSerializer(Schema schema) {
+      this.schema = schema;
+      this.serializer = new AvroSerializer<>(schema);
+    }
+  }
 }
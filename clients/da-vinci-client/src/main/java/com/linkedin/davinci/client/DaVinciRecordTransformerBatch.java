@@ -0,0 +1,58 @@
+package com.linkedin.davinci.client;
+
+import com.linkedin.venice.annotation.Experimental;
+import com.linkedin.venice.utils.lazy.Lazy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * A batch of records of one partition, handed over to {@link DaVinciRecordTransformer#putBatch}.
+ *
+ * The records are kept in columns: the keys, the values and the outputs of the same record are at the same index, in
+ * the order the records are consumed.
+ *
+ * @param <K> type of the input key
+ * @param <V> type of the input value
+ * @param <O> type of the output value
+ */
+@Experimental
+public class DaVinciRecordTransformerBatch<K, V, O> {
+  private final List<Lazy<K>> keys = new ArrayList<>();
+  private final List<Lazy<V>> values = new ArrayList<>();
+  private final List<O> outputs = new ArrayList<>();
+
+  /**
+   * Appends a record to the batch, whose output is null until it is set by the transformer.
+   */
+  public void add(Lazy<K> key, Lazy<V> value) {
+    keys.add(key);
+    values.add(value);
+    outputs.add(null);
+  }
+
+  public int size() {
+    return keys.size();
+  }
+
+  public List<Lazy<K>> getKeys() {
+    return Collections.unmodifiableList(keys);
+  }
+
+  public List<Lazy<V>> getValues() {
+    return Collections.unmodifiableList(values);
+  }
+
+  /**
+   * @param index of the record in the batch
+   * @param output the object to keep in storage for the record
+   */
+  public void setOutput(int index, O output) {
+    outputs.set(index, output);
+  }
+
+  public O getOutput(int index) {
+    return outputs.get(index);
+  }
+}
@@ -0,0 +1,79 @@
+package com.linkedin.davinci.client;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+
+/**
+ * Options of {@link DaVinciClient#scan}.
+ *
+ * The key range is applied to the serialized keys in their unsigned byte order, which is the order of the keys inside
+ * each partition, so a range of a record key schema does not generally match the order of the key fields.
+ */
+public class DaVinciScanRequest<K> {
+  /**
+   * The inclusive lower bound of the keys to scan, or null to scan from the first key of each partition.
+   */
+  private K startKey;
+
+  /**
+   * The exclusive upper bound of the keys to scan, or null to scan up to the last key of each partition.
+   */
+  private K endKey;
+
+  /**
+   * The value fields to deserialize, or an empty set to deserialize the whole value. Only supported by the generic
+   * client with a record value schema.
+   */
+  private Set<String> projectedFields = Collections.emptySet();
+
+  /**
+   * The executor to scan the partitions and to invoke the callback on, or null to use the scan executor shared by the
+   * Da Vinci clients, which is separate from the executor of the batch gets.
+   */
+  private Executor executor;
+
+  public K getStartKey() {
+    return startKey;
+  }
+
+  public DaVinciScanRequest<K> setStartKey(K startKey) {
+    this.startKey = startKey;
+    return this;
+  }
+
+  public K getEndKey() {
+    return endKey;
+  }
+
+  public DaVinciScanRequest<K> setEndKey(K endKey) {
+    this.endKey = endKey;
+    return this;
+  }
+
+  public Set<String> getProjectedFields() {
+    return projectedFields;
+  }
+
+  public DaVinciScanRequest<K> setProjectedFields(Set<String> projectedFields) {
+    this.projectedFields = Collections.unmodifiableSet(new LinkedHashSet<>(projectedFields));
+    return this;
+  }
+
+  public Executor getExecutor() {
+    return executor;
+  }
+
+  public DaVinciScanRequest<K> setExecutor(Executor executor) {
+    this.executor = executor;
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return "DaVinciScanRequest{startKey=" + startKey + ", endKey=" + endKey + ", projectedFields=" + projectedFields
+        + "}";
+  }
+}
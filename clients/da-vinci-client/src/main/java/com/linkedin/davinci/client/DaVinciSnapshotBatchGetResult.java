@@ -0,0 +1,36 @@
+package com.linkedin.davinci.client;
+
+import java.util.Collections;
+import java.util.Map;
+
+
+/**
+ * Result of {@link DaVinciClient#batchGetFromSnapshot}.
+ *
+ * The values of the same partition are read from one snapshot of the local data, and the high watermark of each
+ * snapshot is the local version topic offset of the latest record known to be included in it, which could be used to
+ * reason about the freshness of the values. The values of different partitions are read from different snapshots.
+ */
+public class DaVinciSnapshotBatchGetResult<K, V> {
+  private final Map<K, V> values;
+  private final Map<Integer, Long> partitionToHighWatermarkOffset;
+
+  public DaVinciSnapshotBatchGetResult(Map<K, V> values, Map<Integer, Long> partitionToHighWatermarkOffset) {
+    this.values = values;
+    this.partitionToHighWatermarkOffset = Collections.unmodifiableMap(partitionToHighWatermarkOffset);
+  }
+
+  /**
+   * @return the values of the keys which exist in the snapshots.
+   */
+  public Map<K, V> getValues() {
+    return values;
+  }
+
+  /**
+   * @return the high watermark offset of the snapshot of each partition which the requested keys belong to.
+   */
+  public Map<Integer, Long> getPartitionToHighWatermarkOffset() {
+    return partitionToHighWatermarkOffset;
+  }
+}
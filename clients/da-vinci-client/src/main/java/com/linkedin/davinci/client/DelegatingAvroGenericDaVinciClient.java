@@ -52,6 +52,30 @@ public class DelegatingAvroGenericDaVinciClient<K, V>
     return delegate.getPartitionCount();
   }
 
+  @Override
+  public void scan(DaVinciScanRequest<K> scanRequest, StreamingCallback<K, V> callback) {
+    delegate.scan(scanRequest, callback);
+  }
+
+  @Override
+  public void getBySecondaryIndex(String fieldName, Object fieldValue, StreamingCallback<K, V> callback) {
+    delegate.getBySecondaryIndex(fieldName, fieldValue, callback);
+  }
+
+  @Override
+  public void getBySecondaryIndexRange(
+      String fieldName,
+      Object startValue,
+      Object endValue,
+      StreamingCallback<K, V> callback) {
+    delegate.getBySecondaryIndexRange(fieldName, startValue, endValue, callback);
+  }
+
+  @Override
+  public CompletableFuture<DaVinciSnapshotBatchGetResult<K, V>> batchGetFromSnapshot(Set<K> keys) {
+    return delegate.batchGetFromSnapshot(keys);
+  }
+
   @Override
   public CompletableFuture<V> get(K key) throws VeniceClientException {
     return delegate.get(key);
@@ -1,19 +1,24 @@
 package com.linkedin.davinci.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.davinci.store.rocksdb.RocksDBServerConfig;
 import com.linkedin.venice.exceptions.ConfigurationException;
 import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.utils.ObjectMapperFactory;
 import com.linkedin.venice.utils.PropertyBuilder;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileReader;
 import java.io.FileWriter;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -79,6 +84,7 @@ public class VeniceConfigLoader {
 
   private final VeniceServerConfig veniceServerConfig;
   private final VeniceProperties combinedProperties;
+  private final Map<String, List<String>> storeToSecondaryIndexFields = new VeniceConcurrentHashMap<>();
 
   public VeniceConfigLoader(VeniceProperties properties) {
     this(properties, VeniceProperties.empty());
@@ -111,12 +117,35 @@ public class VeniceConfigLoader {
 
   public VeniceStoreVersionConfig getStoreConfig(String pubsubTopicName) {
     VeniceProperties storeProperties = combinedProperties.getStoreProperties(pubsubTopicName);
-    return new VeniceStoreVersionConfig(pubsubTopicName, storeProperties, veniceServerConfig.getKafkaClusterMap());
+    return applySecondaryIndexFields(
+        new VeniceStoreVersionConfig(pubsubTopicName, storeProperties, veniceServerConfig.getKafkaClusterMap()));
   }
 
   public VeniceStoreVersionConfig getStoreConfig(String pubsubTopicName, PersistenceType storePersistenceType) {
     VeniceProperties storeProperties = combinedProperties.getStoreProperties(pubsubTopicName);
-    return new VeniceStoreVersionConfig(pubsubTopicName, storeProperties, storePersistenceType);
+    return applySecondaryIndexFields(
+        new VeniceStoreVersionConfig(pubsubTopicName, storeProperties, storePersistenceType));
+  }
+
+  /**
+   * Registers the value fields to maintain a secondary index for in the store configs created afterwards, which take
+   * precedence over {@link RocksDBServerConfig#ROCKSDB_SECONDARY_INDEX_FIELDS}. The first registration of a store wins.
+   *
+   * @return the fields registered for the store, which differ from the given ones if it was registered with others
+   */
+  public List<String> registerSecondaryIndexFields(String storeName, List<String> secondaryIndexFields) {
+    return storeToSecondaryIndexFields.computeIfAbsent(
+        storeName,
+        s -> Collections.unmodifiableList(new ArrayList<>(secondaryIndexFields)));
+  }
+
+  private VeniceStoreVersionConfig applySecondaryIndexFields(VeniceStoreVersionConfig storeConfig) {
+    List<String> secondaryIndexFields =
+        storeToSecondaryIndexFields.get(Version.parseStoreFromKafkaTopicName(storeConfig.getStoreVersionName()));
+    if (secondaryIndexFields != null) {
+      storeConfig.setSecondaryIndexFields(secondaryIndexFields);
+    }
+    return storeConfig;
   }
 
   /**
@@ -5,6 +5,11 @@ import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_TOT
 import static com.linkedin.venice.ConfigConstants.DEFAULT_MAX_RECORD_SIZE_BYTES_BACKFILL;
 import static com.linkedin.venice.ConfigKeys.AUTOCREATE_DATA_PATH;
 import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_MANAGER_ENABLED;
+import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_MAX_BANDWIDTH_IN_BYTES_PER_SECOND;
+import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_MAX_CONCURRENT_RANGES_PER_PARTITION;
+import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_MAX_PEERS_PER_PARTITION;
+import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_PARALLEL_MODE_ENABLED;
+import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_RANGE_SIZE_IN_BYTES;
 import static com.linkedin.venice.ConfigKeys.DATA_BASE_PATH;
 import static com.linkedin.venice.ConfigKeys.DAVINCI_P2P_BLOB_TRANSFER_CLIENT_PORT;
 import static com.linkedin.venice.ConfigKeys.DAVINCI_P2P_BLOB_TRANSFER_SERVER_PORT;
@@ -54,6 +59,7 @@ import static com.linkedin.venice.ConfigKeys.SERVER_AA_WC_WORKLOAD_PARALLEL_PROC
 import static com.linkedin.venice.ConfigKeys.SERVER_AA_WC_WORKLOAD_PARALLEL_PROCESSING_THREAD_POOL_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_BATCH_REPORT_END_OF_INCREMENTAL_PUSH_STATUS_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_BLOCKING_QUEUE_TYPE;
+import static com.linkedin.venice.ConfigKeys.SERVER_BULK_LOAD_SST_DIR;
 import static com.linkedin.venice.ConfigKeys.SERVER_CHANNEL_OPTION_WRITE_BUFFER_WATERMARK_HIGH_BYTES;
 import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_FAST_AVRO_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_QUEUE_CAPACITY;
@@ -64,6 +70,8 @@ import static com.linkedin.venice.ConfigKeys.SERVER_CONSUMER_POOL_SIZE_FOR_CURRE
 import static com.linkedin.venice.ConfigKeys.SERVER_CONSUMER_POOL_SIZE_FOR_NON_CURRENT_VERSION_AA_WC_LEADER;
 import static com.linkedin.venice.ConfigKeys.SERVER_CONSUMER_POOL_SIZE_FOR_NON_CURRENT_VERSION_NON_AA_WC_LEADER;
 import static com.linkedin.venice.ConfigKeys.SERVER_CONSUMER_POOL_SIZE_PER_KAFKA_CLUSTER;
+import static com.linkedin.venice.ConfigKeys.SERVER_CONSUMPTION_PRIORITY_SCHEDULING_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_CONSUMPTION_PRIORITY_SCHEDULING_INTERVAL_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_CURRENT_VERSION_AA_WC_LEADER_QUOTA_RECORDS_PER_SECOND;
 import static com.linkedin.venice.ConfigKeys.SERVER_CURRENT_VERSION_NON_AA_WC_LEADER_QUOTA_RECORDS_PER_SECOND;
 import static com.linkedin.venice.ConfigKeys.SERVER_DATABASE_CHECKSUM_VERIFICATION_ENABLED;
@@ -165,6 +173,7 @@ import static com.linkedin.venice.pubsub.PubSubConstants.PUBSUB_TOPIC_MANAGER_ME
 import static com.linkedin.venice.utils.ByteUtils.BYTES_PER_MB;
 import static com.linkedin.venice.utils.ByteUtils.generateHumanReadableByteCountString;
 
+import com.linkedin.davinci.blobtransfer.ParallelBlobTransferConfig;
 import com.linkedin.davinci.helix.LeaderFollowerPartitionStateModelFactory;
 import com.linkedin.davinci.kafka.consumer.KafkaConsumerService;
 import com.linkedin.davinci.kafka.consumer.KafkaConsumerServiceDelegator;
@@ -193,6 +202,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -532,8 +542,11 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final boolean recordLevelMetricWhenBootstrappingCurrentVersionEnabled;
   private final String identityParserClassName;
   private final boolean blobTransferManagerEnabled;
+  private final String bulkLoadSstDir;
   private final int dvcP2pBlobTransferServerPort;
   private final int dvcP2pBlobTransferClientPort;
+  private final Optional<ParallelBlobTransferConfig> parallelBlobTransferConfig;
+  private final long blobTransferMaxBandwidthInBytesPerSecond;
   private final boolean daVinciCurrentVersionBootstrappingSpeedupEnabled;
   private final long daVinciCurrentVersionBootstrappingQuotaRecordsPerSecond;
   private final long daVinciCurrentVersionBootstrappingQuotaBytesPerSecond;
@@ -548,6 +561,8 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final boolean aaWCWorkloadParallelProcessingEnabled;
   private final int aaWCWorkloadParallelProcessingThreadPoolSize;
   private final boolean isGlobalRtDivEnabled;
+  private final boolean consumptionPrioritySchedulingEnabled;
+  private final long consumptionPrioritySchedulingIntervalMs;
 
   public VeniceServerConfig(VeniceProperties serverProperties) throws ConfigurationException {
     this(serverProperties, Collections.emptyMap());
@@ -571,9 +586,21 @@ public class VeniceServerConfig extends VeniceClusterConfig {
         serverProperties.getInt(MAX_LEADER_FOLLOWER_STATE_TRANSITION_THREAD_NUMBER, 20);
 
     blobTransferManagerEnabled = serverProperties.getBoolean(BLOB_TRANSFER_MANAGER_ENABLED, false);
+    bulkLoadSstDir = serverProperties.getString(SERVER_BULK_LOAD_SST_DIR, (String) null);
     dvcP2pBlobTransferServerPort = serverProperties.getInt(DAVINCI_P2P_BLOB_TRANSFER_SERVER_PORT, -1);
     dvcP2pBlobTransferClientPort =
         serverProperties.getInt(DAVINCI_P2P_BLOB_TRANSFER_CLIENT_PORT, dvcP2pBlobTransferServerPort);
+    if (serverProperties.getBoolean(BLOB_TRANSFER_PARALLEL_MODE_ENABLED, false)) {
+      parallelBlobTransferConfig = Optional.of(
+          new ParallelBlobTransferConfig(
+              serverProperties.getInt(BLOB_TRANSFER_MAX_PEERS_PER_PARTITION, 4),
+              serverProperties.getInt(BLOB_TRANSFER_MAX_CONCURRENT_RANGES_PER_PARTITION, 8),
+              serverProperties.getSizeInBytes(BLOB_TRANSFER_RANGE_SIZE_IN_BYTES, 64 * 1024 * 1024)));
+    } else {
+      parallelBlobTransferConfig = Optional.empty();
+    }
+    blobTransferMaxBandwidthInBytesPerSecond =
+        serverProperties.getSizeInBytes(BLOB_TRANSFER_MAX_BANDWIDTH_IN_BYTES_PER_SECOND, 0);
 
     String lfThreadPoolStrategyStr = serverProperties.getString(
         LEADER_FOLLOWER_STATE_TRANSITION_THREAD_POOL_STRATEGY,
@@ -918,6 +945,10 @@ public class VeniceServerConfig extends VeniceClusterConfig {
         serverProperties.getBoolean(SERVER_AA_WC_WORKLOAD_PARALLEL_PROCESSING_ENABLED, false);
     aaWCWorkloadParallelProcessingThreadPoolSize =
         serverProperties.getInt(SERVER_AA_WC_WORKLOAD_PARALLEL_PROCESSING_THREAD_POOL_SIZE, 8);
+    consumptionPrioritySchedulingEnabled =
+        serverProperties.getBoolean(SERVER_CONSUMPTION_PRIORITY_SCHEDULING_ENABLED, false);
+    consumptionPrioritySchedulingIntervalMs =
+        serverProperties.getLong(SERVER_CONSUMPTION_PRIORITY_SCHEDULING_INTERVAL_MS, TimeUnit.SECONDS.toMillis(1));
   }
 
   long extractIngestionMemoryLimit(
@@ -1027,6 +1058,24 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return blobTransferManagerEnabled;
   }
 
+  /**
+   * @return the dir of the SST files of the bulk load pushes, or null if bulk load is disabled
+   */
+  public String getBulkLoadSstDir() {
+    return bulkLoadSstDir;
+  }
+
+  /**
+   * @return the config of the parallel blob transfer mode, or empty if the parallel mode is disabled
+   */
+  public Optional<ParallelBlobTransferConfig> getParallelBlobTransferConfig() {
+    return parallelBlobTransferConfig;
+  }
+
+  public long getBlobTransferMaxBandwidthInBytesPerSecond() {
+    return blobTransferMaxBandwidthInBytesPerSecond;
+  }
+
   /**
    * Get base path of Venice storage data.
    *
@@ -1667,4 +1716,12 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   public boolean isGlobalRtDivEnabled() {
     return isGlobalRtDivEnabled;
   }
+
+  public boolean isConsumptionPrioritySchedulingEnabled() {
+    return consumptionPrioritySchedulingEnabled;
+  }
+
+  public long getConsumptionPrioritySchedulingIntervalMs() {
+    return consumptionPrioritySchedulingIntervalMs;
+  }
 }
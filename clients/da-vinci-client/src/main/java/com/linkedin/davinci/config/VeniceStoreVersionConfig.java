@@ -1,14 +1,18 @@
 package com.linkedin.davinci.config;
 
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_PLAIN_TABLE_FORMAT_ENABLED;
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_SECONDARY_INDEX_FIELDS;
 import static com.linkedin.venice.ConfigKeys.ENABLE_BLOB_TRANSFER;
 
+import com.linkedin.davinci.store.rocksdb.RocksDBServerConfig;
 import com.linkedin.venice.exceptions.ConfigurationException;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.utils.PropertyBuilder;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -26,12 +30,14 @@ public class VeniceStoreVersionConfig extends VeniceServerConfig {
    */
   private Optional<PersistenceType> storePersistenceType = Optional.empty();
 
-  private final VeniceProperties persistStorageEngineConfigs;
+  private VeniceProperties persistStorageEngineConfigs;
   // TODO: Store level bdb configuration, need to create StoreStorageConfig abstract class and extend from that
 
   private boolean restoreDataPartitions = true;
   private boolean restoreMetadataPartition = true;
   private boolean blobTransferEnabled;
+  private List<String> secondaryIndexFields;
+  private boolean secondaryIndexFieldsRegistered = false;
 
   public VeniceStoreVersionConfig(
       String storeVersionName,
@@ -41,10 +47,21 @@ public class VeniceStoreVersionConfig extends VeniceServerConfig {
     this.storeVersionName = storeVersionName;
     this.blobTransferEnabled = storeProperties.getBoolean(ENABLE_BLOB_TRANSFER, false);
 
-    // Stores all storage engine configs that are needed to be persisted to disk.
-    this.persistStorageEngineConfigs = new PropertyBuilder()
-        .put(ROCKSDB_PLAIN_TABLE_FORMAT_ENABLED, getRocksDBServerConfig().isRocksDBPlainTableFormatEnabled())
-        .build();
+    this.secondaryIndexFields =
+        getRocksDBServerConfig().getSecondaryIndexFields(Version.parseStoreFromKafkaTopicName(storeVersionName));
+    this.persistStorageEngineConfigs = buildPersistStorageEngineConfigs();
+  }
+
+  /**
+   * Stores all storage engine configs that are needed to be persisted to disk.
+   */
+  private VeniceProperties buildPersistStorageEngineConfigs() {
+    PropertyBuilder persistStorageEngineConfigBuilder = new PropertyBuilder()
+        .put(ROCKSDB_PLAIN_TABLE_FORMAT_ENABLED, getRocksDBServerConfig().isRocksDBPlainTableFormatEnabled());
+    if (!secondaryIndexFields.isEmpty()) {
+      persistStorageEngineConfigBuilder.put(ROCKSDB_SECONDARY_INDEX_FIELDS, String.join(",", secondaryIndexFields));
+    }
+    return persistStorageEngineConfigBuilder.build();
   }
 
   public VeniceStoreVersionConfig(String storeVersionName, VeniceProperties storeProperties)
@@ -132,4 +149,29 @@ public class VeniceStoreVersionConfig extends VeniceServerConfig {
   public VeniceProperties getPersistStorageEngineConfig() {
     return persistStorageEngineConfigs;
   }
+
+  /**
+   * @return the value fields of the store to maintain a secondary index for, or an empty list if the store has none.
+   */
+  public List<String> getSecondaryIndexFields() {
+    return secondaryIndexFields;
+  }
+
+  /**
+   * Overrides the fields of {@link RocksDBServerConfig#ROCKSDB_SECONDARY_INDEX_FIELDS} with the ones registered for the
+   * store, see {@link VeniceConfigLoader#registerSecondaryIndexFields}.
+   */
+  public void setSecondaryIndexFields(List<String> secondaryIndexFields) {
+    this.secondaryIndexFields = secondaryIndexFields;
+    this.secondaryIndexFieldsRegistered = true;
+    this.persistStorageEngineConfigs = buildPersistStorageEngineConfigs();
+  }
+
+  /**
+   * @return false if the secondary index fields only come from the backend config, in which case the store could have
+   *         been indexed with other fields by a client which has not subscribed yet.
+   */
+  public boolean isSecondaryIndexFieldsRegistered() {
+    return secondaryIndexFieldsRegistered;
+  }
 }
@@ -0,0 +1,202 @@
+package com.linkedin.davinci.consumer;
+
+import com.linkedin.venice.pubsub.adapter.kafka.ApacheKafkaOffsetPosition;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+
+/**
+ * The change events returned by {@link VeniceChangelogConsumer#pollBatch(long)}.
+ *
+ * The keys and values are only deserialized when they are accessed, so pipelines which pass the events through, or
+ * which don't look at the previous values, can read the serialized bytes instead and skip the deserialization. The
+ * batch and its entries are reused by the next call to pollBatch of the same consumer, so the events must be consumed,
+ * or copied, before polling again.
+ */
+public class ChangeEventBatch<K, V> {
+  /**
+   * The schema id of a value which doesn't exist, e.g. the current value of a delete.
+   */
+  public static final int NO_VALUE_SCHEMA_ID = -1;
+
+  private final RecordDeserializer<K> keyDeserializer;
+  private final BiFunction<ByteBuffer, Integer, V> valueDeserializer;
+  private final List<Entry<K, V>> entries = new ArrayList<>();
+  private int size = 0;
+  private boolean endOfBootstrap = false;
+
+  ChangeEventBatch(RecordDeserializer<K> keyDeserializer, BiFunction<ByteBuffer, Integer, V> valueDeserializer) {
+    this.keyDeserializer = keyDeserializer;
+    this.valueDeserializer = valueDeserializer;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public byte[] getKeyBytes(int index) {
+    return getEntry(index).keyBytes;
+  }
+
+  public K getKey(int index) {
+    Entry<K, V> entry = getEntry(index);
+    if (entry.key == null) {
+      entry.key = keyDeserializer.deserialize(entry.keyBytes);
+    }
+    return entry.key;
+  }
+
+  /**
+   * @return the serialized current value without the schema header, which is decompressed, or null if the key was
+   *         deleted.
+   */
+  public ByteBuffer getCurrentValueBytes(int index) {
+    return getEntry(index).currentValueBytes;
+  }
+
+  public int getCurrentValueSchemaId(int index) {
+    return getEntry(index).currentValueSchemaId;
+  }
+
+  public V getCurrentValue(int index) {
+    Entry<K, V> entry = getEntry(index);
+    if (entry.currentValue == null && entry.currentValueBytes != null) {
+      entry.currentValue = valueDeserializer.apply(entry.currentValueBytes, entry.currentValueSchemaId);
+    }
+    return entry.currentValue;
+  }
+
+  /**
+   * @return the serialized previous value without the schema header, or null if the key didn't exist or if the events
+   *         are consumed from a topic which doesn't carry the previous values.
+   */
+  public ByteBuffer getPreviousValueBytes(int index) {
+    return getEntry(index).previousValueBytes;
+  }
+
+  public int getPreviousValueSchemaId(int index) {
+    return getEntry(index).previousValueSchemaId;
+  }
+
+  public V getPreviousValue(int index) {
+    Entry<K, V> entry = getEntry(index);
+    if (entry.previousValue == null && entry.previousValueBytes != null) {
+      entry.previousValue = valueDeserializer.apply(entry.previousValueBytes, entry.previousValueSchemaId);
+    }
+    return entry.previousValue;
+  }
+
+  public PubSubTopicPartition getTopicPartition(int index) {
+    return getEntry(index).topicPartition;
+  }
+
+  public int getPartition(int index) {
+    return getEntry(index).topicPartition.getPartitionNumber();
+  }
+
+  public long getOffset(int index) {
+    return getEntry(index).offset;
+  }
+
+  public VeniceChangeCoordinate getCoordinate(int index) {
+    Entry<K, V> entry = getEntry(index);
+    return new VeniceChangeCoordinate(
+        entry.topicPartition.getPubSubTopic().getName(),
+        new ApacheKafkaOffsetPosition(entry.offset),
+        entry.topicPartition.getPartitionNumber());
+  }
+
+  public long getPubSubMessageTime(int index) {
+    return getEntry(index).timestamp;
+  }
+
+  public int getPayloadSize(int index) {
+    return getEntry(index).payloadSize;
+  }
+
+  /**
+   * @return true if this is the last batch replayed from the local state of a bootstrapping consumer, which is flagged
+   *         on the batch instead of by the marker record which {@link VeniceChangelogConsumer#poll(long)} returns.
+   */
+  public boolean isEndOfBootstrap() {
+    return endOfBootstrap;
+  }
+
+  void setEndOfBootstrap(boolean endOfBootstrap) {
+    this.endOfBootstrap = endOfBootstrap;
+  }
+
+  void clear() {
+    for (int i = 0; i < size; i++) {
+      // Drop the references, so the polled records can be garbage collected.
+      entries.get(i).reset();
+    }
+    size = 0;
+    endOfBootstrap = false;
+  }
+
+  void add(
+      byte[] keyBytes,
+      ByteBuffer currentValueBytes,
+      int currentValueSchemaId,
+      ByteBuffer previousValueBytes,
+      int previousValueSchemaId,
+      PubSubTopicPartition topicPartition,
+      long offset,
+      long timestamp,
+      int payloadSize) {
+    if (size == entries.size()) {
+      entries.add(new Entry<>());
+    }
+    Entry<K, V> entry = entries.get(size++);
+    entry.keyBytes = keyBytes;
+    entry.currentValueBytes = currentValueBytes;
+    entry.currentValueSchemaId = currentValueBytes == null ? NO_VALUE_SCHEMA_ID : currentValueSchemaId;
+    entry.previousValueBytes = previousValueBytes;
+    entry.previousValueSchemaId = previousValueBytes == null ? NO_VALUE_SCHEMA_ID : previousValueSchemaId;
+    entry.topicPartition = topicPartition;
+    entry.offset = offset;
+    entry.timestamp = timestamp;
+    entry.payloadSize = payloadSize;
+  }
+
+  private Entry<K, V> getEntry(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+    }
+    return entries.get(index);
+  }
+
+  private static class Entry<K, V> {
+    byte[] keyBytes;
+    ByteBuffer currentValueBytes;
+    int currentValueSchemaId;
+    ByteBuffer previousValueBytes;
+    int previousValueSchemaId;
+    PubSubTopicPartition topicPartition;
+    long offset;
+    long timestamp;
+    int payloadSize;
+    K key;
+    V currentValue;
+    V previousValue;
+
+    void reset() {
+      keyBytes = null;
+      currentValueBytes = null;
+      previousValueBytes = null;
+      topicPartition = null;
+      key = null;
+      currentValue = null;
+      previousValue = null;
+    }
+  }
+}
@@ -34,6 +34,20 @@ public class ChangelogClientConfig<T extends SpecificRecord> {
    */
   private long rocksDBBlockCacheSizeInBytes = 1024 * 1024L;
 
+  /**
+   * Whether BootstrappingVeniceChangelogConsumer seeds the partitions without local state from a snapshot of the
+   * current version, which is fetched from the hosts serving it via the P2P blob transfer, and then only consumes the
+   * records after the snapshot. It falls back to consuming the whole version topic if a snapshot cannot be fetched.
+   */
+  private boolean blobTransferBootstrapEnabled = false;
+  private int blobTransferServerPort;
+  private int blobTransferClientPort;
+
+  /**
+   * The max number of partitions which are seeded from snapshots concurrently. Default is 4.
+   */
+  private int blobTransferBootstrapParallelism = 4;
+
   public ChangelogClientConfig(String storeName) {
     this.innerClientConfig = new ClientConfig<>(storeName);
   }
@@ -187,6 +201,42 @@ public class ChangelogClientConfig<T extends SpecificRecord> {
     return this;
   }
 
+  public boolean isBlobTransferBootstrapEnabled() {
+    return blobTransferBootstrapEnabled;
+  }
+
+  public ChangelogClientConfig setBlobTransferBootstrapEnabled(boolean blobTransferBootstrapEnabled) {
+    this.blobTransferBootstrapEnabled = blobTransferBootstrapEnabled;
+    return this;
+  }
+
+  public int getBlobTransferServerPort() {
+    return blobTransferServerPort;
+  }
+
+  public ChangelogClientConfig setBlobTransferServerPort(int blobTransferServerPort) {
+    this.blobTransferServerPort = blobTransferServerPort;
+    return this;
+  }
+
+  public int getBlobTransferClientPort() {
+    return blobTransferClientPort;
+  }
+
+  public ChangelogClientConfig setBlobTransferClientPort(int blobTransferClientPort) {
+    this.blobTransferClientPort = blobTransferClientPort;
+    return this;
+  }
+
+  public int getBlobTransferBootstrapParallelism() {
+    return blobTransferBootstrapParallelism;
+  }
+
+  public ChangelogClientConfig setBlobTransferBootstrapParallelism(int blobTransferBootstrapParallelism) {
+    this.blobTransferBootstrapParallelism = blobTransferBootstrapParallelism;
+    return this;
+  }
+
   public ChangelogClientConfig setSpecificValue(Class<T> specificValue) {
     this.innerClientConfig.setSpecificValueClass(specificValue);
     return this;
@@ -207,7 +257,11 @@ public class ChangelogClientConfig<T extends SpecificRecord> {
         .setVersionSwapDetectionIntervalTimeInMs(config.getVersionSwapDetectionIntervalTimeInMs())
         .setRocksDBBlockCacheSizeInBytes(config.getRocksDBBlockCacheSizeInBytes())
         .setConsumerName(config.consumerName)
-        .setDatabaseSyncBytesInterval(config.getDatabaseSyncBytesInterval());
+        .setDatabaseSyncBytesInterval(config.getDatabaseSyncBytesInterval())
+        .setBlobTransferBootstrapEnabled(config.isBlobTransferBootstrapEnabled())
+        .setBlobTransferServerPort(config.getBlobTransferServerPort())
+        .setBlobTransferClientPort(config.getBlobTransferClientPort())
+        .setBlobTransferBootstrapParallelism(config.getBlobTransferBootstrapParallelism());
     return newConfig;
   }
 }
@@ -12,8 +12,11 @@ import static com.linkedin.venice.ConfigKeys.DATA_BASE_PATH;
 import static com.linkedin.venice.pubsub.PubSubConstants.getPubsubOffsetApiTimeoutDurationDefaultValue;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.linkedin.davinci.blobtransfer.BlobTransferManager;
+import com.linkedin.davinci.blobtransfer.BlobTransferUtil;
 import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.config.VeniceConfigLoader;
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
 import com.linkedin.davinci.stats.AggVersionedStorageEngineStats;
 import com.linkedin.davinci.stats.RocksDBMemoryStats;
 import com.linkedin.davinci.storage.StorageEngineMetadataService;
@@ -24,6 +27,8 @@ import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.client.change.capture.protocol.RecordChangeEvent;
 import com.linkedin.venice.client.store.ClientConfig;
 import com.linkedin.venice.client.store.ClientFactory;
+import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.exceptions.StoreVersionNotFoundException;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.protocol.ControlMessage;
 import com.linkedin.venice.kafka.protocol.VersionSwap;
@@ -31,6 +36,8 @@ import com.linkedin.venice.kafka.protocol.enums.ControlMessageType;
 import com.linkedin.venice.kafka.protocol.state.PartitionState;
 import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
 import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.offsets.OffsetRecord;
 import com.linkedin.venice.pubsub.adapter.kafka.ApacheKafkaOffsetPosition;
 import com.linkedin.venice.pubsub.api.PubSubConsumerAdapter;
@@ -41,6 +48,7 @@ import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.service.AbstractVeniceService;
 import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.PropertyBuilder;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
@@ -51,10 +59,14 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
@@ -82,8 +94,10 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
 
   private StorageService storageService;
   private StorageMetadataService storageMetadataService;
+  private BlobTransferManager<Void> blobTransferManager;
   private boolean isStarted = false;
   private int bootstrapCompletedCount = 0;
+  private long catchUpStartTimeInMs;
 
   public InternalLocalBootstrappingVeniceChangelogConsumer(
       ChangelogClientConfig changelogClientConfig,
@@ -250,6 +264,50 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
     return super.internalPoll(timeoutInMs, topicSuffix);
   }
 
+  /**
+   * Polls like {@link #internalPoll(long, String)}: the partitions which are in BOOTSTRAPPING state are replayed from
+   * the local state first, one partition per batch, and the end of the bootstrap is flagged on the last replayed batch.
+   */
+  @Override
+  protected ChangeEventBatch<K, V> internalPollBatch(long timeoutInMs, String topicSuffix) {
+    if (!isStarted) {
+      throw new VeniceException("Client isn't started yet!!");
+    }
+    for (Map.Entry<Integer, BootstrapState> state: bootstrapStateMap.entrySet()) {
+      if (state.getValue().bootstrapState.equals(PollState.BOOTSTRAPPING)) {
+        ChangeEventBatch<K, V> batch = getClearedChangeEventBatch();
+        AtomicBoolean completed = new AtomicBoolean(false);
+        storageService.getStorageEngine(localStateTopicName)
+            .getByKeyPrefix(state.getKey(), null, new BytesStreamingCallback() {
+              @Override
+              public void onRecordReceived(byte[] key, byte[] value) {
+                batch.add(
+                    key,
+                    ValueRecord.parseDataAsNIOByteBuffer(value),
+                    ValueRecord.parseSchemaId(value),
+                    null,
+                    ChangeEventBatch.NO_VALUE_SCHEMA_ID,
+                    getTopicPartition(state.getKey()),
+                    0,
+                    0,
+                    value.length * 8);
+              }
+
+              @Override
+              public void onCompletion() {
+                batch.setEndOfBootstrap(completeBootstrap(state.getValue()));
+                completed.set(true);
+              }
+            });
+        if (!completed.get()) {
+          throw new VeniceException("Interrupted while reading local bootstrap data!");
+        }
+        return batch;
+      }
+    }
+    return super.internalPollBatch(timeoutInMs, topicSuffix);
+  }
+
   /**
    * This method flushes data partition on disk and syncs the underlying database with {@link OffsetRecord}.
    */
@@ -320,10 +378,7 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
       BootstrapState state,
       Collection<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> resultSet,
       AtomicBoolean completed) {
-    // Update the map so that we're no longer in bootstrap mode
-    state.bootstrapState = PollState.CONSUMING;
-    bootstrapCompletedCount++;
-    if (bootstrapCompletedCount == bootstrapStateMap.size()) {
+    if (completeBootstrap(state)) {
       // Add a dummy record to mark the end of the bootstrap.
       resultSet.add(new ImmutableChangeCapturePubSubMessage<>(null, null, getTopicPartition(partition), 0, 0, 0, true));
     }
@@ -332,6 +387,17 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
     completed.set(true);
   }
 
+  /**
+   * Moves a partition whose local state has been replayed out of bootstrap mode.
+   *
+   * @return true if all the partitions have been replayed, i.e. the bootstrap is complete.
+   */
+  private boolean completeBootstrap(BootstrapState state) {
+    state.bootstrapState = PollState.CONSUMING;
+    bootstrapCompletedCount++;
+    return bootstrapCompletedCount == bootstrapStateMap.size();
+  }
+
   @VisibleForTesting
   int getBootstrapCompletedCount() {
     return bootstrapCompletedCount;
@@ -413,6 +479,170 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
     return deserializedValue;
   }
 
+  /**
+   * Seeds the local state of the partitions which have no local checkpoint yet from snapshots of the current version,
+   * fetched from the hosts serving it via the P2P blob transfer, so that only the records after the snapshots need to
+   * be consumed. The partitions are seeded concurrently, and the ones which fail are bootstrapped from pubsub.
+   */
+  private void seedPartitionsFromBlobs(Set<Integer> partitions) {
+    if (blobTransferManager == null) {
+      return;
+    }
+    List<Integer> partitionsToSeed = new ArrayList<>();
+    for (Integer partition: partitions) {
+      OffsetRecord offsetRecord = storageMetadataService.getLastOffset(localStateTopicName, partition);
+      if (StringUtils.isEmpty(offsetRecord.getDatabaseInfo().get(CHANGE_CAPTURE_COORDINATE))) {
+        partitionsToSeed.add(partition);
+      }
+    }
+    if (partitionsToSeed.isEmpty()) {
+      return;
+    }
+
+    String versionTopic = getTopicPartition(partitionsToSeed.get(0)).getPubSubTopic().getName();
+    Store store = storeRepository.getStore(storeName);
+    if (store == null || !Version.isVersionTopic(versionTopic) || !store.isBlobTransferEnabled()) {
+      LOGGER.info("Blob transfer isn't available for topic: {}, bootstrapping from pubsub", versionTopic);
+      return;
+    }
+    Version version;
+    try {
+      version = store.getVersionOrThrow(Version.parseVersionFromVersionTopicName(versionTopic));
+    } catch (StoreVersionNotFoundException e) {
+      // The version could have been retired since the topic was picked, in which case pubsub still has the records.
+      LOGGER.warn("Version of topic: {} isn't found, bootstrapping from pubsub", versionTopic, e);
+      return;
+    }
+    if (version.isChunkingEnabled()) {
+      // The chunks would need to be reassembled while copying the snapshot, which isn't supported yet.
+      LOGGER.info("Topic: {} is chunked, bootstrapping from pubsub", versionTopic);
+      return;
+    }
+
+    int parallelism =
+        Math.max(1, Math.min(changelogClientConfig.getBlobTransferBootstrapParallelism(), partitionsToSeed.size()));
+    ExecutorService executor =
+        Executors.newFixedThreadPool(parallelism, new DaemonThreadFactory("Changelog_Blob_Bootstrap_" + storeName));
+    try {
+      CompletableFuture[] seedFutures = new CompletableFuture[partitionsToSeed.size()];
+      for (int i = 0; i < partitionsToSeed.size(); i++) {
+        int partition = partitionsToSeed.get(i);
+        seedFutures[i] = CompletableFuture.runAsync(() -> seedPartitionFromBlobs(versionTopic, partition), executor);
+      }
+      CompletableFuture.allOf(seedFutures).join();
+    } finally {
+      executor.shutdownNow();
+      if (storageService.getStorageEngine(versionTopic) != null) {
+        // Removes the snapshots along with their metadata.
+        storageService.removeStorageEngine(versionTopic);
+      }
+    }
+  }
+
+  private void seedPartitionFromBlobs(String versionTopic, int partition) {
+    long startTimeInMs = System.currentTimeMillis();
+    VeniceStoreVersionConfig snapshotConfig = configLoader.getStoreConfig(versionTopic, PersistenceType.ROCKS_DB);
+    try {
+      AbstractStorageEngine snapshotEngine =
+          storageService.openStoreForNewPartition(snapshotConfig, partition, () -> null);
+      // The transferred files replace the ones of the partition, so it must not be open in the meantime.
+      snapshotEngine.closePartition(partition);
+      blobTransferManager.get(storeName, Version.parseVersionFromVersionTopicName(versionTopic), partition)
+          .toCompletableFuture()
+          .get();
+      long snapshotOffset = storageMetadataService.getLastOffset(versionTopic, partition).getLocalVersionTopicOffset();
+      if (snapshotOffset < 0) {
+        throw new VeniceException("The snapshot of partition: " + partition + " comes without its offset");
+      }
+      snapshotEngine = storageService.openStoreForNewPartition(snapshotConfig, partition, () -> null);
+      long recordCount =
+          copySnapshotToLocalState(snapshotEngine, partition, getVersionCompressor(getTopicPartition(partition)));
+
+      // The catch-up starts right after the snapshot.
+      BootstrapState seededState = new BootstrapState();
+      seededState.currentPubSubPosition =
+          new VeniceChangeCoordinate(versionTopic, new ApacheKafkaOffsetPosition(snapshotOffset), partition);
+      syncOffset(partition, seededState);
+      LOGGER.info(
+          "Seeded partition: {} with {} records from the snapshot of topic: {} at offset: {} in {} ms",
+          partition,
+          recordCount,
+          versionTopic,
+          snapshotOffset,
+          System.currentTimeMillis() - startTimeInMs);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      LOGGER.warn("Interrupted while seeding partition: {} from blobs, bootstrapping from pubsub", partition);
+    } catch (Exception e) {
+      // The records copied so far are overwritten while replaying the version topic from the beginning.
+      LOGGER.warn("Failed to seed partition: {} from blobs, bootstrapping from pubsub", partition, e);
+    } finally {
+      storageService.dropStorePartition(snapshotConfig, partition, false);
+    }
+  }
+
+  /**
+   * Copies the records of a version snapshot to the local state, which stores the values uncompressed.
+   */
+  private long copySnapshotToLocalState(
+      AbstractStorageEngine snapshotEngine,
+      int partition,
+      VeniceCompressor compressor) {
+    AbstractStorageEngine localStateEngine = storageService.getStorageEngine(localStateTopicName);
+    AtomicLong recordCount = new AtomicLong();
+    snapshotEngine.getByKeyPrefix(partition, null, new BytesStreamingCallback() {
+      @Override
+      public void onRecordReceived(byte[] key, byte[] value) {
+        ByteBuffer decompressedValue;
+        try {
+          decompressedValue = compressor.decompress(ValueRecord.parseDataAsNIOByteBuffer(value));
+        } catch (IOException e) {
+          throw new VeniceException("Failed to decompress the value from the snapshot of partition: " + partition, e);
+        }
+        localStateEngine.put(
+            partition,
+            key,
+            ValueRecord.create(ValueRecord.parseSchemaId(value), ByteUtils.extractByteArray(decompressedValue))
+                .serialize());
+        recordCount.incrementAndGet();
+      }
+
+      @Override
+      public void onCompletion() {
+      }
+    });
+    return recordCount.get();
+  }
+
+  /**
+   * Records the share of the records between the local checkpoints and the targets which have been consumed, and the
+   * time left to consume the rest at the rate observed so far.
+   */
+  private void recordCatchUpProgress() {
+    if (changeCaptureStats == null) {
+      return;
+    }
+    long totalRecordCount = 0;
+    long consumedRecordCount = 0;
+    for (BootstrapState state: bootstrapStateMap.values()) {
+      long startOffset = getOffset(state.startPubSubPosition);
+      long targetOffset = getOffset(state.targetPubSubPosition);
+      totalRecordCount += Math.max(0, targetOffset - startOffset);
+      consumedRecordCount += Math.max(0, Math.min(getOffset(state.currentPubSubPosition), targetOffset) - startOffset);
+    }
+    if (totalRecordCount == 0) {
+      changeCaptureStats.recordBootstrapProgress(100);
+      changeCaptureStats.recordBootstrapEtaInSeconds(0);
+      return;
+    }
+    changeCaptureStats.recordBootstrapProgress(100.0 * consumedRecordCount / totalRecordCount);
+    if (consumedRecordCount > 0) {
+      long elapsedTimeInMs = System.currentTimeMillis() - catchUpStartTimeInMs;
+      long remainingTimeInMs = (totalRecordCount - consumedRecordCount) * elapsedTimeInMs / consumedRecordCount;
+      changeCaptureStats.recordBootstrapEtaInSeconds(TimeUnit.MILLISECONDS.toSeconds(remainingTimeInMs));
+    }
+  }
+
   public CompletableFuture<Void> seekWithBootStrap(Set<Integer> partitions) {
     return CompletableFuture.supplyAsync(() -> {
       // Seek everything to tail in order to get the high offset
@@ -428,6 +658,10 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
             configLoader.getStoreConfig(localStateTopicName, PersistenceType.ROCKS_DB),
             partition,
             () -> null);
+      }
+      seedPartitionsFromBlobs(partitions);
+
+      for (Integer partition: partitions) {
         // Get the last persisted Offset record from metadata service
         OffsetRecord offsetRecord = storageMetadataService.getLastOffset(localStateTopicName, partition);
         // Where we're at now
@@ -465,6 +699,7 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
 
         synchronized (bootstrapStateMap) {
           BootstrapState newState = new BootstrapState();
+          newState.startPubSubPosition = localCheckpoint;
           newState.currentPubSubPosition = localCheckpoint;
           newState.targetPubSubPosition = targetCheckpoint;
           newState.bootstrapState = newState.isCaughtUp() ? PollState.BOOTSTRAPPING : PollState.CATCHING_UP;
@@ -482,6 +717,7 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
       }
 
       // Poll until we've caught up completely for all subscribed partitions.
+      catchUpStartTimeInMs = System.currentTimeMillis();
       while (bootstrapStateMap.entrySet()
           .stream()
           .anyMatch(s -> s.getValue().bootstrapState.equals(PollState.CATCHING_UP))) {
@@ -491,7 +727,9 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
          * to further tweak it based on config.
          */
         pollAndCatchup(5000L, "");
+        recordCatchUpProgress();
       }
+      recordCatchUpProgress();
 
       LOGGER.info("Bootstrap completed!");
       this.isStarted = true;
@@ -511,6 +749,15 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
     } catch (InterruptedException e) {
       throw new RuntimeException(e);
     }
+    if (changelogClientConfig.isBlobTransferBootstrapEnabled() && blobTransferManager == null) {
+      // It is null if the blob transfer cannot be started, in which case the partitions are bootstrapped from pubsub.
+      blobTransferManager = BlobTransferUtil.getP2PBlobTransferManagerForDVCAndStart(
+          changelogClientConfig.getBlobTransferServerPort(),
+          changelogClientConfig.getBlobTransferClientPort(),
+          configLoader.getVeniceServerConfig().getRocksDBPath(),
+          changelogClientConfig.getInnerClientConfig(),
+          storageMetadataService);
+    }
 
     return seekWithBootStrap(partitions);
   }
@@ -526,12 +773,21 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
 
   @Override
   public void stop() throws Exception {
+    if (blobTransferManager != null) {
+      blobTransferManager.close();
+      blobTransferManager = null;
+    }
     storageService.stop();
     ((AbstractVeniceService) storageMetadataService).stop();
     storeRepository.clear();
     LOGGER.info("Successfully stopped the BootstrappingVeniceChangelogConsumer");
   }
 
+  @VisibleForTesting
+  void setBlobTransferManager(BlobTransferManager<Void> blobTransferManager) {
+    this.blobTransferManager = blobTransferManager;
+  }
+
   @VisibleForTesting
   void setStorageAndMetadataService(StorageService storageService, StorageMetadataService storageMetadataService) {
     this.storageService = storageService;
@@ -551,6 +807,7 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
 
   static class BootstrapState {
     PollState bootstrapState;
+    VeniceChangeCoordinate startPubSubPosition;
     VeniceChangeCoordinate currentPubSubPosition;
     VeniceChangeCoordinate targetPubSubPosition;
     long processedRecordSizeSinceLastSync;
@@ -66,6 +66,11 @@ public class VeniceAfterImageConsumerImpl<K, V> extends VeniceChangelogConsumerI
     return internalPoll(timeoutInMs, "");
   }
 
+  @Override
+  public ChangeEventBatch<K, V> pollBatch(long timeoutInMs) {
+    return internalPollBatch(timeoutInMs, "");
+  }
+
   @Override
   public CompletableFuture<Void> seekToTimestamps(Map<Integer, Long> timestamps) {
     return internalSeekToTimestamps(timestamps, "");
@@ -199,6 +199,19 @@ public interface VeniceChangelogConsumer<K, V> {
    */
   Collection<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> poll(long timeoutInMs);
 
+  /**
+   * Polling function like {@link #poll(long)}, which returns the messages as a {@link ChangeEventBatch} instead. The
+   * keys and values of the batch are deserialized on access only, and their serialized bytes can be read directly,
+   * which avoids allocating a message and deserializing every record for the pipelines which pass the records through.
+   *
+   * @param timeoutInMs The maximum time to block/wait in between two polling requests (must not be greater than
+   *        {@link Long#MAX_VALUE} milliseconds)
+   * @return the messages since the last fetch for the subscribed list of topic partitions. The returned batch is reused
+   *         by the next call to this function, so it must not be accessed after polling again.
+   * @throws a VeniceException if polling operation fails
+   */
+  ChangeEventBatch<K, V> pollBatch(long timeoutInMs);
+
   /**
    * Checks whether all subscribed partitions are caught up during bootstrap. If a partition's (currentTimestamp - latestMessageTimestamp)
    * is smaller or equal to 1 min, we consider this partition is caught up.
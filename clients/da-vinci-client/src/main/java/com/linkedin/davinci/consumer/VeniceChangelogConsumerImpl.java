@@ -43,6 +43,7 @@ import com.linkedin.venice.schema.SchemaReader;
 import com.linkedin.venice.schema.rmd.RmdSchemaEntry;
 import com.linkedin.venice.schema.rmd.RmdUtils;
 import com.linkedin.venice.serialization.AvroStoreDeserializerCache;
+import com.linkedin.venice.serialization.RawBytesStoreDeserializerCache;
 import com.linkedin.venice.serialization.StoreDeserializerCache;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serialization.avro.AvroSpecificStoreDeserializerCache;
@@ -68,6 +69,8 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.avro.Schema;
@@ -125,6 +128,7 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
   protected final ChunkAssembler chunkAssembler;
 
   protected final BasicConsumerStats changeCaptureStats;
+  private ChangeEventBatch<K, V> changeEventBatch;
   protected final HeartbeatReporterThread heartbeatReporterThread;
 
   public VeniceChangelogConsumerImpl(
@@ -573,11 +577,76 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
     return internalPoll(timeoutInMs, ChangeCaptureView.CHANGE_CAPTURE_TOPIC_SUFFIX);
   }
 
+  @Override
+  public ChangeEventBatch<K, V> pollBatch(long timeoutInMs) {
+    return internalPollBatch(timeoutInMs, ChangeCaptureView.CHANGE_CAPTURE_TOPIC_SUFFIX);
+  }
+
   protected Collection<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> internalPoll(
       long timeoutInMs,
       String topicSuffix,
       boolean includeControlMessage) {
     List<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> pubSubMessages = new ArrayList<>();
+    pollAndHandleMessages(timeoutInMs, topicSuffix, message -> {
+      if (includeControlMessage) {
+        pubSubMessages.add(
+            new ImmutableChangeCapturePubSubMessage<>(
+                null,
+                null,
+                message.getTopicPartition(),
+                message.getOffset(),
+                0,
+                0,
+                false));
+      }
+    },
+        (message, pubSubTopicPartition) -> convertPubSubMessageToPubSubChangeEventMessage(
+            message,
+            pubSubTopicPartition).ifPresent(pubSubMessages::add));
+    if (changeCaptureStats != null) {
+      changeCaptureStats.recordRecordsConsumed(pubSubMessages.size());
+    }
+    return pubSubMessages;
+  }
+
+  /**
+   * Polls like {@link #internalPoll(long, String)}, but fills the reused {@link ChangeEventBatch} of this consumer with
+   * the serialized keys and values instead of deserializing them.
+   */
+  protected ChangeEventBatch<K, V> internalPollBatch(long timeoutInMs, String topicSuffix) {
+    ChangeEventBatch<K, V> changeEventBatch = getClearedChangeEventBatch();
+    pollAndHandleMessages(
+        timeoutInMs,
+        topicSuffix,
+        message -> {},
+        (message, pubSubTopicPartition) -> addPubSubMessageToBatch(message, pubSubTopicPartition, changeEventBatch));
+    if (changeCaptureStats != null) {
+      changeCaptureStats.recordRecordsConsumed(changeEventBatch.size());
+    }
+    return changeEventBatch;
+  }
+
+  /**
+   * @return the {@link ChangeEventBatch} of this consumer, emptied so that it can be filled by the next poll.
+   */
+  protected ChangeEventBatch<K, V> getClearedChangeEventBatch() {
+    if (changeEventBatch == null) {
+      changeEventBatch = new ChangeEventBatch<>(keyDeserializer, this::deserializeValueFromBytes);
+    }
+    changeEventBatch.clear();
+    return changeEventBatch;
+  }
+
+  /**
+   * Polls the pubsub consumer and handles the control messages. The data messages are passed to
+   * {@code dataMessageHandler}, and the control messages which don't switch to another topic to
+   * {@code controlMessageHandler}.
+   */
+  private void pollAndHandleMessages(
+      long timeoutInMs,
+      String topicSuffix,
+      Consumer<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> controlMessageHandler,
+      BiConsumer<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>, PubSubTopicPartition> dataMessageHandler) {
     Map<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> messagesMap;
     synchronized (pubSubConsumer) {
       messagesMap = pubSubConsumer.poll(timeoutInMs);
@@ -598,29 +667,12 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
               message.getValue().getProducerMetadata().getMessageTimestamp())) {
             break;
           }
-          if (includeControlMessage) {
-            pubSubMessages.add(
-                new ImmutableChangeCapturePubSubMessage<>(
-                    null,
-                    null,
-                    message.getTopicPartition(),
-                    message.getOffset(),
-                    0,
-                    0,
-                    false));
-          }
-
+          controlMessageHandler.accept(message);
         } else {
-          Optional<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> pubSubMessage =
-              convertPubSubMessageToPubSubChangeEventMessage(message, pubSubTopicPartition);
-          pubSubMessage.ifPresent(pubSubMessages::add);
+          dataMessageHandler.accept(message, pubSubTopicPartition);
         }
       }
     }
-    if (changeCaptureStats != null) {
-      changeCaptureStats.recordRecordsConsumed(pubSubMessages.size());
-    }
-    return pubSubMessages;
   }
 
   void maybeUpdatePartitionToBootstrapMap(
@@ -713,105 +765,20 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
               message.getPayloadSize(),
               false));
 
-      try {
-        replicationCheckpoint = extractOffsetVectorFromMessage(
-            delete.getSchemaId(),
-            delete.getReplicationMetadataVersionId(),
-            delete.getReplicationMetadataPayload());
-      } catch (Exception e) {
-        LOGGER.info(
-            "Encounter RMD extraction exception for delete OP. partition={}, offset={}, key={}, rmd={}, rmd_id={}",
-            message.getPartition(),
-            message.getOffset(),
-            keyDeserializer.deserialize(keyBytes),
-            delete.getReplicationMetadataPayload(),
-            delete.getReplicationMetadataVersionId(),
-            e);
-        RmdSchemaEntry rmdSchema =
-            replicationMetadataSchemaRepository.getReplicationMetadataSchemaById(storeName, delete.getSchemaId());
-        LOGGER.info("Using: {} {} {}", rmdSchema.getId(), rmdSchema.getValueSchemaID(), rmdSchema.getSchemaStr());
-        throw e;
-      }
-
+      replicationCheckpoint = extractDeleteReplicationCheckpoint(message, delete);
       partitionToDeleteMessageCount.computeIfAbsent(message.getPartition(), x -> new AtomicLong(0)).incrementAndGet();
     }
     if (messageType.equals(MessageType.PUT)) {
-      Put put = (Put) message.getValue().payloadUnion;
-      // Select appropriate deserializers
-      Lazy deserializerProvider;
-      int readerSchemaId;
-      if (pubSubTopicPartition.getPubSubTopic().isVersionTopic()) {
-        deserializerProvider = Lazy.of(() -> storeDeserializerCache.getDeserializer(put.schemaId, put.schemaId));
-        readerSchemaId = put.schemaId;
-      } else {
-        deserializerProvider = Lazy.of(() -> recordChangeDeserializer);
-        readerSchemaId = this.schemaReader.getLatestValueSchemaId();
-      }
-
-      // Select compressor. We'll only construct compressors for version topics so this will return null for
-      // events from change capture. This is fine as today they are not compressed.
-      VeniceCompressor compressor;
-      if (pubSubTopicPartition.getPubSubTopic().isVersionTopic()) {
-        compressor = compressorMap.get(pubSubTopicPartition.getPartitionNumber());
-      } else {
-        compressor = NO_OP_COMPRESSOR;
-      }
-
-      assembledObject = chunkAssembler.bufferAndAssembleRecord(
-          pubSubTopicPartition,
-          put.getSchemaId(),
-          keyBytes,
-          put.getPutValue(),
-          message.getOffset(),
-          deserializerProvider,
-          readerSchemaId,
-          compressor);
+      assembledObject = assemblePutValue(message, pubSubTopicPartition, false);
       if (assembledObject == null) {
         // bufferAndAssembleRecord may have only buffered records and not returned anything yet because
         // it's waiting for more input. In this case, just return an empty optional for now.
         return Optional.empty();
       }
-      try {
-        assembledObject = processRecordBytes(
-            compressor.decompress(put.getPutValue()),
-            assembledObject,
-            keyBytes,
-            put.getPutValue(),
-            pubSubTopicPartition,
-            readerSchemaId,
-            message.getOffset());
-      } catch (Exception ex) {
-        throw new VeniceException(ex);
-      }
-      if (assembledObject instanceof RecordChangeEvent) {
-        recordChangeEvent = (RecordChangeEvent) assembledObject;
-        replicationCheckpoint = recordChangeEvent.replicationCheckpointVector;
-      } else {
-        try {
-          replicationCheckpoint = extractOffsetVectorFromMessage(
-              put.getSchemaId(),
-              put.getReplicationMetadataVersionId(),
-              put.getReplicationMetadataPayload());
-        } catch (Exception e) {
-          LOGGER.info(
-              "Encounter RMD extraction exception for PUT OP. partition={}, offset={}, key={}, value={}, rmd={}, rmd_id={}",
-              message.getPartition(),
-              message.getOffset(),
-              keyDeserializer.deserialize(keyBytes),
-              assembledObject,
-              put.getReplicationMetadataPayload(),
-              put.getReplicationMetadataVersionId(),
-              e);
-          RmdSchemaEntry rmdSchema =
-              replicationMetadataSchemaRepository.getReplicationMetadataSchemaById(storeName, put.getSchemaId());
-          LOGGER.info("Using: {} {} {}", rmdSchema.getId(), rmdSchema.getValueSchemaID(), rmdSchema.getSchemaStr());
-          throw e;
-        }
-      }
-
       // Now that we've assembled the object, we need to extract the replication vector depending on if it's from VT
       // or from the record change event. Records from VT 'typically' don't have an offset vector, but they will in
       // repush scenarios (which we want to be opaque to the user and filter accordingly).
+      replicationCheckpoint = extractPutReplicationCheckpoint(message, assembledObject);
       int payloadSize = message.getPayloadSize();
       if (assembledObject instanceof RecordChangeEvent) {
         recordChangeEvent = (RecordChangeEvent) assembledObject;
@@ -846,6 +813,179 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
     return pubSubChangeEventMessage;
   }
 
+  /**
+   * Fills the batch with the serialized key and values of a data message, unless it is filtered out or it is a chunk of
+   * a value which isn't complete yet.
+   */
+  private void addPubSubMessageToBatch(
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> message,
+      PubSubTopicPartition pubSubTopicPartition,
+      ChangeEventBatch<K, V> batch) {
+    byte[] keyBytes = message.getKey().getKey();
+    MessageType messageType = MessageType.valueOf(message.getValue());
+    ByteBuffer currentValueBytes = null;
+    int currentValueSchemaId = ChangeEventBatch.NO_VALUE_SCHEMA_ID;
+    ByteBuffer previousValueBytes = null;
+    int previousValueSchemaId = ChangeEventBatch.NO_VALUE_SCHEMA_ID;
+    List<Long> replicationCheckpoint;
+    if (messageType.equals(MessageType.DELETE)) {
+      replicationCheckpoint = extractDeleteReplicationCheckpoint(message, (Delete) message.getValue().payloadUnion);
+      partitionToDeleteMessageCount.computeIfAbsent(message.getPartition(), x -> new AtomicLong(0)).incrementAndGet();
+    } else if (messageType.equals(MessageType.PUT)) {
+      Object assembledObject = assemblePutValue(message, pubSubTopicPartition, true);
+      if (assembledObject == null) {
+        return;
+      }
+      replicationCheckpoint = extractPutReplicationCheckpoint(message, assembledObject);
+      if (assembledObject instanceof RecordChangeEvent) {
+        RecordChangeEvent recordChangeEvent = (RecordChangeEvent) assembledObject;
+        if (recordChangeEvent.currentValue != null && recordChangeEvent.currentValue.getSchemaId() > 0) {
+          currentValueBytes = recordChangeEvent.currentValue.getValue();
+          currentValueSchemaId = recordChangeEvent.currentValue.getSchemaId();
+          currentValuePayloadSize[pubSubTopicPartition.getPartitionNumber()] = currentValueBytes.array().length;
+        }
+        if (recordChangeEvent.previousValue != null && recordChangeEvent.previousValue.getSchemaId() > 0) {
+          previousValueBytes = recordChangeEvent.previousValue.getValue();
+          previousValueSchemaId = recordChangeEvent.previousValue.getSchemaId();
+        }
+      } else {
+        currentValueBytes = (ByteBuffer) assembledObject;
+        currentValueSchemaId = ((Put) message.getValue().payloadUnion).getSchemaId();
+      }
+      partitionToPutMessageCount.computeIfAbsent(message.getPartition(), x -> new AtomicLong(0)).incrementAndGet();
+    } else {
+      return;
+    }
+
+    if (filterRecordByVersionSwapHighWatermarks(replicationCheckpoint, pubSubTopicPartition)) {
+      return;
+    }
+    batch.add(
+        keyBytes,
+        currentValueBytes,
+        currentValueSchemaId,
+        previousValueBytes,
+        previousValueSchemaId,
+        pubSubTopicPartition,
+        message.getOffset(),
+        message.getPubSubMessageTime(),
+        message.getPayloadSize());
+  }
+
+  /**
+   * Assembles the value of a put message. The value of a version topic record is deserialized, or only decompressed if
+   * {@code rawValue} is true, and the change events of a change capture topic are deserialized into
+   * {@link RecordChangeEvent} either way.
+   *
+   * @return the assembled value, or null if the message is a chunk of a value which isn't complete yet.
+   */
+  private Object assemblePutValue(
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> message,
+      PubSubTopicPartition pubSubTopicPartition,
+      boolean rawValue) {
+    Put put = (Put) message.getValue().payloadUnion;
+    byte[] keyBytes = message.getKey().getKey();
+    // Select appropriate deserializers
+    Lazy deserializerProvider;
+    int readerSchemaId;
+    if (pubSubTopicPartition.getPubSubTopic().isVersionTopic()) {
+      deserializerProvider = rawValue
+          ? Lazy.of(() -> RawBytesStoreDeserializerCache.getInstance().getDeserializer(put.schemaId, put.schemaId))
+          : Lazy.of(() -> storeDeserializerCache.getDeserializer(put.schemaId, put.schemaId));
+      readerSchemaId = put.schemaId;
+    } else {
+      deserializerProvider = Lazy.of(() -> recordChangeDeserializer);
+      readerSchemaId = this.schemaReader.getLatestValueSchemaId();
+    }
+
+    // Select compressor. We'll only construct compressors for version topics so this will return null for
+    // events from change capture. This is fine as today they are not compressed.
+    VeniceCompressor compressor;
+    if (pubSubTopicPartition.getPubSubTopic().isVersionTopic()) {
+      compressor = compressorMap.get(pubSubTopicPartition.getPartitionNumber());
+    } else {
+      compressor = NO_OP_COMPRESSOR;
+    }
+
+    Object assembledObject = chunkAssembler.bufferAndAssembleRecord(
+        pubSubTopicPartition,
+        put.getSchemaId(),
+        keyBytes,
+        put.getPutValue(),
+        message.getOffset(),
+        deserializerProvider,
+        readerSchemaId,
+        compressor);
+    if (assembledObject == null) {
+      return null;
+    }
+    try {
+      return processRecordBytes(
+          compressor.decompress(put.getPutValue()),
+          assembledObject,
+          keyBytes,
+          put.getPutValue(),
+          pubSubTopicPartition,
+          readerSchemaId,
+          message.getOffset());
+    } catch (Exception ex) {
+      throw new VeniceException(ex);
+    }
+  }
+
+  private List<Long> extractPutReplicationCheckpoint(
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> message,
+      Object assembledObject) {
+    if (assembledObject instanceof RecordChangeEvent) {
+      return ((RecordChangeEvent) assembledObject).replicationCheckpointVector;
+    }
+    Put put = (Put) message.getValue().payloadUnion;
+    try {
+      return extractOffsetVectorFromMessage(
+          put.getSchemaId(),
+          put.getReplicationMetadataVersionId(),
+          put.getReplicationMetadataPayload());
+    } catch (Exception e) {
+      LOGGER.info(
+          "Encounter RMD extraction exception for PUT OP. partition={}, offset={}, key={}, value={}, rmd={}, rmd_id={}",
+          message.getPartition(),
+          message.getOffset(),
+          keyDeserializer.deserialize(message.getKey().getKey()),
+          assembledObject,
+          put.getReplicationMetadataPayload(),
+          put.getReplicationMetadataVersionId(),
+          e);
+      RmdSchemaEntry rmdSchema =
+          replicationMetadataSchemaRepository.getReplicationMetadataSchemaById(storeName, put.getSchemaId());
+      LOGGER.info("Using: {} {} {}", rmdSchema.getId(), rmdSchema.getValueSchemaID(), rmdSchema.getSchemaStr());
+      throw e;
+    }
+  }
+
+  private List<Long> extractDeleteReplicationCheckpoint(
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> message,
+      Delete delete) {
+    try {
+      return extractOffsetVectorFromMessage(
+          delete.getSchemaId(),
+          delete.getReplicationMetadataVersionId(),
+          delete.getReplicationMetadataPayload());
+    } catch (Exception e) {
+      LOGGER.info(
+          "Encounter RMD extraction exception for delete OP. partition={}, offset={}, key={}, rmd={}, rmd_id={}",
+          message.getPartition(),
+          message.getOffset(),
+          keyDeserializer.deserialize(message.getKey().getKey()),
+          delete.getReplicationMetadataPayload(),
+          delete.getReplicationMetadataVersionId(),
+          e);
+      RmdSchemaEntry rmdSchema =
+          replicationMetadataSchemaRepository.getReplicationMetadataSchemaById(storeName, delete.getSchemaId());
+      LOGGER.info("Using: {} {} {}", rmdSchema.getId(), rmdSchema.getValueSchemaID(), rmdSchema.getSchemaStr());
+      throw e;
+    }
+  }
+
   protected List<Long> extractOffsetVectorFromMessage(
       int valueSchemaId,
       int rmdProtocolId,
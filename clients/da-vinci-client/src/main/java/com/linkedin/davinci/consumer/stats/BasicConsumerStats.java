@@ -14,6 +14,8 @@ public class BasicConsumerStats extends AbstractVeniceStats {
   private final Sensor maximumConsumingVersion;
 
   private final Sensor minimumConsumingVersion;
+  private final Sensor bootstrapProgressSensor;
+  private final Sensor bootstrapEtaSensor;
 
   public BasicConsumerStats(MetricsRepository metricsRepository, String name) {
     super(metricsRepository, name);
@@ -21,6 +23,8 @@ public class BasicConsumerStats extends AbstractVeniceStats {
     recordsConsumed = registerSensor("records_consumed", new Avg(), new Max());
     maximumConsumingVersion = registerSensor("maximum_consuming_version", new Gauge());
     minimumConsumingVersion = registerSensor("minimum_consuming_version", new Gauge());
+    bootstrapProgressSensor = registerSensor("bootstrap_progress_percentage", new Gauge());
+    bootstrapEtaSensor = registerSensor("bootstrap_eta_in_seconds", new Gauge());
   }
 
   public void recordMaximumConsumingVersion(int version) {
@@ -38,4 +42,15 @@ public class BasicConsumerStats extends AbstractVeniceStats {
   public void recordRecordsConsumed(int count) {
     recordsConsumed.record(count);
   }
+
+  /**
+   * @param progressPercentage the share of the records to catch up with which have been consumed, across partitions
+   */
+  public void recordBootstrapProgress(double progressPercentage) {
+    bootstrapProgressSensor.record(progressPercentage);
+  }
+
+  public void recordBootstrapEtaInSeconds(long etaInSeconds) {
+    bootstrapEtaSensor.record(etaInSeconds);
+  }
 }
@@ -6,6 +6,7 @@ import com.linkedin.davinci.config.VeniceStoreVersionConfig;
 import com.linkedin.davinci.kafka.consumer.KafkaStoreIngestionService;
 import com.linkedin.davinci.notifier.VeniceNotifier;
 import com.linkedin.davinci.storage.StorageMetadataService;
+import com.linkedin.davinci.storage.StoragePartitionWarmer;
 import com.linkedin.davinci.storage.StorageService;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.venice.exceptions.VenicePeersNotFoundException;
@@ -37,6 +38,7 @@ public class DefaultIngestionBackend implements IngestionBackend {
   private final Map<String, AtomicReference<AbstractStorageEngine>> topicStorageEngineReferenceMap =
       new VeniceConcurrentHashMap<>();
   private final BlobTransferManager blobTransferManager;
+  private StoragePartitionWarmer storagePartitionWarmer;
 
   public DefaultIngestionBackend(
       StorageMetadataService storageMetadataService,
@@ -53,6 +55,14 @@ public class DefaultIngestionBackend implements IngestionBackend {
 
   @Override
   public void startConsumption(VeniceStoreVersionConfig storeConfig, int partition) {
+    startConsumption(storeConfig, partition, false);
+  }
+
+  /**
+   * @param warmUpPartition whether to warm up the storage partition with {@link StoragePartitionWarmer} after it is
+   *                        opened, and before the consumption starts.
+   */
+  void startConsumption(VeniceStoreVersionConfig storeConfig, int partition, boolean warmUpPartition) {
     String storeVersion = storeConfig.getStoreVersionName();
     LOGGER.info("Retrieving storage engine for store {} partition {}", storeVersion, partition);
     Pair<Store, Version> storeAndVersion =
@@ -68,6 +78,9 @@ public class DefaultIngestionBackend implements IngestionBackend {
         }
         return storageEngineAtomicReference;
       });
+      if (warmUpPartition && storagePartitionWarmer != null) {
+        storagePartitionWarmer.warmUpPartition(storageEngine, storeAndVersion.getSecond(), partition);
+      }
       LOGGER.info(
           "Retrieved storage engine for store {} partition {}. Starting consumption in ingestion service",
           storeVersion,
@@ -78,9 +91,7 @@ public class DefaultIngestionBackend implements IngestionBackend {
           storeVersion,
           partition);
     };
-    // TODO: remove hybrid check after blob transfer in hybrid mode is fully supported
-    if (!storeAndVersion.getFirst().isBlobTransferEnabled() || storeAndVersion.getFirst().isHybrid()
-        || blobTransferManager == null) {
+    if (!isBlobTransferApplicable(storeAndVersion.getFirst())) {
       runnable.run();
     } else {
       CompletionStage<Void> bootstrapFuture =
@@ -101,12 +112,24 @@ public class DefaultIngestionBackend implements IngestionBackend {
     // TODO: need to differentiate that's DVC or server. Right now, it doesn't tell so both components can create,
     // though
     // Only DVC would create blobTransferManager.
-    if (!store.isBlobTransferEnabled() || store.isHybrid() || blobTransferManager == null) {
+    if (!isBlobTransferApplicable(store)) {
       return CompletableFuture.completedFuture(null);
     }
 
     String storeName = store.getName();
     String baseDir = serverConfig.getRocksDBPath();
+    // The blob transfer reuses or replaces the files of the local partition, e.g. the one restored at startup, so it
+    // must not be open in the meantime. It is reopened once the ingestion starts.
+    AbstractStorageEngine storageEngine =
+        storageService.getStorageEngine(Version.composeKafkaTopic(storeName, versionNumber));
+    if (storageEngine != null && storageEngine.containsPartition(partitionId)) {
+      LOGGER.info(
+          "Closing the local partition of store {}, version {}, partition {} before bootstrapping from blobs",
+          storeName,
+          versionNumber,
+          partitionId);
+      storageEngine.closePartition(partitionId);
+    }
     try {
       blobTransferManager.get(storeName, versionNumber, partitionId).toCompletableFuture();
     } catch (VenicePeersNotFoundException e) {
@@ -178,6 +201,10 @@ public class DefaultIngestionBackend implements IngestionBackend {
     }
   }
 
+  public void setStoragePartitionWarmer(StoragePartitionWarmer storagePartitionWarmer) {
+    this.storagePartitionWarmer = storagePartitionWarmer;
+  }
+
   @Override
   public boolean hasCurrentVersionBootstrapping() {
     return getStoreIngestionService().hasCurrentVersionBootstrapping();
@@ -193,6 +220,16 @@ public class DefaultIngestionBackend implements IngestionBackend {
     // Do nothing here, since this is only a wrapper class.
   }
 
+  /**
+   * The partitions kept in the shared RocksDB instance have no files of their own, so they can't be bootstrapped from
+   * the blobs of the peers.
+   */
+  private boolean isBlobTransferApplicable(Store store) {
+    // TODO: remove hybrid check after blob transfer in hybrid mode is fully supported
+    return store.isBlobTransferEnabled() && !store.isHybrid() && blobTransferManager != null
+        && !serverConfig.getRocksDBServerConfig().isSharedInstanceEnabled();
+  }
+
   /**
    * This method is used to sync the store version config with on the store metadata obtained from ZK.
    * VeniceStoreVersionConfig was introduced to allow store-version level configs be configurable via a config file.
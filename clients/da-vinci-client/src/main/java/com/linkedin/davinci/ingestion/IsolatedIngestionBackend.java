@@ -21,6 +21,7 @@ import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.ingestion.protocol.enums.IngestionCommandType;
 import com.linkedin.venice.ingestion.protocol.enums.IngestionComponentType;
 import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.Time;
 import com.linkedin.venice.utils.Utils;
 import io.tehuti.metrics.MetricsRepository;
@@ -272,8 +273,12 @@ public class IsolatedIngestionBackend extends DefaultIngestionBackend implements
     return configLoader;
   }
 
+  /**
+   * Resumes the ingestion of a partition handed over by the isolated process. The partition is warmed up before the
+   * consumption starts, as it will be ready to serve as soon as the consumption catches up.
+   */
   void startConsumptionLocally(VeniceStoreVersionConfig storeVersionConfig, int partition) {
-    super.startConsumption(storeVersionConfig, partition);
+    super.startConsumption(storeVersionConfig, partition, true);
   }
 
   VeniceNotifier getIsolatedIngestionNotifier(VeniceNotifier notifier) {
@@ -288,10 +293,16 @@ public class IsolatedIngestionBackend extends DefaultIngestionBackend implements
              * If any error happens when starting the consumption, error will be reported.
              */
             try {
+              long startTimeInMs = System.currentTimeMillis();
               VeniceStoreVersionConfig config = getConfigLoader().getStoreConfig(kafkaTopic);
               config.setRestoreDataPartitions(false);
               config.setRestoreMetadataPartition(false);
               startConsumptionLocally(config, partition);
+              LOGGER.info(
+                  "Partition: {} of topic: {} handed over to main process in {} ms.",
+                  partition,
+                  kafkaTopic,
+                  LatencyUtils.getElapsedTimeFromMsToMs(startTimeInMs));
             } catch (Exception e) {
               notifier.error(
                   kafkaTopic,
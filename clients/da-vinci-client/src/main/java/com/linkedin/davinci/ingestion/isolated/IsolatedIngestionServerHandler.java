@@ -14,6 +14,8 @@ import com.linkedin.davinci.kafka.consumer.KafkaStoreIngestionService;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.ingestion.protocol.IngestionMetricsReport;
 import com.linkedin.venice.ingestion.protocol.IngestionStorageMetadata;
+import com.linkedin.venice.ingestion.protocol.IngestionStorageMetadataBatch;
+import com.linkedin.venice.ingestion.protocol.IngestionStorageMetadataUpdate;
 import com.linkedin.venice.ingestion.protocol.IngestionTaskCommand;
 import com.linkedin.venice.ingestion.protocol.IngestionTaskReport;
 import com.linkedin.venice.ingestion.protocol.LoadedStoreUserPartitionMapping;
@@ -50,6 +52,8 @@ import org.apache.logging.log4j.Logger;
  * {@link MainIngestionStorageMetadataService} maintains in-memory cache of metadata in main process, and it will persist
  * metadata updates via this requests.
  * (5) {@link IngestionAction#SHUTDOWN_COMPONENT}: Request to shut down a specific ingestion component gracefully.
+ * (6) {@link IngestionAction#UPDATE_METADATA_BATCH}: Same as {@link IngestionAction#UPDATE_METADATA}, but carries all
+ * the pending metadata updates of the main process in one request.
  *
  * This class contains all the logic details to handle above requests and sends back {@link IngestionAction#REPORT}
  * Also, it registers ingestion listener which relays status reporting to main process.
@@ -103,6 +107,13 @@ public class IsolatedIngestionServerHandler extends SimpleChannelInboundHandler<
           IngestionTaskReport metadataUpdateReport = handleIngestionStorageMetadataUpdate(ingestionStorageMetadata);
           result = serializeIngestionActionResponse(action, metadataUpdateReport);
           break;
+        case UPDATE_METADATA_BATCH:
+          IngestionStorageMetadataBatch ingestionStorageMetadataBatch =
+              deserializeIngestionActionRequest(action, readHttpRequestContent(msg));
+          IngestionTaskReport metadataBatchUpdateReport =
+              handleIngestionStorageMetadataBatchUpdate(ingestionStorageMetadataBatch);
+          result = serializeIngestionActionResponse(action, metadataBatchUpdateReport);
+          break;
         case SHUTDOWN_COMPONENT:
           ProcessShutdownCommand processShutdownCommand =
               deserializeIngestionActionRequest(action, readHttpRequestContent(msg));
@@ -342,6 +353,26 @@ public class IsolatedIngestionServerHandler extends SimpleChannelInboundHandler<
     return report;
   }
 
+  /**
+   * Applies the updates of the batch in order, and stops at the first one which fails, so that the main process sends
+   * the batch again. The updates overwrite or clear the metadata, so applying them again is harmless.
+   */
+  private IngestionTaskReport handleIngestionStorageMetadataBatchUpdate(IngestionStorageMetadataBatch batch) {
+    IngestionTaskReport report = createIngestionTaskReport();
+    for (IngestionStorageMetadataUpdate update: batch.updates) {
+      IngestionStorageMetadata ingestionStorageMetadata = new IngestionStorageMetadata();
+      ingestionStorageMetadata.topicName = update.topicName;
+      ingestionStorageMetadata.partitionId = update.partitionId;
+      ingestionStorageMetadata.payload = update.payload;
+      ingestionStorageMetadata.metadataUpdateType = update.metadataUpdateType;
+      report = handleIngestionStorageMetadataUpdate(ingestionStorageMetadata);
+      if (!report.isPositive) {
+        break;
+      }
+    }
+    return report;
+  }
+
   private IngestionTaskReport handleProcessShutdownCommand(ProcessShutdownCommand processShutdownCommand) {
     IngestionTaskReport report = createIngestionTaskReport();
     try {
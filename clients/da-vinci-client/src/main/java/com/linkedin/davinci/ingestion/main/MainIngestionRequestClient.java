@@ -13,6 +13,8 @@ import com.linkedin.davinci.ingestion.isolated.IsolatedIngestionServer;
 import com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.ingestion.protocol.IngestionStorageMetadata;
+import com.linkedin.venice.ingestion.protocol.IngestionStorageMetadataBatch;
+import com.linkedin.venice.ingestion.protocol.IngestionStorageMetadataUpdate;
 import com.linkedin.venice.ingestion.protocol.IngestionTaskCommand;
 import com.linkedin.venice.ingestion.protocol.IngestionTaskReport;
 import com.linkedin.venice.ingestion.protocol.LoadedStoreUserPartitionMapping;
@@ -25,6 +27,7 @@ import com.linkedin.venice.security.SSLFactory;
 import com.linkedin.venice.utils.ForkedJavaProcess;
 import com.linkedin.venice.utils.Utils;
 import java.io.Closeable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -193,6 +196,40 @@ public class MainIngestionRequestClient implements Closeable {
     }
   }
 
+  /**
+   * Sends the given metadata updates to the child process in one request, which are applied in order.
+   * @return whether all the updates are applied
+   */
+  public boolean updateMetadataBatch(List<IngestionStorageMetadata> ingestionStorageMetadataList) {
+    List<IngestionStorageMetadataUpdate> updates = new ArrayList<>(ingestionStorageMetadataList.size());
+    for (IngestionStorageMetadata ingestionStorageMetadata: ingestionStorageMetadataList) {
+      IngestionStorageMetadataUpdate update = new IngestionStorageMetadataUpdate();
+      update.topicName = ingestionStorageMetadata.topicName;
+      update.partitionId = ingestionStorageMetadata.partitionId;
+      update.payload = ingestionStorageMetadata.payload;
+      update.metadataUpdateType = ingestionStorageMetadata.metadataUpdateType;
+      updates.add(update);
+    }
+    IngestionStorageMetadataBatch batch = new IngestionStorageMetadataBatch();
+    batch.updates = updates;
+    try {
+      LOGGER.debug("Sending UPDATE_METADATA_BATCH request with {} updates to child process", updates.size());
+      IngestionTaskReport report = httpClientTransport.sendRequest(IngestionAction.UPDATE_METADATA_BATCH, batch);
+      if (!report.isPositive) {
+        LOGGER.warn(
+            "Failed to apply metadata updates in child process for topic: {}, partition: {}, message: {}",
+            report.topicName,
+            report.partitionId,
+            report.message);
+      }
+      return report.isPositive;
+    } catch (Exception e) {
+      // Same as updateMetadata, the updates will be sent again once the child process is back.
+      LOGGER.warn("Encounter exception when sending {} metadata updates to child process", updates.size(), e);
+      return false;
+    }
+  }
+
   public void shutdownForkedProcessComponent(IngestionComponentType ingestionComponentType) {
     // Send ingestion request to ingestion service.
     ProcessShutdownCommand processShutdownCommand = new ProcessShutdownCommand();
@@ -18,9 +18,10 @@ import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.io.Closeable;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -35,16 +36,24 @@ import org.apache.logging.log4j.Logger;
  * It keeps storage metadata in the memory so RocksDB metadata partitions can be opened by isolated ingestion process only.
  * For metadata update generated by hybrid ingestion, it will sync and persist the update to the RocksDB metadata partition
  * through IPC protocol.
+ *
+ * The updates are sent in batches, and a pending update is dropped once an update of the same offset record or store
+ * version state is issued, since it would be overwritten anyway. This keeps a host with many hybrid partitions from
+ * sending one request per offset checkpoint.
  */
 public class MainIngestionStorageMetadataService extends AbstractVeniceService implements StorageMetadataService {
   private static final Logger LOGGER = LogManager.getLogger(MainIngestionStorageMetadataService.class);
+  static final int MAX_METADATA_UPDATE_BATCH_SIZE = 1000;
 
   private final MainIngestionRequestClient client;
   private final InternalAvroSpecificSerializer<PartitionState> partitionStateSerializer;
   private final Map<String, Map<Integer, OffsetRecord>> topicPartitionOffsetRecordMap = new VeniceConcurrentHashMap<>();
   private final Map<String, StoreVersionState> topicStoreVersionStateMap = new VeniceConcurrentHashMap<>();
   private final ExecutorService metadataUpdateService = Executors.newSingleThreadExecutor();
-  private final Queue<IngestionStorageMetadata> metadataUpdateQueue = new ConcurrentLinkedDeque<>();
+  /**
+   * The pending updates in the order they are issued, by the metadata they update. Guarded by itself.
+   */
+  private final Map<String, IngestionStorageMetadata> pendingMetadataUpdates = new LinkedHashMap<>();
   private final MetadataUpdateStats metadataUpdateStats;
   private final MetadataUpdateWorker metadataUpdateWorker;
   private final BiConsumer<String, StoreVersionState> storeVersionStateSyncer;
@@ -172,9 +181,66 @@ public class MainIngestionStorageMetadataService extends AbstractVeniceService i
     storeVersionStateSyncer.accept(topicName, record);
   }
 
-  private synchronized void updateRemoteStorageMetadataService(IngestionStorageMetadata ingestionStorageMetadata) {
-    metadataUpdateQueue.add(ingestionStorageMetadata);
-    metadataUpdateStats.recordMetadataUpdateQueueLength(metadataUpdateQueue.size());
+  private void updateRemoteStorageMetadataService(IngestionStorageMetadata ingestionStorageMetadata) {
+    String key = getMetadataUpdateKey(ingestionStorageMetadata);
+    synchronized (pendingMetadataUpdates) {
+      // The update goes after the pending updates issued before it, even if it overrides one of them.
+      pendingMetadataUpdates.remove(key);
+      pendingMetadataUpdates.put(key, ingestionStorageMetadata);
+      metadataUpdateStats.recordMetadataUpdateQueueLength(pendingMetadataUpdates.size());
+    }
+  }
+
+  private static String getMetadataUpdateKey(IngestionStorageMetadata ingestionStorageMetadata) {
+    switch (IngestionMetadataUpdateType.valueOf(ingestionStorageMetadata.metadataUpdateType)) {
+      case PUT_STORE_VERSION_STATE:
+      case CLEAR_STORE_VERSION_STATE:
+        return "svs_" + ingestionStorageMetadata.topicName;
+      default:
+        return "offset_" + ingestionStorageMetadata.topicName + "_" + ingestionStorageMetadata.partitionId;
+    }
+  }
+
+  // Visible for testing
+  List<IngestionStorageMetadata> getPendingMetadataUpdates() {
+    synchronized (pendingMetadataUpdates) {
+      return new ArrayList<>(pendingMetadataUpdates.values());
+    }
+  }
+
+  /**
+   * Sends the oldest pending updates to the child process in one request.
+   * @return the number of updates applied by the child process, or -1 if the request failed
+   */
+  private int sendPendingMetadataUpdates() {
+    Map<String, IngestionStorageMetadata> batch = new LinkedHashMap<>();
+    synchronized (pendingMetadataUpdates) {
+      for (Map.Entry<String, IngestionStorageMetadata> entry: pendingMetadataUpdates.entrySet()) {
+        if (batch.size() >= MAX_METADATA_UPDATE_BATCH_SIZE) {
+          break;
+        }
+        batch.put(entry.getKey(), entry.getValue());
+      }
+    }
+    if (!client.updateMetadataBatch(new ArrayList<>(batch.values()))) {
+      return -1;
+    }
+    synchronized (pendingMetadataUpdates) {
+      for (Map.Entry<String, IngestionStorageMetadata> entry: batch.entrySet()) {
+        // The updates issued while the batch was being sent are still pending.
+        if (pendingMetadataUpdates.get(entry.getKey()) == entry.getValue()) {
+          pendingMetadataUpdates.remove(entry.getKey());
+        }
+      }
+      metadataUpdateStats.recordMetadataUpdateQueueLength(pendingMetadataUpdates.size());
+    }
+    return batch.size();
+  }
+
+  private int getPendingMetadataUpdateCount() {
+    synchronized (pendingMetadataUpdates) {
+      return pendingMetadataUpdates.size();
+    }
   }
 
   /**
@@ -194,24 +260,24 @@ public class MainIngestionStorageMetadataService extends AbstractVeniceService i
       while (isRunning.get()) {
         try {
           /**
-           * Here it leaves room for future optimization: if the metadata update volumes is large in classical Venice
-           * and this sequential update approach is lagging, we can transform it into batch update.
+           * The updates issued within a round are sent together in the next round, unless there are more of them than
+           * a batch can hold.
            */
-          while (!metadataUpdateQueue.isEmpty()) {
-            boolean isSuccess = client.updateMetadata(metadataUpdateQueue.peek());
-            if (isSuccess) {
-              metadataUpdateQueue.remove();
-              metadataUpdateStats.recordMetadataUpdateQueueLength(metadataUpdateQueue.size());
-            } else {
+          while (getPendingMetadataUpdateCount() > 0) {
+            int sentCount = sendPendingMetadataUpdates();
+            if (sentCount < 0) {
               if (!isRunning.get()) {
                 break;
               }
               Thread.sleep(5 * Time.MS_PER_SECOND);
+            } else if (sentCount < MAX_METADATA_UPDATE_BATCH_SIZE) {
+              break;
             }
           }
           Thread.sleep(Time.MS_PER_SECOND);
-          if (metadataUpdateQueue.size() > 0) {
-            LOGGER.info("Number of remaining metadata update requests in queue: {}", metadataUpdateQueue.size());
+          int pendingMetadataUpdateCount = getPendingMetadataUpdateCount();
+          if (pendingMetadataUpdateCount > 0) {
+            LOGGER.info("Number of remaining metadata update requests in queue: {}", pendingMetadataUpdateCount);
           }
         } catch (InterruptedException ie) {
           Thread.currentThread().interrupt();
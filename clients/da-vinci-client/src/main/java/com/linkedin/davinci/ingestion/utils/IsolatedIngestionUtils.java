@@ -16,6 +16,7 @@ import static com.linkedin.venice.ingestion.protocol.enums.IngestionAction.METRI
 import static com.linkedin.venice.ingestion.protocol.enums.IngestionAction.REPORT;
 import static com.linkedin.venice.ingestion.protocol.enums.IngestionAction.SHUTDOWN_COMPONENT;
 import static com.linkedin.venice.ingestion.protocol.enums.IngestionAction.UPDATE_METADATA;
+import static com.linkedin.venice.ingestion.protocol.enums.IngestionAction.UPDATE_METADATA_BATCH;
 
 import com.linkedin.davinci.config.VeniceConfigLoader;
 import com.linkedin.davinci.ingestion.isolated.IsolatedIngestionServer;
@@ -25,6 +26,7 @@ import com.linkedin.venice.authorization.IdentityParser;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.ingestion.protocol.IngestionMetricsReport;
 import com.linkedin.venice.ingestion.protocol.IngestionStorageMetadata;
+import com.linkedin.venice.ingestion.protocol.IngestionStorageMetadataBatch;
 import com.linkedin.venice.ingestion.protocol.IngestionTaskCommand;
 import com.linkedin.venice.ingestion.protocol.IngestionTaskReport;
 import com.linkedin.venice.ingestion.protocol.LoadedStoreUserPartitionMapping;
@@ -111,6 +113,8 @@ public class IsolatedIngestionUtils {
       AvroProtocolDefinition.STORE_VERSION_STATE.getSerializer();
   private static final InternalAvroSpecificSerializer<IngestionStorageMetadata> ingestionStorageMetadataSerializer =
       AvroProtocolDefinition.INGESTION_STORAGE_METADATA.getSerializer();
+  private static final InternalAvroSpecificSerializer<IngestionStorageMetadataBatch> ingestionMetadataBatchSerializer =
+      AvroProtocolDefinition.INGESTION_STORAGE_METADATA_BATCH.getSerializer();
   private static final InternalAvroSpecificSerializer<ProcessShutdownCommand> processShutdownCommandSerializer =
       AvroProtocolDefinition.PROCESS_SHUTDOWN_COMMAND.getSerializer();
   private static final InternalAvroSpecificSerializer<IngestionTaskCommand> ingestionDummyContentSerializer =
@@ -127,7 +131,8 @@ public class IsolatedIngestionUtils {
               new AbstractMap.SimpleEntry<>(HEARTBEAT, ingestionDummyContentSerializer),
               new AbstractMap.SimpleEntry<>(UPDATE_METADATA, ingestionStorageMetadataSerializer),
               new AbstractMap.SimpleEntry<>(SHUTDOWN_COMPONENT, processShutdownCommandSerializer),
-              new AbstractMap.SimpleEntry<>(GET_LOADED_STORE_USER_PARTITION_MAPPING, ingestionDummyContentSerializer))
+              new AbstractMap.SimpleEntry<>(GET_LOADED_STORE_USER_PARTITION_MAPPING, ingestionDummyContentSerializer),
+              new AbstractMap.SimpleEntry<>(UPDATE_METADATA_BATCH, ingestionMetadataBatchSerializer))
           .collect(Collectors.toMap(AbstractMap.SimpleEntry::getKey, AbstractMap.SimpleEntry::getValue));
 
   private static final Map<IngestionAction, InternalAvroSpecificSerializer> ingestionActionToResponseSerializerMap =
@@ -138,7 +143,8 @@ public class IsolatedIngestionUtils {
           new AbstractMap.SimpleEntry<>(HEARTBEAT, ingestionTaskCommandSerializer),
           new AbstractMap.SimpleEntry<>(UPDATE_METADATA, ingestionTaskReportSerializer),
           new AbstractMap.SimpleEntry<>(SHUTDOWN_COMPONENT, ingestionTaskReportSerializer),
-          new AbstractMap.SimpleEntry<>(GET_LOADED_STORE_USER_PARTITION_MAPPING, storeUserPartitionMappingSerializer))
+          new AbstractMap.SimpleEntry<>(GET_LOADED_STORE_USER_PARTITION_MAPPING, storeUserPartitionMappingSerializer),
+          new AbstractMap.SimpleEntry<>(UPDATE_METADATA_BATCH, ingestionTaskReportSerializer))
           .collect(Collectors.toMap(AbstractMap.SimpleEntry::getKey, AbstractMap.SimpleEntry::getValue));
 
   private static final IngestionTaskCommand DUMMY_COMMAND = new IngestionTaskCommand();
@@ -312,7 +312,9 @@ public class AggKafkaConsumerService extends AbstractVeniceService {
                 null,
                 isKafkaConsumerOffsetCollectionEnabled,
                 metadataRepository,
-                serverConfig.isUnregisterMetricForDeletedStoreEnabled()),
+                serverConfig.isUnregisterMetricForDeletedStoreEnabled(),
+                serverConfig.isConsumptionPrioritySchedulingEnabled(),
+                serverConfig.getConsumptionPrioritySchedulingIntervalMs()),
             isAAOrWCEnabledFunc));
 
     if (!consumerService.isRunning()) {
@@ -0,0 +1,57 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+
+
+/**
+ * The priority classes used by {@link ConsumptionPriorityScheduler} to share the poll capacity of a single
+ * {@link SharedKafkaConsumer} among the partitions subscribed to it. The declaration order is the priority order, and
+ * the weight decides the share of consumed records each class is entitled to when a higher priority class is lagging.
+ */
+public enum ConsumptionPriorityClass {
+  /**
+   * Leader replicas of the current version consuming from a real-time topic, i.e. the hybrid catch-up path.
+   */
+  CURRENT_VERSION_LEADER("current_version_leader", 8),
+  /**
+   * Every other replica of the current version, which consumes the version topic.
+   */
+  CURRENT_VERSION_FOLLOWER("current_version_follower", 4),
+  /**
+   * Replicas of a version which is still being pushed and is not serving reads yet.
+   */
+  FUTURE_VERSION("future_version", 2),
+  /**
+   * Replicas of a version which has been swapped out.
+   */
+  BACKUP_VERSION("backup_version", 1);
+
+  private final String metricPrefix;
+  private final int weight;
+
+  ConsumptionPriorityClass(String metricPrefix, int weight) {
+    this.metricPrefix = metricPrefix;
+    this.weight = weight;
+  }
+
+  public String getMetricPrefix() {
+    return metricPrefix;
+  }
+
+  public int getWeight() {
+    return weight;
+  }
+
+  public static ConsumptionPriorityClass of(
+      PartitionReplicaIngestionContext.VersionRole versionRole,
+      PubSubTopicPartition pubSubTopicPartition) {
+    switch (versionRole) {
+      case CURRENT:
+        return pubSubTopicPartition.getPubSubTopic().isRealTime() ? CURRENT_VERSION_LEADER : CURRENT_VERSION_FOLLOWER;
+      case FUTURE:
+        return FUTURE_VERSION;
+      default:
+        return BACKUP_VERSION;
+    }
+  }
+}
@@ -0,0 +1,195 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.davinci.stats.AggKafkaConsumerServiceStats;
+import com.linkedin.venice.pubsub.api.PubSubTopic;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.utils.Time;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * This class implements weighted fair polling across the {@link ConsumptionPriorityClass}es of the partitions sharing
+ * one {@link SharedKafkaConsumer}. All the partitions subscribed to the same consumer compete for the records returned
+ * by a single poll, so a future version bootstrapping at full speed can starve the real-time catch-up of the current
+ * version, which is something the host-level {@link IngestionThrottler} cannot distinguish.
+ *
+ * The scheduler is driven by the {@link ConsumptionTask} thread which owns the consumer:
+ * 1. {@link #recordConsumption(PubSubTopicPartition, int, int)} is called for every polled batch.
+ * 2. {@link #maybeReschedule()} is called before every poll, and re-evaluates the schedule once per interval.
+ *
+ * On each evaluation, the consumed records of each class are folded into an exponentially decayed counter and divided
+ * by the class weight. A class gets paused (via {@link SharedKafkaConsumer#pauseForScheduling(PubSubTopicPartition)})
+ * when some higher priority class is lagging and has received a smaller weighted share than it, and it gets resumed as
+ * soon as this is no longer the case. When no higher priority class is lagging, nothing is ever paused, so an idle host
+ * keeps the full poll capacity for whichever class needs it.
+ */
+class ConsumptionPriorityScheduler {
+  private static final Logger LOGGER = LogManager.getLogger(ConsumptionPriorityScheduler.class);
+  private static final ConsumptionPriorityClass[] PRIORITY_CLASSES = ConsumptionPriorityClass.values();
+
+  /**
+   * Weight of the history when folding the records consumed in the last interval into the decayed counters.
+   */
+  static final double DECAY_FACTOR = 0.5;
+
+  private final SharedKafkaConsumer consumer;
+  private final AggKafkaConsumerServiceStats aggStats;
+  private final long schedulingIntervalMs;
+  private final Time time;
+  /**
+   * Resolves the latest version role of a version topic, so that a future version which becomes current, or a current
+   * version which becomes backup, is re-classified without re-subscription. May return null if the role is unknown.
+   */
+  private final Function<PubSubTopic, PartitionReplicaIngestionContext.VersionRole> versionRoleResolver;
+
+  private final Map<PubSubTopicPartition, ScheduledPartition> scheduledPartitions = new VeniceConcurrentHashMap<>();
+
+  /**
+   * The following fields are only accessed by the consumption task thread.
+   */
+  private final long[] recordsInCurrentInterval = new long[PRIORITY_CLASSES.length];
+  private final double[] decayedRecords = new double[PRIORITY_CLASSES.length];
+  private long lastScheduleTimestamp;
+
+  ConsumptionPriorityScheduler(
+      SharedKafkaConsumer consumer,
+      AggKafkaConsumerServiceStats aggStats,
+      long schedulingIntervalMs,
+      Function<PubSubTopic, PartitionReplicaIngestionContext.VersionRole> versionRoleResolver,
+      Time time) {
+    this.consumer = consumer;
+    this.aggStats = aggStats;
+    this.schedulingIntervalMs = schedulingIntervalMs;
+    this.versionRoleResolver = versionRoleResolver;
+    this.time = time;
+    this.lastScheduleTimestamp = time.getMilliseconds();
+  }
+
+  void register(PartitionReplicaIngestionContext partitionReplicaIngestionContext) {
+    PubSubTopicPartition topicPartition = partitionReplicaIngestionContext.getPubSubTopicPartition();
+    scheduledPartitions.put(
+        topicPartition,
+        new ScheduledPartition(
+            partitionReplicaIngestionContext.getVersionTopic(),
+            ConsumptionPriorityClass.of(partitionReplicaIngestionContext.getVersionRole(), topicPartition)));
+  }
+
+  void unregister(PubSubTopicPartition topicPartition) {
+    ScheduledPartition scheduledPartition = scheduledPartitions.remove(topicPartition);
+    if (scheduledPartition != null && scheduledPartition.paused) {
+      consumer.resumeForScheduling(topicPartition);
+    }
+  }
+
+  ConsumptionPriorityClass getPriorityClass(PubSubTopicPartition topicPartition) {
+    ScheduledPartition scheduledPartition = scheduledPartitions.get(topicPartition);
+    return scheduledPartition == null ? null : scheduledPartition.priorityClass;
+  }
+
+  void recordConsumption(PubSubTopicPartition topicPartition, int recordCount, int byteSize) {
+    ScheduledPartition scheduledPartition = scheduledPartitions.get(topicPartition);
+    if (scheduledPartition == null) {
+      return;
+    }
+    recordsInCurrentInterval[scheduledPartition.priorityClass.ordinal()] += recordCount;
+    aggStats.recordTotalPriorityClassConsumption(scheduledPartition.priorityClass, recordCount, byteSize);
+  }
+
+  void maybeReschedule() {
+    long now = time.getMilliseconds();
+    if (now - lastScheduleTimestamp < schedulingIntervalMs) {
+      return;
+    }
+    lastScheduleTimestamp = now;
+    reschedule();
+  }
+
+  /**
+   * Visible for testing; production code should go through {@link #maybeReschedule()}.
+   */
+  void reschedule() {
+    boolean[] lagging = new boolean[PRIORITY_CLASSES.length];
+    Map<PubSubTopic, PartitionReplicaIngestionContext.VersionRole> resolvedRoles = new HashMap<>();
+    for (Map.Entry<PubSubTopicPartition, ScheduledPartition> entry: scheduledPartitions.entrySet()) {
+      PubSubTopicPartition topicPartition = entry.getKey();
+      ScheduledPartition scheduledPartition = entry.getValue();
+      PartitionReplicaIngestionContext.VersionRole latestRole =
+          resolvedRoles.computeIfAbsent(scheduledPartition.versionTopic, this::resolveVersionRole);
+      if (latestRole != null) {
+        scheduledPartition.priorityClass = ConsumptionPriorityClass.of(latestRole, topicPartition);
+      }
+      /**
+       * Partitions paused by the ingestion task itself (e.g. because of storage quota) cannot make use of the capacity
+       * freed up for them, so they do not count as demand.
+       */
+      if (!lagging[scheduledPartition.priorityClass.ordinal()] && !consumer.isPausedByIngestion(topicPartition)
+          && consumer.getOffsetLag(topicPartition) > 0) {
+        lagging[scheduledPartition.priorityClass.ordinal()] = true;
+      }
+    }
+
+    double[] weightedShare = new double[PRIORITY_CLASSES.length];
+    for (ConsumptionPriorityClass priorityClass: PRIORITY_CLASSES) {
+      int i = priorityClass.ordinal();
+      decayedRecords[i] = decayedRecords[i] * DECAY_FACTOR + recordsInCurrentInterval[i];
+      recordsInCurrentInterval[i] = 0;
+      weightedShare[i] = decayedRecords[i] / priorityClass.getWeight();
+    }
+
+    boolean[] shouldPause = new boolean[PRIORITY_CLASSES.length];
+    for (int i = 1; i < PRIORITY_CLASSES.length; i++) {
+      for (int higher = 0; higher < i; higher++) {
+        if (lagging[higher] && weightedShare[i] > weightedShare[higher]) {
+          shouldPause[i] = true;
+          break;
+        }
+      }
+    }
+
+    int[] pausedPartitionCount = new int[PRIORITY_CLASSES.length];
+    for (Map.Entry<PubSubTopicPartition, ScheduledPartition> entry: scheduledPartitions.entrySet()) {
+      PubSubTopicPartition topicPartition = entry.getKey();
+      ScheduledPartition scheduledPartition = entry.getValue();
+      int i = scheduledPartition.priorityClass.ordinal();
+      if (shouldPause[i] && !scheduledPartition.paused) {
+        consumer.pauseForScheduling(topicPartition);
+        scheduledPartition.paused = true;
+      } else if (!shouldPause[i] && scheduledPartition.paused) {
+        consumer.resumeForScheduling(topicPartition);
+        scheduledPartition.paused = false;
+      }
+      if (scheduledPartition.paused) {
+        pausedPartitionCount[i]++;
+      }
+    }
+    for (ConsumptionPriorityClass priorityClass: PRIORITY_CLASSES) {
+      aggStats
+          .recordTotalPriorityClassPausedPartitions(priorityClass, pausedPartitionCount[priorityClass.ordinal()]);
+    }
+  }
+
+  private PartitionReplicaIngestionContext.VersionRole resolveVersionRole(PubSubTopic versionTopic) {
+    try {
+      return versionRoleResolver.apply(versionTopic);
+    } catch (Exception e) {
+      LOGGER.warn("Failed to resolve the version role of: {}, will keep the previous priority class", versionTopic, e);
+      return null;
+    }
+  }
+
+  private static class ScheduledPartition {
+    private final PubSubTopic versionTopic;
+    private volatile ConsumptionPriorityClass priorityClass;
+    private volatile boolean paused = false;
+
+    private ScheduledPartition(PubSubTopic versionTopic, ConsumptionPriorityClass priorityClass) {
+      this.versionTopic = versionTopic;
+      this.priorityClass = priorityClass;
+    }
+  }
+}
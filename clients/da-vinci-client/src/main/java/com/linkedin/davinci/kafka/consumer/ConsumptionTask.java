@@ -39,7 +39,8 @@ import org.apache.logging.log4j.Logger;
  * Besides polling, on each iteration of the {@link #run()} loop, the following responsibilities are also fulfilled:
  * 1. Invoking the functions in {@link ConsumerSubscriptionCleaner} to ensure the consumer's subscriptions are valid.
  * 2. Invoking two throttlers, for bandwidth and records throughput.
- * 3. Recording some stats.
+ * 3. Letting the optional {@link ConsumptionPriorityScheduler} pause or resume partitions based on their priority.
+ * 4. Recording some stats.
  */
 class ConsumptionTask implements Runnable {
   private final Logger LOGGER;
@@ -53,6 +54,10 @@ class ConsumptionTask implements Runnable {
   private final IntConsumer recordsThrottler;
   private final AggKafkaConsumerServiceStats aggStats;
   private final ConsumerSubscriptionCleaner cleaner;
+  /**
+   * Null when priority-aware consumption scheduling is disabled.
+   */
+  private final ConsumptionPriorityScheduler priorityScheduler;
 
   /**
    * Maintain rate counter with default window size to calculate the message and bytes rate at topic partition level.
@@ -87,13 +92,15 @@ class ConsumptionTask implements Runnable {
       final IntConsumer bandwidthThrottler,
       final IntConsumer recordsThrottler,
       final AggKafkaConsumerServiceStats aggStats,
-      final ConsumerSubscriptionCleaner cleaner) {
+      final ConsumerSubscriptionCleaner cleaner,
+      final ConsumptionPriorityScheduler priorityScheduler) {
     this.readCycleDelayMs = readCycleDelayMs;
     this.pollFunction = pollFunction;
     this.bandwidthThrottler = bandwidthThrottler;
     this.recordsThrottler = recordsThrottler;
     this.aggStats = aggStats;
     this.cleaner = cleaner;
+    this.priorityScheduler = priorityScheduler;
     this.taskId = taskId;
     this.consumptionTaskIdStr = Utils.getSanitizedStringForLogger(consumerNamePrefix) + " - " + taskId;
     this.LOGGER = LogManager.getLogger(getClass().getSimpleName() + "[ " + consumptionTaskIdStr + " ]");
@@ -133,6 +140,9 @@ class ConsumptionTask implements Runnable {
             if (dataReceiver != null) {
               dataReceiver.notifyOfTopicDeletion(topicPartitionToUnSub.getPubSubTopic().getName());
             }
+            if (priorityScheduler != null) {
+              priorityScheduler.unregister(topicPartitionToUnSub);
+            }
           }
           topicPartitionsToUnsub.clear();
 
@@ -141,6 +151,9 @@ class ConsumptionTask implements Runnable {
            * JavaDoc, about how this class could become the sole entry point for all consumer-related interactions,
            * and thus be capable of operating on a non-threadsafe consumer.
            */
+          if (priorityScheduler != null) {
+            priorityScheduler.maybeReschedule();
+          }
           polledPubSubMessages = pollFunction.get();
           lastSuccessfulPollTimestamp = System.currentTimeMillis();
           aggStats.recordTotalPollRequestLatency(lastSuccessfulPollTimestamp - beforePollingTimeStamp);
@@ -172,6 +185,12 @@ class ConsumptionTask implements Runnable {
               }
               counter.byteSize += payloadSizePerTopicPartition;
               payloadBytesConsumedInOnePoll += payloadSizePerTopicPartition;
+              if (priorityScheduler != null) {
+                priorityScheduler.recordConsumption(
+                    pubSubTopicPartition,
+                    topicPartitionMessages.size(),
+                    payloadSizePerTopicPartition);
+              }
 
               lastSuccessfulPollTimestampPerTopicPartition.put(pubSubTopicPartition, lastSuccessfulPollTimestamp);
               messageRatePerTopicPartition
@@ -293,6 +312,22 @@ class ConsumptionTask implements Runnable {
 
   void removeDataReceiver(PubSubTopicPartition topicPartition) {
     dataReceiverMap.remove(topicPartition);
+    if (priorityScheduler != null) {
+      priorityScheduler.unregister(topicPartition);
+    }
+  }
+
+  /**
+   * Lets the {@link ConsumptionPriorityScheduler}, if any, know which priority class the given partition belongs to.
+   */
+  void setPartitionReplicaIngestionContext(PartitionReplicaIngestionContext partitionReplicaIngestionContext) {
+    if (priorityScheduler != null) {
+      priorityScheduler.register(partitionReplicaIngestionContext);
+    }
+  }
+
+  ConsumptionPriorityClass getPriorityClass(PubSubTopicPartition topicPartition) {
+    return priorityScheduler == null ? null : priorityScheduler.getPriorityClass(topicPartition);
   }
 
   /**
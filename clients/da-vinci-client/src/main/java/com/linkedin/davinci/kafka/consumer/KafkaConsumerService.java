@@ -11,6 +11,7 @@ import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
 import com.linkedin.venice.message.KafkaKey;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.pubsub.PubSubConsumerAdapterFactory;
 import com.linkedin.venice.pubsub.api.PubSubConsumerAdapter;
 import com.linkedin.venice.pubsub.api.PubSubMessage;
@@ -62,7 +63,9 @@ import org.apache.logging.log4j.Logger;
  *    maintaining a mapping of which unit belongs to which version-topic and subscribed topic-partition. Notably,
  *    the {@link #startConsumptionIntoDataReceiver(PartitionReplicaIngestionContext, long, ConsumedDataReceiver)} function allows the
  *    caller to start funneling consumed data into a receiver (i.e. into another task).
- * 3. Provide a single abstract function that must be overridden by subclasses in order to implement a consumption
+ * 3. Optionally, share the poll capacity of each consumer among its partitions by priority, see
+ *    {@link ConsumptionPriorityScheduler}.
+ * 4. Provide a single abstract function that must be overridden by subclasses in order to implement a consumption
  *    load balancing strategy: {@link #pickConsumerForPartition(PubSubTopic, PubSubTopicPartition)}
  *
  * @see AggKafkaConsumerService which wraps one instance of this class per Kafka cluster.
@@ -104,7 +107,9 @@ public abstract class KafkaConsumerService extends AbstractKafkaConsumerService
       final AggKafkaConsumerServiceStats statsOverride,
       final boolean isKafkaConsumerOffsetCollectionEnabled,
       final ReadOnlyStoreRepository metadataRepository,
-      final boolean isUnregisterMetricForDeletedStoreEnabled) {
+      final boolean isUnregisterMetricForDeletedStoreEnabled,
+      final boolean consumptionPrioritySchedulingEnabled,
+      final long consumptionPrioritySchedulingIntervalMs) {
     this.kafkaUrl = consumerProperties.getProperty(KAFKA_BOOTSTRAP_SERVERS);
     this.kafkaUrlForLogger = Utils.getSanitizedStringForLogger(kafkaUrl);
     this.LOGGER = LogManager.getLogger(KafkaConsumerService.class.getSimpleName() + " [" + kafkaUrlForLogger + "]");
@@ -165,13 +170,37 @@ public abstract class KafkaConsumerService extends AbstractKafkaConsumerService
           bandwidthThrottlerFunction,
           recordsThrottlerFunction,
           this.aggStats,
-          cleaner);
+          cleaner,
+          consumptionPrioritySchedulingEnabled
+              ? new ConsumptionPriorityScheduler(
+                  pubSubConsumer,
+                  this.aggStats,
+                  consumptionPrioritySchedulingIntervalMs,
+                  versionTopic -> resolveVersionRole(metadataRepository, versionTopic),
+                  time)
+              : null);
       consumerToConsumptionTask.putByIndex(pubSubConsumer, consumptionTask, i);
     }
 
     LOGGER.info("KafkaConsumerService was initialized with {} consumers.", numOfConsumersPerKafkaCluster);
   }
 
+  /**
+   * @return the current role of the given version topic according to the metadata repository, or null if unknown.
+   */
+  static PartitionReplicaIngestionContext.VersionRole resolveVersionRole(
+      ReadOnlyStoreRepository metadataRepository,
+      PubSubTopic versionTopic) {
+    if (metadataRepository == null) {
+      return null;
+    }
+    Store store = metadataRepository.getStore(versionTopic.getStoreName());
+    if (store == null) {
+      return null;
+    }
+    return PartitionReplicaIngestionContext.getStoreVersionRole(versionTopic, store);
+  }
+
   /** May be overridden to clean up state in sub-classes */
   void handleUnsubscription(SharedKafkaConsumer consumer, PubSubTopicPartition topicPartition) {
   }
@@ -407,6 +436,7 @@ public abstract class KafkaConsumerService extends AbstractKafkaConsumerService
      */
     consumptionTask.setDataReceiver(topicPartition, consumedDataReceiver);
     consumer.subscribe(consumedDataReceiver.destinationIdentifier(), topicPartition, lastReadOffset);
+    consumptionTask.setPartitionReplicaIngestionContext(partitionReplicaIngestionContext);
   }
 
   interface KCSConstructor {
@@ -428,7 +458,9 @@ public abstract class KafkaConsumerService extends AbstractKafkaConsumerService
         AggKafkaConsumerServiceStats stats,
         boolean isKafkaConsumerOffsetCollectionEnabled,
         ReadOnlyStoreRepository metadataRepository,
-        boolean unregisterMetricForDeletedStoreEnabled);
+        boolean unregisterMetricForDeletedStoreEnabled,
+        boolean consumptionPrioritySchedulingEnabled,
+        long consumptionPrioritySchedulingIntervalMs);
   }
 
   /**
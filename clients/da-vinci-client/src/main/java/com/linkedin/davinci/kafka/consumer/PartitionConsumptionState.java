@@ -16,12 +16,16 @@ import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.writer.LeaderCompleteState;
+import java.io.File;
 import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 import org.apache.avro.generic.GenericRecord;
 
@@ -132,6 +136,25 @@ public class PartitionConsumptionState {
    */
   private final ConcurrentMap<ByteArrayKey, TransientRecord> transientRecordMap = new VeniceConcurrentHashMap<>();
 
+  /**
+   * The values transformed by the record transformer in batches, by the offset of the records. They are added by the
+   * batch transformation of the ingestion task, and taken by the drainer thread when writing the records.
+   */
+  private final ConcurrentNavigableMap<Long, ByteBuffer> transformedValueMap = new ConcurrentSkipListMap<>();
+
+  /**
+   * The batch transformations which haven't been waited for by the drainer yet, by the offset of the last record of
+   * each batch. The batches of the partition are transformed in order, one at a time.
+   */
+  private final ConcurrentNavigableMap<Long, CompletableFuture<Void>> pendingTransformationMap =
+      new ConcurrentSkipListMap<>();
+
+  /**
+   * The staging of the files of a bulk load push, which is started by the ingestion task once the end of push is
+   * consumed, and waited for by the drainer thread when processing the end of push.
+   */
+  private volatile CompletableFuture<File> pendingBulkLoadStaging;
+
   /**
    * This field is used to track whether the last queued record has been fully processed or not.
    * For Leader role, it is redundant from {@literal ProducedRecord#persistedToDBFuture} since it is tracking
@@ -506,6 +529,79 @@ public class PartitionConsumptionState {
     this.latestPolledMessageTimestampInMs = timestampInMs;
   }
 
+  public void setTransformedValue(long offset, ByteBuffer transformedValue) {
+    transformedValueMap.put(offset, transformedValue);
+  }
+
+  /**
+   * Registers the batch transformation of the records up to the given offset, which must be done before the records
+   * are queued to the drainer.
+   */
+  public void addPendingTransformation(long lastOffset, CompletableFuture<Void> transformationFuture) {
+    pendingTransformationMap.put(lastOffset, transformationFuture);
+  }
+
+  /**
+   * Waits for the batch transformation which may cover the record at the given offset. The batches are transformed in
+   * order, so the batches ending before the offset are done already.
+   *
+   * @throws RuntimeException the failure of the batch transformation
+   */
+  public void waitForPendingTransformation(long offset) {
+    pendingTransformationMap.headMap(offset).clear();
+    Map.Entry<Long, CompletableFuture<Void>> pendingTransformation = pendingTransformationMap.ceilingEntry(offset);
+    if (pendingTransformation == null) {
+      return;
+    }
+    try {
+      pendingTransformation.getValue().join();
+    } catch (CompletionException e) {
+      throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+    }
+  }
+
+  /**
+   * Cancels the batch transformations which haven't been waited for, so that the drainer doesn't wait forever for the
+   * batches which won't be transformed once the ingestion task is closed.
+   */
+  public void cancelPendingTransformations() {
+    pendingTransformationMap.values().forEach(transformationFuture -> transformationFuture.cancel(false));
+    pendingTransformationMap.clear();
+  }
+
+  public void setPendingBulkLoadStaging(CompletableFuture<File> bulkLoadStagingFuture) {
+    this.pendingBulkLoadStaging = bulkLoadStagingFuture;
+  }
+
+  /**
+   * @return the staging of the bulk load files which hasn't been waited for yet, or null if there is none.
+   */
+  public CompletableFuture<File> removePendingBulkLoadStaging() {
+    CompletableFuture<File> bulkLoadStagingFuture = pendingBulkLoadStaging;
+    pendingBulkLoadStaging = null;
+    return bulkLoadStagingFuture;
+  }
+
+  /**
+   * Cancels the staging of the bulk load files, so that the drainer doesn't wait forever for the files which won't be
+   * staged once the ingestion task is closed.
+   */
+  public void cancelPendingBulkLoadStaging() {
+    CompletableFuture<File> bulkLoadStagingFuture = pendingBulkLoadStaging;
+    if (bulkLoadStagingFuture != null) {
+      bulkLoadStagingFuture.cancel(false);
+    }
+  }
+
+  /**
+   * @return the value transformed ahead for the record at the given offset, or null if it hasn't been. The values of
+   *         the records before the offset are discarded, as those records have been skipped.
+   */
+  public ByteBuffer removeTransformedValue(long offset) {
+    transformedValueMap.headMap(offset).clear();
+    return transformedValueMap.remove(offset);
+  }
+
   public long getConsumptionStartTimeInMs() {
     return consumptionStartTimeInMs;
   }
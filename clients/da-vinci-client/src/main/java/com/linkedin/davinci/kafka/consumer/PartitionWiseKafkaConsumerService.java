@@ -57,7 +57,9 @@ public class PartitionWiseKafkaConsumerService extends KafkaConsumerService {
       final AggKafkaConsumerServiceStats stats,
       final boolean isKafkaConsumerOffsetCollectionEnabled,
       final ReadOnlyStoreRepository metadataRepository,
-      final boolean isUnregisterMetricForDeletedStoreEnabled) {
+      final boolean isUnregisterMetricForDeletedStoreEnabled,
+      final boolean consumptionPrioritySchedulingEnabled,
+      final long consumptionPrioritySchedulingIntervalMs) {
     super(
         poolType,
         consumerFactory,
@@ -76,7 +78,9 @@ public class PartitionWiseKafkaConsumerService extends KafkaConsumerService {
         stats,
         isKafkaConsumerOffsetCollectionEnabled,
         metadataRepository,
-        isUnregisterMetricForDeletedStoreEnabled);
+        isUnregisterMetricForDeletedStoreEnabled,
+        consumptionPrioritySchedulingEnabled,
+        consumptionPrioritySchedulingIntervalMs);
     this.LOGGER = LogManager.getLogger(PartitionWiseKafkaConsumerService.class + " [" + kafkaUrlForLogger + "]");
   }
 
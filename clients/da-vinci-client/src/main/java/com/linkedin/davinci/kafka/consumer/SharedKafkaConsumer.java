@@ -71,6 +71,14 @@ class SharedKafkaConsumer implements PubSubConsumerAdapter {
   private final VeniceConcurrentHashMap<PubSubTopicPartition, PubSubTopic> subscribedTopicPartitionToVersionTopic =
       new VeniceConcurrentHashMap();
 
+  /**
+   * Partitions paused through {@link #pause(PubSubTopicPartition)} by the ingestion task, and partitions paused through
+   * {@link #pauseForScheduling(PubSubTopicPartition)} by the {@link ConsumptionPriorityScheduler}. These are tracked
+   * separately so that one party resuming a partition does not undo a pause still required by the other one.
+   */
+  private final Set<PubSubTopicPartition> pausedByIngestion = VeniceConcurrentHashMap.newKeySet();
+  private final Set<PubSubTopicPartition> pausedByScheduler = VeniceConcurrentHashMap.newKeySet();
+
   /**
    * This cached assignment is for performance optimization purpose since {@link #hasSubscription} could be invoked frequently.
    * This set should be unmodifiable.
@@ -156,6 +164,7 @@ class SharedKafkaConsumer implements PubSubConsumerAdapter {
     unSubscribeAction(() -> {
       this.delegate.unSubscribe(pubSubTopicPartition);
       subscribedTopicPartitionToVersionTopic.remove(pubSubTopicPartition);
+      clearPauseState(pubSubTopicPartition);
       unsubscriptionListener.call(this, pubSubTopicPartition);
       return Collections.singleton(pubSubTopicPartition);
     });
@@ -167,6 +176,7 @@ class SharedKafkaConsumer implements PubSubConsumerAdapter {
       this.delegate.batchUnsubscribe(pubSubTopicPartitionSet);
       for (PubSubTopicPartition pubSubTopicPartition: pubSubTopicPartitionSet) {
         subscribedTopicPartitionToVersionTopic.remove(pubSubTopicPartition);
+        clearPauseState(pubSubTopicPartition);
         unsubscriptionListener.call(this, pubSubTopicPartition);
       }
       return pubSubTopicPartitionSet;
@@ -286,12 +296,55 @@ class SharedKafkaConsumer implements PubSubConsumerAdapter {
 
   @Override
   public synchronized void pause(PubSubTopicPartition pubSubTopicPartition) {
+    pausedByIngestion.add(pubSubTopicPartition);
     this.delegate.pause(pubSubTopicPartition);
   }
 
   @Override
   public synchronized void resume(PubSubTopicPartition pubSubTopicPartition) {
-    this.delegate.resume(pubSubTopicPartition);
+    pausedByIngestion.remove(pubSubTopicPartition);
+    if (!pausedByScheduler.contains(pubSubTopicPartition)) {
+      this.delegate.resume(pubSubTopicPartition);
+    }
+  }
+
+  /**
+   * Pause used by {@link ConsumptionPriorityScheduler}, which is a no-op for partitions not assigned to this consumer.
+   */
+  synchronized void pauseForScheduling(PubSubTopicPartition pubSubTopicPartition) {
+    if (!hasSubscription(pubSubTopicPartition)) {
+      return;
+    }
+    if (pausedByScheduler.add(pubSubTopicPartition) && !pausedByIngestion.contains(pubSubTopicPartition)) {
+      this.delegate.pause(pubSubTopicPartition);
+    }
+  }
+
+  /**
+   * Resume used by {@link ConsumptionPriorityScheduler}, which leaves the partition paused if the ingestion task has
+   * also paused it.
+   */
+  synchronized void resumeForScheduling(PubSubTopicPartition pubSubTopicPartition) {
+    if (pausedByScheduler.remove(pubSubTopicPartition) && !pausedByIngestion.contains(pubSubTopicPartition)
+        && hasSubscription(pubSubTopicPartition)) {
+      this.delegate.resume(pubSubTopicPartition);
+    }
+  }
+
+  boolean isPausedByIngestion(PubSubTopicPartition pubSubTopicPartition) {
+    return pausedByIngestion.contains(pubSubTopicPartition);
+  }
+
+  boolean isPausedForScheduling(PubSubTopicPartition pubSubTopicPartition) {
+    return pausedByScheduler.contains(pubSubTopicPartition);
+  }
+
+  /**
+   * The pause state of a partition does not survive its unsubscription in the delegate consumer.
+   */
+  private void clearPauseState(PubSubTopicPartition pubSubTopicPartition) {
+    pausedByIngestion.remove(pubSubTopicPartition);
+    pausedByScheduler.remove(pubSubTopicPartition);
   }
 
   @Override
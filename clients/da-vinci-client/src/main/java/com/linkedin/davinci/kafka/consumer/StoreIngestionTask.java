@@ -9,6 +9,7 @@ import static com.linkedin.davinci.kafka.consumer.LeaderFollowerStateType.LEADER
 import static com.linkedin.davinci.kafka.consumer.LeaderFollowerStateType.STANDBY;
 import static com.linkedin.davinci.validation.KafkaDataIntegrityValidator.DISABLED;
 import static com.linkedin.venice.ConfigKeys.KAFKA_BOOTSTRAP_SERVERS;
+import static com.linkedin.venice.ConfigKeys.SERVER_BULK_LOAD_SST_DIR;
 import static com.linkedin.venice.LogMessages.KILLED_JOB_MESSAGE;
 import static com.linkedin.venice.kafka.protocol.enums.ControlMessageType.START_OF_SEGMENT;
 import static com.linkedin.venice.utils.Utils.FATAL_DATA_VALIDATION_ERROR;
@@ -20,6 +21,7 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 
 import com.linkedin.davinci.client.BlockingDaVinciRecordTransformer;
 import com.linkedin.davinci.client.DaVinciRecordTransformer;
+import com.linkedin.davinci.client.DaVinciRecordTransformerBatch;
 import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
 import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.config.VeniceStoreVersionConfig;
@@ -35,7 +37,9 @@ import com.linkedin.davinci.storage.StorageMetadataService;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.StoragePartitionConfig;
 import com.linkedin.davinci.store.cache.backend.ObjectCacheBackend;
+import com.linkedin.davinci.store.index.SecondaryIndexExtractor;
 import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.davinci.store.rocksdb.BulkLoadManifest;
 import com.linkedin.davinci.utils.ChunkAssembler;
 import com.linkedin.davinci.validation.KafkaDataIntegrityValidator;
 import com.linkedin.davinci.validation.PartitionTracker;
@@ -94,10 +98,12 @@ import com.linkedin.venice.serialization.avro.ChunkedValueManifestSerializer;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.serializer.AvroGenericDeserializer;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.system.store.MetaStoreWriter;
 import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.ComplementSet;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.DiskUsage;
 import com.linkedin.venice.utils.ExceptionUtils;
 import com.linkedin.venice.utils.LatencyUtils;
@@ -114,8 +120,10 @@ import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.utils.lazy.Lazy;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import java.io.Closeable;
+import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -132,6 +140,7 @@ import java.util.Properties;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.ExecutorService;
@@ -312,6 +321,17 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
   protected final ChunkAssembler chunkAssembler;
   private final Optional<ObjectCacheBackend> cacheBackend;
   private final DaVinciRecordTransformer recordTransformer;
+  /**
+   * Runs {@link DaVinciRecordTransformer#putBatch} for the records polled by the shared consumer threads, so that a
+   * slow transformer doesn't hold up the polling of the other stores. Only set when the batch transformation is
+   * enabled.
+   */
+  private final ExecutorService recordTransformerBatchExecutor;
+  /**
+   * Copies and verifies the files of the bulk load pushes once their end of push is consumed, so that the drainer only
+   * needs to ingest them into the partitions. Only set when {@link #serverConfig} has a bulk load SST dir.
+   */
+  private final ExecutorService bulkLoadStagingExecutor;
 
   protected final String localKafkaServer;
   protected final int localKafkaClusterId;
@@ -470,6 +490,18 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     this.localKafkaServer = this.kafkaProps.getProperty(KAFKA_BOOTSTRAP_SERVERS);
     this.localKafkaServerSingletonSet = Collections.singleton(localKafkaServer);
     this.isDaVinciClient = builder.isDaVinciClient();
+    if (recordTransformer != null && recordTransformer.isBatchTransformationEnabled() && isDaVinciClient) {
+      this.recordTransformerBatchExecutor =
+          Executors.newSingleThreadExecutor(new DaemonThreadFactory("record-transformer-batch-" + kafkaVersionTopic));
+    } else {
+      this.recordTransformerBatchExecutor = null;
+    }
+    if (serverConfig.getBulkLoadSstDir() != null && !isDaVinciClient) {
+      this.bulkLoadStagingExecutor =
+          Executors.newCachedThreadPool(new DaemonThreadFactory("bulk-load-staging-" + kafkaVersionTopic));
+    } else {
+      this.bulkLoadStagingExecutor = null;
+    }
     this.isActiveActiveReplicationEnabled = version.isActiveActiveReplicationEnabled();
     this.offsetLagDeltaRelaxEnabled = serverConfig.getOffsetLagDeltaRelaxFactorForFastOnlineTransitionInRestart() > 0;
     this.ingestionCheckpointDuringGracefulShutdownEnabled =
@@ -496,6 +528,14 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     this.compressionStrategy = version.getCompressionStrategy();
     this.compressorFactory = builder.getCompressorFactory();
     this.compressor = Lazy.of(() -> compressorFactory.getCompressor(compressionStrategy, kafkaVersionTopic));
+    List<String> secondaryIndexFields = storeConfig.getSecondaryIndexFields();
+    if (!secondaryIndexFields.isEmpty()) {
+      if (this.recordTransformer != null) {
+        throw new VeniceException("Secondary index is not supported with record transformer for store: " + storeName);
+      }
+      this.storageEngine.setSecondaryIndexExtractor(
+          new SecondaryIndexExtractor(storeName, secondaryIndexFields, schemaRepository, compressor::get));
+    }
     this.isChunked = version.isChunkingEnabled();
     this.isRmdChunked = version.isRmdChunkingEnabled();
     this.manifestSerializer = new ChunkedValueManifestSerializer(true);
@@ -1164,16 +1204,29 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     long beforeProcessingBatchRecordsTimestampMs = System.currentTimeMillis();
 
     partitionConsumptionState = partitionConsumptionStateMap.get(topicPartition.getPartitionNumber());
+    boolean recordsFiltered = false;
+    if (recordTransformerBatchExecutor != null && topicPartition.getPubSubTopic().isVersionTopic()) {
+      records = filterAndTransformRecords(
+          records,
+          topicPartition,
+          partitionConsumptionState,
+          kafkaUrl,
+          beforeProcessingBatchRecordsTimestampMs);
+      recordsFiltered = true;
+    }
     for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record: records) {
       long beforeProcessingPerRecordTimestampNs = System.nanoTime();
-      partitionConsumptionState.setLatestPolledMessageTimestampInMs(beforeProcessingBatchRecordsTimestampMs);
-      if (!shouldProcessRecord(record)) {
-        partitionConsumptionState.updateLatestIgnoredUpstreamRTOffset(kafkaUrl, record.getOffset());
-        continue;
-      }
+      if (!recordsFiltered) {
+        partitionConsumptionState.setLatestPolledMessageTimestampInMs(beforeProcessingBatchRecordsTimestampMs);
+        if (!shouldProcessRecord(record)) {
+          partitionConsumptionState.updateLatestIgnoredUpstreamRTOffset(kafkaUrl, record.getOffset());
+          continue;
+        }
 
-      // Check schema id availability before putting consumer record to drainer queue
-      waitReadyToProcessRecord(record);
+        // Check schema id availability before putting consumer record to drainer queue
+        waitReadyToProcessRecord(record);
+      }
+      maybeStageBulkLoadFiles(record, partitionConsumptionState);
 
       totalBytesRead += handleSingleMessage(
           new PubSubMessageProcessedResultWrapper<>(record),
@@ -1206,6 +1259,104 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     }
   }
 
+  /**
+   * Filters the records polled from the version topic like {@link #produceToStoreBufferServiceOrKafka}, and hands the
+   * values of the puts among them to {@link #recordTransformerBatchExecutor} to be transformed with
+   * {@link DaVinciRecordTransformer#putBatch}, so that the consumer thread only filters and queues the records. The
+   * drainer waits for the batch through {@link PartitionConsumptionState#waitForPendingTransformation(long)}, and then
+   * takes the serialized outputs through {@link PartitionConsumptionState#removeTransformedValue(long)}, while the
+   * chunks, which need to be assembled first, are still transformed by the drainer one record at a time.
+   *
+   * @return the records to queue
+   */
+  private List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> filterAndTransformRecords(
+      Iterable<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> records,
+      PubSubTopicPartition topicPartition,
+      PartitionConsumptionState partitionConsumptionState,
+      String kafkaUrl,
+      long beforeProcessingBatchRecordsTimestampMs) throws InterruptedException {
+    List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> recordsToQueue = new ArrayList<>();
+    List<Long> offsetsToTransform = new ArrayList<>();
+    DaVinciRecordTransformerBatch<Object, Object, Object> batch = new DaVinciRecordTransformerBatch<>();
+    SchemaEntry keySchema = schemaRepository.getKeySchema(storeName);
+    for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record: records) {
+      partitionConsumptionState.setLatestPolledMessageTimestampInMs(beforeProcessingBatchRecordsTimestampMs);
+      if (!shouldProcessRecord(record)) {
+        partitionConsumptionState.updateLatestIgnoredUpstreamRTOffset(kafkaUrl, record.getOffset());
+        continue;
+      }
+      // Check schema id availability before putting consumer record to drainer queue
+      waitReadyToProcessRecord(record);
+      recordsToQueue.add(record);
+
+      KafkaMessageEnvelope kafkaValue = record.getValue();
+      if (record.getKey().isControlMessage() || MessageType.valueOf(kafkaValue) != MessageType.PUT) {
+        continue;
+      }
+      Put put = (Put) kafkaValue.payloadUnion;
+      int schemaId = put.getSchemaId();
+      if (schemaId <= 0) {
+        continue;
+      }
+      byte[] keyBytes = record.getKey().getKey();
+      ByteBuffer valueBytes = put.getPutValue().duplicate();
+      Schema valueSchema = schemaRepository.getValueSchema(storeName, schemaId).getSchema();
+      offsetsToTransform.add(record.getOffset());
+      batch.add(
+          Lazy.of(() -> deserializeAvroObjectAndReturn(ByteBuffer.wrap(keyBytes), keySchema)),
+          Lazy.of(() -> decompressAndDeserialize(valueBytes, valueSchema)));
+    }
+    if (batch.size() == 0) {
+      return recordsToQueue;
+    }
+
+    // Registered before the records are queued, so that the drainer always finds the batch to wait for.
+    int partition = topicPartition.getPartitionNumber();
+    partitionConsumptionState.addPendingTransformation(
+        offsetsToTransform.get(offsetsToTransform.size() - 1),
+        CompletableFuture.runAsync(
+            () -> transformBatch(partition, batch, offsetsToTransform, partitionConsumptionState),
+            recordTransformerBatchExecutor));
+    return recordsToQueue;
+  }
+
+  private void transformBatch(
+      int partition,
+      DaVinciRecordTransformerBatch<Object, Object, Object> batch,
+      List<Long> offsets,
+      PartitionConsumptionState partitionConsumptionState) {
+    long recordTransformStartTime = System.currentTimeMillis();
+    try {
+      recordTransformer.putBatch(partition, batch);
+    } catch (Exception e) {
+      versionedIngestionStats.recordTransformerError(storeName, versionNumber, 1, recordTransformStartTime);
+      throw new VeniceMessageException(
+          "Record transformer experienced an error when transforming a batch of " + batch.size()
+              + " records of partition " + partition,
+          e);
+    }
+    Schema valueOutputSchema = recordTransformer.getValueOutputSchema();
+    for (int i = 0; i < batch.size(); i++) {
+      partitionConsumptionState
+          .setTransformedValue(offsets.get(i), recordTransformer.getValueBytes(valueOutputSchema, batch.getOutput(i)));
+    }
+    // The latency stays per record, as for the records transformed one at a time.
+    versionedIngestionStats.recordTransformerLatency(
+        storeName,
+        versionNumber,
+        LatencyUtils.getElapsedTimeFromMsToMs(recordTransformStartTime) / batch.size(),
+        recordTransformStartTime);
+  }
+
+  private Object decompressAndDeserialize(ByteBuffer valueBytes, Schema valueSchema) {
+    try {
+      return SerializerDeserializerFactory.getAvroGenericDeserializer(valueSchema)
+          .deserialize(compressor.get().decompress(valueBytes));
+    } catch (IOException e) {
+      throw new VeniceException("Failed to decompress the value for store: " + storeName, e);
+    }
+  }
+
   protected void produceToStoreBufferServiceOrKafkaInBatch(
       Iterable<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> records,
       PubSubTopicPartition topicPartition,
@@ -1734,6 +1885,14 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
 
   private void internalClose(boolean doFlush) {
     this.missingSOPCheckExecutor.shutdownNow();
+    if (recordTransformerBatchExecutor != null) {
+      recordTransformerBatchExecutor.shutdownNow();
+      partitionConsumptionStateMap.values().forEach(PartitionConsumptionState::cancelPendingTransformations);
+    }
+    if (bulkLoadStagingExecutor != null) {
+      bulkLoadStagingExecutor.shutdownNow();
+      partitionConsumptionStateMap.values().forEach(PartitionConsumptionState::cancelPendingBulkLoadStaging);
+    }
 
     // Only reset Offset Messages are important, subscribe/unsubscribe will be handled
     // on the restart by Helix Controller notifications on the new StoreIngestionTask.
@@ -2826,6 +2985,109 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     });
   }
 
+  /**
+   * The bulk load pushes only produce the control messages to the version topic, and the records of the partition are
+   * ingested from the SST files generated by the push job instead, see
+   * {@link com.linkedin.venice.ConfigKeys#SERVER_BULK_LOAD_SST_DIR}. Such a push is announced in the debug info of its
+   * end of push, and its partitions fail if their files can't be ingested, rather than coming up empty.
+   *
+   * @return the dir of the SST files of the partition, or null if the push is not a bulk load push
+   */
+  private File getBulkLoadPartitionDir(KafkaMessageEnvelope endOfPushKME, int partition) {
+    String announcedDir = getAnnouncedBulkLoadDir(endOfPushKME);
+    if (announcedDir == null) {
+      return null;
+    }
+    String replicaId = getReplicaId(kafkaVersionTopic, partition);
+    if (isDaVinciClient) {
+      throw new VeniceException("Bulk load push is not supported by Da Vinci, replica: " + replicaId);
+    }
+    String bulkLoadSstDir = serverConfig.getBulkLoadSstDir();
+    if (bulkLoadSstDir == null) {
+      throw new VeniceException(
+          "Received the end of a bulk load push with files in: " + announcedDir + ", but " + SERVER_BULK_LOAD_SST_DIR
+              + " is not set, replica: " + replicaId);
+    }
+    File partitionDir = Paths.get(bulkLoadSstDir, kafkaVersionTopic, Integer.toString(partition)).toFile();
+    if (!BulkLoadManifest.exists(partitionDir)) {
+      throw new VeniceException(
+          "Missing the manifest of the bulk load files in: " + partitionDir + " announced in: " + announcedDir
+              + ", replica: " + replicaId);
+    }
+    return partitionDir;
+  }
+
+  /**
+   * @return the dir of the SST files announced in the debug info of the end of push, or null if there is none
+   */
+  private static String getAnnouncedBulkLoadDir(KafkaMessageEnvelope endOfPushKME) {
+    Map<CharSequence, CharSequence> debugInfo = ((ControlMessage) endOfPushKME.payloadUnion).debugInfo;
+    if (debugInfo != null) {
+      for (Map.Entry<CharSequence, CharSequence> entry: debugInfo.entrySet()) {
+        if (BulkLoadManifest.BULK_LOAD_SST_DIR_DEBUG_INFO_KEY.equals(entry.getKey().toString())) {
+          return entry.getValue().toString();
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Starts staging the files of a bulk load push on {@link #bulkLoadStagingExecutor} when its end of push is consumed,
+   * before it is queued, so that copying and verifying the files from the shared file system doesn't hold up the
+   * drainer thread, and with it the other partitions which share the drainer.
+   */
+  private void maybeStageBulkLoadFiles(
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record,
+      PartitionConsumptionState partitionConsumptionState) {
+    if (bulkLoadStagingExecutor == null || !record.getKey().isControlMessage()
+        || !record.getTopicPartition().getPubSubTopic().isVersionTopic()
+        || partitionConsumptionState.getOffsetRecord().isEndOfPushReceived()) {
+      return;
+    }
+    KafkaMessageEnvelope endOfPushKME = record.getValue();
+    if (ControlMessageType.valueOf((ControlMessage) endOfPushKME.payloadUnion) != ControlMessageType.END_OF_PUSH
+        || getAnnouncedBulkLoadDir(endOfPushKME) == null) {
+      return;
+    }
+    int partition = record.getTopicPartition().getPartitionNumber();
+    partitionConsumptionState.setPendingBulkLoadStaging(
+        CompletableFuture.supplyAsync(() -> stageBulkLoadFiles(endOfPushKME, partition), bulkLoadStagingExecutor));
+  }
+
+  /**
+   * @return the dir the files of the partition were staged from, or null if the push is not a bulk load push
+   */
+  private File stageBulkLoadFiles(KafkaMessageEnvelope endOfPushKME, int partition) {
+    File bulkLoadPartitionDir = getBulkLoadPartitionDir(endOfPushKME, partition);
+    if (bulkLoadPartitionDir != null) {
+      storageEngine.stageBulkLoadFiles(partition, bulkLoadPartitionDir);
+    }
+    return bulkLoadPartitionDir;
+  }
+
+  /**
+   * Waits for the files of the bulk load push staged since its end of push was consumed. The files are only staged on
+   * the spot if the push couldn't be staged ahead, e.g. because the server has no bulk load SST dir, in which case
+   * {@link #getBulkLoadPartitionDir} fails the partition without copying anything.
+   *
+   * @return the dir the files of the partition were staged from, or null if the push is not a bulk load push
+   */
+  private File waitForBulkLoadFiles(
+      KafkaMessageEnvelope endOfPushKME,
+      int partition,
+      PartitionConsumptionState partitionConsumptionState) {
+    CompletableFuture<File> bulkLoadStagingFuture = partitionConsumptionState.removePendingBulkLoadStaging();
+    if (bulkLoadStagingFuture == null) {
+      return stageBulkLoadFiles(endOfPushKME, partition);
+    }
+    try {
+      return bulkLoadStagingFuture.join();
+    } catch (CompletionException e) {
+      throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+    }
+  }
+
   protected void processEndOfPush(
       KafkaMessageEnvelope endOfPushKME,
       int partition,
@@ -2841,6 +3103,9 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
       return;
     }
 
+    // Checked before the EOP is recorded, so that a bulk load push missing its files fails the partition for good.
+    File bulkLoadPartitionDir = waitForBulkLoadFiles(endOfPushKME, partition, partitionConsumptionState);
+
     // We need to keep track of when the EOP happened, as that is used within Hybrid Stores' lag measurement
     partitionConsumptionState.getOffsetRecord().endOfPushReceived(offset);
     /*
@@ -2854,6 +3119,14 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
      */
     partitionConsumptionState.setDeferredWrite(storagePartitionConfig.isDeferredWrite());
 
+    if (bulkLoadPartitionDir != null) {
+      LOGGER.info(
+          "Ingesting bulk load files staged from: {} for replica: {}",
+          bulkLoadPartitionDir,
+          partitionConsumptionState.getReplicaId());
+      storageEngine.ingestBulkLoadFiles(partition);
+    }
+
     /**
      * Indicate the batch push is done, and the internal storage engine needs to do some cleanup.
      */
@@ -3210,6 +3483,10 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
           leaderProducedRecordContext,
           kafkaUrl,
           false);
+      // Exposed to the snapshot reads as the high watermark of the data which has been applied to the storage engine.
+      storageEngine.updateLatestAppliedOffset(
+          partitionConsumptionState.getPartition(),
+          partitionConsumptionState.getLatestProcessedLocalVersionTopicOffset());
       if (checkReadyToServeAfterProcess) {
         defaultReadyToServeChecker.apply(partitionConsumptionState);
       }
@@ -3505,48 +3782,58 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
 
         // Do transformation recompute key, value and partition
         if (recordTransformer != null) {
-          long recordTransformStartTime = System.currentTimeMillis();
-          ByteBuffer valueBytes = put.getPutValue();
-          Schema valueSchema = schemaRepository.getValueSchema(storeName, putSchemaId).getSchema();
-
-          // Decompress/assemble record
-          Object assembledObject = chunkAssembler.bufferAndAssembleRecord(
-              consumerRecord.getTopicPartition(),
-              putSchemaId,
-              keyBytes,
-              valueBytes,
-              consumerRecord.getOffset(),
-              Lazy.of(() -> new AvroGenericDeserializer<>(valueSchema, valueSchema)),
-              putSchemaId,
-              compressor.get());
-
-          // Current record is a chunk. We only write to the storage engine for fully assembled records
-          if (assembledObject == null) {
-            return 0;
+          // The value may have been transformed in a batch once the record was polled.
+          ByteBuffer transformedBytes = null;
+          if (leaderProducedRecordContext == null && recordTransformerBatchExecutor != null) {
+            partitionConsumptionState.waitForPendingTransformation(consumerRecord.getOffset());
+            transformedBytes = partitionConsumptionState.removeTransformedValue(consumerRecord.getOffset());
           }
+          if (transformedBytes == null) {
+            long recordTransformStartTime = System.currentTimeMillis();
+            ByteBuffer valueBytes = put.getPutValue();
+            Schema valueSchema = schemaRepository.getValueSchema(storeName, putSchemaId).getSchema();
+
+            // Decompress/assemble record
+            Object assembledObject = chunkAssembler.bufferAndAssembleRecord(
+                consumerRecord.getTopicPartition(),
+                putSchemaId,
+                keyBytes,
+                valueBytes,
+                consumerRecord.getOffset(),
+                Lazy.of(() -> SerializerDeserializerFactory.getAvroGenericDeserializer(valueSchema)),
+                putSchemaId,
+                compressor.get());
+
+            // Current record is a chunk. We only write to the storage engine for fully assembled records
+            if (assembledObject == null) {
+              return 0;
+            }
 
-          SchemaEntry keySchema = schemaRepository.getKeySchema(storeName);
-          Lazy<Object> lazyKey = Lazy.of(() -> deserializeAvroObjectAndReturn(ByteBuffer.wrap(keyBytes), keySchema));
-          Lazy<Object> lazyValue = Lazy.of(() -> assembledObject);
+            SchemaEntry keySchema = schemaRepository.getKeySchema(storeName);
+            Lazy<Object> lazyKey =
+                Lazy.of(() -> deserializeAvroObjectAndReturn(ByteBuffer.wrap(keyBytes), keySchema));
+            Lazy<Object> lazyValue = Lazy.of(() -> assembledObject);
 
-          Object transformedRecord = null;
-          try {
-            transformedRecord = recordTransformer.put(lazyKey, lazyValue);
-          } catch (Exception e) {
-            versionedIngestionStats.recordTransformerError(storeName, versionNumber, 1, currentTimeMs);
-            String errorMessage = "Record transformer experienced an error when transforming value=" + assembledObject;
+            Object transformedRecord = null;
+            try {
+              transformedRecord = recordTransformer.put(lazyKey, lazyValue);
+            } catch (Exception e) {
+              versionedIngestionStats.recordTransformerError(storeName, versionNumber, 1, currentTimeMs);
+              String errorMessage =
+                  "Record transformer experienced an error when transforming value=" + assembledObject;
 
-            throw new VeniceMessageException(errorMessage, e);
+              throw new VeniceMessageException(errorMessage, e);
+            }
+            transformedBytes =
+                recordTransformer.getValueBytes(recordTransformer.getValueOutputSchema(), transformedRecord);
+            versionedIngestionStats.recordTransformerLatency(
+                storeName,
+                versionNumber,
+                LatencyUtils.getElapsedTimeFromMsToMs(recordTransformStartTime),
+                currentTimeMs);
           }
-          ByteBuffer transformedBytes =
-              recordTransformer.getValueBytes(recordTransformer.getValueOutputSchema(), transformedRecord);
 
           put.putValue = transformedBytes;
-          versionedIngestionStats.recordTransformerLatency(
-              storeName,
-              versionNumber,
-              LatencyUtils.getElapsedTimeFromMsToMs(recordTransformStartTime),
-              currentTimeMs);
           writeToStorageEngine(producedPartition, keyBytes, put);
         } else {
           prependHeaderAndWriteToStorageEngine(
@@ -3792,7 +4079,7 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
   }
 
   private Object deserializeAvroObjectAndReturn(ByteBuffer input, SchemaEntry schemaEntry) {
-    return new AvroGenericDeserializer<>(schemaEntry.getSchema(), schemaEntry.getSchema()).deserialize(input);
+    return SerializerDeserializerFactory.getAvroGenericDeserializer(schemaEntry.getSchema()).deserialize(input);
   }
 
   private void maybeCloseInactiveIngestionTask() {
@@ -51,7 +51,9 @@ public class TopicWiseKafkaConsumerService extends KafkaConsumerService {
       final AggKafkaConsumerServiceStats stats,
       final boolean isKafkaConsumerOffsetCollectionEnabled,
       final ReadOnlyStoreRepository metadataRepository,
-      final boolean isUnregisterMetricForDeletedStoreEnabled) {
+      final boolean isUnregisterMetricForDeletedStoreEnabled,
+      final boolean consumptionPrioritySchedulingEnabled,
+      final long consumptionPrioritySchedulingIntervalMs) {
     super(
         poolType,
         consumerFactory,
@@ -70,7 +72,9 @@ public class TopicWiseKafkaConsumerService extends KafkaConsumerService {
         stats,
         isKafkaConsumerOffsetCollectionEnabled,
         metadataRepository,
-        isUnregisterMetricForDeletedStoreEnabled);
+        isUnregisterMetricForDeletedStoreEnabled,
+        consumptionPrioritySchedulingEnabled,
+        consumptionPrioritySchedulingIntervalMs);
     LOGGER = LogManager.getLogger(TopicWiseKafkaConsumerService.class + " [" + kafkaUrlForLogger + "]");
   }
 
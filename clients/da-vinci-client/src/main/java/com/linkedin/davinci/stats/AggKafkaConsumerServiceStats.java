@@ -1,5 +1,6 @@
 package com.linkedin.davinci.stats;
 
+import com.linkedin.davinci.kafka.consumer.ConsumptionPriorityClass;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.stats.AbstractVeniceAggStoreStats;
@@ -99,6 +100,17 @@ public class AggKafkaConsumerServiceStats extends AbstractVeniceAggStoreStats<Ka
     totalStats.recordLatestOffsetIsPresent();
   }
 
+  public void recordTotalPriorityClassConsumption(
+      ConsumptionPriorityClass priorityClass,
+      int recordCount,
+      int byteSize) {
+    totalStats.recordPriorityClassConsumption(priorityClass, recordCount, byteSize);
+  }
+
+  public void recordTotalPriorityClassPausedPartitions(ConsumptionPriorityClass priorityClass, int count) {
+    totalStats.recordPriorityClassPausedPartitions(priorityClass, count);
+  }
+
   static class KafkaConsumerServiceStatsSupplier implements StatsSupplier<KafkaConsumerServiceStats> {
     private final LongSupplier getMaxElapsedTimeSinceLastPollInConsumerPool;
 
@@ -1,5 +1,6 @@
 package com.linkedin.davinci.stats;
 
+import com.linkedin.davinci.kafka.consumer.ConsumptionPriorityClass;
 import com.linkedin.venice.stats.AbstractVeniceStats;
 import com.linkedin.venice.stats.LongAdderRateGauge;
 import com.linkedin.venice.utils.Time;
@@ -12,6 +13,8 @@ import io.tehuti.metrics.stats.Max;
 import io.tehuti.metrics.stats.Min;
 import io.tehuti.metrics.stats.OccurrenceRate;
 import io.tehuti.metrics.stats.Total;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.function.LongSupplier;
 
 
@@ -44,6 +47,12 @@ public class KafkaConsumerServiceStats extends AbstractVeniceStats {
   private final Sensor getLatestOffsetIsPresentSensor;
   private final Sensor byteSizeSensor;
   private final Sensor idleTimeSensor;
+  private final Map<ConsumptionPriorityClass, LongAdderRateGauge> priorityClassRecordsSensors =
+      new EnumMap<>(ConsumptionPriorityClass.class);
+  private final Map<ConsumptionPriorityClass, LongAdderRateGauge> priorityClassBytesSensors =
+      new EnumMap<>(ConsumptionPriorityClass.class);
+  private final Map<ConsumptionPriorityClass, Sensor> priorityClassPausedPartitionsSensors =
+      new EnumMap<>(ConsumptionPriorityClass.class);
 
   public KafkaConsumerServiceStats(
       MetricsRepository metricsRepository,
@@ -120,6 +129,32 @@ public class KafkaConsumerServiceStats extends AbstractVeniceStats {
         registerSensor("getLatestOffsetIsAbsent", latestOffsetParent, new OccurrenceRate());
     this.getLatestOffsetIsPresentSensor =
         registerSensor("getLatestOffsetIsPresent", latestOffsetParent, new OccurrenceRate());
+
+    // Throughput and paused partitions of each priority class, only reported when priority scheduling is enabled.
+    for (ConsumptionPriorityClass priorityClass: ConsumptionPriorityClass.values()) {
+      String prefix = "consumption_priority_" + priorityClass.getMetricPrefix();
+      priorityClassRecordsSensors.put(
+          priorityClass,
+          registerOnlyTotalRate(
+              prefix + "_records",
+              totalStats,
+              () -> totalStats.priorityClassRecordsSensors.get(priorityClass),
+              time));
+      priorityClassBytesSensors.put(
+          priorityClass,
+          registerOnlyTotalRate(
+              prefix + "_bytes",
+              totalStats,
+              () -> totalStats.priorityClassBytesSensors.get(priorityClass),
+              time));
+      priorityClassPausedPartitionsSensors.put(
+          priorityClass,
+          registerOnlyTotalSensor(
+              prefix + "_paused_partitions",
+              totalStats,
+              () -> totalStats.priorityClassPausedPartitionsSensors.get(priorityClass),
+              new Gauge()));
+    }
   }
 
   public void recordPollRequestLatency(double latency) {
@@ -198,4 +233,13 @@ public class KafkaConsumerServiceStats extends AbstractVeniceStats {
   public void recordSubscribedPartitionsNum(int count) {
     subscribedPartitionsNum.record(count);
   }
+
+  public void recordPriorityClassConsumption(ConsumptionPriorityClass priorityClass, int recordCount, int byteSize) {
+    priorityClassRecordsSensors.get(priorityClass).record(recordCount);
+    priorityClassBytesSensors.get(priorityClass).record(byteSize);
+  }
+
+  public void recordPriorityClassPausedPartitions(ConsumptionPriorityClass priorityClass, int count) {
+    priorityClassPausedPartitionsSensors.get(priorityClass).record(count);
+  }
 }
@@ -0,0 +1,118 @@
+package com.linkedin.davinci.storage;
+
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.partitioner.VenicePartitioner;
+import com.linkedin.venice.utils.LatencyUtils;
+import com.linkedin.venice.utils.PartitionUtils;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * This class warms up the storage partitions handed over from the isolated ingestion process before the main process
+ * resumes the ingestion and serves them.
+ *
+ * The block cache of the isolated process cannot be shared with the main process, so a partition reopened in the main
+ * process starts with a cold block cache, and the first reads after the handover all go to the disk. This class keeps
+ * the most recently read keys of each store, and replays them against the new partition, so the data blocks around the
+ * hot keys are loaded into the block cache of the main process before the partition serves any read. The keys are kept
+ * per store instead of per version, so the reads served by the current version warm up the partitions of the future
+ * version.
+ *
+ * Only one in {@link #keySampleRate} reads is recorded, picked at random by the reading thread, so that most of the
+ * reads don't touch the shared index of the recorded keys. The hot keys are read the most, so they still make it into
+ * the sample.
+ */
+public class StoragePartitionWarmer {
+  private static final Logger LOGGER = LogManager.getLogger(StoragePartitionWarmer.class);
+
+  /**
+   * Records one in this many reads by default.
+   */
+  public static final int DEFAULT_KEY_SAMPLE_RATE = 16;
+
+  private final int maxKeyCountPerStore;
+  private final int keySampleRate;
+  private final Map<String, RecentKeys> storeToRecentKeysMap = new VeniceConcurrentHashMap<>();
+
+  public StoragePartitionWarmer(int maxKeyCountPerStore) {
+    this(maxKeyCountPerStore, DEFAULT_KEY_SAMPLE_RATE);
+  }
+
+  public StoragePartitionWarmer(int maxKeyCountPerStore, int keySampleRate) {
+    if (maxKeyCountPerStore <= 0) {
+      throw new IllegalArgumentException("The max key count per store must be positive, got: " + maxKeyCountPerStore);
+    }
+    if (keySampleRate <= 0) {
+      throw new IllegalArgumentException("The key sample rate must be positive, got: " + keySampleRate);
+    }
+    this.maxKeyCountPerStore = maxKeyCountPerStore;
+    this.keySampleRate = keySampleRate;
+  }
+
+  /**
+   * Records a key read by the application, if the read is sampled. The oldest key of the store is evicted once the
+   * store has {@link #maxKeyCountPerStore} keys recorded.
+   */
+  public void recordKeyAccess(String storeName, byte[] keyBytes) {
+    if (keySampleRate > 1 && ThreadLocalRandom.current().nextInt(keySampleRate) != 0) {
+      return;
+    }
+    storeToRecentKeysMap.computeIfAbsent(storeName, s -> new RecentKeys(maxKeyCountPerStore)).add(keyBytes);
+  }
+
+  /**
+   * Reads the recently accessed keys of the store which belong to the given partition of the version.
+   *
+   * @return the number of keys replayed.
+   */
+  public int warmUpPartition(AbstractStorageEngine storageEngine, Version version, int partition) {
+    RecentKeys recentKeys = storeToRecentKeysMap.get(version.getStoreName());
+    if (recentKeys == null) {
+      return 0;
+    }
+    VenicePartitioner partitioner =
+        PartitionUtils.getUserPartitionLevelVenicePartitioner(version.getPartitionerConfig());
+    int partitionCount = version.getPartitionCount();
+    long startTimeInNs = System.nanoTime();
+    // The same key could be recorded multiple times.
+    Set<ByteBuffer> replayedKeys = new HashSet<>();
+    for (int i = 0; i < recentKeys.keys.length(); i++) {
+      byte[] keyBytes = recentKeys.keys.get(i);
+      if (keyBytes == null || partitioner.getPartitionId(keyBytes, partitionCount) != partition
+          || !replayedKeys.add(ByteBuffer.wrap(keyBytes))) {
+        continue;
+      }
+      storageEngine.get(partition, keyBytes);
+    }
+    LOGGER.info(
+        "Warmed up partition: {} of topic: {} with {} recently accessed keys in {} ms",
+        partition,
+        version.kafkaTopicName(),
+        replayedKeys.size(),
+        LatencyUtils.getElapsedTimeFromNSToMS(startTimeInNs));
+    return replayedKeys.size();
+  }
+
+  private static class RecentKeys {
+    private final AtomicReferenceArray<byte[]> keys;
+    private final AtomicLong nextIndex = new AtomicLong();
+
+    private RecentKeys(int capacity) {
+      this.keys = new AtomicReferenceArray<>(capacity);
+    }
+
+    private void add(byte[] keyBytes) {
+      keys.set((int) (nextIndex.getAndIncrement() % keys.length()), keyBytes);
+    }
+  }
+}
@@ -3,6 +3,7 @@ package com.linkedin.davinci.storage.chunking;
 import com.linkedin.davinci.listener.response.NoOpReadResponseStats;
 import com.linkedin.davinci.listener.response.ReadResponseStats;
 import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.StoragePartitionSnapshot;
 import com.linkedin.davinci.store.record.ByteBufferValueRecord;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
@@ -16,6 +17,9 @@ import com.linkedin.venice.utils.ByteUtils;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryDecoder;
 
@@ -132,6 +136,71 @@ public abstract class AbstractAvroChunkingAdapter<T> implements ChunkingAdapter<
         manifestContainer);
   }
 
+  /**
+   * Reads the value from a snapshot of the partition, so the chunks of a large value are read from the same snapshot as
+   * its manifest.
+   */
+  public T getFromSnapshot(
+      StoragePartitionSnapshot snapshot,
+      String storeVersionName,
+      int partition,
+      ByteBuffer key,
+      boolean isChunked,
+      T reusedValue,
+      BinaryDecoder reusedDecoder,
+      int readerSchemaId,
+      StoreDeserializerCache<T> storeDeserializerCache,
+      VeniceCompressor compressor) {
+    if (isChunked) {
+      key = ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(key);
+    }
+    return ChunkingUtils.getFromStorage(
+        this,
+        (ignoredPartition, keyBuffer) -> snapshot.get(keyBuffer),
+        storeVersionName,
+        partition,
+        key,
+        NoOpReadResponseStats.SINGLETON,
+        reusedValue,
+        reusedDecoder,
+        readerSchemaId,
+        storeDeserializerCache,
+        compressor,
+        null);
+  }
+
+  /**
+   * Looks up the keys of the same partition with one batch lookup of the storage engine.
+   *
+   * @return the values in the order of the keys, where the value of a missing key is null.
+   */
+  public List<T> multiGet(
+      AbstractStorageEngine store,
+      int partition,
+      List<byte[]> keys,
+      boolean isChunked,
+      BinaryDecoder reusedDecoder,
+      int readerSchemaId,
+      StoreDeserializerCache<T> storeDeserializerCache,
+      VeniceCompressor compressor) {
+    if (isChunked) {
+      List<byte[]> topLevelKeys = new ArrayList<>(keys.size());
+      for (byte[] key: keys) {
+        topLevelKeys.add(ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(key));
+      }
+      keys = topLevelKeys;
+    }
+    return ChunkingUtils.getFromStorageByKeys(
+        this,
+        store,
+        partition,
+        keys,
+        reusedDecoder,
+        readerSchemaId,
+        storeDeserializerCache,
+        compressor);
+  }
+
   public ByteBufferValueRecord<T> getWithSchemaId(
       AbstractStorageEngine store,
       int partition,
@@ -217,6 +286,67 @@ public abstract class AbstractAvroChunkingAdapter<T> implements ChunkingAdapter<
         computingCallback);
   }
 
+  /**
+   * Deserializes the values of the keys in the range of [startKeyBytes, endKeyBytes) of the partition, and passes them
+   * to the consumer, in the order of the serialized keys. The consumer is invoked in the calling thread.
+   */
+  public void getByKeyRange(
+      AbstractStorageEngine store,
+      int userPartition,
+      byte[] startKeyBytes,
+      byte[] endKeyBytes,
+      BinaryDecoder reusedDecoder,
+      boolean isChunked,
+      int readerSchemaId,
+      StoreDeserializerCache<T> storeDeserializerCache,
+      VeniceCompressor compressor,
+      BiConsumer<byte[], T> recordConsumer) {
+
+    if (isChunked) {
+      throw new VeniceException("Scan is not supported when chunking is enabled.");
+    }
+
+    ChunkingUtils.getFromStorageByKeyRange(
+        this,
+        store,
+        userPartition,
+        startKeyBytes,
+        endKeyBytes,
+        reusedDecoder,
+        readerSchemaId,
+        storeDeserializerCache,
+        compressor,
+        recordConsumer);
+  }
+
+  /**
+   * Deserializes the values of the records whose secondary index entries are in the range of
+   * [startEntryKey, endEntryKey) of the partition, and passes them to the consumer, in the order of the entries. The
+   * consumer is invoked in the calling thread.
+   */
+  public void getBySecondaryIndexRange(
+      AbstractStorageEngine store,
+      int userPartition,
+      byte[] startEntryKey,
+      byte[] endEntryKey,
+      BinaryDecoder reusedDecoder,
+      int readerSchemaId,
+      StoreDeserializerCache<T> storeDeserializerCache,
+      VeniceCompressor compressor,
+      BiConsumer<byte[], T> recordConsumer) {
+    ChunkingUtils.getFromStorageBySecondaryIndexRange(
+        this,
+        store,
+        userPartition,
+        startEntryKey,
+        endEntryKey,
+        reusedDecoder,
+        readerSchemaId,
+        storeDeserializerCache,
+        compressor,
+        recordConsumer);
+  }
+
   private final DecompressingDecoderWrapperValueOnly<byte[], T> byteArrayDecompressingDecoderValueOnly = (
       reusedDecoder,
       bytes,
@@ -19,7 +19,10 @@ import com.linkedin.venice.storage.protocol.ChunkedKeySuffix;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.writer.VeniceWriter;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryDecoder;
 
@@ -149,6 +152,44 @@ public class ChunkingUtils {
         null);
   }
 
+  /**
+   * Looks up the top-level keys of the same partition with one batch lookup, and then fetches the chunks of the large
+   * values one by one.
+   *
+   * @return the values in the order of the keys, where the value of a missing key is null.
+   */
+  static <VALUE, CHUNKS_CONTAINER> List<VALUE> getFromStorageByKeys(
+      ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
+      AbstractStorageEngine store,
+      int partition,
+      List<byte[]> keys,
+      BinaryDecoder reusedDecoder,
+      int readerSchemaId,
+      StoreDeserializerCache<VALUE> storeDeserializerCache,
+      VeniceCompressor compressor) {
+    List<byte[]> rawValues = store.multiGet(partition, keys);
+    List<VALUE> values = new ArrayList<>(rawValues.size());
+    for (byte[] rawValue: rawValues) {
+      values.add(
+          getFromStorage(
+              rawValue,
+              (rawValue == null ? 0 : rawValue.length),
+              0,
+              adapter,
+              store::get,
+              store.getStoreVersionName(),
+              partition,
+              NoOpReadResponseStats.SINGLETON,
+              null,
+              reusedDecoder,
+              readerSchemaId,
+              storeDeserializerCache,
+              compressor,
+              null));
+    }
+    return values;
+  }
+
   static <CHUNKS_CONTAINER, VALUE> void getFromStorageByPartialKey(
       ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
       AbstractStorageEngine store,
@@ -206,6 +247,92 @@ public class ChunkingUtils {
     store.getByKeyPrefix(partition, keyPrefixBytes, callback);
   }
 
+  static <CHUNKS_CONTAINER, VALUE> void getFromStorageByKeyRange(
+      ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
+      AbstractStorageEngine store,
+      int partition,
+      byte[] startKeyBytes,
+      byte[] endKeyBytes,
+      BinaryDecoder reusedDecoder,
+      int readerSchemaId,
+      StoreDeserializerCache<VALUE> storeDeserializerCache,
+      VeniceCompressor compressor,
+      BiConsumer<byte[], VALUE> recordConsumer) {
+    BytesStreamingCallback callback = getDeserializingCallback(
+        adapter,
+        reusedDecoder,
+        readerSchemaId,
+        storeDeserializerCache,
+        compressor,
+        recordConsumer);
+    store.getByKeyRange(partition, startKeyBytes, endKeyBytes, callback);
+  }
+
+  static <CHUNKS_CONTAINER, VALUE> void getFromStorageBySecondaryIndexRange(
+      ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
+      AbstractStorageEngine store,
+      int partition,
+      byte[] startEntryKey,
+      byte[] endEntryKey,
+      BinaryDecoder reusedDecoder,
+      int readerSchemaId,
+      StoreDeserializerCache<VALUE> storeDeserializerCache,
+      VeniceCompressor compressor,
+      BiConsumer<byte[], VALUE> recordConsumer) {
+    BytesStreamingCallback callback = getDeserializingCallback(
+        adapter,
+        reusedDecoder,
+        readerSchemaId,
+        storeDeserializerCache,
+        compressor,
+        recordConsumer);
+    store.getBySecondaryIndexRange(partition, startEntryKey, endEntryKey, callback);
+  }
+
+  private static <CHUNKS_CONTAINER, VALUE> BytesStreamingCallback getDeserializingCallback(
+      ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
+      BinaryDecoder reusedDecoder,
+      int readerSchemaId,
+      StoreDeserializerCache<VALUE> storeDeserializerCache,
+      VeniceCompressor compressor,
+      BiConsumer<byte[], VALUE> recordConsumer) {
+    return new BytesStreamingCallback() {
+      @Override
+      public void onRecordReceived(byte[] key, byte[] value) {
+        if (key == null || value == null) {
+          return;
+        }
+
+        int writerSchemaId = ValueRecord.parseSchemaId(value);
+
+        if (writerSchemaId > 0) {
+          // User-defined schema, thus not a chunked value.
+          VALUE deserializedValue = adapter.constructValue(
+              value,
+              value.length,
+              null,
+              reusedDecoder,
+              NoOpReadResponseStats.SINGLETON,
+              writerSchemaId,
+              readerSchemaId,
+              storeDeserializerCache,
+              compressor);
+
+          recordConsumer.accept(key, deserializedValue);
+        } else if (writerSchemaId != AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.getCurrentProtocolVersion()) {
+          throw new VeniceException("Found a record with invalid schema ID: " + writerSchemaId);
+        } else {
+          throw new VeniceException("Scan is not supported when chunking is enabled.");
+        }
+      }
+
+      @Override
+      public void onCompletion() {
+        /* Nothing to do here. */
+      }
+    };
+  }
+
   /**
    * Fetches the value associated with the given key, and potentially re-assembles it, if it is
    * a chunked value.
@@ -5,6 +5,7 @@ import static com.linkedin.davinci.store.AbstractStorageEngine.StoragePartitionA
 import static com.linkedin.davinci.store.AbstractStorageEngine.StoragePartitionAdjustmentTrigger.END_BATCH_PUSH;
 
 import com.linkedin.davinci.callback.BytesStreamingCallback;
+import com.linkedin.davinci.store.index.SecondaryIndexExtractor;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.exceptions.PersistenceFailureException;
 import com.linkedin.venice.exceptions.StorageInitializationException;
@@ -17,6 +18,7 @@ import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.SparseConcurrentList;
 import java.io.Closeable;
+import java.io.File;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -25,6 +27,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -60,6 +63,10 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
 
   private static final byte[] VERSION_METADATA_KEY = "VERSION_METADATA".getBytes();
   private static final String PARTITION_METADATA_PREFIX = "P_";
+  /**
+   * The number of records read at a time by {@link #getByKeyRange}.
+   */
+  static final int SCAN_CHUNK_RECORD_COUNT = 1000;
 
   // Using a large positive number for metadata partition id instead of -1 can avoid database naming issues.
   public static final int METADATA_PARTITION_ID = 1000_000_000;
@@ -73,6 +80,18 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
 
   private boolean suppressLogs = false;
 
+  /**
+   * Set by the ingestion of the stores with secondary index, and used by the storage partitions to maintain the index
+   * entries along with the values.
+   */
+  private volatile SecondaryIndexExtractor secondaryIndexExtractor;
+
+  /**
+   * The local version topic offset of the latest record applied to each partition by the ingestion, which is the high
+   * watermark of the snapshots opened by {@link #openReadSnapshot}.
+   */
+  private final SparseConcurrentList<AtomicLong> latestAppliedOffsetList = new SparseConcurrentList<>();
+
   /**
    * This lock is used to guard the re-opening logic in {@link #adjustStoragePartition} since
    * {@link #getPartitionOrThrow} is not synchronized and it could be invoked during the execution
@@ -297,6 +316,7 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
 
     AbstractStoragePartition partition = this.partitionList.remove(partitionId);
     partition.drop();
+    latestAppliedOffsetList.remove(partitionId);
 
     if (getNumberOfPartitions() == 0) {
       if (!suppressLogs) {
@@ -432,6 +452,23 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     partition.createSnapshot();
   }
 
+  /**
+   * Copy and verify the SST files of a bulk load push for the given partition, without locking the storage engine, as
+   * copying the files can take long
+   */
+  public void stageBulkLoadFiles(int partitionId, File sourceDir) {
+    AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+    partition.stageBulkLoadFiles(sourceDir);
+  }
+
+  /**
+   * Ingest the SST files of a bulk load push staged for the given partition
+   */
+  public synchronized void ingestBulkLoadFiles(int partitionId) {
+    AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+    partition.ingestBulkLoadFiles();
+  }
+
   private void executeWithSafeGuard(int partitionId, Runnable runnable) {
     executeWithSafeGuard(partitionId, () -> {
       runnable.run();
@@ -525,6 +562,13 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     });
   }
 
+  public List<byte[]> multiGet(int partitionId, List<byte[]> keys) throws VeniceException {
+    return executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      return partition.multiGet(keys);
+    });
+  }
+
   public void getByKeyPrefix(int partitionId, byte[] partialKey, BytesStreamingCallback bytesStreamingCallback) {
     executeWithSafeGuard(partitionId, () -> {
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
@@ -532,6 +576,98 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     });
   }
 
+  /**
+   * Scans the range in chunks of {@link #SCAN_CHUNK_RECORD_COUNT} records. The partition is only locked while a chunk
+   * is read, and checked again before the next one, so a long or slow scan doesn't hold off closing or dropping the
+   * partition, and the callback is invoked without holding any lock.
+   */
+  public void getByKeyRange(
+      int partitionId,
+      byte[] startKey,
+      byte[] endKey,
+      BytesStreamingCallback bytesStreamingCallback) {
+    List<byte[]> chunkKeys = new ArrayList<>();
+    List<byte[]> chunkValues = new ArrayList<>();
+    BytesStreamingCallback chunkCallback = new BytesStreamingCallback() {
+      @Override
+      public void onRecordReceived(byte[] key, byte[] value) {
+        chunkKeys.add(key);
+        chunkValues.add(value);
+      }
+
+      @Override
+      public void onCompletion() {
+        // The whole range is completed below.
+      }
+    };
+    try {
+      byte[] chunkStartKey = startKey;
+      do {
+        byte[] currentChunkStartKey = chunkStartKey;
+        chunkKeys.clear();
+        chunkValues.clear();
+        chunkStartKey = executeWithSafeGuard(
+            partitionId,
+            () -> getPartitionOrThrow(partitionId)
+                .getByKeyRange(currentChunkStartKey, endKey, SCAN_CHUNK_RECORD_COUNT, chunkCallback));
+        for (int i = 0; i < chunkKeys.size(); i++) {
+          bytesStreamingCallback.onRecordReceived(chunkKeys.get(i), chunkValues.get(i));
+        }
+      } while (chunkStartKey != null);
+    } finally {
+      bytesStreamingCallback.onCompletion();
+    }
+  }
+
+  public void getBySecondaryIndexRange(
+      int partitionId,
+      byte[] startEntryKey,
+      byte[] endEntryKey,
+      BytesStreamingCallback bytesStreamingCallback) {
+    executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      partition.getBySecondaryIndexRange(startEntryKey, endEntryKey, bytesStreamingCallback);
+    });
+  }
+
+  /**
+   * Opens a point-in-time view of the partition, so that multiple reads see the same state of the data while the
+   * ingestion keeps writing. The high watermark of the snapshot is read before the snapshot is taken, so the snapshot
+   * contains at least all the records up to that offset.
+   *
+   * The caller owns the returned snapshot and must close it.
+   */
+  public StoragePartitionSnapshot openReadSnapshot(int partitionId) {
+    return executeWithSafeGuard(partitionId, () -> {
+      long highWatermarkOffset = getLatestAppliedOffset(partitionId);
+      return getPartitionOrThrow(partitionId).openReadSnapshot(highWatermarkOffset);
+    });
+  }
+
+  /**
+   * Invoked by the ingestion after a record is applied to the partition.
+   */
+  public void updateLatestAppliedOffset(int partitionId, long offset) {
+    latestAppliedOffsetList.computeIfAbsent(partitionId, p -> new AtomicLong(OffsetRecord.LOWEST_OFFSET)).set(offset);
+  }
+
+  /**
+   * @return the local version topic offset of the latest record applied to the partition, which falls back to the
+   *         checkpointed offset before the ingestion applies any record, or {@link OffsetRecord#LOWEST_OFFSET} if the
+   *         offset is unknown.
+   */
+  public long getLatestAppliedOffset(int partitionId) {
+    AtomicLong latestAppliedOffset = latestAppliedOffsetList.get(partitionId);
+    if (latestAppliedOffset != null) {
+      return latestAppliedOffset.get();
+    }
+    if (!metadataPartitionCreated()) {
+      return OffsetRecord.LOWEST_OFFSET;
+    }
+    return getPartitionOffset(partitionId).map(OffsetRecord::getLocalVersionTopicOffset)
+        .orElse(OffsetRecord.LOWEST_OFFSET);
+  }
+
   public void delete(int partitionId, byte[] key) throws VeniceException {
     executeWithSafeGuard(partitionId, () -> {
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
@@ -748,6 +884,21 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     this.suppressLogs = suppressLogs;
   }
 
+  /**
+   * @return the value fields the engine maintains a secondary index for, or an empty list if it has none.
+   */
+  public List<String> getSecondaryIndexFields() {
+    return Collections.emptyList();
+  }
+
+  public SecondaryIndexExtractor getSecondaryIndexExtractor() {
+    return secondaryIndexExtractor;
+  }
+
+  public void setSecondaryIndexExtractor(SecondaryIndexExtractor secondaryIndexExtractor) {
+    this.secondaryIndexExtractor = secondaryIndexExtractor;
+  }
+
   public boolean hasMemorySpaceLeft() {
     return true;
   }
@@ -3,9 +3,14 @@ package com.linkedin.davinci.store;
 import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.store.rocksdb.ReplicationMetadataRocksDBStoragePartition;
 import com.linkedin.venice.exceptions.VeniceUnsupportedOperationException;
+import com.linkedin.venice.utils.ArrayUtils;
+import java.io.File;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.function.Supplier;
 
 
@@ -60,6 +65,22 @@ public abstract class AbstractStoragePartition {
 
   public abstract byte[] get(ByteBuffer key);
 
+  /**
+   * Get the values of multiple keys from the partition database.
+   *
+   * The default implementation looks up the keys one by one, and the storage engines with a native batch lookup should
+   * override it.
+   *
+   * @return the values in the order of the keys, where the value of a missing key is null.
+   */
+  public List<byte[]> multiGet(List<byte[]> keys) {
+    List<byte[]> values = new ArrayList<>(keys.size());
+    for (byte[] key: keys) {
+      values.add(get(key));
+    }
+    return values;
+  }
+
   /**
    * Populate provided callback with key-value pairs from the partition database where the keys have provided prefix.
    * If prefix is null, callback will be populated will all key-value pairs from the partition database.
@@ -68,6 +89,65 @@ public abstract class AbstractStoragePartition {
    */
   public abstract void getByKeyPrefix(byte[] keyPrefix, BytesStreamingCallback callback);
 
+  /**
+   * Populate provided callback with up to maxRecordCount key-value pairs from the partition database where the keys are
+   * in the range of [startKey, endKey), in the unsigned byte order of the keys. A null bound leaves that side of the
+   * range open. The callback is not completed, as the scan of a range may take multiple calls.
+   *
+   * The default implementation makes a pass over the whole partition for each call, keeping only the smallest
+   * maxRecordCount keys in the range, so that the chunks are bounded and the partition is only held while one chunk is
+   * read. The implementations backed by a sorted store should override it to only visit the keys in the range.
+   *
+   * @return the key to resume the scan of the range from, or null if there is no key left in the range.
+   */
+  public byte[] getByKeyRange(byte[] startKey, byte[] endKey, int maxRecordCount, BytesStreamingCallback callback) {
+    // One more record than the chunk is kept, to tell the key to resume from.
+    TreeMap<byte[], byte[]> chunk = new TreeMap<>(ArrayUtils::compareUnsigned);
+    getByKeyPrefix(null, new BytesStreamingCallback() {
+      @Override
+      public void onRecordReceived(byte[] key, byte[] value) {
+        if ((startKey != null && ArrayUtils.compareUnsigned(key, startKey) < 0)
+            || (endKey != null && ArrayUtils.compareUnsigned(key, endKey) >= 0)) {
+          return;
+        }
+        if (chunk.size() <= maxRecordCount) {
+          chunk.put(key, value);
+        } else if (ArrayUtils.compareUnsigned(key, chunk.lastKey()) < 0) {
+          chunk.put(key, value);
+          chunk.pollLastEntry();
+        }
+      }
+
+      @Override
+      public void onCompletion() {
+        // The caller completes the callback once the whole range is scanned.
+      }
+    });
+    byte[] nextStartKey = chunk.size() > maxRecordCount ? chunk.pollLastEntry().getKey() : null;
+    for (Map.Entry<byte[], byte[]> entry: chunk.entrySet()) {
+      callback.onRecordReceived(entry.getKey(), entry.getValue());
+    }
+    return nextStartKey;
+  }
+
+  /**
+   * Populate provided callback with the records whose secondary index entries are in the range of
+   * [startEntryKey, endEntryKey), where the entry keys are encoded by
+   * {@link com.linkedin.davinci.store.index.SecondaryIndexKeyEncoder}.
+   */
+  public void getBySecondaryIndexRange(byte[] startEntryKey, byte[] endEntryKey, BytesStreamingCallback callback) {
+    throw new VeniceUnsupportedOperationException("getBySecondaryIndexRange");
+  }
+
+  /**
+   * Opens a point-in-time view of the partition database, which must be closed by the caller.
+   *
+   * @param highWatermarkOffset the offset of the latest record which is known to be included in the snapshot
+   */
+  public StoragePartitionSnapshot openReadSnapshot(long highWatermarkOffset) {
+    throw new VeniceUnsupportedOperationException("openReadSnapshot");
+  }
+
   /**
    * Delete a key from the partition database
    */
@@ -108,6 +188,22 @@ public abstract class AbstractStoragePartition {
    */
   public abstract void createSnapshot();
 
+  /**
+   * Copies the SST files generated by a bulk load push, which are listed in the
+   * {@link com.linkedin.davinci.store.rocksdb.BulkLoadManifest} of the given dir, next to the partition and verifies
+   * them, so that {@link #ingestBulkLoadFiles()} only needs to add them to the partition.
+   */
+  public void stageBulkLoadFiles(File sourceDir) {
+    throw new VeniceUnsupportedOperationException("stageBulkLoadFiles");
+  }
+
+  /**
+   * Ingests the SST files staged by {@link #stageBulkLoadFiles(File)}.
+   */
+  public void ingestBulkLoadFiles() {
+    throw new VeniceUnsupportedOperationException("ingestBulkLoadFiles");
+  }
+
   /**
    * checks whether the current state of the database is valid
    * during the start of ingestion.
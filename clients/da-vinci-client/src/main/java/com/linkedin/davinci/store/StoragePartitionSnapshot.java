@@ -0,0 +1,33 @@
+package com.linkedin.davinci.store;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+
+
+/**
+ * A point-in-time view of a storage partition. All the reads against the same snapshot see the same state of the
+ * data, no matter what is written to the partition after the snapshot is opened.
+ */
+public interface StoragePartitionSnapshot extends Closeable {
+  /**
+   * @return null if the key does not exist in the snapshot, byte[] value if it exists.
+   */
+  byte[] get(ByteBuffer key);
+
+  default byte[] get(byte[] key) {
+    return get(ByteBuffer.wrap(key));
+  }
+
+  /**
+   * @return the local version topic offset of the latest record which is known to be included in the snapshot. Records
+   *         after this offset could be included as well, since the ingestion doesn't stop while the snapshot is opened.
+   */
+  long getHighWatermarkOffset();
+
+  /**
+   * Releases the resources held by the snapshot, after which the snapshot cannot be read anymore. The snapshot must not
+   * be closed while it is being read by other threads.
+   */
+  @Override
+  void close();
+}
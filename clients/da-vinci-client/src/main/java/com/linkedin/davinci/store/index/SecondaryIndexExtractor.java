@@ -0,0 +1,137 @@
+package com.linkedin.davinci.store.index;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.ReadOnlySchemaRepository;
+import com.linkedin.venice.schema.SchemaEntry;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+
+
+/**
+ * Extracts the secondary index entries of the values written by the ingestion.
+ *
+ * The values are deserialized with a projection of the latest value schema which only contains the indexed fields, so
+ * the unused fields are skipped, and the field values are always resolved to the same type no matter which schema
+ * they were written with. Chunked values are not indexed.
+ */
+public class SecondaryIndexExtractor {
+  private final String storeName;
+  private final List<String> indexedFields;
+  private final ReadOnlySchemaRepository schemaRepository;
+  private final Supplier<VeniceCompressor> compressorSupplier;
+  private final Map<Integer, RecordDeserializer<GenericRecord>> deserializerMap = new VeniceConcurrentHashMap<>();
+  private volatile Schema projectedSchema;
+
+  public SecondaryIndexExtractor(
+      String storeName,
+      List<String> indexedFields,
+      ReadOnlySchemaRepository schemaRepository,
+      Supplier<VeniceCompressor> compressorSupplier) {
+    this.storeName = storeName;
+    this.indexedFields = Collections.unmodifiableList(new ArrayList<>(indexedFields));
+    this.schemaRepository = schemaRepository;
+    this.compressorSupplier = compressorSupplier;
+  }
+
+  /**
+   * @param value the value stored in the storage engine, which starts with the writer schema id.
+   * @return the keys of the index entries of the value, or an empty list if the value is not indexed.
+   */
+  public List<byte[]> getEntryKeys(byte[] primaryKey, byte[] value, int offset, int length) {
+    if (length < ValueRecord.SCHEMA_HEADER_LENGTH) {
+      return Collections.emptyList();
+    }
+    int writerSchemaId = ByteUtils.readInt(value, offset);
+    if (writerSchemaId <= 0) {
+      // Chunks and manifests of large values use negative schema ids.
+      return Collections.emptyList();
+    }
+    Schema readerSchema = getProjectedSchema();
+    RecordDeserializer<GenericRecord> deserializer = deserializerMap.computeIfAbsent(writerSchemaId, id -> {
+      SchemaEntry writerSchema = schemaRepository.getValueSchema(storeName, id);
+      if (writerSchema == null) {
+        throw new VeniceException("Unknown value schema id: " + id + " of store: " + storeName);
+      }
+      return FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(writerSchema.getSchema(), readerSchema);
+    });
+    ByteBuffer decompressedValue;
+    try {
+      decompressedValue = compressorSupplier.get()
+          .decompress(
+              value,
+              offset + ValueRecord.SCHEMA_HEADER_LENGTH,
+              length - ValueRecord.SCHEMA_HEADER_LENGTH);
+    } catch (IOException e) {
+      throw new VeniceException("Failed to decompress the value of store: " + storeName, e);
+    }
+    GenericRecord record = deserializer.deserialize(decompressedValue);
+    List<byte[]> entryKeys = new ArrayList<>(indexedFields.size());
+    for (Schema.Field field: readerSchema.getFields()) {
+      entryKeys.add(
+          SecondaryIndexKeyEncoder.encodeEntryKey(field.name(), field.schema(), record.get(field.pos()), primaryKey));
+    }
+    return entryKeys;
+  }
+
+  public List<String> getIndexedFields() {
+    return indexedFields;
+  }
+
+  /**
+   * @return the projection of the latest value schema to the indexed fields.
+   */
+  public Schema getProjectedSchema() {
+    if (projectedSchema == null) {
+      projectedSchema = getProjectedSchema(schemaRepository, storeName, indexedFields);
+    }
+    return projectedSchema;
+  }
+
+  /**
+   * Builds the projection of the latest value schema of the store to the given fields, which is also used by the
+   * readers to encode the looked up values the same way as the ingestion.
+   */
+  public static Schema getProjectedSchema(
+      ReadOnlySchemaRepository schemaRepository,
+      String storeName,
+      List<String> indexedFields) {
+    SchemaEntry latestSchemaEntry = schemaRepository.getSupersetOrLatestValueSchema(storeName);
+    if (latestSchemaEntry == null) {
+      throw new VeniceException("No value schema found for store: " + storeName);
+    }
+    Schema latestSchema = latestSchemaEntry.getSchema();
+    if (latestSchema.getType() != Schema.Type.RECORD) {
+      throw new VeniceException("Secondary index is only supported by record value schema, store: " + storeName);
+    }
+    List<Schema.Field> projectedFields = new ArrayList<>(indexedFields.size());
+    for (String fieldName: indexedFields) {
+      Schema.Field field = latestSchema.getField(fieldName);
+      if (field == null) {
+        throw new VeniceException("Indexed field: " + fieldName + " not found in the value schema of: " + storeName);
+      }
+      SecondaryIndexKeyEncoder.validateFieldSchema(fieldName, field.schema());
+      projectedFields.add(AvroCompatibilityHelper.newField(field).build());
+    }
+    Schema schema = Schema.createRecord(
+        latestSchema.getName(),
+        latestSchema.getDoc(),
+        latestSchema.getNamespace(),
+        latestSchema.isError());
+    schema.setFields(projectedFields);
+    return schema;
+  }
+}
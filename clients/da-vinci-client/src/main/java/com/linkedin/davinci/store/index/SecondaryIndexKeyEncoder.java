@@ -0,0 +1,238 @@
+package com.linkedin.davinci.store.index;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericFixed;
+
+
+/**
+ * Encodes the entries of the secondary index, whose keys are sorted in the unsigned byte order inside RocksDB.
+ *
+ * The key of an index entry is composed of:
+ * 1. The UTF-8 bytes of the indexed field name, followed by a 0 byte, which separates the entries of different fields.
+ * 2. The encoded field value, whose unsigned byte order matches the natural order of the values, and which is never
+ *    a prefix of the encoding of another value, so that all the entries of one value are adjacent.
+ * 3. The primary key, which makes the entry unique when multiple records share the same field value.
+ *
+ * A null value is encoded as a single 0 byte, and sorts before all the non-null values, which start with a 1 byte.
+ * Numbers are encoded in big-endian with the sign handled so that negative numbers sort first, and strings, enums and
+ * bytes escape every 0 byte as (0, 255) and end with (0, 1).
+ */
+public final class SecondaryIndexKeyEncoder {
+  private static final byte FIELD_NAME_TERMINATOR = 0;
+  private static final byte NULL_VALUE_MARKER = 0;
+  private static final byte NON_NULL_VALUE_MARKER = 1;
+  private static final byte ESCAPE_BYTE = 0;
+  private static final byte ESCAPED_ZERO_BYTE = (byte) 255;
+  private static final byte VARIABLE_LENGTH_TERMINATOR = 1;
+
+  private SecondaryIndexKeyEncoder() {
+  }
+
+  /**
+   * @return the key of the index entry for the given field value of the record with the given primary key.
+   */
+  public static byte[] encodeEntryKey(String fieldName, Schema fieldSchema, Object fieldValue, byte[] primaryKey) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    writeFieldPrefix(out, fieldName);
+    writeValue(out, fieldSchema, fieldValue);
+    out.write(primaryKey, 0, primaryKey.length);
+    return out.toByteArray();
+  }
+
+  /**
+   * @return the inclusive lower bound of the entries whose field value is equal to the given value.
+   */
+  public static byte[] encodeValuePrefix(String fieldName, Schema fieldSchema, Object fieldValue) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    writeFieldPrefix(out, fieldName);
+    writeValue(out, fieldSchema, fieldValue);
+    return out.toByteArray();
+  }
+
+  /**
+   * @return the [start, end) bounds of the entries whose field value is equal to the given value.
+   */
+  public static byte[][] getEqualityRange(String fieldName, Schema fieldSchema, Object fieldValue) {
+    byte[] start = encodeValuePrefix(fieldName, fieldSchema, fieldValue);
+    return new byte[][] { start, increment(start) };
+  }
+
+  /**
+   * @return the [start, end) bounds of the entries whose field value is in the range of [startValue, endValue). A
+   *         null bound leaves that side of the range open, and null field values are never part of the range.
+   */
+  public static byte[][] getRange(String fieldName, Schema fieldSchema, Object startValue, Object endValue) {
+    byte[] start;
+    if (startValue == null) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      writeFieldPrefix(out, fieldName);
+      out.write(NON_NULL_VALUE_MARKER);
+      start = out.toByteArray();
+    } else {
+      start = encodeValuePrefix(fieldName, fieldSchema, startValue);
+    }
+    byte[] end;
+    if (endValue == null) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      writeFieldPrefix(out, fieldName);
+      end = increment(out.toByteArray());
+    } else {
+      end = encodeValuePrefix(fieldName, fieldSchema, endValue);
+    }
+    return new byte[][] { start, end };
+  }
+
+  /**
+   * Throws if the values of the given schema cannot be indexed.
+   */
+  public static void validateFieldSchema(String fieldName, Schema fieldSchema) {
+    Schema schema = fieldSchema;
+    if (schema.getType() == Schema.Type.UNION) {
+      schema = getNonNullBranch(fieldName, schema);
+    }
+    switch (schema.getType()) {
+      case INT:
+      case LONG:
+      case FLOAT:
+      case DOUBLE:
+      case BOOLEAN:
+      case STRING:
+      case ENUM:
+      case BYTES:
+      case FIXED:
+        return;
+      default:
+        throw new VeniceException(
+            "Field: " + fieldName + " of type: " + fieldSchema.getType() + " is not supported by the secondary index");
+    }
+  }
+
+  private static void writeFieldPrefix(ByteArrayOutputStream out, String fieldName) {
+    byte[] fieldNameBytes = fieldName.getBytes(StandardCharsets.UTF_8);
+    out.write(fieldNameBytes, 0, fieldNameBytes.length);
+    out.write(FIELD_NAME_TERMINATOR);
+  }
+
+  private static void writeValue(ByteArrayOutputStream out, Schema fieldSchema, Object value) {
+    Schema schema = fieldSchema;
+    if (schema.getType() == Schema.Type.UNION) {
+      schema = getNonNullBranch(schema.getName(), schema);
+    } else if (value == null) {
+      throw new VeniceException("Null value is not allowed by the non-nullable schema: " + fieldSchema);
+    }
+    if (value == null) {
+      out.write(NULL_VALUE_MARKER);
+      return;
+    }
+    out.write(NON_NULL_VALUE_MARKER);
+    switch (schema.getType()) {
+      case INT:
+        writeInt(out, ((Number) value).intValue() ^ Integer.MIN_VALUE);
+        break;
+      case LONG:
+        writeLong(out, ((Number) value).longValue() ^ Long.MIN_VALUE);
+        break;
+      case FLOAT:
+        int floatBits = Float.floatToIntBits(((Number) value).floatValue());
+        // Negative numbers flip all the bits, and positive numbers only flip the sign bit.
+        writeInt(out, floatBits ^ ((floatBits >> 31) | Integer.MIN_VALUE));
+        break;
+      case DOUBLE:
+        long doubleBits = Double.doubleToLongBits(((Number) value).doubleValue());
+        writeLong(out, doubleBits ^ ((doubleBits >> 63) | Long.MIN_VALUE));
+        break;
+      case BOOLEAN:
+        out.write((Boolean) value ? 1 : 0);
+        break;
+      case STRING:
+      case ENUM:
+        writeEscaped(out, value.toString().getBytes(StandardCharsets.UTF_8));
+        break;
+      case BYTES:
+        writeEscaped(out, toByteArray(value));
+        break;
+      case FIXED:
+        // Fixed values have the same length, so they can't be a prefix of each other.
+        byte[] fixedBytes = value instanceof GenericFixed ? ((GenericFixed) value).bytes() : toByteArray(value);
+        out.write(fixedBytes, 0, fixedBytes.length);
+        break;
+      default:
+        throw new VeniceException("Type: " + schema.getType() + " is not supported by the secondary index");
+    }
+  }
+
+  private static Schema getNonNullBranch(String fieldName, Schema unionSchema) {
+    Schema nonNullBranch = null;
+    for (Schema branch: unionSchema.getTypes()) {
+      if (branch.getType() == Schema.Type.NULL) {
+        continue;
+      }
+      if (nonNullBranch != null) {
+        throw new VeniceException(
+            "Field: " + fieldName + " is a union of multiple non-null types, which is not supported by the secondary"
+                + " index: " + unionSchema);
+      }
+      nonNullBranch = branch;
+    }
+    if (nonNullBranch == null) {
+      throw new VeniceException("Field: " + fieldName + " only has null type: " + unionSchema);
+    }
+    return nonNullBranch;
+  }
+
+  private static byte[] toByteArray(Object value) {
+    if (value instanceof byte[]) {
+      return (byte[]) value;
+    }
+    if (value instanceof ByteBuffer) {
+      ByteBuffer buffer = ((ByteBuffer) value).duplicate();
+      byte[] bytes = new byte[buffer.remaining()];
+      buffer.get(bytes);
+      return bytes;
+    }
+    throw new VeniceException("Unexpected bytes value of class: " + value.getClass().getName());
+  }
+
+  private static void writeEscaped(ByteArrayOutputStream out, byte[] bytes) {
+    for (byte b: bytes) {
+      out.write(b);
+      if (b == ESCAPE_BYTE) {
+        out.write(ESCAPED_ZERO_BYTE);
+      }
+    }
+    out.write(ESCAPE_BYTE);
+    out.write(VARIABLE_LENGTH_TERMINATOR);
+  }
+
+  private static void writeInt(ByteArrayOutputStream out, int value) {
+    out.write(value >>> 24);
+    out.write(value >>> 16);
+    out.write(value >>> 8);
+    out.write(value);
+  }
+
+  private static void writeLong(ByteArrayOutputStream out, long value) {
+    writeInt(out, (int) (value >>> 32));
+    writeInt(out, (int) value);
+  }
+
+  /**
+   * @return the smallest byte array which is bigger than all the byte arrays starting with the given prefix.
+   */
+  static byte[] increment(byte[] prefix) {
+    byte[] result = Arrays.copyOf(prefix, prefix.length);
+    for (int i = result.length - 1; i >= 0; i--) {
+      if (result[i] != (byte) 255) {
+        result[i]++;
+        return Arrays.copyOf(result, i + 1);
+      }
+    }
+    // Unreachable since the field prefix always contains the 0 terminator.
+    throw new VeniceException("Unable to increment the prefix which only contains 255 bytes");
+  }
+}
@@ -0,0 +1,130 @@
+package com.linkedin.davinci.store.rocksdb;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ByteUtils;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+
+/**
+ * Describes the SST files generated for a partition by a bulk load push, see {@link RocksDBBulkLoadWriter}.
+ *
+ * The manifest is written after all the SST files of the partition, so the presence of the manifest means that the
+ * files are complete. Every file is listed with its record count and the checksum of its content, which is computed
+ * the same way as the checksum of the SST files built by the ingestion, and verified before the files are ingested.
+ */
+public class BulkLoadManifest {
+  public static final String MANIFEST_FILE_NAME = "bulk_load_manifest";
+  /**
+   * The key of the debug info of the end of push, under which the push job announces a bulk load push along with the
+   * dir holding the partition dirs of the version, so that the servers don't mistake it for an empty push.
+   */
+  public static final String BULK_LOAD_SST_DIR_DEBUG_INFO_KEY = "bulk.load.sst.dir";
+
+  private static final String FILE_COUNT = "file.count";
+  private static final String FILE_NAME_FORMAT = "file.%d.name";
+  private static final String RECORD_COUNT_FORMAT = "file.%d.record.count";
+  private static final String CHECKSUM_FORMAT = "file.%d.checksum";
+
+  private final List<SstFileInfo> sstFiles;
+
+  public BulkLoadManifest(List<SstFileInfo> sstFiles) {
+    this.sstFiles = Collections.unmodifiableList(new ArrayList<>(sstFiles));
+  }
+
+  public List<SstFileInfo> getSstFiles() {
+    return sstFiles;
+  }
+
+  public static boolean exists(File dir) {
+    return new File(dir, MANIFEST_FILE_NAME).exists();
+  }
+
+  public static BulkLoadManifest read(InputStream in) throws IOException {
+    Properties properties = new Properties();
+    properties.load(in);
+    String fileCount = properties.getProperty(FILE_COUNT);
+    if (fileCount == null) {
+      throw new VeniceException("Missing " + FILE_COUNT + " in the bulk load manifest");
+    }
+    List<SstFileInfo> sstFiles = new ArrayList<>();
+    for (int i = 0; i < Integer.parseInt(fileCount); i++) {
+      sstFiles.add(
+          new SstFileInfo(
+              getRequiredProperty(properties, String.format(FILE_NAME_FORMAT, i)),
+              Long.parseLong(getRequiredProperty(properties, String.format(RECORD_COUNT_FORMAT, i))),
+              ByteUtils.fromHexString(getRequiredProperty(properties, String.format(CHECKSUM_FORMAT, i)))));
+    }
+    return new BulkLoadManifest(sstFiles);
+  }
+
+  public static BulkLoadManifest read(File dir) {
+    File manifestFile = new File(dir, MANIFEST_FILE_NAME);
+    try (InputStream in = new FileInputStream(manifestFile)) {
+      return read(in);
+    } catch (IOException e) {
+      throw new VeniceException("Failed to read the bulk load manifest: " + manifestFile.getAbsolutePath(), e);
+    }
+  }
+
+  public void write(OutputStream out) throws IOException {
+    Properties properties = new Properties();
+    properties.setProperty(FILE_COUNT, Integer.toString(sstFiles.size()));
+    for (int i = 0; i < sstFiles.size(); i++) {
+      SstFileInfo sstFile = sstFiles.get(i);
+      properties.setProperty(String.format(FILE_NAME_FORMAT, i), sstFile.getFileName());
+      properties.setProperty(String.format(RECORD_COUNT_FORMAT, i), Long.toString(sstFile.getRecordCount()));
+      properties.setProperty(String.format(CHECKSUM_FORMAT, i), ByteUtils.toHexString(sstFile.getChecksum()));
+    }
+    properties.store(out, null);
+  }
+
+  public void write(File dir) {
+    File manifestFile = new File(dir, MANIFEST_FILE_NAME);
+    try (OutputStream out = new FileOutputStream(manifestFile)) {
+      write(out);
+    } catch (IOException e) {
+      throw new VeniceException("Failed to write the bulk load manifest: " + manifestFile.getAbsolutePath(), e);
+    }
+  }
+
+  private static String getRequiredProperty(Properties properties, String key) {
+    String value = properties.getProperty(key);
+    if (value == null) {
+      throw new VeniceException("Missing " + key + " in the bulk load manifest");
+    }
+    return value;
+  }
+
+  public static class SstFileInfo {
+    private final String fileName;
+    private final long recordCount;
+    private final byte[] checksum;
+
+    public SstFileInfo(String fileName, long recordCount, byte[] checksum) {
+      this.fileName = fileName;
+      this.recordCount = recordCount;
+      this.checksum = checksum;
+    }
+
+    public String getFileName() {
+      return fileName;
+    }
+
+    public long getRecordCount() {
+      return recordCount;
+    }
+
+    public byte[] getChecksum() {
+      return checksum;
+    }
+  }
+}
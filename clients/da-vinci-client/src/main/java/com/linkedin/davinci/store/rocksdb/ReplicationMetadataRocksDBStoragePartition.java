@@ -9,6 +9,7 @@ import com.linkedin.davinci.store.StoragePartitionConfig;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.utils.ByteUtils;
+import java.io.File;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Map;
@@ -209,6 +210,14 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
     }
   }
 
+  /**
+   * The bulk load files don't carry the replication metadata of the records.
+   */
+  @Override
+  public void stageBulkLoadFiles(File sourceDir) {
+    throw new VeniceException("Bulk load is not supported by stores with replication metadata: " + replicaId);
+  }
+
   @Override
   public synchronized Map<String, String> sync() {
     Map<String, String> checkpointingInfo = super.sync();
@@ -0,0 +1,143 @@
+package com.linkedin.davinci.store.rocksdb;
+
+import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.kafka.validation.checksum.CheckSum;
+import com.linkedin.venice.kafka.validation.checksum.CheckSumType;
+import com.linkedin.venice.serialization.KeyWithChunkingSuffixSerializer;
+import com.linkedin.venice.utils.ByteUtils;
+import java.io.Closeable;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.rocksdb.EnvOptions;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.SstFileWriter;
+
+
+/**
+ * Writes the records of a partition into SST files which can be ingested by the servers as they are, for the push jobs
+ * which don't produce the records to the version topic, see {@link RocksDBStoragePartition#ingestBulkLoadFiles}.
+ *
+ * The records are stored the same way as the ingestion stores the puts: the key carries the non-chunked suffix if the
+ * version is chunked, and the value is prefixed with its schema id. The records must be added in the ascending order of
+ * their keys, which is the order of the sorted input of the ingestion. The files are rolled over once they reach the
+ * target size, and the {@link BulkLoadManifest} is written by {@link #finish()}.
+ */
+public class RocksDBBulkLoadWriter implements Closeable {
+  static {
+    RocksDB.loadLibrary();
+  }
+
+  private static final Logger LOGGER = LogManager.getLogger(RocksDBBulkLoadWriter.class);
+  private static final String SST_FILE_NAME_FORMAT = "bulk_load_%d.sst";
+
+  private final File outputDir;
+  private final boolean chunkingEnabled;
+  private final long targetFileSizeInBytes;
+  private final KeyWithChunkingSuffixSerializer keyWithChunkingSuffixSerializer = new KeyWithChunkingSuffixSerializer();
+  private final EnvOptions envOptions = new EnvOptions();
+  private final Options options = new Options();
+  private final List<BulkLoadManifest.SstFileInfo> finishedFiles = new ArrayList<>();
+
+  private SstFileWriter currentFileWriter;
+  private String currentFileName;
+  private CheckSum currentFileChecksum;
+  private long recordCountInCurrentFile;
+  private long bytesInCurrentFile;
+
+  public RocksDBBulkLoadWriter(String outputDir, boolean chunkingEnabled, long targetFileSizeInBytes) {
+    this.outputDir = new File(outputDir);
+    this.chunkingEnabled = chunkingEnabled;
+    this.targetFileSizeInBytes = targetFileSizeInBytes;
+    if (!this.outputDir.exists() && !this.outputDir.mkdirs()) {
+      throw new VeniceException("Failed to create the bulk load output dir: " + outputDir);
+    }
+  }
+
+  public void put(byte[] key, int schemaId, byte[] value) {
+    if (currentFileWriter == null) {
+      openNextFile();
+    }
+    byte[] storageKey = chunkingEnabled ? keyWithChunkingSuffixSerializer.serializeNonChunkedKey(key) : key;
+    byte[] storageValue = new byte[ValueRecord.SCHEMA_HEADER_LENGTH + value.length];
+    ByteUtils.writeInt(storageValue, schemaId, 0);
+    System.arraycopy(value, 0, storageValue, ValueRecord.SCHEMA_HEADER_LENGTH, value.length);
+    try {
+      currentFileWriter.put(storageKey, storageValue);
+    } catch (RocksDBException e) {
+      throw new VeniceException(
+          "Failed to write key: " + ByteUtils.toHexString(key) + " to " + currentFileName
+              + ", the records must be added in the ascending order of their keys",
+          e);
+    }
+    currentFileChecksum.update(storageKey);
+    currentFileChecksum.update(storageValue);
+    ++recordCountInCurrentFile;
+    bytesInCurrentFile += storageKey.length + storageValue.length;
+    if (bytesInCurrentFile >= targetFileSizeInBytes) {
+      finishCurrentFile();
+    }
+  }
+
+  /**
+   * Finishes the last file and writes the manifest of the files into the output dir.
+   */
+  public BulkLoadManifest finish() {
+    if (currentFileWriter != null) {
+      finishCurrentFile();
+    }
+    BulkLoadManifest manifest = new BulkLoadManifest(finishedFiles);
+    manifest.write(outputDir);
+    LOGGER.info("Finished {} bulk load SST files in: {}", finishedFiles.size(), outputDir);
+    return manifest;
+  }
+
+  public File getOutputDir() {
+    return outputDir;
+  }
+
+  private void openNextFile() {
+    currentFileName = String.format(SST_FILE_NAME_FORMAT, finishedFiles.size());
+    String path = new File(outputDir, currentFileName).getAbsolutePath();
+    currentFileWriter = new SstFileWriter(envOptions, options);
+    try {
+      currentFileWriter.open(path);
+    } catch (RocksDBException e) {
+      throw new VeniceException("Failed to open file: " + path + " with SstFileWriter", e);
+    }
+    currentFileChecksum = CheckSum.getInstance(CheckSumType.MD5);
+    recordCountInCurrentFile = 0;
+    bytesInCurrentFile = 0;
+  }
+
+  private void finishCurrentFile() {
+    try {
+      currentFileWriter.finish();
+    } catch (RocksDBException e) {
+      throw new VeniceException("Failed to finish file: " + currentFileName + " with SstFileWriter", e);
+    } finally {
+      currentFileWriter.close();
+      currentFileWriter = null;
+    }
+    finishedFiles.add(
+        new BulkLoadManifest.SstFileInfo(
+            currentFileName,
+            recordCountInCurrentFile,
+            currentFileChecksum.getCheckSum()));
+  }
+
+  @Override
+  public void close() {
+    if (currentFileWriter != null) {
+      currentFileWriter.close();
+      currentFileWriter = null;
+    }
+    options.close();
+    envOptions.close();
+  }
+}
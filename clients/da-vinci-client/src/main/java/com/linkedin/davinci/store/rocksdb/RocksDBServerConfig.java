@@ -2,7 +2,12 @@ package com.linkedin.davinci.store.rocksdb;
 
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.utils.VeniceProperties;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.rocksdb.CompactionStyle;
 import org.rocksdb.CompressionType;
 
@@ -219,6 +224,22 @@ public class RocksDBServerConfig {
   public static final String ROCKSDB_MAX_LOG_FILE_SIZE = "rocksdb.max.log.file.size";
   public static final String RECORD_TRANSFORMER_VALUE_SCHEMA = "record.transformer.value.schema";
 
+  /**
+   * The value fields to maintain a secondary index for, as a comma separated list of "storeName:fieldName" entries.
+   * The index is kept in a separate column family of every data partition of the store, so changing the fields of a
+   * store drops the local data and re-bootstraps it.
+   */
+  public static final String ROCKSDB_SECONDARY_INDEX_FIELDS = "rocksdb.secondary.index.fields";
+
+  /**
+   * Whether to keep the data partitions of the stores in a single RocksDB instance shared by the host, with a column
+   * family per partition, instead of opening a RocksDB instance per partition. This saves the fixed cost of every
+   * instance, such as its table cache, manifest, info log and open files, on hosts with many small stores.
+   * The metadata partitions, and the stores with replication metadata or secondary index, keep their own instances.
+   * Changing this config drops the local data of the affected stores and re-bootstraps it.
+   */
+  public static final String ROCKSDB_SHARED_INSTANCE_ENABLED = "rocksdb.shared.instance.enabled";
+
   private final boolean rocksDBUseDirectReads;
 
   private final int rocksDBEnvFlushPoolSize;
@@ -285,6 +306,8 @@ public class RocksDBServerConfig {
   private final int maxLogFileNum;
   private final long maxLogFileSize;
   private final String transformerValueSchema;
+  private final Map<String, List<String>> storeToSecondaryIndexFields;
+  private final boolean sharedInstanceEnabled;
 
   public RocksDBServerConfig(VeniceProperties props) {
     // Do not use Direct IO for reads by default
@@ -408,6 +431,25 @@ public class RocksDBServerConfig {
     this.maxLogFileSize = props.getSizeInBytes(ROCKSDB_MAX_LOG_FILE_SIZE, 10 * 1024 * 1024); // 10MB;
     this.transformerValueSchema =
         props.containsKey(RECORD_TRANSFORMER_VALUE_SCHEMA) ? props.getString(RECORD_TRANSFORMER_VALUE_SCHEMA) : "null";
+
+    Map<String, List<String>> secondaryIndexFields = new HashMap<>();
+    for (String entry: props.getList(ROCKSDB_SECONDARY_INDEX_FIELDS, Collections.emptyList())) {
+      if (entry.isEmpty()) {
+        continue;
+      }
+      String[] storeAndField = entry.split(":");
+      if (storeAndField.length != 2 || storeAndField[0].isEmpty() || storeAndField[1].isEmpty()) {
+        throw new VeniceException(
+            "Invalid entry: " + entry + " of config: " + ROCKSDB_SECONDARY_INDEX_FIELDS
+                + ", expected format: storeName:fieldName");
+      }
+      List<String> fields = secondaryIndexFields.computeIfAbsent(storeAndField[0], k -> new ArrayList<>());
+      if (!fields.contains(storeAndField[1])) {
+        fields.add(storeAndField[1]);
+      }
+    }
+    this.storeToSecondaryIndexFields = secondaryIndexFields;
+    this.sharedInstanceEnabled = props.getBoolean(ROCKSDB_SHARED_INSTANCE_ENABLED, false);
   }
 
   public int getLevel0FileNumCompactionTriggerWriteOnlyVersion() {
@@ -617,4 +659,15 @@ public class RocksDBServerConfig {
     return transformerValueSchema;
   }
 
+  /**
+   * @return the value fields of the store to maintain a secondary index for, or an empty list if the store has none.
+   */
+  public List<String> getSecondaryIndexFields(String storeName) {
+    return storeToSecondaryIndexFields.getOrDefault(storeName, Collections.emptyList());
+  }
+
+  public boolean isSharedInstanceEnabled() {
+    return sharedInstanceEnabled;
+  }
+
 }
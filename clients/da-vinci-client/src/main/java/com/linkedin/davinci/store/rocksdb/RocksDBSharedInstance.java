@@ -0,0 +1,183 @@
+package com.linkedin.davinci.store.rocksdb;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.store.rocksdb.RocksDBUtils;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+
+
+/**
+ * A RocksDB instance shared by the data partitions of many stores, see
+ * {@link RocksDBServerConfig#ROCKSDB_SHARED_INSTANCE_ENABLED}.
+ *
+ * Every partition is kept in its own column family, named after the database of the partition in the dedicated mode,
+ * so the partitions can still be flushed and dropped independently. The column families found on disk are opened
+ * along with the instance, and their handles are owned by the instance until the column families are dropped, so
+ * closing and reopening a partition doesn't touch the instance.
+ */
+class RocksDBSharedInstance {
+  private static final Logger LOGGER = LogManager.getLogger(RocksDBSharedInstance.class);
+
+  /**
+   * The directory of the shared instance under the RocksDB root path, which starts with a dot so that it can't be
+   * mistaken for the directory of a store version.
+   */
+  static final String SHARED_INSTANCE_DIR_NAME = ".shared_instance";
+
+  private final String dbPath;
+  private final Options options;
+  private final RocksDB rocksDB;
+  private final List<ColumnFamilyOptions> columnFamilyOptionsList = new ArrayList<>();
+  private final Map<String, ColumnFamilyHandle> partitionToColumnFamilyHandle = new HashMap<>();
+  private ColumnFamilyHandle defaultColumnFamilyHandle;
+  private boolean isClosed = false;
+
+  RocksDBSharedInstance(String dbPath, Options options, RocksDBThrottler rocksDBThrottler) {
+    this.dbPath = dbPath;
+    this.options = options;
+    List<ColumnFamilyDescriptor> columnFamilyDescriptors = new ArrayList<>();
+    for (byte[] name: listColumnFamilies(dbPath, options)) {
+      // The options of the partitions are not known yet, so the existing column families get the default ones.
+      ColumnFamilyOptions columnFamilyOptions = new ColumnFamilyOptions(options);
+      columnFamilyOptionsList.add(columnFamilyOptions);
+      columnFamilyDescriptors.add(new ColumnFamilyDescriptor(name, columnFamilyOptions));
+    }
+    File dbDir = new File(dbPath);
+    if (!dbDir.exists()) {
+      dbDir.mkdirs();
+    }
+    List<ColumnFamilyHandle> columnFamilyHandles = new ArrayList<>();
+    try {
+      this.rocksDB = rocksDBThrottler.open(options, dbPath, columnFamilyDescriptors, columnFamilyHandles);
+    } catch (RocksDBException | InterruptedException e) {
+      throw new VeniceException("Failed to open the shared RocksDB instance: " + dbPath, e);
+    }
+    for (int i = 0; i < columnFamilyDescriptors.size(); i++) {
+      byte[] name = columnFamilyDescriptors.get(i).getName();
+      if (Arrays.equals(name, RocksDB.DEFAULT_COLUMN_FAMILY)) {
+        defaultColumnFamilyHandle = columnFamilyHandles.get(i);
+      } else {
+        partitionToColumnFamilyHandle.put(new String(name, StandardCharsets.UTF_8), columnFamilyHandles.get(i));
+      }
+    }
+    LOGGER.info(
+        "Opened the shared RocksDB instance: {} with {} partitions",
+        dbPath,
+        partitionToColumnFamilyHandle.size());
+  }
+
+  private static List<byte[]> listColumnFamilies(String dbPath, Options options) {
+    if (!new File(dbPath, "CURRENT").exists()) {
+      return Collections.singletonList(RocksDB.DEFAULT_COLUMN_FAMILY);
+    }
+    try {
+      return RocksDB.listColumnFamilies(options, dbPath);
+    } catch (RocksDBException e) {
+      throw new VeniceException("Failed to list the column families of the shared RocksDB instance: " + dbPath, e);
+    }
+  }
+
+  RocksDB getRocksDB() {
+    return rocksDB;
+  }
+
+  /**
+   * @return the handle of the column family of the partition, which is created with the given options if it doesn't
+   *         exist yet. An existing column family keeps the options it was opened with.
+   */
+  synchronized ColumnFamilyHandle getOrCreateColumnFamily(
+      String storeVersionName,
+      int partitionId,
+      ColumnFamilyOptions columnFamilyOptions) {
+    makeSureInstanceIsStillOpen();
+    String partitionDbName = RocksDBUtils.getPartitionDbName(storeVersionName, partitionId);
+    ColumnFamilyHandle handle = partitionToColumnFamilyHandle.get(partitionDbName);
+    if (handle == null) {
+      try {
+        handle = rocksDB.createColumnFamily(
+            new ColumnFamilyDescriptor(partitionDbName.getBytes(StandardCharsets.UTF_8), columnFamilyOptions));
+      } catch (RocksDBException e) {
+        throw new VeniceException(
+            "Failed to create column family: " + partitionDbName + " in the shared RocksDB instance: " + dbPath,
+            e);
+      }
+      partitionToColumnFamilyHandle.put(partitionDbName, handle);
+      LOGGER.info("Created column family: {} in the shared RocksDB instance: {}", partitionDbName, dbPath);
+    }
+    return handle;
+  }
+
+  synchronized void dropColumnFamily(String storeVersionName, int partitionId) {
+    makeSureInstanceIsStillOpen();
+    String partitionDbName = RocksDBUtils.getPartitionDbName(storeVersionName, partitionId);
+    ColumnFamilyHandle handle = partitionToColumnFamilyHandle.remove(partitionDbName);
+    if (handle == null) {
+      return;
+    }
+    try {
+      rocksDB.dropColumnFamily(handle);
+    } catch (RocksDBException e) {
+      throw new VeniceException(
+          "Failed to drop column family: " + partitionDbName + " from the shared RocksDB instance: " + dbPath,
+          e);
+    } finally {
+      handle.close();
+    }
+    LOGGER.info("Dropped column family: {} from the shared RocksDB instance: {}", partitionDbName, dbPath);
+  }
+
+  synchronized void dropColumnFamilies(String storeVersionName) {
+    for (int partitionId: getPartitionIds(storeVersionName)) {
+      dropColumnFamily(storeVersionName, partitionId);
+    }
+  }
+
+  synchronized Set<Integer> getPartitionIds(String storeVersionName) {
+    Set<Integer> partitionIds = new HashSet<>();
+    for (String partitionDbName: partitionToColumnFamilyHandle.keySet()) {
+      if (RocksDBUtils.parseStoreNameFromPartitionDbName(partitionDbName).equals(storeVersionName)) {
+        partitionIds.add(RocksDBUtils.parsePartitionIdFromPartitionDbName(partitionDbName));
+      }
+    }
+    return partitionIds;
+  }
+
+  synchronized void close() {
+    if (isClosed) {
+      return;
+    }
+    isClosed = true;
+    // The handles must be released before the database is closed.
+    for (ColumnFamilyHandle handle: partitionToColumnFamilyHandle.values()) {
+      handle.close();
+    }
+    partitionToColumnFamilyHandle.clear();
+    defaultColumnFamilyHandle.close();
+    rocksDB.close();
+    columnFamilyOptionsList.forEach(ColumnFamilyOptions::close);
+    options.close();
+    LOGGER.info("Closed the shared RocksDB instance: {}", dbPath);
+  }
+
+  private void makeSureInstanceIsStillOpen() {
+    if (isClosed) {
+      throw new VeniceException("The shared RocksDB instance: " + dbPath + " has been closed");
+    }
+  }
+}
@@ -372,6 +372,17 @@ public class RocksDBSstFileWriter {
    * @return true if the sstFile checksum matches with the provided checksum.
    */
   private boolean verifyChecksum(String sstFilePath, long expectedRecordNumInSSTFile, byte[] checksumToMatch) {
+    return verifyChecksum(options, sstFilePath, expectedRecordNumInSSTFile, checksumToMatch);
+  }
+
+  /**
+   * Also used to verify the SST files generated outside the server, see {@link RocksDBBulkLoadWriter}.
+   */
+  static boolean verifyChecksum(
+      Options options,
+      String sstFilePath,
+      long expectedRecordNumInSSTFile,
+      byte[] checksumToMatch) {
     SstFileReader sstFileReader = null;
     SstFileReaderIterator sstFileReaderIterator = null;
 
@@ -447,7 +458,8 @@ public class RocksDBSstFileWriter {
    * before completion or the process crashed before the status of EOP was synced to OffsetRecord. In both these cases,
    * let's delete these files from the database and start a fresh ingestion as the new files will hold the complete data anyway.
    */
-  private void deleteOldIngestion(RocksDB rocksDB, ColumnFamilyHandle columnFamilyHandle) throws RocksDBException {
+  private void deleteOldIngestion(RocksDB rocksDB, ColumnFamilyHandle columnFamilyHandle, boolean isRMD)
+      throws RocksDBException {
     List<LiveFileMetaData> oldIngestedSSTFiles = rocksDB.getLiveFilesMetaData();
     if (oldIngestedSSTFiles.size() != 0) {
       int count = 0;
@@ -460,7 +472,7 @@ public class RocksDBSstFileWriter {
       LOGGER.info(
           "Deleting {} ingested {} file in rocksDB for store: {}",
           count,
-          columnFamilyHandle.getID() == DEFAULT_COLUMN_FAMILY_INDEX ? "SST" : "RMD SST",
+          isRMD ? "RMD SST" : "SST",
           storeName);
     }
   }
@@ -482,7 +494,7 @@ public class RocksDBSstFileWriter {
           ? columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX)
           : columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX);
 
-      deleteOldIngestion(rocksDB, columnFamilyHandle);
+      deleteOldIngestion(rocksDB, columnFamilyHandle, isRMD);
 
       rocksDB.ingestExternalFile(columnFamilyHandle, sstFilePaths, ingestOptions);
 
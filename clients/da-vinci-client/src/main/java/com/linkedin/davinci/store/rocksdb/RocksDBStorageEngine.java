@@ -2,6 +2,8 @@ package com.linkedin.davinci.store.rocksdb;
 
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.RECORD_TRANSFORMER_VALUE_SCHEMA;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_PLAIN_TABLE_FORMAT_ENABLED;
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_SECONDARY_INDEX_FIELDS;
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_SHARED_INSTANCE_ENABLED;
 
 import com.linkedin.davinci.config.VeniceStoreVersionConfig;
 import com.linkedin.davinci.stats.RocksDBMemoryStats;
@@ -12,14 +14,17 @@ import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.protocol.state.PartitionState;
 import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
 import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.store.rocksdb.RocksDBUtils;
+import com.linkedin.venice.utils.PropertyBuilder;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.io.File;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
@@ -41,6 +46,11 @@ public class RocksDBStorageEngine extends AbstractStorageEngine<RocksDBStoragePa
   private final RocksDBStorageEngineFactory factory;
   private final VeniceStoreVersionConfig storeConfig;
   private final boolean replicationMetadataEnabled;
+  /**
+   * Whether the data partitions are kept in the shared instance of the factory, which is not supported by the
+   * partitions with additional column families.
+   */
+  private final boolean sharedInstanceEnabled;
 
   /**
    * The cached value will be refreshed by {@link #getStoreSizeInBytes()}.
@@ -69,6 +79,18 @@ public class RocksDBStorageEngine extends AbstractStorageEngine<RocksDBStoragePa
     this.rocksDBServerConfig = rocksDBServerConfig;
     this.factory = factory;
     this.replicationMetadataEnabled = replicationMetadataEnabled;
+    if (!storeConfig.isSecondaryIndexFieldsRegistered() && storeConfig.getSecondaryIndexFields().isEmpty()) {
+      /**
+       * The engine is restored before the clients of the store subscribe again, so it is opened with the fields its
+       * data was indexed with, instead of being rebuilt without the index. It is reopened if they register others.
+       */
+      List<String> persistedSecondaryIndexFields = getPersistedSecondaryIndexFields();
+      if (!persistedSecondaryIndexFields.isEmpty()) {
+        storeConfig.setSecondaryIndexFields(persistedSecondaryIndexFields);
+      }
+    }
+    this.sharedInstanceEnabled = !replicationMetadataEnabled && storeConfig.getSecondaryIndexFields().isEmpty()
+        && factory.isSharedInstanceEnabled(Version.parseStoreFromKafkaTopicName(getStoreVersionName()));
 
     // Create store folder if it doesn't exist
     storeDbPath = RocksDBUtils.composeStoreDbDir(this.rocksDbPath, getStoreVersionName());
@@ -86,6 +108,7 @@ public class RocksDBStorageEngine extends AbstractStorageEngine<RocksDBStoragePa
           } catch (IOException e) {
             throw new VeniceException("Encounter IO exception when removing RocksDB engine folder.", e);
           }
+          factory.dropSharedInstancePartitions(getStoreVersionName());
           storeDbDir.mkdirs();
         }
       }
@@ -110,7 +133,9 @@ public class RocksDBStorageEngine extends AbstractStorageEngine<RocksDBStoragePa
     File storeDbDir = new File(storeDbPath);
     if (!storeDbDir.exists()) {
       LOGGER.info("Store dir: {} doesn't exist", storeDbPath);
-      return Collections.emptySet();
+      return sharedInstanceEnabled
+          ? factory.getSharedInstancePartitionIds(getStoreVersionName())
+          : Collections.emptySet();
     }
     if (!storeDbDir.isDirectory()) {
       throw new VeniceException("Store dir: " + storeDbPath + " is not a directory!!!");
@@ -122,11 +147,44 @@ public class RocksDBStorageEngine extends AbstractStorageEngine<RocksDBStoragePa
         partitionIdSet.add(RocksDBUtils.parsePartitionIdFromPartitionDbName(partitionDbName));
       }
     }
+    if (sharedInstanceEnabled) {
+      partitionIdSet.addAll(factory.getSharedInstancePartitionIds(getStoreVersionName()));
+    }
     return partitionIdSet;
   }
 
   @Override
   public RocksDBStoragePartition createStoragePartition(StoragePartitionConfig storagePartitionConfig) {
+    boolean secondaryIndexEnabled = !storeConfig.getSecondaryIndexFields().isEmpty();
+    if (storagePartitionConfig.getPartitionId() != METADATA_PARTITION_ID && secondaryIndexEnabled) {
+      if (replicationMetadataEnabled) {
+        throw new VeniceException(
+            "Secondary index is not supported by stores with replication metadata: " + getStoreVersionName());
+      }
+      if (rocksDBServerConfig.isRocksDBPlainTableFormatEnabled()) {
+        throw new VeniceException(
+            "Secondary index is not supported with RocksDB PlainTable Format: " + getStoreVersionName());
+      }
+      return new SecondaryIndexRocksDBStoragePartition(
+          storagePartitionConfig,
+          factory,
+          rocksDbPath,
+          memoryStats,
+          rocksDbThrottler,
+          rocksDBServerConfig,
+          storeConfig,
+          this::getSecondaryIndexExtractor);
+    }
+    if (storagePartitionConfig.getPartitionId() != METADATA_PARTITION_ID && sharedInstanceEnabled) {
+      return new SharedInstanceRocksDBStoragePartition(
+          storagePartitionConfig,
+          factory,
+          rocksDbPath,
+          memoryStats,
+          rocksDbThrottler,
+          rocksDBServerConfig,
+          storeConfig);
+    }
     // Metadata partition should not enable replication metadata column family.
     if (storagePartitionConfig.getPartitionId() == METADATA_PARTITION_ID || !replicationMetadataEnabled) {
       return new RocksDBStoragePartition(
@@ -202,6 +260,12 @@ public class RocksDBStorageEngine extends AbstractStorageEngine<RocksDBStoragePa
     } else {
       cachedDiskUsage = 0;
     }
+    if (sharedInstanceEnabled) {
+      // The files of the shared instance are not in the store dir, so the data partitions report their own sizes.
+      for (int partitionId: super.getPartitionIds()) {
+        cachedDiskUsage += super.getPartitionSizeInBytes(partitionId);
+      }
+    }
     return cachedDiskUsage;
   }
 
@@ -240,6 +304,23 @@ public class RocksDBStorageEngine extends AbstractStorageEngine<RocksDBStoragePa
               transformerValueSchema);
           return true;
         }
+        boolean persistedSharedInstanceEnabled =
+            persistedStorageEngineConfig.getBoolean(ROCKSDB_SHARED_INSTANCE_ENABLED, false);
+        if (persistedSharedInstanceEnabled != sharedInstanceEnabled) {
+          LOGGER.warn(
+              "Tried to open an existing RocksDB engine with shared instance enabled: {} but already exists with: {}. Will remove the content and recreate the folder.",
+              sharedInstanceEnabled,
+              persistedSharedInstanceEnabled);
+          return true;
+        }
+        String secondaryIndexFields = persistedStorageEngineConfig.getString(ROCKSDB_SECONDARY_INDEX_FIELDS, "");
+        if (!secondaryIndexFields.equals(String.join(",", storeConfig.getSecondaryIndexFields()))) {
+          LOGGER.warn(
+              "Tried to open an existing RocksDB engine with secondary index fields: {} but already exists with fields: {}. Will remove the content and recreate the folder.",
+              storeConfig.getSecondaryIndexFields(),
+              secondaryIndexFields);
+          return true;
+        }
       } catch (IOException e) {
         throw new VeniceException("Encounter IO exception when validating RocksDB engine configs.", e);
       }
@@ -260,12 +341,37 @@ public class RocksDBStorageEngine extends AbstractStorageEngine<RocksDBStoragePa
       return;
     }
     try {
-      storeConfig.getPersistStorageEngineConfig().storeFlattened(storeEngineConfig);
+      if (sharedInstanceEnabled) {
+        new PropertyBuilder().put(storeConfig.getPersistStorageEngineConfig().toProperties())
+            .put(ROCKSDB_SHARED_INSTANCE_ENABLED, true)
+            .build()
+            .storeFlattened(storeEngineConfig);
+      } else {
+        storeConfig.getPersistStorageEngineConfig().storeFlattened(storeEngineConfig);
+      }
     } catch (IOException e) {
       throw new VeniceException("Unable to persist store engine config.", e);
     }
   }
 
+  private List<String> getPersistedSecondaryIndexFields() {
+    File storeEngineConfig = new File(getRocksDbEngineConfigPath());
+    if (!storeEngineConfig.exists()) {
+      return Collections.emptyList();
+    }
+    try {
+      VeniceProperties persistedStorageEngineConfig = Utils.parseProperties(storeEngineConfig);
+      return persistedStorageEngineConfig.getList(ROCKSDB_SECONDARY_INDEX_FIELDS, Collections.emptyList());
+    } catch (IOException e) {
+      throw new VeniceException("Encounter IO exception when reading RocksDB engine configs.", e);
+    }
+  }
+
+  @Override
+  public List<String> getSecondaryIndexFields() {
+    return storeConfig.getSecondaryIndexFields();
+  }
+
   private String getRocksDbEngineConfigPath() {
     return RocksDBUtils.composePartitionDbDir(rocksDbPath, getStoreVersionName(), METADATA_PARTITION_ID) + "/"
         + SERVER_CONFIG_FILE_NAME;
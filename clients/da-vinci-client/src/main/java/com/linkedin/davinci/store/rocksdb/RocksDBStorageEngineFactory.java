@@ -1,5 +1,6 @@
 package com.linkedin.davinci.store.rocksdb;
 
+import static com.linkedin.davinci.store.rocksdb.RocksDBSharedInstance.SHARED_INSTANCE_DIR_NAME;
 import static org.rocksdb.RateLimiter.DEFAULT_FAIRNESS;
 import static org.rocksdb.RateLimiter.DEFAULT_MODE;
 import static org.rocksdb.RateLimiter.DEFAULT_REFILL_PERIOD_MICROS;
@@ -9,6 +10,7 @@ import com.linkedin.davinci.config.VeniceStoreVersionConfig;
 import com.linkedin.davinci.stats.RocksDBMemoryStats;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.StorageEngineFactory;
+import com.linkedin.davinci.store.StoragePartitionConfig;
 import com.linkedin.venice.exceptions.StorageInitializationException;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.protocol.state.PartitionState;
@@ -20,6 +22,7 @@ import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -34,6 +37,7 @@ import org.rocksdb.ClockCache;
 import org.rocksdb.Env;
 import org.rocksdb.HistogramType;
 import org.rocksdb.LRUCache;
+import org.rocksdb.Options;
 import org.rocksdb.Priority;
 import org.rocksdb.RateLimiter;
 import org.rocksdb.RocksDB;
@@ -108,6 +112,14 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
 
   private final VeniceServerConfig serverConfig;
 
+  /**
+   * The instance shared by the data partitions of the eligible stores, which is opened lazily, see
+   * {@link RocksDBServerConfig#ROCKSDB_SHARED_INSTANCE_ENABLED}. It is guarded by its own lock instead of the factory,
+   * since the partitions open their column families while holding the lock of their storage engine.
+   */
+  private final Object sharedInstanceLock = new Object();
+  private RocksDBSharedInstance sharedInstance;
+
   public RocksDBStorageEngineFactory(VeniceServerConfig serverConfig) {
     this(
         serverConfig,
@@ -237,6 +249,61 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
     return this.memoryLimit > 0 && serverConfig.enforceMemoryLimitInStore(storeNameWithoutVersionSuffix);
   }
 
+  /**
+   * Whether the data partitions of the given store are kept in the shared instance. The shared instance has a single
+   * SST file manager, so the stores which are exempted from the memory limiter keep their own instances.
+   */
+  public boolean isSharedInstanceEnabled(String storeNameWithoutVersionSuffix) {
+    return rocksDBServerConfig.isSharedInstanceEnabled()
+        && (this.memoryLimit <= 0 || enforceMemoryLimit(storeNameWithoutVersionSuffix));
+  }
+
+  RocksDBSharedInstance getSharedInstance() {
+    synchronized (sharedInstanceLock) {
+      if (sharedInstance == null) {
+        Options options = RocksDBStoragePartition.getStoreOptions(
+            this,
+            rocksDBServerConfig,
+            this.memoryLimit > 0,
+            new StoragePartitionConfig(SHARED_INSTANCE_DIR_NAME, 0),
+            false);
+        String sharedInstancePath = rocksDBPath + File.separator + SHARED_INSTANCE_DIR_NAME;
+        sharedInstance = new RocksDBSharedInstance(sharedInstancePath, options, rocksDBThrottler);
+      }
+      return sharedInstance;
+    }
+  }
+
+  /**
+   * @return the shared instance, or null if it was never created on this host.
+   */
+  private RocksDBSharedInstance getSharedInstanceIfExists() {
+    synchronized (sharedInstanceLock) {
+      if (sharedInstance == null && !new File(rocksDBPath, SHARED_INSTANCE_DIR_NAME).exists()) {
+        return null;
+      }
+      return getSharedInstance();
+    }
+  }
+
+  /**
+   * @return the ids of the partitions of the given store version kept in the shared instance.
+   */
+  Set<Integer> getSharedInstancePartitionIds(String storeName) {
+    RocksDBSharedInstance instance = getSharedInstanceIfExists();
+    return instance == null ? Collections.emptySet() : instance.getPartitionIds(storeName);
+  }
+
+  /**
+   * Drops the column families of the given store version from the shared instance, if any.
+   */
+  void dropSharedInstancePartitions(String storeName) {
+    RocksDBSharedInstance instance = getSharedInstanceIfExists();
+    if (instance != null) {
+      instance.dropColumnFamilies(storeName);
+    }
+  }
+
   public Env getEnv() {
     return env;
   }
@@ -282,7 +349,11 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
       String[] storeDirs = databaseDir.list();
       LOGGER.debug("Found the following RocksDB databases: {}", Arrays.toString(storeDirs));
       if (storeDirs != null) {
-        return new HashSet<>(Arrays.asList(storeDirs));
+        Set<String> storeNames = new HashSet<>(Arrays.asList(storeDirs));
+        // The metadata partition of every store version is kept in the directory of the store version, even if the
+        // data partitions are kept in the shared instance.
+        storeNames.remove(SHARED_INSTANCE_DIR_NAME);
+        return storeNames;
       }
     } else {
       LOGGER.info("RocksDB dir: {} doesn't exist, so nothing to restore", databaseDir);
@@ -297,6 +368,12 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
       storageEngine.close();
     });
     storageEngineMap.clear();
+    synchronized (sharedInstanceLock) {
+      if (sharedInstance != null) {
+        sharedInstance.close();
+        sharedInstance = null;
+      }
+    }
     sharedCache.close();
     if (sharedRMDCache != null) {
       sharedRMDCache.close();
@@ -346,6 +423,14 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
       throw new VeniceException(
           "Storage engine has already been opened previously, and please use #removeStorageEngine(AbstractStorageEngine) for deletion");
     }
+    RocksDBSharedInstance instance = getSharedInstanceIfExists();
+    if (instance != null) {
+      if (partitionId == -1) {
+        instance.dropColumnFamilies(storeName);
+      } else {
+        instance.dropColumnFamily(storeName, partitionId);
+      }
+    }
     File dbDir;
 
     // partitionId -1 means removes all partitions in the DB path.
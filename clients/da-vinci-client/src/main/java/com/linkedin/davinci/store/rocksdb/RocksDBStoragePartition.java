@@ -1,6 +1,7 @@
 package com.linkedin.davinci.store.rocksdb;
 
 import static com.linkedin.davinci.store.AbstractStorageEngine.METADATA_PARTITION_ID;
+import static com.linkedin.davinci.store.rocksdb.RocksDBSstFileWriter.DEFAULT_COLUMN_FAMILY_INDEX;
 
 import com.linkedin.davinci.blobtransfer.BlobSnapshotManager;
 import com.linkedin.davinci.callback.BytesStreamingCallback;
@@ -8,13 +9,16 @@ import com.linkedin.davinci.config.VeniceStoreVersionConfig;
 import com.linkedin.davinci.stats.RocksDBMemoryStats;
 import com.linkedin.davinci.store.AbstractStoragePartition;
 import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.davinci.store.StoragePartitionSnapshot;
 import com.linkedin.venice.exceptions.MemoryLimitExhaustedException;
+import com.linkedin.venice.exceptions.VeniceChecksumException;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.Utils;
 import java.io.File;
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -28,6 +32,7 @@ import java.util.Set;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Supplier;
 import javax.annotation.concurrent.NotThreadSafe;
+import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.rocksdb.BlockBasedTableConfig;
@@ -38,6 +43,7 @@ import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.EnvOptions;
 import org.rocksdb.FlushOptions;
+import org.rocksdb.IngestExternalFileOptions;
 import org.rocksdb.MemoryUsageType;
 import org.rocksdb.MemoryUtil;
 import org.rocksdb.Options;
@@ -47,9 +53,9 @@ import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
 import org.rocksdb.Slice;
+import org.rocksdb.Snapshot;
 import org.rocksdb.SstFileManager;
 import org.rocksdb.SstFileWriter;
-import org.rocksdb.Statistics;
 import org.rocksdb.Status;
 import org.rocksdb.WriteOptions;
 
@@ -67,6 +73,7 @@ import org.rocksdb.WriteOptions;
 public class RocksDBStoragePartition extends AbstractStoragePartition {
   private static final Logger LOGGER = LogManager.getLogger(RocksDBStoragePartition.class);
   private static final String ROCKSDB_ERROR_MESSAGE_FOR_RUNNING_OUT_OF_SPACE_QUOTA = "Max allowed space was reached";
+  private static final String BULK_LOAD_DIR_NAME = "bulk_load";
   protected static final ReadOptions READ_OPTIONS_DEFAULT = new ReadOptions();
   static final byte[] REPLICATION_METADATA_COLUMN_FAMILY = "timestamp_metadata".getBytes();
 
@@ -135,7 +142,6 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
   protected final boolean readWriteLeaderForDefaultCF;
   protected final boolean readWriteLeaderForRMDCF;
 
-  private final Optional<Statistics> aggStatistics;
   private final RocksDBMemoryStats rocksDBMemoryStats;
 
   private Optional<Supplier<byte[]>> expectedChecksumSupplier;
@@ -168,7 +174,6 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     this.storeName = Version.parseStoreFromVersionTopic(storeNameAndVersion);
     this.partitionId = storagePartitionConfig.getPartitionId();
     this.replicaId = Utils.getReplicaId(storagePartitionConfig.getStoreName(), partitionId);
-    this.aggStatistics = factory.getAggStatistics();
     this.blobTransferEnabled = storeConfig.isBlobTransferEnabled();
 
     // If writing to offset metadata partition METADATA_PARTITION_ID enable WAL write to sync up offset on server
@@ -240,13 +245,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
      */
     Runnable dbOpenRunnable = () -> {
       try {
-        if (this.readOnly) {
-          this.rocksDB = rocksDbThrottler
-              .openReadOnly(options, fullPathForPartitionDB, columnFamilyDescriptors, columnFamilyHandleList);
-        } else {
-          this.rocksDB =
-              rocksDbThrottler.open(options, fullPathForPartitionDB, columnFamilyDescriptors, columnFamilyHandleList);
-        }
+        this.rocksDB = openDatabase();
       } catch (RocksDBException | InterruptedException e) {
         throw new VeniceException("Failed to open RocksDB for replica: " + replicaId, e);
       }
@@ -351,11 +350,25 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
   }
 
   protected Options getStoreOptions(StoragePartitionConfig storagePartitionConfig, boolean isRMD) {
+    return getStoreOptions(
+        factory,
+        rocksDBServerConfig,
+        factory.enforceMemoryLimit(storeName),
+        storagePartitionConfig,
+        isRMD);
+  }
+
+  static Options getStoreOptions(
+      RocksDBStorageEngineFactory factory,
+      RocksDBServerConfig rocksDBServerConfig,
+      boolean enforceMemoryLimit,
+      StoragePartitionConfig storagePartitionConfig,
+      boolean isRMD) {
     Options options = new Options();
 
     options.setEnv(factory.getEnv());
     options.setRateLimiter(factory.getRateLimiter());
-    if (factory.enforceMemoryLimit(storeName)) {
+    if (enforceMemoryLimit) {
       options.setSstFileManager(factory.getSstFileManagerForMemoryLimiter());
     } else {
       options.setSstFileManager(factory.getSstFileManager());
@@ -381,7 +394,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     options.setKeepLogFileNum(rocksDBServerConfig.getMaxLogFileNum());
     options.setMaxLogFileSize(rocksDBServerConfig.getMaxLogFileSize());
 
-    aggStatistics.ifPresent(options::setStatistics);
+    factory.getAggStatistics().ifPresent(options::setStatistics);
 
     if (rocksDBServerConfig.isRocksDBPlainTableFormatEnabled()) {
       PlainTableConfig tableConfig = new PlainTableConfig();
@@ -440,6 +453,44 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     return columnFamilyHandleList;
   }
 
+  protected ColumnFamilyHandle getDefaultColumnFamilyHandle() {
+    return columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX);
+  }
+
+  protected RocksDBStorageEngineFactory getFactory() {
+    return factory;
+  }
+
+  /**
+   * Opens the database of this partition, and fills {@link #columnFamilyHandleList} with the handles of
+   * {@link #columnFamilyDescriptors}.
+   */
+  protected RocksDB openDatabase() throws RocksDBException, InterruptedException {
+    if (this.readOnly) {
+      return rocksDBThrottler
+          .openReadOnly(options, fullPathForPartitionDB, columnFamilyDescriptors, columnFamilyHandleList);
+    } else {
+      return rocksDBThrottler.open(options, fullPathForPartitionDB, columnFamilyDescriptors, columnFamilyHandleList);
+    }
+  }
+
+  protected void closeDatabase() {
+    rocksDB.close();
+  }
+
+  /**
+   * Deletes the data of this partition, after it is closed.
+   */
+  protected void destroyDatabase() {
+    try {
+      Options storeOptions = getStoreOptions(new StoragePartitionConfig(storeNameAndVersion, partitionId), false);
+      RocksDB.destroyDB(fullPathForPartitionDB, storeOptions);
+      storeOptions.close();
+    } catch (RocksDBException e) {
+      LOGGER.error("Failed to destroy DB for replica: {}", replicaId);
+    }
+  }
+
   public long getRmdByteUsage() {
     return 0;
   }
@@ -493,7 +544,84 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
   }
 
-  private void checkAndThrowMemoryLimitException(RocksDBException e) {
+  /**
+   * The files are copied into the temp SST file dir of the partition and verified against the checksums of the
+   * manifest, so the source dir can live on a shared or remote mounted file system. Only the staged files are touched,
+   * so the partition isn't locked while copying them, and it can keep serving and ingesting meanwhile.
+   */
+  @Override
+  public void stageBulkLoadFiles(File sourceDir) {
+    if (readOnly) {
+      throw new VeniceException("Cannot ingest bulk load files into read-only replica: " + replicaId);
+    }
+    if (options.tableFormatConfig() instanceof PlainTableConfig) {
+      throw new VeniceException("Bulk load is not supported with RocksDB PlainTable Format: " + replicaId);
+    }
+    BulkLoadManifest manifest = BulkLoadManifest.read(sourceDir);
+    File bulkLoadDir = new File(fullPathForTempSSTFileDir, BULK_LOAD_DIR_NAME);
+    boolean staged = false;
+    try {
+      FileUtils.deleteDirectory(bulkLoadDir);
+      if (!bulkLoadDir.mkdirs()) {
+        throw new VeniceException("Failed to create dir: " + bulkLoadDir.getAbsolutePath());
+      }
+      for (BulkLoadManifest.SstFileInfo sstFile: manifest.getSstFiles()) {
+        File localFile = new File(bulkLoadDir, sstFile.getFileName());
+        FileUtils.copyFile(new File(sourceDir, sstFile.getFileName()), localFile);
+        if (!RocksDBSstFileWriter.verifyChecksum(
+            options,
+            localFile.getAbsolutePath(),
+            sstFile.getRecordCount(),
+            sstFile.getChecksum())) {
+          throw new VeniceChecksumException(
+              "Checksum mismatch in bulk load file: " + sstFile.getFileName() + " for replica: " + replicaId);
+        }
+      }
+      // Written last, so that only the files which are all copied and verified can be ingested.
+      manifest.write(bulkLoadDir);
+      staged = true;
+      LOGGER.info(
+          "Staged {} bulk load files from: {} for replica: {}",
+          manifest.getSstFiles().size(),
+          sourceDir,
+          replicaId);
+    } catch (IOException e) {
+      throw new VeniceException("Failed to stage bulk load files from: " + sourceDir + " for replica: " + replicaId, e);
+    } finally {
+      if (!staged) {
+        FileUtils.deleteQuietly(bulkLoadDir);
+      }
+    }
+  }
+
+  @Override
+  public synchronized void ingestBulkLoadFiles() {
+    makeSureRocksDBIsStillOpen();
+    File bulkLoadDir = new File(fullPathForTempSSTFileDir, BULK_LOAD_DIR_NAME);
+    if (!BulkLoadManifest.exists(bulkLoadDir)) {
+      throw new VeniceException("No bulk load files are staged for replica: " + replicaId);
+    }
+    try {
+      BulkLoadManifest manifest = BulkLoadManifest.read(bulkLoadDir);
+      List<String> sstFilePaths = new ArrayList<>(manifest.getSstFiles().size());
+      for (BulkLoadManifest.SstFileInfo sstFile: manifest.getSstFiles()) {
+        sstFilePaths.add(new File(bulkLoadDir, sstFile.getFileName()).getAbsolutePath());
+      }
+      if (!sstFilePaths.isEmpty()) {
+        try (IngestExternalFileOptions ingestOptions = new IngestExternalFileOptions()) {
+          ingestOptions.setMoveFiles(true);
+          rocksDB.ingestExternalFile(getDefaultColumnFamilyHandle(), sstFilePaths, ingestOptions);
+        }
+      }
+      LOGGER.info("Ingested {} bulk load files for replica: {}", sstFilePaths.size(), replicaId);
+    } catch (RocksDBException e) {
+      throw new VeniceException("Failed to ingest bulk load files for replica: " + replicaId, e);
+    } finally {
+      FileUtils.deleteQuietly(bulkLoadDir);
+    }
+  }
+
+  protected void checkAndThrowMemoryLimitException(RocksDBException e) {
     if (e.getMessage().contains(ROCKSDB_ERROR_MESSAGE_FOR_RUNNING_OUT_OF_SPACE_QUOTA)) {
       throw new MemoryLimitExhaustedException(
           storeNameAndVersion,
@@ -519,6 +647,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
         rocksDBSstFileWriter.put(key, valueBuffer);
       } else {
         rocksDB.put(
+            getDefaultColumnFamilyHandle(),
             writeOptions,
             key,
             0,
@@ -543,7 +672,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     readCloseRWLock.readLock().lock();
     try {
       makeSureRocksDBIsStillOpen();
-      return rocksDB.get(key);
+      return rocksDB.get(getDefaultColumnFamilyHandle(), key);
     } catch (RocksDBException e) {
       throw new VeniceException("Failed to get value from RocksDB: " + replicaId, e);
     } finally {
@@ -556,7 +685,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     readCloseRWLock.readLock().lock();
     try {
       makeSureRocksDBIsStillOpen();
-      int size = rocksDB.get(key, valueToBePopulated.array());
+      int size = rocksDB.get(getDefaultColumnFamilyHandle(), key, valueToBePopulated.array());
       if (size == RocksDB.NOT_FOUND) {
         return null;
       } else if (size > valueToBePopulated.capacity()) {
@@ -565,7 +694,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
             size,
             valueToBePopulated.capacity());
         valueToBePopulated = ByteBuffer.allocate(size);
-        size = rocksDB.get(key, valueToBePopulated.array());
+        size = rocksDB.get(getDefaultColumnFamilyHandle(), key, valueToBePopulated.array());
       }
       valueToBePopulated.position(0);
       valueToBePopulated.limit(size);
@@ -587,7 +716,8 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     readCloseRWLock.readLock().lock();
     try {
       makeSureRocksDBIsStillOpen();
-      return rocksDB.get(keyBuffer.array(), keyBuffer.position(), keyBuffer.remaining());
+      return rocksDB
+          .get(getDefaultColumnFamilyHandle(), keyBuffer.array(), keyBuffer.position(), keyBuffer.remaining());
     } catch (RocksDBException e) {
       throw new VeniceException("Failed to get value from RocksDB: " + replicaId, e);
     } finally {
@@ -595,11 +725,12 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
   }
 
+  @Override
   public List<byte[]> multiGet(List<byte[]> keys) {
     readCloseRWLock.readLock().lock();
     try {
       makeSureRocksDBIsStillOpen();
-      return rocksDB.multiGetAsList(keys);
+      return rocksDB.multiGetAsList(Collections.nCopies(keys.size(), getDefaultColumnFamilyHandle()), keys);
     } catch (RocksDBException e) {
       throw new VeniceException("Failed to get value from RocksDB: " + replicaId, e);
     } finally {
@@ -612,7 +743,8 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
 
     try {
       makeSureRocksDBIsStillOpen();
-      List<ByteBufferGetStatus> statusList = rocksDB.multiGetByteBuffers(keys, values);
+      List<ByteBufferGetStatus> statusList =
+          rocksDB.multiGetByteBuffers(Collections.nCopies(keys.size(), getDefaultColumnFamilyHandle()), keys, values);
       int keyCnt = keys.size();
       int statusCnt = statusList.size();
       int valueCnt = values.size();
@@ -685,7 +817,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
       makeSureRocksDBIsStillOpen();
 
       try (ReadOptions readOptions = getReadOptionsForIteration(keyPrefix);
-          RocksIterator iterator = rocksDB.newIterator(readOptions)) {
+          RocksIterator iterator = rocksDB.newIterator(getDefaultColumnFamilyHandle(), readOptions)) {
         if (keyPrefix == null) {
           iterator.seekToFirst();
         } else {
@@ -702,6 +834,127 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
   }
 
+  @Override
+  public byte[] getByKeyRange(byte[] startKey, byte[] endKey, int maxRecordCount, BytesStreamingCallback callback) {
+    if ((startKey != null || endKey != null) && rocksDBServerConfig.isRocksDBPlainTableFormatEnabled()) {
+      throw new VeniceException("Get by key range is not supported with RocksDB PlainTable Format.");
+    }
+
+    readCloseRWLock.readLock().lock();
+    try {
+      makeSureRocksDBIsStillOpen();
+
+      // The iteration stops at the upper bound inside RocksDB, so the keys after the range are never read.
+      try (Slice upperBound = endKey == null ? null : new Slice(endKey);
+          ReadOptions readOptions = new ReadOptions()) {
+        if (upperBound != null) {
+          readOptions.setIterateUpperBound(upperBound);
+        }
+        try (RocksIterator iterator = rocksDB.newIterator(getDefaultColumnFamilyHandle(), readOptions)) {
+          if (startKey == null) {
+            iterator.seekToFirst();
+          } else {
+            iterator.seek(startKey);
+          }
+          byte[] lastKey = null;
+          for (int recordCount = 0; iterator.isValid() && recordCount < maxRecordCount; recordCount++) {
+            lastKey = iterator.key();
+            callback.onRecordReceived(lastKey, iterator.value());
+            iterator.next();
+          }
+          if (!iterator.isValid()) {
+            return null;
+          }
+          // The smallest key after the last returned one.
+          return Arrays.copyOf(lastKey, lastKey.length + 1);
+        }
+      }
+    } finally {
+      readCloseRWLock.readLock().unlock();
+    }
+  }
+
+
+  @Override
+  public StoragePartitionSnapshot openReadSnapshot(long highWatermarkOffset) {
+    readCloseRWLock.readLock().lock();
+    try {
+      makeSureRocksDBIsStillOpen();
+      return new RocksDBReadSnapshot(rocksDB, highWatermarkOffset);
+    } finally {
+      readCloseRWLock.readLock().unlock();
+    }
+  }
+
+  /**
+   * A RocksDB snapshot which is bound to the database instance it was taken from, so it is invalidated once the
+   * partition is closed or reopened, instead of being released against another instance.
+   */
+  private class RocksDBReadSnapshot implements StoragePartitionSnapshot {
+    private final RocksDB snapshotDB;
+    private final Snapshot snapshot;
+    private final ReadOptions readOptions;
+    private final long highWatermarkOffset;
+    private volatile boolean released = false;
+
+    RocksDBReadSnapshot(RocksDB snapshotDB, long highWatermarkOffset) {
+      this.snapshotDB = snapshotDB;
+      this.snapshot = snapshotDB.getSnapshot();
+      this.readOptions = new ReadOptions().setSnapshot(snapshot);
+      this.highWatermarkOffset = highWatermarkOffset;
+    }
+
+    @Override
+    public byte[] get(ByteBuffer keyBuffer) {
+      readCloseRWLock.readLock().lock();
+      try {
+        makeSureSnapshotIsStillValid();
+        return snapshotDB.get(
+            getDefaultColumnFamilyHandle(),
+            readOptions,
+            keyBuffer.array(),
+            keyBuffer.position(),
+            keyBuffer.remaining());
+      } catch (RocksDBException e) {
+        throw new VeniceException("Failed to get value from RocksDB snapshot: " + replicaId, e);
+      } finally {
+        readCloseRWLock.readLock().unlock();
+      }
+    }
+
+    @Override
+    public long getHighWatermarkOffset() {
+      return highWatermarkOffset;
+    }
+
+    @Override
+    public void close() {
+      readCloseRWLock.readLock().lock();
+      try {
+        synchronized (this) {
+          if (released) {
+            return;
+          }
+          released = true;
+        }
+        // The snapshots of a closed database are gone along with it.
+        if (!isClosed && snapshotDB == rocksDB) {
+          snapshotDB.releaseSnapshot(snapshot);
+        }
+        readOptions.close();
+      } finally {
+        readCloseRWLock.readLock().unlock();
+      }
+    }
+
+    private void makeSureSnapshotIsStillValid() {
+      makeSureRocksDBIsStillOpen();
+      if (released || snapshotDB != rocksDB) {
+        throw new VeniceException("The snapshot of RocksDB has been released for replica: " + replicaId);
+      }
+    }
+  }
+
   public synchronized boolean validateBatchIngestion() {
     if (!deferredWrite) {
       return true;
@@ -746,7 +999,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
       if (deferredWrite) {
         throw new VeniceException("Deletion is unexpected in 'deferredWrite' mode");
       } else {
-        rocksDB.delete(key);
+        rocksDB.delete(getDefaultColumnFamilyHandle(), key);
       }
     } catch (RocksDBException e) {
       checkAndThrowMemoryLimitException(e);
@@ -816,13 +1069,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
   @Override
   public synchronized void drop() {
     close();
-    try {
-      Options storeOptions = getStoreOptions(new StoragePartitionConfig(storeNameAndVersion, partitionId), false);
-      RocksDB.destroyDB(fullPathForPartitionDB, storeOptions);
-      storeOptions.close();
-    } catch (RocksDBException e) {
-      LOGGER.error("Failed to destroy DB for replica: {}", replicaId);
-    }
+    destroyDatabase();
     /**
      * To avoid resource leaking, we will clean up all the database files anyway.
      */
@@ -847,7 +1094,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     deRegisterDBStats();
     readCloseRWLock.writeLock().lock();
     try {
-      rocksDB.close();
+      closeDatabase();
     } finally {
       isClosed = true;
       readCloseRWLock.writeLock().unlock();
@@ -876,18 +1123,12 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     readCloseRWLock.writeLock().lock();
     try {
       long startTimeInMs = System.currentTimeMillis();
-      rocksDB.close();
+      closeDatabase();
       LOGGER.info(
           "RocksDB close for replica: {} took {} ms.",
           replicaId,
           LatencyUtils.getElapsedTimeFromMsToMs(startTimeInMs));
-      if (this.readOnly) {
-        this.rocksDB = rocksDBThrottler
-            .openReadOnly(options, fullPathForPartitionDB, columnFamilyDescriptors, columnFamilyHandleList);
-      } else {
-        this.rocksDB =
-            rocksDBThrottler.open(options, fullPathForPartitionDB, columnFamilyDescriptors, columnFamilyHandleList);
-      }
+      this.rocksDB = openDatabase();
       LOGGER.info("Reopened RocksDB for replica: {}", replicaId);
     } catch (Exception e) {
       throw new VeniceException("Failed to reopen RocksDB for replica: " + replicaId);
@@ -912,7 +1153,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     readCloseRWLock.readLock().lock();
     try {
       makeSureRocksDBIsStillOpen();
-      return rocksDB.getLongProperty(statName);
+      return rocksDB.getLongProperty(getDefaultColumnFamilyHandle(), statName);
     } catch (RocksDBException e) {
       throw new VeniceException(
           "Failed to get property value from RocksDB: " + replicaId + " for property: " + statName,
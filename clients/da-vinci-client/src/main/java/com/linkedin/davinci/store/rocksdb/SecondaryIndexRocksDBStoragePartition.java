@@ -0,0 +1,211 @@
+package com.linkedin.davinci.store.rocksdb;
+
+import static com.linkedin.davinci.store.rocksdb.RocksDBSstFileWriter.DEFAULT_COLUMN_FAMILY_INDEX;
+
+import com.linkedin.davinci.callback.BytesStreamingCallback;
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.stats.RocksDBMemoryStats;
+import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.davinci.store.index.SecondaryIndexExtractor;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ByteUtils;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.FlushOptions;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.Slice;
+import org.rocksdb.Snapshot;
+import org.rocksdb.WriteBatch;
+
+
+/**
+ * This {@link SecondaryIndexRocksDBStoragePartition} maintains a secondary index of some value fields in a separate
+ * column family, whose entries map the encoded field values to the primary keys. The entries of a record are updated
+ * in the same {@link WriteBatch} as the record itself, so the index never points to a stale value.
+ *
+ * In 'deferredWrite' mode, the values go through the SST file writer as usual, but the index entries are written to
+ * the memtable of the index column family directly, since they are not sorted by the primary key.
+ */
+public class SecondaryIndexRocksDBStoragePartition extends RocksDBStoragePartition {
+  private static final Logger LOGGER = LogManager.getLogger(SecondaryIndexRocksDBStoragePartition.class);
+
+  static final byte[] SECONDARY_INDEX_COLUMN_FAMILY = "secondary_index".getBytes();
+  static final int SECONDARY_INDEX_COLUMN_FAMILY_INDEX = 1;
+  private static final FlushOptions WAIT_FOR_FLUSH_OPTIONS = new FlushOptions().setWaitForFlush(true);
+
+  private final Supplier<SecondaryIndexExtractor> secondaryIndexExtractorSupplier;
+
+  public SecondaryIndexRocksDBStoragePartition(
+      StoragePartitionConfig storagePartitionConfig,
+      RocksDBStorageEngineFactory factory,
+      String dbDir,
+      RocksDBMemoryStats rocksDBMemoryStats,
+      RocksDBThrottler rocksDbThrottler,
+      RocksDBServerConfig rocksDBServerConfig,
+      VeniceStoreVersionConfig storeConfig,
+      Supplier<SecondaryIndexExtractor> secondaryIndexExtractorSupplier) {
+    super(
+        storagePartitionConfig,
+        factory,
+        dbDir,
+        rocksDBMemoryStats,
+        rocksDbThrottler,
+        rocksDBServerConfig,
+        Arrays.asList(RocksDB.DEFAULT_COLUMN_FAMILY, SECONDARY_INDEX_COLUMN_FAMILY),
+        storeConfig);
+    this.secondaryIndexExtractorSupplier = secondaryIndexExtractorSupplier;
+  }
+
+  @Override
+  public synchronized void put(byte[] key, byte[] value) {
+    put(key, ByteBuffer.wrap(value));
+  }
+
+  @Override
+  public synchronized void put(byte[] key, ByteBuffer valueBuffer) {
+    SecondaryIndexExtractor extractor = secondaryIndexExtractorSupplier.get();
+    if (extractor == null) {
+      // Only the ingestion maintains the index.
+      super.put(key, valueBuffer);
+      return;
+    }
+    makeSureRocksDBIsStillOpen();
+    if (readOnly) {
+      throw new VeniceException(
+          "Cannot make writes while database is opened in read-only mode for replica: " + replicaId);
+    }
+    List<byte[]> newEntryKeys =
+        extractor.getEntryKeys(key, valueBuffer.array(), valueBuffer.position(), valueBuffer.remaining());
+    try {
+      if (deferredWrite) {
+        super.put(key, valueBuffer);
+        for (byte[] entryKey: newEntryKeys) {
+          rocksDB.put(getIndexColumnFamilyHandle(), writeOptions, entryKey, key);
+        }
+      } else {
+        try (WriteBatch writeBatch = new WriteBatch()) {
+          // The deletions of the old entries are overridden by the puts of the unchanged ones in the same batch.
+          for (byte[] entryKey: getCurrentEntryKeys(extractor, key)) {
+            writeBatch.delete(getIndexColumnFamilyHandle(), entryKey);
+          }
+          for (byte[] entryKey: newEntryKeys) {
+            writeBatch.put(getIndexColumnFamilyHandle(), entryKey, key);
+          }
+          writeBatch.put(
+              columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX),
+              key,
+              ByteUtils.extractByteArray(valueBuffer));
+          rocksDB.write(writeOptions, writeBatch);
+        }
+      }
+    } catch (RocksDBException e) {
+      checkAndThrowMemoryLimitException(e);
+      throw new VeniceException("Failed to store the key/value pair with secondary index in RocksDB: " + replicaId, e);
+    }
+  }
+
+  @Override
+  public synchronized void delete(byte[] key) {
+    SecondaryIndexExtractor extractor = secondaryIndexExtractorSupplier.get();
+    if (extractor == null || deferredWrite) {
+      super.delete(key);
+      return;
+    }
+    makeSureRocksDBIsStillOpen();
+    if (readOnly) {
+      throw new VeniceException(
+          "Cannot make deletion while database is opened in read-only mode for replica: " + replicaId);
+    }
+    try (WriteBatch writeBatch = new WriteBatch()) {
+      for (byte[] entryKey: getCurrentEntryKeys(extractor, key)) {
+        writeBatch.delete(getIndexColumnFamilyHandle(), entryKey);
+      }
+      writeBatch.delete(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key);
+      rocksDB.write(writeOptions, writeBatch);
+    } catch (RocksDBException e) {
+      checkAndThrowMemoryLimitException(e);
+      throw new VeniceException("Failed to delete entry with secondary index from RocksDB: " + replicaId, e);
+    }
+  }
+
+  private List<byte[]> getCurrentEntryKeys(SecondaryIndexExtractor extractor, byte[] key) throws RocksDBException {
+    byte[] currentValue = rocksDB.get(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key);
+    if (currentValue == null) {
+      return Collections.emptyList();
+    }
+    return extractor.getEntryKeys(key, currentValue, 0, currentValue.length);
+  }
+
+  private ColumnFamilyHandle getIndexColumnFamilyHandle() {
+    return columnFamilyHandleList.get(SECONDARY_INDEX_COLUMN_FAMILY_INDEX);
+  }
+
+  /**
+   * Looks up the records whose index entries are in the range of [startEntryKey, endEntryKey). The index and the
+   * values are read from the same snapshot, so every record matches the entry it was found by.
+   */
+  @Override
+  public void getBySecondaryIndexRange(byte[] startEntryKey, byte[] endEntryKey, BytesStreamingCallback callback) {
+    readCloseRWLock.readLock().lock();
+    try {
+      makeSureRocksDBIsStillOpen();
+      Snapshot snapshot = rocksDB.getSnapshot();
+      try (Slice upperBound = new Slice(endEntryKey);
+          ReadOptions iteratorReadOptions = new ReadOptions().setSnapshot(snapshot).setIterateUpperBound(upperBound);
+          ReadOptions valueReadOptions = new ReadOptions().setSnapshot(snapshot);
+          RocksIterator iterator = rocksDB.newIterator(getIndexColumnFamilyHandle(), iteratorReadOptions)) {
+        ColumnFamilyHandle valueColumnFamilyHandle = columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX);
+        iterator.seek(startEntryKey);
+        while (iterator.isValid()) {
+          byte[] primaryKey = iterator.value();
+          byte[] value = rocksDB.get(valueColumnFamilyHandle, valueReadOptions, primaryKey);
+          if (value != null) {
+            callback.onRecordReceived(primaryKey, value);
+          }
+          iterator.next();
+        }
+      } finally {
+        rocksDB.releaseSnapshot(snapshot);
+      }
+    } catch (RocksDBException e) {
+      throw new VeniceException("Failed to look up the secondary index in RocksDB: " + replicaId, e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
+      callback.onCompletion();
+    }
+  }
+
+  /**
+   * The index entries are extracted by the ingestion, so they can't be built from the bulk load files.
+   */
+  @Override
+  public void stageBulkLoadFiles(File sourceDir) {
+    throw new VeniceException("Bulk load is not supported by stores with secondary index: " + replicaId);
+  }
+
+  @Override
+  public synchronized Map<String, String> sync() {
+    if (deferredWrite && !readOnly) {
+      makeSureRocksDBIsStillOpen();
+      // The index entries bypass the SST file writer, so they need to be persisted before the checkpoint of the values.
+      try {
+        rocksDB.flush(WAIT_FOR_FLUSH_OPTIONS, getIndexColumnFamilyHandle());
+      } catch (RocksDBException e) {
+        throw new VeniceException("Failed to flush the secondary index to disk for RocksDB: " + replicaId, e);
+      }
+      LOGGER.debug("Flushed the secondary index to disk for RocksDB: {}", replicaId);
+    }
+    return super.sync();
+  }
+}
@@ -0,0 +1,84 @@
+package com.linkedin.davinci.store.rocksdb;
+
+import static com.linkedin.davinci.store.rocksdb.RocksDBSstFileWriter.DEFAULT_COLUMN_FAMILY_INDEX;
+
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.stats.RocksDBMemoryStats;
+import com.linkedin.davinci.store.StoragePartitionConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.rocksdb.FlushOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+
+
+/**
+ * A data partition which is kept in a column family of the {@link RocksDBSharedInstance} of the host, instead of a
+ * RocksDB instance of its own. The partition never closes the shared instance, but only stops using its column family.
+ */
+public class SharedInstanceRocksDBStoragePartition extends RocksDBStoragePartition {
+  private static final Logger LOGGER = LogManager.getLogger(SharedInstanceRocksDBStoragePartition.class);
+  private static final FlushOptions WAIT_FOR_FLUSH_OPTIONS = new FlushOptions().setWaitForFlush(true);
+
+  public SharedInstanceRocksDBStoragePartition(
+      StoragePartitionConfig storagePartitionConfig,
+      RocksDBStorageEngineFactory factory,
+      String dbDir,
+      RocksDBMemoryStats rocksDBMemoryStats,
+      RocksDBThrottler rocksDbThrottler,
+      RocksDBServerConfig rocksDBServerConfig,
+      VeniceStoreVersionConfig storeConfig) {
+    super(
+        storagePartitionConfig,
+        factory,
+        dbDir,
+        rocksDBMemoryStats,
+        rocksDbThrottler,
+        rocksDBServerConfig,
+        storeConfig);
+  }
+
+  @Override
+  protected RocksDB openDatabase() {
+    RocksDBSharedInstance sharedInstance = getFactory().getSharedInstance();
+    columnFamilyHandleList.clear();
+    columnFamilyHandleList.add(
+        sharedInstance.getOrCreateColumnFamily(
+            storeNameAndVersion,
+            partitionId,
+            columnFamilyDescriptors.get(DEFAULT_COLUMN_FAMILY_INDEX).getOptions()));
+    return sharedInstance.getRocksDB();
+  }
+
+  /**
+   * Flushes the column family, like closing a dedicated instance does, since the data written without WAL would be lost
+   * otherwise if the shared instance is not closed gracefully.
+   */
+  @Override
+  protected void closeDatabase() {
+    if (readOnly) {
+      return;
+    }
+    try {
+      rocksDB.flush(WAIT_FOR_FLUSH_OPTIONS, columnFamilyHandleList);
+    } catch (RocksDBException e) {
+      LOGGER.error("Failed to flush the column family of replica: {} in the shared RocksDB instance", replicaId, e);
+    }
+  }
+
+  @Override
+  protected void destroyDatabase() {
+    getFactory().getSharedInstance().dropColumnFamily(storeNameAndVersion, partitionId);
+  }
+
+  /**
+   * The checkpoint of the shared instance would contain the other partitions as well, so the partitions of the shared
+   * instance can't be served to the peers.
+   */
+  @Override
+  public synchronized void createSnapshot() {
+    if (blobTransferEnabled) {
+      LOGGER.warn("Skipping the snapshot of replica: {}, which is kept in the shared RocksDB instance", replicaId);
+    }
+  }
+}
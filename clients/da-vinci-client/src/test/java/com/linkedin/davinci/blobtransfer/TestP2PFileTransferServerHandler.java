@@ -6,6 +6,7 @@ import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_
 import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BlobTransferType;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.davinci.blobtransfer.server.BlobTransferManifestProvider;
 import com.linkedin.davinci.blobtransfer.server.P2PFileTransferServerHandler;
 import com.linkedin.davinci.storage.StorageMetadataService;
 import com.linkedin.venice.kafka.protocol.state.PartitionState;
@@ -47,19 +48,22 @@ public class TestP2PFileTransferServerHandler {
   EmbeddedChannel ch;
   Path baseDir;
   StorageMetadataService storageMetadataService;
+  BlobTransferManifestProvider manifestProvider;
   P2PFileTransferServerHandler serverHandler;
 
   @BeforeMethod
   public void setUp() throws IOException {
     baseDir = Files.createTempDirectory("tmp");
     storageMetadataService = Mockito.mock(StorageMetadataService.class);
-    serverHandler = new P2PFileTransferServerHandler(baseDir.toString(), storageMetadataService);
+    manifestProvider = new BlobTransferManifestProvider();
+    serverHandler = new P2PFileTransferServerHandler(baseDir.toString(), storageMetadataService, manifestProvider);
     ch = new EmbeddedChannel(serverHandler);
   }
 
   @AfterMethod
   public void teardown() throws IOException {
     ch.close();
+    manifestProvider.close();
     Files.walk(baseDir).sorted(Comparator.reverseOrder()).forEach(path -> {
       try {
         Files.delete(path);
@@ -273,4 +277,57 @@ public class TestP2PFileTransferServerHandler {
     Assert.assertTrue(response instanceof DefaultHttpResponse);
     Assert.assertEquals(((DefaultHttpResponse) response).status(), HttpResponseStatus.INTERNAL_SERVER_ERROR);
   }
+
+  @Test
+  public void testTransferFileRange() throws IOException {
+    Path snapshotDir = Paths.get(RocksDBUtils.composeSnapshotDir(baseDir.toString(), "myStore_v1", 10));
+    Files.createDirectories(snapshotDir);
+    Files.write(snapshotDir.resolve("file1"), "helloworld".getBytes());
+    FullHttpRequest request =
+        new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/myStore/1/10/files/file1");
+    request.headers().set(HttpHeaderNames.RANGE, "bytes=5-9");
+
+    ch.writeInbound(request);
+
+    Object response = ch.readOutbound();
+    Assert.assertTrue(response instanceof DefaultHttpResponse);
+    DefaultHttpResponse httpResponse = (DefaultHttpResponse) response;
+    Assert.assertEquals(httpResponse.status(), HttpResponseStatus.PARTIAL_CONTENT);
+    Assert.assertEquals(httpResponse.headers().get(HttpHeaderNames.CONTENT_RANGE), "bytes 5-9/10");
+    Assert.assertEquals(httpResponse.headers().getInt(HttpHeaderNames.CONTENT_LENGTH).intValue(), 5);
+    response = ch.readOutbound();
+    Assert.assertTrue(response instanceof DefaultFileRegion);
+    DefaultFileRegion fileRegion = (DefaultFileRegion) response;
+    Assert.assertEquals(fileRegion.position(), 5);
+    Assert.assertEquals(fileRegion.count(), 5);
+    response = ch.readOutbound();
+    Assert.assertTrue(response instanceof LastHttpContent);
+  }
+
+  @Test
+  public void testRejectInvalidFileRange() throws IOException {
+    Path snapshotDir = Paths.get(RocksDBUtils.composeSnapshotDir(baseDir.toString(), "myStore_v1", 10));
+    Files.createDirectories(snapshotDir);
+    Files.write(snapshotDir.resolve("file1"), "helloworld".getBytes());
+
+    for (String range: new String[] { "bytes=5-10", "bytes=5-4", "bytes=-5", "bytes=0-1,3-4" }) {
+      FullHttpRequest request =
+          new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/myStore/1/10/files/file1");
+      request.headers().set(HttpHeaderNames.RANGE, range);
+      ch.writeInbound(request);
+      FullHttpResponse response = ch.readOutbound();
+      Assert.assertEquals(response.status(), HttpResponseStatus.REQUESTED_RANGE_NOT_SATISFIABLE, range);
+    }
+  }
+
+  @Test
+  public void testRejectNonExistFile() throws IOException {
+    Path snapshotDir = Paths.get(RocksDBUtils.composeSnapshotDir(baseDir.toString(), "myStore_v1", 10));
+    Files.createDirectories(snapshotDir);
+    FullHttpRequest request =
+        new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/myStore/1/10/files/file1");
+    ch.writeInbound(request);
+    FullHttpResponse response = ch.readOutbound();
+    Assert.assertEquals(response.status(), HttpResponseStatus.NOT_FOUND);
+  }
 }
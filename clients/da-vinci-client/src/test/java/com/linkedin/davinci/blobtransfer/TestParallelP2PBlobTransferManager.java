@@ -0,0 +1,225 @@
+package com.linkedin.davinci.blobtransfer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.linkedin.davinci.blobtransfer.client.NettyFileTransferClient;
+import com.linkedin.davinci.blobtransfer.server.P2PBlobTransferService;
+import com.linkedin.davinci.storage.StorageMetadataService;
+import com.linkedin.venice.blobtransfer.BlobFinder;
+import com.linkedin.venice.blobtransfer.BlobPeersDiscoveryResponse;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.exceptions.VenicePeersNotFoundException;
+import com.linkedin.venice.kafka.protocol.state.PartitionState;
+import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
+import com.linkedin.venice.offsets.OffsetRecord;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
+import com.linkedin.venice.store.rocksdb.RocksDBUtils;
+import com.linkedin.venice.utils.TestUtils;
+import io.netty.channel.Channel;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class TestParallelP2PBlobTransferManager {
+  private static final String TEST_STORE = "test_store";
+  private static final String TEST_TOPIC = TEST_STORE + "_v1";
+  private static final int TEST_VERSION = 1;
+  private static final int TEST_PARTITION = 0;
+  private static final int RANGE_SIZE = 64 * 1024;
+
+  private BlobFinder finder;
+  private NettyFileTransferClient client;
+  private ParallelP2PBlobTransferManager manager;
+  private StorageMetadataService storageMetadataService;
+  private Path tmpSnapshotDir;
+  private Path tmpPartitionDir;
+  private Path snapshotDir;
+  private Path partitionDir;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    int port = TestUtils.getFreePort();
+    tmpSnapshotDir = Files.createTempDirectory("tmpSnapshotDir");
+    tmpPartitionDir = Files.createTempDirectory("tmpPartitionDir");
+    snapshotDir = Paths.get(RocksDBUtils.composeSnapshotDir(tmpSnapshotDir.toString(), TEST_TOPIC, TEST_PARTITION));
+    partitionDir =
+        Paths.get(RocksDBUtils.composePartitionDbDir(tmpPartitionDir.toString(), TEST_TOPIC, TEST_PARTITION));
+    Files.createDirectories(snapshotDir);
+
+    storageMetadataService = mock(StorageMetadataService.class);
+    doReturn(new StoreVersionState()).when(storageMetadataService).getStoreVersionState(any());
+    InternalAvroSpecificSerializer<PartitionState> partitionStateSerializer =
+        AvroProtocolDefinition.PARTITION_STATE.getSerializer();
+    OffsetRecord offsetRecord = new OffsetRecord(partitionStateSerializer);
+    offsetRecord.setOffsetLag(1000L);
+    doReturn(offsetRecord).when(storageMetadataService).getLastOffset(any(), anyInt());
+
+    P2PBlobTransferService server = new P2PBlobTransferService(port, tmpSnapshotDir.toString(), storageMetadataService);
+    client = Mockito.spy(new NettyFileTransferClient(port, tmpPartitionDir.toString(), storageMetadataService));
+    finder = mock(BlobFinder.class);
+    manager = new ParallelP2PBlobTransferManager(
+        server,
+        client,
+        finder,
+        tmpPartitionDir.toString(),
+        new ParallelBlobTransferConfig(2, 4, RANGE_SIZE));
+    manager.start();
+  }
+
+  @AfterMethod
+  public void teardown() throws Exception {
+    manager.close();
+    for (Path dir: new Path[] { tmpSnapshotDir, tmpPartitionDir }) {
+      try (Stream<Path> paths = Files.walk(dir)) {
+        paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+      }
+    }
+  }
+
+  private void setPeers(String... peers) {
+    BlobPeersDiscoveryResponse response = new BlobPeersDiscoveryResponse();
+    response.setDiscoveryResult(Arrays.asList(peers));
+    doReturn(response).when(finder).discoverBlobPeers(anyString(), anyInt(), anyInt());
+  }
+
+  private Path writeSnapshotFile(String fileName, int size) throws IOException {
+    byte[] content = new byte[size];
+    new Random(size).nextBytes(content);
+    return Files.write(snapshotDir.resolve(fileName), content);
+  }
+
+  private void assertSameContent(Path... snapshotFiles) throws IOException {
+    for (Path snapshotFile: snapshotFiles) {
+      Path destFile = partitionDir.resolve(snapshotFile.getFileName());
+      Assert.assertTrue(Arrays.equals(Files.readAllBytes(snapshotFile), Files.readAllBytes(destFile)));
+    }
+  }
+
+  @Test(timeOut = 60000)
+  public void testFetchRangesFromMultiplePeers() throws Exception {
+    // Both peers are served by the local server.
+    setPeers("localhost", "127.0.0.1");
+    Path file1 = writeSnapshotFile("000001.sst", RANGE_SIZE * 5 + 17);
+    Path file2 = writeSnapshotFile("MANIFEST-000002", 100);
+    Path file3 = writeSnapshotFile("000003.log", 0);
+
+    manager.get(TEST_STORE, TEST_VERSION, TEST_PARTITION).toCompletableFuture().get(1, TimeUnit.MINUTES);
+
+    assertSameContent(file1, file2, file3);
+    try (Stream<Path> paths = Files.list(partitionDir)) {
+      String tempFileSuffix = ParallelP2PBlobTransferManager.TEMP_FILE_SUFFIX;
+      Assert.assertFalse(paths.anyMatch(path -> path.toString().endsWith(tempFileSuffix)));
+    }
+    // All the ranges fetched from a peer share a single connection.
+    for (String host: new String[] { "localhost", "127.0.0.1" }) {
+      Mockito.verify(client, Mockito.times(1)).openFileRangeConnection(eq(host), anyString(), anyInt(), anyInt());
+    }
+    Mockito.verify(client, Mockito.times(7))
+        .getFileRange(any(), anyString(), anyInt(), anyInt(), anyString(), anyLong(), anyLong(), any());
+    // The metadata is only fetched once, from the reference peer.
+    Mockito.verify(client, Mockito.times(1)).getMetadata(anyString(), anyString(), anyInt(), anyInt());
+    Mockito.verify(storageMetadataService, Mockito.times(1)).put(eq(TEST_TOPIC), eq(TEST_PARTITION), any());
+    Mockito.verify(storageMetadataService, Mockito.times(1)).computeStoreVersionState(anyString(), any());
+  }
+
+  @Test(timeOut = 60000)
+  public void testSkipBadPeer() throws Exception {
+    setPeers("badhost", "localhost");
+    Path file1 = writeSnapshotFile("000001.sst", RANGE_SIZE * 3);
+
+    manager.get(TEST_STORE, TEST_VERSION, TEST_PARTITION).toCompletableFuture().get(1, TimeUnit.MINUTES);
+
+    assertSameContent(file1);
+    Mockito.verify(client, never()).openFileRangeConnection(eq("badhost"), anyString(), anyInt(), anyInt());
+  }
+
+  @Test(timeOut = 60000)
+  public void testOnlyFetchMissingFiles() throws Exception {
+    setPeers("localhost");
+    Path sameFile = writeSnapshotFile("000001.sst", RANGE_SIZE * 2);
+    Path changedFile = writeSnapshotFile("MANIFEST-000002", 100);
+    Path newFile = writeSnapshotFile("000003.sst", RANGE_SIZE);
+    // The partition holds an older snapshot, which shares one SST file with the new one.
+    Files.createDirectories(partitionDir);
+    Files.copy(sameFile, partitionDir.resolve(sameFile.getFileName()));
+    Files.write(partitionDir.resolve(changedFile.getFileName()), "old manifest".getBytes());
+    Path staleFile = Files.write(partitionDir.resolve("000000.sst"), "obsolete".getBytes());
+
+    manager.get(TEST_STORE, TEST_VERSION, TEST_PARTITION).toCompletableFuture().get(1, TimeUnit.MINUTES);
+
+    assertSameContent(sameFile, changedFile, newFile);
+    Assert.assertTrue(Files.notExists(staleFile));
+    Mockito.verify(client, never())
+        .getFileRange(any(), anyString(), anyInt(), anyInt(), eq("000001.sst"), anyLong(), anyLong(), any());
+    Mockito.verify(client, Mockito.times(1))
+        .getFileRange(any(), anyString(), anyInt(), anyInt(), eq("MANIFEST-000002"), anyLong(), anyLong(), any());
+    Mockito.verify(client, Mockito.times(1))
+        .getFileRange(any(), anyString(), anyInt(), anyInt(), eq("000003.sst"), anyLong(), anyLong(), any());
+  }
+
+  @Test(timeOut = 60000)
+  public void testCleanUpAfterFailure() throws Exception {
+    setPeers("localhost");
+    writeSnapshotFile("000001.sst", RANGE_SIZE * 3);
+    List<Channel> connections = new ArrayList<>();
+    doAnswer(invocation -> {
+      Channel connection = (Channel) invocation.callRealMethod();
+      connections.add(connection);
+      return connection;
+    }).when(client).openFileRangeConnection(anyString(), anyString(), anyInt(), anyInt());
+    // The second range of the file can never be fetched, while the other ranges are.
+    CompletableFuture<Void> failedRange = new CompletableFuture<>();
+    failedRange.completeExceptionally(new VeniceException("Injected range failure"));
+    doReturn(failedRange).when(client)
+        .getFileRange(any(), anyString(), anyInt(), anyInt(), anyString(), eq((long) RANGE_SIZE), anyLong(), any());
+
+    Assert.assertThrows(VeniceException.class, () -> manager.get(TEST_STORE, TEST_VERSION, TEST_PARTITION));
+
+    Assert.assertFalse(connections.isEmpty());
+    for (Channel connection: connections) {
+      Assert.assertFalse(connection.isOpen());
+    }
+    try (Stream<Path> paths = Files.list(partitionDir)) {
+      Assert.assertEquals(paths.count(), 0);
+    }
+  }
+
+  @Test
+  public void testNoPeerHasSnapshot() throws IOException {
+    setPeers("localhost");
+    Files.delete(snapshotDir);
+    Assert.assertThrows(
+        VenicePeersNotFoundException.class,
+        () -> manager.get(TEST_STORE, TEST_VERSION, TEST_PARTITION));
+
+    setPeers();
+    Assert.assertThrows(
+        VenicePeersNotFoundException.class,
+        () -> manager.get(TEST_STORE, TEST_VERSION, TEST_PARTITION));
+    Mockito.verify(storageMetadataService, never()).put(anyString(), anyInt(), any());
+  }
+}
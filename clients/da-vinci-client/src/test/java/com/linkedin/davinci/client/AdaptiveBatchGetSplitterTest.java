@@ -0,0 +1,61 @@
+package com.linkedin.davinci.client;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class AdaptiveBatchGetSplitterTest {
+  @Test
+  public void testChunkSizeFollowsLatency() {
+    AdaptiveBatchGetSplitter splitter = new AdaptiveBatchGetSplitter(Runnable::run, 100);
+    // Without any observation, the static split threshold is used.
+    Assert.assertEquals(splitter.getChunkSize(), 100);
+    Assert.assertEquals(splitter.getParallelism(250), 3);
+    Assert.assertEquals(splitter.getParallelism(0), 1);
+
+    // Slow reads lead to smaller chunks.
+    splitter.recordLatency(AdaptiveBatchGetSplitter.TARGET_CHUNK_LATENCY_NS * 10, 100);
+    Assert.assertEquals(splitter.getChunkSize(), 10);
+    Assert.assertEquals(splitter.getParallelism(250), 25);
+
+    // Reads slower than the target latency are not split further than a key per chunk.
+    AdaptiveBatchGetSplitter slowSplitter = new AdaptiveBatchGetSplitter(Runnable::run, 100);
+    slowSplitter.recordLatency(AdaptiveBatchGetSplitter.TARGET_CHUNK_LATENCY_NS * 2, 1);
+    Assert.assertEquals(slowSplitter.getChunkSize(), 1);
+
+    // Fast reads are capped by the split threshold.
+    splitter.recordLatency(1, 1000);
+    for (int i = 0; i < 100; i++) {
+      splitter.recordLatency(1, 1000);
+    }
+    Assert.assertEquals(splitter.getChunkSize(), 100);
+  }
+
+  @Test
+  public void testParallelismFollowsExecutorLoad() {
+    ThreadPoolExecutor executor = mock(ThreadPoolExecutor.class);
+    BlockingQueue<Runnable> queue = new LinkedBlockingQueue<>();
+    when(executor.getQueue()).thenReturn(queue);
+    when(executor.getMaximumPoolSize()).thenReturn(4);
+    when(executor.getActiveCount()).thenReturn(1);
+    AdaptiveBatchGetSplitter splitter = new AdaptiveBatchGetSplitter(executor, 10);
+
+    // 3 idle threads plus the calling thread.
+    Assert.assertEquals(splitter.getParallelism(1000), 4);
+    Assert.assertEquals(splitter.getParallelism(15), 2);
+
+    when(executor.getActiveCount()).thenReturn(4);
+    Assert.assertEquals(splitter.getParallelism(1000), 1);
+
+    // The request isn't split when the tasks of the other requests are queued.
+    when(executor.getActiveCount()).thenReturn(1);
+    queue.add(() -> {});
+    Assert.assertEquals(splitter.getParallelism(1000), 1);
+  }
+}
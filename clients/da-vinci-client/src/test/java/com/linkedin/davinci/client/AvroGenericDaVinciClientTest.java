@@ -1,23 +1,39 @@
 package com.linkedin.davinci.client;
 
 import static com.linkedin.davinci.client.AvroGenericDaVinciClient.READ_CHUNK_EXECUTOR;
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 import com.linkedin.alpini.base.concurrency.Executors;
 import com.linkedin.davinci.StoreBackend;
 import com.linkedin.davinci.VersionBackend;
+import com.linkedin.davinci.store.StoragePartitionSnapshot;
+import com.linkedin.davinci.store.index.SecondaryIndexKeyEncoder;
 import com.linkedin.davinci.store.rocksdb.RocksDBServerConfig;
 import com.linkedin.venice.client.store.ClientConfig;
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.serializer.AvroGenericDeserializer;
 import com.linkedin.venice.serializer.AvroSerializer;
 import com.linkedin.venice.service.ICProvider;
 import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.PropertyBuilder;
 import com.linkedin.venice.utils.ReferenceCounted;
 import com.linkedin.venice.utils.VeniceProperties;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -26,13 +42,20 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import org.apache.avro.Schema;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 
 public class AvroGenericDaVinciClientTest {
+  private static final Schema INT_SCHEMA = Schema.create(Schema.Type.INT);
+
   @Test
   public void testPropertyBuilderWithRecordTransformer() {
     String schema = "{\n" + "  \"type\": \"string\"\n" + "}\n";
@@ -115,6 +138,259 @@ public class AvroGenericDaVinciClientTest {
     }
   }
 
+  @Test
+  public void testBatchGetFromSnapshot() throws Exception {
+    int largeRequestSplitThreshold = 10;
+    VersionBackend versionBackend = mock(VersionBackend.class);
+    AvroGenericDaVinciClient<Integer, String> dvcClient = mockClientForScan(versionBackend);
+    when(dvcClient.getDaVinciConfig())
+        .thenReturn(new DaVinciConfig().setLargeBatchRequestSplitThreshold(largeRequestSplitThreshold));
+    when(dvcClient.isPartitionReadyToServe(any(), anyInt())).thenReturn(true);
+    doCallRealMethod().when(dvcClient).batchGetFromSnapshot(any());
+    // Every request releases the version it reads from.
+    StoreBackend storeBackend = dvcClient.getStoreBackend();
+    when(storeBackend.getDaVinciCurrentVersion())
+        .thenAnswer(invocation -> new ReferenceCounted<>(versionBackend, ignored -> {}));
+
+    AvroGenericDeserializer<Integer> keyDeserializer = new AvroGenericDeserializer<>(INT_SCHEMA, INT_SCHEMA);
+    when(versionBackend.getPartition(any())).thenAnswer(invocation -> {
+      int key = keyDeserializer.deserialize(invocation.<byte[]>getArgument(0));
+      return key % 3;
+    });
+    AtomicInteger openSnapshotCount = new AtomicInteger();
+    when(versionBackend.acquireReadSnapshot(anyInt())).thenAnswer(invocation -> {
+      StoragePartitionSnapshot snapshot = mock(StoragePartitionSnapshot.class);
+      when(snapshot.getHighWatermarkOffset()).thenReturn(100L + invocation.<Integer>getArgument(0));
+      openSnapshotCount.incrementAndGet();
+      return new ReferenceCounted<>(snapshot, ignored -> openSnapshotCount.decrementAndGet());
+    });
+    when(versionBackend.readFromSnapshot(any(), anyInt(), any(), any(), any(), anyInt(), any(), any()))
+        .thenAnswer(invocation -> {
+          int key = keyDeserializer.deserialize(invocation.<byte[]>getArgument(2));
+          // Key 0 doesn't exist.
+          return key == 0 ? null : "value_" + key;
+        });
+
+    for (int keyCount: new int[] { largeRequestSplitThreshold / 2, largeRequestSplitThreshold * 3 }) {
+      Set<Integer> keys = new HashSet<>();
+      for (int i = 0; i < keyCount; i++) {
+        keys.add(i);
+      }
+      DaVinciSnapshotBatchGetResult<Integer, String> result =
+          dvcClient.batchGetFromSnapshot(keys).get(10, TimeUnit.SECONDS);
+      assertEquals(result.getValues().size(), keyCount - 1);
+      for (int i = 1; i < keyCount; i++) {
+        assertEquals(result.getValues().get(i), "value_" + i);
+      }
+      assertEquals(result.getPartitionToHighWatermarkOffset().size(), 3);
+      for (int partition = 0; partition < 3; partition++) {
+        assertEquals(result.getPartitionToHighWatermarkOffset().get(partition).longValue(), 100L + partition);
+      }
+      // All the keys of a partition are read from one snapshot, which is released afterwards.
+      assertEquals(openSnapshotCount.get(), 0);
+    }
+    verify(versionBackend, times(2)).acquireReadSnapshot(0);
+  }
+
+  @Test
+  public void testAdaptiveBatchGet() throws Exception {
+    int largeRequestSplitThreshold = 10;
+    VersionBackend versionBackend = mock(VersionBackend.class);
+    AvroGenericDaVinciClient<Integer, String> dvcClient = mockClientForScan(versionBackend);
+    when(dvcClient.getDaVinciConfig()).thenReturn(
+        new DaVinciConfig().setLargeBatchRequestSplitThreshold(largeRequestSplitThreshold)
+            .setAdaptiveBatchGetEnabled(true));
+    when(dvcClient.isPartitionReadyToServe(any(), anyInt())).thenReturn(true);
+    when(dvcClient.batchGetFromLocalStorage(any())).thenCallRealMethod();
+    AdaptiveBatchGetSplitter splitter =
+        new AdaptiveBatchGetSplitter(dvcClient.getReadChunkExecutorForLargeRequest(), largeRequestSplitThreshold);
+    when(dvcClient.getBatchGetSplitter()).thenReturn(splitter);
+    StoreBackend storeBackend = dvcClient.getStoreBackend();
+    AtomicInteger versionRefCount = new AtomicInteger();
+    when(storeBackend.getDaVinciCurrentVersion()).thenAnswer(invocation -> {
+      versionRefCount.incrementAndGet();
+      return new ReferenceCounted<>(versionBackend, ignored -> versionRefCount.decrementAndGet());
+    });
+
+    AvroGenericDeserializer<Integer> keyDeserializer = new AvroGenericDeserializer<>(INT_SCHEMA, INT_SCHEMA);
+    when(versionBackend.getPartition(any())).thenAnswer(invocation -> {
+      int key = keyDeserializer.deserialize(invocation.<byte[]>getArgument(0));
+      return key % 3;
+    });
+    AtomicInteger multiReadCount = new AtomicInteger();
+    when(versionBackend.multiRead(anyInt(), any(), any(), any(), anyInt(), any())).thenAnswer(invocation -> {
+      multiReadCount.incrementAndGet();
+      int partition = invocation.getArgument(0);
+      List<String> values = new ArrayList<>();
+      for (byte[] keyBytes: invocation.<List<byte[]>>getArgument(1)) {
+        int key = keyDeserializer.deserialize(keyBytes);
+        assertEquals(key % 3, partition);
+        // Key 0 doesn't exist.
+        values.add(key == 0 ? null : "value_" + key);
+      }
+      return values;
+    });
+
+    for (int keyCount: new int[] { largeRequestSplitThreshold / 2, largeRequestSplitThreshold * 3 }) {
+      multiReadCount.set(0);
+      Set<Integer> keys = new HashSet<>();
+      for (int i = 0; i < keyCount; i++) {
+        keys.add(i);
+      }
+      Map<Integer, String> result = dvcClient.batchGetFromLocalStorage(keys).get(10, TimeUnit.SECONDS);
+      assertEquals(result.size(), keyCount - 1);
+      for (int i = 1; i < keyCount; i++) {
+        assertEquals(result.get(i), "value_" + i);
+      }
+      // The keys of a partition are looked up together, unless the partition is split across chunks.
+      assertTrue(multiReadCount.get() >= 3);
+      assertTrue(multiReadCount.get() <= 3 + (keyCount + largeRequestSplitThreshold - 1) / largeRequestSplitThreshold);
+      assertEquals(versionRefCount.get(), 0);
+    }
+  }
+
+  private AvroGenericDaVinciClient<Integer, String> mockClientForScan(VersionBackend versionBackend) {
+    AvroGenericDaVinciClient<Integer, String> dvcClient = mock(AvroGenericDaVinciClient.class);
+    when(dvcClient.getStoreName()).thenReturn("test_store");
+    StoreBackend storeBackend = mock(StoreBackend.class);
+    when(storeBackend.getDaVinciCurrentVersion()).thenReturn(new ReferenceCounted<>(versionBackend, ignored -> {}));
+    when(dvcClient.getStoreBackend()).thenReturn(storeBackend);
+    when(dvcClient.getKeySerializer()).thenReturn(new AvroSerializer<>(INT_SCHEMA));
+    when(dvcClient.getKeyDeserializer()).thenReturn(new AvroGenericDeserializer<>(INT_SCHEMA, INT_SCHEMA));
+    when(dvcClient.getStoreDeserializerCache()).thenReturn(null);
+    // Partition 1 is not ready to serve, so it is skipped.
+    when(dvcClient.isPartitionReadyToServe(any(), anyInt()))
+        .thenAnswer(invocation -> invocation.<Integer>getArgument(1) != 1);
+    doCallRealMethod().when(dvcClient).scan(any(), any());
+    when(versionBackend.getPartitionCount()).thenReturn(3);
+    when(versionBackend.getSupersetOrLatestValueSchemaId()).thenReturn(1);
+    return dvcClient;
+  }
+
+  @Test
+  public void testScan() throws Exception {
+    VersionBackend versionBackend = mock(VersionBackend.class);
+    AvroSerializer<Integer> keySerializer = new AvroSerializer<>(INT_SCHEMA);
+    doAnswer(invocation -> {
+      int partition = invocation.getArgument(0);
+      BiConsumer<byte[], String> recordConsumer = invocation.getArgument(7);
+      for (int i = 0; i < 3; i++) {
+        recordConsumer.accept(keySerializer.serialize(partition * 10 + i), "value_" + (partition * 10 + i));
+      }
+      return null;
+    }).when(versionBackend).scan(anyInt(), any(), any(), any(), any(), anyInt(), any(), any());
+    AvroGenericDaVinciClient<Integer, String> dvcClient = mockClientForScan(versionBackend);
+
+    Map<Integer, String> records = new ConcurrentHashMap<>();
+    CompletableFuture<Optional<Exception>> completion = new CompletableFuture<>();
+    // The partitions are scanned on the executor of the request rather than on the executor of the batch gets.
+    AtomicInteger scanTaskCount = new AtomicInteger();
+    Executor scanExecutor = command -> {
+      scanTaskCount.incrementAndGet();
+      command.run();
+    };
+    DaVinciScanRequest<Integer> scanRequest =
+        new DaVinciScanRequest<Integer>().setStartKey(0).setExecutor(scanExecutor);
+    dvcClient.scan(scanRequest, new StreamingCallback<Integer, String>() {
+      @Override
+      public void onRecordReceived(Integer key, String value) {
+        records.put(key, value);
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        completion.complete(exception);
+      }
+    });
+
+    Assert.assertFalse(completion.get(10, TimeUnit.SECONDS).isPresent());
+    assertEquals(records.size(), 6);
+    for (int key: new int[] { 0, 1, 2, 20, 21, 22 }) {
+      assertEquals(records.get(key), "value_" + key);
+    }
+    verify(versionBackend).scan(eq(0), aryEq(keySerializer.serialize(0)), isNull(), any(), any(), eq(1), any(), any());
+    verify(versionBackend, never()).scan(eq(1), any(), any(), any(), any(), anyInt(), any(), any());
+    assertEquals(scanTaskCount.get(), 2);
+    verify(dvcClient, never()).getReadChunkExecutorForLargeRequest();
+  }
+
+  @Test
+  public void testScanFailure() throws Exception {
+    VersionBackend versionBackend = mock(VersionBackend.class);
+    VeniceException scanException = new VeniceException("Scan is not supported when chunking is enabled.");
+    doThrow(scanException).when(versionBackend).scan(anyInt(), any(), any(), any(), any(), anyInt(), any(), any());
+    AvroGenericDaVinciClient<Integer, String> dvcClient = mockClientForScan(versionBackend);
+
+    CompletableFuture<Optional<Exception>> completion = new CompletableFuture<>();
+    dvcClient.scan(new DaVinciScanRequest<>(), new StreamingCallback<Integer, String>() {
+      @Override
+      public void onRecordReceived(Integer key, String value) {
+        Assert.fail("No record is expected");
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        completion.complete(exception);
+      }
+    });
+
+    assertEquals(completion.get(10, TimeUnit.SECONDS).get(), scanException);
+  }
+
+  @Test
+  public void testGetBySecondaryIndex() throws Exception {
+    VersionBackend versionBackend = mock(VersionBackend.class);
+    AvroSerializer<Integer> keySerializer = new AvroSerializer<>(INT_SCHEMA);
+    doAnswer(invocation -> {
+      int partition = invocation.getArgument(0);
+      BiConsumer<byte[], String> recordConsumer = invocation.getArgument(7);
+      recordConsumer.accept(keySerializer.serialize(partition), "value_" + partition);
+      return null;
+    }).when(versionBackend).scanBySecondaryIndex(anyInt(), any(), any(), any(), any(), anyInt(), any(), any());
+    AvroGenericDaVinciClient<Integer, String> dvcClient = mockClientForScan(versionBackend);
+    when(dvcClient.getSecondaryIndexFieldSchema("age")).thenReturn(INT_SCHEMA);
+    when(dvcClient.getSecondaryIndexFieldSchema("unknown")).thenThrow(new VeniceException("Field is not indexed"));
+    doCallRealMethod().when(dvcClient).getBySecondaryIndex(any(), any(), any());
+
+    Map<Integer, String> records = new ConcurrentHashMap<>();
+    CompletableFuture<Optional<Exception>> completion = new CompletableFuture<>();
+    dvcClient.getBySecondaryIndex("age", 30, new StreamingCallback<Integer, String>() {
+      @Override
+      public void onRecordReceived(Integer key, String value) {
+        records.put(key, value);
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        completion.complete(exception);
+      }
+    });
+
+    Assert.assertFalse(completion.get(10, TimeUnit.SECONDS).isPresent());
+    assertEquals(records.size(), 2);
+    assertEquals(records.get(2), "value_2");
+    byte[][] entryKeyRange = SecondaryIndexKeyEncoder.getEqualityRange("age", INT_SCHEMA, 30);
+    byte[] startEntryKey = entryKeyRange[0];
+    byte[] endEntryKey = entryKeyRange[1];
+    verify(versionBackend)
+        .scanBySecondaryIndex(eq(0), aryEq(startEntryKey), aryEq(endEntryKey), any(), any(), eq(1), any(), any());
+    verify(versionBackend, never()).scanBySecondaryIndex(eq(1), any(), any(), any(), any(), anyInt(), any(), any());
+
+    CompletableFuture<Optional<Exception>> failure = new CompletableFuture<>();
+    dvcClient.getBySecondaryIndex("unknown", 30, new StreamingCallback<Integer, String>() {
+      @Override
+      public void onRecordReceived(Integer key, String value) {
+        Assert.fail("No record is expected");
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        failure.complete(exception);
+      }
+    });
+    Assert.assertTrue(failure.get(10, TimeUnit.SECONDS).isPresent());
+  }
+
   @Test
   public void constructorTest() {
     DaVinciConfig daVinciConfig = new DaVinciConfig();
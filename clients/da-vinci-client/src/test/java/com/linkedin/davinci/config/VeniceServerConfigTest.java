@@ -2,6 +2,7 @@ package com.linkedin.davinci.config;
 
 import static com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils.INGESTION_ISOLATION_CONFIG_PREFIX;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_PLAIN_TABLE_FORMAT_ENABLED;
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_SECONDARY_INDEX_FIELDS;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_TOTAL_MEMTABLE_USAGE_CAP_IN_BYTES;
 import static com.linkedin.venice.ConfigKeys.CLUSTER_NAME;
 import static com.linkedin.venice.ConfigKeys.DATA_BASE_PATH;
@@ -12,12 +13,16 @@ import static com.linkedin.venice.ConfigKeys.SERVER_FORKED_PROCESS_JVM_ARGUMENT_
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_MODE;
 import static com.linkedin.venice.ConfigKeys.ZOOKEEPER_ADDRESS;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.expectThrows;
 
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.IngestionMode;
+import com.linkedin.venice.meta.PersistenceType;
 import com.linkedin.venice.utils.VeniceProperties;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
 import org.testng.annotations.Test;
@@ -119,4 +124,31 @@ public class VeniceServerConfigTest {
     VeniceServerConfig config1 = new VeniceServerConfig(new VeniceProperties(props3));
     assertEquals(config1.getIngestionMemoryLimit(), 20 * 1024 * 1024l);
   }
+
+  @Test
+  public void testRegisteredSecondaryIndexFields() {
+    Properties props = populatedBasicProperties();
+    props.setProperty(ROCKSDB_SECONDARY_INDEX_FIELDS, "store_a:field_1");
+    VeniceConfigLoader configLoader = new VeniceConfigLoader(new VeniceProperties(props));
+
+    // The fields of the backend config are used until the store is registered.
+    VeniceStoreVersionConfig storeConfig = configLoader.getStoreConfig("store_a_v1");
+    assertEquals(storeConfig.getSecondaryIndexFields(), Collections.singletonList("field_1"));
+    assertFalse(storeConfig.isSecondaryIndexFieldsRegistered());
+    assertTrue(configLoader.getStoreConfig("store_b_v1").getSecondaryIndexFields().isEmpty());
+
+    List<String> fields = Arrays.asList("field_1", "field_2");
+    assertEquals(configLoader.registerSecondaryIndexFields("store_b", fields), fields);
+    // The first registration wins.
+    assertEquals(configLoader.registerSecondaryIndexFields("store_b", Collections.emptyList()), fields);
+    storeConfig = configLoader.getStoreConfig("store_b_v2", PersistenceType.ROCKS_DB);
+    assertEquals(storeConfig.getSecondaryIndexFields(), fields);
+    assertTrue(storeConfig.isSecondaryIndexFieldsRegistered());
+    assertEquals(
+        storeConfig.getPersistStorageEngineConfig().getString(ROCKSDB_SECONDARY_INDEX_FIELDS),
+        "field_1,field_2");
+    assertEquals(
+        configLoader.getStoreConfig("store_a_v1").getSecondaryIndexFields(),
+        Collections.singletonList("field_1"));
+  }
 }
@@ -4,13 +4,16 @@ import static com.linkedin.venice.ConfigKeys.CLUSTER_NAME;
 import static com.linkedin.venice.ConfigKeys.KAFKA_BOOTSTRAP_SERVERS;
 import static com.linkedin.venice.ConfigKeys.ZOOKEEPER_ADDRESS;
 import static com.linkedin.venice.offsets.OffsetRecord.LOWEST_OFFSET;
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -18,6 +21,8 @@ import static org.mockito.Mockito.when;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.davinci.blobtransfer.BlobTransferManager;
+import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.repository.ThinClientMetaStoreBasedRepository;
 import com.linkedin.davinci.storage.StorageEngineMetadataService;
 import com.linkedin.davinci.storage.StorageEngineRepository;
@@ -31,6 +36,8 @@ import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.VeniceCompressor;
 import com.linkedin.venice.controllerapi.D2ControllerClient;
 import com.linkedin.venice.controllerapi.StoreResponse;
+import com.linkedin.venice.exceptions.StoreVersionNotFoundException;
+import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
 import com.linkedin.venice.kafka.protocol.ProducerMetadata;
 import com.linkedin.venice.kafka.protocol.Put;
@@ -69,10 +76,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.avro.Schema;
@@ -404,6 +413,169 @@ public class InternalLocalBootstrappingVeniceChangelogConsumerTest {
         .put(eq(localStateTopicName), eq(TEST_PARTITION_ID_0), any(OffsetRecord.class));
   }
 
+  @Test
+  public void testStartWithBlobTransferBootstrap() throws Exception {
+    long snapshotOffset = 5L;
+    PubSubTopic versionTopic = pubSubTopicRepository.getTopic(Version.composeKafkaTopic(storeName, 1));
+    PubSubTopicPartition topicPartition_0 = new PubSubTopicPartitionImpl(versionTopic, TEST_PARTITION_ID_0);
+    PubSubTopicPartition topicPartition_1 = new PubSubTopicPartitionImpl(versionTopic, TEST_PARTITION_ID_1);
+    doReturn(ImmutableSet.of(topicPartition_0, topicPartition_1)).when(pubSubConsumer).getAssignment();
+    doReturn(1L).when(pubSubConsumer).endOffset(topicPartition_0);
+    doReturn(1L).when(pubSubConsumer).endOffset(topicPartition_1);
+    Store store = mock(Store.class);
+    when(store.isBlobTransferEnabled()).thenReturn(true);
+    when(store.getVersionOrThrow(Mockito.anyInt())).thenReturn(new VersionImpl(storeName, 1, "foo"));
+    when(metadataRepository.getStore(anyString())).thenReturn(store);
+
+    StorageService mockStorageService = mock(StorageService.class);
+    AbstractStorageEngine localStateEngine = mock(AbstractStorageEngine.class);
+    AbstractStorageEngine snapshotEngine = mock(AbstractStorageEngine.class);
+    when(mockStorageService.getStorageEngine(localStateTopicName)).thenReturn(localStateEngine);
+    when(mockStorageService.getStorageEngine(versionTopic.getName())).thenReturn(snapshotEngine);
+    when(mockStorageService.openStoreForNewPartition(any(), anyInt(), any())).thenReturn(snapshotEngine);
+    StorageEngineRepository storageEngineRepository = mock(StorageEngineRepository.class);
+    when(mockStorageService.getStorageEngineRepository()).thenReturn(storageEngineRepository);
+    when(storageEngineRepository.getLocalStorageEngine(localStateTopicName)).thenReturn(localStateEngine);
+    when(localStateEngine.sync(anyInt())).thenReturn(new HashMap());
+
+    byte[] key = keySerializer.serialize(TEST_KEY_1);
+    byte[] value = ValueRecord.create(TEST_SCHEMA_ID, valueSerializer.serialize(TEST_NEW_VALUE_1)).serialize();
+    doAnswer(invocation -> {
+      BytesStreamingCallback callback = invocation.getArgument(2);
+      callback.onRecordReceived(key, value);
+      callback.onCompletion();
+      return null;
+    }).when(snapshotEngine).getByKeyPrefix(anyInt(), any(), any());
+
+    StorageMetadataService mockStorageMetadataService = mock(StorageMetadataService.class);
+    for (int partition: new int[] { TEST_PARTITION_ID_0, TEST_PARTITION_ID_1 }) {
+      when(mockStorageMetadataService.getLastOffset(localStateTopicName, partition))
+          .thenReturn(new OffsetRecord(mock(InternalAvroSpecificSerializer.class)));
+    }
+    OffsetRecord snapshotOffsetRecord = new OffsetRecord(mock(InternalAvroSpecificSerializer.class));
+    snapshotOffsetRecord.setCheckpointLocalVersionTopicOffset(snapshotOffset);
+    when(mockStorageMetadataService.getLastOffset(eq(versionTopic.getName()), anyInt()))
+        .thenReturn(snapshotOffsetRecord);
+    bootstrappingVeniceChangelogConsumer.setStorageAndMetadataService(mockStorageService, mockStorageMetadataService);
+    BlobTransferManager<Void> blobTransferManager = mock(BlobTransferManager.class);
+    doReturn(CompletableFuture.completedFuture(null)).when(blobTransferManager).get(anyString(), anyInt(), anyInt());
+    bootstrappingVeniceChangelogConsumer.setBlobTransferManager(blobTransferManager);
+
+    bootstrappingVeniceChangelogConsumer.start().get();
+
+    for (int partition: new int[] { TEST_PARTITION_ID_0, TEST_PARTITION_ID_1 }) {
+      verify(blobTransferManager, times(1)).get(storeName, 1, partition);
+      verify(localStateEngine, times(1)).put(eq(partition), aryEq(key), aryEq(value));
+      // The catch-up starts from the snapshot, which is already past the end of the topic.
+      InternalLocalBootstrappingVeniceChangelogConsumer.BootstrapState state =
+          bootstrappingVeniceChangelogConsumer.getBootstrapStateMap().get(partition);
+      Assert.assertEquals(
+          ((ApacheKafkaOffsetPosition) state.currentPubSubPosition.getPosition()).getOffset(),
+          snapshotOffset);
+      Assert.assertEquals(
+          state.bootstrapState,
+          InternalLocalBootstrappingVeniceChangelogConsumer.PollState.BOOTSTRAPPING);
+    }
+    // The snapshots are removed once they are copied.
+    verify(mockStorageService, times(2)).dropStorePartition(any(), anyInt(), eq(false));
+    verify(mockStorageService, times(1)).removeStorageEngine(versionTopic.getName());
+  }
+
+  @Test
+  public void testPollBatchReplaysBootstrappingPartitionsFromLocalState() throws Exception {
+    PubSubTopic versionTopic = pubSubTopicRepository.getTopic(Version.composeKafkaTopic(storeName, 1));
+    PubSubTopicPartition topicPartition_0 = new PubSubTopicPartitionImpl(versionTopic, TEST_PARTITION_ID_0);
+    PubSubTopicPartition topicPartition_1 = new PubSubTopicPartitionImpl(versionTopic, TEST_PARTITION_ID_1);
+    doReturn(ImmutableSet.of(topicPartition_0, topicPartition_1)).when(pubSubConsumer).getAssignment();
+    doReturn(1L).when(pubSubConsumer).endOffset(topicPartition_0);
+    doReturn(1L).when(pubSubConsumer).endOffset(topicPartition_1);
+
+    StorageService mockStorageService = mock(StorageService.class);
+    AbstractStorageEngine localStateEngine = mock(AbstractStorageEngine.class);
+    when(mockStorageService.getStorageEngine(localStateTopicName)).thenReturn(localStateEngine);
+    Map<Integer, String> partitionToKey = new HashMap<>();
+    partitionToKey.put(TEST_PARTITION_ID_0, TEST_KEY_1);
+    partitionToKey.put(TEST_PARTITION_ID_1, TEST_KEY_2);
+    doAnswer(invocation -> {
+      String key = partitionToKey.get(invocation.getArgument(0));
+      BytesStreamingCallback callback = invocation.getArgument(2);
+      callback.onRecordReceived(
+          keySerializer.serialize(key),
+          ValueRecord.create(TEST_SCHEMA_ID, valueSerializer.serialize(TEST_RECORDS.get(key).getCurrentValue()))
+              .serialize());
+      callback.onCompletion();
+      return null;
+    }).when(localStateEngine).getByKeyPrefix(anyInt(), any(), any());
+
+    // The local state of both partitions is already past the end of the topic, so they are bootstrapping once started.
+    OffsetRecord lastOffsetRecord = new OffsetRecord(mock(InternalAvroSpecificSerializer.class));
+    lastOffsetRecord.setCheckpointLocalVersionTopicOffset(TEST_OFFSET_NEW);
+    StorageMetadataService mockStorageMetadataService = mock(StorageMetadataService.class);
+    when(mockStorageMetadataService.getLastOffset(eq(localStateTopicName), anyInt())).thenReturn(lastOffsetRecord);
+    bootstrappingVeniceChangelogConsumer.setStorageAndMetadataService(mockStorageService, mockStorageMetadataService);
+
+    Assert.assertThrows(VeniceException.class, () -> bootstrappingVeniceChangelogConsumer.pollBatch(1000L));
+    bootstrappingVeniceChangelogConsumer.start().get();
+
+    Set<Integer> replayedPartitions = new HashSet<>();
+    for (int i = 0; i < 2; i++) {
+      ChangeEventBatch<Utf8, Utf8> batch = bootstrappingVeniceChangelogConsumer.pollBatch(1000L);
+      Assert.assertEquals(batch.size(), 1);
+      String expectedKey = partitionToKey.get(batch.getPartition(0));
+      Assert.assertEquals(batch.getKey(0).toString(), expectedKey);
+      Assert.assertEquals(batch.getCurrentValue(0).toString(), TEST_RECORDS.get(expectedKey).getCurrentValue());
+      Assert.assertNull(batch.getPreviousValue(0));
+      // Only the last replayed partition completes the bootstrap.
+      Assert.assertEquals(batch.isEndOfBootstrap(), i == 1);
+      replayedPartitions.add(batch.getPartition(0));
+    }
+    Assert.assertEquals(replayedPartitions, partitionToKey.keySet());
+    Assert.assertEquals(bootstrappingVeniceChangelogConsumer.getBootstrapCompletedCount(), 2);
+
+    // Once every partition is replayed, the batches are polled from pubsub.
+    ChangeEventBatch<Utf8, Utf8> batch = bootstrappingVeniceChangelogConsumer.pollBatch(1000L);
+    Assert.assertTrue(batch.isEmpty());
+    Assert.assertFalse(batch.isEndOfBootstrap());
+    verify(localStateEngine, times(2)).getByKeyPrefix(anyInt(), any(), any());
+  }
+
+  @Test
+  public void testStartWithBlobTransferFallsBackWhenVersionIsMissing() throws Exception {
+    PubSubTopic versionTopic = pubSubTopicRepository.getTopic(Version.composeKafkaTopic(storeName, 1));
+    PubSubTopic changeCaptureTopic =
+        pubSubTopicRepository.getTopic(versionTopic.getName() + ChangeCaptureView.CHANGE_CAPTURE_TOPIC_SUFFIX);
+    PubSubTopicPartition topicPartition_0 = new PubSubTopicPartitionImpl(versionTopic, 0);
+    PubSubTopicPartition topicPartition_1 = new PubSubTopicPartitionImpl(versionTopic, 1);
+    doReturn(ImmutableSet.of(topicPartition_0, topicPartition_1)).when(pubSubConsumer).getAssignment();
+    doReturn(1L).when(pubSubConsumer).endOffset(topicPartition_0);
+    doReturn(1L).when(pubSubConsumer).endOffset(topicPartition_1);
+    when(pubSubConsumer.poll(anyLong()))
+        .thenReturn(prepareChangeCaptureRecordsToBePolled(TEST_KEY_1, changeCaptureTopic, 0))
+        .thenReturn(prepareChangeCaptureRecordsToBePolled(TEST_KEY_2, changeCaptureTopic, 1));
+    // The version was retired after its topic was picked.
+    Store store = mock(Store.class);
+    when(store.isBlobTransferEnabled()).thenReturn(true);
+    when(store.getVersionOrThrow(Mockito.anyInt())).thenThrow(new StoreVersionNotFoundException(storeName, 1));
+    when(metadataRepository.getStore(anyString())).thenReturn(store);
+
+    StorageService mockStorageService = mock(StorageService.class);
+    when(mockStorageService.getStorageEngine(anyString())).thenReturn(mock(AbstractStorageEngine.class));
+    StorageMetadataService mockStorageMetadataService = mock(StorageMetadataService.class);
+    when(mockStorageMetadataService.getLastOffset(anyString(), anyInt()))
+        .thenReturn(new OffsetRecord(mock(InternalAvroSpecificSerializer.class)));
+    bootstrappingVeniceChangelogConsumer.setStorageAndMetadataService(mockStorageService, mockStorageMetadataService);
+    BlobTransferManager<Void> blobTransferManager = mock(BlobTransferManager.class);
+    bootstrappingVeniceChangelogConsumer.setBlobTransferManager(blobTransferManager);
+
+    bootstrappingVeniceChangelogConsumer.start().get();
+
+    // The partitions are bootstrapped from pubsub instead.
+    verify(blobTransferManager, never()).get(anyString(), anyInt(), anyInt());
+    verify(pubSubConsumer, times(1)).subscribe(topicPartition_0, LOWEST_OFFSET);
+    verify(pubSubConsumer, times(1)).subscribe(topicPartition_1, LOWEST_OFFSET);
+    Assert.assertEquals(bootstrappingVeniceChangelogConsumer.getBootstrapStateMap().size(), 2);
+  }
+
   @Test
   public void testStart_InvalidLocalCheckpoint_Throws() throws Exception {
     PubSubTopic versionTopic = pubSubTopicRepository.getTopic(Version.composeKafkaTopic(storeName, 1));
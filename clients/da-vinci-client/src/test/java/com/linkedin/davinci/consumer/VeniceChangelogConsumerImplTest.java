@@ -47,6 +47,7 @@ import com.linkedin.venice.schema.rmd.RmdSchemaGenerator;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.utils.lazy.Lazy;
@@ -321,6 +322,84 @@ public class VeniceChangelogConsumerImplTest {
     verify(mockPubSubConsumer).close();
   }
 
+  @Test
+  public void testPollBatch() throws ExecutionException, InterruptedException {
+    D2ControllerClient d2ControllerClient = mock(D2ControllerClient.class);
+    StoreResponse storeResponse = mock(StoreResponse.class);
+    StoreInfo storeInfo = mock(StoreInfo.class);
+    doReturn(1).when(storeInfo).getCurrentVersion();
+    doReturn(2).when(storeInfo).getPartitionCount();
+    doReturn(storeInfo).when(storeResponse).getStore();
+    doReturn(storeResponse).when(d2ControllerClient).getStore(storeName);
+    MultiSchemaResponse multiRMDSchemaResponse = mock(MultiSchemaResponse.class);
+    MultiSchemaResponse.Schema rmdSchemaFromMultiSchemaResponse = mock(MultiSchemaResponse.Schema.class);
+    doReturn(rmdSchema.toString()).when(rmdSchemaFromMultiSchemaResponse).getSchemaStr();
+    doReturn(new MultiSchemaResponse.Schema[] { rmdSchemaFromMultiSchemaResponse }).when(multiRMDSchemaResponse)
+        .getSchemas();
+    doReturn(multiRMDSchemaResponse).when(d2ControllerClient).getAllReplicationMetadataSchemas(storeName);
+
+    PubSubConsumerAdapter mockPubSubConsumer = mock(PubSubConsumerAdapter.class);
+    PubSubTopic oldVersionTopic = pubSubTopicRepository.getTopic(Version.composeKafkaTopic(storeName, 1));
+    PubSubTopic oldChangeCaptureTopic =
+        pubSubTopicRepository.getTopic(oldVersionTopic + ChangeCaptureView.CHANGE_CAPTURE_TOPIC_SUFFIX);
+
+    prepareVersionTopicRecordsToBePolled(0L, 5L, mockPubSubConsumer, oldVersionTopic, 0, true);
+    ChangelogClientConfig changelogClientConfig = getChangelogClientConfig(d2ControllerClient).setViewName("");
+    // The keys are deserialized with the generic deserializer, so the string keys are returned as Utf8.
+    VeniceChangelogConsumerImpl<Utf8, Utf8> veniceChangelogConsumer =
+        new VeniceAfterImageConsumerImpl<>(changelogClientConfig, mockPubSubConsumer);
+
+    ThinClientMetaStoreBasedRepository mockRepository = mock(ThinClientMetaStoreBasedRepository.class);
+    Store store = mock(Store.class);
+    Version mockVersion = new VersionImpl(storeName, 1, "foo");
+    Mockito.when(store.getCurrentVersion()).thenReturn(1);
+    Mockito.when(store.getCompressionStrategy()).thenReturn(CompressionStrategy.NO_OP);
+    Mockito.when(mockRepository.getStore(anyString())).thenReturn(store);
+    Mockito.when(mockRepository.getValueSchema(storeName, 1)).thenReturn(new SchemaEntry(1, valueSchema));
+    Mockito.when(store.getVersionOrThrow(Mockito.anyInt())).thenReturn(mockVersion);
+    veniceChangelogConsumer.setStoreRepository(mockRepository);
+    veniceChangelogConsumer.subscribe(new HashSet<>(Arrays.asList(0))).get();
+
+    ChangeEventBatch<Utf8, Utf8> batch = veniceChangelogConsumer.pollBatch(100);
+    Assert.assertEquals(batch.size(), 5);
+    for (int i = 0; i < 5; i++) {
+      Assert.assertEquals(batch.getKeyBytes(i), keySerializer.serialize("key" + i));
+      Assert.assertEquals(batch.getKey(i).toString(), "key" + i);
+      Assert.assertEquals(
+          ByteUtils.extractByteArray(batch.getCurrentValueBytes(i)),
+          valueSerializer.serialize("newValue" + i));
+      Assert.assertEquals(batch.getCurrentValueSchemaId(i), 1);
+      Assert.assertEquals(batch.getCurrentValue(i).toString(), "newValue" + i);
+      Assert.assertNull(batch.getPreviousValueBytes(i));
+      Assert.assertNull(batch.getPreviousValue(i));
+      Assert.assertEquals(batch.getPreviousValueSchemaId(i), ChangeEventBatch.NO_VALUE_SCHEMA_ID);
+      Assert.assertEquals(batch.getPartition(i), 0);
+    }
+
+    prepareChangeCaptureRecordsToBePolled(
+        0L,
+        10L,
+        mockPubSubConsumer,
+        oldChangeCaptureTopic,
+        0,
+        oldVersionTopic,
+        null,
+        false);
+    // The same batch is reused by the next poll.
+    Assert.assertSame(veniceChangelogConsumer.pollBatch(100), batch);
+    Assert.assertEquals(batch.size(), 10);
+    for (int i = 0; i < 10; i++) {
+      Assert.assertEquals(batch.getKey(i).toString(), "key" + i);
+      Assert.assertEquals(batch.getCurrentValue(i).toString(), "newValue" + i);
+      Assert.assertEquals(
+          ByteUtils.extractByteArray(batch.getPreviousValueBytes(i)),
+          valueSerializer.serialize("oldValue" + i));
+      Assert.assertEquals(batch.getPreviousValue(i).toString(), "oldValue" + i);
+    }
+    Assert.assertThrows(IndexOutOfBoundsException.class, () -> batch.getKey(10));
+    veniceChangelogConsumer.close();
+  }
+
   @Test
   public void testMetricReportingThread() throws InterruptedException {
     D2ControllerClient d2ControllerClient = mock(D2ControllerClient.class);
@@ -1,5 +1,6 @@
 package com.linkedin.davinci.ingestion;
 
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.any;
@@ -7,7 +8,9 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertFalse;
@@ -18,16 +21,23 @@ import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.config.VeniceStoreVersionConfig;
 import com.linkedin.davinci.kafka.consumer.KafkaStoreIngestionService;
 import com.linkedin.davinci.storage.StorageMetadataService;
+import com.linkedin.davinci.storage.StoragePartitionWarmer;
 import com.linkedin.davinci.storage.StorageService;
 import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.rocksdb.RocksDBServerConfig;
 import com.linkedin.venice.exceptions.VenicePeersNotFoundException;
 import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
+import com.linkedin.venice.partitioner.VenicePartitioner;
 import com.linkedin.venice.utils.Pair;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.testng.annotations.BeforeMethod;
@@ -54,6 +64,8 @@ public class DefaultIngestionBackendTest {
   @Mock
   private VeniceServerConfig veniceServerConfig;
   @Mock
+  private RocksDBServerConfig rocksDBServerConfig;
+  @Mock
   private Store store;
   @Mock
   private Version version;
@@ -65,6 +77,8 @@ public class DefaultIngestionBackendTest {
   private static final String STORE_NAME = "testStore";
   private static final String STORE_VERSION = "store_v1";
   private static final String BASE_DIR = "mockBaseDir";
+  private static final int PARTITION_COUNT = 2;
+  private static final int HOT_KEY_COUNT = 20;
 
   @BeforeMethod
   public void setUp() {
@@ -79,6 +93,7 @@ public class DefaultIngestionBackendTest {
     when(metadataRepo.waitVersion(anyString(), anyInt(), any(Duration.class))).thenReturn(storeAndVersion);
     when(storageMetadataService.getStoreVersionState(STORE_VERSION)).thenReturn(storeVersionState);
     when(storageService.openStoreForNewPartition(eq(storeConfig), eq(PARTITION), any())).thenReturn(storageEngine);
+    when(veniceServerConfig.getRocksDBServerConfig()).thenReturn(rocksDBServerConfig);
 
     // Create the DefaultIngestionBackend instance with mocked dependencies
     ingestionBackend = new DefaultIngestionBackend(
@@ -102,6 +117,17 @@ public class DefaultIngestionBackendTest {
     verify(blobTransferManager).get(eq(STORE_NAME), eq(VERSION_NUMBER), eq(PARTITION));
   }
 
+  @Test
+  public void testStartConsumptionWithSharedRocksDBInstance() {
+    when(store.isBlobTransferEnabled()).thenReturn(true);
+    when(store.isHybrid()).thenReturn(false);
+    when(rocksDBServerConfig.isSharedInstanceEnabled()).thenReturn(true);
+
+    ingestionBackend.startConsumption(storeConfig, PARTITION);
+    verify(blobTransferManager, never()).get(anyString(), anyInt(), anyInt());
+    verify(storeIngestionService).startConsumption(storeConfig, PARTITION);
+  }
+
   @Test
   public void testStartConsumptionWithBlobTransferWhenNoPeerFound() {
     when(store.isBlobTransferEnabled()).thenReturn(true);
@@ -114,6 +140,72 @@ public class DefaultIngestionBackendTest {
     assertTrue(future.isDone());
   }
 
+  @Test
+  public void testLocalPartitionIsClosedBeforeBlobTransfer() {
+    when(store.isBlobTransferEnabled()).thenReturn(true);
+    when(store.isHybrid()).thenReturn(false);
+    when(storageService.getStorageEngine(Version.composeKafkaTopic(STORE_NAME, VERSION_NUMBER)))
+        .thenReturn(storageEngine);
+    when(storageEngine.containsPartition(PARTITION)).thenReturn(true);
+    when(blobTransferManager.get(eq(STORE_NAME), eq(VERSION_NUMBER), eq(PARTITION)))
+        .thenReturn(CompletableFuture.completedFuture(null));
+
+    ingestionBackend.bootstrapFromBlobs(store, VERSION_NUMBER, PARTITION);
+    InOrder inOrder = inOrder(storageEngine, blobTransferManager);
+    inOrder.verify(storageEngine).closePartition(PARTITION);
+    inOrder.verify(blobTransferManager).get(eq(STORE_NAME), eq(VERSION_NUMBER), eq(PARTITION));
+  }
+
+  @Test
+  public void testPartitionIsWarmedUpBeforeConsumptionOnHandover() {
+    StoragePartitionWarmer storagePartitionWarmer = mock(StoragePartitionWarmer.class);
+    ingestionBackend.setStoragePartitionWarmer(storagePartitionWarmer);
+
+    // The regular subscription doesn't replay any read.
+    ingestionBackend.startConsumption(storeConfig, PARTITION);
+    verify(storagePartitionWarmer, never()).warmUpPartition(any(), any(), anyInt());
+
+    ingestionBackend.startConsumption(storeConfig, PARTITION, true);
+    InOrder inOrder = inOrder(storageService, storagePartitionWarmer, storeIngestionService);
+    inOrder.verify(storageService).openStoreForNewPartition(eq(storeConfig), eq(PARTITION), any());
+    inOrder.verify(storagePartitionWarmer).warmUpPartition(storageEngine, version, PARTITION);
+    inOrder.verify(storeIngestionService).startConsumption(storeConfig, PARTITION);
+  }
+
+  @Test
+  public void testHotKeysAreReadFromNewEngineBeforeHandover() {
+    when(version.getStoreName()).thenReturn(STORE_NAME);
+    when(version.getPartitionCount()).thenReturn(PARTITION_COUNT);
+    when(version.kafkaTopicName()).thenReturn(STORE_VERSION);
+    StoragePartitionWarmer storagePartitionWarmer = new StoragePartitionWarmer(HOT_KEY_COUNT * PARTITION_COUNT, 1);
+    ingestionBackend.setStoragePartitionWarmer(storagePartitionWarmer);
+
+    // The application reads the hot keys of the partition, along with the keys of the other partitions.
+    VenicePartitioner partitioner = new DefaultVenicePartitioner();
+    List<byte[]> hotKeys = new ArrayList<>();
+    List<byte[]> otherPartitionKeys = new ArrayList<>();
+    for (int i = 0; hotKeys.size() < HOT_KEY_COUNT; i++) {
+      byte[] key = ("key_" + i).getBytes();
+      if (partitioner.getPartitionId(key, PARTITION_COUNT) == PARTITION) {
+        hotKeys.add(key);
+      } else {
+        otherPartitionKeys.add(key);
+      }
+      storagePartitionWarmer.recordKeyAccess(STORE_NAME, key);
+    }
+
+    ingestionBackend.startConsumption(storeConfig, PARTITION, true);
+    InOrder inOrder = inOrder(storageService, storageEngine, storeIngestionService);
+    inOrder.verify(storageService).openStoreForNewPartition(eq(storeConfig), eq(PARTITION), any());
+    for (byte[] key: hotKeys) {
+      inOrder.verify(storageEngine).get(eq(PARTITION), aryEq(key));
+    }
+    inOrder.verify(storeIngestionService).startConsumption(storeConfig, PARTITION);
+    for (byte[] key: otherPartitionKeys) {
+      verify(storageEngine, never()).get(anyInt(), aryEq(key));
+    }
+  }
+
   @Test
   public void testHasCurrentVersionBootstrapping() {
     KafkaStoreIngestionService mockIngestionService = mock(KafkaStoreIngestionService.class);
@@ -2,6 +2,7 @@ package com.linkedin.davinci.ingestion.main;
 
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -9,8 +10,16 @@ import com.linkedin.davinci.config.VeniceConfigLoader;
 import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.ingestion.HttpClientTransport;
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.ingestion.protocol.IngestionStorageMetadata;
+import com.linkedin.venice.ingestion.protocol.IngestionStorageMetadataBatch;
+import com.linkedin.venice.ingestion.protocol.IngestionStorageMetadataUpdate;
 import com.linkedin.venice.ingestion.protocol.IngestionTaskReport;
+import com.linkedin.venice.ingestion.protocol.enums.IngestionAction;
+import com.linkedin.venice.meta.IngestionMetadataUpdateType;
 import com.linkedin.venice.utils.VeniceProperties;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -74,4 +83,46 @@ public class MainIngestionRequestClientTest {
       Assert.assertFalse(ingestionRequestClient.startConsumption(topicName, partitionId));
     }
   }
+
+  @Test
+  public void testUpdateMetadataBatch() {
+    VeniceServerConfig serverConfig = mock(VeniceServerConfig.class);
+    when(serverConfig.getIngestionServicePort()).thenReturn(12345);
+    VeniceConfigLoader configLoader = mock(VeniceConfigLoader.class);
+    when(configLoader.getVeniceServerConfig()).thenReturn(serverConfig);
+    VeniceProperties combinedProperties = mock(VeniceProperties.class);
+    when(configLoader.getCombinedProperties()).thenReturn(combinedProperties);
+    try (MainIngestionRequestClient ingestionRequestClient = new MainIngestionRequestClient(configLoader);
+        HttpClientTransport mockTransport = Mockito.mock(HttpClientTransport.class)) {
+      ingestionRequestClient.setHttpClientTransport(mockTransport);
+      IngestionStorageMetadata metadata = new IngestionStorageMetadata();
+      metadata.topicName = "testTopic";
+      metadata.partitionId = 1;
+      metadata.payload = ByteBuffer.wrap(new byte[] { 1, 2, 3 });
+      metadata.metadataUpdateType = IngestionMetadataUpdateType.PUT_OFFSET_RECORD.getValue();
+
+      IngestionTaskReport positiveReport = new IngestionTaskReport();
+      positiveReport.isPositive = true;
+      when(mockTransport.sendRequest(eq(IngestionAction.UPDATE_METADATA_BATCH), any())).thenReturn(positiveReport);
+      Assert.assertTrue(ingestionRequestClient.updateMetadataBatch(Arrays.asList(metadata, metadata)));
+      ArgumentCaptor<IngestionStorageMetadataBatch> batchCaptor =
+          ArgumentCaptor.forClass(IngestionStorageMetadataBatch.class);
+      Mockito.verify(mockTransport).sendRequest(eq(IngestionAction.UPDATE_METADATA_BATCH), batchCaptor.capture());
+      Assert.assertEquals(batchCaptor.getValue().updates.size(), 2);
+      IngestionStorageMetadataUpdate update = batchCaptor.getValue().updates.get(0);
+      Assert.assertEquals(update.topicName, metadata.topicName);
+      Assert.assertEquals(update.partitionId, metadata.partitionId);
+      Assert.assertEquals(update.payload, metadata.payload);
+      Assert.assertEquals(update.metadataUpdateType, metadata.metadataUpdateType);
+
+      // The batch is sent again when the child process fails to apply it or is unreachable.
+      IngestionTaskReport negativeReport = new IngestionTaskReport();
+      negativeReport.isPositive = false;
+      when(mockTransport.sendRequest(eq(IngestionAction.UPDATE_METADATA_BATCH), any())).thenReturn(negativeReport);
+      Assert.assertFalse(ingestionRequestClient.updateMetadataBatch(Arrays.asList(metadata)));
+      when(mockTransport.sendRequest(eq(IngestionAction.UPDATE_METADATA_BATCH), any()))
+          .thenThrow(new VeniceException("TEST EXCEPTION"));
+      Assert.assertFalse(ingestionRequestClient.updateMetadataBatch(Arrays.asList(metadata)));
+    }
+  }
 }
@@ -10,9 +10,13 @@ import static org.testng.Assert.assertNotNull;
 import com.linkedin.davinci.config.VeniceConfigLoader;
 import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.stats.MetadataUpdateStats;
+import com.linkedin.venice.ingestion.protocol.IngestionStorageMetadata;
+import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
+import com.linkedin.venice.meta.IngestionMetadataUpdateType;
 import com.linkedin.venice.offsets.OffsetRecord;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.utils.VeniceProperties;
+import java.util.List;
 import java.util.function.BiConsumer;
 import org.testng.annotations.Test;
 
@@ -49,4 +53,40 @@ public class MainIngestionStorageMetadataServiceTest {
         offsetRecord1,
         "The offset record in the metadata service should now be different from the initial one");
   }
+
+  @Test
+  public void testPendingMetadataUpdatesAreCoalesced() {
+    VeniceConfigLoader configLoader = mock(VeniceConfigLoader.class);
+    when(configLoader.getCombinedProperties()).thenReturn(VeniceProperties.empty());
+    when(configLoader.getVeniceServerConfig()).thenReturn(mock(VeniceServerConfig.class));
+
+    MainIngestionStorageMetadataService mainIngestionStorageMetadataService = new MainIngestionStorageMetadataService(
+        0,
+        PARTITION_STATE.getSerializer(),
+        mock(MetadataUpdateStats.class),
+        configLoader,
+        mock(BiConsumer.class));
+
+    String topicName = "blah";
+    OffsetRecord offsetRecord = new OffsetRecord(PARTITION_STATE.getSerializer());
+    mainIngestionStorageMetadataService.put(topicName, 0, offsetRecord);
+    mainIngestionStorageMetadataService.put(topicName, 1, offsetRecord);
+    mainIngestionStorageMetadataService.computeStoreVersionState(topicName, ignored -> new StoreVersionState());
+    offsetRecord.setCheckpointLocalVersionTopicOffset(10);
+    mainIngestionStorageMetadataService.put(topicName, 0, offsetRecord);
+    mainIngestionStorageMetadataService.clearStoreVersionState(topicName);
+
+    // Only the latest update of each offset record and store version state is pending, in the order of issue.
+    List<IngestionStorageMetadata> pendingUpdates = mainIngestionStorageMetadataService.getPendingMetadataUpdates();
+    assertEquals(pendingUpdates.size(), 3);
+    assertEquals(pendingUpdates.get(0).partitionId, 1);
+    assertEquals(
+        pendingUpdates.get(1).metadataUpdateType,
+        IngestionMetadataUpdateType.PUT_OFFSET_RECORD.getValue());
+    assertEquals(pendingUpdates.get(1).partitionId, 0);
+    assertEquals(pendingUpdates.get(1).payload.array(), offsetRecord.toBytes());
+    assertEquals(
+        pendingUpdates.get(2).metadataUpdateType,
+        IngestionMetadataUpdateType.CLEAR_STORE_VERSION_STATE.getValue());
+  }
 }
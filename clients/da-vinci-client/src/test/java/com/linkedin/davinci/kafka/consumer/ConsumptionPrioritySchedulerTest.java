@@ -0,0 +1,144 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.davinci.stats.AggKafkaConsumerServiceStats;
+import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
+import com.linkedin.venice.pubsub.PubSubTopicRepository;
+import com.linkedin.venice.pubsub.api.PubSubTopic;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.utils.TestMockTime;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class ConsumptionPrioritySchedulerTest {
+  private static final PubSubTopicRepository TOPIC_REPOSITORY = new PubSubTopicRepository();
+  private static final long INTERVAL_MS = 1000;
+
+  private final PubSubTopic currentVersionTopic = TOPIC_REPOSITORY.getTopic("test_store_v1");
+  private final PubSubTopic futureVersionTopic = TOPIC_REPOSITORY.getTopic("test_store_v2");
+  private final PubSubTopic rtTopic = TOPIC_REPOSITORY.getTopic("test_store_rt");
+  private final PubSubTopicPartition currentLeaderPartition = new PubSubTopicPartitionImpl(rtTopic, 0);
+  private final PubSubTopicPartition futurePartition = new PubSubTopicPartitionImpl(futureVersionTopic, 0);
+
+  private SharedKafkaConsumer consumer;
+  private AggKafkaConsumerServiceStats stats;
+  private TestMockTime time;
+  private Map<PubSubTopic, PartitionReplicaIngestionContext.VersionRole> versionRoles;
+  private ConsumptionPriorityScheduler scheduler;
+
+  @BeforeMethod
+  public void setUp() {
+    consumer = mock(SharedKafkaConsumer.class);
+    stats = mock(AggKafkaConsumerServiceStats.class);
+    time = new TestMockTime();
+    versionRoles = new VeniceConcurrentHashMap<>();
+    scheduler = new ConsumptionPriorityScheduler(consumer, stats, INTERVAL_MS, versionRoles::get, time);
+    scheduler.register(
+        new PartitionReplicaIngestionContext(
+            currentVersionTopic,
+            currentLeaderPartition,
+            PartitionReplicaIngestionContext.VersionRole.CURRENT,
+            PartitionReplicaIngestionContext.WorkloadType.AA_OR_WRITE_COMPUTE));
+    scheduler.register(
+        new PartitionReplicaIngestionContext(
+            futureVersionTopic,
+            futurePartition,
+            PartitionReplicaIngestionContext.VersionRole.FUTURE,
+            PartitionReplicaIngestionContext.WorkloadType.NON_AA_OR_WRITE_COMPUTE));
+  }
+
+  @Test
+  public void testPriorityClassAssignment() {
+    Assert.assertEquals(
+        scheduler.getPriorityClass(currentLeaderPartition),
+        ConsumptionPriorityClass.CURRENT_VERSION_LEADER);
+    Assert.assertEquals(scheduler.getPriorityClass(futurePartition), ConsumptionPriorityClass.FUTURE_VERSION);
+    PubSubTopicPartition currentFollowerPartition = new PubSubTopicPartitionImpl(currentVersionTopic, 0);
+    Assert.assertEquals(
+        ConsumptionPriorityClass.of(PartitionReplicaIngestionContext.VersionRole.CURRENT, currentFollowerPartition),
+        ConsumptionPriorityClass.CURRENT_VERSION_FOLLOWER);
+    Assert.assertEquals(
+        ConsumptionPriorityClass.of(PartitionReplicaIngestionContext.VersionRole.BACKUP, currentLeaderPartition),
+        ConsumptionPriorityClass.BACKUP_VERSION);
+  }
+
+  @Test
+  public void testLowerPriorityClassIsPausedWhileHigherPriorityClassIsLagging() {
+    doReturn(100L).when(consumer).getOffsetLag(currentLeaderPartition);
+    scheduler.recordConsumption(futurePartition, 1000, 100000);
+    scheduler.reschedule();
+    verify(consumer).pauseForScheduling(futurePartition);
+    verify(consumer, never()).pauseForScheduling(currentLeaderPartition);
+    verify(stats).recordTotalPriorityClassConsumption(ConsumptionPriorityClass.FUTURE_VERSION, 1000, 100000);
+    verify(stats).recordTotalPriorityClassPausedPartitions(ConsumptionPriorityClass.FUTURE_VERSION, 1);
+
+    // The leader catches up with its weighted share, so the future version gets its turn again.
+    scheduler.recordConsumption(currentLeaderPartition, 10000, 1000000);
+    scheduler.reschedule();
+    verify(consumer).resumeForScheduling(futurePartition);
+  }
+
+  @Test
+  public void testNothingIsPausedWithoutLaggingHigherPriorityClass() {
+    doReturn(0L).when(consumer).getOffsetLag(currentLeaderPartition);
+    doReturn(1000000L).when(consumer).getOffsetLag(futurePartition);
+    scheduler.recordConsumption(futurePartition, 1000, 100000);
+    scheduler.reschedule();
+    verify(consumer, never()).pauseForScheduling(any());
+
+    // A lagging partition paused by the ingestion task itself does not count as demand either.
+    doReturn(100L).when(consumer).getOffsetLag(currentLeaderPartition);
+    doReturn(true).when(consumer).isPausedByIngestion(currentLeaderPartition);
+    scheduler.recordConsumption(futurePartition, 1000, 100000);
+    scheduler.reschedule();
+    verify(consumer, never()).pauseForScheduling(any());
+  }
+
+  @Test
+  public void testRescheduleHonorsIntervalAndVersionRoleChanges() {
+    doReturn(100L).when(consumer).getOffsetLag(currentLeaderPartition);
+    scheduler.recordConsumption(futurePartition, 1000, 100000);
+    scheduler.maybeReschedule();
+    verify(consumer, never()).pauseForScheduling(any());
+
+    time.sleep(INTERVAL_MS);
+    scheduler.maybeReschedule();
+    verify(consumer, times(1)).pauseForScheduling(futurePartition);
+
+    // After the version swap, the future version becomes current and must not be held back by the old leader.
+    versionRoles.put(futureVersionTopic, PartitionReplicaIngestionContext.VersionRole.CURRENT);
+    versionRoles.put(currentVersionTopic, PartitionReplicaIngestionContext.VersionRole.BACKUP);
+    time.sleep(INTERVAL_MS);
+    scheduler.maybeReschedule();
+    Assert.assertEquals(scheduler.getPriorityClass(futurePartition), ConsumptionPriorityClass.CURRENT_VERSION_FOLLOWER);
+    Assert.assertEquals(scheduler.getPriorityClass(currentLeaderPartition), ConsumptionPriorityClass.BACKUP_VERSION);
+    verify(consumer).resumeForScheduling(futurePartition);
+  }
+
+  @Test
+  public void testUnregisterResumesPausedPartition() {
+    doReturn(100L).when(consumer).getOffsetLag(currentLeaderPartition);
+    scheduler.recordConsumption(futurePartition, 1000, 100000);
+    scheduler.reschedule();
+    verify(consumer).pauseForScheduling(futurePartition);
+
+    scheduler.unregister(futurePartition);
+    verify(consumer).resumeForScheduling(futurePartition);
+    Assert.assertNull(scheduler.getPriorityClass(futurePartition));
+    scheduler.recordConsumption(futurePartition, 1, 1);
+    verify(stats, never())
+        .recordTotalPriorityClassConsumption(eq(ConsumptionPriorityClass.FUTURE_VERSION), eq(1), anyInt());
+  }
+}
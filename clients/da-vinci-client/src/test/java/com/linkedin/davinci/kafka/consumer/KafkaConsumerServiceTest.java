@@ -103,7 +103,9 @@ public class KafkaConsumerServiceTest {
         null,
         false,
         mock(ReadOnlyStoreRepository.class),
-        false);
+        false,
+        false,
+        1000L);
     consumerService.start();
 
     PubSubTopic versionTopicForTask1 = task1.getVersionTopic();
@@ -241,7 +243,9 @@ public class KafkaConsumerServiceTest {
         null,
         false,
         mock(ReadOnlyStoreRepository.class),
-        false) {
+        false,
+        false,
+        1000L) {
       @Override
       protected SharedKafkaConsumer pickConsumerForPartition(
           PubSubTopic versionTopic,
@@ -295,7 +299,9 @@ public class KafkaConsumerServiceTest {
         null,
         false,
         mock(ReadOnlyStoreRepository.class),
-        false);
+        false,
+        false,
+        1000L);
     consumerService.start();
 
     String storeName = Utils.getUniqueString("test_consumer_service");
@@ -395,7 +401,9 @@ public class KafkaConsumerServiceTest {
         null,
         false,
         mock(ReadOnlyStoreRepository.class),
-        false);
+        false,
+        false,
+        1000L);
     consumerService.start();
 
     PubSubConsumerAdapter consumerForT1P0 = consumerService
@@ -448,7 +456,9 @@ public class KafkaConsumerServiceTest {
         null,
         false,
         mock(ReadOnlyStoreRepository.class),
-        false) {
+        false,
+        false,
+        1000L) {
       @Override
       protected SharedKafkaConsumer pickConsumerForPartition(
           PubSubTopic versionTopic,
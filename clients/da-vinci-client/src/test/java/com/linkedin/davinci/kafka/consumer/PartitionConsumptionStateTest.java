@@ -6,6 +6,7 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
+import com.linkedin.venice.exceptions.VeniceMessageException;
 import com.linkedin.venice.kafka.protocol.Put;
 import com.linkedin.venice.kafka.validation.checksum.CheckSum;
 import com.linkedin.venice.kafka.validation.checksum.CheckSumType;
@@ -18,6 +19,7 @@ import com.linkedin.venice.writer.WriterChunkingHelper;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -130,6 +132,51 @@ public class PartitionConsumptionStateTest {
 
   }
 
+  @Test
+  public void testTransformedValueMap() {
+    PartitionConsumptionState pcs = new PartitionConsumptionState(replicaId, 0, mock(OffsetRecord.class), false);
+    ByteBuffer firstValue = ByteBuffer.wrap("first".getBytes());
+    ByteBuffer secondValue = ByteBuffer.wrap("second".getBytes());
+    ByteBuffer thirdValue = ByteBuffer.wrap("third".getBytes());
+    pcs.setTransformedValue(10, firstValue);
+    pcs.setTransformedValue(11, secondValue);
+    pcs.setTransformedValue(13, thirdValue);
+
+    Assert.assertSame(pcs.removeTransformedValue(10), firstValue);
+    Assert.assertNull(pcs.removeTransformedValue(10));
+    // The record at offset 11 has been skipped, so its value is discarded.
+    Assert.assertNull(pcs.removeTransformedValue(12));
+    Assert.assertNull(pcs.removeTransformedValue(11));
+    Assert.assertSame(pcs.removeTransformedValue(13), thirdValue);
+  }
+
+  @Test(timeOut = 10000)
+  public void testWaitForPendingTransformation() throws Exception {
+    PartitionConsumptionState pcs = new PartitionConsumptionState(replicaId, 0, mock(OffsetRecord.class), false);
+    // No batch is pending.
+    pcs.waitForPendingTransformation(5);
+
+    CompletableFuture<Void> firstBatch = new CompletableFuture<>();
+    CompletableFuture<Void> secondBatch = new CompletableFuture<>();
+    pcs.addPendingTransformation(10, firstBatch);
+    pcs.addPendingTransformation(20, secondBatch);
+    CompletableFuture<Void> waiter = CompletableFuture.runAsync(() -> pcs.waitForPendingTransformation(10));
+    Thread.sleep(100);
+    assertFalse(waiter.isDone());
+    firstBatch.complete(null);
+    waiter.get();
+
+    secondBatch.completeExceptionally(new VeniceMessageException("fake transformer failure"));
+    Assert.assertThrows(VeniceMessageException.class, () -> pcs.waitForPendingTransformation(15));
+    // The batches ending before the offset are not waited for anymore.
+    pcs.waitForPendingTransformation(21);
+
+    // A batch which won't be transformed doesn't hold up the drainer once cancelled.
+    pcs.addPendingTransformation(30, new CompletableFuture<>());
+    pcs.cancelPendingTransformations();
+    pcs.waitForPendingTransformation(25);
+  }
+
   @Test
   public void testIsLeaderCompleted() {
     PartitionConsumptionState pcs = new PartitionConsumptionState(replicaId, 0, mock(OffsetRecord.class), false);
@@ -3,6 +3,7 @@ package com.linkedin.davinci.kafka.consumer;
 import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -100,4 +101,36 @@ public class SharedKafkaConsumerTest {
     // be found in the logs.
     Assert.assertEquals(poolTimesBeforeUnsubscribe, sharedKafkaConsumer.getPollTimes());
   }
+
+  @Test
+  public void testPauseForSchedulingDoesNotOverrideIngestionPause() {
+    setUpSharedConsumer();
+    PubSubTopic versionTopic = pubSubTopicRepository.getTopic("test_store_v1");
+    PubSubTopicPartition topicPartition = new PubSubTopicPartitionImpl(versionTopic, 0);
+    when(consumerAdapter.getAssignment()).thenReturn(Collections.singleton(topicPartition));
+    sharedKafkaConsumer.subscribe(versionTopic, topicPartition, -1);
+
+    // Paused by both parties, the partition stays paused until both of them resume it.
+    sharedKafkaConsumer.pause(topicPartition);
+    sharedKafkaConsumer.pauseForScheduling(topicPartition);
+    verify(consumerAdapter, times(1)).pause(topicPartition);
+    sharedKafkaConsumer.resume(topicPartition);
+    verify(consumerAdapter, never()).resume(topicPartition);
+    Assert.assertFalse(sharedKafkaConsumer.isPausedByIngestion(topicPartition));
+    sharedKafkaConsumer.resumeForScheduling(topicPartition);
+    verify(consumerAdapter, times(1)).resume(topicPartition);
+
+    sharedKafkaConsumer.pauseForScheduling(topicPartition);
+    sharedKafkaConsumer.pause(topicPartition);
+    sharedKafkaConsumer.resumeForScheduling(topicPartition);
+    verify(consumerAdapter, times(1)).resume(topicPartition);
+    Assert.assertTrue(sharedKafkaConsumer.isPausedByIngestion(topicPartition));
+    Assert.assertFalse(sharedKafkaConsumer.isPausedForScheduling(topicPartition));
+
+    // Partitions which are not assigned to the consumer are left alone.
+    PubSubTopicPartition unassignedTopicPartition = new PubSubTopicPartitionImpl(versionTopic, 1);
+    sharedKafkaConsumer.pauseForScheduling(unassignedTopicPartition);
+    verify(consumerAdapter, never()).pause(unassignedTopicPartition);
+    Assert.assertFalse(sharedKafkaConsumer.isPausedForScheduling(unassignedTopicPartition));
+  }
 }
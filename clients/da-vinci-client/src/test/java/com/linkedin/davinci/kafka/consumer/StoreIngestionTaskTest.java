@@ -18,6 +18,7 @@ import static com.linkedin.venice.ConfigKeys.KAFKA_BOOTSTRAP_SERVERS;
 import static com.linkedin.venice.ConfigKeys.KAFKA_CLUSTER_MAP_KEY_NAME;
 import static com.linkedin.venice.ConfigKeys.KAFKA_CLUSTER_MAP_KEY_URL;
 import static com.linkedin.venice.ConfigKeys.SERVER_AA_WC_WORKLOAD_PARALLEL_PROCESSING_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_BULK_LOAD_SST_DIR;
 import static com.linkedin.venice.ConfigKeys.SERVER_DATABASE_CHECKSUM_VERIFICATION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_ENABLE_LIVE_CONFIG_BASED_KAFKA_THROTTLING;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_HEARTBEAT_INTERVAL_MS;
@@ -100,6 +101,7 @@ import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.AbstractStoragePartition;
 import com.linkedin.davinci.store.StoragePartitionConfig;
 import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.davinci.store.rocksdb.BulkLoadManifest;
 import com.linkedin.davinci.store.rocksdb.RocksDBServerConfig;
 import com.linkedin.davinci.transformer.TestAvroRecordTransformer;
 import com.linkedin.davinci.transformer.TestStringRecordTransformer;
@@ -212,10 +214,12 @@ import io.tehuti.metrics.MetricsRepository;
 import io.tehuti.metrics.Sensor;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
 import it.unimi.dsi.fastutil.objects.Object2IntMaps;
+import java.io.File;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -1022,7 +1026,9 @@ public abstract class StoreIngestionTaskTest {
         kafkaConsumerServiceStats,
         false,
         mock(ReadOnlyStoreRepository.class),
-        false);
+        false,
+        false,
+        1000L);
     localKafkaConsumerService.start();
 
     Properties remoteKafkaProps = new Properties();
@@ -1045,7 +1051,9 @@ public abstract class StoreIngestionTaskTest {
         kafkaConsumerServiceStats,
         false,
         mock(ReadOnlyStoreRepository.class),
-        false);
+        false,
+        false,
+        1000L);
     remoteKafkaConsumerService.start();
 
     prepareAggKafkaConsumerServiceMock();
@@ -2592,6 +2600,57 @@ public abstract class StoreIngestionTaskTest {
         Collections.singletonMap(SERVER_NUM_SCHEMA_FAST_CLASS_WARMUP, 1));
   }
 
+  @Test(dataProvider = "aaConfigProvider")
+  public void testBulkLoadEndOfPush(AAConfig aaConfig) throws Exception {
+    String bulkLoadSstDir = Utils.getUniqueTempPath("bulk_load");
+    Map<String, Object> extraServerProperties = Collections.singletonMap(SERVER_BULK_LOAD_SST_DIR, bulkLoadSstDir);
+    File fooPartitionDir = Paths.get(bulkLoadSstDir, topic, Integer.toString(PARTITION_FOO)).toFile();
+    assertTrue(fooPartitionDir.mkdirs());
+    new BulkLoadManifest(Collections.emptyList()).write(fooPartitionDir);
+
+    localVeniceWriter.broadcastStartOfPush(new HashMap<>());
+    localVeniceWriter.broadcastEndOfPush(getBulkLoadEndOfPushDebugInfo());
+
+    AtomicReference<String> stagingThreadName = new AtomicReference<>();
+    runTest(new RandomPollStrategy(), Utils.setOf(PARTITION_FOO, PARTITION_BAR), () -> {
+      doAnswer(invocation -> {
+        stagingThreadName.set(Thread.currentThread().getName());
+        return null;
+      }).when(mockAbstractStorageEngine).stageBulkLoadFiles(anyInt(), any());
+    }, () -> {
+      verify(mockAbstractStorageEngine, timeout(TEST_TIMEOUT_MS)).stageBulkLoadFiles(PARTITION_FOO, fooPartitionDir);
+      verify(mockAbstractStorageEngine, timeout(TEST_TIMEOUT_MS)).ingestBulkLoadFiles(PARTITION_FOO);
+      verify(mockLogNotifier, timeout(TEST_TIMEOUT_MS)).completed(eq(topic), eq(PARTITION_FOO), anyLong(), anyString());
+      verify(mockLogNotifier, never()).error(eq(topic), eq(PARTITION_FOO), anyString(), any());
+      // The files are copied off the drainer thread, which only ingests them.
+      assertTrue(stagingThreadName.get().startsWith("bulk-load-staging-" + topic), stagingThreadName.get());
+
+      // The partition without its manifest fails instead of coming up empty.
+      verify(mockLogNotifier, timeout(TEST_TIMEOUT_MS)).error(eq(topic), eq(PARTITION_BAR), anyString(), any());
+      verify(mockAbstractStorageEngine, never()).stageBulkLoadFiles(eq(PARTITION_BAR), any());
+      verify(mockAbstractStorageEngine, never()).ingestBulkLoadFiles(PARTITION_BAR);
+      verify(mockLogNotifier, never()).endOfPushReceived(eq(topic), eq(PARTITION_BAR), anyLong());
+      verify(mockLogNotifier, never()).completed(eq(topic), eq(PARTITION_BAR), anyLong(), anyString());
+    }, Optional.empty(), false, Optional.empty(), aaConfig, extraServerProperties);
+  }
+
+  @Test(dataProvider = "aaConfigProvider")
+  public void testBulkLoadEndOfPushWithoutServerConfig(AAConfig aaConfig) throws Exception {
+    localVeniceWriter.broadcastStartOfPush(new HashMap<>());
+    localVeniceWriter.broadcastEndOfPush(getBulkLoadEndOfPushDebugInfo());
+
+    runTest(Utils.setOf(PARTITION_FOO), () -> {
+      verify(mockLogNotifier, timeout(TEST_TIMEOUT_MS)).error(eq(topic), eq(PARTITION_FOO), anyString(), any());
+      verify(mockAbstractStorageEngine, never()).stageBulkLoadFiles(anyInt(), any());
+      verify(mockAbstractStorageEngine, never()).ingestBulkLoadFiles(anyInt());
+      verify(mockLogNotifier, never()).completed(eq(topic), eq(PARTITION_FOO), anyLong(), anyString());
+    }, aaConfig);
+  }
+
+  private Map<String, String> getBulkLoadEndOfPushDebugInfo() {
+    return Collections.singletonMap(BulkLoadManifest.BULK_LOAD_SST_DIR_DEBUG_INFO_KEY, "hdfs:///bulk_load/" + topic);
+  }
+
   @Test(dataProvider = "aaConfigProvider")
   public void testReportErrorWithEmptyPcsMap(AAConfig aaConfig) throws Exception {
     localVeniceWriter.broadcastStartOfPush(new HashMap<>());
@@ -0,0 +1,104 @@
+package com.linkedin.davinci.storage;
+
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
+import com.linkedin.venice.partitioner.VenicePartitioner;
+import java.util.ArrayList;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class StoragePartitionWarmerTest {
+  private static final String STORE_NAME = "test_store";
+  private static final int PARTITION_COUNT = 4;
+
+  private Version mockVersion() {
+    Version version = mock(Version.class);
+    doReturn(STORE_NAME).when(version).getStoreName();
+    doReturn(Version.composeKafkaTopic(STORE_NAME, 2)).when(version).kafkaTopicName();
+    doReturn(PARTITION_COUNT).when(version).getPartitionCount();
+    return version;
+  }
+
+  @Test
+  public void testWarmUpReplaysRecentKeysOfPartition() {
+    StoragePartitionWarmer warmer = new StoragePartitionWarmer(100, 1);
+    VenicePartitioner partitioner = new DefaultVenicePartitioner();
+    List<byte[]> partitionKeys = new ArrayList<>();
+    int otherPartitionKeyCount = 0;
+    for (int i = 0; i < 20; i++) {
+      byte[] key = ("key_" + i).getBytes();
+      warmer.recordKeyAccess(STORE_NAME, key);
+      if (partitioner.getPartitionId(key, PARTITION_COUNT) == 1) {
+        partitionKeys.add(key);
+        // The same key read again is replayed once.
+        warmer.recordKeyAccess(STORE_NAME, ("key_" + i).getBytes());
+      } else {
+        otherPartitionKeyCount++;
+      }
+    }
+    Assert.assertFalse(partitionKeys.isEmpty());
+    Assert.assertTrue(otherPartitionKeyCount > 0);
+    warmer.recordKeyAccess("other_store", "other_key".getBytes());
+
+    AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
+    Assert.assertEquals(warmer.warmUpPartition(storageEngine, mockVersion(), 1), partitionKeys.size());
+    for (byte[] key: partitionKeys) {
+      verify(storageEngine, times(1)).get(1, key);
+    }
+    verify(storageEngine, times(partitionKeys.size())).get(anyInt(), any(byte[].class));
+  }
+
+  @Test
+  public void testOnlyMostRecentKeysAreKept() {
+    StoragePartitionWarmer warmer = new StoragePartitionWarmer(2, 1);
+    byte[] oldestKey = "key_0".getBytes();
+    warmer.recordKeyAccess(STORE_NAME, oldestKey);
+    warmer.recordKeyAccess(STORE_NAME, "key_1".getBytes());
+    warmer.recordKeyAccess(STORE_NAME, "key_2".getBytes());
+
+    AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
+    int replayedKeyCount = 0;
+    for (int partition = 0; partition < PARTITION_COUNT; partition++) {
+      replayedKeyCount += warmer.warmUpPartition(storageEngine, mockVersion(), partition);
+    }
+    Assert.assertEquals(replayedKeyCount, 2);
+    verify(storageEngine, never()).get(anyInt(), aryEq(oldestKey));
+  }
+
+  @Test
+  public void testNoRecentKeys() {
+    StoragePartitionWarmer warmer = new StoragePartitionWarmer(10, 1);
+    AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
+    Assert.assertEquals(warmer.warmUpPartition(storageEngine, mockVersion(), 0), 0);
+    verify(storageEngine, never()).get(anyInt(), any(byte[].class));
+    Assert.assertThrows(IllegalArgumentException.class, () -> new StoragePartitionWarmer(0));
+    Assert.assertThrows(IllegalArgumentException.class, () -> new StoragePartitionWarmer(10, 0));
+  }
+
+  @Test
+  public void testKeyAccessIsSampled() {
+    StoragePartitionWarmer warmer = new StoragePartitionWarmer(10000, 10);
+    for (int i = 0; i < 10000; i++) {
+      warmer.recordKeyAccess(STORE_NAME, ("key_" + i).getBytes());
+    }
+    AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
+    int replayedKeyCount = 0;
+    for (int partition = 0; partition < PARTITION_COUNT; partition++) {
+      replayedKeyCount += warmer.warmUpPartition(storageEngine, mockVersion(), partition);
+    }
+    // About one in ten reads is recorded.
+    Assert.assertTrue(replayedKeyCount > 500 && replayedKeyCount < 2000, "Replayed key count: " + replayedKeyCount);
+  }
+}
@@ -223,6 +223,47 @@ public abstract class AbstractStoreTest {
     testGetByKeyPrefix(maxBytesPrefix, keysToBeFound, keysNotToBeFound);
   }
 
+  public void testGetByKeyRange() {
+    byte[] startKey = { 10, 20, 30, 40, 1 };
+    byte[] endKey = { 10, 20, 30, 40, 3 };
+    // keys which should be found, in the unsigned byte order
+    byte[] key1 = { 10, 20, 30, 40, 1 };
+    byte[] key2 = { 10, 20, 30, 40, 1, -128 };
+    byte[] key3 = { 10, 20, 30, 40, 2, -1 };
+
+    // keys which should NOT be found
+    byte[] key4 = { 10, 20, 30, 40 };
+    byte[] key5 = { 10, 20, 30, 40, 0, 127 };
+    byte[] key6 = { 10, 20, 30, 40, 3 };
+    byte[] key7 = { 10, 20, 30, 40, -1 };
+
+    byte[] value = RandomGenUtils.getRandomBytes(valueSize);
+    int partitionId = RandomGenUtils.getRandomIntWithin(numOfPartitions);
+    for (byte[] key: Arrays.asList(key1, key2, key3, key4, key5, key6, key7)) {
+      doPut(partitionId, key, value);
+    }
+
+    final Map<ByteArray, ByteArray> getByKeyRangeResultMap = new HashMap<>();
+    final boolean[] isCompleted = { false };
+    testStore.getByKeyRange(partitionId, startKey, endKey, new BytesStreamingCallback() {
+      @Override
+      public void onRecordReceived(byte[] key, byte[] value) {
+        getByKeyRangeResultMap.put(new ByteArray(key), new ByteArray(value));
+      }
+
+      @Override
+      public void onCompletion() {
+        isCompleted[0] = true;
+      }
+    });
+
+    Assert.assertTrue(isCompleted[0]);
+    Assert.assertEquals(getByKeyRangeResultMap.size(), 3);
+    for (byte[] key: Arrays.asList(key1, key2, key3)) {
+      Assert.assertEquals(getByKeyRangeResultMap.get(new ByteArray(key)), new ByteArray(value));
+    }
+  }
+
   private void testGetByKeyPrefix(byte[] prefix, List<byte[]> keysToBeFound, List<byte[]> keysNotToBeFound) {
     byte[] value = RandomGenUtils.getRandomBytes(valueSize);
     int partitionId = RandomGenUtils.getRandomIntWithin(numOfPartitions);
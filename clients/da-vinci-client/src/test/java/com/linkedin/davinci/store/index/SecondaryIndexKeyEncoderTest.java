@@ -0,0 +1,88 @@
+package com.linkedin.davinci.store.index;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ArrayUtils;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.avro.Schema;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class SecondaryIndexKeyEncoderTest {
+  private static final byte[] PRIMARY_KEY = new byte[] { 0, 1, 2 };
+
+  private static void assertOrderPreserved(Schema schema, List<?> sortedValues) {
+    for (int i = 1; i < sortedValues.size(); i++) {
+      byte[] smaller = SecondaryIndexKeyEncoder.encodeEntryKey("f", schema, sortedValues.get(i - 1), PRIMARY_KEY);
+      byte[] bigger = SecondaryIndexKeyEncoder.encodeEntryKey("f", schema, sortedValues.get(i), PRIMARY_KEY);
+      Assert.assertTrue(
+          ArrayUtils.compareUnsigned(smaller, bigger) < 0,
+          sortedValues.get(i - 1) + " should sort before " + sortedValues.get(i));
+    }
+  }
+
+  @Test
+  public void testEncodingPreservesOrder() {
+    assertOrderPreserved(
+        Schema.create(Schema.Type.INT),
+        Arrays.asList(Integer.MIN_VALUE, -256, -1, 0, 1, 255, 256, Integer.MAX_VALUE));
+    assertOrderPreserved(Schema.create(Schema.Type.LONG), Arrays.asList(Long.MIN_VALUE, -1L, 0L, 1L, Long.MAX_VALUE));
+    assertOrderPreserved(
+        Schema.create(Schema.Type.DOUBLE),
+        Arrays.asList(Double.NEGATIVE_INFINITY, -2.5, -0.5, 0.0, 0.5, 2.5, Double.POSITIVE_INFINITY));
+    assertOrderPreserved(Schema.create(Schema.Type.FLOAT), Arrays.asList(-2.5f, -0.5f, 0.0f, 0.5f, 2.5f));
+    assertOrderPreserved(Schema.create(Schema.Type.BOOLEAN), Arrays.asList(false, true));
+    // A shorter string sorts before the longer ones it is a prefix of, even if they continue with a 0 byte.
+    assertOrderPreserved(Schema.create(Schema.Type.STRING), Arrays.asList("", "a", "a\u0000", "a\u0000b", "ab", "b"));
+    assertOrderPreserved(
+        Schema.create(Schema.Type.BYTES),
+        Arrays.asList(
+            ByteBuffer.wrap(new byte[] { 0 }),
+            ByteBuffer.wrap(new byte[] { 0, 0 }),
+            ByteBuffer.wrap(new byte[] { 1 })));
+    Schema nullableInt =
+        Schema.createUnion(Arrays.asList(Schema.create(Schema.Type.NULL), Schema.create(Schema.Type.INT)));
+    assertOrderPreserved(nullableInt, Arrays.asList(null, Integer.MIN_VALUE, 0));
+  }
+
+  @Test
+  public void testRanges() {
+    Schema schema = Schema.create(Schema.Type.STRING);
+    byte[][] equalityRange = SecondaryIndexKeyEncoder.getEqualityRange("f", schema, "a");
+    byte[] entry = SecondaryIndexKeyEncoder.encodeEntryKey("f", schema, "a", PRIMARY_KEY);
+    byte[] longerValueEntry = SecondaryIndexKeyEncoder.encodeEntryKey("f", schema, "a\u0000", PRIMARY_KEY);
+    byte[] otherFieldEntry = SecondaryIndexKeyEncoder.encodeEntryKey("g", schema, "a", PRIMARY_KEY);
+    Assert.assertTrue(isInRange(entry, equalityRange));
+    Assert.assertFalse(isInRange(longerValueEntry, equalityRange));
+    Assert.assertFalse(isInRange(otherFieldEntry, equalityRange));
+
+    byte[][] openRange = SecondaryIndexKeyEncoder.getRange("f", schema, null, null);
+    Assert.assertTrue(isInRange(entry, openRange));
+    Assert.assertTrue(isInRange(longerValueEntry, openRange));
+    Assert.assertFalse(isInRange(otherFieldEntry, openRange));
+
+    Schema nullableString = Schema.createUnion(Arrays.asList(Schema.create(Schema.Type.NULL), schema));
+    byte[] nullEntry = SecondaryIndexKeyEncoder.encodeEntryKey("f", nullableString, null, PRIMARY_KEY);
+    Assert.assertFalse(isInRange(nullEntry, SecondaryIndexKeyEncoder.getRange("f", nullableString, null, null)));
+    Assert.assertTrue(isInRange(nullEntry, SecondaryIndexKeyEncoder.getEqualityRange("f", nullableString, null)));
+  }
+
+  @Test
+  public void testUnsupportedSchemas() {
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> SecondaryIndexKeyEncoder.validateFieldSchema("f", Schema.createArray(Schema.create(Schema.Type.INT))));
+    Schema multiTypeUnion =
+        Schema.createUnion(Arrays.asList(Schema.create(Schema.Type.INT), Schema.create(Schema.Type.STRING)));
+    Assert.assertThrows(VeniceException.class, () -> SecondaryIndexKeyEncoder.validateFieldSchema("f", multiTypeUnion));
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> SecondaryIndexKeyEncoder.encodeEntryKey("f", Schema.create(Schema.Type.INT), null, PRIMARY_KEY));
+  }
+
+  private static boolean isInRange(byte[] entry, byte[][] range) {
+    return ArrayUtils.compareUnsigned(entry, range[0]) >= 0 && ArrayUtils.compareUnsigned(entry, range[1]) < 0;
+  }
+}
@@ -80,6 +80,11 @@ public class InMemoryStorageEngineTest extends AbstractStorageEngineTest {
     super.testGetByKeyPrefixByteOverflow();
   }
 
+  @Test
+  public void testGetByKeyRange() {
+    super.testGetByKeyRange();
+  }
+
   @Test
   public void testDelete() {
     super.testDelete();
@@ -2,7 +2,11 @@ package com.linkedin.davinci.store.memory;
 
 import static org.testng.Assert.*;
 
+import com.linkedin.davinci.callback.BytesStreamingCallback;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -19,4 +23,31 @@ public class InMemoryStoragePartitionTest {
     storagePartition.put(KEY.getBytes(), keyBuffer);
     Assert.assertNotNull(storagePartition.get(keyBuffer));
   }
+
+  @Test
+  public void testGetByKeyRangeInChunks() {
+    InMemoryStoragePartition storagePartition = new InMemoryStoragePartition(PARTITION_NUM);
+    for (int i = 0; i < 10; i++) {
+      storagePartition.put(("key_" + i).getBytes(), ("value_" + i).getBytes());
+    }
+    List<String> scannedKeys = new ArrayList<>();
+    BytesStreamingCallback callback = new BytesStreamingCallback() {
+      @Override
+      public void onRecordReceived(byte[] key, byte[] value) {
+        scannedKeys.add(new String(key));
+      }
+
+      @Override
+      public void onCompletion() {
+      }
+    };
+
+    byte[] nextStartKey = storagePartition.getByKeyRange("key_2".getBytes(), "key_8".getBytes(), 4, callback);
+    assertEquals(scannedKeys, Arrays.asList("key_2", "key_3", "key_4", "key_5"));
+    assertEquals(new String(nextStartKey), "key_6");
+
+    scannedKeys.clear();
+    assertNull(storagePartition.getByKeyRange(nextStartKey, "key_8".getBytes(), 4, callback));
+    assertEquals(scannedKeys, Arrays.asList("key_6", "key_7"));
+  }
 }
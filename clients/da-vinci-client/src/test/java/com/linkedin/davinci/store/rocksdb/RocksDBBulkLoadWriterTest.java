@@ -0,0 +1,121 @@
+package com.linkedin.davinci.store.rocksdb;
+
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.store.AbstractStorageEngineTest;
+import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.venice.exceptions.VeniceChecksumException;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.serialization.KeyWithChunkingSuffixSerializer;
+import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.DataProviderUtils;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.VeniceProperties;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class RocksDBBulkLoadWriterTest {
+  private static final String DATA_BASE_DIR = Utils.getUniqueTempPath();
+  private static final RocksDBThrottler ROCKSDB_THROTTLER = new RocksDBThrottler(3);
+  private static final int RECORD_COUNT = 100;
+  private static final int SCHEMA_ID = 2;
+
+  private RocksDBStoragePartition createPartition(String storeName, RocksDBStorageEngineFactory factory) {
+    VeniceProperties serverProperties = AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB);
+    return new RocksDBStoragePartition(
+        new StoragePartitionConfig(storeName, 0),
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        new RocksDBServerConfig(serverProperties),
+        new VeniceStoreVersionConfig(storeName, serverProperties));
+  }
+
+  private static byte[] getKey(int i) {
+    return String.format("key_%03d", i).getBytes();
+  }
+
+  private static byte[] getValue(int i) {
+    return ("value_" + i).getBytes();
+  }
+
+  @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
+  public void testBulkLoad(boolean chunkingEnabled) {
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    String outputDir = Utils.getUniqueTempPath("bulk_load");
+    BulkLoadManifest manifest;
+    // A small target size to roll over to multiple files.
+    try (RocksDBBulkLoadWriter writer = new RocksDBBulkLoadWriter(outputDir, chunkingEnabled, 200)) {
+      for (int i = 0; i < RECORD_COUNT; i++) {
+        writer.put(getKey(i), SCHEMA_ID, getValue(i));
+      }
+      manifest = writer.finish();
+    }
+    Assert.assertTrue(manifest.getSstFiles().size() > 1);
+    Assert.assertEquals(
+        manifest.getSstFiles().stream().mapToLong(BulkLoadManifest.SstFileInfo::getRecordCount).sum(),
+        RECORD_COUNT);
+    Assert.assertTrue(BulkLoadManifest.exists(new File(outputDir)));
+
+    VeniceProperties serverProperties = AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(new VeniceServerConfig(serverProperties));
+    RocksDBStoragePartition partition = createPartition(storeName, factory);
+    try {
+      partition.stageBulkLoadFiles(new File(outputDir));
+      Assert.assertNull(partition.get(getKey(0)));
+      partition.ingestBulkLoadFiles();
+      KeyWithChunkingSuffixSerializer keySerializer = new KeyWithChunkingSuffixSerializer();
+      for (int i = 0; i < RECORD_COUNT; i++) {
+        byte[] key = chunkingEnabled ? keySerializer.serializeNonChunkedKey(getKey(i)) : getKey(i);
+        byte[] value = partition.get(key);
+        Assert.assertNotNull(value);
+        Assert.assertEquals(ByteUtils.readInt(value, 0), SCHEMA_ID);
+        Assert.assertEquals(Arrays.copyOfRange(value, ValueRecord.SCHEMA_HEADER_LENGTH, value.length), getValue(i));
+      }
+    } finally {
+      partition.drop();
+      factory.close();
+    }
+  }
+
+  @Test
+  public void testChecksumMismatch() {
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    String outputDir = Utils.getUniqueTempPath("bulk_load");
+    try (RocksDBBulkLoadWriter writer = new RocksDBBulkLoadWriter(outputDir, false, Long.MAX_VALUE)) {
+      for (int i = 0; i < RECORD_COUNT; i++) {
+        writer.put(getKey(i), SCHEMA_ID, getValue(i));
+      }
+      BulkLoadManifest manifest = writer.finish();
+      List<BulkLoadManifest.SstFileInfo> corruptedFiles = new ArrayList<>();
+      for (BulkLoadManifest.SstFileInfo sstFile: manifest.getSstFiles()) {
+        byte[] checksum = sstFile.getChecksum().clone();
+        checksum[0]++;
+        corruptedFiles.add(new BulkLoadManifest.SstFileInfo(sstFile.getFileName(), sstFile.getRecordCount(), checksum));
+      }
+      new BulkLoadManifest(corruptedFiles).write(writer.getOutputDir());
+    }
+
+    VeniceProperties serverProperties = AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(new VeniceServerConfig(serverProperties));
+    RocksDBStoragePartition partition = createPartition(storeName, factory);
+    try {
+      Assert.assertThrows(VeniceChecksumException.class, () -> partition.stageBulkLoadFiles(new File(outputDir)));
+      // The files which failed the verification are not left behind to be ingested.
+      Assert.assertThrows(VeniceException.class, partition::ingestBulkLoadFiles);
+      Assert.assertNull(partition.get(getKey(0)));
+    } finally {
+      partition.drop();
+      factory.close();
+    }
+  }
+}
@@ -117,6 +117,11 @@ public class RocksDBStorageEngineTest extends AbstractStorageEngineTest {
     super.testGetByKeyPrefixByteOverflow();
   }
 
+  @Test
+  public void testGetByKeyRange() {
+    super.testGetByKeyRange();
+  }
+
   @Test
   public void testGetAndPutPartitionOffset() {
     AbstractStorageEngine testStorageEngine = getTestStoreEngine();
@@ -10,11 +10,13 @@ import static org.testng.Assert.assertTrue;
 import static org.testng.AssertJUnit.assertFalse;
 
 import com.linkedin.davinci.blobtransfer.BlobSnapshotManager;
+import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.config.VeniceStoreVersionConfig;
 import com.linkedin.davinci.stats.RocksDBMemoryStats;
 import com.linkedin.davinci.store.AbstractStorageEngineTest;
 import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.davinci.store.StoragePartitionSnapshot;
 import com.linkedin.venice.exceptions.MemoryLimitExhaustedException;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.validation.checksum.CheckSum;
@@ -649,6 +651,104 @@ public class RocksDBStoragePartitionTest {
     removeDir(storeDir);
   }
 
+  @Test
+  public void testReadSnapshot() {
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    String storeDir = getTempDatabaseDir(storeName);
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, 0);
+    VeniceProperties veniceServerProperties = AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory =
+        new RocksDBStorageEngineFactory(new VeniceServerConfig(veniceServerProperties));
+    VeniceStoreVersionConfig storeConfig = new VeniceStoreVersionConfig(storeName, veniceServerProperties);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig,
+        storeConfig);
+
+    byte[] key1 = (KEY_PREFIX + 1).getBytes();
+    byte[] key2 = (KEY_PREFIX + 2).getBytes();
+    storagePartition.put(key1, (VALUE_PREFIX + 1).getBytes());
+    StoragePartitionSnapshot snapshot = storagePartition.openReadSnapshot(10);
+    // The writes after the snapshot is opened are not visible to the snapshot.
+    storagePartition.put(key1, (VALUE_PREFIX + "1_new").getBytes());
+    storagePartition.put(key2, (VALUE_PREFIX + 2).getBytes());
+    Assert.assertEquals(snapshot.getHighWatermarkOffset(), 10);
+    Assert.assertEquals(snapshot.get(key1), (VALUE_PREFIX + 1).getBytes());
+    Assert.assertNull(snapshot.get(key2));
+    Assert.assertEquals(storagePartition.get(key1), (VALUE_PREFIX + "1_new").getBytes());
+    snapshot.close();
+    Assert.assertThrows(VeniceException.class, () -> snapshot.get(key1));
+
+    // A snapshot outliving the database is invalidated instead of being read.
+    StoragePartitionSnapshot orphanSnapshot = storagePartition.openReadSnapshot(20);
+    storagePartition.close();
+    Assert.assertThrows(VeniceException.class, () -> orphanSnapshot.get(key1));
+    orphanSnapshot.close();
+
+    storagePartition.drop();
+    removeDir(storeDir);
+  }
+
+  @Test
+  public void testGetByKeyRangeInChunks() {
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    String storeDir = getTempDatabaseDir(storeName);
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, 0);
+    VeniceProperties veniceServerProperties = AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory =
+        new RocksDBStorageEngineFactory(new VeniceServerConfig(veniceServerProperties));
+    VeniceStoreVersionConfig storeConfig = new VeniceStoreVersionConfig(storeName, veniceServerProperties);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig,
+        storeConfig);
+
+    for (int i = 0; i < 5; i++) {
+      storagePartition.put((KEY_PREFIX + i).getBytes(), (VALUE_PREFIX + i).getBytes());
+    }
+    List<String> scannedKeys = new ArrayList<>();
+    BytesStreamingCallback callback = new BytesStreamingCallback() {
+      @Override
+      public void onRecordReceived(byte[] key, byte[] value) {
+        scannedKeys.add(new String(key));
+      }
+
+      @Override
+      public void onCompletion() {
+      }
+    };
+    // The scan of [key_1, key_4) resumes after the last key of each chunk.
+    byte[] endKey = (KEY_PREFIX + 4).getBytes();
+    byte[] resumeKey = storagePartition.getByKeyRange((KEY_PREFIX + 1).getBytes(), endKey, 2, callback);
+    Assert.assertEquals(scannedKeys, Arrays.asList(KEY_PREFIX + 1, KEY_PREFIX + 2));
+    Assert.assertNotNull(resumeKey);
+    Assert.assertNull(storagePartition.getByKeyRange(resumeKey, endKey, 2, callback));
+    Assert.assertEquals(scannedKeys, Arrays.asList(KEY_PREFIX + 1, KEY_PREFIX + 2, KEY_PREFIX + 3));
+
+    // The next chunk of a scan fails once the partition is closed.
+    scannedKeys.clear();
+    resumeKey = storagePartition.getByKeyRange(null, null, 2, callback);
+    storagePartition.close();
+    byte[] closedResumeKey = resumeKey;
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> storagePartition.getByKeyRange(closedResumeKey, null, 2, callback));
+    Assert.assertEquals(scannedKeys.size(), 2);
+
+    storagePartition.drop();
+    removeDir(storeDir);
+  }
+
   @Test
   public void testVerifyConfig() {
     String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
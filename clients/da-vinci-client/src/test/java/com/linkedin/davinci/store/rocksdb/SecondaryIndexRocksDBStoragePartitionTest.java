@@ -0,0 +1,143 @@
+package com.linkedin.davinci.store.rocksdb;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.davinci.callback.BytesStreamingCallback;
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.store.AbstractStorageEngineTest;
+import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.davinci.store.index.SecondaryIndexExtractor;
+import com.linkedin.davinci.store.index.SecondaryIndexKeyEncoder;
+import com.linkedin.venice.compression.NoopCompressor;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.ReadOnlySchemaRepository;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.schema.SchemaEntry;
+import com.linkedin.venice.serializer.AvroSerializer;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.VeniceProperties;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class SecondaryIndexRocksDBStoragePartitionTest {
+  private static final String DATA_BASE_DIR = Utils.getUniqueTempPath();
+  private static final RocksDBThrottler ROCKSDB_THROTTLER = new RocksDBThrottler(3);
+  private static final Schema VALUE_SCHEMA = new Schema.Parser().parse(
+      "{\"type\":\"record\",\"name\":\"User\",\"fields\":[{\"name\":\"name\",\"type\":\"string\"},"
+          + "{\"name\":\"age\",\"type\":[\"null\",\"int\"],\"default\":null}]}");
+  private static final int VALUE_SCHEMA_ID = 1;
+
+  private final AvroSerializer<GenericRecord> valueSerializer = new AvroSerializer<>(VALUE_SCHEMA);
+
+  private byte[] serializeValue(String name, Integer age) {
+    GenericRecord record = new GenericData.Record(VALUE_SCHEMA);
+    record.put("name", name);
+    record.put("age", age);
+    byte[] valueBytes = valueSerializer.serialize(record);
+    return ByteBuffer.allocate(Integer.BYTES + valueBytes.length).putInt(VALUE_SCHEMA_ID).put(valueBytes).array();
+  }
+
+  private List<String> lookup(SecondaryIndexRocksDBStoragePartition partition, byte[][] entryKeyRange) {
+    List<String> keys = new ArrayList<>();
+    partition.getBySecondaryIndexRange(entryKeyRange[0], entryKeyRange[1], new BytesStreamingCallback() {
+      @Override
+      public void onRecordReceived(byte[] key, byte[] value) {
+        keys.add(new String(key));
+      }
+
+      @Override
+      public void onCompletion() {
+      }
+    });
+    Collections.sort(keys);
+    return keys;
+  }
+
+  private List<String> lookupAge(SecondaryIndexRocksDBStoragePartition partition, Integer age) {
+    Schema ageSchema = VALUE_SCHEMA.getField("age").schema();
+    return lookup(partition, SecondaryIndexKeyEncoder.getEqualityRange("age", ageSchema, age));
+  }
+
+  @Test
+  public void testIndexIsUpdatedWithValues() {
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    VeniceProperties serverProperties = AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(serverProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(new VeniceServerConfig(serverProperties));
+    VeniceStoreVersionConfig storeConfig = new VeniceStoreVersionConfig(storeName, serverProperties);
+
+    ReadOnlySchemaRepository schemaRepository = mock(ReadOnlySchemaRepository.class);
+    SchemaEntry valueSchemaEntry = new SchemaEntry(VALUE_SCHEMA_ID, VALUE_SCHEMA);
+    doReturn(valueSchemaEntry).when(schemaRepository).getValueSchema(anyString(), eq(VALUE_SCHEMA_ID));
+    doReturn(valueSchemaEntry).when(schemaRepository).getSupersetOrLatestValueSchema(anyString());
+    SecondaryIndexExtractor extractor = new SecondaryIndexExtractor(
+        Version.parseStoreFromVersionTopic(storeName),
+        Arrays.asList("name", "age"),
+        schemaRepository,
+        NoopCompressor::new);
+    AtomicReference<SecondaryIndexExtractor> extractorRef = new AtomicReference<>(extractor);
+
+    SecondaryIndexRocksDBStoragePartition partition = new SecondaryIndexRocksDBStoragePartition(
+        new StoragePartitionConfig(storeName, 0),
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig,
+        storeConfig,
+        extractorRef::get);
+    try {
+      partition.put("key_1".getBytes(), serializeValue("alice", 30));
+      partition.put("key_2".getBytes(), serializeValue("bob", 30));
+      partition.put("key_3".getBytes(), serializeValue("carol", 40));
+      partition.put("key_4".getBytes(), serializeValue("dave", null));
+
+      Assert.assertEquals(lookupAge(partition, 30), Arrays.asList("key_1", "key_2"));
+      Assert.assertEquals(lookupAge(partition, 40), Collections.singletonList("key_3"));
+      Assert.assertEquals(lookupAge(partition, null), Collections.singletonList("key_4"));
+      Assert.assertTrue(lookupAge(partition, 35).isEmpty());
+
+      // The stale entry is removed when the value is updated.
+      partition.put("key_1".getBytes(), serializeValue("alice", 40));
+      Assert.assertEquals(lookupAge(partition, 30), Collections.singletonList("key_2"));
+      Assert.assertEquals(lookupAge(partition, 40), Arrays.asList("key_1", "key_3"));
+
+      partition.delete("key_3".getBytes());
+      Assert.assertEquals(lookupAge(partition, 40), Collections.singletonList("key_1"));
+      Assert.assertNull(partition.get("key_3".getBytes()));
+
+      Schema ageSchema = VALUE_SCHEMA.getField("age").schema();
+      Assert.assertEquals(
+          lookup(partition, SecondaryIndexKeyEncoder.getRange("age", ageSchema, null, 40)),
+          Collections.singletonList("key_2"));
+      Assert.assertEquals(
+          lookup(partition, SecondaryIndexKeyEncoder.getRange("age", ageSchema, 30, null)),
+          Arrays.asList("key_1", "key_2"));
+      Schema nameSchema = VALUE_SCHEMA.getField("name").schema();
+      Assert.assertEquals(
+          lookup(partition, SecondaryIndexKeyEncoder.getRange("name", nameSchema, "b", "e")),
+          Arrays.asList("key_2", "key_4"));
+
+      // The writes out of the ingestion don't maintain the index.
+      extractorRef.set(null);
+      partition.put("key_5".getBytes(), serializeValue("eve", 30));
+      Assert.assertEquals(lookupAge(partition, 30), Collections.singletonList("key_2"));
+    } finally {
+      partition.drop();
+    }
+  }
+}
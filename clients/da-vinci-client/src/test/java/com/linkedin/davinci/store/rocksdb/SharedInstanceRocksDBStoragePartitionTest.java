@@ -0,0 +1,87 @@
+package com.linkedin.davinci.store.rocksdb;
+
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_SHARED_INSTANCE_ENABLED;
+
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.store.AbstractStorageEngineTest;
+import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.VeniceProperties;
+import java.util.Collections;
+import java.util.Properties;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class SharedInstanceRocksDBStoragePartitionTest {
+  private static final String DATA_BASE_DIR = Utils.getUniqueTempPath();
+  private static final RocksDBThrottler ROCKSDB_THROTTLER = new RocksDBThrottler(3);
+
+  private SharedInstanceRocksDBStoragePartition createPartition(
+      String storeName,
+      int partitionId,
+      RocksDBStorageEngineFactory factory,
+      VeniceProperties serverProperties) {
+    return new SharedInstanceRocksDBStoragePartition(
+        new StoragePartitionConfig(storeName, partitionId),
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        new RocksDBServerConfig(serverProperties),
+        new VeniceStoreVersionConfig(storeName, serverProperties));
+  }
+
+  @Test
+  public void testPartitionsShareInstance() {
+    String storeName1 = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    String storeName2 = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    Properties properties = new Properties();
+    properties.put(ROCKSDB_SHARED_INSTANCE_ENABLED, "true");
+    VeniceProperties serverProperties =
+        AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, properties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(new VeniceServerConfig(serverProperties));
+
+    SharedInstanceRocksDBStoragePartition partition1 = createPartition(storeName1, 0, factory, serverProperties);
+    SharedInstanceRocksDBStoragePartition partition2 = createPartition(storeName2, 0, factory, serverProperties);
+    // The same key is kept apart by the column families of the partitions.
+    partition1.put("key".getBytes(), "value_1".getBytes());
+    partition2.put("key".getBytes(), "value_2".getBytes());
+    Assert.assertEquals(partition1.get("key".getBytes()), "value_1".getBytes());
+    Assert.assertEquals(partition2.get("key".getBytes()), "value_2".getBytes());
+    Assert.assertEquals(factory.getSharedInstancePartitionIds(storeName1), Collections.singleton(0));
+    Assert.assertEquals(factory.getSharedInstancePartitionIds(storeName2), Collections.singleton(0));
+
+    // Closing a partition doesn't close the shared instance.
+    partition1.close();
+    Assert.assertEquals(partition2.get("key".getBytes()), "value_2".getBytes());
+    partition1 = createPartition(storeName1, 0, factory, serverProperties);
+    Assert.assertEquals(partition1.get("key".getBytes()), "value_1".getBytes());
+
+    // Dropping a partition only drops its column family.
+    partition1.drop();
+    Assert.assertTrue(factory.getSharedInstancePartitionIds(storeName1).isEmpty());
+    Assert.assertEquals(partition2.get("key".getBytes()), "value_2".getBytes());
+    partition2.close();
+    factory.close();
+
+    // The column families are found again once the shared instance is reopened.
+    factory = new RocksDBStorageEngineFactory(new VeniceServerConfig(serverProperties));
+    try {
+      Assert.assertTrue(factory.getSharedInstancePartitionIds(storeName1).isEmpty());
+      Assert.assertEquals(factory.getSharedInstancePartitionIds(storeName2), Collections.singleton(0));
+      Assert.assertFalse(factory.getPersistedStoreNames().contains(RocksDBSharedInstance.SHARED_INSTANCE_DIR_NAME));
+      partition2 = createPartition(storeName2, 0, factory, serverProperties);
+      Assert.assertEquals(partition2.get("key".getBytes()), "value_2".getBytes());
+      partition2.close();
+
+      factory.removeStorageEngine(storeName2);
+      Assert.assertTrue(factory.getSharedInstancePartitionIds(storeName2).isEmpty());
+    } finally {
+      factory.close();
+    }
+  }
+}
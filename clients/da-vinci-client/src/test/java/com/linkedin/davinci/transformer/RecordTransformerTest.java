@@ -1,10 +1,17 @@
 package com.linkedin.davinci.transformer;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
 
+import com.linkedin.davinci.client.BlockingDaVinciRecordTransformer;
 import com.linkedin.davinci.client.DaVinciRecordTransformer;
+import com.linkedin.davinci.client.DaVinciRecordTransformerBatch;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import com.linkedin.venice.utils.lazy.Lazy;
+import java.nio.ByteBuffer;
 import org.apache.avro.Schema;
 import org.testng.annotations.Test;
 
@@ -31,4 +38,90 @@ public class RecordTransformerTest {
     assertNull(deletedRecord);
   }
 
+  @Test
+  public void testPutBatch() {
+    DaVinciRecordTransformer<Integer, String, String> recordTransformer = new TestStringRecordTransformer(0);
+    assertFalse(recordTransformer.isBatchTransformationEnabled());
+
+    DaVinciRecordTransformerBatch<Integer, String, String> batch = new DaVinciRecordTransformerBatch<>();
+    batch.add(Lazy.of(() -> 1), Lazy.of(() -> "first"));
+    batch.add(Lazy.of(() -> 2), Lazy.of(() -> "second"));
+    assertEquals(batch.size(), 2);
+    assertNull(batch.getOutput(0));
+
+    // By default, each record of the batch is transformed on its own.
+    recordTransformer.putBatch(0, batch);
+    assertEquals(batch.getOutput(0), "firstTransformed");
+    assertEquals(batch.getOutput(1), "secondTransformed");
+  }
+
+  @Test
+  public void testBlockingRecordTransformerPutBatch() {
+    DaVinciRecordTransformer<Integer, String, String> batchRecordTransformer =
+        new TestStringRecordTransformer(0) {
+          @Override
+          public void putBatch(int partition, DaVinciRecordTransformerBatch<Integer, String, String> batch) {
+            for (int i = 0; i < batch.size(); i++) {
+              batch.setOutput(i, partition + ":" + batch.getValues().get(i).get());
+            }
+          }
+
+          @Override
+          public boolean isBatchTransformationEnabled() {
+            return true;
+          }
+        };
+    BlockingDaVinciRecordTransformer<Integer, String, String> recordTransformer =
+        new BlockingDaVinciRecordTransformer<>(batchRecordTransformer);
+    assertTrue(recordTransformer.isBatchTransformationEnabled());
+
+    DaVinciRecordTransformerBatch<Integer, String, String> batch = new DaVinciRecordTransformerBatch<>();
+    batch.add(Lazy.of(() -> 1), Lazy.of(() -> "value"));
+    recordTransformer.onStartIngestionTask();
+    recordTransformer.putBatch(3, batch);
+    assertEquals(batch.getOutput(0), "3:value");
+  }
+
+  @Test
+  public void testGetValueBytes() {
+    DaVinciRecordTransformer<Integer, String, String> recordTransformer = new TestStringRecordTransformer(0);
+    Schema valueOutputSchema = recordTransformer.getValueOutputSchema();
+    RecordDeserializer<Object> deserializer =
+        SerializerDeserializerFactory.getAvroGenericDeserializer(valueOutputSchema);
+
+    ByteBuffer firstValueBytes = recordTransformer.getValueBytes(valueOutputSchema, "first");
+    // The serializer is reused, but each value gets its own buffer.
+    ByteBuffer secondValueBytes = recordTransformer.getValueBytes(valueOutputSchema, "second value");
+    assertEquals(firstValueBytes.getInt(), 1);
+    assertEquals(deserializer.deserialize(firstValueBytes.slice()).toString(), "first");
+    assertEquals(secondValueBytes.getInt(), 1);
+    assertEquals(deserializer.deserialize(secondValueBytes.slice()).toString(), "second value");
+
+    // A new schema is picked up.
+    Schema intSchema = Schema.create(Schema.Type.INT);
+    DaVinciRecordTransformer<Integer, Integer, Integer> intRecordTransformer =
+        new DaVinciRecordTransformer<Integer, Integer, Integer>(0) {
+          @Override
+          public Schema getKeyOutputSchema() {
+            return intSchema;
+          }
+
+          @Override
+          public Schema getValueOutputSchema() {
+            return intSchema;
+          }
+
+          @Override
+          public Integer put(Lazy<Integer> key, Lazy<Integer> value) {
+            return value.get();
+          }
+        };
+    intRecordTransformer.getValueBytes(intSchema, 42);
+    ByteBuffer longValueBytes = intRecordTransformer.getValueBytes(Schema.create(Schema.Type.LONG), 42);
+    assertEquals(longValueBytes.getInt(), 1);
+    assertEquals(
+        SerializerDeserializerFactory.getAvroGenericDeserializer(Schema.create(Schema.Type.LONG))
+            .deserialize(longValueBytes.slice()),
+        42L);
+  }
 }
@@ -0,0 +1,189 @@
+package com.linkedin.venice.fastclient;
+
+import com.linkedin.alpini.base.concurrency.TimeoutProcessor;
+import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.fastclient.stats.FastClientStats;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * This class collects the single-gets issued concurrently into batch-get requests, which cuts down the number of
+ * requests the servers need to handle when the application fires many independent single-gets at the same time.
+ *
+ * A batch is sent once {@link ClientConfig#getSingleGetBatchingWindowInMicroSeconds()} elapses after its first key, or
+ * once it reaches {@link ClientConfig#getSingleGetBatchingMaxKeyCount()} keys, whichever comes first, so the added
+ * latency of each single-get is bounded by the window. The batch is scattered to the replicas by
+ * {@link DispatchingAvroGenericStoreClient#streamingBatchGet}, so each replica receives one request carrying all the
+ * keys of the batch it hosts, and each single-get completes as soon as the response of its replica is processed.
+ *
+ * The single-gets of the same key within one batch share one lookup. The max key count should not exceed the batch-get
+ * limit of the store, otherwise the batches will be rejected.
+ *
+ * The windows are timed by a {@link TimeoutProcessor} owned by this client, rather than the one of
+ * {@link com.linkedin.venice.fastclient.meta.InstanceHealthMonitor}, since a window which expires sends its batch
+ * from the timer thread, which would otherwise delay the retry and the health check timeouts of the whole client.
+ */
+public class BatchingAvroGenericStoreClient<K, V> extends DelegatingAvroStoreClient<K, V> {
+  private static final Logger LOGGER = LogManager.getLogger(BatchingAvroGenericStoreClient.class);
+
+  private final int windowInMicroSeconds;
+  private final int maxKeyCount;
+  private final TimeoutProcessor timeoutProcessor;
+  private final FastClientStats clientStatsForSingleGet;
+  private final Object lock = new Object();
+  // Guarded by lock
+  private PendingBatch<K, V> pendingBatch = null;
+
+  public BatchingAvroGenericStoreClient(InternalAvroStoreClient<K, V> delegate, ClientConfig clientConfig) {
+    super(delegate, clientConfig);
+    this.windowInMicroSeconds = clientConfig.getSingleGetBatchingWindowInMicroSeconds();
+    this.maxKeyCount = clientConfig.getSingleGetBatchingMaxKeyCount();
+    this.timeoutProcessor = new TimeoutProcessor(null, true, 1);
+    this.clientStatsForSingleGet = clientConfig.getStats(RequestType.SINGLE_GET);
+    LOGGER.info(
+        "Enabled single-get batching for store: {} with window: {} us and max key count: {}",
+        clientConfig.getStoreName(),
+        windowInMicroSeconds,
+        maxKeyCount);
+  }
+
+  @Override
+  protected CompletableFuture<V> get(GetRequestContext requestContext, K key) throws VeniceClientException {
+    CompletableFuture<V> valueFuture = new CompletableFuture<>();
+    PendingBatch<K, V> fullBatch = null;
+    synchronized (lock) {
+      if (pendingBatch == null) {
+        PendingBatch<K, V> newBatch = new PendingBatch<>();
+        newBatch.windowFuture =
+            timeoutProcessor.schedule(() -> flush(newBatch), windowInMicroSeconds, TimeUnit.MICROSECONDS);
+        pendingBatch = newBatch;
+      }
+      pendingBatch.add(key, new PendingGet<>(requestContext, valueFuture));
+      if (pendingBatch.waiters.size() >= maxKeyCount) {
+        fullBatch = pendingBatch;
+        pendingBatch = null;
+      }
+    }
+    if (fullBatch != null) {
+      fullBatch.windowFuture.cancel();
+      send(fullBatch);
+    }
+    return valueFuture;
+  }
+
+  /**
+   * Sends the pending batch, so that its single-gets don't hang once the timer is gone.
+   */
+  @Override
+  public void close() {
+    PendingBatch<K, V> lastBatch;
+    synchronized (lock) {
+      lastBatch = pendingBatch;
+      pendingBatch = null;
+    }
+    if (lastBatch != null) {
+      lastBatch.windowFuture.cancel();
+      send(lastBatch);
+    }
+    timeoutProcessor.shutdownNow();
+    try {
+      timeoutProcessor.awaitTermination(30, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    super.close();
+  }
+
+  private void flush(PendingBatch<K, V> batch) {
+    synchronized (lock) {
+      if (pendingBatch != batch) {
+        // The batch was full, and it has been sent already.
+        return;
+      }
+      pendingBatch = null;
+    }
+    send(batch);
+  }
+
+  private void send(PendingBatch<K, V> batch) {
+    Map<K, List<PendingGet<V>>> waiters = batch.waiters;
+    clientStatsForSingleGet.recordSingleGetBatchKeyCount(waiters.size());
+    BatchGetRequestContext<K, V> batchRequestContext = new BatchGetRequestContext<>(waiters.size(), false);
+    try {
+      super.streamingBatchGet(batchRequestContext, new HashSet<>(waiters.keySet()), new StreamingCallback<K, V>() {
+        @Override
+        public void onRecordReceived(K key, V value) {
+          List<PendingGet<V>> pendingGets = waiters.remove(key);
+          if (pendingGets != null) {
+            for (PendingGet<V> pendingGet: pendingGets) {
+              pendingGet.complete(batchRequestContext, value, null);
+            }
+          }
+        }
+
+        @Override
+        public void onCompletion(Optional<Exception> exception) {
+          // The keys without a response are failed, or not found.
+          for (K key: waiters.keySet()) {
+            List<PendingGet<V>> pendingGets = waiters.remove(key);
+            if (pendingGets != null) {
+              for (PendingGet<V> pendingGet: pendingGets) {
+                pendingGet.complete(batchRequestContext, null, exception.orElse(null));
+              }
+            }
+          }
+        }
+      });
+    } catch (Exception e) {
+      for (List<PendingGet<V>> pendingGets: waiters.values()) {
+        pendingGets.forEach(pendingGet -> pendingGet.future.completeExceptionally(e));
+      }
+    }
+  }
+
+  private static class PendingBatch<K, V> {
+    /**
+     * The entries are removed once they are completed, so that each single-get is completed only once.
+     */
+    private final Map<K, List<PendingGet<V>>> waiters = new VeniceConcurrentHashMap<>();
+    private TimeoutProcessor.TimeoutFuture windowFuture;
+
+    private void add(K key, PendingGet<V> pendingGet) {
+      waiters.computeIfAbsent(key, k -> new ArrayList<>(1)).add(pendingGet);
+    }
+  }
+
+  private static class PendingGet<V> {
+    private final GetRequestContext requestContext;
+    private final CompletableFuture<V> future;
+
+    private PendingGet(GetRequestContext requestContext, CompletableFuture<V> future) {
+      this.requestContext = requestContext;
+      this.future = future;
+    }
+
+    private void complete(BatchGetRequestContext batchRequestContext, V value, Exception exception) {
+      requestContext.currentVersion = batchRequestContext.currentVersion;
+      requestContext.noAvailableReplica = batchRequestContext.noAvailableReplica;
+      if (exception != null) {
+        future.completeExceptionally(exception);
+        return;
+      }
+      if (value != null) {
+        requestContext.successRequestKeyCount.incrementAndGet();
+      }
+      future.complete(value);
+    }
+  }
+}
@@ -0,0 +1,264 @@
+package com.linkedin.venice.fastclient;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.fastclient.meta.StoreMetadata;
+import com.linkedin.venice.fastclient.stats.FastClientStats;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.utils.SystemTime;
+import com.linkedin.venice.utils.Time;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.avro.generic.GenericFixed;
+import org.apache.avro.generic.IndexedRecord;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * This class keeps the values of the recently read keys in memory, so that the hot keys of a store are served without
+ * going to the network. It sits below {@link StatsAvroGenericStoreClient}, so the cache hits are part of the regular
+ * request metrics.
+ *
+ * The cache is bounded by the estimated heap size of the keys and the deserialized values, and the eviction is
+ * delegated to Caffeine, whose W-TinyLFU policy keeps the frequently read keys when the cache is full.
+ *
+ * The entries are tagged with the store version which served them:
+ * 1. The data of a batch-only store never changes within a version, so the entries are kept until the current version
+ *    observed through {@link StoreMetadata} changes, which drops all the entries.
+ * 2. The current version of a hybrid store keeps receiving real-time writes, so
+ *    {@link ClientConfig#getHotKeyCacheTtlInMs} should be set to the staleness the application could tolerate, and the
+ *    entries expire after that.
+ *
+ * The cached values are shared by all the callers reading the same key, so they must not be modified by the callers.
+ * Only single-get and batch-get are served by the cache, and the keys which do not exist are not cached.
+ */
+public class CachingAvroGenericStoreClient<K, V> extends DelegatingAvroStoreClient<K, V> {
+  private static final Logger LOGGER = LogManager.getLogger(CachingAvroGenericStoreClient.class);
+  /**
+   * Heap size of {@link CachedValue} itself, with compressed oops: a 12-byte header, two ints and a reference, aligned
+   * to 8 bytes.
+   */
+  private static final int CACHED_VALUE_SIZE_IN_BYTES = 24;
+  /**
+   * Heap size of the Caffeine node of a weighted entry which expires after write: a 12-byte header, the key and value
+   * references, the weights, the queue type, the write time and the links of the access and write order queues,
+   * aligned to 8 bytes.
+   */
+  private static final int CACHE_NODE_SIZE_IN_BYTES = 56;
+  /**
+   * Heap size of the hash table node pointing at the Caffeine node: a 12-byte header, the hash and three references,
+   * aligned to 8 bytes.
+   */
+  private static final int HASH_TABLE_NODE_SIZE_IN_BYTES = 32;
+  /**
+   * Per-entry overhead which is added to the estimated size of the key and the value in the weight of each entry, so
+   * that caching many tiny values cannot blow up the heap usage.
+   */
+  static final int ENTRY_OVERHEAD_IN_BYTES =
+      CACHED_VALUE_SIZE_IN_BYTES + CACHE_NODE_SIZE_IN_BYTES + HASH_TABLE_NODE_SIZE_IN_BYTES;
+  /**
+   * Rough heap size of a boxed primitive, or of an object whose size is not estimated field by field.
+   */
+  private static final int OBJECT_SIZE_IN_BYTES = 16;
+
+  private final StoreMetadata metadata;
+  private final Cache<K, CachedValue<V>> cache;
+  private final AtomicInteger cachedVersion = new AtomicInteger(-1);
+  private final FastClientStats clientStatsForSingleGet;
+  private final FastClientStats clientStatsForStreamingBatchGet;
+
+  public CachingAvroGenericStoreClient(
+      InternalAvroStoreClient<K, V> delegate,
+      ClientConfig clientConfig,
+      StoreMetadata metadata) {
+    this(delegate, clientConfig, metadata, SystemTime.INSTANCE);
+  }
+
+  CachingAvroGenericStoreClient(
+      InternalAvroStoreClient<K, V> delegate,
+      ClientConfig clientConfig,
+      StoreMetadata metadata,
+      Time time) {
+    super(delegate, clientConfig);
+    this.metadata = metadata;
+    long maxSizeInBytes = clientConfig.getHotKeyCacheMaxSizeInBytes();
+    long ttlInMs = clientConfig.getHotKeyCacheTtlInMs();
+    Caffeine<Object, Object> builder =
+        Caffeine.newBuilder().maximumWeight(maxSizeInBytes).ticker(time::getNanoseconds);
+    if (ttlInMs > 0) {
+      builder.expireAfterWrite(ttlInMs, TimeUnit.MILLISECONDS);
+    }
+    this.cache = builder.<K, CachedValue<V>>weigher(
+        (key, value) -> estimateSizeInBytes(key) + value.sizeInBytes + ENTRY_OVERHEAD_IN_BYTES).build();
+    this.clientStatsForSingleGet = clientConfig.getStats(RequestType.SINGLE_GET);
+    this.clientStatsForStreamingBatchGet = clientConfig.getStats(RequestType.MULTI_GET_STREAMING);
+    LOGGER.info(
+        "Initialized hot key cache for store: {} with capacity: {} bytes and TTL: {} ms",
+        clientConfig.getStoreName(),
+        maxSizeInBytes,
+        ttlInMs);
+  }
+
+  @Override
+  protected CompletableFuture<V> get(GetRequestContext requestContext, K key) throws VeniceClientException {
+    int currentVersion = getCurrentVersion();
+    CachedValue<V> cachedValue = lookup(key, currentVersion);
+    if (cachedValue != null) {
+      clientStatsForSingleGet.recordHotKeyCacheHitKeyCount(1);
+      return CompletableFuture.completedFuture(cachedValue.value);
+    }
+    CompletableFuture<V> valueFuture = super.get(requestContext, key);
+    valueFuture.thenAccept(value -> populate(requestContext, key, value));
+    return valueFuture;
+  }
+
+  @Override
+  protected void streamingBatchGet(
+      BatchGetRequestContext<K, V> requestContext,
+      Set<K> keys,
+      StreamingCallback<K, V> callback) {
+    int currentVersion = getCurrentVersion();
+    Set<K> missingKeys = new HashSet<>(keys.size());
+    int hitKeyCount = 0;
+    for (K key: keys) {
+      CachedValue<V> cachedValue = lookup(key, currentVersion);
+      if (cachedValue == null) {
+        missingKeys.add(key);
+      } else {
+        hitKeyCount++;
+        callback.onRecordReceived(key, cachedValue.value);
+      }
+    }
+    if (hitKeyCount > 0) {
+      clientStatsForStreamingBatchGet.recordHotKeyCacheHitKeyCount(hitKeyCount);
+    }
+    if (missingKeys.isEmpty()) {
+      callback.onCompletion(Optional.empty());
+      return;
+    }
+    super.streamingBatchGet(requestContext, missingKeys, new StreamingCallback<K, V>() {
+      @Override
+      public void onRecordReceived(K key, V value) {
+        populate(requestContext, key, value);
+        callback.onRecordReceived(key, value);
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        callback.onCompletion(exception);
+      }
+    });
+  }
+
+  /**
+   * Returns the current version of the store, and drops all the cached entries if it has changed since the last time.
+   */
+  private int getCurrentVersion() {
+    int currentVersion = metadata.getCurrentStoreVersion();
+    int previousVersion = cachedVersion.get();
+    if (previousVersion != currentVersion && cachedVersion.compareAndSet(previousVersion, currentVersion)) {
+      if (previousVersion != -1) {
+        LOGGER.info(
+            "Dropping the hot key cache of store: {} since its current version changed from {} to {}",
+            getStoreName(),
+            previousVersion,
+            currentVersion);
+      }
+      cache.invalidateAll();
+    }
+    return currentVersion;
+  }
+
+  private CachedValue<V> lookup(K key, int currentVersion) {
+    CachedValue<V> cachedValue = cache.getIfPresent(key);
+    if (cachedValue == null || cachedValue.version != currentVersion) {
+      return null;
+    }
+    return cachedValue;
+  }
+
+  private void populate(RequestContext requestContext, K key, V value) {
+    /**
+     * Skip the values of a version which is no longer current, since the version could be swapped while the request
+     * was in flight.
+     */
+    if (value == null || requestContext.currentVersion != getCurrentVersion()) {
+      return;
+    }
+    cache.put(key, new CachedValue<>(requestContext.currentVersion, value, estimateSizeInBytes(value)));
+  }
+
+  /**
+   * Visible for testing.
+   */
+  long getEstimatedEntryCount() {
+    cache.cleanUp();
+    return cache.estimatedSize();
+  }
+
+  /**
+   * Estimates the heap size of an Avro key or value, which doesn't need to be accurate, but should grow along with the
+   * actual size, so that the cache stays roughly within its capacity.
+   */
+  static int estimateSizeInBytes(Object object) {
+    if (object == null) {
+      return 0;
+    }
+    if (object instanceof CharSequence) {
+      // Utf8 keeps one byte per ASCII char, while String keeps up to two.
+      return OBJECT_SIZE_IN_BYTES + 2 * ((CharSequence) object).length();
+    }
+    if (object instanceof ByteBuffer) {
+      return OBJECT_SIZE_IN_BYTES + ((ByteBuffer) object).remaining();
+    }
+    if (object instanceof GenericFixed) {
+      return OBJECT_SIZE_IN_BYTES + ((GenericFixed) object).bytes().length;
+    }
+    if (object instanceof IndexedRecord) {
+      IndexedRecord record = (IndexedRecord) object;
+      int size = OBJECT_SIZE_IN_BYTES;
+      int fieldCount = record.getSchema().getFields().size();
+      for (int i = 0; i < fieldCount; i++) {
+        size += estimateSizeInBytes(record.get(i));
+      }
+      return size;
+    }
+    if (object instanceof Collection) {
+      int size = OBJECT_SIZE_IN_BYTES;
+      for (Object element: (Collection<?>) object) {
+        size += estimateSizeInBytes(element);
+      }
+      return size;
+    }
+    if (object instanceof Map) {
+      int size = OBJECT_SIZE_IN_BYTES;
+      for (Map.Entry<?, ?> entry: ((Map<?, ?>) object).entrySet()) {
+        size += OBJECT_SIZE_IN_BYTES + estimateSizeInBytes(entry.getKey()) + estimateSizeInBytes(entry.getValue());
+      }
+      return size;
+    }
+    return OBJECT_SIZE_IN_BYTES;
+  }
+
+  private static class CachedValue<V> {
+    private final int version;
+    private final V value;
+    private final int sizeInBytes;
+
+    private CachedValue(int version, V value, int sizeInBytes) {
+      this.version = version;
+      this.value = value;
+      this.sizeInBytes = sizeInBytes;
+    }
+  }
+}
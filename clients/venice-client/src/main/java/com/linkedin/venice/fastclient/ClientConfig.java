@@ -91,9 +91,28 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
    * retry budget for the next minute and so on.
    */
   private final long longTailRetryBudgetEnforcementWindowInMs;
+  /**
+   * The max fraction of the user requests which are allowed to trigger long tail retry.
+   */
+  private final double longTailRetryBudgetPercentDecimal;
+  /**
+   * When enabled, the long tail retry threshold of each request type follows the given percentile of the latency of the
+   * recent requests of the store, and the fixed thresholds above are only used until enough requests are sampled.
+   */
+  private final boolean longTailRetryDynamicThresholdEnabled;
+  private final double longTailRetryDynamicThresholdPercentile;
 
   private boolean projectionFieldValidation;
   private Set<String> harClusters;
+  private final long hotKeyCacheMaxSizeInBytes;
+  private final long hotKeyCacheTtlInMs;
+  /**
+   * When enabled, the concurrent single-gets are collected into batch-get requests, which are sent once the window
+   * elapses or once the batch reaches the max key count, whichever comes first.
+   */
+  private final boolean singleGetBatchingEnabled;
+  private final int singleGetBatchingWindowInMicroSeconds;
+  private final int singleGetBatchingMaxKeyCount;
 
   private final MetricsRepository metricsRepository;
 
@@ -132,7 +151,15 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       GrpcClientConfig grpcClientConfig,
       boolean projectionFieldValidation,
       long longTailRetryBudgetEnforcementWindowInMs,
-      Set<String> harClusters) {
+      double longTailRetryBudgetPercentDecimal,
+      boolean longTailRetryDynamicThresholdEnabled,
+      double longTailRetryDynamicThresholdPercentile,
+      Set<String> harClusters,
+      long hotKeyCacheMaxSizeInBytes,
+      long hotKeyCacheTtlInMs,
+      boolean singleGetBatchingEnabled,
+      int singleGetBatchingWindowInMicroSeconds,
+      int singleGetBatchingMaxKeyCount) {
     if (storeName == null || storeName.isEmpty()) {
       throw new VeniceClientException("storeName param shouldn't be empty");
     }
@@ -235,6 +262,29 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       }
     }
 
+    if (longTailRetryBudgetPercentDecimal <= 0 || longTailRetryBudgetPercentDecimal > 1) {
+      throw new VeniceClientException(
+          "longTailRetryBudgetPercentDecimal must be in (0, 1], but got: " + longTailRetryBudgetPercentDecimal);
+    }
+    if (longTailRetryDynamicThresholdEnabled
+        && (longTailRetryDynamicThresholdPercentile <= 0 || longTailRetryDynamicThresholdPercentile >= 1)) {
+      throw new VeniceClientException(
+          "longTailRetryDynamicThresholdPercentile must be in (0, 1), but got: "
+              + longTailRetryDynamicThresholdPercentile);
+    }
+
+    if (singleGetBatchingEnabled) {
+      if (singleGetBatchingWindowInMicroSeconds <= 0) {
+        throw new VeniceClientException(
+            "singleGetBatchingWindowInMicroSeconds must be positive, but got: "
+                + singleGetBatchingWindowInMicroSeconds);
+      }
+      if (singleGetBatchingMaxKeyCount <= 1) {
+        throw new VeniceClientException(
+            "singleGetBatchingMaxKeyCount must be bigger than 1, but got: " + singleGetBatchingMaxKeyCount);
+      }
+    }
+
     // TODO: Need to check whether this case applies for BatchGet
     if (this.speculativeQueryEnabled && this.longTailRetryEnabledForSingleGet) {
       throw new VeniceClientException(
@@ -262,7 +312,15 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
 
     this.projectionFieldValidation = projectionFieldValidation;
     this.longTailRetryBudgetEnforcementWindowInMs = longTailRetryBudgetEnforcementWindowInMs;
+    this.longTailRetryBudgetPercentDecimal = longTailRetryBudgetPercentDecimal;
+    this.longTailRetryDynamicThresholdEnabled = longTailRetryDynamicThresholdEnabled;
+    this.longTailRetryDynamicThresholdPercentile = longTailRetryDynamicThresholdPercentile;
     this.harClusters = harClusters;
+    this.hotKeyCacheMaxSizeInBytes = hotKeyCacheMaxSizeInBytes;
+    this.hotKeyCacheTtlInMs = hotKeyCacheTtlInMs;
+    this.singleGetBatchingEnabled = singleGetBatchingEnabled;
+    this.singleGetBatchingWindowInMicroSeconds = singleGetBatchingWindowInMicroSeconds;
+    this.singleGetBatchingMaxKeyCount = singleGetBatchingMaxKeyCount;
   }
 
   public String getStoreName() {
@@ -406,10 +464,46 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     return longTailRetryBudgetEnforcementWindowInMs;
   }
 
+  public double getLongTailRetryBudgetPercentDecimal() {
+    return longTailRetryBudgetPercentDecimal;
+  }
+
+  public boolean isLongTailRetryDynamicThresholdEnabled() {
+    return longTailRetryDynamicThresholdEnabled;
+  }
+
+  public double getLongTailRetryDynamicThresholdPercentile() {
+    return longTailRetryDynamicThresholdPercentile;
+  }
+
   public Set<String> getHarClusters() {
     return Collections.unmodifiableSet(harClusters);
   }
 
+  public boolean isHotKeyCacheEnabled() {
+    return hotKeyCacheMaxSizeInBytes > 0;
+  }
+
+  public long getHotKeyCacheMaxSizeInBytes() {
+    return hotKeyCacheMaxSizeInBytes;
+  }
+
+  public long getHotKeyCacheTtlInMs() {
+    return hotKeyCacheTtlInMs;
+  }
+
+  public boolean isSingleGetBatchingEnabled() {
+    return singleGetBatchingEnabled;
+  }
+
+  public int getSingleGetBatchingWindowInMicroSeconds() {
+    return singleGetBatchingWindowInMicroSeconds;
+  }
+
+  public int getSingleGetBatchingMaxKeyCount() {
+    return singleGetBatchingMaxKeyCount;
+  }
+
   public ClientConfig setProjectionFieldValidationEnabled(boolean projectionFieldValidation) {
     this.projectionFieldValidation = projectionFieldValidation;
     return this;
@@ -460,9 +554,23 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     private boolean projectionFieldValidation = true;
 
     private long longTailRetryBudgetEnforcementWindowInMs = 60000; // 1 minute
+    // Only 10 percent of the user requests are allowed to trigger long tail retry by default.
+    private double longTailRetryBudgetPercentDecimal = 0.1d;
+    private boolean longTailRetryDynamicThresholdEnabled = false;
+    private double longTailRetryDynamicThresholdPercentile = 0.95d;
 
     private Set<String> harClusters = Collections.EMPTY_SET;
 
+    /**
+     * The hot key cache is disabled by default. The TTL only matters for hybrid stores, whose current version keeps
+     * changing, and it is disabled by default as well.
+     */
+    private long hotKeyCacheMaxSizeInBytes = 0;
+    private long hotKeyCacheTtlInMs = -1;
+    private boolean singleGetBatchingEnabled = false;
+    private int singleGetBatchingWindowInMicroSeconds = 500;
+    private int singleGetBatchingMaxKeyCount = 100;
+
     public ClientConfigBuilder<K, V, T> setStoreName(String storeName) {
       this.storeName = storeName;
       return this;
@@ -647,7 +755,24 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
 
     public ClientConfigBuilder<K, V, T> setLongTailRetryBudgetEnforcementWindowInMs(
         long longTailRetryBudgetEnforcementWindowInMs) {
-      this.longTailRetryBudgetEnforcementWindowInMs = longTailRetryThresholdForBatchGetInMicroSeconds;
+      this.longTailRetryBudgetEnforcementWindowInMs = longTailRetryBudgetEnforcementWindowInMs;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setLongTailRetryBudgetPercentDecimal(double longTailRetryBudgetPercentDecimal) {
+      this.longTailRetryBudgetPercentDecimal = longTailRetryBudgetPercentDecimal;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setLongTailRetryDynamicThresholdEnabled(
+        boolean longTailRetryDynamicThresholdEnabled) {
+      this.longTailRetryDynamicThresholdEnabled = longTailRetryDynamicThresholdEnabled;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setLongTailRetryDynamicThresholdPercentile(
+        double longTailRetryDynamicThresholdPercentile) {
+      this.longTailRetryDynamicThresholdPercentile = longTailRetryDynamicThresholdPercentile;
       return this;
     }
 
@@ -656,6 +781,32 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       return this;
     }
 
+    public ClientConfigBuilder<K, V, T> setHotKeyCacheMaxSizeInBytes(long hotKeyCacheMaxSizeInBytes) {
+      this.hotKeyCacheMaxSizeInBytes = hotKeyCacheMaxSizeInBytes;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setHotKeyCacheTtlInMs(long hotKeyCacheTtlInMs) {
+      this.hotKeyCacheTtlInMs = hotKeyCacheTtlInMs;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setSingleGetBatchingEnabled(boolean singleGetBatchingEnabled) {
+      this.singleGetBatchingEnabled = singleGetBatchingEnabled;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setSingleGetBatchingWindowInMicroSeconds(
+        int singleGetBatchingWindowInMicroSeconds) {
+      this.singleGetBatchingWindowInMicroSeconds = singleGetBatchingWindowInMicroSeconds;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setSingleGetBatchingMaxKeyCount(int singleGetBatchingMaxKeyCount) {
+      this.singleGetBatchingMaxKeyCount = singleGetBatchingMaxKeyCount;
+      return this;
+    }
+
     public ClientConfigBuilder<K, V, T> clone() {
       return new ClientConfigBuilder().setStoreName(storeName)
           .setR2Client(r2Client)
@@ -692,7 +843,15 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
           .setGrpcClientConfig(grpcClientConfig)
           .setProjectionFieldValidationEnabled(projectionFieldValidation)
           .setLongTailRetryBudgetEnforcementWindowInMs(longTailRetryBudgetEnforcementWindowInMs)
-          .setHARClusters(harClusters);
+          .setLongTailRetryBudgetPercentDecimal(longTailRetryBudgetPercentDecimal)
+          .setLongTailRetryDynamicThresholdEnabled(longTailRetryDynamicThresholdEnabled)
+          .setLongTailRetryDynamicThresholdPercentile(longTailRetryDynamicThresholdPercentile)
+          .setHARClusters(harClusters)
+          .setHotKeyCacheMaxSizeInBytes(hotKeyCacheMaxSizeInBytes)
+          .setHotKeyCacheTtlInMs(hotKeyCacheTtlInMs)
+          .setSingleGetBatchingEnabled(singleGetBatchingEnabled)
+          .setSingleGetBatchingWindowInMicroSeconds(singleGetBatchingWindowInMicroSeconds)
+          .setSingleGetBatchingMaxKeyCount(singleGetBatchingMaxKeyCount);
     }
 
     public ClientConfig<K, V, T> build() {
@@ -731,7 +890,15 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
           grpcClientConfig,
           projectionFieldValidation,
           longTailRetryBudgetEnforcementWindowInMs,
-          harClusters);
+          longTailRetryBudgetPercentDecimal,
+          longTailRetryDynamicThresholdEnabled,
+          longTailRetryDynamicThresholdPercentile,
+          harClusters,
+          hotKeyCacheMaxSizeInBytes,
+          hotKeyCacheTtlInMs,
+          singleGetBatchingEnabled,
+          singleGetBatchingWindowInMicroSeconds,
+          singleGetBatchingMaxKeyCount);
     }
   }
 }
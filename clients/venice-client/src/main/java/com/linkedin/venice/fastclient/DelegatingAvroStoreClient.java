@@ -44,14 +44,24 @@ import org.apache.avro.Schema;
  * serialization/de-serialization
  *
  * <br><br>
+ * Layer 1.5:<br>
+ * {@link BatchingAvroGenericStoreClient} extends {@link DelegatingAvroStoreClient} => Adds optional batching of the
+ * concurrent single-gets into batch-gets on top of Layer 1.
+ *
+ * <br><br>
  * Layer 2:<br>
  * {@link RetriableAvroGenericStoreClient} extends {@link DelegatingAvroStoreClient} => Adds optional retry ability on
- * top of DispatchingAvroGenericStoreClient
+ * top of Layer 1.5 or Layer 1
+ *
+ * <br><br>
+ * Layer 2.5:<br>
+ * {@link CachingAvroGenericStoreClient} extends {@link DelegatingAvroStoreClient} => Adds an optional in-process cache
+ * of the hot keys on top of Layer 2 or Layer 1.
  *
  * <br><br>
  * Layer 3:<br>
- * {@link StatsAvroGenericStoreClient} extends {@link DelegatingAvroStoreClient} => Adds stats on top of Layer 2 or
- * Layer 1. There is no option to disable it, but if needed, can be disabled.
+ * {@link StatsAvroGenericStoreClient} extends {@link DelegatingAvroStoreClient} => Adds stats on top of Layer 2.5,
+ * Layer 2 or Layer 1. There is no option to disable it, but if needed, can be disabled.
  *
  * <br><br>
  * Layer 4:<br>
@@ -0,0 +1,93 @@
+package com.linkedin.venice.fastclient;
+
+import com.linkedin.venice.fastclient.stats.FastClientStats;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * This class derives the long tail retry threshold of one request type from a latency percentile of the recent
+ * requests of the store, instead of a fixed threshold, which is either too low, and wastes retries, or too high, and
+ * doesn't cut the tail, as the latency of the store changes over time.
+ *
+ * The latency of the original requests is recorded in a log-linear histogram, which has 8 buckets for every power of
+ * two, so the percentile is off by at most 12.5%, and which is cheap to update concurrently. {@link #refresh()} is
+ * expected to be called periodically: it computes the percentile of the latency recorded since the previous refresh,
+ * and starts a new window. The threshold doesn't change when too few requests are recorded in a window, and the
+ * configured fixed threshold is used until the first window has enough samples.
+ */
+class DynamicLongTailRetryThreshold {
+  static final int MIN_SAMPLE_COUNT = 100;
+  /**
+   * Retrying faster than this is mostly triggered by noise, such as a context switch, rather than a slow replica.
+   */
+  static final int MIN_THRESHOLD_IN_MICRO_SECONDS = 100;
+
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKET_COUNT = 64 * SUB_BUCKET_COUNT;
+
+  private final double percentile;
+  private final FastClientStats stats;
+  private volatile AtomicLongArray histogram = new AtomicLongArray(BUCKET_COUNT);
+  private volatile int thresholdInMicroSeconds;
+
+  DynamicLongTailRetryThreshold(double percentile, int initialThresholdInMicroSeconds, FastClientStats stats) {
+    this.percentile = percentile;
+    this.thresholdInMicroSeconds = initialThresholdInMicroSeconds;
+    this.stats = stats;
+  }
+
+  int getThresholdInMicroSeconds() {
+    return thresholdInMicroSeconds;
+  }
+
+  void recordLatency(long latencyInMicroSeconds) {
+    histogram.incrementAndGet(getBucketIndex(Math.max(latencyInMicroSeconds, 0)));
+  }
+
+  /**
+   * Recomputes the threshold out of the latency recorded since the last refresh, and starts a new window.
+   */
+  void refresh() {
+    AtomicLongArray window = histogram;
+    histogram = new AtomicLongArray(BUCKET_COUNT);
+    long[] counts = new long[BUCKET_COUNT];
+    long totalCount = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counts[i] = window.get(i);
+      totalCount += counts[i];
+    }
+    if (totalCount < MIN_SAMPLE_COUNT) {
+      return;
+    }
+    long targetCount = (long) Math.ceil(totalCount * percentile);
+    long count = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      count += counts[i];
+      if (count >= targetCount) {
+        long threshold = Math.min(getBucketUpperBound(i), Integer.MAX_VALUE);
+        thresholdInMicroSeconds = (int) Math.max(threshold, MIN_THRESHOLD_IN_MICRO_SECONDS);
+        stats.recordLongTailRetryThreshold(thresholdInMicroSeconds / 1000d);
+        return;
+      }
+    }
+  }
+
+  static int getBucketIndex(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+    return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  static long getBucketUpperBound(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int shift = index / SUB_BUCKET_COUNT - 1;
+    int subBucket = index % SUB_BUCKET_COUNT;
+    return ((long) (SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+  }
+}
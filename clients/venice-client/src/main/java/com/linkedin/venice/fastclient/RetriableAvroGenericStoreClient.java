@@ -9,6 +9,7 @@ import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.RetryManager;
+import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.util.Collections;
@@ -29,9 +30,12 @@ import org.apache.logging.log4j.Logger;
  * 1. The original request latency exceeds the retry threshold.
  * 2. The original request fails.
  *
+ * The retry threshold is either fixed per request type, or derived from a latency percentile of the recent requests of
+ * the store, see {@link DynamicLongTailRetryThreshold}. Either way, the long tail retries are capped by a budget, which
+ * is a fraction of the user requests.
+ *
  * TODO:
- * 1. Limit the retry volume.
- * 2. Leverage some smart logic to avoid useless retry, such as retry triggered by heavy GC.
+ * 1. Leverage some smart logic to avoid useless retry, such as retry triggered by heavy GC.
  */
 public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreClient<K, V> {
   private static final String FAST_CLIENT_RETRY_MANAGER_THREAD_PREFIX = "Fast-client-retry-manager-thread";
@@ -51,9 +55,15 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
    */
   private RetryManager singleKeyLongTailRetryManager = null;
   private RetryManager multiKeyLongTailRetryManager = null;
+  /**
+   * The latency percentile based long tail retry thresholds, which are only set when
+   * {@link ClientConfig#isLongTailRetryDynamicThresholdEnabled()}.
+   */
+  private DynamicLongTailRetryThreshold singleGetDynamicRetryThreshold = null;
+  private DynamicLongTailRetryThreshold batchGetDynamicRetryThreshold = null;
+  private DynamicLongTailRetryThreshold computeDynamicRetryThreshold = null;
   private static final Logger LOGGER = LogManager.getLogger(RetriableAvroGenericStoreClient.class);
-  // Default value of 0.1 meaning only 10 percent of the user requests are allowed to trigger long tail retry
-  private static final double LONG_TAIL_RETRY_BUDGET_PERCENT_DECIMAL = 0.1d;
+  private static final long DYNAMIC_RETRY_THRESHOLD_REFRESH_INTERVAL_IN_MS = TimeUnit.SECONDS.toMillis(5);
   private static final String SINGLE_KEY_LONG_TAIL_RETRY_STATS_PREFIX = "single-key-long-tail-retry-manager-";
   private static final String MULTI_KEY_LONG_TAIL_RETRY_STATS_PREFIX = "multi-key-long-tail-retry-manager-";
 
@@ -81,7 +91,7 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
           clientConfig.getClusterStats().getMetricsRepository(),
           SINGLE_KEY_LONG_TAIL_RETRY_STATS_PREFIX + clientConfig.getStoreName(),
           clientConfig.getLongTailRetryBudgetEnforcementWindowInMs(),
-          LONG_TAIL_RETRY_BUDGET_PERCENT_DECIMAL,
+          clientConfig.getLongTailRetryBudgetPercentDecimal(),
           retryManagerExecutorService);
     }
     if (longTailRetryEnabledForBatchGet) {
@@ -89,9 +99,68 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
           clientConfig.getClusterStats().getMetricsRepository(),
           MULTI_KEY_LONG_TAIL_RETRY_STATS_PREFIX + clientConfig.getStoreName(),
           clientConfig.getLongTailRetryBudgetEnforcementWindowInMs(),
-          LONG_TAIL_RETRY_BUDGET_PERCENT_DECIMAL,
+          clientConfig.getLongTailRetryBudgetPercentDecimal(),
           retryManagerExecutorService);
     }
+    if (clientConfig.isLongTailRetryDynamicThresholdEnabled()) {
+      double percentile = clientConfig.getLongTailRetryDynamicThresholdPercentile();
+      if (longTailRetryEnabledForSingleGet) {
+        this.singleGetDynamicRetryThreshold = new DynamicLongTailRetryThreshold(
+            percentile,
+            longTailRetryThresholdForSingleGetInMicroSeconds,
+            clientConfig.getStats(RequestType.SINGLE_GET));
+      }
+      if (longTailRetryEnabledForBatchGet) {
+        this.batchGetDynamicRetryThreshold = new DynamicLongTailRetryThreshold(
+            percentile,
+            longTailRetryThresholdForBatchGetInMicroSeconds,
+            clientConfig.getStats(RequestType.MULTI_GET_STREAMING));
+      }
+      if (longTailRetryEnabledForCompute) {
+        this.computeDynamicRetryThreshold = new DynamicLongTailRetryThreshold(
+            percentile,
+            longTailRetryThresholdForComputeInMicroSeconds,
+            clientConfig.getStats(RequestType.COMPUTE_STREAMING));
+      }
+      retryManagerExecutorService.scheduleAtFixedRate(
+          this::refreshDynamicRetryThresholds,
+          DYNAMIC_RETRY_THRESHOLD_REFRESH_INTERVAL_IN_MS,
+          DYNAMIC_RETRY_THRESHOLD_REFRESH_INTERVAL_IN_MS,
+          TimeUnit.MILLISECONDS);
+      LOGGER.info(
+          "Enabled long tail retry threshold based on the p{} latency for store: {}",
+          percentile * 100,
+          clientConfig.getStoreName());
+    }
+  }
+
+  void refreshDynamicRetryThresholds() {
+    try {
+      for (DynamicLongTailRetryThreshold threshold: new DynamicLongTailRetryThreshold[] {
+          singleGetDynamicRetryThreshold, batchGetDynamicRetryThreshold, computeDynamicRetryThreshold }) {
+        if (threshold != null) {
+          threshold.refresh();
+        }
+      }
+    } catch (Exception e) {
+      LOGGER.error("Failed to refresh the long tail retry thresholds for store: {}", getStoreName(), e);
+    }
+  }
+
+  private static int getLongTailRetryThresholdInMicroSeconds(
+      DynamicLongTailRetryThreshold dynamicRetryThreshold,
+      int fixedThresholdInMicroSeconds) {
+    return dynamicRetryThreshold == null
+        ? fixedThresholdInMicroSeconds
+        : dynamicRetryThreshold.getThresholdInMicroSeconds();
+  }
+
+  private static void recordOriginalRequestLatency(
+      DynamicLongTailRetryThreshold dynamicRetryThreshold,
+      long startTimeInNS) {
+    if (dynamicRetryThreshold != null) {
+      dynamicRetryThreshold.recordLatency(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTimeInNS));
+    }
   }
 
   enum RetryType {
@@ -136,6 +205,7 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
    */
   @Override
   protected CompletableFuture<V> get(GetRequestContext requestContext, K key) throws VeniceClientException {
+    final long startTimeInNS = System.nanoTime();
     final CompletableFuture<V> originalRequestFuture = super.get(requestContext, key);
     if (!longTailRetryEnabledForSingleGet) {
       // if longTailRetry is not enabled for single get, simply return the original future
@@ -174,11 +244,14 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
     // Schedule the created task for long-tail retry
     TimeoutProcessor.TimeoutFuture timeoutFuture = timeoutProcessor.schedule(
         new RetryRunnable(requestContext, RetryType.LONG_TAIL_RETRY, retryTask),
-        longTailRetryThresholdForSingleGetInMicroSeconds,
+        getLongTailRetryThresholdInMicroSeconds(
+            singleGetDynamicRetryThreshold,
+            longTailRetryThresholdForSingleGetInMicroSeconds),
         TimeUnit.MICROSECONDS);
 
     originalRequestFuture.whenComplete((value, throwable) -> {
       if (throwable == null) {
+        recordOriginalRequestLatency(singleGetDynamicRetryThreshold, startTimeInNS);
         if (!timeoutFuture.isDone()) {
           timeoutFuture.cancel();
         }
@@ -232,6 +305,7 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
         requestContext,
         keys,
         callback,
+        batchGetDynamicRetryThreshold,
         longTailRetryThresholdForBatchGetInMicroSeconds,
         BatchGetRequestContext::new,
         super::streamingBatchGet);
@@ -255,6 +329,7 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
         requestContext,
         keys,
         callback,
+        computeDynamicRetryThreshold,
         longTailRetryThresholdForComputeInMicroSeconds,
         ComputeRequestContext::new,
         (requestContextInternal, internalKeys, internalCallback) -> {
@@ -278,7 +353,8 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
       R requestContext,
       Set<K> keys,
       StreamingCallback<K, RESPONSE> callback,
-      int longTailRetryThresholdInMicroSeconds,
+      DynamicLongTailRetryThreshold dynamicRetryThreshold,
+      int fixedLongTailRetryThresholdInMicroSeconds,
       RequestContextConstructor<K, V, R> requestContextConstructor,
       StreamingRequestExecutor<K, V, R, RESPONSE> streamingRequestExecutor) throws VeniceClientException {
     requestContext.retryContext = new MultiKeyRequestContext.RetryContext<K, V>();
@@ -338,8 +414,10 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
       }
     };
 
-    TimeoutProcessor.TimeoutFuture scheduledRetryTask =
-        timeoutProcessor.schedule(retryTask, longTailRetryThresholdInMicroSeconds, TimeUnit.MICROSECONDS);
+    TimeoutProcessor.TimeoutFuture scheduledRetryTask = timeoutProcessor.schedule(
+        retryTask,
+        getLongTailRetryThresholdInMicroSeconds(dynamicRetryThreshold, fixedLongTailRetryThresholdInMicroSeconds),
+        TimeUnit.MICROSECONDS);
 
     /**
      * Retry for streaming multi-key request is done at the request level. This mean we will perform one retry for the
@@ -347,18 +425,30 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
      * 1. If any of the route returned a too many requests 429 exception we will try our best to cancel all scheduled
      * retry and complete the final future. This means some routes could still be in progress, so we will assume those
      * will also soon fail with a 429.
-     * 2. If no 429 exceptions are caught after longTailRetryThresholdInMicroSeconds when the retry task is running then
+     * 2. If no 429 exceptions are caught after the long tail retry threshold when the retry task is running then
      * all incomplete keys whether due to long tail or errors (e.g. mis-routed) are retried.
      */
-    streamingRequestExecutor.trigger(
+    StreamingCallback<K, RESPONSE> originalRequestCallback = getStreamingCallback(
         requestContext,
-        keys,
-        getStreamingCallback(
-            requestContext,
-            finalRequestCompletionFuture,
-            savedException,
-            pendingKeysFuture,
-            scheduledRetryTask));
+        finalRequestCompletionFuture,
+        savedException,
+        pendingKeysFuture,
+        scheduledRetryTask);
+    final long startTimeInNS = System.nanoTime();
+    streamingRequestExecutor.trigger(requestContext, keys, new StreamingCallback<K, RESPONSE>() {
+      @Override
+      public void onRecordReceived(K key, RESPONSE value) {
+        originalRequestCallback.onRecordReceived(key, value);
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        if (!exception.isPresent()) {
+          recordOriginalRequestLatency(dynamicRetryThreshold, startTimeInNS);
+        }
+        originalRequestCallback.onCompletion(exception);
+      }
+    });
     multiKeyLongTailRetryManager.recordRequests(requestContext.numKeysInRequest);
 
     finalRequestCompletionFuture.whenComplete((ignore, finalException) -> {
@@ -201,6 +201,9 @@ public class StatsAvroGenericStoreClient<K, V> extends DelegatingAvroStoreClient
           if (!exceptionReceived) {
             if (getRequestContext.retryContext.retryWin) {
               clientStats.recordRetryRequestWin();
+              if (getRequestContext.retryContext.longTailRetryRequestTriggered) {
+                clientStats.recordLongTailRetryRequestWin();
+              }
               clientStats.recordRetryRequestSuccessKeyCount(1);
             }
           }
@@ -219,6 +222,8 @@ public class StatsAvroGenericStoreClient<K, V> extends DelegatingAvroStoreClient
             clientStats.recordRetryRequestSuccessKeyCount(retryRequestContext.numKeysCompleted.get());
             if (retryRequestContext.numKeysCompleted.get() > 0) {
               clientStats.recordRetryRequestWin();
+              // The retries of the multi-key requests are all long tail retries.
+              clientStats.recordLongTailRetryRequestWin();
             }
           }
         }
@@ -6,12 +6,15 @@ import com.linkedin.venice.client.store.AvroGenericStoreClient;
 import com.linkedin.venice.client.store.AvroSpecificStoreClient;
 import com.linkedin.venice.client.store.transport.D2TransportClient;
 import com.linkedin.venice.exceptions.VeniceUnsupportedOperationException;
+import com.linkedin.venice.fastclient.BatchingAvroGenericStoreClient;
+import com.linkedin.venice.fastclient.CachingAvroGenericStoreClient;
 import com.linkedin.venice.fastclient.ClientConfig;
 import com.linkedin.venice.fastclient.DispatchingAvroGenericStoreClient;
 import com.linkedin.venice.fastclient.DispatchingAvroSpecificStoreClient;
 import com.linkedin.venice.fastclient.DispatchingVsonStoreClient;
 import com.linkedin.venice.fastclient.DualReadAvroGenericStoreClient;
 import com.linkedin.venice.fastclient.DualReadAvroSpecificStoreClient;
+import com.linkedin.venice.fastclient.InternalAvroStoreClient;
 import com.linkedin.venice.fastclient.RetriableAvroGenericStoreClient;
 import com.linkedin.venice.fastclient.RetriableAvroSpecificStoreClient;
 import com.linkedin.venice.fastclient.StatsAvroGenericStoreClient;
@@ -63,22 +66,26 @@ public class ClientFactory {
     final DispatchingAvroGenericStoreClient<K, V> dispatchingStoreClient = clientConfig.isVsonStore()
         ? new DispatchingVsonStoreClient<>(storeMetadata, clientConfig)
         : new DispatchingAvroGenericStoreClient<>(storeMetadata, clientConfig);
-    StatsAvroGenericStoreClient<K, V> statsStoreClient;
+    InternalAvroStoreClient<K, V> innerStoreClient = dispatchingStoreClient;
+    if (clientConfig.isSingleGetBatchingEnabled()) {
+      innerStoreClient = new BatchingAvroGenericStoreClient<>(innerStoreClient, clientConfig);
+    }
     if (clientConfig.isLongTailRetryEnabledForSingleGet() || clientConfig.isLongTailRetryEnabledForBatchGet()
         || clientConfig.isLongTailRetryEnabledForCompute()) {
-      statsStoreClient = new StatsAvroGenericStoreClient<>(
-          /**
-           * Reuse the {@link TimeoutProcessor} from {@link InstanceHealthMonitor} to
-           * reduce the thread usage.
-           */
-          new RetriableAvroGenericStoreClient<>(
-              dispatchingStoreClient,
-              clientConfig,
-              storeMetadata.getInstanceHealthMonitor().getTimeoutProcessor()),
-          clientConfig);
-    } else {
-      statsStoreClient = new StatsAvroGenericStoreClient<>(dispatchingStoreClient, clientConfig);
+      /**
+       * Reuse the {@link TimeoutProcessor} from {@link InstanceHealthMonitor} to
+       * reduce the thread usage.
+       */
+      innerStoreClient = new RetriableAvroGenericStoreClient<>(
+          innerStoreClient,
+          clientConfig,
+          storeMetadata.getInstanceHealthMonitor().getTimeoutProcessor());
     }
+    if (clientConfig.isHotKeyCacheEnabled()) {
+      innerStoreClient = new CachingAvroGenericStoreClient<>(innerStoreClient, clientConfig, storeMetadata);
+    }
+    StatsAvroGenericStoreClient<K, V> statsStoreClient =
+        new StatsAvroGenericStoreClient<>(innerStoreClient, clientConfig);
 
     AvroGenericStoreClient<K, V> returningClient = statsStoreClient;
     if (clientConfig.isDualReadEnabled()) {
@@ -93,19 +100,22 @@ public class ClientFactory {
       ClientConfig clientConfig) {
     final DispatchingAvroSpecificStoreClient<K, V> dispatchingStoreClient =
         new DispatchingAvroSpecificStoreClient<>(storeMetadata, clientConfig);
-    StatsAvroSpecificStoreClient<K, V> statsStoreClient;
-
+    InternalAvroStoreClient<K, V> innerStoreClient = dispatchingStoreClient;
+    if (clientConfig.isSingleGetBatchingEnabled()) {
+      innerStoreClient = new BatchingAvroGenericStoreClient<>(innerStoreClient, clientConfig);
+    }
     if (clientConfig.isLongTailRetryEnabledForSingleGet() || clientConfig.isLongTailRetryEnabledForBatchGet()
         || clientConfig.isLongTailRetryEnabledForCompute()) {
-      statsStoreClient = new StatsAvroSpecificStoreClient<>(
-          new RetriableAvroSpecificStoreClient<>(
-              dispatchingStoreClient,
-              clientConfig,
-              storeMetadata.getInstanceHealthMonitor().getTimeoutProcessor()),
-          clientConfig);
-    } else {
-      statsStoreClient = new StatsAvroSpecificStoreClient<>(dispatchingStoreClient, clientConfig);
+      innerStoreClient = new RetriableAvroSpecificStoreClient<>(
+          innerStoreClient,
+          clientConfig,
+          storeMetadata.getInstanceHealthMonitor().getTimeoutProcessor());
+    }
+    if (clientConfig.isHotKeyCacheEnabled()) {
+      innerStoreClient = new CachingAvroGenericStoreClient<>(innerStoreClient, clientConfig, storeMetadata);
     }
+    StatsAvroSpecificStoreClient<K, V> statsStoreClient =
+        new StatsAvroSpecificStoreClient<>(innerStoreClient, clientConfig);
 
     AvroSpecificStoreClient<K, V> returningClient = statsStoreClient;
     if (clientConfig.isDualReadEnabled()) {
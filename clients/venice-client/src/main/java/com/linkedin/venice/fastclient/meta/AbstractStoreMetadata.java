@@ -40,6 +40,8 @@ public abstract class AbstractStoreMetadata implements StoreMetadata {
         return new HelixScatterGatherRoutingStrategy(instanceHealthMonitor);
       case LEAST_LOADED:
         return new LeastLoadedClientRoutingStrategy(this.instanceHealthMonitor);
+      case LATENCY_BASED:
+        return new LatencyBasedClientRoutingStrategy(this.instanceHealthMonitor);
       default:
         throw new VeniceClientException("Unexpected routing strategy type: " + clientRoutingStrategyType);
     }
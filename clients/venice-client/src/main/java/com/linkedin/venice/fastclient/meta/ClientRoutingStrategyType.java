@@ -6,7 +6,9 @@ package com.linkedin.venice.fastclient.meta;
  * 1. LEAST_LOADED: select replicas based on the least number of pending requests from the local client's perspective.
  * 2. HELIX_ASSISTED: select replicas prioritizing using hosts from the same helix/zone group to minimize request blast
  *    radius for batch gets.
+ * 3. LATENCY_BASED: select replicas based on the latency EWMA and the pending requests of each replica with the
+ *    power-of-two-choices, to steer the requests away from the slow replicas.
  */
 public enum ClientRoutingStrategyType {
-  LEAST_LOADED, HELIX_ASSISTED
+  LEAST_LOADED, HELIX_ASSISTED, LATENCY_BASED
 }
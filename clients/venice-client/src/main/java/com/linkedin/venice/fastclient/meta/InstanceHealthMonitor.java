@@ -11,6 +11,7 @@ import com.linkedin.alpini.base.concurrency.TimeoutProcessor;
 import com.linkedin.venice.client.exceptions.VeniceClientHttpException;
 import com.linkedin.venice.client.store.transport.TransportClientResponse;
 import com.linkedin.venice.fastclient.ClientConfig;
+import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.concurrent.ChainedCompletableFuture;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.io.Closeable;
@@ -38,14 +39,21 @@ import org.apache.logging.log4j.Logger;
  * 2. For the error response, the pending request counter reset will be delayed, which is a way to downgrade the instance.
  * 3. When the pending request counter exceeds the pre-defined threshold, the instance will be completely blocked.
  *
+ * It also keeps a peak EWMA of the response latency of each instance, which lets the latency based routing strategy
+ * steer the requests away from a slow instance long before it gets marked unhealthy or blocked.
  */
 public class InstanceHealthMonitor implements Closeable {
   private static final Logger LOGGER = LogManager.getLogger(InstanceHealthMonitor.class);
+  /**
+   * The weight of a latency sample in {@link LatencyEwma} decays by e every this amount of time.
+   */
+  static final long LATENCY_EWMA_DECAY_TIME_NS = TimeUnit.SECONDS.toNanos(10);
   private final ClientConfig clientConfig;
 
   // Map/set of per store replica instances
   private final Map<String, Integer> pendingRequestCounterMap = new VeniceConcurrentHashMap<>();
   private final Set<String> unhealthyInstanceSet = new ConcurrentSkipListSet<>();
+  private final Map<String, LatencyEwma> latencyEwmaMap = new VeniceConcurrentHashMap<>();
 
   private final TimeoutProcessor timeoutProcessor;
   private final Consumer<String> counterResetConsumer;
@@ -94,6 +102,7 @@ public class InstanceHealthMonitor implements Closeable {
       String instance,
       CompletableFuture<TransportClientResponse> transportFuture) {
     CompletableFuture<Integer> requestFuture = new CompletableFuture<>();
+    long requestStartTimeNs = System.nanoTime();
     pendingRequestCounterMap.compute(instance, (k, v) -> {
       // currently tracking the number of requests as 1 for single get
       // and 1 for each route requests in batchGet scatter.
@@ -125,6 +134,12 @@ public class InstanceHealthMonitor implements Closeable {
       if (finalTimeoutFuture != null && !finalTimeoutFuture.isDone()) {
         finalTimeoutFuture.cancel();
       }
+      /**
+       * The latency of the error responses is recorded as well, and a leaked request is recorded with the cleanup
+       * threshold, which makes the latency of an instance failing to respond in time jump right away.
+       */
+      long responseTimeNs = System.nanoTime();
+      recordLatency(instance, LatencyUtils.convertNSToMS(responseTimeNs - requestStartTimeNs), responseTimeNs);
 
       long counterResetDelayMS = 0;
       boolean unhealthyInstance = false;
@@ -218,6 +233,18 @@ public class InstanceHealthMonitor implements Closeable {
     return pendingRequestCounter == null ? 0 : pendingRequestCounter;
   }
 
+  /**
+   * @return the peak EWMA of the response latency of the given instance, or 0 if no response has been received from it.
+   */
+  public double getLatencyEwmaInMs(String instance) {
+    LatencyEwma latencyEwma = latencyEwmaMap.get(instance);
+    return latencyEwma == null ? 0 : latencyEwma.getValueInMs();
+  }
+
+  void recordLatency(String instance, double latencyInMs, long timeNs) {
+    latencyEwmaMap.computeIfAbsent(instance, ignored -> new LatencyEwma()).record(latencyInMs, timeNs);
+  }
+
   @Override
   public void close() throws IOException {
     if (timeoutProcessor != null) {
@@ -229,4 +256,31 @@ public class InstanceHealthMonitor implements Closeable {
       }
     }
   }
+
+  /**
+   * A peak EWMA, which jumps to a latency sample higher than the current value right away, so that a slow instance
+   * is penalized immediately, while it decays towards the lower samples over time, so that the instance recovers its
+   * share of traffic gradually.
+   */
+  static class LatencyEwma {
+    private double valueInMs;
+    private long lastUpdateTimeNs;
+    private boolean initialized;
+
+    synchronized void record(double latencyInMs, long timeNs) {
+      if (!initialized || latencyInMs > valueInMs) {
+        valueInMs = latencyInMs;
+        initialized = true;
+      } else {
+        long elapsedNs = Math.max(timeNs - lastUpdateTimeNs, 0);
+        double weight = Math.exp(-(double) elapsedNs / LATENCY_EWMA_DECAY_TIME_NS);
+        valueInMs = valueInMs * weight + latencyInMs * (1 - weight);
+      }
+      lastUpdateTimeNs = timeNs;
+    }
+
+    synchronized double getValueInMs() {
+      return valueInMs;
+    }
+  }
 }
@@ -0,0 +1,120 @@
+package com.linkedin.venice.fastclient.meta;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+
+/**
+ * This strategy is trying to route the request to the fastest instances, in the style of the power-of-two-choices
+ * load balancing with a peak EWMA of the latency (P2C-EWMA):
+ * 1. The cost of an instance is its latency EWMA tracked by {@link InstanceHealthMonitor}, multiplied by the number
+ *    of its pending requests plus one, so that both a slow instance, e.g. one with a slow disk or a long GC pause, and
+ *    an instance with a long queue are avoided.
+ * 2. Each replica is selected by picking two random candidates and keeping the cheaper one, which avoids sending all
+ *    the requests to the single cheapest instance, and keeps sending a few requests to the slow instances, so that
+ *    they could get their share of traffic back once they recover.
+ * 3. Same as {@link LeastLoadedClientRoutingStrategy}, this strategy will skip any blocked instance, and when any
+ *    selected instance is marked as unhealthy, it will try to back-fill with the healthy instances.
+ */
+public class LatencyBasedClientRoutingStrategy extends AbstractClientRoutingStrategy {
+  /**
+   * An instance which has pending requests but no latency sample yet is taken as this many times slower than the
+   * slowest candidate, to not pile up requests on a new instance before learning how fast it is. The cost still grows
+   * with its pending requests, so that the instances without a sample don't all tie.
+   */
+  static final double UNKNOWN_LATENCY_PENALTY_FACTOR = 2;
+  /**
+   * The latency assumed for the instances without a sample when none of the candidates has one yet.
+   */
+  static final double MIN_UNKNOWN_LATENCY_IN_MS = 1;
+
+  private final InstanceHealthMonitor instanceHealthMonitor;
+
+  public LatencyBasedClientRoutingStrategy(InstanceHealthMonitor instanceHealthMonitor) {
+    this.instanceHealthMonitor = instanceHealthMonitor;
+  }
+
+  @Override
+  public List<String> getReplicas(long ignored, List<String> replicas, int requiredReplicaCount) {
+    if (replicas.isEmpty()) {
+      return Collections.emptyList();
+    }
+    List<String> availReplicas = new ArrayList<>(replicas.size());
+    for (String replica: replicas) {
+      if (!instanceHealthMonitor.isInstanceBlocked(replica)) {
+        availReplicas.add(replica);
+      }
+    }
+    if (requiredReplicaCount >= availReplicas.size()) {
+      return availReplicas;
+    }
+
+    double unknownLatencyInMs = getUnknownLatencyInMs(availReplicas);
+    List<String> selectedReplicas = new ArrayList<>(requiredReplicaCount);
+    int selectedUnhealthyReplicaCnt = 0;
+    for (int i = 0; i < requiredReplicaCount; ++i) {
+      String currentReplica = pickReplica(availReplicas, unknownLatencyInMs);
+      selectedReplicas.add(currentReplica);
+      if (!instanceHealthMonitor.isInstanceHealthy(currentReplica)) {
+        ++selectedUnhealthyReplicaCnt;
+      }
+    }
+    if (selectedUnhealthyReplicaCnt > 0) {
+      /**
+       * Check {@link LeastLoadedClientRoutingStrategy} for the reasoning of back-filling the unhealthy replicas.
+       */
+      availReplicas.removeIf(replica -> !instanceHealthMonitor.isInstanceHealthy(replica));
+      for (int i = 0; i < selectedUnhealthyReplicaCnt && !availReplicas.isEmpty(); ++i) {
+        selectedReplicas.add(pickReplica(availReplicas, unknownLatencyInMs));
+      }
+    }
+    return selectedReplicas;
+  }
+
+  /**
+   * Picks the cheaper one out of two random replicas, and removes it from the given candidates.
+   */
+  private String pickReplica(List<String> candidates, double unknownLatencyInMs) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int size = candidates.size();
+    int first = random.nextInt(size);
+    int picked = first;
+    if (size > 1) {
+      int second = random.nextInt(size - 1);
+      if (second >= first) {
+        ++second;
+      }
+      if (getCost(candidates.get(second), unknownLatencyInMs) < getCost(candidates.get(first), unknownLatencyInMs)) {
+        picked = second;
+      }
+    }
+    // Swap the picked replica with the last one, to remove it cheaply.
+    String pickedReplica = candidates.get(picked);
+    candidates.set(picked, candidates.get(size - 1));
+    candidates.remove(size - 1);
+    return pickedReplica;
+  }
+
+  /**
+   * @return the latency to assume for the candidates without a latency sample, a multiple of the highest latency EWMA
+   *         among the candidates.
+   */
+  double getUnknownLatencyInMs(List<String> candidates) {
+    double maxLatencyEwma = MIN_UNKNOWN_LATENCY_IN_MS;
+    for (String candidate: candidates) {
+      maxLatencyEwma = Math.max(maxLatencyEwma, instanceHealthMonitor.getLatencyEwmaInMs(candidate));
+    }
+    return maxLatencyEwma * UNKNOWN_LATENCY_PENALTY_FACTOR;
+  }
+
+  double getCost(String instance, double unknownLatencyInMs) {
+    double latencyEwma = instanceHealthMonitor.getLatencyEwmaInMs(instance);
+    int pendingRequestCount = instanceHealthMonitor.getPendingRequestCounter(instance);
+    if (latencyEwma == 0 && pendingRequestCount > 0) {
+      latencyEwma = unknownLatencyInMs;
+    }
+    return latencyEwma * (pendingRequestCount + 1);
+  }
+}
@@ -31,9 +31,14 @@ public class FastClientStats extends com.linkedin.venice.client.stats.ClientStat
   private final Sensor longTailRetryRequestSensor;
   private final Sensor errorRetryRequestSensor;
   private final Sensor retryRequestWinSensor;
+  private final Sensor longTailRetryRequestWinSensor;
+  private final Sensor longTailRetryRequestWinRatioSensor;
+  private final Sensor longTailRetryThresholdSensor;
   private final Sensor metadataStalenessSensor;
   private final Sensor fanoutSizeSensor;
   private final Sensor retryFanoutSizeSensor;
+  private final Sensor hotKeyCacheHitKeyCountSensor;
+  private final Sensor singleGetBatchKeyCountSensor;
   private long cacheTimeStampInMs = 0;
 
   public static FastClientStats getClientStats(
@@ -73,9 +78,22 @@ public class FastClientStats extends com.linkedin.venice.client.stats.ClientStat
     this.dualReadThinClientFastClientLatencyDeltaSensor =
         registerSensorWithDetailedPercentiles("dual_read_thinclient_fastclient_latency_delta", new Max(), new Avg());
     this.leakedRequestCountSensor = registerSensor("leaked_request_count", new OccurrenceRate());
-    this.longTailRetryRequestSensor = registerSensor("long_tail_retry_request", new OccurrenceRate());
+    Rate longTailRetryRequestRate = new OccurrenceRate();
+    this.longTailRetryRequestSensor = registerSensor("long_tail_retry_request", longTailRetryRequestRate);
     this.errorRetryRequestSensor = registerSensor("error_retry_request", new OccurrenceRate());
     this.retryRequestWinSensor = registerSensor("retry_request_win", new OccurrenceRate());
+    Rate longTailRetryRequestWinRate = new OccurrenceRate();
+    this.longTailRetryRequestWinSensor = registerSensor("long_tail_retry_request_win", longTailRetryRequestWinRate);
+    /**
+     * The share of the long tail retry requests beating the original request, which tells whether the long tail retry
+     * threshold is so low that most of the retries are wasted. The error retries are left out of both sides.
+     */
+    this.longTailRetryRequestWinRatioSensor = registerSensor(
+        new TehutiUtils.SimpleRatioStat(
+            longTailRetryRequestWinRate,
+            longTailRetryRequestRate,
+            "long_tail_retry_request_win_ratio"));
+    this.longTailRetryThresholdSensor = registerSensor("long_tail_retry_threshold_ms", new Avg(), new Max());
 
     this.metadataStalenessSensor = registerSensor(new AsyncGauge((ignored, ignored2) -> {
       if (this.cacheTimeStampInMs == 0) {
@@ -86,6 +104,9 @@ public class FastClientStats extends com.linkedin.venice.client.stats.ClientStat
     }, "metadata_staleness_high_watermark_ms"));
     this.fanoutSizeSensor = registerSensor("fanout_size", new Avg(), new Max());
     this.retryFanoutSizeSensor = registerSensor("retry_fanout_size", new Avg(), new Max());
+    this.hotKeyCacheHitKeyCountSensor = registerSensor("hot_key_cache_hit_key_count", new Rate());
+    this.singleGetBatchKeyCountSensor =
+        registerSensor("single_get_batch_key_count", new OccurrenceRate(), new Avg(), new Max());
   }
 
   public void recordNoAvailableReplicaRequest() {
@@ -116,6 +137,14 @@ public class FastClientStats extends com.linkedin.venice.client.stats.ClientStat
     retryRequestWinSensor.record();
   }
 
+  public void recordLongTailRetryRequestWin() {
+    longTailRetryRequestWinSensor.record();
+  }
+
+  public void recordLongTailRetryThreshold(double thresholdInMs) {
+    longTailRetryThresholdSensor.record(thresholdInMs);
+  }
+
   public void updateCacheTimestamp(long cacheTimeStampInMs) {
     this.cacheTimeStampInMs = cacheTimeStampInMs;
   }
@@ -128,6 +157,14 @@ public class FastClientStats extends com.linkedin.venice.client.stats.ClientStat
     retryFanoutSizeSensor.record(retryFanoutSize);
   }
 
+  public void recordHotKeyCacheHitKeyCount(int hitKeyCount) {
+    hotKeyCacheHitKeyCountSensor.record(hitKeyCount);
+  }
+
+  public void recordSingleGetBatchKeyCount(int keyCount) {
+    singleGetBatchKeyCountSensor.record(keyCount);
+  }
+
   /**
    * This method is a utility method to build concise summaries useful in tests
    * and for logging. It generates a single string for all metrics for a sensor
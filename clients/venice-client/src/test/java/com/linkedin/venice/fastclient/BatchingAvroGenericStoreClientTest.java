@@ -0,0 +1,169 @@
+package com.linkedin.venice.fastclient;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.fastclient.stats.FastClientStats;
+import com.linkedin.venice.read.RequestType;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class BatchingAvroGenericStoreClientTest {
+  private static final int MAX_KEY_COUNT = 3;
+
+  private final Map<String, String> storeData = new HashMap<>();
+  private final List<Set<String>> sentBatches = new CopyOnWriteArrayList<>();
+  private final List<BatchingAvroGenericStoreClient<String, String>> clients = new CopyOnWriteArrayList<>();
+  private InternalAvroStoreClient<String, String> delegate;
+  private ClientConfig clientConfig;
+  private FastClientStats singleGetStats;
+
+  @AfterMethod
+  public void tearDown() {
+    clients.forEach(BatchingAvroGenericStoreClient::close);
+    clients.clear();
+  }
+
+  @BeforeMethod
+  public void setUp() {
+    storeData.clear();
+    storeData.put("key_1", "value_1");
+    storeData.put("key_2", "value_2");
+    storeData.put("key_3", "value_3");
+    sentBatches.clear();
+
+    delegate = mock(DispatchingAvroGenericStoreClient.class);
+    doAnswer(invocation -> {
+      RequestContext requestContext = invocation.getArgument(0);
+      requestContext.currentVersion = 1;
+      Set<String> keys = invocation.getArgument(1);
+      sentBatches.add(keys);
+      StreamingCallback<String, String> callback = invocation.getArgument(2);
+      keys.forEach(key -> callback.onRecordReceived(key, storeData.get(key)));
+      callback.onCompletion(Optional.empty());
+      return null;
+    }).when(delegate).streamingBatchGet(any(BatchGetRequestContext.class), any(), any());
+
+    singleGetStats = mock(FastClientStats.class);
+    clientConfig = mock(ClientConfig.class);
+    doReturn("test_store").when(clientConfig).getStoreName();
+    doReturn(singleGetStats).when(clientConfig).getStats(RequestType.SINGLE_GET);
+    doReturn((int) TimeUnit.SECONDS.toMicros(60)).when(clientConfig).getSingleGetBatchingWindowInMicroSeconds();
+    doReturn(MAX_KEY_COUNT).when(clientConfig).getSingleGetBatchingMaxKeyCount();
+  }
+
+  private BatchingAvroGenericStoreClient<String, String> createClient() {
+    BatchingAvroGenericStoreClient<String, String> client =
+        new BatchingAvroGenericStoreClient<>(delegate, clientConfig);
+    clients.add(client);
+    return client;
+  }
+
+  @Test
+  public void testFullBatchIsSentRightAway() throws Exception {
+    BatchingAvroGenericStoreClient<String, String> client = createClient();
+    GetRequestContext requestContext = new GetRequestContext();
+    CompletableFuture<String> future1 = client.get(requestContext, "key_1");
+    CompletableFuture<String> future2 = client.get(new GetRequestContext(), "key_2");
+    assertFalse(future1.isDone());
+    assertTrue(sentBatches.isEmpty());
+
+    CompletableFuture<String> future3 = client.get(new GetRequestContext(), "non_existing_key");
+    assertEquals(future1.get(), "value_1");
+    assertEquals(future2.get(), "value_2");
+    assertNull(future3.get());
+    assertEquals(sentBatches.size(), 1);
+    assertEquals(sentBatches.get(0), new HashSet<>(Arrays.asList("key_1", "key_2", "non_existing_key")));
+    assertEquals(requestContext.currentVersion, 1);
+    assertEquals(requestContext.successRequestKeyCount.get(), 1);
+    verify(singleGetStats).recordSingleGetBatchKeyCount(MAX_KEY_COUNT);
+  }
+
+  @Test(timeOut = 10000)
+  public void testPartialBatchIsSentAfterWindow() throws Exception {
+    doReturn(1000).when(clientConfig).getSingleGetBatchingWindowInMicroSeconds();
+    BatchingAvroGenericStoreClient<String, String> client = createClient();
+    CompletableFuture<String> future1 = client.get(new GetRequestContext(), "key_1");
+    CompletableFuture<String> future2 = client.get(new GetRequestContext(), "key_2");
+    assertEquals(future1.get(), "value_1");
+    assertEquals(future2.get(), "value_2");
+    assertEquals(sentBatches.size(), 1);
+    verify(singleGetStats).recordSingleGetBatchKeyCount(2);
+
+    // A new batch is started after the previous one is sent.
+    assertEquals(client.get(new GetRequestContext(), "key_3").get(), "value_3");
+    assertEquals(sentBatches.size(), 2);
+  }
+
+  @Test
+  public void testPendingBatchIsSentOnClose() throws Exception {
+    BatchingAvroGenericStoreClient<String, String> client = createClient();
+    CompletableFuture<String> future1 = client.get(new GetRequestContext(), "key_1");
+    assertTrue(sentBatches.isEmpty());
+
+    client.close();
+    assertEquals(future1.get(), "value_1");
+    assertEquals(sentBatches.size(), 1);
+    verify(delegate).close();
+  }
+
+  @Test
+  public void testSameKeyIsFetchedOnce() throws Exception {
+    BatchingAvroGenericStoreClient<String, String> client = createClient();
+    CompletableFuture<String> future1 = client.get(new GetRequestContext(), "key_1");
+    CompletableFuture<String> future2 = client.get(new GetRequestContext(), "key_1");
+    client.get(new GetRequestContext(), "key_2");
+    client.get(new GetRequestContext(), "key_3");
+    assertEquals(future1.get(), "value_1");
+    assertEquals(future2.get(), "value_1");
+    assertEquals(sentBatches.size(), 1);
+    assertEquals(sentBatches.get(0).size(), MAX_KEY_COUNT);
+  }
+
+  @Test
+  public void testFailedBatchFailsPendingGets() throws Exception {
+    doAnswer(invocation -> {
+      Set<String> keys = invocation.getArgument(1);
+      StreamingCallback<String, String> callback = invocation.getArgument(2);
+      // Only the response of one replica is received.
+      callback.onRecordReceived("key_1", storeData.get("key_1"));
+      callback.onCompletion(Optional.of(new VeniceClientException("Failed to fetch keys: " + keys)));
+      return null;
+    }).when(delegate).streamingBatchGet(any(BatchGetRequestContext.class), any(), any());
+    BatchingAvroGenericStoreClient<String, String> client = createClient();
+    CompletableFuture<String> future1 = client.get(new GetRequestContext(), "key_1");
+    CompletableFuture<String> future2 = client.get(new GetRequestContext(), "key_2");
+    CompletableFuture<String> future3 = client.get(new GetRequestContext(), "key_3");
+    assertEquals(future1.get(), "value_1");
+    ExecutionException exception = expectThrows(ExecutionException.class, future2::get);
+    assertTrue(exception.getCause() instanceof VeniceClientException);
+    expectThrows(ExecutionException.class, future3::get);
+    verify(delegate, times(1)).streamingBatchGet(any(BatchGetRequestContext.class), any(), any());
+    verify(delegate, never()).get(any(GetRequestContext.class), any());
+  }
+}
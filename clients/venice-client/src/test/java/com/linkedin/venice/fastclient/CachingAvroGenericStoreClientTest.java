@@ -0,0 +1,189 @@
+package com.linkedin.venice.fastclient;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.fastclient.meta.StoreMetadata;
+import com.linkedin.venice.fastclient.stats.FastClientStats;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.utils.TestMockTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.mockito.ArgumentCaptor;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class CachingAvroGenericStoreClientTest {
+  private static final long TTL_MS = TimeUnit.SECONDS.toMillis(10);
+
+  private final Map<String, String> storeData = new HashMap<>();
+  private final AtomicInteger currentVersion = new AtomicInteger(1);
+  private TestMockTime time;
+  private InternalAvroStoreClient<String, String> delegate;
+  private ClientConfig clientConfig;
+  private StoreMetadata metadata;
+  private FastClientStats singleGetStats;
+  private FastClientStats batchGetStats;
+
+  @BeforeMethod
+  public void setUp() {
+    storeData.clear();
+    storeData.put("key_1", "value_1");
+    storeData.put("key_2", "value_2");
+    storeData.put("key_3", "value_3");
+    currentVersion.set(1);
+    time = new TestMockTime();
+
+    delegate = mock(DispatchingAvroGenericStoreClient.class);
+    doAnswer(invocation -> {
+      RequestContext requestContext = invocation.getArgument(0);
+      requestContext.currentVersion = currentVersion.get();
+      return CompletableFuture.completedFuture(storeData.get(invocation.<String>getArgument(1)));
+    }).when(delegate).get(any(GetRequestContext.class), any());
+    doAnswer(invocation -> {
+      RequestContext requestContext = invocation.getArgument(0);
+      requestContext.currentVersion = currentVersion.get();
+      Set<String> keys = invocation.getArgument(1);
+      StreamingCallback<String, String> callback = invocation.getArgument(2);
+      keys.forEach(key -> callback.onRecordReceived(key, storeData.get(key)));
+      callback.onCompletion(Optional.empty());
+      return null;
+    }).when(delegate).streamingBatchGet(any(BatchGetRequestContext.class), any(), any());
+
+    metadata = mock(StoreMetadata.class);
+    doAnswer(invocation -> currentVersion.get()).when(metadata).getCurrentStoreVersion();
+
+    singleGetStats = mock(FastClientStats.class);
+    batchGetStats = mock(FastClientStats.class);
+    clientConfig = mock(ClientConfig.class);
+    doReturn("test_store").when(clientConfig).getStoreName();
+    doReturn(singleGetStats).when(clientConfig).getStats(RequestType.SINGLE_GET);
+    doReturn(batchGetStats).when(clientConfig).getStats(RequestType.MULTI_GET_STREAMING);
+    doReturn(1024L * 1024L).when(clientConfig).getHotKeyCacheMaxSizeInBytes();
+    doReturn(-1L).when(clientConfig).getHotKeyCacheTtlInMs();
+  }
+
+  private CachingAvroGenericStoreClient<String, String> createClient() {
+    return new CachingAvroGenericStoreClient<>(delegate, clientConfig, metadata, time);
+  }
+
+  @Test
+  public void testSingleGetIsServedFromCache() throws Exception {
+    CachingAvroGenericStoreClient<String, String> client = createClient();
+    for (int i = 0; i < 5; i++) {
+      assertEquals(client.get("key_1").get(), "value_1");
+    }
+    verify(delegate, times(1)).get(any(GetRequestContext.class), any());
+    verify(singleGetStats, times(4)).recordHotKeyCacheHitKeyCount(1);
+
+    // The keys which do not exist are not cached.
+    assertNull(client.get("non_existing_key").get());
+    assertNull(client.get("non_existing_key").get());
+    verify(delegate, times(3)).get(any(GetRequestContext.class), any());
+  }
+
+  @Test
+  public void testBatchGetOnlyFetchesMissingKeys() throws Exception {
+    CachingAvroGenericStoreClient<String, String> client = createClient();
+    assertEquals(client.get("key_1").get(), "value_1");
+
+    Map<String, String> result = client.batchGet(new HashSet<>(Arrays.asList("key_1", "key_2"))).get();
+    assertEquals(result.size(), 2);
+    assertEquals(result.get("key_1"), "value_1");
+    assertEquals(result.get("key_2"), "value_2");
+    ArgumentCaptor<Set<String>> keysCaptor = ArgumentCaptor.forClass(Set.class);
+    verify(delegate, times(1)).streamingBatchGet(any(BatchGetRequestContext.class), keysCaptor.capture(), any());
+    assertEquals(keysCaptor.getValue(), new HashSet<>(Arrays.asList("key_2")));
+    verify(batchGetStats).recordHotKeyCacheHitKeyCount(1);
+
+    // All the keys are cached now, so the batch-get completes without going to the delegate.
+    result = client.batchGet(new HashSet<>(Arrays.asList("key_1", "key_2"))).get();
+    assertEquals(result.size(), 2);
+    verify(delegate, times(1)).streamingBatchGet(any(BatchGetRequestContext.class), any(), any());
+    verify(batchGetStats).recordHotKeyCacheHitKeyCount(2);
+  }
+
+  @Test
+  public void testVersionSwapDropsCache() throws Exception {
+    CachingAvroGenericStoreClient<String, String> client = createClient();
+    assertEquals(client.get("key_1").get(), "value_1");
+    assertEquals(client.get("key_1").get(), "value_1");
+    verify(delegate, times(1)).get(any(GetRequestContext.class), any());
+
+    storeData.put("key_1", "new_value_1");
+    currentVersion.set(2);
+    assertEquals(client.get("key_1").get(), "new_value_1");
+    assertEquals(client.get("key_1").get(), "new_value_1");
+    verify(delegate, times(2)).get(any(GetRequestContext.class), any());
+  }
+
+  @Test
+  public void testValueOfPreviousVersionIsNotCached() throws Exception {
+    CachingAvroGenericStoreClient<String, String> client = createClient();
+    // The version gets swapped while the request is in flight.
+    doAnswer(invocation -> {
+      RequestContext requestContext = invocation.getArgument(0);
+      requestContext.currentVersion = currentVersion.getAndIncrement();
+      return CompletableFuture.completedFuture(storeData.get(invocation.<String>getArgument(1)));
+    }).when(delegate).get(any(GetRequestContext.class), any());
+    assertEquals(client.get("key_1").get(), "value_1");
+    assertEquals(client.getEstimatedEntryCount(), 0);
+  }
+
+  @Test
+  public void testEntriesExpireAfterTtl() throws Exception {
+    doReturn(TTL_MS).when(clientConfig).getHotKeyCacheTtlInMs();
+    CachingAvroGenericStoreClient<String, String> client = createClient();
+    assertEquals(client.get("key_1").get(), "value_1");
+
+    storeData.put("key_1", "new_value_1");
+    time.sleep(TTL_MS / 2);
+    assertEquals(client.get("key_1").get(), "value_1");
+    time.sleep(TTL_MS);
+    assertEquals(client.get("key_1").get(), "new_value_1");
+    verify(delegate, times(2)).get(any(GetRequestContext.class), any());
+  }
+
+  @Test
+  public void testCacheIsBoundedBySize() throws Exception {
+    int entrySize = CachingAvroGenericStoreClient.estimateSizeInBytes("key_0")
+        + CachingAvroGenericStoreClient.estimateSizeInBytes("value_0")
+        + CachingAvroGenericStoreClient.ENTRY_OVERHEAD_IN_BYTES;
+    doReturn(10L * entrySize).when(clientConfig).getHotKeyCacheMaxSizeInBytes();
+    for (int i = 0; i < 100; i++) {
+      storeData.put("key_" + i, "value_" + i);
+    }
+    CachingAvroGenericStoreClient<String, String> client = createClient();
+    for (int i = 0; i < 100; i++) {
+      assertEquals(client.get("key_" + i).get(), "value_" + i);
+    }
+    assertTrue(client.getEstimatedEntryCount() <= 10, "Entry count: " + client.getEstimatedEntryCount());
+  }
+
+  @Test
+  public void testEstimateSizeInBytes() {
+    assertEquals(CachingAvroGenericStoreClient.estimateSizeInBytes(null), 0);
+    assertTrue(
+        CachingAvroGenericStoreClient.estimateSizeInBytes("a longer string value")
+            > CachingAvroGenericStoreClient.estimateSizeInBytes("short"));
+    assertTrue(
+        CachingAvroGenericStoreClient.estimateSizeInBytes(Arrays.asList("a", "b", "c"))
+            > CachingAvroGenericStoreClient.estimateSizeInBytes("a"));
+  }
+}
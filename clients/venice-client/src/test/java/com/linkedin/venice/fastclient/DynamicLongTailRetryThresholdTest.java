@@ -0,0 +1,81 @@
+package com.linkedin.venice.fastclient;
+
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.fastclient.stats.FastClientStats;
+import org.testng.annotations.Test;
+
+
+public class DynamicLongTailRetryThresholdTest {
+  private static final int INITIAL_THRESHOLD_IN_MICRO_SECONDS = 50000;
+
+  @Test
+  public void testThresholdFollowsPercentile() {
+    FastClientStats stats = mock(FastClientStats.class);
+    DynamicLongTailRetryThreshold threshold =
+        new DynamicLongTailRetryThreshold(0.95, INITIAL_THRESHOLD_IN_MICRO_SECONDS, stats);
+    for (int i = 1; i <= 1000; i++) {
+      threshold.recordLatency(i * 10);
+    }
+    threshold.refresh();
+    // The p95 latency is 9.5ms, and the histogram is at most 12.5% off.
+    int thresholdInMicroSeconds = threshold.getThresholdInMicroSeconds();
+    assertTrue(
+        thresholdInMicroSeconds >= 9500 && thresholdInMicroSeconds <= 9500 * 1.125,
+        "Threshold: " + thresholdInMicroSeconds);
+    verify(stats).recordLongTailRetryThreshold(thresholdInMicroSeconds / 1000d);
+
+    // The next window only sees the latency recorded since the previous refresh.
+    for (int i = 0; i < 1000; i++) {
+      threshold.recordLatency(2000);
+    }
+    threshold.refresh();
+    thresholdInMicroSeconds = threshold.getThresholdInMicroSeconds();
+    assertTrue(
+        thresholdInMicroSeconds >= 2000 && thresholdInMicroSeconds <= 2000 * 1.125,
+        "Threshold: " + thresholdInMicroSeconds);
+  }
+
+  @Test
+  public void testThresholdIsKeptWithoutEnoughSamples() {
+    FastClientStats stats = mock(FastClientStats.class);
+    DynamicLongTailRetryThreshold threshold =
+        new DynamicLongTailRetryThreshold(0.95, INITIAL_THRESHOLD_IN_MICRO_SECONDS, stats);
+    for (int i = 0; i < DynamicLongTailRetryThreshold.MIN_SAMPLE_COUNT - 1; i++) {
+      threshold.recordLatency(1000);
+    }
+    threshold.refresh();
+    assertEquals(threshold.getThresholdInMicroSeconds(), INITIAL_THRESHOLD_IN_MICRO_SECONDS);
+    verify(stats, never()).recordLongTailRetryThreshold(anyDouble());
+  }
+
+  @Test
+  public void testThresholdHasFloor() {
+    DynamicLongTailRetryThreshold threshold =
+        new DynamicLongTailRetryThreshold(0.99, INITIAL_THRESHOLD_IN_MICRO_SECONDS, mock(FastClientStats.class));
+    for (int i = 0; i < 1000; i++) {
+      threshold.recordLatency(5);
+    }
+    threshold.refresh();
+    assertEquals(threshold.getThresholdInMicroSeconds(), DynamicLongTailRetryThreshold.MIN_THRESHOLD_IN_MICRO_SECONDS);
+  }
+
+  @Test
+  public void testBucketBounds() {
+    long[] values = { 0, 1, 7, 8, 9, 15, 16, 100, 1000, 12345, 1000000, Integer.MAX_VALUE };
+    for (long value: values) {
+      int index = DynamicLongTailRetryThreshold.getBucketIndex(value);
+      long upperBound = DynamicLongTailRetryThreshold.getBucketUpperBound(index);
+      assertTrue(value <= upperBound, "Value: " + value + ", upper bound: " + upperBound);
+      assertTrue(upperBound - value <= value / 8, "Value: " + value + ", upper bound: " + upperBound);
+      if (index > 0) {
+        assertTrue(DynamicLongTailRetryThreshold.getBucketUpperBound(index - 1) < value);
+      }
+    }
+  }
+}
@@ -563,6 +563,13 @@ public class RetriableAvroGenericStoreClientTest {
       if (retryWin) {
         assertTrue(metrics.get(metricsPrefix + "retry_request_win.OccurrenceRate").value() > 0);
         assertEquals(metrics.get(metricsPrefix + "retry_request_success_key_count.Max").value(), expectedKeyCount);
+        // The wins of the error retries are left out of the long tail retry win ratio.
+        if (errorRetry) {
+          assertFalse(metrics.get(metricsPrefix + "long_tail_retry_request_win.OccurrenceRate").value() > 0);
+        } else {
+          assertTrue(metrics.get(metricsPrefix + "long_tail_retry_request_win.OccurrenceRate").value() > 0);
+          assertTrue(metrics.get(metricsPrefix + "long_tail_retry_request_win_ratio.SimpleRatioStat").value() > 0);
+        }
         if (batchGet) {
           assertTrue(batchGetRequestContext.retryContext.retryRequestContext.numKeysCompleted.get() > 0);
         } else if (singleGet) {
@@ -571,6 +578,7 @@ public class RetriableAvroGenericStoreClientTest {
       } else {
         assertFalse(metrics.get(metricsPrefix + "retry_request_win.OccurrenceRate").value() > 0);
         assertFalse(metrics.get(metricsPrefix + "retry_request_success_key_count.Max").value() > 0);
+        assertFalse(metrics.get(metricsPrefix + "long_tail_retry_request_win.OccurrenceRate").value() > 0);
         if (batchGet) {
           assertTrue(
               batchGetRequestContext.retryContext.retryRequestContext == null
@@ -129,6 +129,32 @@ public class InstanceHealthMonitorTest {
     assertTrue(healthMonitor.isInstanceHealthy(instance));
   }
 
+  @Test
+  public void testLatencyEwma() throws InterruptedException {
+    ClientConfig clientConfig = mock(ClientConfig.class);
+    doReturn(10000l).when(clientConfig).getRoutingLeakedRequestCleanupThresholdMS();
+    InstanceHealthMonitor healthMonitor = new InstanceHealthMonitor(clientConfig);
+    assertEquals(healthMonitor.getLatencyEwmaInMs(instance), 0d);
+
+    ChainedCompletableFuture<Integer, Integer> chainedRequestFuture =
+        healthMonitor.trackHealthBasedOnRequestToInstance(instance);
+    Thread.sleep(10);
+    chainedRequestFuture.getOriginalFuture().complete(SC_OK);
+    waitQuietly(chainedRequestFuture.getResultFuture());
+    assertTrue(healthMonitor.getLatencyEwmaInMs(instance) >= 10);
+
+    // A slower response is reflected right away.
+    long timeNs = System.nanoTime();
+    healthMonitor.recordLatency(instance, 100, timeNs);
+    assertEquals(healthMonitor.getLatencyEwmaInMs(instance), 100d);
+    // While faster responses bring the latency down gradually.
+    healthMonitor.recordLatency(instance, 1, timeNs + InstanceHealthMonitor.LATENCY_EWMA_DECAY_TIME_NS);
+    double latency = healthMonitor.getLatencyEwmaInMs(instance);
+    assertTrue(latency > 1 && latency < 100, "Latency: " + latency);
+    healthMonitor.recordLatency(instance, 1, timeNs + 10 * InstanceHealthMonitor.LATENCY_EWMA_DECAY_TIME_NS);
+    assertTrue(healthMonitor.getLatencyEwmaInMs(instance) < 1.1);
+  }
+
   private void waitQuietly(CompletableFuture future) throws InterruptedException {
     try {
       future.get();
@@ -0,0 +1,135 @@
+package com.linkedin.venice.fastclient.meta;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import org.testng.annotations.Test;
+
+
+public class LatencyBasedClientRoutingStrategyTest {
+  private final static String instance1 = "https://instance1:1234";
+  private final static String instance2 = "https://instance2:1234";
+  private final static String instance3 = "https://instance3:1234";
+  private final static String instance4 = "https://instance4:1234";
+
+  private InstanceHealthMonitor mockInstanceHealthyMonitor(
+      String[] instances,
+      boolean[] blocked,
+      boolean[] healthy,
+      int[] counter,
+      double[] latency) {
+    InstanceHealthMonitor instanceHealthMonitor = mock(InstanceHealthMonitor.class);
+    if (instances.length != blocked.length || blocked.length != healthy.length || healthy.length != counter.length
+        || counter.length != latency.length) {
+      throw new IllegalArgumentException("The length of each array param should be same");
+    }
+    for (int i = 0; i < instances.length; ++i) {
+      String instance = instances[i];
+      doReturn(blocked[i]).when(instanceHealthMonitor).isInstanceBlocked(instance);
+      doReturn(healthy[i]).when(instanceHealthMonitor).isInstanceHealthy(instance);
+      doReturn(counter[i]).when(instanceHealthMonitor).getPendingRequestCounter(instance);
+      doReturn(latency[i]).when(instanceHealthMonitor).getLatencyEwmaInMs(instance);
+    }
+    return instanceHealthMonitor;
+  }
+
+  /**
+   * @return the number of times each instance got selected out of the given number of requests.
+   */
+  private Map<String, Integer> route(
+      InstanceHealthMonitor monitor,
+      String[] instances,
+      int requiredReplicaCount,
+      int requestCount) {
+    LatencyBasedClientRoutingStrategy strategy = new LatencyBasedClientRoutingStrategy(monitor);
+    Map<String, Integer> selectionCounts = new HashMap<>();
+    for (int i = 0; i < requestCount; ++i) {
+      List<String> selectedReplicas =
+          strategy.getReplicas(i, new ArrayList<>(Arrays.asList(instances)), requiredReplicaCount);
+      assertEquals(new HashSet<>(selectedReplicas).size(), selectedReplicas.size(), "Duplicate replicas selected");
+      selectedReplicas.forEach(replica -> selectionCounts.merge(replica, 1, Integer::sum));
+    }
+    return selectionCounts;
+  }
+
+  @Test
+  public void testSlowInstanceGetsLessTraffic() {
+    String[] instances = new String[] { instance1, instance2, instance3, instance4 };
+    InstanceHealthMonitor monitor = mockInstanceHealthyMonitor(
+        instances,
+        new boolean[] { false, false, false, false },
+        new boolean[] { true, true, true, true },
+        new int[] { 0, 0, 0, 0 },
+        new double[] { 1, 1, 1, 50 });
+    Map<String, Integer> selectionCounts = route(monitor, instances, 1, 4000);
+    // The slowest instance only wins when it is picked twice, which never happens with two distinct candidates.
+    assertEquals((int) selectionCounts.getOrDefault(instance4, 0), 0);
+    for (int i = 0; i < 3; ++i) {
+      assertTrue(selectionCounts.get(instances[i]) > 1000, "Selection counts: " + selectionCounts);
+    }
+  }
+
+  @Test
+  public void testPendingRequestsArePenalized() {
+    String[] instances = new String[] { instance1, instance2 };
+    InstanceHealthMonitor monitor = mockInstanceHealthyMonitor(
+        instances,
+        new boolean[] { false, false },
+        new boolean[] { true, true },
+        new int[] { 10, 0 },
+        new double[] { 1, 5 });
+    Map<String, Integer> selectionCounts = route(monitor, instances, 1, 100);
+    assertEquals((int) selectionCounts.get(instance2), 100);
+  }
+
+  @Test
+  public void testBlockedAndUnhealthyInstances() {
+    String[] instances = new String[] { instance1, instance2, instance3 };
+    InstanceHealthMonitor monitor = mockInstanceHealthyMonitor(
+        instances,
+        new boolean[] { true, false, false },
+        new boolean[] { true, false, true },
+        new int[] { 0, 0, 0 },
+        new double[] { 1, 1, 10 });
+    LatencyBasedClientRoutingStrategy strategy = new LatencyBasedClientRoutingStrategy(monitor);
+    // The blocked instance is never selected, and the unhealthy instance is back-filled with a healthy one.
+    List<String> selectedReplicas = strategy.getReplicas(0, new ArrayList<>(Arrays.asList(instances)), 1);
+    assertEquals(selectedReplicas, Arrays.asList(instance2, instance3));
+    selectedReplicas = strategy.getReplicas(0, new ArrayList<>(Arrays.asList(instances)), 2);
+    assertEquals(new HashSet<>(selectedReplicas), new HashSet<>(Arrays.asList(instance2, instance3)));
+  }
+
+  @Test
+  public void testCost() {
+    String[] instances = new String[] { instance1, instance2, instance3, instance4 };
+    InstanceHealthMonitor monitor = mockInstanceHealthyMonitor(
+        instances,
+        new boolean[] { false, false, false, false },
+        new boolean[] { true, true, true, true },
+        new int[] { 0, 3, 2, 1 },
+        new double[] { 0, 0, 10, 0 });
+    LatencyBasedClientRoutingStrategy strategy = new LatencyBasedClientRoutingStrategy(monitor);
+    double unknownLatencyInMs = strategy.getUnknownLatencyInMs(Arrays.asList(instances));
+    assertEquals(unknownLatencyInMs, 10 * LatencyBasedClientRoutingStrategy.UNKNOWN_LATENCY_PENALTY_FACTOR);
+    assertEquals(strategy.getCost(instance1, unknownLatencyInMs), 0d);
+    assertEquals(strategy.getCost(instance2, unknownLatencyInMs), unknownLatencyInMs * 4);
+    assertEquals(strategy.getCost(instance3, unknownLatencyInMs), 30d);
+    // The instances without a latency sample are still told apart by their pending requests.
+    assertTrue(strategy.getCost(instance4, unknownLatencyInMs) < strategy.getCost(instance2, unknownLatencyInMs));
+    // The slowest known instance is cheaper than an unknown one with as many pending requests.
+    assertTrue(strategy.getCost(instance3, unknownLatencyInMs) < strategy.getCost(instance2, unknownLatencyInMs));
+
+    assertEquals(
+        strategy.getUnknownLatencyInMs(Arrays.asList(instance1, instance2)),
+        LatencyBasedClientRoutingStrategy.MIN_UNKNOWN_LATENCY_IN_MS
+            * LatencyBasedClientRoutingStrategy.UNKNOWN_LATENCY_PENALTY_FACTOR);
+  }
+}
@@ -58,6 +58,8 @@ public class PushJobSetting implements Serializable {
   public BufferReplayPolicy validateRemoteReplayPolicy;
   public boolean suppressEndOfPushMessage;
   public boolean deferVersionSwap;
+  /** Refer {@link VenicePushJobConstants#BULK_LOAD_SST_OUTPUT_DIR} **/
+  public String bulkLoadSstOutputDir;
   public boolean extendedSchemaValidityCheckEnabled;
   /** Refer {@link VenicePushJobConstants#COMPRESSION_METRIC_COLLECTION_ENABLED} **/
   public boolean compressionMetricCollectionEnabled;
@@ -13,6 +13,7 @@ import static com.linkedin.venice.utils.AvroSupersetSchemaUtils.validateSubsetVa
 import static com.linkedin.venice.utils.ByteUtils.generateHumanReadableByteCountString;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.ALLOW_DUPLICATE_KEY;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.BATCH_NUM_BYTES_PROP;
+import static com.linkedin.venice.vpj.VenicePushJobConstants.BULK_LOAD_SST_OUTPUT_DIR;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.COMPRESSION_DICTIONARY_SAMPLE_SIZE;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.COMPRESSION_DICTIONARY_SIZE_LIMIT;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.COMPRESSION_METRIC_COLLECTION_ENABLED;
@@ -87,6 +88,7 @@ import static com.linkedin.venice.vpj.VenicePushJobConstants.VENICE_DISCOVER_URL
 import static com.linkedin.venice.vpj.VenicePushJobConstants.VENICE_STORE_NAME_PROP;
 
 import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.davinci.store.rocksdb.BulkLoadManifest;
 import com.linkedin.venice.PushJobCheckpoints;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.ZstdWithDictCompressor;
@@ -394,6 +396,20 @@ public class VenicePushJob implements AutoCloseable {
       }
     }
 
+    pushJobSettingToReturn.bulkLoadSstOutputDir = props.getString(BULK_LOAD_SST_OUTPUT_DIR, (String) null);
+    if (pushJobSettingToReturn.bulkLoadSstOutputDir != null) {
+      if (pushJobSettingToReturn.isIncrementalPush || pushJobSettingToReturn.isSourceKafka
+          || pushJobSettingToReturn.enableWriteCompute) {
+        throw new VeniceException(
+            "Bulk load push mode is not supported with incremental push, repush or write compute");
+      }
+      if (pushJobSettingToReturn.suppressEndOfPushMessage) {
+        throw new VeniceException("Bulk load push mode needs the end of push, which announces the bulk load");
+      }
+      // The end of push is sent by the job, since it carries the dir of the SST files.
+      pushJobSettingToReturn.sendControlMessagesDirectly = true;
+    }
+
     pushJobSettingToReturn.isTargetedRegionPushEnabled = props.getBoolean(TARGETED_REGION_PUSH_ENABLED, false);
     pushJobSettingToReturn.isSystemSchemaReaderEnabled = props.getBoolean(SYSTEM_SCHEMA_READER_ENABLED, false);
     if (pushJobSettingToReturn.isIncrementalPush && pushJobSettingToReturn.isTargetedRegionPushEnabled) {
@@ -815,7 +831,7 @@ public class VenicePushJob implements AutoCloseable {
 
         if (!pushJobSetting.suppressEndOfPushMessage) {
           if (pushJobSetting.sendControlMessagesDirectly) {
-            getVeniceWriter(pushJobSetting).broadcastEndOfPush(Collections.emptyMap());
+            getVeniceWriter(pushJobSetting).broadcastEndOfPush(getEndOfPushDebugInfo(pushJobSetting));
           } else {
             controllerClient.writeEndOfPush(pushJobSetting.storeName, pushJobSetting.version);
           }
@@ -2289,6 +2305,19 @@ public class VenicePushJob implements AutoCloseable {
     }
   }
 
+  /**
+   * The end of push of a bulk load push announces it to the servers, along with the dir of the SST files of the
+   * partitions, see {@link BulkLoadManifest#BULK_LOAD_SST_DIR_DEBUG_INFO_KEY}.
+   */
+  static Map<String, String> getEndOfPushDebugInfo(PushJobSetting pushJobSetting) {
+    if (pushJobSetting.bulkLoadSstOutputDir == null) {
+      return Collections.emptyMap();
+    }
+    return Collections.singletonMap(
+        BulkLoadManifest.BULK_LOAD_SST_DIR_DEBUG_INFO_KEY,
+        new Path(pushJobSetting.bulkLoadSstOutputDir, pushJobSetting.topic).toString());
+  }
+
   synchronized VeniceWriter<KafkaKey, byte[], byte[]> getVeniceWriter(PushJobSetting pushJobSetting) {
     if (veniceWriter == null) {
       VeniceWriterFactory veniceWriterFactory = new VeniceWriterFactory(getVeniceWriterProperties(pushJobSetting));
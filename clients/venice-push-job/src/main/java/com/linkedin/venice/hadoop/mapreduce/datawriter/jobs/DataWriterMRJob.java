@@ -11,7 +11,10 @@ import static com.linkedin.venice.ConfigKeys.PUSH_JOB_GUID_MOST_SIGNIFICANT_BITS
 import static com.linkedin.venice.VeniceConstants.DEFAULT_SSL_FACTORY_CLASS_NAME;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.ALLOW_DUPLICATE_KEY;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.BATCH_NUM_BYTES_PROP;
+import static com.linkedin.venice.vpj.VenicePushJobConstants.BULK_LOAD_SST_OUTPUT_DIR;
+import static com.linkedin.venice.vpj.VenicePushJobConstants.BULK_LOAD_SST_TARGET_FILE_SIZE;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.COMPRESSION_STRATEGY;
+import static com.linkedin.venice.vpj.VenicePushJobConstants.DEFAULT_BULK_LOAD_SST_TARGET_FILE_SIZE;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.DERIVED_SCHEMA_ID_PROP;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.ENABLE_WRITE_COMPUTE;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.ETL_VALUE_SCHEMA_TRANSFORMATION;
@@ -146,6 +149,13 @@ public class DataWriterMRJob extends DataWriterComputeJob {
     conf.setBoolean(VeniceWriter.ENABLE_RMD_CHUNKING, pushJobSetting.rmdChunkingEnabled);
     conf.setInt(VeniceWriter.MAX_RECORD_SIZE_BYTES, pushJobSetting.maxRecordSizeBytes);
 
+    if (pushJobSetting.bulkLoadSstOutputDir != null) {
+      conf.set(BULK_LOAD_SST_OUTPUT_DIR, pushJobSetting.bulkLoadSstOutputDir);
+      conf.setLong(
+          BULK_LOAD_SST_TARGET_FILE_SIZE,
+          props.getLong(BULK_LOAD_SST_TARGET_FILE_SIZE, DEFAULT_BULK_LOAD_SST_TARGET_FILE_SIZE));
+    }
+
     conf.set(STORAGE_QUOTA_PROP, Long.toString(pushJobSetting.storeStorageQuota));
 
     if (pushJobSetting.isSourceKafka) {
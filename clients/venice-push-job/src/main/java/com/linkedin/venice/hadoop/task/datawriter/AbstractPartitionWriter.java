@@ -3,6 +3,9 @@ package com.linkedin.venice.hadoop.task.datawriter;
 import static com.linkedin.venice.ConfigKeys.PUSH_JOB_GUID_LEAST_SIGNIFICANT_BITS;
 import static com.linkedin.venice.ConfigKeys.PUSH_JOB_GUID_MOST_SIGNIFICANT_BITS;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.ALLOW_DUPLICATE_KEY;
+import static com.linkedin.venice.vpj.VenicePushJobConstants.BULK_LOAD_SST_OUTPUT_DIR;
+import static com.linkedin.venice.vpj.VenicePushJobConstants.BULK_LOAD_SST_TARGET_FILE_SIZE;
+import static com.linkedin.venice.vpj.VenicePushJobConstants.DEFAULT_BULK_LOAD_SST_TARGET_FILE_SIZE;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.DEFAULT_IS_DUPLICATED_KEY_ALLOWED;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.DERIVED_SCHEMA_ID_PROP;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.ENABLE_WRITE_COMPUTE;
@@ -11,6 +14,8 @@ import static com.linkedin.venice.vpj.VenicePushJobConstants.TELEMETRY_MESSAGE_I
 import static com.linkedin.venice.vpj.VenicePushJobConstants.TOPIC_PROP;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.VALUE_SCHEMA_ID_PROP;
 
+import com.linkedin.davinci.store.rocksdb.BulkLoadManifest;
+import com.linkedin.davinci.store.rocksdb.RocksDBBulkLoadWriter;
 import com.linkedin.venice.ConfigKeys;
 import com.linkedin.venice.annotation.NotThreadsafe;
 import com.linkedin.venice.exceptions.RecordTooLargeException;
@@ -38,8 +43,10 @@ import com.linkedin.venice.writer.VeniceWriter;
 import com.linkedin.venice.writer.VeniceWriterFactory;
 import com.linkedin.venice.writer.VeniceWriterOptions;
 import java.io.Closeable;
+import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Properties;
@@ -48,6 +55,9 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -140,6 +150,12 @@ public abstract class AbstractPartitionWriter extends AbstractDataWriterTask imp
   private boolean enableWriteCompute = false;
 
   private VeniceProperties props;
+  /**
+   * Refer {@link com.linkedin.venice.vpj.VenicePushJobConstants#BULK_LOAD_SST_OUTPUT_DIR}, the records are written into
+   * local SST files by {@link #bulkLoadWriter}, which are copied to the output dir once the task completes.
+   */
+  private String bulkLoadSstOutputDir = null;
+  private RocksDBBulkLoadWriter bulkLoadWriter = null;
   private long telemetryMessageInterval;
   private DuplicateKeyPrinter duplicateKeyPrinter;
   private Exception sendException = null;
@@ -188,7 +204,11 @@ public abstract class AbstractPartitionWriter extends AbstractDataWriterTask imp
       VeniceWriterMessage message = extract(key, values, dataWriterTaskTracker);
       if (message != null) {
         try {
-          sendMessageToKafka(dataWriterTaskTracker, message.getConsumer());
+          if (bulkLoadSstOutputDir != null) {
+            writeMessageToBulkLoadFile(dataWriterTaskTracker, message);
+          } else {
+            sendMessageToKafka(dataWriterTaskTracker, message.getConsumer());
+          }
         } catch (VeniceException e) {
           if (e instanceof VeniceResourceAccessException) {
             dataWriterTaskTracker.trackWriteAclAuthorizationFailure();
@@ -328,6 +348,72 @@ public abstract class AbstractPartitionWriter extends AbstractDataWriterTask imp
     dataWriterTaskTracker.trackRecordSentToPubSub();
   }
 
+  private void writeMessageToBulkLoadFile(DataWriterTaskTracker dataWriterTaskTracker, VeniceWriterMessage message) {
+    if (message.getRmdVersionId() >= 0 || message.getValueBytes() == null
+        || (enableWriteCompute && derivedValueSchemaId > 0)) {
+      throw new VeniceException("Bulk load push mode only supports the puts without replication metadata");
+    }
+    if (bulkLoadWriter == null) {
+      bulkLoadWriter = createBulkLoadWriter();
+    }
+    bulkLoadWriter.put(message.getKeyBytes(), message.getValueSchemaId(), message.getValueBytes());
+    // The record is done once it is in the local file, so it's completed right away to keep the progress consistent.
+    messageSent++;
+    recordMessageCompleted();
+    telemetry();
+    dataWriterTaskTracker.trackRecordSentToPubSub();
+  }
+
+  private RocksDBBulkLoadWriter createBulkLoadWriter() {
+    String localDir;
+    try {
+      localDir = Files.createTempDirectory("venice-bulk-load-" + getTaskId() + "-").toString();
+    } catch (IOException e) {
+      throw new VeniceException("Failed to create the local dir for the bulk load SST files", e);
+    }
+    return new RocksDBBulkLoadWriter(
+        localDir,
+        props.getBoolean(VeniceWriter.ENABLE_CHUNKING, false),
+        props.getLong(BULK_LOAD_SST_TARGET_FILE_SIZE, DEFAULT_BULK_LOAD_SST_TARGET_FILE_SIZE));
+  }
+
+  /**
+   * Copies the SST files of the partition to {@code <output dir>/<version topic>/<partition>}. The manifest is copied
+   * last, since the servers take its presence as the sign that the files of the partition are complete.
+   */
+  private void publishBulkLoadFiles() throws IOException {
+    BulkLoadManifest manifest = bulkLoadWriter.finish();
+    String localDir = bulkLoadWriter.getOutputDir().getAbsolutePath();
+    Path topicDir = new Path(bulkLoadSstOutputDir, props.getString(TOPIC_PROP));
+    Path partitionDir = new Path(topicDir, Integer.toString(getTaskId()));
+    FileSystem fileSystem = partitionDir.getFileSystem(new Configuration());
+    for (BulkLoadManifest.SstFileInfo sstFile: manifest.getSstFiles()) {
+      fileSystem.copyFromLocalFile(
+          true,
+          true,
+          new Path(localDir, sstFile.getFileName()),
+          new Path(partitionDir, sstFile.getFileName()));
+    }
+    fileSystem.copyFromLocalFile(
+        true,
+        true,
+        new Path(localDir, BulkLoadManifest.MANIFEST_FILE_NAME),
+        new Path(partitionDir, BulkLoadManifest.MANIFEST_FILE_NAME));
+    LOGGER.info("Published {} bulk load SST files to: {}", manifest.getSstFiles().size(), partitionDir);
+  }
+
+  private void closeBulkLoadWriter() {
+    bulkLoadWriter.close();
+    File localDir = bulkLoadWriter.getOutputDir();
+    File[] remainingFiles = localDir.listFiles();
+    if (remainingFiles != null) {
+      for (File file: remainingFiles) {
+        file.delete();
+      }
+    }
+    localDir.delete();
+  }
+
   private VeniceWriter<byte[], byte[], byte[]> createBasicVeniceWriter() {
     Properties writerProps = props.toProperties();
     // Closing segments based on elapsed time should always be disabled in data writer compute jobs to prevent storage
@@ -412,6 +498,22 @@ public abstract class AbstractPartitionWriter extends AbstractDataWriterTask imp
           veniceWriter.close(shouldEndAllSegments);
         }
       }
+      if (bulkLoadSstOutputDir != null) {
+        try {
+          if (dataWriterTaskTracker == null || dataWriterTaskTracker.getProgress() == TaskTracker.PROGRESS_COMPLETED
+              || dataWriterTaskTracker.getProgress() == TaskTracker.PROGRESS_NOT_SUPPORTED) {
+            if (bulkLoadWriter == null) {
+              // An empty partition still gets a manifest, since the servers fail the partitions without one.
+              bulkLoadWriter = createBulkLoadWriter();
+            }
+            publishBulkLoadFiles();
+          }
+        } finally {
+          if (bulkLoadWriter != null) {
+            closeBulkLoadWriter();
+          }
+        }
+      }
       maybePropagateCallbackException();
       LOGGER.info("Kafka message progress after flushing and closing producer:");
       logMessageProgress();
@@ -443,6 +545,7 @@ public abstract class AbstractPartitionWriter extends AbstractDataWriterTask imp
     this.enableWriteCompute = (props.containsKey(ENABLE_WRITE_COMPUTE)) && props.getBoolean(ENABLE_WRITE_COMPUTE);
     this.duplicateKeyPrinter = initDuplicateKeyPrinter(props);
     this.telemetryMessageInterval = props.getInt(TELEMETRY_MESSAGE_INTERVAL, 10000);
+    this.bulkLoadSstOutputDir = props.getString(BULK_LOAD_SST_OUTPUT_DIR, (String) null);
     this.callback = new PartitionWriterProducerCallback();
     initStorageQuotaFields(props);
     /**
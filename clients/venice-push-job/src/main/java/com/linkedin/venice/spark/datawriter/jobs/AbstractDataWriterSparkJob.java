@@ -20,8 +20,11 @@ import static com.linkedin.venice.spark.SparkConstants.SPARK_SESSION_CONF_PREFIX
 import static com.linkedin.venice.spark.SparkConstants.VALUE_COLUMN_NAME;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.ALLOW_DUPLICATE_KEY;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.BATCH_NUM_BYTES_PROP;
+import static com.linkedin.venice.vpj.VenicePushJobConstants.BULK_LOAD_SST_OUTPUT_DIR;
+import static com.linkedin.venice.vpj.VenicePushJobConstants.BULK_LOAD_SST_TARGET_FILE_SIZE;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.COMPRESSION_METRIC_COLLECTION_ENABLED;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.COMPRESSION_STRATEGY;
+import static com.linkedin.venice.vpj.VenicePushJobConstants.DEFAULT_BULK_LOAD_SST_TARGET_FILE_SIZE;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.DERIVED_SCHEMA_ID_PROP;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.ENABLE_WRITE_COMPUTE;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.EXTENDED_SCHEMA_VALIDITY_CHECK_ENABLED;
@@ -229,6 +232,13 @@ public abstract class AbstractDataWriterSparkJob extends DataWriterComputeJob {
     jobConf.set(VeniceWriter.ENABLE_RMD_CHUNKING, pushJobSetting.rmdChunkingEnabled);
     jobConf.set(VeniceWriter.MAX_RECORD_SIZE_BYTES, pushJobSetting.maxRecordSizeBytes);
 
+    if (pushJobSetting.bulkLoadSstOutputDir != null) {
+      jobConf.set(BULK_LOAD_SST_OUTPUT_DIR, pushJobSetting.bulkLoadSstOutputDir);
+      jobConf.set(
+          BULK_LOAD_SST_TARGET_FILE_SIZE,
+          props.getLong(BULK_LOAD_SST_TARGET_FILE_SIZE, DEFAULT_BULK_LOAD_SST_TARGET_FILE_SIZE));
+    }
+
     jobConf.set(STORAGE_QUOTA_PROP, pushJobSetting.storeStorageQuota);
 
     if (pushJobSetting.isSourceKafka) {
@@ -355,4 +355,19 @@ public final class VenicePushJobConstants {
    * The class must extend {@link DataWriterComputeJob} and have a zero-arg constructor.
    */
   public static final String DATA_WRITER_COMPUTE_JOB_CLASS = "data.writer.compute.job.class";
+
+  /**
+   * The dir, on a file system shared with the servers, to write the records of a batch push as SST files instead of
+   * producing them to the version topic. The files of every partition are written into
+   * {@code <dir>/<version topic>/<partition>} along with a manifest, even for the empty partitions. The job sends the
+   * end of push itself, announcing the bulk load push to the servers, which ingest the files from the same dir mounted
+   * at {@code server.bulk.load.sst.dir}. Incremental push, repush, write compute and Da Vinci are not supported.
+   */
+  public static final String BULK_LOAD_SST_OUTPUT_DIR = "bulk.load.sst.output.dir";
+
+  /**
+   * The size after which the partition writers roll over to a new SST file in the bulk load mode.
+   */
+  public static final String BULK_LOAD_SST_TARGET_FILE_SIZE = "bulk.load.sst.target.file.size";
+  public static final long DEFAULT_BULK_LOAD_SST_TARGET_FILE_SIZE = 256L * BYTES_PER_MB;
 }
@@ -6,6 +6,7 @@ import static com.linkedin.venice.status.BatchJobHeartbeatConfigs.HEARTBEAT_ENAB
 import static com.linkedin.venice.utils.ByteUtils.BYTES_PER_MB;
 import static com.linkedin.venice.utils.TestWriteUtils.NAME_RECORD_V1_SCHEMA;
 import static com.linkedin.venice.utils.TestWriteUtils.NAME_RECORD_V1_UPDATE_SCHEMA;
+import static com.linkedin.venice.vpj.VenicePushJobConstants.BULK_LOAD_SST_OUTPUT_DIR;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.CONTROLLER_REQUEST_RETRY_ATTEMPTS;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.D2_ZK_HOSTS_PREFIX;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.DEFAULT_KEY_FIELD_PROP;
@@ -24,6 +25,7 @@ import static com.linkedin.venice.vpj.VenicePushJobConstants.REPUSH_TTL_SECONDS;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.REPUSH_TTL_START_TIMESTAMP;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.SOURCE_ETL;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.SOURCE_KAFKA;
+import static com.linkedin.venice.vpj.VenicePushJobConstants.SUPPRESS_END_OF_PUSH_MESSAGE;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.SYSTEM_SCHEMA_READER_ENABLED;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.TARGETED_REGION_PUSH_ENABLED;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.TARGETED_REGION_PUSH_LIST;
@@ -54,6 +56,7 @@ import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
+import com.linkedin.davinci.store.rocksdb.BulkLoadManifest;
 import com.linkedin.venice.PushJobCheckpoints;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.controllerapi.ControllerClient;
@@ -543,6 +546,33 @@ public class VenicePushJobTest {
     }
   }
 
+  @Test
+  public void testGetPushJobSettingForBulkLoad() {
+    Properties props = getVpjRequiredProperties();
+    props.put(BULK_LOAD_SST_OUTPUT_DIR, "/bulk_load");
+    try (VenicePushJob vpj = new VenicePushJob(PUSH_JOB_ID, props)) {
+      PushJobSetting pushJobSetting = vpj.getPushJobSetting();
+      // The job sends the end of push itself, since it announces the bulk load push.
+      assertTrue(pushJobSetting.sendControlMessagesDirectly);
+      pushJobSetting.topic = "test_store_v1";
+      assertEquals(
+          VenicePushJob.getEndOfPushDebugInfo(pushJobSetting),
+          Collections.singletonMap(BulkLoadManifest.BULK_LOAD_SST_DIR_DEBUG_INFO_KEY, "/bulk_load/test_store_v1"));
+    }
+
+    try (VenicePushJob vpj = new VenicePushJob(PUSH_JOB_ID, getVpjRequiredProperties())) {
+      assertTrue(VenicePushJob.getEndOfPushDebugInfo(vpj.getPushJobSetting()).isEmpty());
+    }
+  }
+
+  @Test(expectedExceptions = VeniceException.class, expectedExceptionsMessageRegExp = "Bulk load push mode needs the end of push.*")
+  public void testGetPushJobSettingShouldThrowExceptionIfBulkLoadSuppressesEndOfPush() {
+    Properties props = getVpjRequiredProperties();
+    props.put(BULK_LOAD_SST_OUTPUT_DIR, "/bulk_load");
+    props.put(SUPPRESS_END_OF_PUSH_MESSAGE, true);
+    new VenicePushJob(PUSH_JOB_ID, props);
+  }
+
   @Test(expectedExceptions = VeniceException.class, expectedExceptionsMessageRegExp = "Incremental push is not supported while using Kafka Input Format")
   public void testGetPushJobSettingShouldThrowExceptionIfSourceIsKafkaAndJobIsIncPush() {
     Properties props = getVpjRequiredProperties();
@@ -779,6 +779,13 @@ public class ConfigKeys {
   public static final String SERVER_INGESTION_ISOLATION_HEARTBEAT_REQUEST_TIMEOUT_SECONDS =
       "server.ingestion.isolation.heartbeat.request.timeout.seconds";
 
+  /**
+   * The number of the most recently read keys of each store that Da Vinci replays against a partition handed over by
+   * the forked ingestion process, so the partition serves with a warm block cache. 0 disables the warm-up.
+   */
+  public static final String SERVER_INGESTION_ISOLATION_HANDOVER_WARM_UP_KEY_COUNT =
+      "server.ingestion.isolation.handover.warm.up.key.count";
+
   public static final String SERVER_BATCH_REPORT_END_OF_INCREMENTAL_PUSH_STATUS_ENABLED =
       "server.batch.report.end.of.incremental.push.status.enabled";
 
@@ -1765,6 +1772,36 @@ public class ConfigKeys {
   public static final String DAVINCI_P2P_BLOB_TRANSFER_SERVER_PORT = "davinci.p2p.blob.transfer.server.port";
   // Ideally this config should NOT be used but for testing purpose on a single host, we need to separate the ports.
   public static final String DAVINCI_P2P_BLOB_TRANSFER_CLIENT_PORT = "davinci.p2p.blob.transfer.client.port";
+
+  /**
+   * Whether to fetch the snapshot of a partition from multiple peers in parallel, a range of a file at a time, instead
+   * of streaming the whole snapshot from a single peer.
+   */
+  public static final String BLOB_TRANSFER_PARALLEL_MODE_ENABLED = "blob.transfer.parallel.mode.enabled";
+
+  /**
+   * The max number of peers to fetch the snapshot of a partition from in parallel mode.
+   */
+  public static final String BLOB_TRANSFER_MAX_PEERS_PER_PARTITION = "blob.transfer.max.peers.per.partition";
+
+  /**
+   * The max number of file ranges of a partition being fetched at the same time in parallel mode.
+   */
+  public static final String BLOB_TRANSFER_MAX_CONCURRENT_RANGES_PER_PARTITION =
+      "blob.transfer.max.concurrent.ranges.per.partition";
+
+  /**
+   * The size of the file ranges fetched in parallel mode. A failed range is fetched again, so this also bounds the
+   * amount of data transferred again after a failure.
+   */
+  public static final String BLOB_TRANSFER_RANGE_SIZE_IN_BYTES = "blob.transfer.range.size.in.bytes";
+
+  /**
+   * The max bandwidth used by all the blob transfers to this host. Non-positive value means no limit.
+   */
+  public static final String BLOB_TRANSFER_MAX_BANDWIDTH_IN_BYTES_PER_SECOND =
+      "blob.transfer.max.bandwidth.in.bytes.per.second";
+
   public static final String CONTROLLER_ZK_SHARED_DAVINCI_PUSH_STATUS_SYSTEM_SCHEMA_STORE_AUTO_CREATION_ENABLED =
       "controller.zk.shared.davinci.push.status.system.schema.store.auto.creation.enabled";
 
@@ -1801,6 +1838,13 @@ public class ConfigKeys {
    */
   public static final String DAVINCI_PUSH_STATUS_CHECK_INTERVAL_IN_MS = "davinci.push.status.check.interval.in.ms";
 
+  /**
+   * How long a RocksDB snapshot opened for the snapshot reads of a Da Vinci partition is shared by the following
+   * reads, which trades the freshness of these reads for the cost of opening a snapshot per request. The snapshot is
+   * not shared if the value is not positive.
+   */
+  public static final String DAVINCI_SNAPSHOT_READ_REUSE_WINDOW_IN_MS = "davinci.snapshot.read.reuse.window.in.ms";
+
   /**
    * The number of threads that will be used to perform SSL handshakes between clients and a router.
    */
@@ -2301,4 +2345,163 @@ public class ConfigKeys {
   public static final String SERVER_AA_WC_WORKLOAD_PARALLEL_PROCESSING_THREAD_POOL_SIZE =
       "server.aa.wc.workload.parallel.processing.thread.pool.size";
   public static final String SERVER_GLOBAL_RT_DIV_ENABLED = "server.global.rt.div.enabled";
+
+  /**
+   * Whether to share the poll capacity of each shared consumer among its partitions by priority class: current version
+   * leaders consuming real-time topics first, then current version followers, then future versions, then backups.
+   * Lower priority partitions get paused while a higher priority class is lagging and has received less than its
+   * weighted share of the consumed records.
+   */
+  public static final String SERVER_CONSUMPTION_PRIORITY_SCHEDULING_ENABLED =
+      "server.consumption.priority.scheduling.enabled";
+
+  /**
+   * How often the consumption priority scheduler re-evaluates which partitions to pause or resume.
+   */
+  public static final String SERVER_CONSUMPTION_PRIORITY_SCHEDULING_INTERVAL_MS =
+      "server.consumption.priority.scheduling.interval.ms";
+
+  /**
+   * The dir where the bulk load push jobs put the SST files of the partitions, usually a mounted shared file system,
+   * see {@code bulk.load.sst.output.dir} of the push job. When a partition reaches the end of push which announces a
+   * bulk load push, the files in {@code <dir>/<version topic>/<partition>} are verified and ingested. The partitions of
+   * a bulk load push fail if it is not set, or if the manifest or the files are missing. Da Vinci doesn't support it.
+   */
+  public static final String SERVER_BULK_LOAD_SST_DIR = "server.bulk.load.sst.dir";
+
+  /**
+   * Whether Router should cache the values returned by storage nodes for single-get and non-streaming batch-get
+   * requests, so that repeated lookups of the same keys against the current version are served without fanning out.
+   */
+  public static final String ROUTER_READ_CACHE_ENABLED = "router.read.cache.enabled";
+
+  /**
+   * The capacity of the router read cache, measured by the size of the cached keys and values.
+   */
+  public static final String ROUTER_READ_CACHE_SIZE_IN_BYTES = "router.read.cache.size.in.bytes";
+
+  /**
+   * The time-to-live of the router read cache entries of hybrid stores, whose current version keeps changing with the
+   * real-time writes. Hybrid stores are not cached when this is not positive, while batch-only stores are always cached
+   * until the next version swap.
+   */
+  public static final String ROUTER_READ_CACHE_HYBRID_STORE_TTL_MS = "router.read.cache.hybrid.store.ttl.ms";
+
+  /**
+   * Whether Router should derive the long-tail retry threshold of each request from the live latency distribution of
+   * the storage nodes serving it, instead of using the static thresholds, so that a scattered request is hedged to a
+   * different replica once it is slower than the configured latency quantile of its storage node.
+   */
+  public static final String ROUTER_ADAPTIVE_HEDGING_ENABLED = "router.adaptive.hedging.enabled";
+
+  /**
+   * The latency quantile of each storage node, in decimal, after which a scattered request gets hedged, e.g. 0.95
+   * would hedge the requests slower than the p95 latency of their storage node.
+   */
+  public static final String ROUTER_ADAPTIVE_HEDGING_LATENCY_QUANTILE = "router.adaptive.hedging.latency.quantile";
+
+  /**
+   * The window of the per storage node latency distribution, after which the hedging threshold of the storage node is
+   * refreshed.
+   */
+  public static final String ROUTER_ADAPTIVE_HEDGING_WINDOW_MS = "router.adaptive.hedging.window.ms";
+
+  /**
+   * The min number of latency samples within a window to refresh the hedging threshold of a storage node. The window
+   * gets extended until it has enough samples.
+   */
+  public static final String ROUTER_ADAPTIVE_HEDGING_MIN_SAMPLES_PER_WINDOW =
+      "router.adaptive.hedging.min.samples.per.window";
+
+  /**
+   * Lower bound of the adaptive long-tail retry threshold, to avoid hedging too aggressively against fast storage
+   * nodes.
+   */
+  public static final String ROUTER_ADAPTIVE_HEDGING_MIN_THRESHOLD_MS = "router.adaptive.hedging.min.threshold.ms";
+
+  /**
+   * Upper bound of the adaptive long-tail retry threshold, to keep hedging useful against slow storage nodes.
+   */
+  public static final String ROUTER_ADAPTIVE_HEDGING_MAX_THRESHOLD_MS = "router.adaptive.hedging.max.threshold.ms";
+
+  /**
+   * Percentage of all the scattered requests of a Router that are allowed to be hedged, in decimal. This budget is
+   * shared by all the stores, and it applies on top of the per store long-tail retry budget.
+   */
+  public static final String ROUTER_ADAPTIVE_HEDGING_BUDGET_PERCENT_DECIMAL =
+      "router.adaptive.hedging.budget.percent.decimal";
+
+  /**
+   * Enforcement window for the router adaptive hedging budget token bucket.
+   */
+  public static final String ROUTER_ADAPTIVE_HEDGING_BUDGET_ENFORCEMENT_WINDOW_MS =
+      "router.adaptive.hedging.budget.enforcement.window.ms";
+
+  /**
+   * For {@literal VeniceMultiKeyRoutingStrategy#PARTITION_LOCALITY_ROUTING}, the max number of pending requests a
+   * replica could carry on top of the least loaded replica of the same partition, to still be considered for routing.
+   */
+  public static final String ROUTER_PARTITION_LOCALITY_ROUTING_PENDING_REQUEST_SLACK =
+      "router.partition.locality.routing.pending.request.slack";
+
+  /**
+   * Whether routers should split the read quota of each store according to the usage reported by every router,
+   * instead of giving each router an equal share of it. The usage is exchanged through the router ZNodes.
+   */
+  public static final String ROUTER_CLUSTER_COORDINATED_READ_QUOTA_ENABLED =
+      "router.cluster.coordinated.read.quota.enabled";
+
+  /**
+   * How often each router publishes its read quota usage and rebalances its share of the store read quotas, when
+   * {@link #ROUTER_CLUSTER_COORDINATED_READ_QUOTA_ENABLED} is on.
+   */
+  public static final String ROUTER_CLUSTER_COORDINATED_READ_QUOTA_SYNC_INTERVAL_MS =
+      "router.cluster.coordinated.read.quota.sync.interval.ms";
+
+  /**
+   * Fraction of the read quota of each store which is split evenly among the routers regardless of their usage, so
+   * that a router could absorb new traffic until the next rebalance.
+   */
+  public static final String ROUTER_CLUSTER_COORDINATED_READ_QUOTA_MIN_SHARE =
+      "router.cluster.coordinated.read.quota.min.share";
+
+  /**
+   * Max number of stores whose usage each router publishes in its router ZNode, when
+   * {@link #ROUTER_CLUSTER_COORDINATED_READ_QUOTA_ENABLED} is on. Only the busiest stores are published, which bounds
+   * the size of the ZNode regardless of the number of stores in the cluster.
+   */
+  public static final String ROUTER_CLUSTER_COORDINATED_READ_QUOTA_MAX_REPORTED_STORES =
+      "router.cluster.coordinated.read.quota.max.reported.stores";
+
+  /**
+   * Number of IO threads used by the HTTP/2 storage node client of the router.
+   */
+  public static final String ROUTER_HTTP2_CLIENT_IO_THREAD_COUNT = "router.http2.client.io.thread.count";
+
+  /**
+   * Max number of HTTP/2 connections the router opens to each storage node, when using the HTTP/2 storage node client.
+   */
+  public static final String ROUTER_HTTP2_CLIENT_MAX_CONNECTIONS_PER_HOST =
+      "router.http2.client.max.connections.per.host";
+
+  /**
+   * Max number of concurrent streams the router opens on each HTTP/2 connection to a storage node.
+   */
+  public static final String ROUTER_HTTP2_CLIENT_MAX_CONCURRENT_STREAMS = "router.http2.client.max.concurrent.streams";
+
+  /**
+   * Initial flow-control window size of each stream, which the router advertises to the storage nodes.
+   */
+  public static final String ROUTER_HTTP2_CLIENT_INITIAL_WINDOW_SIZE = "router.http2.client.initial.window.size";
+
+  /**
+   * Flow-control window size of each HTTP/2 connection, which bounds the response bytes in flight on the connection
+   * across all its streams.
+   */
+  public static final String ROUTER_HTTP2_CLIENT_CONNECTION_WINDOW_SIZE = "router.http2.client.connection.window.size";
+
+  /**
+   * Max HTTP/2 frame size the router accepts from the storage nodes.
+   */
+  public static final String ROUTER_HTTP2_CLIENT_MAX_FRAME_SIZE = "router.http2.client.max.frame.size";
 }
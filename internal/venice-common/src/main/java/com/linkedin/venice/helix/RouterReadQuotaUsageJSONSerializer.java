@@ -0,0 +1,23 @@
+package com.linkedin.venice.helix;
+
+import com.linkedin.venice.meta.RouterReadQuotaUsage;
+import java.io.IOException;
+
+
+/**
+ * Serializer used to convert data between RouterReadQuotaUsage Object and JSON string. The ZNode of a router which
+ * has not reported any usage yet has no data, which is deserialized to null.
+ */
+public class RouterReadQuotaUsageJSONSerializer extends VeniceJsonSerializer<RouterReadQuotaUsage> {
+  public RouterReadQuotaUsageJSONSerializer() {
+    super(RouterReadQuotaUsage.class);
+  }
+
+  @Override
+  public RouterReadQuotaUsage deserialize(byte[] bytes, String path) throws IOException {
+    if (bytes == null || bytes.length == 0) {
+      return null;
+    }
+    return super.deserialize(bytes, path);
+  }
+}
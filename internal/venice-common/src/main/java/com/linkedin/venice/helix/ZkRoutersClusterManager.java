@@ -5,11 +5,15 @@ import static com.linkedin.venice.zk.VeniceZkPaths.ROUTERS;
 import com.linkedin.venice.VeniceResource;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.meta.RouterReadQuotaUsage;
 import com.linkedin.venice.meta.RoutersClusterConfig;
 import com.linkedin.venice.meta.RoutersClusterManager;
 import com.linkedin.venice.utils.HelixUtils;
+import com.linkedin.venice.utils.PathResourceRegistry;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
@@ -60,6 +64,9 @@ public class ZkRoutersClusterManager
     routerCountListeners = new HashSet<>();
     this.liveRouterInstanceSet = new HashSet<>();
     adapter.registerSerializer(getRouterRootPath(), new RouterClusterConfigJSONSerializer());
+    adapter.registerSerializer(
+        getRouterPath(PathResourceRegistry.WILDCARD_MATCH_ANY),
+        new RouterReadQuotaUsageJSONSerializer());
     zkClient.setZkSerializer(adapter);
     dataAccessor = new ZkBaseDataAccessor<>(zkClient);
     zkStateListener =
@@ -231,6 +238,31 @@ public class ZkRoutersClusterManager
     }
   }
 
+  /**
+   * The usage is written into the ephemeral ZNode of the router, so it goes away together with the router, and
+   * updating it does not trigger any router count change.
+   */
+  @Override
+  public void updateRouterReadQuotaUsage(String instanceId, RouterReadQuotaUsage usage) {
+    try {
+      zkClient.writeData(getRouterPath(instanceId), usage);
+    } catch (ZkNoNodeException e) {
+      LOGGER.warn("Could not update the read quota usage of router: {} since it is not registered.", instanceId);
+    }
+  }
+
+  @Override
+  public Map<String, RouterReadQuotaUsage> getRoutersReadQuotaUsage() {
+    Map<String, RouterReadQuotaUsage> routersUsage = new HashMap<>();
+    for (String instanceId: zkClient.getChildren(getRouterRootPath())) {
+      RouterReadQuotaUsage usage = zkClient.readData(getRouterPath(instanceId), true);
+      if (usage != null) {
+        routersUsage.put(instanceId, usage);
+      }
+    }
+    return routersUsage;
+  }
+
   public RoutersClusterConfig getRoutersClusterConfig() {
     return routersClusterConfig.cloneRoutesClusterConfig();
   }
@@ -1,5 +1,6 @@
 package com.linkedin.venice.ingestion.protocol.enums;
 
 public enum IngestionAction {
-  COMMAND, REPORT, METRIC, HEARTBEAT, UPDATE_METADATA, SHUTDOWN_COMPONENT, GET_LOADED_STORE_USER_PARTITION_MAPPING
+  COMMAND, REPORT, METRIC, HEARTBEAT, UPDATE_METADATA, SHUTDOWN_COMPONENT, GET_LOADED_STORE_USER_PARTITION_MAPPING,
+  UPDATE_METADATA_BATCH
 }
@@ -0,0 +1,97 @@
+package com.linkedin.venice.meta;
+
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * The read quota usage of one router, which is shared with the other routers of the cluster through
+ * {@link RoutersClusterManager}, so that the routers could split the read quota of each store according to where the
+ * traffic actually lands.
+ */
+public class RouterReadQuotaUsage {
+  /**
+   * Store name -> read capacity units per second requested from this router, including the rejected requests.
+   *
+   * Only the busiest stores are reported, to bound the size of the report regardless of the number of stores.
+   */
+  private Map<String, Long> storeUsage = new HashMap<>();
+  /**
+   * Upper bound of the usage of the stores which are not in {@link #storeUsage}, which is 0 when all the stores with
+   * some usage have been reported.
+   */
+  private long unreportedStoreUsage;
+  /**
+   * The time when this usage was reported, which is used to ignore the reports of stuck routers.
+   */
+  private long timestamp;
+
+  public RouterReadQuotaUsage() {
+  }
+
+  public RouterReadQuotaUsage(Map<String, Long> storeUsage, long timestamp) {
+    this(storeUsage, 0, timestamp);
+  }
+
+  public RouterReadQuotaUsage(Map<String, Long> storeUsage, long unreportedStoreUsage, long timestamp) {
+    this.storeUsage = storeUsage;
+    this.unreportedStoreUsage = unreportedStoreUsage;
+    this.timestamp = timestamp;
+  }
+
+  public Map<String, Long> getStoreUsage() {
+    return storeUsage;
+  }
+
+  public void setStoreUsage(Map<String, Long> storeUsage) {
+    this.storeUsage = storeUsage;
+  }
+
+  public long getUnreportedStoreUsage() {
+    return unreportedStoreUsage;
+  }
+
+  public void setUnreportedStoreUsage(long unreportedStoreUsage) {
+    this.unreportedStoreUsage = unreportedStoreUsage;
+  }
+
+  /**
+   * @return the usage of the given store, or the upper bound of it if the store has not been reported.
+   */
+  public long getStoreUsage(String storeName) {
+    return storeUsage.getOrDefault(storeName, unreportedStoreUsage);
+  }
+
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+  public void setTimestamp(long timestamp) {
+    this.timestamp = timestamp;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    RouterReadQuotaUsage usage = (RouterReadQuotaUsage) o;
+
+    if (timestamp != usage.timestamp || unreportedStoreUsage != usage.unreportedStoreUsage) {
+      return false;
+    }
+    return storeUsage.equals(usage.storeUsage);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = storeUsage.hashCode();
+    result = 31 * result + Long.hashCode(unreportedStoreUsage);
+    result = 31 * result + Long.hashCode(timestamp);
+    return result;
+  }
+}
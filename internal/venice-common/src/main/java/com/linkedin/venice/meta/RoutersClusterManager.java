@@ -1,5 +1,6 @@
 package com.linkedin.venice.meta;
 
+import java.util.Map;
 import java.util.Set;
 
 
@@ -59,6 +60,18 @@ public interface RoutersClusterManager {
 
   void createRouterClusterConfig();
 
+  /**
+   * Publish the read quota usage of the given router, so that the other routers of the cluster could take it into
+   * account while splitting the read quota of each store.
+   */
+  void updateRouterReadQuotaUsage(String instanceId, RouterReadQuotaUsage usage);
+
+  /**
+   * Get the latest read quota usage published by each live router, keyed by router instance id. The routers which have
+   * not published any usage are not included.
+   */
+  Map<String, RouterReadQuotaUsage> getRoutersReadQuotaUsage();
+
   interface RouterCountChangedListener {
     void handleRouterCountChanged(int newRouterCount);
   }
@@ -6,6 +6,7 @@ import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceMessageException;
 import com.linkedin.venice.ingestion.protocol.IngestionMetricsReport;
 import com.linkedin.venice.ingestion.protocol.IngestionStorageMetadata;
+import com.linkedin.venice.ingestion.protocol.IngestionStorageMetadataBatch;
 import com.linkedin.venice.ingestion.protocol.IngestionTaskCommand;
 import com.linkedin.venice.ingestion.protocol.IngestionTaskReport;
 import com.linkedin.venice.ingestion.protocol.LoadedStoreUserPartitionMapping;
@@ -135,6 +136,12 @@ public enum AvroProtocolDefinition {
    */
   LOADED_STORE_USER_PARTITION_MAPPING(35, 1, LoadedStoreUserPartitionMapping.class),
 
+  /**
+   * Used to encode a batch of storage metadata updates that are sent from Storage Node / Da Vinci backend to child
+   * process.
+   */
+  INGESTION_STORAGE_METADATA_BATCH(36, 1, IngestionStorageMetadataBatch.class),
+
   /**
    * Key schema for metadata system store.
    */
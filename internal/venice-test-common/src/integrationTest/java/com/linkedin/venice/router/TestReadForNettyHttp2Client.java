@@ -0,0 +1,100 @@
+package com.linkedin.venice.router;
+
+import static com.linkedin.venice.HttpConstants.HTTP_GET;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.venice.integration.utils.VeniceClusterWrapper;
+import com.linkedin.venice.integration.utils.VeniceServerWrapper;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.meta.QueryAction;
+import com.linkedin.venice.router.httpclient.NettyHttp2StorageNodeClient;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import com.linkedin.venice.router.httpclient.StorageNodeClientType;
+import com.linkedin.venice.router.httpclient.VeniceMetaDataRequest;
+import com.linkedin.venice.security.SSLFactory;
+import com.linkedin.venice.utils.SslUtils;
+import com.linkedin.venice.utils.TestUtils;
+import com.linkedin.venice.utils.Utils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestReadForNettyHttp2Client extends TestRead {
+  private final Logger LOGGER = LogManager.getLogger(this.getClass());
+
+  @Override
+  protected StorageNodeClientType getStorageNodeClientType() {
+    return StorageNodeClientType.NETTY_HTTP2_CLIENT;
+  }
+
+  @Override
+  protected boolean isRouterHttp2ClientEnabled() {
+    return true;
+  }
+
+  @Override
+  protected boolean isTestEnabled() {
+    boolean testEnabled = Utils.getJavaMajorVersion() >= 11;
+    if (!testEnabled) {
+      LOGGER.info(
+          "All the tests are disabled since StorageNodeClientType: {} requires JDK11 or above",
+          StorageNodeClientType.NETTY_HTTP2_CLIENT);
+    }
+    return testEnabled;
+  }
+
+  @Test
+  public void testConcurrentRequestsAreMultiplexed() throws Exception {
+    if (!isTestEnabled()) {
+      return;
+    }
+    VeniceClusterWrapper veniceCluster = getVeniceCluster();
+    VeniceServerWrapper serverWrapper = veniceCluster.getVeniceServers().get(0);
+    Instance serverInstance = Instance.fromHostAndPort(serverWrapper.getHost(), serverWrapper.getPort());
+    Optional<SSLFactory> sslFactory = Optional.of(SslUtils.getVeniceLocalSslFactory());
+
+    VeniceRouterConfig config = mock(VeniceRouterConfig.class);
+    doReturn(2).when(config).getHttp2ClientIOThreadCount();
+    doReturn(1).when(config).getHttp2ClientMaxConnectionsPerHost();
+    doReturn(100).when(config).getHttp2ClientMaxConcurrentStreams();
+    doReturn(1024 * 1024).when(config).getHttp2ClientInitialWindowSize();
+    doReturn(4 * 1024 * 1024).when(config).getHttp2ClientConnectionWindowSize();
+    doReturn(16 * 1024).when(config).getHttp2ClientMaxFrameSize();
+    doReturn(1000).when(config).getSocketTimeout();
+    doReturn(1000).when(config).getConnectionTimeout();
+    NettyHttp2StorageNodeClient client = new NettyHttp2StorageNodeClient(sslFactory, config);
+    try {
+      // All the heartbeat requests share a single connection.
+      List<CompletableFuture<PortableHttpResponse>> responseFutures = new ArrayList<>();
+      for (int i = 0; i < 50; i++) {
+        VeniceMetaDataRequest request = new VeniceMetaDataRequest(
+            serverInstance,
+            QueryAction.HEALTH.toString().toLowerCase(),
+            HTTP_GET,
+            sslFactory.isPresent());
+        CompletableFuture<PortableHttpResponse> responseFuture = new CompletableFuture<>();
+        client.sendRequest(request, responseFuture);
+        responseFutures.add(responseFuture);
+      }
+      for (CompletableFuture<PortableHttpResponse> responseFuture: responseFutures) {
+        Assert.assertEquals(responseFuture.get(3, TimeUnit.SECONDS).getStatusCode(), 200);
+      }
+      Assert.assertTrue(client.isInstanceReadyToServe(serverInstance.getNodeId()));
+      Assert.assertEquals(client.getOpenConnectionCount(), 1);
+    } finally {
+      client.close();
+    }
+    TestUtils.waitForNonDeterministicAssertion(
+        10,
+        TimeUnit.SECONDS,
+        () -> Assert.assertEquals(client.getOpenConnectionCount(), 0));
+  }
+}
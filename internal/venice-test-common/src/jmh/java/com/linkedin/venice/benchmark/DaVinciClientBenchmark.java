@@ -5,6 +5,7 @@ import static com.linkedin.venice.integration.utils.ServiceFactory.getVeniceClus
 
 import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.davinci.client.DaVinciClient;
+import com.linkedin.davinci.client.DaVinciConfig;
 import com.linkedin.venice.integration.utils.VeniceClusterCreateOptions;
 import com.linkedin.venice.integration.utils.VeniceClusterWrapper;
 import com.linkedin.venice.utils.TestUtils;
@@ -59,6 +60,9 @@ public class DaVinciClientBenchmark {
   @Param({ "1" })
   int partitionCount;
 
+  @Param({ "false", "true" })
+  boolean adaptiveBatchGet;
+
   VeniceClusterWrapper cluster;
   DaVinciClient<Integer, GenericRecord> client;
 
@@ -84,7 +88,11 @@ public class DaVinciClientBenchmark {
 
     keyCount = (int) (dataSize / valueSize);
     String storeName = buildDenseVectorStore(cluster);
-    client = getGenericAvroDaVinciClient(storeName, cluster);
+    client = getGenericAvroDaVinciClient(
+        storeName,
+        cluster,
+        Utils.getTempDataDirectory().getAbsolutePath(),
+        new DaVinciConfig().setAdaptiveBatchGetEnabled(adaptiveBatchGet));
     client.subscribeAll().get(5, TimeUnit.MINUTES);
 
     // Close as much as possible of the stuff we don't need, to minimize interference.
@@ -145,7 +153,7 @@ public class DaVinciClientBenchmark {
 
   @State(Scope.Thread)
   public static class BatchGetThreadContext {
-    @Param({ "100" })
+    @Param({ "100", "1000" })
     int batchGetSize;
     Set<Integer> keys;
     Map<Integer, GenericRecord> result;
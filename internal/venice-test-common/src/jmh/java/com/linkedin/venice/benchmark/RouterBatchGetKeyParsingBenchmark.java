@@ -0,0 +1,160 @@
+package com.linkedin.venice.benchmark;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
+import com.linkedin.alpini.router.api.RouterException;
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.meta.RetryManager;
+import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
+import com.linkedin.venice.partitioner.VenicePartitioner;
+import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1;
+import com.linkedin.venice.router.RouterThrottleHandler;
+import com.linkedin.venice.router.api.RouterKey;
+import com.linkedin.venice.router.api.VenicePartitionFinder;
+import com.linkedin.venice.router.api.path.VeniceMultiGetPath;
+import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import io.tehuti.metrics.MetricsRepository;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.io.OptimizedBinaryDecoderFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures how Router parses, partitions and re-serializes the keys of a batch-get request, which happens for every
+ * batch-get request before scattering it to the storage nodes.
+ *
+ * Both benchmarks do the same work, from the request extracted by the throttle handler to the body sent to the storage
+ * nodes: {@link #deserializeAndPartitionKeys} mimics the former implementation, which deserialized the keys into their
+ * own byte arrays and kept a router request key record per key, while {@link #parseAndPartitionKeys} goes through
+ * {@link VeniceMultiGetPath}, which locates the keys in place inside the request content and reuses a single router
+ * request key record during serialization. Running the benchmark with the {@link GCProfiler}, as {@link #main} does,
+ * shows the allocation rate of both.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RouterBatchGetKeyParsingBenchmark {
+  private static final String STORE_NAME = "test_store";
+  private static final int VERSION = 1;
+  private static final String RESOURCE_NAME = STORE_NAME + "_v" + VERSION;
+  private static final int PARTITION_COUNT = 64;
+  private static final RecordDeserializer<ByteBuffer> KEY_DESERIALIZER =
+      FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(
+          ReadAvroProtocolDefinition.MULTI_GET_CLIENT_REQUEST_V1.getSchema(),
+          ReadAvroProtocolDefinition.MULTI_GET_CLIENT_REQUEST_V1.getSchema());
+  private static final RecordSerializer<MultiGetRouterRequestKeyV1> ROUTER_REQUEST_KEY_SERIALIZER =
+      FastSerializerDeserializerFactory.getFastAvroGenericSerializer(MultiGetRouterRequestKeyV1.getClassSchema());
+
+  @Param({ "500" })
+  private int keyCount;
+
+  @Param({ "16", "64" })
+  private int keySize;
+
+  private BasicFullHttpRequest request;
+  private VenicePartitionFinder partitionFinder;
+  private RetryManager disabledRetryManager;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(0);
+    List<ByteBuffer> keys = new ArrayList<>(keyCount);
+    for (int i = 0; i < keyCount; i++) {
+      byte[] key = new byte[keySize];
+      random.nextBytes(key);
+      keys.add(ByteBuffer.wrap(key));
+    }
+    RecordSerializer<ByteBuffer> keySerializer = SerializerDeserializerFactory
+        .getAvroGenericSerializer(ReadAvroProtocolDefinition.MULTI_GET_CLIENT_REQUEST_V1.getSchema());
+    request = new BasicFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/storage/" + RESOURCE_NAME, 0, 0);
+    request.headers()
+        .add(
+            HttpConstants.VENICE_API_VERSION,
+            ReadAvroProtocolDefinition.MULTI_GET_CLIENT_REQUEST_V1.getProtocolVersion());
+    // The throttle handler has already extracted the request content by the time the path gets parsed.
+    request.attr(RouterThrottleHandler.THROTTLE_HANDLER_BYTE_ATTRIBUTE_KEY).set(keySerializer.serializeObjects(keys));
+
+    partitionFinder = mock(VenicePartitionFinder.class);
+    doReturn(PARTITION_COUNT).when(partitionFinder).getNumPartitions(anyString());
+    doReturn(new DefaultVenicePartitioner()).when(partitionFinder).findPartitioner(anyString(), anyInt());
+    disabledRetryManager = new RetryManager(new MetricsRepository(), "disabled_retry_manager", 0, 0, null);
+  }
+
+  @Benchmark
+  public void deserializeAndPartitionKeys(Blackhole bh) {
+    int apiVersion = Integer.parseInt(request.headers().get(HttpConstants.VENICE_API_VERSION));
+    bh.consume(apiVersion);
+    byte[] content = request.attr(RouterThrottleHandler.THROTTLE_HANDLER_BYTE_ATTRIBUTE_KEY).get();
+    Iterable<ByteBuffer> keys = KEY_DESERIALIZER.deserializeObjects(
+        OptimizedBinaryDecoderFactory.defaultFactory().createOptimizedBinaryDecoder(content, 0, content.length));
+    int partitionNum = partitionFinder.getNumPartitions(RESOURCE_NAME);
+    VenicePartitioner venicePartitioner = partitionFinder.findPartitioner(STORE_NAME, VERSION);
+    Map<RouterKey, MultiGetRouterRequestKeyV1> routerKeyMap = new HashMap<>();
+    int keyIdx = 0;
+    for (ByteBuffer key: keys) {
+      RouterKey routerKey = new RouterKey(key);
+      int partitionId = venicePartitioner.getPartitionId(key, partitionNum);
+      routerKey.setPartitionId(partitionId);
+      routerKeyMap.put(routerKey, new MultiGetRouterRequestKeyV1(keyIdx++, key, partitionId));
+    }
+    bh.consume(ROUTER_REQUEST_KEY_SERIALIZER.serializeObjects(routerKeyMap.values()));
+  }
+
+  @Benchmark
+  public void parseAndPartitionKeys(Blackhole bh) throws RouterException {
+    VeniceMultiGetPath path = new VeniceMultiGetPath(
+        STORE_NAME,
+        VERSION,
+        RESOURCE_NAME,
+        request,
+        partitionFinder,
+        keyCount,
+        false,
+        -1,
+        null,
+        -1,
+        disabledRetryManager);
+    bh.consume(path.getBody());
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(RouterBatchGetKeyParsingBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(opt).run();
+  }
+}
@@ -40,6 +40,7 @@ import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.pushstatushelper.PushStatusStoreReader;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.router.acl.RouterStoreAclHandler;
+import com.linkedin.venice.router.api.AdaptiveHedgingManager;
 import com.linkedin.venice.router.api.DictionaryRetrievalService;
 import com.linkedin.venice.router.api.MetaStoreShadowReader;
 import com.linkedin.venice.router.api.RouterExceptionAndTrackingUtils;
@@ -60,6 +61,7 @@ import com.linkedin.venice.router.api.path.VenicePath;
 import com.linkedin.venice.router.api.routing.helix.HelixGroupSelector;
 import com.linkedin.venice.router.httpclient.ApacheHttpAsyncStorageNodeClient;
 import com.linkedin.venice.router.httpclient.HttpClient5StorageNodeClient;
+import com.linkedin.venice.router.httpclient.NettyHttp2StorageNodeClient;
 import com.linkedin.venice.router.httpclient.StorageNodeClient;
 import com.linkedin.venice.router.stats.AdminOperationsStats;
 import com.linkedin.venice.router.stats.AggHostHealthStats;
@@ -73,6 +75,7 @@ import com.linkedin.venice.router.stats.RouterThrottleStats;
 import com.linkedin.venice.router.stats.SecurityStats;
 import com.linkedin.venice.router.stats.StaleVersionStats;
 import com.linkedin.venice.router.streaming.VeniceChunkedWriteHandler;
+import com.linkedin.venice.router.throttle.ClusterReadQuotaCoordinator;
 import com.linkedin.venice.router.throttle.ReadRequestThrottler;
 import com.linkedin.venice.router.throttle.RouterThrottler;
 import com.linkedin.venice.router.utils.VeniceRouterUtils;
@@ -180,6 +183,7 @@ public class RouterServer extends AbstractVeniceService {
   private String d2ServiceName;
   private DictionaryRetrievalService dictionaryRetrievalService;
   private RouterThrottler readRequestThrottler;
+  private ClusterReadQuotaCoordinator readQuotaCoordinator;
 
   private MultithreadEventLoopGroup workerEventLoopGroup;
   private MultithreadEventLoopGroup serverEventLoopGroup;
@@ -488,6 +492,10 @@ public class RouterServer extends AbstractVeniceService {
         LOGGER.info("Router will use HTTP CLIENT5");
         storageNodeClient = new HttpClient5StorageNodeClient(sslFactoryForRequests, config);
         break;
+      case NETTY_HTTP2_CLIENT:
+        LOGGER.info("Router will use Netty HTTP/2 client");
+        storageNodeClient = new NettyHttp2StorageNodeClient(sslFactoryForRequests, config);
+        break;
       default:
         throw new VeniceException(
             "Router client type " + config.getStorageNodeClientType().toString() + " is not supported!");
@@ -548,6 +556,14 @@ public class RouterServer extends AbstractVeniceService {
         config.getRetryManagerCorePoolSize(),
         new DaemonThreadFactory(ROUTER_RETRY_MANAGER_THREAD_PREFIX));
 
+    boolean adaptiveHedgingEnabled = config.isAdaptiveHedgingEnabled();
+    if (adaptiveHedgingEnabled) {
+      AdaptiveHedgingManager adaptiveHedgingManager =
+          new AdaptiveHedgingManager(config, metricsRepository, retryManagerExecutorService);
+      dispatcher.initAdaptiveHedgingManager(adaptiveHedgingManager);
+      scatterGatherMode.initAdaptiveHedgingManager(adaptiveHedgingManager);
+    }
+
     VenicePathParser pathParser = new VenicePathParser(
         versionFinder,
         partitionFinder,
@@ -591,6 +607,13 @@ public class RouterServer extends AbstractVeniceService {
         if (VeniceRouterUtils.isHttpGet(methodName)) {
           // single-get
           path.setLongTailRetryThresholdMs(config.getLongTailRetryForSingleGetThresholdMs());
+          if (adaptiveHedgingEnabled) {
+            /**
+             * The threshold gets adapted by {@link VeniceDelegateMode} while scattering, and it is only read after
+             * that.
+             */
+            return new SuccessAsyncFuture<>(path::getLongTailRetryThresholdMs);
+          }
           return singleGetRetryFuture;
         } else {
           /**
@@ -606,6 +629,9 @@ public class RouterServer extends AbstractVeniceService {
            */
           int longTailRetryThresholdMs = longTailRetryConfigForBatchGet.floorEntry(keyNum).getValue();
           path.setLongTailRetryThresholdMs(longTailRetryThresholdMs);
+          if (adaptiveHedgingEnabled) {
+            return new SuccessAsyncFuture<>(path::getLongTailRetryThresholdMs);
+          }
           return new SuccessAsyncFuture<>(() -> longTailRetryThresholdMs);
         }
       }
@@ -886,6 +912,9 @@ public class RouterServer extends AbstractVeniceService {
     registry.waitForShutdown();
     LOGGER.info("Other resources managed by local ResourceRegistry have been shutdown completely");
 
+    if (readQuotaCoordinator != null) {
+      readQuotaCoordinator.close();
+    }
     routersClusterManager.unregisterRouter(Utils.getHelixNodeIdentifier(config.getHostname(), config.getPort()));
     routersClusterManager.clear();
     routingDataRepository.clear();
@@ -975,15 +1004,26 @@ public class RouterServer extends AbstractVeniceService {
           config.getRefreshAttemptsForZkReconnect(),
           config.getRefreshIntervalForZkReconnectInMs());
       routersClusterManager.refresh();
-      routersClusterManager.registerRouter(Utils.getHelixNodeIdentifier(config.getHostname(), config.getSslPort()));
+      String routerInstanceId = Utils.getHelixNodeIdentifier(config.getHostname(), config.getSslPort());
+      routersClusterManager.registerRouter(routerInstanceId);
       routingDataRepository.refresh();
       hybridStoreQuotaRepository.ifPresent(HelixHybridStoreQuotaRepository::refresh);
 
+      if (config.isClusterCoordinatedReadQuotaEnabled()) {
+        readQuotaCoordinator = new ClusterReadQuotaCoordinator(
+            routersClusterManager,
+            metadataRepository,
+            routerStats.getStatsByType(RequestType.SINGLE_GET),
+            routerInstanceId,
+            config);
+        readQuotaCoordinator.start();
+      }
       readRequestThrottler = new ReadRequestThrottler(
           routersClusterManager,
           metadataRepository,
           routerStats.getStatsByType(RequestType.SINGLE_GET),
-          config);
+          config,
+          readQuotaCoordinator);
 
       // Setup read requests throttler.
       scatterGatherMode.initReadRequestThrottler(readRequestThrottler);
@@ -17,12 +17,24 @@ import static com.linkedin.venice.ConfigKeys.LISTENER_SSL_PORT;
 import static com.linkedin.venice.ConfigKeys.MAX_READ_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.REFRESH_ATTEMPTS_FOR_ZK_RECONNECT;
 import static com.linkedin.venice.ConfigKeys.REFRESH_INTERVAL_FOR_ZK_RECONNECT_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_ADAPTIVE_HEDGING_BUDGET_ENFORCEMENT_WINDOW_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_ADAPTIVE_HEDGING_BUDGET_PERCENT_DECIMAL;
+import static com.linkedin.venice.ConfigKeys.ROUTER_ADAPTIVE_HEDGING_ENABLED;
+import static com.linkedin.venice.ConfigKeys.ROUTER_ADAPTIVE_HEDGING_LATENCY_QUANTILE;
+import static com.linkedin.venice.ConfigKeys.ROUTER_ADAPTIVE_HEDGING_MAX_THRESHOLD_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_ADAPTIVE_HEDGING_MIN_SAMPLES_PER_WINDOW;
+import static com.linkedin.venice.ConfigKeys.ROUTER_ADAPTIVE_HEDGING_MIN_THRESHOLD_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_ADAPTIVE_HEDGING_WINDOW_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_ASYNC_START_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_CLIENT_DECOMPRESSION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_CLIENT_RESOLUTION_RETRY_ATTEMPTS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_CLIENT_RESOLUTION_RETRY_BACKOFF_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_CLIENT_SSL_HANDSHAKE_QUEUE_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.ROUTER_CLIENT_SSL_HANDSHAKE_THREADS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_CLUSTER_COORDINATED_READ_QUOTA_ENABLED;
+import static com.linkedin.venice.ConfigKeys.ROUTER_CLUSTER_COORDINATED_READ_QUOTA_MAX_REPORTED_STORES;
+import static com.linkedin.venice.ConfigKeys.ROUTER_CLUSTER_COORDINATED_READ_QUOTA_MIN_SHARE;
+import static com.linkedin.venice.ConfigKeys.ROUTER_CLUSTER_COORDINATED_READ_QUOTA_SYNC_INTERVAL_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_COMPUTE_FAST_AVRO_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_COMPUTE_TARDY_LATENCY_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_CONNECTION_LIMIT;
@@ -37,6 +49,12 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_FULL_PENDING_QUEUE_SERVER_OO
 import static com.linkedin.venice.ConfigKeys.ROUTER_HEART_BEAT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_HELIX_ASSISTED_ROUTING_GROUP_SELECTION_STRATEGY;
 import static com.linkedin.venice.ConfigKeys.ROUTER_HELIX_VIRTUAL_GROUP_FIELD_IN_DOMAIN;
+import static com.linkedin.venice.ConfigKeys.ROUTER_HTTP2_CLIENT_CONNECTION_WINDOW_SIZE;
+import static com.linkedin.venice.ConfigKeys.ROUTER_HTTP2_CLIENT_INITIAL_WINDOW_SIZE;
+import static com.linkedin.venice.ConfigKeys.ROUTER_HTTP2_CLIENT_IO_THREAD_COUNT;
+import static com.linkedin.venice.ConfigKeys.ROUTER_HTTP2_CLIENT_MAX_CONCURRENT_STREAMS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_HTTP2_CLIENT_MAX_CONNECTIONS_PER_HOST;
+import static com.linkedin.venice.ConfigKeys.ROUTER_HTTP2_CLIENT_MAX_FRAME_SIZE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_HTTP2_HEADER_TABLE_SIZE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_HTTP2_INBOUND_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_HTTP2_INITIAL_WINDOW_SIZE;
@@ -75,11 +93,15 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_MULTIGET_TARDY_LATENCY_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_MULTI_KEY_LONG_TAIL_RETRY_BUDGET_PERCENT_DECIMAL;
 import static com.linkedin.venice.ConfigKeys.ROUTER_MULTI_KEY_ROUTING_STRATEGY;
 import static com.linkedin.venice.ConfigKeys.ROUTER_NETTY_GRACEFUL_SHUTDOWN_PERIOD_SECONDS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_PARTITION_LOCALITY_ROUTING_PENDING_REQUEST_SLACK;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PENDING_CONNECTION_RESUME_THRESHOLD_PER_ROUTE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PER_NODE_CLIENT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PER_NODE_CLIENT_THREAD_COUNT;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PER_STORE_ROUTER_QUOTA_BUFFER;
 import static com.linkedin.venice.ConfigKeys.ROUTER_QUOTA_CHECK_WINDOW;
+import static com.linkedin.venice.ConfigKeys.ROUTER_READ_CACHE_ENABLED;
+import static com.linkedin.venice.ConfigKeys.ROUTER_READ_CACHE_HYBRID_STORE_TTL_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_READ_CACHE_SIZE_IN_BYTES;
 import static com.linkedin.venice.ConfigKeys.ROUTER_READ_QUOTA_THROTTLING_LEASE_TIMEOUT_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_RESOLVE_BEFORE_SSL;
 import static com.linkedin.venice.ConfigKeys.ROUTER_RETRY_MANAGER_CORE_POOL_SIZE;
@@ -223,6 +245,28 @@ public class VeniceRouterConfig {
   private double multiKeyLongTailRetryBudgetPercentDecimal;
   private long longTailRetryBudgetEnforcementWindowInMs;
   private int retryManagerCorePoolSize;
+  private boolean readCacheEnabled;
+  private long readCacheSizeInBytes;
+  private long readCacheHybridStoreTtlMs;
+  private boolean adaptiveHedgingEnabled;
+  private double adaptiveHedgingLatencyQuantile;
+  private long adaptiveHedgingWindowMs;
+  private int adaptiveHedgingMinSamplesPerWindow;
+  private int adaptiveHedgingMinThresholdMs;
+  private int adaptiveHedgingMaxThresholdMs;
+  private double adaptiveHedgingBudgetPercentDecimal;
+  private long adaptiveHedgingBudgetEnforcementWindowMs;
+  private long partitionLocalityRoutingPendingRequestSlack;
+  private boolean clusterCoordinatedReadQuotaEnabled;
+  private long clusterCoordinatedReadQuotaSyncIntervalMs;
+  private double clusterCoordinatedReadQuotaMinShare;
+  private int clusterCoordinatedReadQuotaMaxReportedStores;
+  private int http2ClientIOThreadCount;
+  private int http2ClientMaxConnectionsPerHost;
+  private int http2ClientMaxConcurrentStreams;
+  private int http2ClientInitialWindowSize;
+  private int http2ClientConnectionWindowSize;
+  private int http2ClientMaxFrameSize;
 
   public VeniceRouterConfig(VeniceProperties props) {
     try {
@@ -409,6 +453,33 @@ public class VeniceRouterConfig {
     longTailRetryBudgetEnforcementWindowInMs =
         props.getLong(ROUTER_LONG_TAIL_RETRY_BUDGET_ENFORCEMENT_WINDOW_MS, Time.MS_PER_MINUTE);
     retryManagerCorePoolSize = props.getInt(ROUTER_RETRY_MANAGER_CORE_POOL_SIZE, 5);
+    readCacheEnabled = props.getBoolean(ROUTER_READ_CACHE_ENABLED, false);
+    readCacheSizeInBytes = props.getSizeInBytes(ROUTER_READ_CACHE_SIZE_IN_BYTES, 512 * 1024 * 1024L);
+    readCacheHybridStoreTtlMs = props.getLong(ROUTER_READ_CACHE_HYBRID_STORE_TTL_MS, 0);
+    adaptiveHedgingEnabled = props.getBoolean(ROUTER_ADAPTIVE_HEDGING_ENABLED, false);
+    adaptiveHedgingLatencyQuantile = props.getDouble(ROUTER_ADAPTIVE_HEDGING_LATENCY_QUANTILE, 0.95);
+    adaptiveHedgingWindowMs = props.getLong(ROUTER_ADAPTIVE_HEDGING_WINDOW_MS, 10 * Time.MS_PER_SECOND);
+    adaptiveHedgingMinSamplesPerWindow = props.getInt(ROUTER_ADAPTIVE_HEDGING_MIN_SAMPLES_PER_WINDOW, 100);
+    adaptiveHedgingMinThresholdMs = props.getInt(ROUTER_ADAPTIVE_HEDGING_MIN_THRESHOLD_MS, 2);
+    adaptiveHedgingMaxThresholdMs = props.getInt(ROUTER_ADAPTIVE_HEDGING_MAX_THRESHOLD_MS, 1000);
+    adaptiveHedgingBudgetPercentDecimal = props.getDouble(ROUTER_ADAPTIVE_HEDGING_BUDGET_PERCENT_DECIMAL, 0.05);
+    adaptiveHedgingBudgetEnforcementWindowMs =
+        props.getLong(ROUTER_ADAPTIVE_HEDGING_BUDGET_ENFORCEMENT_WINDOW_MS, Time.MS_PER_MINUTE);
+    partitionLocalityRoutingPendingRequestSlack =
+        props.getLong(ROUTER_PARTITION_LOCALITY_ROUTING_PENDING_REQUEST_SLACK, 10);
+    clusterCoordinatedReadQuotaEnabled = props.getBoolean(ROUTER_CLUSTER_COORDINATED_READ_QUOTA_ENABLED, false);
+    clusterCoordinatedReadQuotaSyncIntervalMs =
+        props.getLong(ROUTER_CLUSTER_COORDINATED_READ_QUOTA_SYNC_INTERVAL_MS, 5 * Time.MS_PER_SECOND);
+    clusterCoordinatedReadQuotaMinShare = props.getDouble(ROUTER_CLUSTER_COORDINATED_READ_QUOTA_MIN_SHARE, 0.1);
+    clusterCoordinatedReadQuotaMaxReportedStores =
+        props.getInt(ROUTER_CLUSTER_COORDINATED_READ_QUOTA_MAX_REPORTED_STORES, 1000);
+    http2ClientIOThreadCount =
+        props.getInt(ROUTER_HTTP2_CLIENT_IO_THREAD_COUNT, Runtime.getRuntime().availableProcessors());
+    http2ClientMaxConnectionsPerHost = props.getInt(ROUTER_HTTP2_CLIENT_MAX_CONNECTIONS_PER_HOST, 2);
+    http2ClientMaxConcurrentStreams = props.getInt(ROUTER_HTTP2_CLIENT_MAX_CONCURRENT_STREAMS, 500);
+    http2ClientInitialWindowSize = props.getInt(ROUTER_HTTP2_CLIENT_INITIAL_WINDOW_SIZE, 8 * 1024 * 1024);
+    http2ClientConnectionWindowSize = props.getInt(ROUTER_HTTP2_CLIENT_CONNECTION_WINDOW_SIZE, 64 * 1024 * 1024);
+    http2ClientMaxFrameSize = props.getInt(ROUTER_HTTP2_CLIENT_MAX_FRAME_SIZE, 8 * 1024 * 1024);
   }
 
   public double getPerStoreRouterQuotaBuffer() {
@@ -875,4 +946,92 @@ public class VeniceRouterConfig {
   public int getRetryManagerCorePoolSize() {
     return retryManagerCorePoolSize;
   }
+
+  public boolean isReadCacheEnabled() {
+    return readCacheEnabled;
+  }
+
+  public long getReadCacheSizeInBytes() {
+    return readCacheSizeInBytes;
+  }
+
+  public long getReadCacheHybridStoreTtlMs() {
+    return readCacheHybridStoreTtlMs;
+  }
+
+  public boolean isAdaptiveHedgingEnabled() {
+    return adaptiveHedgingEnabled;
+  }
+
+  public double getAdaptiveHedgingLatencyQuantile() {
+    return adaptiveHedgingLatencyQuantile;
+  }
+
+  public long getAdaptiveHedgingWindowMs() {
+    return adaptiveHedgingWindowMs;
+  }
+
+  public int getAdaptiveHedgingMinSamplesPerWindow() {
+    return adaptiveHedgingMinSamplesPerWindow;
+  }
+
+  public int getAdaptiveHedgingMinThresholdMs() {
+    return adaptiveHedgingMinThresholdMs;
+  }
+
+  public int getAdaptiveHedgingMaxThresholdMs() {
+    return adaptiveHedgingMaxThresholdMs;
+  }
+
+  public double getAdaptiveHedgingBudgetPercentDecimal() {
+    return adaptiveHedgingBudgetPercentDecimal;
+  }
+
+  public long getAdaptiveHedgingBudgetEnforcementWindowMs() {
+    return adaptiveHedgingBudgetEnforcementWindowMs;
+  }
+
+  public long getPartitionLocalityRoutingPendingRequestSlack() {
+    return partitionLocalityRoutingPendingRequestSlack;
+  }
+
+  public boolean isClusterCoordinatedReadQuotaEnabled() {
+    return clusterCoordinatedReadQuotaEnabled;
+  }
+
+  public long getClusterCoordinatedReadQuotaSyncIntervalMs() {
+    return clusterCoordinatedReadQuotaSyncIntervalMs;
+  }
+
+  public double getClusterCoordinatedReadQuotaMinShare() {
+    return clusterCoordinatedReadQuotaMinShare;
+  }
+
+  public int getClusterCoordinatedReadQuotaMaxReportedStores() {
+    return clusterCoordinatedReadQuotaMaxReportedStores;
+  }
+
+  public int getHttp2ClientIOThreadCount() {
+    return http2ClientIOThreadCount;
+  }
+
+  public int getHttp2ClientMaxConnectionsPerHost() {
+    return http2ClientMaxConnectionsPerHost;
+  }
+
+  public int getHttp2ClientMaxConcurrentStreams() {
+    return http2ClientMaxConcurrentStreams;
+  }
+
+  public int getHttp2ClientInitialWindowSize() {
+    return http2ClientInitialWindowSize;
+  }
+
+  public int getHttp2ClientConnectionWindowSize() {
+    return http2ClientConnectionWindowSize;
+  }
+
+  public int getHttp2ClientMaxFrameSize() {
+    return http2ClientMaxFrameSize;
+  }
 }
@@ -0,0 +1,181 @@
+package com.linkedin.venice.router.api;
+
+import com.linkedin.alpini.base.statistics.LongQuantileEstimation;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.meta.RetryManager;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.utils.SystemTime;
+import com.linkedin.venice.utils.Time;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.tehuti.metrics.MetricsRepository;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * This class replaces the static long-tail retry thresholds with adaptive ones, which are derived from the live
+ * latency distribution of the storage nodes serving each request.
+ *
+ * For every request type, it keeps one {@link LongQuantileEstimation} per storage node, fed by {@link VeniceDispatcher}
+ * with the response latency of every scattered request. At the end of each window, the configured quantile (e.g. p95)
+ * of the window becomes the hedging threshold of the storage node. {@link VeniceDelegateMode} then sets the long-tail
+ * retry threshold of an original request to the highest threshold among the storage nodes picked by the scatter, so
+ * that a scattered request only gets hedged to a different replica once it is slower than its storage node usually is.
+ * Whenever one of the picked storage nodes has no threshold yet, the static threshold is kept.
+ *
+ * Since hedging adds load to the cluster, all the hedged requests of this Router share one budget, expressed as a
+ * fraction of the scattered requests, so that hedging cannot amplify an overload.
+ */
+public class AdaptiveHedgingManager {
+  static final String HEDGE_BUDGET_STATS_PREFIX = "router_adaptive_hedging";
+  private static final double QUANTILE_ESTIMATION_EPSILON = 0.005;
+  private static final int QUANTILE_ESTIMATION_COMPACT_SIZE = 1000;
+
+  private final double latencyQuantile;
+  private final long windowMs;
+  private final int minSamplesPerWindow;
+  private final int minThresholdMs;
+  private final int maxThresholdMs;
+  private final RetryManager hedgeBudget;
+  private final Time time;
+  private final Map<RequestType, Map<String, HostLatencyHistogram>> histograms = new EnumMap<>(RequestType.class);
+
+  public AdaptiveHedgingManager(
+      VeniceRouterConfig config,
+      MetricsRepository metricsRepository,
+      ScheduledExecutorService scheduler) {
+    this(
+        config.getAdaptiveHedgingLatencyQuantile(),
+        config.getAdaptiveHedgingWindowMs(),
+        config.getAdaptiveHedgingMinSamplesPerWindow(),
+        config.getAdaptiveHedgingMinThresholdMs(),
+        config.getAdaptiveHedgingMaxThresholdMs(),
+        new RetryManager(
+            metricsRepository,
+            HEDGE_BUDGET_STATS_PREFIX,
+            config.getAdaptiveHedgingBudgetEnforcementWindowMs(),
+            config.getAdaptiveHedgingBudgetPercentDecimal(),
+            scheduler),
+        SystemTime.INSTANCE);
+  }
+
+  AdaptiveHedgingManager(
+      double latencyQuantile,
+      long windowMs,
+      int minSamplesPerWindow,
+      int minThresholdMs,
+      int maxThresholdMs,
+      RetryManager hedgeBudget,
+      Time time) {
+    if (latencyQuantile <= 0 || latencyQuantile >= 1) {
+      throw new IllegalArgumentException("Hedging latency quantile should be in (0, 1), but got: " + latencyQuantile);
+    }
+    if (minThresholdMs > maxThresholdMs) {
+      throw new IllegalArgumentException(
+          "Min hedging threshold: " + minThresholdMs + " ms is larger than max hedging threshold: " + maxThresholdMs
+              + " ms");
+    }
+    this.latencyQuantile = latencyQuantile;
+    this.windowMs = windowMs;
+    this.minSamplesPerWindow = minSamplesPerWindow;
+    this.minThresholdMs = minThresholdMs;
+    this.maxThresholdMs = maxThresholdMs;
+    this.hedgeBudget = hedgeBudget;
+    this.time = time;
+    for (RequestType requestType: RequestType.values()) {
+      histograms.put(requestType, new VeniceConcurrentHashMap<>());
+    }
+  }
+
+  /**
+   * Records the latency of a request sent to the given storage node.
+   */
+  public void recordLatency(RequestType requestType, String storageNode, long latencyInNs) {
+    histograms.get(requestType)
+        .computeIfAbsent(storageNode, ignored -> new HostLatencyHistogram(time.getMilliseconds()))
+        .record(TimeUnit.NANOSECONDS.toMicros(latencyInNs), time.getMilliseconds());
+  }
+
+  /**
+   * @return the hedging threshold of the given storage node, or -1 if there are not enough samples yet.
+   */
+  public int getHostThresholdMs(RequestType requestType, String storageNode) {
+    HostLatencyHistogram histogram = histograms.get(requestType).get(storageNode);
+    return histogram == null ? -1 : histogram.thresholdMs;
+  }
+
+  /**
+   * @param hosts the storage nodes picked for all the scattered requests of an original request.
+   * @param staticThresholdMs the static long-tail retry threshold of the request.
+   * @return the long-tail retry threshold of the request, which is the highest hedging threshold among the given
+   *         storage nodes, bounded by the configured min and max thresholds, or the static threshold if any of the
+   *         given storage nodes has no hedging threshold yet.
+   */
+  public int getHedgingThresholdMs(RequestType requestType, Collection<Instance> hosts, int staticThresholdMs) {
+    int thresholdMs = 0;
+    for (Instance host: hosts) {
+      int hostThresholdMs = getHostThresholdMs(requestType, host.getNodeId());
+      if (hostThresholdMs < 0) {
+        return staticThresholdMs;
+      }
+      thresholdMs = Math.max(thresholdMs, hostThresholdMs);
+    }
+    return Math.min(Math.max(thresholdMs, minThresholdMs), maxThresholdMs);
+  }
+
+  /**
+   * Records the scattered requests of an original request, which decide the size of the hedge budget.
+   */
+  public void recordScatteredRequests(int requestCount) {
+    hedgeBudget.recordRequests(requestCount);
+  }
+
+  /**
+   * @return whether the given number of hedged requests fits into the hedge budget, which is consumed if so.
+   */
+  public boolean isHedgeWithinBudget(int hedgedRequestCount) {
+    return hedgeBudget.isRetryAllowed(hedgedRequestCount);
+  }
+
+  private class HostLatencyHistogram {
+    private final LongQuantileEstimation latencyInUs =
+        new LongQuantileEstimation(QUANTILE_ESTIMATION_EPSILON, QUANTILE_ESTIMATION_COMPACT_SIZE);
+    private final AtomicLong sampleCount = new AtomicLong();
+    private volatile long windowStartMs;
+    private volatile int thresholdMs = -1;
+
+    private HostLatencyHistogram(long windowStartMs) {
+      this.windowStartMs = windowStartMs;
+    }
+
+    private void record(long latencyInUs, long currentTimeMs) {
+      this.latencyInUs.accept(latencyInUs);
+      sampleCount.incrementAndGet();
+      if (currentTimeMs - windowStartMs >= windowMs) {
+        rollWindow(currentTimeMs);
+      }
+    }
+
+    /**
+     * A window with too few samples is extended until it has enough of them, so that the threshold of a storage node
+     * receiving little traffic is still computed out of a meaningful distribution.
+     */
+    private synchronized void rollWindow(long currentTimeMs) {
+      if (currentTimeMs - windowStartMs < windowMs || sampleCount.get() < minSamplesPerWindow) {
+        return;
+      }
+      Long quantileInUs = latencyInUs.query(latencyQuantile);
+      if (quantileInUs != null) {
+        thresholdMs = (int) Math.ceil(quantileInUs / (double) Time.US_PER_MS);
+      }
+      latencyInUs.reset();
+      sampleCount.set(0);
+      windowStartMs = currentTimeMs;
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package com.linkedin.venice.router.api;
 
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.EncodingUtils;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
@@ -8,11 +9,23 @@ import java.nio.charset.StandardCharsets;
 
 /**
  * {@code RouterKey} encapsulates the required information for a key in a router request.
+ *
+ * The key is a range of a byte array, so that the keys of a multi-key request can all point into the request content
+ * without a {@link ByteBuffer} per key. The {@link ByteBuffer} view of the key is only created for the callers asking
+ * for it through {@link #getKeyBuffer()}.
  */
 public class RouterKey implements Comparable<RouterKey> {
   private static final int UNKNOWN_PARTITION_ID = -1;
+  private static final int UNKNOWN_KEY_INDEX = -1;
 
-  private final ByteBuffer keyBuffer;
+  private final byte[] keyBytes;
+  private final int keyOffset;
+  private final int keySize;
+  /**
+   * Lazily created view of the key. Concurrent callers could create it more than once, which is harmless since the
+   * views are equivalent.
+   */
+  private ByteBuffer keyBuffer;
   /**
    * Initializing hashCode during construction will speed up the following {@link #hashCode()} invocations.
    */
@@ -23,17 +36,38 @@ public class RouterKey implements Comparable<RouterKey> {
    * {@link VeniceDelegateMode}
    */
   private int partitionId = UNKNOWN_PARTITION_ID;
-
-  private int keySize;
+  /**
+   * The index of the key in the client request, for multi-key requests.
+   */
+  private int keyIndex = UNKNOWN_KEY_INDEX;
 
   public RouterKey(byte[] key) {
-    this(ByteBuffer.wrap(key));
+    this(key, 0, key.length);
   }
 
   public RouterKey(ByteBuffer key) {
-    this.keyBuffer = key;
-    this.hashCode = this.keyBuffer.hashCode();
-    this.keySize = key.remaining();
+    this(
+        key.hasArray() ? key.array() : ByteUtils.extractByteArray(key.duplicate()),
+        key.hasArray() ? key.arrayOffset() + key.position() : 0,
+        key.remaining());
+    if (key.hasArray()) {
+      this.keyBuffer = key;
+    }
+  }
+
+  /**
+   * Creates a key pointing at {@code length} bytes of {@code bytes} from {@code offset}, without copying them.
+   */
+  public RouterKey(byte[] bytes, int offset, int length) {
+    this.keyBytes = bytes;
+    this.keyOffset = offset;
+    this.keySize = length;
+    // Same as ByteBuffer#hashCode
+    int h = 1;
+    for (int i = offset + length - 1; i >= offset; i--) {
+      h = 31 * h + bytes[i];
+    }
+    this.hashCode = h;
   }
 
   public static RouterKey fromString(String s) {
@@ -45,25 +79,49 @@ public class RouterKey implements Comparable<RouterKey> {
   }
 
   public String base64Encoded() {
-    return EncodingUtils.base64EncodeToString(keyBuffer);
+    return EncodingUtils.base64EncodeToString(getKeyBuffer());
   }
 
   public ByteBuffer getKeyBuffer() {
+    if (keyBuffer == null) {
+      keyBuffer = ByteBuffer.wrap(keyBytes, keyOffset, keySize);
+    }
     return keyBuffer;
   }
 
+  /**
+   * @return the array holding the key, which could hold other data too, see {@link #getKeyOffset()}.
+   */
+  public byte[] getKeyBytes() {
+    return keyBytes;
+  }
+
+  public int getKeyOffset() {
+    return keyOffset;
+  }
+
   public int getKeySize() {
     return keySize;
   }
 
+  /**
+   * Same order as {@link ByteBuffer#compareTo}.
+   */
   @Override
   public int compareTo(RouterKey other) {
-    return keyBuffer.compareTo(other.keyBuffer);
+    int length = Math.min(keySize, other.keySize);
+    for (int i = 0; i < length; i++) {
+      int cmp = Byte.compare(keyBytes[keyOffset + i], other.keyBytes[other.keyOffset + i]);
+      if (cmp != 0) {
+        return cmp;
+      }
+    }
+    return keySize - other.keySize;
   }
 
   @Override
   public String toString() {
-    return EncodingUtils.base64EncodeToString(keyBuffer);
+    return base64Encoded();
   }
 
   @Override
@@ -80,7 +138,15 @@ public class RouterKey implements Comparable<RouterKey> {
       return false;
     }
     RouterKey other = (RouterKey) o;
-    return this.keyBuffer.equals(other.keyBuffer);
+    if (hashCode != other.hashCode || keySize != other.keySize) {
+      return false;
+    }
+    for (int i = 0; i < keySize; i++) {
+      if (keyBytes[keyOffset + i] != other.keyBytes[other.keyOffset + i]) {
+        return false;
+      }
+    }
+    return true;
   }
 
   public void setPartitionId(int partitionId) {
@@ -96,4 +162,18 @@ public class RouterKey implements Comparable<RouterKey> {
     }
     return this.partitionId;
   }
+
+  public void setKeyIndex(int keyIndex) {
+    if (UNKNOWN_KEY_INDEX != this.keyIndex) {
+      throw new VeniceException("Key index has been assigned: " + this.keyIndex + ", and it is immutable after");
+    }
+    this.keyIndex = keyIndex;
+  }
+
+  public int getKeyIndex() {
+    if (UNKNOWN_KEY_INDEX == keyIndex) {
+      throw new VeniceException("Key index hasn't been setup yet");
+    }
+    return this.keyIndex;
+  }
 }
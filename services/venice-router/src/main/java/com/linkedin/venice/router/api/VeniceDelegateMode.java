@@ -28,6 +28,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -83,14 +84,26 @@ public class VeniceDelegateMode extends ScatterGatherMode {
    */
   private final ScatterGatherMode HELIX_ASSISTED_MODE_FOR_MULTI_KEY_REQUEST = new HelixAssistedScatterGatherMode();
 
+  /**
+   * Partition locality routing to minimize the number of storage nodes contacted by each multi-key request.
+   */
+  private final ScatterGatherMode PARTITION_LOCALITY_MODE_FOR_MULTI_KEY_REQUEST =
+      new PartitionLocalityRoutingModeForMultiKeyRequest();
+
   private RouterThrottler readRequestThrottler;
   private RouteHttpRequestStats routeHttpRequestStats;
 
   private HelixGroupSelector helixGroupSelector;
 
+  /**
+   * Null if adaptive hedging is disabled.
+   */
+  private AdaptiveHedgingManager adaptiveHedgingManager;
+
   private final VeniceMultiKeyRoutingStrategy multiKeyRoutingStrategy;
   private final ScatterGatherMode scatterGatherModeForMultiKeyRequest;
   private final RouterStats<AggRouterHttpRequestStats> routerStats;
+  private final long partitionLocalityRoutingPendingRequestSlack;
 
   public VeniceDelegateMode(
       VeniceRouterConfig config,
@@ -100,6 +113,7 @@ public class VeniceDelegateMode extends ScatterGatherMode {
     this.routerStats = routerStats;
     this.routeHttpRequestStats = routeHttpRequestStats;
     this.multiKeyRoutingStrategy = config.getMultiKeyRoutingStrategy();
+    this.partitionLocalityRoutingPendingRequestSlack = config.getPartitionLocalityRoutingPendingRequestSlack();
     switch (this.multiKeyRoutingStrategy) {
       case GROUP_BY_PRIMARY_HOST_ROUTING:
         this.scatterGatherModeForMultiKeyRequest = GROUP_BY_PRIMARY_HOST_MODE_FOR_MULTI_KEY_REQUEST;
@@ -113,6 +127,9 @@ public class VeniceDelegateMode extends ScatterGatherMode {
       case HELIX_ASSISTED_ROUTING:
         this.scatterGatherModeForMultiKeyRequest = HELIX_ASSISTED_MODE_FOR_MULTI_KEY_REQUEST;
         break;
+      case PARTITION_LOCALITY_ROUTING:
+        this.scatterGatherModeForMultiKeyRequest = PARTITION_LOCALITY_MODE_FOR_MULTI_KEY_REQUEST;
+        break;
       default:
         throw new VeniceException("Unknown multi-key routing strategy: " + this.multiKeyRoutingStrategy);
     }
@@ -122,6 +139,10 @@ public class VeniceDelegateMode extends ScatterGatherMode {
     this.readRequestThrottler = requestThrottler;
   }
 
+  public void initAdaptiveHedgingManager(AdaptiveHedgingManager adaptiveHedgingManager) {
+    this.adaptiveHedgingManager = adaptiveHedgingManager;
+  }
+
   public void initHelixGroupSelector(HelixGroupSelector helixGroupSelector) {
     if (this.helixGroupSelector != null) {
       throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
@@ -236,6 +257,9 @@ public class VeniceDelegateMode extends ScatterGatherMode {
       }
     }
 
+    List<Instance> selectedHosts = adaptiveHedgingManager != null && !venicePath.isRetryRequest()
+        ? new ArrayList<>(onlineRequestNum)
+        : null;
     for (ScatterGatherRequest<H, K> part: scatter.getOnlineRequests()) {
       int hostCount = part.getHosts().size();
       if (hostCount == 0) {
@@ -287,14 +311,31 @@ public class VeniceDelegateMode extends ScatterGatherMode {
         }
         // Only record route(s) of the original request for retry manager purposes.
         venicePath.recordRequest();
+        if (selectedHosts != null) {
+          selectedHosts.add((Instance) host);
+        }
       }
     }
 
+    if (selectedHosts != null) {
+      /**
+       * The long-tail retry threshold is only evaluated by the scatter-gather framework after scattering, so it can
+       * still be adapted to the storage nodes picked above.
+       */
+      adaptiveHedgingManager.recordScatteredRequests(onlineRequestNum);
+      venicePath.setLongTailRetryThresholdMs(
+          adaptiveHedgingManager.getHedgingThresholdMs(
+              venicePath.getRequestType(),
+              selectedHosts,
+              venicePath.getLongTailRetryThresholdMs()));
+    }
+
     if (venicePath.isRetryRequest()) {
-      // Check whether the retry request is allowed or not according to the max allowed retry route config and retry
-      // manager's retry budget. Retry is only allowed if both conditions are true.
+      // Check whether the retry request is allowed or not according to the max allowed retry route config, retry
+      // manager's retry budget and the router-wide hedge budget. Retry is only allowed if all the conditions are true.
       if (!venicePath.isLongTailRetryAllowedForNewRequest()
-          || !venicePath.isLongTailRetryWithinBudget(onlineRequestNum)) {
+          || !venicePath.isLongTailRetryWithinBudget(onlineRequestNum)
+          || (adaptiveHedgingManager != null && !adaptiveHedgingManager.isHedgeWithinBudget(onlineRequestNum))) {
         routerStats.getStatsByType(venicePath.getRequestType()).recordDisallowedRetryRequest(storeName);
         throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
             Optional.of(storeName),
@@ -424,6 +465,19 @@ public class VeniceDelegateMode extends ScatterGatherMode {
       }
     }
 
+    /**
+     * This class contains the healthy replicas and the keys of a partition, whose host selection is deferred.
+     */
+    class PartitionReplicas<H, K> {
+      public final List<H> replicas;
+      public final List<K> keys;
+
+      public PartitionReplicas(List<H> replicas, List<K> keys) {
+        this.replicas = replicas;
+        this.keys = keys;
+      }
+    }
+
     protected ScatterGatherModeForMultiKeyRequest(@Nonnull String name) {
       super(name, false);
     }
@@ -440,6 +494,37 @@ public class VeniceDelegateMode extends ScatterGatherMode {
         int groupNum,
         int assignedGroupId) throws RouterException;
 
+    /**
+     * Whether the host selection of the partitions with multiple healthy replicas should be deferred until all the
+     * partitions of the request have been collected, in which case {@link #selectHostsForPartitions} is invoked
+     * instead of {@link #selectHostForPartition}.
+     */
+    protected boolean isHostSelectionDeferred() {
+      return false;
+    }
+
+    /**
+     * This function is used to select the hosts for all the partitions with multiple healthy replicas at once. By
+     * default, the hosts are selected partition by partition with {@link #selectHostForPartition}.
+     * @return the keys of the partitions, for which no host could be selected.
+     */
+    protected <H, K> List<List<K>> selectHostsForPartitions(
+        List<PartitionReplicas<H, K>> partitions,
+        VenicePath venicePath,
+        Map<H, KeyPartitionSet<H, K>> hostMap,
+        int groupNum,
+        int assignedGroupId) {
+      List<List<K>> unavailablePartitionKeys = new ArrayList<>();
+      for (PartitionReplicas<H, K> partition: partitions) {
+        try {
+          selectHostForPartition(partition.replicas, partition.keys, venicePath, hostMap, groupNum, assignedGroupId);
+        } catch (RouterException e) {
+          unavailablePartitionKeys.add(partition.keys);
+        }
+      }
+      return unavailablePartitionKeys;
+    }
+
     /**
      * This method is for {@link HelixAssistedScatterGatherMode}.
      * @return
@@ -511,6 +596,8 @@ public class VeniceDelegateMode extends ScatterGatherMode {
        * Group by host
        */
       Map<Instance, KeyPartitionSet<Instance, RouterKey>> hostMap = new HashMap<>();
+      List<PartitionReplicas<Instance, RouterKey>> deferredPartitions =
+          isHostSelectionDeferred() ? new ArrayList<>() : null;
       int helixGroupNum = getHelixGroupNum();
       int assignedHelixGroupId = getAssignedHelixGroupId(venicePath);
       currentPartition = 0;
@@ -533,6 +620,9 @@ public class VeniceDelegateMode extends ScatterGatherMode {
           } else if (hosts.size() == 1) {
             Instance host = hosts.get(0);
             populateHostMap(hostMap, host, keysForCurrentPartition);
+          } else if (deferredPartitions != null) {
+            // Copy the keys since the thread-local list will be cleared below
+            deferredPartitions.add(new PartitionReplicas<>(hosts, new ArrayList<>(keysForCurrentPartition)));
           } else {
             try {
               selectHostForPartition(
@@ -562,6 +652,18 @@ public class VeniceDelegateMode extends ScatterGatherMode {
         }
       }
 
+      if (deferredPartitions != null && !deferredPartitions.isEmpty()) {
+        List<List<RouterKey>> unavailablePartitionKeys = selectHostsForPartitions(
+            deferredPartitions,
+            venicePath,
+            hostMap,
+            helixGroupNum,
+            assignedHelixGroupId);
+        for (List<RouterKey> keys: unavailablePartitionKeys) {
+          veniceScatter.addOfflineRequest(new ScatterGatherRequest<>(Collections.emptyList(), new HashSet<>(keys)));
+        }
+      }
+
       /**
        * Populate online requests
        */
@@ -701,4 +803,149 @@ public class VeniceDelegateMode extends ScatterGatherMode {
       populateHostMap(hostMap, selectedHost, partitionKeys);
     }
   }
+
+  /**
+   * This mode minimizes the number of storage nodes contacted by each multi-key request, which reduces the fanout
+   * overhead in both Router and storage nodes, as well as the long-tail latency driven by the slowest storage node.
+   *
+   * Here are the steps:
+   * 1. The partitions with a single healthy replica are always routed to that replica, so those replicas are contacted
+   *    anyway.
+   * 2. For each of the other partitions, the replicas carrying too many pending requests compared to the least loaded
+   *    replica of the partition are excluded, so that the locality can't pile up the requests on a busy storage node.
+   * 3. A partition is routed to an already selected storage node whenever possible. Otherwise, the storage node
+   *    hosting most of the remaining partitions gets selected (the least loaded one in case of a tie), as in the
+   *    greedy heuristic of the set cover problem.
+   */
+  class PartitionLocalityRoutingModeForMultiKeyRequest extends ScatterGatherModeForMultiKeyRequest {
+    protected PartitionLocalityRoutingModeForMultiKeyRequest() {
+      super("PARTITION_LOCALITY_MODE_FOR_MULTI_KEY_REQUEST");
+    }
+
+    @Override
+    protected boolean isHostSelectionDeferred() {
+      return true;
+    }
+
+    /**
+     * Selects the host of a single partition, which prefers the requestable replicas already selected for the request,
+     * and the least loaded replica among them.
+     */
+    @Override
+    protected <H, K> void selectHostForPartition(
+        List<H> partitionReplicas,
+        List<K> partitionKeys,
+        VenicePath venicePath,
+        Map<H, KeyPartitionSet<H, K>> hostMap,
+        int groupNum,
+        int assignedGroupId) throws RouterException {
+      Map<H, Long> pendingRequestCounts = new HashMap<>();
+      H selectedHost = null;
+      boolean isSelectedHostInUse = false;
+      for (H candidate: getCandidateReplicas(partitionReplicas, venicePath, pendingRequestCounts)) {
+        boolean isCandidateInUse = hostMap.containsKey(candidate);
+        if (selectedHost == null || (isCandidateInUse && !isSelectedHostInUse)
+            || (isCandidateInUse == isSelectedHostInUse
+                && pendingRequestCounts.get(candidate) < pendingRequestCounts.get(selectedHost))) {
+          selectedHost = candidate;
+          isSelectedHostInUse = isCandidateInUse;
+        }
+      }
+      if (selectedHost == null) {
+        throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
+            Optional.of(venicePath.getStoreName()),
+            Optional.of(venicePath.getRequestType()),
+            SERVICE_UNAVAILABLE,
+            "Could not find any healthy replica.");
+      }
+      populateHostMap(hostMap, selectedHost, partitionKeys);
+    }
+
+    @Override
+    protected <H, K> List<List<K>> selectHostsForPartitions(
+        List<PartitionReplicas<H, K>> partitions,
+        VenicePath venicePath,
+        Map<H, KeyPartitionSet<H, K>> hostMap,
+        int groupNum,
+        int assignedGroupId) {
+      Map<H, Long> pendingRequestCounts = new HashMap<>();
+      List<List<K>> unavailablePartitionKeys = new ArrayList<>();
+      List<PartitionReplicas<H, K>> remainingPartitions = new ArrayList<>(partitions.size());
+      for (PartitionReplicas<H, K> partition: partitions) {
+        List<H> candidates = getCandidateReplicas(partition.replicas, venicePath, pendingRequestCounts);
+        if (candidates.isEmpty()) {
+          unavailablePartitionKeys.add(partition.keys);
+        } else {
+          remainingPartitions.add(new PartitionReplicas<>(candidates, partition.keys));
+        }
+      }
+
+      Map<H, Integer> partitionCountPerHost = new HashMap<>();
+      while (!remainingPartitions.isEmpty()) {
+        // Route the partitions hosted by any selected host to the least loaded selected host.
+        Iterator<PartitionReplicas<H, K>> iterator = remainingPartitions.iterator();
+        while (iterator.hasNext()) {
+          PartitionReplicas<H, K> partition = iterator.next();
+          H selectedHost = null;
+          for (H candidate: partition.replicas) {
+            if (hostMap.containsKey(candidate) && (selectedHost == null
+                || pendingRequestCounts.get(candidate) < pendingRequestCounts.get(selectedHost))) {
+              selectedHost = candidate;
+            }
+          }
+          if (selectedHost != null) {
+            populateHostMap(hostMap, selectedHost, partition.keys);
+            iterator.remove();
+          }
+        }
+        if (remainingPartitions.isEmpty()) {
+          break;
+        }
+
+        // Select the host covering most of the remaining partitions.
+        partitionCountPerHost.clear();
+        for (PartitionReplicas<H, K> partition: remainingPartitions) {
+          for (H candidate: partition.replicas) {
+            partitionCountPerHost.merge(candidate, 1, Integer::sum);
+          }
+        }
+        H bestHost = null;
+        int bestPartitionCount = 0;
+        for (Map.Entry<H, Integer> entry: partitionCountPerHost.entrySet()) {
+          H host = entry.getKey();
+          int partitionCount = entry.getValue();
+          if (partitionCount > bestPartitionCount || (partitionCount == bestPartitionCount
+              && pendingRequestCounts.get(host) < pendingRequestCounts.get(bestHost))) {
+            bestHost = host;
+            bestPartitionCount = partitionCount;
+          }
+        }
+        // The partitions hosted by the best host will be routed to it in the next iteration.
+        hostMap.put(bestHost, new KeyPartitionSet<>(Collections.singletonList(bestHost), Collections.emptyList()));
+      }
+      return unavailablePartitionKeys;
+    }
+
+    private <H> List<H> getCandidateReplicas(
+        List<H> replicas,
+        VenicePath venicePath,
+        Map<H, Long> pendingRequestCounts) {
+      List<H> requestableReplicas = new ArrayList<>(replicas.size());
+      long minPendingRequestCount = Long.MAX_VALUE;
+      for (H replica: replicas) {
+        String nodeId = ((Instance) replica).getNodeId();
+        if (!venicePath.canRequestStorageNode(nodeId)) {
+          // Skip the slow host
+          continue;
+        }
+        long pendingRequestCount = pendingRequestCounts
+            .computeIfAbsent(replica, ignored -> routeHttpRequestStats.getPendingRequestCount(nodeId));
+        minPendingRequestCount = Math.min(minPendingRequestCount, pendingRequestCount);
+        requestableReplicas.add(replica);
+      }
+      long maxPendingRequestCount = minPendingRequestCount + partitionLocalityRoutingPendingRequestSlack;
+      requestableReplicas.removeIf(replica -> pendingRequestCounts.get(replica) > maxPendingRequestCount);
+      return requestableReplicas;
+    }
+  }
 }
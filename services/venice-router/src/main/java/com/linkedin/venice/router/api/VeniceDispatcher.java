@@ -21,6 +21,8 @@ import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.router.VeniceRouterConfig;
 import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.cache.ReadCacheLookup;
+import com.linkedin.venice.router.cache.RouterReadCache;
 import com.linkedin.venice.router.httpclient.PortableHttpResponse;
 import com.linkedin.venice.router.httpclient.StorageNodeClient;
 import com.linkedin.venice.router.stats.AggHostHealthStats;
@@ -91,6 +93,16 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
 
   private final RouterStats<AggRouterHttpRequestStats> routerStats;
 
+  /**
+   * Null if the router read cache is disabled.
+   */
+  private final RouterReadCache readCache;
+
+  /**
+   * Null if adaptive hedging is disabled.
+   */
+  private AdaptiveHedgingManager adaptiveHedgingManager;
+
   public VeniceDispatcher(
       VeniceRouterConfig config,
       ReadOnlyStoreRepository storeRepository,
@@ -114,6 +126,13 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     this.leakedCompletableFutureCleanupService = new LeakedCompletableFutureCleanupService();
     this.leakedCompletableFutureCleanupService.start();
     this.routerStats = routerStats;
+    this.readCache = config.isReadCacheEnabled()
+        ? new RouterReadCache(storeRepository, config.getReadCacheSizeInBytes(), config.getReadCacheHybridStoreTtlMs())
+        : null;
+  }
+
+  public void initAdaptiveHedgingManager(AdaptiveHedgingManager adaptiveHedgingManager) {
+    this.adaptiveHedgingManager = adaptiveHedgingManager;
   }
 
   @Override
@@ -142,8 +161,26 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     Instance storageNode = part.getHosts().get(0);
     hostSelected.setSuccess(storageNode);
 
+    VenicePath requestPath = path;
+    ReadCacheLookup cacheLookup = null;
+    if (readCache != null && readCache.isCacheable(path)) {
+      cacheLookup = readCache.lookup(path);
+      routerStats.getStatsByType(requestType)
+          .recordReadCacheLookup(storeName, cacheLookup.getLookupKeyCount(), cacheLookup.getHitKeyCount());
+      if (cacheLookup.isFullHit()) {
+        try {
+          responseFuture.setSuccess(Collections.singletonList(buildResponse(path, cacheLookup.toResponse())));
+        } catch (Throwable e) {
+          responseFuture.setFailure(e);
+        }
+        return;
+      }
+      requestPath = cacheLookup.getMissPath();
+    }
+    final ReadCacheLookup finalCacheLookup = cacheLookup;
+
     // sendRequest completes future either immediately in the calling thread context or on the executor
-    sendRequest(storageNode, path, retryFuture).whenComplete((response, throwable) -> {
+    sendRequest(storageNode, requestPath, retryFuture).whenComplete((response, throwable) -> {
       try {
         int statusCode = response != null ? response.getStatusCode() : HttpStatus.SC_INTERNAL_SERVER_ERROR;
         if (!retryFuture.isCancelled() && RETRIABLE_ERROR_CODES.contains(statusCode)) {
@@ -162,7 +199,9 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
           path.markStorageNodeAsFast(storageNode.getNodeId());
         }
 
-        responseFuture.setSuccess(Collections.singletonList(buildResponse(path, response)));
+        PortableHttpResponse mergedResponse =
+            finalCacheLookup == null ? response : finalCacheLookup.populateAndMerge(response);
+        responseFuture.setSuccess(Collections.singletonList(buildResponse(path, mergedResponse)));
       } catch (Throwable e) {
         responseFuture.setFailure(e);
       }
@@ -245,6 +284,9 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
         RouteHttpStats perRouteStats = perRouteStatsByType.getStatsByType(requestType);
         perRouteStats
             .recordResponseWaitingTime(storageNode.getHost(), LatencyUtils.getElapsedTimeFromNSToMS(startTime));
+        if (adaptiveHedgingManager != null && throwable == null) {
+          adaptiveHedgingManager.recordLatency(requestType, storageNode.getNodeId(), System.nanoTime() - startTime);
+        }
         routeHttpRequestStats.recordFinishedRequest(storageNode.getNodeId());
         pendingRequestThrottler.take();
         responseFutureMap.remove(requestId);
@@ -356,6 +398,9 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
 
   public void stop() {
     this.leakedCompletableFutureCleanupService.interrupt();
+    if (readCache != null) {
+      readCache.close();
+    }
   }
 
   /**
@@ -11,5 +11,8 @@ public enum VeniceMultiKeyRoutingStrategy {
   // This mode will send the request to the least loaded host of all the available replicas.
   LEAST_LOADED_ROUTING,
   // This mode will try to limit the fanout inside one helix group/zone.
-  HELIX_ASSISTED_ROUTING
+  HELIX_ASSISTED_ROUTING,
+  // This mode will try to minimize the number of hosts per request by routing the partitions to the replicas hosting
+  // most of them, while avoiding the replicas with too many pending requests.
+  PARTITION_LOCALITY_ROUTING
 }
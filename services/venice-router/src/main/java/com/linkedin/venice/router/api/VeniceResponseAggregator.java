@@ -365,7 +365,7 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
      * 1. {@link HttpHeaderNames.CONTENT_TYPE}
      * 2. {@link HttpConstants.VENICE_SCHEMA_ID}
      */
-    CompositeByteBuf content = Unpooled.compositeBuffer();
+    CompositeByteBuf content = newAggregatedContent(responses.size());
     int totalRequestRcu = 0;
     for (FullHttpResponse response: responses) {
       if (response.status() != OK) {
@@ -403,6 +403,15 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
     return computeResponse;
   }
 
+  /**
+   * The aggregated content references the content of each sub-response instead of copying it. The max number of
+   * components is sized to the number of sub-responses, since the default limit of {@link CompositeByteBuf} would
+   * consolidate, i.e. copy, all the sub-responses into one buffer once a batch get fans out to more than 16 parts.
+   */
+  static CompositeByteBuf newAggregatedContent(int responseCount) {
+    return Unpooled.compositeBuffer(Math.max(responseCount, 1));
+  }
+
   private int getRCU(FullHttpResponse response) {
     String rcuHeader = response.headers().get(VENICE_REQUEST_RCU);
     if (NumberUtils.isCreatable(rcuHeader)) {
@@ -425,7 +434,7 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
     long decompressedSize = 0;
     long decompressionTimeInNs = 0;
     int totalRequestRcu = 0;
-    CompositeByteBuf content = Unpooled.compositeBuffer();
+    CompositeByteBuf content = newAggregatedContent(responses.size());
     CompressionStrategy compressionStrategy = null;
 
     for (FullHttpResponse response: responses) {
@@ -21,6 +21,7 @@ import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.Pair;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpRequest;
@@ -110,6 +111,9 @@ public class VeniceResponseDecompressor {
    * Since records could be concatenated within one response, we need to
    * deserialize the records; decompress the records and then serialize
    * them back.
+   *
+   * When the client accepts the compression of the response, the content is passed through as is, so a
+   * {@link CompositeByteBuf} stitched from several storage node responses is never flattened into one copy.
    */
   public ContentDecompressResult decompressMultiGetContent(CompressionStrategy compressionStrategy, ByteBuf content) {
     if (canPassThroughResponse(compressionStrategy)) {
@@ -161,8 +165,7 @@ public class VeniceResponseDecompressor {
     AggRouterHttpRequestStats stats = routerStats.getStatsByType(MULTI_GET_STREAMING);
     stats.recordCompressedResponseSize(storeName, content.readableBytes());
     long startTimeInNs = System.nanoTime();
-    ByteBuf copy = content.isReadOnly() ? content.copy() : content;
-    ByteBuf decompressedContent = decompressMultiGetRecords(responseCompression, copy, MULTI_GET_STREAMING);
+    ByteBuf decompressedContent = decompressMultiGetRecords(responseCompression, content, MULTI_GET_STREAMING);
     stats.recordDecompressionTime(storeName, LatencyUtils.getElapsedTimeFromNSToMS(startTimeInNs));
     content.release();
     return new Pair<>(decompressedContent, CompressionStrategy.NO_OP);
@@ -200,10 +203,16 @@ public class VeniceResponseDecompressor {
       CompressionStrategy compressionStrategy,
       ByteBuf data,
       RequestType requestType) {
-    ByteBuf copy = data.isReadOnly() ? data.copy() : data;
+    if (!data.isReadable()) {
+      return Unpooled.EMPTY_BUFFER;
+    }
+    /**
+     * Only copies the content when it is not backed by an array of the exact same size, e.g. when it is a slice, a
+     * direct buffer or a {@link CompositeByteBuf} stitched from several storage node responses.
+     */
+    byte[] bytes = ByteBufUtil.getBytes(data, data.readerIndex(), data.readableBytes(), false);
     Iterable<MultiGetResponseRecordV1> records = recordDeserializer.deserializeObjects(
-        OptimizedBinaryDecoderFactory.defaultFactory()
-            .createOptimizedBinaryDecoder(copy.array(), 0, copy.readableBytes()));
+        OptimizedBinaryDecoderFactory.defaultFactory().createOptimizedBinaryDecoder(bytes, 0, bytes.length));
 
     try {
       VeniceCompressor compressor;
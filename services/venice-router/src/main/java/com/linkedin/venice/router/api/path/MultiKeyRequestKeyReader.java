@@ -0,0 +1,104 @@
+package com.linkedin.venice.router.api.path;
+
+import com.linkedin.venice.exceptions.VeniceException;
+
+
+/**
+ * A reusable cursor over the keys of a multi-key request, which are serialized by the client as consecutive Avro
+ * {@code bytes} objects up to the end of the request content, see
+ * {@link com.linkedin.venice.serializer.RecordSerializer#serializeObjects}. The keys are located in place inside the
+ * request content, so walking through them doesn't allocate anything, and the caller decides which keys to materialize.
+ *
+ * Each key is encoded as its length, a zig-zag encoded variable-length long, followed by its bytes.
+ *
+ * This class is not thread-safe, and it is meant to be reused by one thread through {@link #reset}.
+ */
+final class MultiKeyRequestKeyReader {
+  private static final byte[] EMPTY_CONTENT = new byte[0];
+
+  private byte[] content = EMPTY_CONTENT;
+  private int position;
+  private int limit;
+  private int keyOffset;
+  private int keyLength;
+
+  /**
+   * Points this reader to the serialized keys in {@code content}, which span {@code length} bytes from {@code offset}.
+   */
+  MultiKeyRequestKeyReader reset(byte[] content, int offset, int length) {
+    if (offset < 0 || length < 0 || offset + length > content.length) {
+      throw new IllegalArgumentException(
+          "Invalid key range, offset: " + offset + ", length: " + length + ", content size: " + content.length);
+    }
+    this.content = content;
+    this.position = offset;
+    this.limit = offset + length;
+    this.keyOffset = 0;
+    this.keyLength = 0;
+    return this;
+  }
+
+  /**
+   * Drops the reference to the request content, so that a reader cached by a thread doesn't retain it.
+   */
+  void clear() {
+    reset(EMPTY_CONTENT, 0, 0);
+  }
+
+  /**
+   * Advances to the next key.
+   *
+   * @return whether there is a next key, whose location is then exposed by {@link #getKeyOffset()} and
+   *         {@link #getKeyLength()}.
+   * @throws VeniceException if the content is not a valid sequence of serialized keys.
+   */
+  boolean next() {
+    if (position == limit) {
+      return false;
+    }
+    long length = readLong();
+    if (length < 0 || length > limit - position) {
+      throw new VeniceException(
+          "Malformed keys: key length " + length + " at position " + position + " exceeds the content limit "
+              + limit);
+    }
+    keyOffset = position;
+    keyLength = (int) length;
+    position += keyLength;
+    return true;
+  }
+
+  byte[] getContent() {
+    return content;
+  }
+
+  int getKeyOffset() {
+    return keyOffset;
+  }
+
+  int getKeyLength() {
+    return keyLength;
+  }
+
+  /**
+   * Reads a zig-zag encoded variable-length long, the same way as {@link org.apache.avro.io.BinaryDecoder#readLong()}.
+   */
+  private long readLong() {
+    long value = 0;
+    int shift = 0;
+    while (true) {
+      if (position >= limit) {
+        throw new VeniceException("Malformed keys: unexpected end of content at position " + position);
+      }
+      int b = content[position++] & 0xff;
+      value |= (long) (b & 0x7f) << shift;
+      if ((b & 0x80) == 0) {
+        return (value >>> 1) ^ -(value & 1);
+      }
+      shift += 7;
+      if (shift > 63) {
+        throw new VeniceException("Malformed keys: invalid variable-length long at position " + position);
+      }
+    }
+  }
+}
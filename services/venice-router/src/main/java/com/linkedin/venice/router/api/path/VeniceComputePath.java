@@ -12,21 +12,18 @@ import com.linkedin.venice.compute.protocol.request.ComputeRequestV3;
 import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
 import com.linkedin.venice.meta.RetryManager;
 import com.linkedin.venice.read.RequestType;
-import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1;
 import com.linkedin.venice.router.api.RouterExceptionAndTrackingUtils;
 import com.linkedin.venice.router.api.RouterKey;
 import com.linkedin.venice.router.api.VenicePartitionFinder;
 import com.linkedin.venice.router.api.VenicePathParser;
-import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.serializer.RecordSerializer;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import javax.annotation.Nonnull;
 import org.apache.avro.Schema;
@@ -66,10 +63,6 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
    */
   private static final RecordDeserializer<GenericRecord> COMPUTE_REQUEST_NO_OP_DESERIALIZER =
       FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(ComputeRequestV3.SCHEMA$, EMPTY_RECORD_SCHEMA);
-  private static final RecordDeserializer<ByteBuffer> COMPUTE_REQUEST_CLIENT_KEY_V1_DESERIALIZER =
-      FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(
-          ReadAvroProtocolDefinition.COMPUTE_REQUEST_CLIENT_KEY_V1.getSchema(),
-          ReadAvroProtocolDefinition.COMPUTE_REQUEST_CLIENT_KEY_V1.getSchema());
   private static final RecordSerializer<ComputeRouterRequestKeyV1> COMPUTE_ROUTER_REQUEST_KEY_V1_SERIALIZER =
       FastSerializerDeserializerFactory.getFastAvroGenericSerializer(ComputeRouterRequestKeyV1.getClassSchema());
 
@@ -138,17 +131,22 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
           "Exception while getting available number of bytes in request content");
     }
 
-    // deserialize the second part of the request content using the same decoder
-    Iterable<ByteBuffer> keys = COMPUTE_REQUEST_CLIENT_KEY_V1_DESERIALIZER.deserializeObjects(decoder);
-
-    initialize(storeName, resourceName, keys, partitionFinder, maxKeyCount, null);
+    // the second part of the request content is the key array
+    initialize(
+        storeName,
+        resourceName,
+        requestContent,
+        computeRequestLengthInBytes,
+        partitionFinder,
+        maxKeyCount,
+        null);
   }
 
   private VeniceComputePath(
       String storeName,
       int versionNumber,
       String resourceName,
-      Map<RouterKey, ComputeRouterRequestKeyV1> routerKeyMap,
+      Set<RouterKey> routerKeys,
       byte[] requestContent,
       int computeRequestLengthInBytes,
       String valueSchemaIdHeader,
@@ -163,14 +161,14 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
         resourceName,
         smartLongTailRetryEnabled,
         smartLongTailRetryAbortThresholdMs,
-        routerKeyMap,
+        routerKeys,
         longTailRetryMaxRouteForMultiKeyReq,
         retryManager);
     this.requestContent = requestContent;
     this.valueSchemaIdHeader = valueSchemaIdHeader;
     this.computeRequestLengthInBytes = computeRequestLengthInBytes;
     this.computeRequestVersionHeader = computeRequestVersionHeader;
-    setPartitionKeys(routerKeyMap.keySet());
+    setPartitionKeys(routerKeys);
   }
 
   @Nonnull
@@ -190,21 +188,11 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
   }
 
   public VeniceMultiGetPath toMultiGetPath() {
-    Map<RouterKey, MultiGetRouterRequestKeyV1> newRouterKeyMap = new HashMap<>();
-    for (Map.Entry<RouterKey, ComputeRouterRequestKeyV1> entry: routerKeyMap.entrySet()) {
-      ComputeRouterRequestKeyV1 computeRequestKey = entry.getValue();
-      newRouterKeyMap.put(
-          entry.getKey(),
-          new MultiGetRouterRequestKeyV1(
-              computeRequestKey.getKeyIndex(),
-              computeRequestKey.getKeyBytes(),
-              computeRequestKey.getPartitionId()));
-    }
     VeniceMultiGetPath newPath = new VeniceMultiGetPath(
         storeName,
         versionNumber,
         getResourceName(),
-        newRouterKeyMap,
+        routerKeys,
         isSmartLongTailRetryEnabled(),
         getSmartLongTailRetryAbortThresholdMs(),
         getLongTailRetryMaxRouteForMultiKeyReq(),
@@ -217,16 +205,16 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
    * If the parent request is a retry request, the sub-request generated by scattering-gathering logic should be retry
    * request as well.
    *
-   * @param routerKeyMap
+   * @param routerKeys
    * @return
    */
   @Override
-  protected VeniceComputePath fixRetryRequestForSubPath(Map<RouterKey, ComputeRouterRequestKeyV1> routerKeyMap) {
+  protected VeniceComputePath fixRetryRequestForSubPath(Set<RouterKey> routerKeys) {
     VeniceComputePath subPath = new VeniceComputePath(
         storeName,
         versionNumber,
         getResourceName(),
-        routerKeyMap,
+        routerKeys,
         this.requestContent,
         this.computeRequestLengthInBytes,
         this.valueSchemaIdHeader,
@@ -240,18 +228,25 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
   }
 
   @Override
-  protected ComputeRouterRequestKeyV1 createRouterRequestKey(ByteBuffer key, int keyIdx, int partitionId) {
-    ComputeRouterRequestKeyV1 routerRequestKey = new ComputeRouterRequestKeyV1();
+  protected ComputeRouterRequestKeyV1 createRouterRequestKey() {
+    return new ComputeRouterRequestKeyV1();
+  }
+
+  @Override
+  protected void updateRouterRequestKey(
+      ComputeRouterRequestKeyV1 routerRequestKey,
+      ByteBuffer key,
+      int keyIdx,
+      int partitionId) {
     routerRequestKey.keyBytes = key;
     routerRequestKey.keyIndex = keyIdx;
     routerRequestKey.partitionId = partitionId;
-    return routerRequestKey;
   }
 
   @Override
   protected byte[] serializeRouterRequest() {
     return COMPUTE_ROUTER_REQUEST_KEY_V1_SERIALIZER
-        .serializeObjects(routerKeyMap.values(), ByteBuffer.wrap(requestContent, 0, computeRequestLengthInBytes));
+        .serializeObjects(getRouterRequestKeys(), ByteBuffer.wrap(requestContent, 0, computeRequestLengthInBytes));
   }
 
   @Override
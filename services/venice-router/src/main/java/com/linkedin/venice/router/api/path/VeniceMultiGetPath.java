@@ -18,13 +18,11 @@ import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
-import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.serializer.RecordSerializer;
 import java.nio.ByteBuffer;
-import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import javax.annotation.Nonnull;
-import org.apache.avro.io.OptimizedBinaryDecoderFactory;
 
 
 public class VeniceMultiGetPath extends VeniceMultiKeyPath<MultiGetRouterRequestKeyV1> {
@@ -37,9 +35,6 @@ public class VeniceMultiGetPath extends VeniceMultiKeyPath<MultiGetRouterRequest
   protected static final ReadAvroProtocolDefinition EXPECTED_PROTOCOL =
       ReadAvroProtocolDefinition.MULTI_GET_CLIENT_REQUEST_V1;
 
-  private static final RecordDeserializer<ByteBuffer> EXPECTED_PROTOCOL_DESERIALIZER = FastSerializerDeserializerFactory
-      .getFastAvroGenericDeserializer(EXPECTED_PROTOCOL.getSchema(), EXPECTED_PROTOCOL.getSchema());
-
   public VeniceMultiGetPath(
       String storeName,
       int versionNumber,
@@ -71,7 +66,6 @@ public class VeniceMultiGetPath extends VeniceMultiKeyPath<MultiGetRouterRequest
           "Expected api version: " + EXPECTED_PROTOCOL.getProtocolVersion() + ", but received: " + apiVersion);
     }
 
-    Iterable<ByteBuffer> keys;
     byte[] content;
 
     if (request.hasAttr(RouterThrottleHandler.THROTTLE_HANDLER_BYTE_ATTRIBUTE_KEY)) {
@@ -81,15 +75,14 @@ public class VeniceMultiGetPath extends VeniceMultiKeyPath<MultiGetRouterRequest
       request.content().readBytes(content);
     }
 
-    keys = deserialize(content);
-    initialize(storeName, resourceName, keys, partitionFinder, maxKeyCount, stats);
+    initialize(storeName, resourceName, content, 0, partitionFinder, maxKeyCount, stats);
   }
 
   VeniceMultiGetPath(
       String storeName,
       int versionNumber,
       String resourceName,
-      Map<RouterKey, MultiGetRouterRequestKeyV1> routerKeyMap,
+      Set<RouterKey> routerKeys,
       boolean smartLongTailRetryEnabled,
       int smartLongTailRetryAbortThresholdMs,
       int longTailRetryMaxRouteForMultiKeyReq,
@@ -100,10 +93,10 @@ public class VeniceMultiGetPath extends VeniceMultiKeyPath<MultiGetRouterRequest
         resourceName,
         smartLongTailRetryEnabled,
         smartLongTailRetryAbortThresholdMs,
-        routerKeyMap,
+        routerKeys,
         longTailRetryMaxRouteForMultiKeyReq,
         retryManager);
-    setPartitionKeys(routerKeyMap.keySet());
+    setPartitionKeys(routerKeys);
   }
 
   @Nonnull
@@ -126,15 +119,15 @@ public class VeniceMultiGetPath extends VeniceMultiKeyPath<MultiGetRouterRequest
    * If the parent request is a retry request, the sub-request generated by scattering-gathering logic should be retry
    * request as well.
    *
-   * @param routerKeyMap
+   * @param routerKeys
    * @return
    */
-  protected VeniceMultiGetPath fixRetryRequestForSubPath(Map<RouterKey, MultiGetRouterRequestKeyV1> routerKeyMap) {
+  protected VeniceMultiGetPath fixRetryRequestForSubPath(Set<RouterKey> routerKeys) {
     VeniceMultiGetPath subPath = new VeniceMultiGetPath(
         storeName,
         versionNumber,
         getResourceName(),
-        routerKeyMap,
+        routerKeys,
         isSmartLongTailRetryEnabled(),
         getSmartLongTailRetryAbortThresholdMs(),
         getLongTailRetryMaxRouteForMultiKeyReq(),
@@ -144,22 +137,24 @@ public class VeniceMultiGetPath extends VeniceMultiKeyPath<MultiGetRouterRequest
   }
 
   @Override
-  protected MultiGetRouterRequestKeyV1 createRouterRequestKey(ByteBuffer key, int keyIdx, int partitionId) {
-    MultiGetRouterRequestKeyV1 routerRequestKey = new MultiGetRouterRequestKeyV1();
+  protected MultiGetRouterRequestKeyV1 createRouterRequestKey() {
+    return new MultiGetRouterRequestKeyV1();
+  }
+
+  @Override
+  protected void updateRouterRequestKey(
+      MultiGetRouterRequestKeyV1 routerRequestKey,
+      ByteBuffer key,
+      int keyIdx,
+      int partitionId) {
     routerRequestKey.keyBytes = key;
     routerRequestKey.keyIndex = keyIdx;
     routerRequestKey.partitionId = partitionId;
-    return routerRequestKey;
   }
 
   @Override
   protected byte[] serializeRouterRequest() {
-    return MULTI_GET_ROUTER_REQUEST_KEY_V1_SERIALIZER.serializeObjects(routerKeyMap.values());
-  }
-
-  private static Iterable<ByteBuffer> deserialize(byte[] content) {
-    return EXPECTED_PROTOCOL_DESERIALIZER.deserializeObjects(
-        OptimizedBinaryDecoderFactory.defaultFactory().createOptimizedBinaryDecoder(content, 0, content.length));
+    return MULTI_GET_ROUTER_REQUEST_KEY_V1_SERIALIZER.serializeObjects(getRouterRequestKeys());
   }
 
   @Override
@@ -18,9 +18,12 @@ import com.linkedin.venice.router.stats.RouterStats;
 import io.netty.handler.codec.http.HttpMethod;
 import java.nio.ByteBuffer;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nonnull;
 import org.apache.http.client.methods.HttpPost;
@@ -29,8 +32,11 @@ import org.apache.http.entity.ByteArrayEntity;
 
 
 public abstract class VeniceMultiKeyPath<K> extends VenicePath {
+  private static final ThreadLocal<MultiKeyRequestKeyReader> KEY_READER =
+      ThreadLocal.withInitial(MultiKeyRequestKeyReader::new);
+
   protected int keyNum;
-  protected final Map<RouterKey, K> routerKeyMap;
+  protected final Set<RouterKey> routerKeys;
   private final int longTailRetryMaxRouteForMultiKeyReq;
   private AtomicInteger currentAllowedRetryRouteCnt = new AtomicInteger(0);
 
@@ -42,14 +48,14 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
       int smartLongTailRetryAbortThresholdMs,
       int longTailRetryMaxRouteForMultiKeyReq,
       RetryManager retryManager) {
-    // HashMap's performance is better than TreeMap
+    // HashSet's performance is better than TreeSet
     this(
         storeName,
         versionNumber,
         resourceName,
         smartLongTailRetryEnabled,
         smartLongTailRetryAbortThresholdMs,
-        new HashMap<>(),
+        new HashSet<>(),
         longTailRetryMaxRouteForMultiKeyReq,
         retryManager);
   }
@@ -60,7 +66,7 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
       String resourceName,
       boolean smartLongTailRetryEnabled,
       int smartLongTailRetryAbortThresholdMs,
-      Map<RouterKey, K> routerKeyMap,
+      Set<RouterKey> routerKeys,
       int longTailRetryMaxRouteForMultiKeyReq,
       RetryManager retryManager) {
     super(
@@ -70,17 +76,23 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
         smartLongTailRetryEnabled,
         smartLongTailRetryAbortThresholdMs,
         retryManager);
-    this.keyNum = routerKeyMap.size();
-    this.routerKeyMap = routerKeyMap;
+    this.keyNum = routerKeys.size();
+    this.routerKeys = routerKeys;
     this.longTailRetryMaxRouteForMultiKeyReq = longTailRetryMaxRouteForMultiKeyReq;
   }
 
   /**
-   * Fill the router key map and the index2routerKey map.
+   * Fill the router key set.
+   *
+   * The keys are located in place inside the request content by {@link MultiKeyRequestKeyReader} instead of being
+   * deserialized into their own byte arrays, so each {@link RouterKey} is a view over the request content, and the
+   * partition of each key is computed in the same pass with the partitioner resolved once for the whole request.
+   * No router request key is created here, see {@link #getRouterRequestKeys()}.
    *
    * @param storeName
    * @param resourceName
-   * @param keys            Multiple keys from client request; keys have been deserialized to ByteBuffer
+   * @param content         Request content from client, which ends with the serialized keys
+   * @param keysOffset      Offset of the first serialized key in the request content
    * @param partitionFinder
    * @param maxKeyCount
    * @throws RouterException
@@ -88,7 +100,8 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
   public void initialize(
       String storeName,
       String resourceName,
-      Iterable<ByteBuffer> keys,
+      byte[] content,
+      int keysOffset,
       VenicePartitionFinder partitionFinder,
       int maxKeyCount,
       RouterStats<AggRouterHttpRequestStats> stats) throws RouterException {
@@ -106,24 +119,32 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
           e.getHttpResponseStatus(),
           e.getMessage());
     }
+    AggRouterHttpRequestStats multiGetStats = stats == null ? null : stats.getStatsByType(RequestType.MULTI_GET);
 
-    for (ByteBuffer key: keys) {
-      RouterKey routerKey = new RouterKey(key);
+    MultiKeyRequestKeyReader keyReader = KEY_READER.get().reset(content, keysOffset, content.length - keysOffset);
+    try {
+      while (nextKey(keyReader)) {
+        int keyOffset = keyReader.getKeyOffset();
+        int keyLength = keyReader.getKeyLength();
+        RouterKey routerKey = new RouterKey(content, keyOffset, keyLength);
 
-      keyNum++;
+        keyNum++;
 
-      if (stats != null) {
-        stats.getStatsByType(RequestType.MULTI_GET).recordKeySize(storeName, routerKey.getKeySize());
-      }
+        if (multiGetStats != null) {
+          multiGetStats.recordKeySize(storeName, keyLength);
+        }
 
-      // partition lookup
-      int partitionId = partitioner.getPartitionId(routerKey.getKeyBuffer(), partitionNum);
-      routerKey.setPartitionId(partitionId);
-      K routerRequestKey = createRouterRequestKey(key, keyIdx, partitionId);
-      this.routerKeyMap.put(routerKey, routerRequestKey);
-      ++keyIdx;
+        // partition lookup
+        routerKey.setPartitionId(partitioner.getPartitionId(content, keyOffset, keyLength, partitionNum));
+        routerKey.setKeyIndex(keyIdx);
+        // The first occurrence of a duplicate key is kept
+        this.routerKeys.add(routerKey);
+        ++keyIdx;
+      }
+    } finally {
+      keyReader.clear();
     }
-    setPartitionKeys(this.routerKeyMap.keySet());
+    setPartitionKeys(this.routerKeys);
 
     int keyCount = getPartitionKeys().size();
     if (keyCount > maxKeyCount) {
@@ -145,6 +166,18 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
     }
   }
 
+  private boolean nextKey(MultiKeyRequestKeyReader keyReader) throws RouterException {
+    try {
+      return keyReader.next();
+    } catch (VeniceException e) {
+      throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
+          Optional.of(getStoreName()),
+          Optional.of(getRequestType()),
+          BAD_REQUEST,
+          "Failed to parse the keys of the request: " + e.getMessage());
+    }
+  }
+
   /**
    * The following function is used to generate a {@link VeniceMultiGetPath} or a {@link VeniceComputePath} for a given key,
    * and the generated {@link VenicePath} will be used to compose router request and forward to storage node;
@@ -156,19 +189,18 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
    */
   @Override
   public VenicePath substitutePartitionKey(RouterKey s) {
-    K routerRequestKey = routerKeyMap.get(s);
-    if (routerRequestKey == null) {
+    if (!routerKeys.contains(s)) {
       throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
           Optional.of(getStoreName()),
           Optional.of(getRequestType()),
           BAD_GATEWAY,
           "RouterKey: " + s + " should exist in the original path");
     }
-    Map<RouterKey, K> newRouterKeyMap = new HashMap<>();
+    Set<RouterKey> newRouterKeys = new HashSet<>();
 
-    newRouterKeyMap.put(s, routerRequestKey);
+    newRouterKeys.add(s);
 
-    return fixRetryRequestForSubPath(newRouterKeyMap);
+    return fixRetryRequestForSubPath(newRouterKeys);
   }
 
   /**
@@ -182,21 +214,9 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
    */
   @Override
   public VenicePath substitutePartitionKey(@Nonnull Collection<RouterKey> s) {
-    Map<RouterKey, K> newRouterKeyMap = new HashMap<>(s.size());
+    Set<RouterKey> newRouterKeys = new HashSet<>(s.size());
     for (RouterKey key: s) {
-      /**
-       * Using {@link Map#get(Object)} and checking whether it is null is faster than the following statements:
-       * if (!routerKeyMap.containsKey(key)) {
-       *   ... ...
-       * }
-       * newRouterKeyMap.put(key, routerKeyMap.get(key));
-       * newKeyIdxToRouterKey.put(routerKeyMap.get(key).keyIndex, key);
-       *
-       * Since this way will save two unnecessary Map lookups.
-       * This could make a big difference considering large batch-get user cases.
-       */
-      K routerRequestKey = routerKeyMap.get(key);
-      if (routerRequestKey == null) {
+      if (!routerKeys.contains(key)) {
         throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
             Optional.of(getStoreName()),
             Optional.of(getRequestType()),
@@ -204,10 +224,10 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
             "RouterKey: " + key + " should exist in the original path");
       }
 
-      newRouterKeyMap.put(key, routerRequestKey);
+      newRouterKeys.add(key);
     }
 
-    return fixRetryRequestForSubPath(newRouterKeyMap);
+    return fixRetryRequestForSubPath(newRouterKeys);
   }
 
   @Override
@@ -263,20 +283,59 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
   }
 
   /**
-   * Create a router request key.
+   * Returns the router request keys of this path, to be serialized one after another.
    *
+   * Only one router request key, plus one {@link ByteBuffer} per request content the keys point into, is allocated for
+   * the whole iteration: each call to {@link Iterator#next()} rewrites them with the next key, so the returned element
+   * must be consumed before moving to the next one, which is what the Avro serializer does.
+   */
+  protected Iterable<K> getRouterRequestKeys() {
+    return () -> new Iterator<K>() {
+      private final Iterator<RouterKey> keyIterator = routerKeys.iterator();
+      private final K routerRequestKey = createRouterRequestKey();
+      // All the keys of a request point into the same content, so this map rarely holds more than one entry
+      private final Map<byte[], ByteBuffer> contentBuffers = new IdentityHashMap<>(2);
+
+      @Override
+      public boolean hasNext() {
+        return keyIterator.hasNext();
+      }
+
+      @Override
+      public K next() {
+        RouterKey routerKey = keyIterator.next();
+        ByteBuffer keyBuffer = contentBuffers.computeIfAbsent(routerKey.getKeyBytes(), ByteBuffer::wrap);
+        keyBuffer.clear();
+        keyBuffer.position(routerKey.getKeyOffset());
+        keyBuffer.limit(routerKey.getKeyOffset() + routerKey.getKeySize());
+        updateRouterRequestKey(routerRequestKey, keyBuffer, routerKey.getKeyIndex(), routerKey.getPartitionId());
+        return routerRequestKey;
+      }
+    };
+  }
+
+  /**
+   * Create an empty router request key, to be filled by {@link #updateRouterRequestKey}.
+   *
+   * @return An instance of ComputeRouterRequestKeyV1 for compute request; return an instance of MultiGetRouterRequestKeyV1 for multi-get
+   */
+  protected abstract K createRouterRequestKey();
+
+  /**
+   * Point the router request key at another key.
+   *
+   * @param routerRequestKey
    * @param key
    * @param keyIdx
    * @param partitionId
-   * @return An instance of ComputeRouterRequestKeyV1 for compute request; return an instance of MultiGetRouterRequestKeyV1 for multi-get
    */
-  protected abstract K createRouterRequestKey(ByteBuffer key, int keyIdx, int partitionId);
+  protected abstract void updateRouterRequestKey(K routerRequestKey, ByteBuffer key, int keyIdx, int partitionId);
 
   /**
-   * @param routerKeyMap
+   * @param routerKeys
    * @return a sub-path with a new set of keys
    */
-  protected abstract VenicePath fixRetryRequestForSubPath(Map<RouterKey, K> routerKeyMap);
+  protected abstract VenicePath fixRetryRequestForSubPath(Set<RouterKey> routerKeys);
 
   /**
    * For multi-get requests, simply serialize the set of RouterKey to bytes;
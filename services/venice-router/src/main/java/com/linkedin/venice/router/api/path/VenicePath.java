@@ -132,7 +132,7 @@ public abstract class VenicePath implements ResourcePath<RouterKey> {
   public int getRequestSize() {
     // The final single-element array is being used in closure since closure can only operate final variables.
     final int[] size = { 0 };
-    getPartitionKeys().stream().forEach(key -> size[0] += key.getKeyBuffer().remaining());
+    getPartitionKeys().stream().forEach(key -> size[0] += key.getKeySize());
 
     return size[0];
   }
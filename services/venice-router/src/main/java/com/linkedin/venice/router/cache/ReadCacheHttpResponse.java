@@ -0,0 +1,76 @@
+package com.linkedin.venice.router.cache;
+
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import io.netty.buffer.ByteBuf;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
+
+
+/**
+ * A {@link PortableHttpResponse} whose content is fully or partially served by {@link RouterReadCache}. It either
+ * carries the headers a storage node would have returned for the cached values, or the headers of the storage node
+ * response it has been merged with.
+ */
+class ReadCacheHttpResponse implements PortableHttpResponse {
+  private final int statusCode;
+  private final ByteBuf content;
+  private final PortableHttpResponse serverResponse;
+  private final int schemaId;
+  private final CompressionStrategy compressionStrategy;
+
+  /**
+   * Builds a response entirely served by the cache.
+   */
+  ReadCacheHttpResponse(ByteBuf content, int schemaId, CompressionStrategy compressionStrategy) {
+    this.statusCode = HttpStatus.SC_OK;
+    this.content = content;
+    this.serverResponse = null;
+    this.schemaId = schemaId;
+    this.compressionStrategy = compressionStrategy;
+  }
+
+  /**
+   * Builds a response with the headers of the given storage node response, but with a different content.
+   */
+  ReadCacheHttpResponse(PortableHttpResponse serverResponse, ByteBuf content) {
+    this.statusCode = serverResponse.getStatusCode();
+    this.content = content;
+    this.serverResponse = serverResponse;
+    this.schemaId = -1;
+    this.compressionStrategy = null;
+  }
+
+  @Override
+  public int getStatusCode() {
+    return statusCode;
+  }
+
+  @Override
+  public ByteBuf getContentInByteBuf() {
+    return content;
+  }
+
+  @Override
+  public boolean containsHeader(String headerName) {
+    return getFirstHeader(headerName) != null;
+  }
+
+  @Override
+  public String getFirstHeader(String headerName) {
+    if (serverResponse != null) {
+      return serverResponse.getFirstHeader(headerName);
+    }
+    switch (headerName) {
+      case HttpHeaders.CONTENT_TYPE:
+        return HttpConstants.AVRO_BINARY;
+      case HttpConstants.VENICE_SCHEMA_ID:
+        return Integer.toString(schemaId);
+      case HttpConstants.VENICE_COMPRESSION_STRATEGY:
+        return Integer.toString(compressionStrategy.getValue());
+      default:
+        return null;
+    }
+  }
+}
@@ -0,0 +1,245 @@
+package com.linkedin.venice.router.cache;
+
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
+import com.linkedin.venice.router.api.RouterKey;
+import com.linkedin.venice.router.api.VeniceResponseDecompressor;
+import com.linkedin.venice.router.api.path.VeniceMultiGetPath;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.utils.ByteUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.io.OptimizedBinaryDecoderFactory;
+import org.apache.http.HttpStatus;
+
+
+/**
+ * The result of looking up the keys of one scattered request in {@link RouterReadCache}. The storage node request,
+ * if any, is only sent for {@link #getMissPath()}, and its response gets merged with the cached values by
+ * {@link #populateAndMerge(PortableHttpResponse)}, which also caches the values returned by the storage node.
+ */
+public abstract class ReadCacheLookup {
+  protected final RouterReadCache readCache;
+  protected final VenicePath path;
+
+  private ReadCacheLookup(RouterReadCache readCache, VenicePath path) {
+    this.readCache = readCache;
+    this.path = path;
+  }
+
+  static ReadCacheLookup of(RouterReadCache readCache, VenicePath path) {
+    if (path.getRequestType() == RequestType.SINGLE_GET) {
+      return new SingleGetLookup(readCache, path);
+    }
+    return new MultiGetLookup(readCache, (VeniceMultiGetPath) path);
+  }
+
+  public abstract int getLookupKeyCount();
+
+  public abstract int getHitKeyCount();
+
+  /**
+   * @return whether all the keys are cached, in which case no storage node request is needed.
+   */
+  public boolean isFullHit() {
+    return getHitKeyCount() == getLookupKeyCount();
+  }
+
+  /**
+   * @return the path covering the keys which are not cached.
+   */
+  public abstract VenicePath getMissPath();
+
+  /**
+   * @return the response for a {@link #isFullHit() full hit}.
+   */
+  public abstract PortableHttpResponse toResponse();
+
+  /**
+   * Caches the values returned for {@link #getMissPath()}, and merges them with the cached ones.
+   */
+  public abstract PortableHttpResponse populateAndMerge(PortableHttpResponse serverResponse) throws IOException;
+
+  private static class SingleGetLookup extends ReadCacheLookup {
+    private final ByteBuffer key;
+    private final RouterReadCache.CachedValue cachedValue;
+
+    private SingleGetLookup(RouterReadCache readCache, VenicePath path) {
+      super(readCache, path);
+      this.key = path.getPartitionKey().getKeyBuffer();
+      this.cachedValue = readCache.get(path.getStoreName(), path.getVersionNumber(), key);
+    }
+
+    @Override
+    public int getLookupKeyCount() {
+      return 1;
+    }
+
+    @Override
+    public int getHitKeyCount() {
+      return cachedValue == null ? 0 : 1;
+    }
+
+    @Override
+    public VenicePath getMissPath() {
+      return path;
+    }
+
+    @Override
+    public PortableHttpResponse toResponse() {
+      return new ReadCacheHttpResponse(
+          Unpooled.wrappedBuffer(cachedValue.getValue()),
+          cachedValue.getSchemaId(),
+          cachedValue.getCompressionStrategy());
+    }
+
+    @Override
+    public PortableHttpResponse populateAndMerge(PortableHttpResponse serverResponse) throws IOException {
+      if (serverResponse.getStatusCode() != HttpStatus.SC_OK) {
+        return serverResponse;
+      }
+      ByteBuf content = serverResponse.getContentInByteBuf();
+      byte[] value = ByteBufUtil.getBytes(content);
+      readCache.put(
+          path.getStoreName(),
+          path.getVersionNumber(),
+          key,
+          Integer.parseInt(serverResponse.getFirstHeader(HttpConstants.VENICE_SCHEMA_ID)),
+          value,
+          getCompressionStrategy(serverResponse));
+      return new ReadCacheHttpResponse(serverResponse, content);
+    }
+  }
+
+  private static class MultiGetLookup extends ReadCacheLookup {
+    private static final RecordSerializer<MultiGetResponseRecordV1> RECORD_SERIALIZER =
+        FastSerializerDeserializerFactory.getFastAvroGenericSerializer(MultiGetResponseRecordV1.getClassSchema());
+    private static final RecordDeserializer<MultiGetResponseRecordV1> RECORD_DESERIALIZER =
+        FastSerializerDeserializerFactory.getFastAvroSpecificDeserializer(
+            MultiGetResponseRecordV1.getClassSchema(),
+            MultiGetResponseRecordV1.class);
+    private static final int RESPONSE_SCHEMA_ID =
+        ReadAvroProtocolDefinition.MULTI_GET_RESPONSE_V1.getProtocolVersion();
+
+    private final int lookupKeyCount;
+    private final List<MultiGetResponseRecordV1> hitRecords;
+    private final List<RouterKey> missKeys;
+    /**
+     * Key index in the original request -> key bytes, for the keys which are not cached.
+     */
+    private final Map<Integer, ByteBuffer> missKeyBytes;
+    private CompressionStrategy compressionStrategy = null;
+
+    private MultiGetLookup(RouterReadCache readCache, VeniceMultiGetPath path) {
+      super(readCache, path);
+      Collection<RouterKey> routerKeys = path.getPartitionKeys();
+      this.lookupKeyCount = routerKeys.size();
+      this.hitRecords = new ArrayList<>();
+      this.missKeys = new ArrayList<>(lookupKeyCount);
+      this.missKeyBytes = new HashMap<>(lookupKeyCount);
+      for (RouterKey routerKey: routerKeys) {
+        ByteBuffer keyBuffer = routerKey.getKeyBuffer();
+        RouterReadCache.CachedValue cachedValue =
+            readCache.get(path.getStoreName(), path.getVersionNumber(), keyBuffer);
+        /**
+         * The compression strategy is fixed per store version, so the cached values of one version should always
+         * agree with each other, and with the storage node response.
+         */
+        if (cachedValue != null
+            && (compressionStrategy == null || compressionStrategy == cachedValue.getCompressionStrategy())) {
+          compressionStrategy = cachedValue.getCompressionStrategy();
+          MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+          record.keyIndex = routerKey.getKeyIndex();
+          record.value = ByteBuffer.wrap(cachedValue.getValue());
+          record.schemaId = cachedValue.getSchemaId();
+          hitRecords.add(record);
+        } else {
+          missKeys.add(routerKey);
+          missKeyBytes.put(routerKey.getKeyIndex(), keyBuffer);
+        }
+      }
+    }
+
+    @Override
+    public int getLookupKeyCount() {
+      return lookupKeyCount;
+    }
+
+    @Override
+    public int getHitKeyCount() {
+      return hitRecords.size();
+    }
+
+    @Override
+    public VenicePath getMissPath() {
+      return hitRecords.isEmpty() ? path : path.substitutePartitionKey(missKeys);
+    }
+
+    @Override
+    public PortableHttpResponse toResponse() {
+      return new ReadCacheHttpResponse(serializeHitRecords(), RESPONSE_SCHEMA_ID, compressionStrategy);
+    }
+
+    @Override
+    public PortableHttpResponse populateAndMerge(PortableHttpResponse serverResponse) throws IOException {
+      if (serverResponse.getStatusCode() != HttpStatus.SC_OK) {
+        return serverResponse;
+      }
+      ByteBuf content = serverResponse.getContentInByteBuf();
+      if (!content.isReadable()) {
+        // None of the missed keys exists.
+        return new ReadCacheHttpResponse(serverResponse, hitRecords.isEmpty() ? content : serializeHitRecords());
+      }
+      CompressionStrategy serverCompression = getCompressionStrategy(serverResponse);
+      // Only copies the content when it is not backed by an array of the exact same size.
+      byte[] bytes = ByteBufUtil.getBytes(content, content.readerIndex(), content.readableBytes(), false);
+      Iterable<MultiGetResponseRecordV1> records = RECORD_DESERIALIZER.deserializeObjects(
+          OptimizedBinaryDecoderFactory.defaultFactory().createOptimizedBinaryDecoder(bytes, 0, bytes.length));
+      for (MultiGetResponseRecordV1 record: records) {
+        ByteBuffer key = missKeyBytes.get(record.keyIndex);
+        if (key != null) {
+          readCache.put(
+              path.getStoreName(),
+              path.getVersionNumber(),
+              key,
+              record.schemaId,
+              ByteUtils.extractByteArray(record.value),
+              serverCompression);
+        }
+      }
+      if (hitRecords.isEmpty()) {
+        return new ReadCacheHttpResponse(serverResponse, content);
+      }
+      /**
+       * Keep the storage node response and the cached records as separate components, since
+       * {@link VeniceResponseDecompressor#decompressMultiGetContent} decompresses each component on its own.
+       */
+      ByteBuf mergedContent = Unpooled.compositeBuffer(2).addComponents(true, content, serializeHitRecords());
+      return new ReadCacheHttpResponse(serverResponse, mergedContent);
+    }
+
+    private ByteBuf serializeHitRecords() {
+      return Unpooled.wrappedBuffer(RECORD_SERIALIZER.serializeObjects(hitRecords));
+    }
+  }
+
+  private static CompressionStrategy getCompressionStrategy(PortableHttpResponse serverResponse) {
+    return VeniceResponseDecompressor
+        .getCompressionStrategy(serverResponse.getFirstHeader(HttpConstants.VENICE_COMPRESSION_STRATEGY));
+  }
+}
@@ -0,0 +1,296 @@
+package com.linkedin.venice.router.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.StoreDataChangedListener;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.router.api.path.VeniceMultiGetPath;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.SystemTime;
+import com.linkedin.venice.utils.Time;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A byte-bounded cache of the values returned by storage nodes, which sits between {@link
+ * com.linkedin.venice.router.api.VenicePathParser} and the storage node requests sent by {@link
+ * com.linkedin.venice.router.api.VeniceDispatcher}, so that repeated single-get and batch-get lookups are served by
+ * Router directly.
+ *
+ * The entries are keyed by store, version and key, and the values are kept the way storage nodes return them, so the
+ * regular decompression logic in {@link com.linkedin.venice.router.api.VeniceResponseDecompressor} still decides
+ * whether to decompress or pass through the value for each client. Eviction is delegated to Caffeine, whose
+ * W-TinyLFU policy keeps the frequently read keys when the cache is full.
+ *
+ * Only the current version of each store is cached:
+ * 1. The data of a batch-only store never changes within a version, so its entries are kept until the next version
+ *    swap, which drops all the entries of the store through {@link StoreDataChangedListener}.
+ * 2. The current version of a hybrid store keeps receiving real-time writes, so its entries are only cached when the
+ *    hybrid store TTL is positive, and they expire after the TTL.
+ */
+public class RouterReadCache implements StoreDataChangedListener, Closeable {
+  private static final Logger LOGGER = LogManager.getLogger(RouterReadCache.class);
+  /**
+   * Rough per-entry overhead of the cache key, the cached value and the Caffeine node, which is added to the weight of
+   * each entry, so that caching many tiny values cannot blow up the heap usage.
+   */
+  static final int ENTRY_OVERHEAD_IN_BYTES = 96;
+
+  private static final StoreCacheState NOT_CACHEABLE = new StoreCacheState(Store.NON_EXISTING_VERSION, false, false);
+
+  private final ReadOnlyStoreRepository storeRepository;
+  private final long hybridStoreTtlMs;
+  private final Cache<CacheKey, CachedValue> cache;
+  private final Map<String, StoreCacheState> storeStates = new VeniceConcurrentHashMap<>();
+
+  public RouterReadCache(ReadOnlyStoreRepository storeRepository, long maxSizeInBytes, long hybridStoreTtlMs) {
+    this(storeRepository, maxSizeInBytes, hybridStoreTtlMs, SystemTime.INSTANCE);
+  }
+
+  public RouterReadCache(
+      ReadOnlyStoreRepository storeRepository,
+      long maxSizeInBytes,
+      long hybridStoreTtlMs,
+      Time time) {
+    this.storeRepository = storeRepository;
+    this.hybridStoreTtlMs = hybridStoreTtlMs;
+    long hybridStoreTtlNs = TimeUnit.MILLISECONDS.toNanos(hybridStoreTtlMs);
+    this.cache = Caffeine.newBuilder()
+        .maximumWeight(maxSizeInBytes)
+        .<CacheKey, CachedValue>weigher(
+            (key, value) -> key.getKeySize() + value.getValueSize() + ENTRY_OVERHEAD_IN_BYTES)
+        .expireAfter(new Expiry<CacheKey, CachedValue>() {
+          @Override
+          public long expireAfterCreate(CacheKey key, CachedValue value, long currentTime) {
+            return value.isHybrid() ? hybridStoreTtlNs : Long.MAX_VALUE;
+          }
+
+          @Override
+          public long expireAfterUpdate(CacheKey key, CachedValue value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+          }
+
+          @Override
+          public long expireAfterRead(CacheKey key, CachedValue value, long currentTime, long currentDuration) {
+            return currentDuration;
+          }
+        })
+        .ticker(time::getNanoseconds)
+        .build();
+    this.storeRepository.registerStoreDataChangedListener(this);
+    LOGGER.info(
+        "Initialized router read cache with capacity: {} bytes and hybrid store TTL: {} ms",
+        maxSizeInBytes,
+        hybridStoreTtlMs);
+  }
+
+  /**
+   * @return whether the keys of the given path could be looked up in, and populated into, the cache. Only single-get
+   *         and non-streaming batch-get requests against the current version of a cacheable store qualify.
+   */
+  public boolean isCacheable(VenicePath path) {
+    RequestType requestType = path.getRequestType();
+    if (requestType != RequestType.SINGLE_GET
+        && !(requestType == RequestType.MULTI_GET && path instanceof VeniceMultiGetPath)) {
+      return false;
+    }
+    StoreCacheState state = getStoreCacheState(path.getStoreName());
+    return state.cacheable && state.currentVersion == path.getVersionNumber();
+  }
+
+  /**
+   * Looks up all the keys of the given path, which must be {@link #isCacheable(VenicePath) cacheable}.
+   */
+  public ReadCacheLookup lookup(VenicePath path) {
+    return ReadCacheLookup.of(this, path);
+  }
+
+  CachedValue get(String storeName, int version, ByteBuffer key) {
+    return cache.getIfPresent(new CacheKey(storeName, version, key));
+  }
+
+  void put(String storeName, int version, ByteBuffer key, int schemaId, byte[] value, CompressionStrategy compression) {
+    StoreCacheState state = getStoreCacheState(storeName);
+    if (!state.cacheable || state.currentVersion != version) {
+      // The version got swapped while the request was in flight.
+      return;
+    }
+    // Copy the key since it is usually a slice of the whole request body.
+    cache.put(
+        new CacheKey(storeName, version, ByteBuffer.wrap(ByteUtils.extractByteArray(key.duplicate()))),
+        new CachedValue(schemaId, value, compression, state.hybrid));
+  }
+
+  /**
+   * Drops all the entries of the given store.
+   */
+  public void invalidateStore(String storeName) {
+    cache.asMap().keySet().removeIf(key -> key.storeName.equals(storeName));
+  }
+
+  public long getEstimatedEntryCount() {
+    return cache.estimatedSize();
+  }
+
+  /**
+   * Stops listening to the store changes and drops all the entries, since they can't be invalidated anymore.
+   */
+  @Override
+  public void close() {
+    storeRepository.unregisterStoreDataChangedListener(this);
+    cache.invalidateAll();
+    storeStates.clear();
+  }
+
+  /**
+   * Visible for testing, to apply the pending evictions.
+   */
+  void cleanUp() {
+    cache.cleanUp();
+  }
+
+  @Override
+  public void handleStoreCreated(Store store) {
+    storeStates.put(store.getName(), toStoreCacheState(store));
+  }
+
+  @Override
+  public void handleStoreDeleted(String storeName) {
+    storeStates.remove(storeName);
+    invalidateStore(storeName);
+  }
+
+  @Override
+  public void handleStoreChanged(Store store) {
+    StoreCacheState newState = toStoreCacheState(store);
+    StoreCacheState oldState = storeStates.put(store.getName(), newState);
+    if (oldState != null
+        && (oldState.currentVersion != newState.currentVersion || oldState.hybrid != newState.hybrid)) {
+      LOGGER.info(
+          "Dropping the router read cache entries of store: {} since its current version changed from {} to {}",
+          store.getName(),
+          oldState.currentVersion,
+          newState.currentVersion);
+      invalidateStore(store.getName());
+    }
+  }
+
+  private StoreCacheState getStoreCacheState(String storeName) {
+    StoreCacheState state = storeStates.get(storeName);
+    if (state == null) {
+      /**
+       * Not using {@link Map#computeIfAbsent} here since the store repository lock is held while notifying the
+       * listeners, which would update the same map.
+       */
+      Store store = storeRepository.getStore(storeName);
+      state = store == null ? NOT_CACHEABLE : toStoreCacheState(store);
+      StoreCacheState previousState = storeStates.putIfAbsent(storeName, state);
+      if (previousState != null) {
+        state = previousState;
+      }
+    }
+    return state;
+  }
+
+  private StoreCacheState toStoreCacheState(Store store) {
+    boolean hybrid = store.isHybrid();
+    return new StoreCacheState(store.getCurrentVersion(), !hybrid || hybridStoreTtlMs > 0, hybrid);
+  }
+
+  private static class StoreCacheState {
+    private final int currentVersion;
+    private final boolean cacheable;
+    private final boolean hybrid;
+
+    private StoreCacheState(int currentVersion, boolean cacheable, boolean hybrid) {
+      this.currentVersion = currentVersion;
+      this.cacheable = cacheable;
+      this.hybrid = hybrid;
+    }
+  }
+
+  private static class CacheKey {
+    private final String storeName;
+    private final int version;
+    private final ByteBuffer key;
+    private final int hashCode;
+
+    private CacheKey(String storeName, int version, ByteBuffer key) {
+      this.storeName = storeName;
+      this.version = version;
+      this.key = key;
+      this.hashCode = 31 * (31 * storeName.hashCode() + version) + key.hashCode();
+    }
+
+    private int getKeySize() {
+      return key.remaining();
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof CacheKey)) {
+        return false;
+      }
+      CacheKey other = (CacheKey) o;
+      return hashCode == other.hashCode && version == other.version && storeName.equals(other.storeName)
+          && key.equals(other.key);
+    }
+  }
+
+  /**
+   * A value as returned by the storage node, together with the value schema id and the compression strategy of the
+   * store version.
+   */
+  static class CachedValue {
+    private final int schemaId;
+    private final byte[] value;
+    private final CompressionStrategy compressionStrategy;
+    private final boolean hybrid;
+
+    CachedValue(int schemaId, byte[] value, CompressionStrategy compressionStrategy, boolean hybrid) {
+      this.schemaId = schemaId;
+      this.value = value;
+      this.compressionStrategy = compressionStrategy;
+      this.hybrid = hybrid;
+    }
+
+    int getSchemaId() {
+      return schemaId;
+    }
+
+    byte[] getValue() {
+      return value;
+    }
+
+    int getValueSize() {
+      return value.length;
+    }
+
+    CompressionStrategy getCompressionStrategy() {
+      return compressionStrategy;
+    }
+
+    boolean isHybrid() {
+      return hybrid;
+    }
+  }
+}
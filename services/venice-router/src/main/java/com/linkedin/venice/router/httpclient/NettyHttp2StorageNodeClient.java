@@ -0,0 +1,549 @@
+package com.linkedin.venice.router.httpclient;
+
+import com.linkedin.alpini.consts.QOS;
+import com.linkedin.alpini.netty4.handlers.BasicHttpObjectAggregator;
+import com.linkedin.alpini.netty4.pool.BasicDnsResolver;
+import com.linkedin.alpini.netty4.pool.ChannelPoolManager;
+import com.linkedin.alpini.netty4.pool.ChannelPoolManagerImpl;
+import com.linkedin.alpini.netty4.pool.FixedChannelPoolFactory;
+import com.linkedin.alpini.netty4.pool.Http2AwareChannelPool;
+import com.linkedin.alpini.netty4.pool.ManagedChannelPool;
+import com.linkedin.alpini.router.api.RouterException;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.security.SSLFactory;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.MultithreadEventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.pool.ChannelHealthChecker;
+import io.netty.channel.pool.ChannelPoolHandler;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.DefaultHttp2WindowUpdateFrame;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2ResetFrame;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.IdentityCipherSuiteFilter;
+import io.netty.handler.ssl.JdkSslContext;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A {@link StorageNodeClient} which multiplexes all the requests to a storage node over a small number of HTTP/2
+ * connections, built on top of the alpini {@link ChannelPoolManagerImpl} and {@link Http2AwareChannelPool}.
+ *
+ * Each request gets its own HTTP/2 stream, so the number of connections, and the TLS handshakes to set them up, no
+ * longer grows with the concurrency of the router, unlike with {@link ApacheHttpAsyncStorageNodeClient} and
+ * {@link HttpClient5StorageNodeClient}. The number of in-flight streams is tracked per storage node, and a storage node
+ * is reported as not ready to serve through {@link #isInstanceReadyToServe} once all the streams of its connections
+ * are in use, so that the router picks another replica instead of piling up requests on it.
+ *
+ * The flow-control windows are configurable, since the default HTTP/2 window of 64KB would throttle the large
+ * batch-get responses: the stream window bounds the in-flight bytes of each response, while the connection window
+ * bounds the in-flight bytes of all the responses sharing a connection.
+ *
+ * A request which fails or times out resets its stream, so that the storage node stops sending the response, and a
+ * stream reset by the storage node is reported to the caller as a cancelled request.
+ *
+ * This client only negotiates HTTP/2 through ALPN, so the storage nodes need to have HTTP/2 enabled.
+ */
+public class NettyHttp2StorageNodeClient implements StorageNodeClient {
+  private static final Logger LOGGER = LogManager.getLogger(NettyHttp2StorageNodeClient.class);
+
+  private static final String IO_THREAD_NAME = "router-http2-client-io";
+  private static final ApplicationProtocolConfig HTTP2_ONLY_PROTOCOL_CONFIG = new ApplicationProtocolConfig(
+      ApplicationProtocolConfig.Protocol.ALPN,
+      ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+      ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+      ApplicationProtocolNames.HTTP_2);
+  /**
+   * The size of the responses is already bounded by the storage nodes.
+   */
+  private static final int MAX_RESPONSE_SIZE = Integer.MAX_VALUE;
+  private static final int MAX_WAITERS_PER_POOL = Integer.MAX_VALUE;
+  private static final long HEALTH_CHECK_INTERVAL_MS = TimeUnit.SECONDS.toMillis(10);
+  private static final long CLOSE_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(10);
+
+  private final MultithreadEventLoopGroup eventLoopGroup;
+  private final ChannelPoolManager channelPoolManager;
+  private final int socketTimeoutMs;
+  private final int maxStreamsPerHost;
+  /**
+   * Node id -> number of in-flight streams to that storage node.
+   */
+  private final Map<String, AtomicInteger> inFlightStreams = new VeniceConcurrentHashMap<>();
+  /**
+   * The host and port of all the storage nodes with a connection pool, to close the pools on {@link #close()}.
+   */
+  private final Set<String> pooledHosts = VeniceConcurrentHashMap.newKeySet();
+  private final AtomicInteger openConnections = new AtomicInteger();
+
+  public NettyHttp2StorageNodeClient(Optional<SSLFactory> sslFactory, VeniceRouterConfig routerConfig) {
+    SSLFactory factory = sslFactory.orElseThrow(
+        () -> new VeniceException("Param 'sslFactory' must be present while using " + this.getClass().getSimpleName()));
+    /**
+     * ALPN is only supported by the JDK SSL engine since JDK11, and it is required to negotiate HTTP/2.
+     */
+    if (Utils.getJavaMajorVersion() < 11) {
+      throw new VeniceException(
+          "To enable HTTP/2 with " + this.getClass().getSimpleName()
+              + ", the current process needs to use JDK11 or above");
+    }
+    SslContext sslContext = new JdkSslContext(
+        factory.getSSLContext(),
+        true,
+        null,
+        IdentityCipherSuiteFilter.INSTANCE,
+        HTTP2_ONLY_PROTOCOL_CONFIG,
+        ClientAuth.NONE,
+        null,
+        false);
+
+    int ioThreadCount = routerConfig.getHttp2ClientIOThreadCount();
+    MultithreadEventLoopGroup ioEventLoopGroup;
+    Class<? extends SocketChannel> socketChannelClass;
+    try {
+      ioEventLoopGroup = new EpollEventLoopGroup(ioThreadCount, new DaemonThreadFactory(IO_THREAD_NAME));
+      socketChannelClass = EpollSocketChannel.class;
+    } catch (LinkageError error) {
+      LOGGER.info("Epoll is only supported on Linux; switching to NIO");
+      ioEventLoopGroup = new NioEventLoopGroup(ioThreadCount, new DaemonThreadFactory(IO_THREAD_NAME));
+      socketChannelClass = NioSocketChannel.class;
+    }
+    this.eventLoopGroup = ioEventLoopGroup;
+    Bootstrap bootstrap = new Bootstrap().group(ioEventLoopGroup)
+        .channel(socketChannelClass)
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, routerConfig.getConnectionTimeout())
+        .option(ChannelOption.TCP_NODELAY, true)
+        .option(ChannelOption.SO_KEEPALIVE, true)
+        .handler(new Http2ConnectionInitializer(sslContext, routerConfig, openConnections));
+
+    int maxConnectionsPerHost = routerConfig.getHttp2ClientMaxConnectionsPerHost();
+    int maxConcurrentStreams = routerConfig.getHttp2ClientMaxConcurrentStreams();
+    this.channelPoolManager = new ChannelPoolManagerImpl(
+        ioEventLoopGroup,
+        new Http2ChannelPoolFactory(
+            bootstrap,
+            routerConfig.getConnectionTimeout(),
+            maxConnectionsPerHost,
+            maxConcurrentStreams),
+        new BasicDnsResolver(),
+        MAX_WAITERS_PER_POOL,
+        true,
+        false,
+        false);
+    this.socketTimeoutMs = routerConfig.getSocketTimeout();
+    this.maxStreamsPerHost = maxConnectionsPerHost * maxConcurrentStreams;
+    LOGGER.info(
+        "Constructing NettyHttp2StorageNodeClient with io thread count: {}, max connections per host: {}, "
+            + "max concurrent streams per connection: {}",
+        ioThreadCount,
+        maxConnectionsPerHost,
+        maxConcurrentStreams);
+  }
+
+  @Override
+  public void start() {
+
+  }
+
+  /**
+   * Closes the connection pools, which fails the requests still waiting for a stream, before shutting down the event
+   * loops the connections run on.
+   */
+  @Override
+  public void close() {
+    for (String hostAndPort: pooledHosts) {
+      Future<Void> closeFuture = channelPoolManager.close(hostAndPort);
+      if (!closeFuture.awaitUninterruptibly(CLOSE_TIMEOUT_MS)) {
+        LOGGER.warn("Timed out closing the connection pool to storage node: {}", hostAndPort);
+      } else if (!closeFuture.isSuccess()) {
+        LOGGER.warn("Failed to close the connection pool to storage node: {}", hostAndPort, closeFuture.cause());
+      }
+    }
+    pooledHosts.clear();
+    eventLoopGroup.shutdownGracefully();
+  }
+
+  /**
+   * @return the number of connections currently open to all the storage nodes, which is meant for tests.
+   */
+  public int getOpenConnectionCount() {
+    return openConnections.get();
+  }
+
+  @Override
+  public void query(
+      Instance host,
+      VenicePath path,
+      Consumer<PortableHttpResponse> completedCallBack,
+      Consumer<Throwable> failedCallBack,
+      BooleanSupplier cancelledCallBack) throws RouterException {
+    byte[] body = path.getBody();
+    FullHttpRequest request = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        path.getHttpMethod(),
+        "/" + path.getLocation(),
+        body == null ? Unpooled.EMPTY_BUFFER : Unpooled.wrappedBuffer(body));
+    path.setupVeniceHeaders((k, v) -> request.headers().add(k, v));
+    sendRequest(host, request, socketTimeoutMs, completedCallBack, failedCallBack, cancelledCallBack);
+  }
+
+  @Override
+  public void sendRequest(VeniceMetaDataRequest request, CompletableFuture<PortableHttpResponse> responseFuture) {
+    FullHttpRequest httpRequest = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.valueOf(request.getMethod()),
+        "/" + request.getQuery());
+    sendRequest(
+        request.getHost(),
+        httpRequest,
+        request.hasTimeout() ? request.getTimeout() : socketTimeoutMs,
+        responseFuture::complete,
+        responseFuture::completeExceptionally,
+        () -> responseFuture.cancel(false));
+  }
+
+  /**
+   * A storage node is not ready to serve once all the streams of its connections are in use.
+   */
+  @Override
+  public boolean isInstanceReadyToServe(String instanceId) {
+    AtomicInteger streams = inFlightStreams.get(instanceId);
+    return streams == null || streams.get() < maxStreamsPerHost;
+  }
+
+  private void sendRequest(
+      Instance host,
+      FullHttpRequest request,
+      long timeoutMs,
+      Consumer<PortableHttpResponse> completedCallBack,
+      Consumer<Throwable> failedCallBack,
+      BooleanSupplier cancelledCallBack) {
+    String hostAndPort = host.getHost() + ":" + host.getSslPort();
+    request.headers().set(HttpHeaderNames.HOST, hostAndPort);
+    HttpUtil.setContentLength(request, request.content().readableBytes());
+
+    AtomicInteger streams = inFlightStreams.computeIfAbsent(host.getNodeId(), ignored -> new AtomicInteger());
+    streams.incrementAndGet();
+    ResponseHandler responseHandler =
+        new ResponseHandler(streams, completedCallBack, failedCallBack, cancelledCallBack);
+    pooledHosts.add(hostAndPort);
+    channelPoolManager.acquire(hostAndPort, ChannelPoolManagerImpl.DEFAULT_DB_QUEUE, QOS.NORMAL)
+        .addListener((Future<Channel> acquired) -> {
+          if (!acquired.isSuccess()) {
+            request.release();
+            responseHandler.fail(acquired.cause());
+            return;
+          }
+          Channel streamChannel = acquired.getNow();
+          responseHandler.attach(streamChannel, timeoutMs);
+          streamChannel.writeAndFlush(request).addListener(written -> {
+            if (!written.isSuccess()) {
+              responseHandler.fail(written.cause());
+            }
+          });
+        });
+  }
+
+  /**
+   * Handles the response of one request, which is received on its own stream channel. Exactly one of the callbacks is
+   * invoked, after which the stream is released to the pool, or closed if no response was received, which resets it.
+   */
+  private class ResponseHandler extends SimpleChannelInboundHandler<FullHttpResponse> {
+    private final AtomicInteger streams;
+    private final Consumer<PortableHttpResponse> completedCallBack;
+    private final Consumer<Throwable> failedCallBack;
+    private final BooleanSupplier cancelledCallBack;
+    private final AtomicBoolean done = new AtomicBoolean();
+    private volatile Channel streamChannel;
+    private volatile ScheduledFuture<?> timeoutFuture;
+
+    ResponseHandler(
+        AtomicInteger streams,
+        Consumer<PortableHttpResponse> completedCallBack,
+        Consumer<Throwable> failedCallBack,
+        BooleanSupplier cancelledCallBack) {
+      this.streams = streams;
+      this.completedCallBack = completedCallBack;
+      this.failedCallBack = failedCallBack;
+      this.cancelledCallBack = cancelledCallBack;
+    }
+
+    void attach(Channel streamChannel, long timeoutMs) {
+      this.streamChannel = streamChannel;
+      streamChannel.pipeline().addLast(this);
+      String timeoutMessage = "No response within " + timeoutMs + " ms from " + streamChannel.parent();
+      timeoutFuture = streamChannel.eventLoop()
+          .schedule(() -> fail(new TimeoutException(timeoutMessage)), timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, FullHttpResponse response) {
+      if (finish(true)) {
+        completedCallBack.accept(new NettyHttp2Response(response));
+      }
+    }
+
+    /**
+     * {@link Http2MultiplexHandler} delivers the RST_STREAM frames as user events, since they are not flow-controlled.
+     */
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+      if (evt instanceof Http2ResetFrame) {
+        if (finish(false)) {
+          cancelledCallBack.getAsBoolean();
+        }
+        return;
+      }
+      super.userEventTriggered(ctx, evt);
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+      fail(cause);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+      fail(new VeniceException("Stream to " + ctx.channel().remoteAddress() + " was closed before the response"));
+      super.channelInactive(ctx);
+    }
+
+    void fail(Throwable cause) {
+      if (finish(false)) {
+        failedCallBack.accept(cause);
+      }
+    }
+
+    private boolean finish(boolean responseReceived) {
+      if (!done.compareAndSet(false, true)) {
+        return false;
+      }
+      streams.decrementAndGet();
+      ScheduledFuture<?> timeout = timeoutFuture;
+      if (timeout != null) {
+        timeout.cancel(false);
+      }
+      Channel channel = streamChannel;
+      if (channel != null) {
+        if (!responseReceived) {
+          // Closing a stream which is still active sends RST_STREAM, so the storage node stops sending the response.
+          channel.close();
+        }
+        channelPoolManager.release(channel);
+      }
+      return true;
+    }
+  }
+
+  /**
+   * The content is copied out of the pooled buffers of the connection, since the callers don't release the content of
+   * {@link PortableHttpResponse}.
+   */
+  private static final class NettyHttp2Response implements PortableHttpResponse {
+    private final int statusCode;
+    private final HttpHeaders headers;
+    private final byte[] content;
+
+    NettyHttp2Response(FullHttpResponse response) {
+      this.statusCode = response.status().code();
+      this.headers = response.headers();
+      this.content = ByteBufUtil.getBytes(response.content());
+    }
+
+    @Override
+    public int getStatusCode() {
+      return statusCode;
+    }
+
+    @Override
+    public ByteBuf getContentInByteBuf() throws IOException {
+      return content.length == 0 ? Unpooled.EMPTY_BUFFER : Unpooled.wrappedBuffer(content);
+    }
+
+    @Override
+    public boolean containsHeader(String headerName) {
+      return headers.contains(headerName);
+    }
+
+    @Override
+    public String getFirstHeader(String headerName) {
+      return headers.get(headerName);
+    }
+  }
+
+  /**
+   * Sets up the pipeline of each connection to a storage node: TLS with HTTP/2 negotiated through ALPN, the HTTP/2
+   * codec with the configured flow-control windows, and the multiplexer which hands out a stream channel per request.
+   */
+  private static final class Http2ConnectionInitializer extends ChannelInitializer<Channel> {
+    private final SslContext sslContext;
+    private final int initialWindowSize;
+    private final int maxFrameSize;
+    private final int connectionWindowSizeIncrement;
+    private final AtomicInteger openConnections;
+
+    Http2ConnectionInitializer(
+        SslContext sslContext,
+        VeniceRouterConfig routerConfig,
+        AtomicInteger openConnections) {
+      this.sslContext = sslContext;
+      this.openConnections = openConnections;
+      this.initialWindowSize = routerConfig.getHttp2ClientInitialWindowSize();
+      this.maxFrameSize = routerConfig.getHttp2ClientMaxFrameSize();
+      this.connectionWindowSizeIncrement =
+          routerConfig.getHttp2ClientConnectionWindowSize() - Http2CodecUtil.DEFAULT_WINDOW_SIZE;
+    }
+
+    @Override
+    protected void initChannel(Channel ch) {
+      openConnections.incrementAndGet();
+      ch.closeFuture().addListener(closed -> openConnections.decrementAndGet());
+      SslHandler sslHandler = sslContext.newHandler(ch.alloc());
+      sslHandler.handshakeFuture().addListener(handshake -> {
+        if (handshake.isSuccess() && !ApplicationProtocolNames.HTTP_2.equals(sslHandler.applicationProtocol())) {
+          LOGGER.error(
+              "Closing the connection to storage node: {}, which did not negotiate HTTP/2 but: {}",
+              ch.remoteAddress(),
+              sslHandler.applicationProtocol());
+          ch.close();
+        }
+      });
+      ch.pipeline().addLast(sslHandler);
+      ch.pipeline()
+          .addLast(
+              Http2FrameCodecBuilder.forClient()
+                  .initialSettings(
+                      Http2Settings.defaultSettings()
+                          .pushEnabled(false)
+                          .initialWindowSize(initialWindowSize)
+                          .maxFrameSize(maxFrameSize))
+                  .build());
+      if (connectionWindowSizeIncrement > 0) {
+        ch.pipeline().addLast(new ConnectionWindowSizeHandler(connectionWindowSizeIncrement));
+      }
+      ch.pipeline().addLast(new Http2MultiplexHandler(new PushedStreamRejector()));
+    }
+  }
+
+  /**
+   * The initial settings only cover the window of the streams, while the window of the connection has to be enlarged
+   * through a WINDOW_UPDATE frame once the connection preface is sent.
+   */
+  private static final class ConnectionWindowSizeHandler extends ChannelInboundHandlerAdapter {
+    private final int windowSizeIncrement;
+
+    ConnectionWindowSizeHandler(int windowSizeIncrement) {
+      this.windowSizeIncrement = windowSizeIncrement;
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) {
+      ctx.writeAndFlush(new DefaultHttp2WindowUpdateFrame(windowSizeIncrement));
+      ctx.fireChannelActive();
+      ctx.pipeline().remove(this);
+    }
+  }
+
+  /**
+   * Push is disabled in the settings, so any stream opened by a storage node is unexpected.
+   */
+  private static final class PushedStreamRejector extends ChannelInitializer<Channel> {
+    @Override
+    protected void initChannel(Channel ch) {
+      ch.close();
+    }
+  }
+
+  /**
+   * Wraps each pool of parent connections into a {@link Http2AwareChannelPool}, which hands out a new stream channel
+   * for each acquire, and opens another connection only when the streams of the existing ones run out.
+   */
+  private static final class Http2ChannelPoolFactory extends FixedChannelPoolFactory {
+    private final int maxConnectionsPerHost;
+    private final int maxConcurrentStreams;
+
+    Http2ChannelPoolFactory(
+        Bootstrap bootstrap,
+        long acquireTimeoutMs,
+        int maxConnectionsPerHost,
+        int maxConcurrentStreams) {
+      super(
+          bootstrap,
+          acquireTimeoutMs,
+          1,
+          maxConnectionsPerHost,
+          MAX_WAITERS_PER_POOL,
+          false,
+          HEALTH_CHECK_INTERVAL_MS,
+          ChannelHealthChecker.ACTIVE,
+          null);
+      this.maxConnectionsPerHost = maxConnectionsPerHost;
+      this.maxConcurrentStreams = maxConcurrentStreams;
+    }
+
+    @Override
+    public ManagedChannelPool construct(
+        ChannelPoolManager manager,
+        ChannelPoolHandler handler,
+        EventLoopGroup eventLoop,
+        InetSocketAddress address) {
+      Http2AwareChannelPool pool = new Http2AwareChannelPool(
+          super.construct(manager, handler, eventLoop, address),
+          ignored -> {},
+          streamChannel -> streamChannel.pipeline().addLast(new BasicHttpObjectAggregator(MAX_RESPONSE_SIZE)),
+          maxConnectionsPerHost > 1);
+      pool.setMaxConcurrentStreams(maxConcurrentStreams);
+      pool.setRetryOnMaxStreamsLimit(true);
+      return pool;
+    }
+  }
+}
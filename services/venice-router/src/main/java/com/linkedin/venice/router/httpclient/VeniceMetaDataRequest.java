@@ -30,6 +30,10 @@ public class VeniceMetaDataRequest {
     return timeout;
   }
 
+  public Instance getHost() {
+    return host;
+  }
+
   public String getNodeId() {
     return host.getNodeId();
   }
@@ -197,6 +197,11 @@ public class AggRouterHttpRequestStats extends AbstractVeniceAggStoreStats<Route
     getStoreStats(storeName).recordMetaStoreShadowRead();
   }
 
+  public void recordReadCacheLookup(String storeName, int lookupKeyCount, int hitKeyCount) {
+    totalStats.recordReadCacheLookup(lookupKeyCount, hitKeyCount);
+    getStoreStats(storeName).recordReadCacheLookup(lookupKeyCount, hitKeyCount);
+  }
+
   private class AggScatterGatherStats extends ScatterGatherStats {
     private long getAggStats(Function<ScatterGatherStats, Long> func) {
       long total = 0;
@@ -77,6 +77,8 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
   private final Sensor retryDelaySensor;
   private final Sensor multiGetFallbackSensor;
   private final Sensor metaStoreShadowReadSensor;
+  private final Sensor readCacheLookupKeySensor;
+  private final Sensor readCacheHitKeySensor;
   private Sensor keySizeSensor;
   private final String systemStoreName;
 
@@ -197,6 +199,13 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
         registerSensor("error_retry_attempt_triggered_by_pending_request_check", new OccurrenceRate());
     retryDelaySensor = registerSensor("retry_delay", new Avg(), new Max());
     metaStoreShadowReadSensor = registerSensor("meta_store_shadow_read", new OccurrenceRate());
+
+    Rate readCacheLookupKeyRate = new Rate();
+    Rate readCacheHitKeyRate = new Rate();
+    readCacheLookupKeySensor = registerSensor("read_cache_lookup_key", new Total(), readCacheLookupKeyRate);
+    readCacheHitKeySensor = registerSensor("read_cache_hit_key", new Total(), readCacheHitKeyRate);
+    registerSensor(
+        new TehutiUtils.SimpleRatioStat(readCacheHitKeyRate, readCacheLookupKeyRate, "read_cache_hit_ratio"));
   }
 
   /**
@@ -387,6 +396,11 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
     metaStoreShadowReadSensor.record();
   }
 
+  public void recordReadCacheLookup(int lookupKeyCount, int hitKeyCount) {
+    readCacheLookupKeySensor.record(lookupKeyCount);
+    readCacheHitKeySensor.record(hitKeyCount);
+  }
+
   @Override
   protected Sensor registerSensor(String sensorName, MeasurableStat... stats) {
     return super.registerSensor(systemStoreName == null ? sensorName : systemStoreName, null, stats);
@@ -0,0 +1,255 @@
+package com.linkedin.venice.router.throttle;
+
+import static com.linkedin.venice.meta.Store.NON_EXISTING_VERSION;
+import static com.linkedin.venice.router.throttle.ReadRequestThrottler.MIN_STORE_QUOTA_PER_ROUTER;
+
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.RouterReadQuotaUsage;
+import com.linkedin.venice.meta.RoutersClusterManager;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.SystemTime;
+import com.linkedin.venice.utils.Time;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.DoubleAdder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * By default, {@link ReadRequestThrottler} gives each router an equal share of the read quota of each store, which
+ * falsely throttles the routers receiving more than their share of the traffic, while the others leave their share
+ * unused. This class makes the routers of a cluster split the read quota of each store according to where the traffic
+ * actually lands instead.
+ *
+ * Each router periodically publishes the read capacity units per second requested for each store, including the
+ * rejected requests, through {@link RoutersClusterManager}, and reads the usage published by all the other routers.
+ * The quota of a store is then split in proportion to the usage of each router, except for a configurable fraction of
+ * it, which is split evenly, so that a router could still absorb new traffic until the next sync. Since all the
+ * routers compute their share out of the same reports, the shares add up to the store quota, give or take the usage
+ * changes between the syncs of different routers. The live routers which do not report any usage, e.g. during a
+ * rolling upgrade, keep an even share of the quota.
+ *
+ * To bound the size of the router ZNodes regardless of the number of stores, each router only publishes the usage of
+ * its busiest stores, along with an upper bound of the usage of the others, which is used for them instead.
+ */
+public class ClusterReadQuotaCoordinator implements Closeable {
+  private static final Logger LOGGER = LogManager.getLogger(ClusterReadQuotaCoordinator.class);
+  /**
+   * The usage reported by a router more than this number of sync intervals ago is ignored, since that router is
+   * likely stuck.
+   */
+  private static final int STALE_USAGE_SYNC_INTERVALS = 3;
+
+  private final RoutersClusterManager routersManager;
+  private final ReadOnlyStoreRepository storeRepository;
+  private final AggRouterHttpRequestStats stats;
+  private final String instanceId;
+  private final long syncIntervalMs;
+  private final double minShare;
+  private final int maxReportedStores;
+  private final long maxRouterReadCapacity;
+  private final Time time;
+  private final Map<String, DoubleAdder> storeUsage = new VeniceConcurrentHashMap<>();
+  private volatile Map<String, Long> storeQuotaPerRouter = Collections.emptyMap();
+  private long lastSyncTimeMs;
+  private ScheduledExecutorService syncExecutor;
+
+  public ClusterReadQuotaCoordinator(
+      RoutersClusterManager routersManager,
+      ReadOnlyStoreRepository storeRepository,
+      AggRouterHttpRequestStats stats,
+      String instanceId,
+      VeniceRouterConfig routerConfig) {
+    this(
+        routersManager,
+        storeRepository,
+        stats,
+        instanceId,
+        routerConfig.getClusterCoordinatedReadQuotaSyncIntervalMs(),
+        routerConfig.getClusterCoordinatedReadQuotaMinShare(),
+        routerConfig.getClusterCoordinatedReadQuotaMaxReportedStores(),
+        routerConfig.getMaxReadCapacityCu(),
+        SystemTime.INSTANCE);
+  }
+
+  ClusterReadQuotaCoordinator(
+      RoutersClusterManager routersManager,
+      ReadOnlyStoreRepository storeRepository,
+      AggRouterHttpRequestStats stats,
+      String instanceId,
+      long syncIntervalMs,
+      double minShare,
+      int maxReportedStores,
+      long maxRouterReadCapacity,
+      Time time) {
+    if (minShare < 0 || minShare > 1) {
+      throw new IllegalArgumentException("Min read quota share should be in [0, 1], but got: " + minShare);
+    }
+    if (maxReportedStores <= 0) {
+      throw new IllegalArgumentException("Max reported stores should be positive, but got: " + maxReportedStores);
+    }
+    this.routersManager = routersManager;
+    this.storeRepository = storeRepository;
+    this.stats = stats;
+    this.instanceId = instanceId;
+    this.syncIntervalMs = syncIntervalMs;
+    this.minShare = minShare;
+    this.maxReportedStores = maxReportedStores;
+    this.maxRouterReadCapacity = maxRouterReadCapacity;
+    this.time = time;
+    this.lastSyncTimeMs = time.getMilliseconds();
+  }
+
+  public synchronized void start() {
+    if (syncExecutor != null) {
+      return;
+    }
+    syncExecutor = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("router-read-quota-sync"));
+    syncExecutor.scheduleWithFixedDelay(() -> {
+      try {
+        sync();
+      } catch (Exception e) {
+        LOGGER.error("Failed to sync the read quota usage of router: {}", instanceId, e);
+      }
+    }, syncIntervalMs, syncIntervalMs, TimeUnit.MILLISECONDS);
+    LOGGER.info("Started to sync the read quota usage of router: {} every {} ms", instanceId, syncIntervalMs);
+  }
+
+  @Override
+  public synchronized void close() {
+    if (syncExecutor != null) {
+      syncExecutor.shutdownNow();
+      syncExecutor = null;
+    }
+  }
+
+  /**
+   * Records the read capacity units requested for the given store, whether the request gets throttled or not.
+   */
+  public void recordUsage(String storeName, double readCapacityUnit) {
+    storeUsage.computeIfAbsent(storeName, ignored -> new DoubleAdder()).add(readCapacityUnit);
+  }
+
+  /**
+   * @return the share of this router of the read quota of the given store, or {@param defaultQuota} if it has not been
+   *         computed yet.
+   */
+  public long getStoreQuotaPerRouter(String storeName, long defaultQuota) {
+    Long quota = storeQuotaPerRouter.get(storeName);
+    return quota == null ? defaultQuota : quota;
+  }
+
+  /**
+   * Publishes the usage of this router since the last sync, and recomputes the share of this router of the read quota
+   * of every store out of the latest usage of all the routers.
+   */
+  synchronized void sync() {
+    long currentTimeMs = time.getMilliseconds();
+    long elapsedMs = Math.max(currentTimeMs - lastSyncTimeMs, 1);
+    lastSyncTimeMs = currentTimeMs;
+
+    Map<String, Long> localUsage = new HashMap<>();
+    for (Map.Entry<String, DoubleAdder> entry: storeUsage.entrySet()) {
+      long usagePerSecond = Math.round(entry.getValue().sumThenReset() * Time.MS_PER_SECOND / elapsedMs);
+      if (usagePerSecond > 0) {
+        localUsage.put(entry.getKey(), usagePerSecond);
+      }
+    }
+    routersManager.updateRouterReadQuotaUsage(instanceId, buildReport(localUsage, currentTimeMs));
+
+    List<RouterReadQuotaUsage> routersUsage = new ArrayList<>();
+    // The local usage is used as a whole, the bounded report only matters to the other routers.
+    routersUsage.add(new RouterReadQuotaUsage(localUsage, currentTimeMs));
+    long staleUsageTimeMs = currentTimeMs - STALE_USAGE_SYNC_INTERVALS * syncIntervalMs;
+    for (Map.Entry<String, RouterReadQuotaUsage> entry: routersManager.getRoutersReadQuotaUsage().entrySet()) {
+      if (!entry.getKey().equals(instanceId) && entry.getValue().getTimestamp() >= staleUsageTimeMs) {
+        routersUsage.add(entry.getValue());
+      }
+    }
+    int reportingRouterCount = routersUsage.size();
+    int liveRouterCount = Math.max(routersManager.getLiveRoutersCount(), reportingRouterCount);
+
+    Map<String, Long> newStoreQuotaPerRouter = new HashMap<>();
+    long totalQuota = 0;
+    for (Store store: storeRepository.getAllStores()) {
+      if (store.getCurrentVersion() == NON_EXISTING_VERSION) {
+        continue;
+      }
+      String storeName = store.getName();
+      long totalUsage = 0;
+      for (RouterReadQuotaUsage routerUsage: routersUsage) {
+        totalUsage += routerUsage.getStoreUsage(storeName);
+      }
+      long quota = calculateStoreQuotaPerRouter(
+          store.getReadQuotaInCU(),
+          localUsage.getOrDefault(storeName, 0L),
+          totalUsage,
+          reportingRouterCount,
+          liveRouterCount);
+      newStoreQuotaPerRouter.put(storeName, quota);
+      totalQuota += quota;
+    }
+
+    if (routersManager.isMaxCapacityProtectionEnabled() && totalQuota > maxRouterReadCapacity) {
+      // Same as the even split, reduce the quota of all the stores in proportion to stay within the router capacity.
+      LOGGER.warn(
+          "The total quota: {} of router: {} has exceeded its max capacity: {}, "
+              + "will reduce quotas for all store in proportion.",
+          totalQuota,
+          instanceId,
+          maxRouterReadCapacity);
+      for (Map.Entry<String, Long> entry: newStoreQuotaPerRouter.entrySet()) {
+        entry.setValue(Math.max(entry.getValue() * maxRouterReadCapacity / totalQuota, MIN_STORE_QUOTA_PER_ROUTER));
+      }
+    }
+
+    newStoreQuotaPerRouter.forEach(stats::recordQuota);
+    storeQuotaPerRouter = newStoreQuotaPerRouter;
+    // Drop the usage of the deleted stores.
+    storeUsage.keySet().removeIf(storeName -> !newStoreQuotaPerRouter.containsKey(storeName));
+  }
+
+  /**
+   * Keeps the usage of the {@link #maxReportedStores} busiest stores in the report. The highest usage left out is
+   * reported as the upper bound of the usage of the other stores, which over-estimates their usage on this router
+   * rather than letting the other routers take over its share.
+   */
+  RouterReadQuotaUsage buildReport(Map<String, Long> localUsage, long timestamp) {
+    if (localUsage.size() <= maxReportedStores) {
+      return new RouterReadQuotaUsage(localUsage, timestamp);
+    }
+    List<Map.Entry<String, Long>> sortedUsage = new ArrayList<>(localUsage.entrySet());
+    sortedUsage.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+    Map<String, Long> reportedUsage = new HashMap<>(maxReportedStores);
+    for (int i = 0; i < maxReportedStores; i++) {
+      reportedUsage.put(sortedUsage.get(i).getKey(), sortedUsage.get(i).getValue());
+    }
+    return new RouterReadQuotaUsage(reportedUsage, sortedUsage.get(maxReportedStores).getValue(), timestamp);
+  }
+
+  long calculateStoreQuotaPerRouter(
+      long storeQuota,
+      long localUsage,
+      long totalUsage,
+      int reportingRouterCount,
+      int liveRouterCount) {
+    // The routers not reporting any usage keep an even share, and the rest goes to the reporting routers.
+    double reportingRoutersQuota = (double) storeQuota * reportingRouterCount / liveRouterCount;
+    double share = totalUsage > 0
+        ? (1 - minShare) * localUsage / totalUsage + minShare / reportingRouterCount
+        : 1.0 / reportingRouterCount;
+    return Math.max((long) (reportingRoutersQuota * share), MIN_STORE_QUOTA_PER_ROUTER);
+  }
+}
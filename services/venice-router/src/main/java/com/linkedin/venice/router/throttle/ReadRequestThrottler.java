@@ -28,12 +28,20 @@ import org.apache.logging.log4j.Logger;
  * throttler for this store and all storage nodes which get the ONLINE replica for the current version of this store.
  * For each read request throttler will ask the related StoreReadThrottler to check both store level quota and storage
  * level quota then accept or reject it.
+ *
+ * When a {@link ClusterReadQuotaCoordinator} is given, the store quota per router follows the share computed by the
+ * coordinator out of the usage of all the routers instead, and the quota computed out of the number of living routers
+ * is only used until the coordinator computes the first share of a store.
  */
 public class ReadRequestThrottler
     implements RouterThrottler, StoreDataChangedListener, RoutersClusterManager.RouterCountChangedListener {
   // We want to give more tight restriction for store-level quota to protect router but more lenient restriction for
   // storage node level quota. Because in some case per-storage node quota is too small to user.
   public static final long DEFAULT_STORE_QUOTA_TIME_WINDOW = TimeUnit.SECONDS.toMillis(10); // 10sec
+  /**
+   * Lower bound of the store quota per router, to not reject all the requests of a store which has a tiny quota.
+   */
+  static final long MIN_STORE_QUOTA_PER_ROUTER = 5;
 
   private static final Logger LOGGER = LogManager.getLogger(ReadRequestThrottler.class);
   private final RoutersClusterManager zkRoutersManager;
@@ -63,18 +71,33 @@ public class ReadRequestThrottler
 
   private volatile boolean isNoopThrottlerEnabled;
 
+  /**
+   * Null unless the cluster-coordinated read quota is enabled.
+   */
+  private final ClusterReadQuotaCoordinator quotaCoordinator;
+
   public ReadRequestThrottler(
       RoutersClusterManager zkRoutersManager,
       ReadOnlyStoreRepository storeRepository,
       AggRouterHttpRequestStats stats,
       VeniceRouterConfig routerConfig) {
+    this(zkRoutersManager, storeRepository, stats, routerConfig, null);
+  }
+
+  public ReadRequestThrottler(
+      RoutersClusterManager zkRoutersManager,
+      ReadOnlyStoreRepository storeRepository,
+      AggRouterHttpRequestStats stats,
+      VeniceRouterConfig routerConfig,
+      ClusterReadQuotaCoordinator quotaCoordinator) {
     this(
         zkRoutersManager,
         storeRepository,
         routerConfig.getMaxReadCapacityCu(),
         stats,
         routerConfig.getPerStoreRouterQuotaBuffer(),
-        DEFAULT_STORE_QUOTA_TIME_WINDOW);
+        DEFAULT_STORE_QUOTA_TIME_WINDOW,
+        quotaCoordinator);
   }
 
   public ReadRequestThrottler(
@@ -84,6 +107,25 @@ public class ReadRequestThrottler
       AggRouterHttpRequestStats stats,
       double perStoreRouterQuotaBuffer,
       long storeQuotaCheckTimeWindow) {
+    this(
+        zkRoutersManager,
+        storeRepository,
+        maxRouterReadCapacity,
+        stats,
+        perStoreRouterQuotaBuffer,
+        storeQuotaCheckTimeWindow,
+        null);
+  }
+
+  public ReadRequestThrottler(
+      RoutersClusterManager zkRoutersManager,
+      ReadOnlyStoreRepository storeRepository,
+      long maxRouterReadCapacity,
+      AggRouterHttpRequestStats stats,
+      double perStoreRouterQuotaBuffer,
+      long storeQuotaCheckTimeWindow,
+      ClusterReadQuotaCoordinator quotaCoordinator) {
+    this.quotaCoordinator = quotaCoordinator;
     this.zkRoutersManager = zkRoutersManager;
     this.storeRepository = storeRepository;
     this.storeQuotaCheckTimeWindow = storeQuotaCheckTimeWindow;
@@ -111,6 +153,9 @@ public class ReadRequestThrottler
    */
   @Override
   public void mayThrottleRead(String storeName, double readCapacityUnit) throws QuotaExceededException {
+    if (quotaCoordinator != null) {
+      quotaCoordinator.recordUsage(storeName, readCapacityUnit);
+    }
     if (!zkRoutersManager.isThrottlingEnabled() || isNoopThrottlerEnabled) {
       return;
     }
@@ -149,9 +194,9 @@ public class ReadRequestThrottler
       LOGGER.error("Could not find any live router to serve traffic.");
     }
 
-    long idealStoreQuotaPerRouter = routerCount > 0
-        ? Math.max(storeQuota / routerCount, 5) // Do not make quota to be 0 when storeQuota < routerCount
-        : 0;
+    // Do not make quota to be 0 when storeQuota < routerCount
+    long idealStoreQuotaPerRouter =
+        routerCount > 0 ? Math.max(storeQuota / routerCount, MIN_STORE_QUOTA_PER_ROUTER) : 0;
 
     if (!zkRoutersManager.isMaxCapacityProtectionEnabled() || idealTotalQuotaPerRouter <= maxRouterReadCapacity) {
       // Current router's capacity is big enough to be allocated to each store's quota.
@@ -191,6 +236,14 @@ public class ReadRequestThrottler
   }
 
   private EventThrottler buildStoreReadThrottler(String storeName, long storeQuotaPerRouter) {
+    if (quotaCoordinator != null) {
+      return new EventThrottler(
+          () -> quotaCoordinator.getStoreQuotaPerRouter(storeName, storeQuotaPerRouter),
+          storeQuotaCheckTimeWindow,
+          storeName + "-throttler",
+          true,
+          EventThrottler.REJECT_STRATEGY);
+    }
     stats.recordQuota(storeName, storeQuotaPerRouter);
     return new EventThrottler(
         storeQuotaPerRouter,
@@ -288,6 +341,10 @@ public class ReadRequestThrottler
         return;
       }
 
+      if (quotaCoordinator != null) {
+        // The coordinator picks up the new store quota on its next sync.
+        return;
+      }
       long storeQuotaPerRouter = calculateStoreQuotaPerRouter(store.getReadQuotaInCU());
       if (storeQuotaPerRouter != getStoreReadThrottler(store.getName()).getMaxRatePerSecond()) {
         // Handle store's quota was updated.
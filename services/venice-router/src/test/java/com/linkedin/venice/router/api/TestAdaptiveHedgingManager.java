@@ -0,0 +1,130 @@
+package com.linkedin.venice.router.api;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.meta.RetryManager;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.utils.TestMockTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestAdaptiveHedgingManager {
+  private static final long WINDOW_MS = 1000;
+  private static final int MIN_SAMPLES = 100;
+  private static final int MIN_THRESHOLD_MS = 2;
+  private static final int MAX_THRESHOLD_MS = 50;
+  private static final int STATIC_THRESHOLD_MS = 20;
+
+  private final Instance fastHost = new Instance("fast_host_1234", "fast_host", 1234);
+  private final Instance slowHost = new Instance("slow_host_1234", "slow_host", 1234);
+
+  private AdaptiveHedgingManager buildManager(RetryManager hedgeBudget, TestMockTime time) {
+    return new AdaptiveHedgingManager(
+        0.9,
+        WINDOW_MS,
+        MIN_SAMPLES,
+        MIN_THRESHOLD_MS,
+        MAX_THRESHOLD_MS,
+        hedgeBudget,
+        time);
+  }
+
+  /**
+   * Records latencies from 1 ms to {@param maxLatencyMs} ms uniformly.
+   */
+  private void recordLatencies(AdaptiveHedgingManager manager, Instance host, int maxLatencyMs, int sampleCount) {
+    for (int i = 0; i < sampleCount; i++) {
+      long latencyMs = 1 + i % maxLatencyMs;
+      manager.recordLatency(RequestType.MULTI_GET, host.getNodeId(), TimeUnit.MILLISECONDS.toNanos(latencyMs));
+    }
+  }
+
+  @Test
+  public void testThresholdFollowsHostLatencyDistribution() {
+    TestMockTime time = new TestMockTime();
+    AdaptiveHedgingManager manager = buildManager(mock(RetryManager.class), time);
+
+    recordLatencies(manager, fastHost, 10, 1000);
+    recordLatencies(manager, slowHost, 40, 1000);
+    // No threshold before the end of the first window.
+    Assert.assertEquals(manager.getHostThresholdMs(RequestType.MULTI_GET, fastHost.getNodeId()), -1);
+    Assert.assertEquals(
+        manager.getHedgingThresholdMs(RequestType.MULTI_GET, Arrays.asList(fastHost, slowHost), STATIC_THRESHOLD_MS),
+        STATIC_THRESHOLD_MS);
+
+    time.sleep(WINDOW_MS);
+    recordLatencies(manager, fastHost, 10, 1);
+    recordLatencies(manager, slowHost, 40, 1);
+    int fastHostThresholdMs = manager.getHostThresholdMs(RequestType.MULTI_GET, fastHost.getNodeId());
+    int slowHostThresholdMs = manager.getHostThresholdMs(RequestType.MULTI_GET, slowHost.getNodeId());
+    Assert.assertTrue(fastHostThresholdMs >= 8 && fastHostThresholdMs <= 10, "p90: " + fastHostThresholdMs);
+    Assert.assertTrue(slowHostThresholdMs >= 34 && slowHostThresholdMs <= 38, "p90: " + slowHostThresholdMs);
+    // Other request types are tracked separately.
+    Assert.assertEquals(manager.getHostThresholdMs(RequestType.SINGLE_GET, fastHost.getNodeId()), -1);
+
+    // The request threshold is driven by the slowest storage node picked for the request.
+    Assert.assertEquals(
+        manager.getHedgingThresholdMs(
+            RequestType.MULTI_GET,
+            Collections.singletonList(fastHost),
+            STATIC_THRESHOLD_MS),
+        fastHostThresholdMs);
+    Assert.assertEquals(
+        manager.getHedgingThresholdMs(RequestType.MULTI_GET, Arrays.asList(fastHost, slowHost), STATIC_THRESHOLD_MS),
+        slowHostThresholdMs);
+  }
+
+  @Test
+  public void testThresholdIsBoundedAndWindowIsExtendedWithoutEnoughSamples() {
+    TestMockTime time = new TestMockTime();
+    AdaptiveHedgingManager manager = buildManager(mock(RetryManager.class), time);
+
+    recordLatencies(manager, slowHost, 1, MIN_SAMPLES / 2);
+    time.sleep(WINDOW_MS);
+    recordLatencies(manager, slowHost, 1, 1);
+    Assert.assertEquals(manager.getHostThresholdMs(RequestType.MULTI_GET, slowHost.getNodeId()), -1);
+
+    // The extended window now has enough samples.
+    recordLatencies(manager, slowHost, 1, MIN_SAMPLES);
+    Assert.assertEquals(manager.getHostThresholdMs(RequestType.MULTI_GET, slowHost.getNodeId()), 1);
+    Assert.assertEquals(
+        manager.getHedgingThresholdMs(
+            RequestType.MULTI_GET,
+            Collections.singletonList(slowHost),
+            STATIC_THRESHOLD_MS),
+        MIN_THRESHOLD_MS);
+
+    // The next window reflects the new latency distribution only.
+    recordLatencies(manager, slowHost, 200, 1000);
+    time.sleep(WINDOW_MS);
+    recordLatencies(manager, slowHost, 200, 1);
+    Assert.assertTrue(manager.getHostThresholdMs(RequestType.MULTI_GET, slowHost.getNodeId()) > MAX_THRESHOLD_MS);
+    Assert.assertEquals(
+        manager.getHedgingThresholdMs(
+            RequestType.MULTI_GET,
+            Collections.singletonList(slowHost),
+            STATIC_THRESHOLD_MS),
+        MAX_THRESHOLD_MS);
+  }
+
+  @Test
+  public void testHedgeBudget() {
+    RetryManager hedgeBudget = mock(RetryManager.class);
+    AdaptiveHedgingManager manager = buildManager(hedgeBudget, new TestMockTime());
+
+    manager.recordScatteredRequests(5);
+    verify(hedgeBudget).recordRequests(5);
+
+    doReturn(true).when(hedgeBudget).isRetryAllowed(1);
+    doReturn(false).when(hedgeBudget).isRetryAllowed(3);
+    Assert.assertTrue(manager.isHedgeWithinBudget(1));
+    Assert.assertFalse(manager.isHedgeWithinBudget(3));
+  }
+}
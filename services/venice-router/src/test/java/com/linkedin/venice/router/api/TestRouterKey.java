@@ -1,5 +1,6 @@
 package com.linkedin.venice.router.api;
 
+import java.nio.ByteBuffer;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -29,6 +30,21 @@ public class TestRouterKey {
     doOrderingTest(c, d, 1);
   }
 
+  @Test
+  public void testKeyInsideLargerArray() {
+    byte[] content = "xxabcyy".getBytes();
+    RouterKey rangeKey = new RouterKey(content, 2, 3);
+    RouterKey key = new RouterKey("abc".getBytes());
+    Assert.assertEquals(rangeKey, key);
+    Assert.assertEquals(rangeKey.hashCode(), key.hashCode());
+    Assert.assertEquals(rangeKey.hashCode(), ByteBuffer.wrap("abc".getBytes()).hashCode());
+    Assert.assertEquals(rangeKey.compareTo(key), 0);
+    Assert.assertEquals(rangeKey.getKeySize(), 3);
+    Assert.assertEquals(rangeKey.getKeyBuffer(), ByteBuffer.wrap("abc".getBytes()));
+    Assert.assertNotEquals(new RouterKey(content, 2, 2), key);
+    Assert.assertEquals(new RouterKey(ByteBuffer.wrap(content, 2, 3)), key);
+  }
+
   private String getKeyString(RouterKey key) {
     return new String(key.getKeyBuffer().array(), key.getKeyBuffer().position(), key.getKeyBuffer().remaining());
   }
@@ -2,6 +2,7 @@ package com.linkedin.venice.router.api;
 
 import static com.linkedin.venice.router.api.VeniceMultiKeyRoutingStrategy.HELIX_ASSISTED_ROUTING;
 import static com.linkedin.venice.router.api.VeniceMultiKeyRoutingStrategy.LEAST_LOADED_ROUTING;
+import static com.linkedin.venice.router.api.VeniceMultiKeyRoutingStrategy.PARTITION_LOCALITY_ROUTING;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
@@ -44,6 +45,7 @@ import com.linkedin.venice.utils.Utils;
 import io.netty.handler.codec.http.HttpMethod;
 import io.tehuti.metrics.MetricsRepository;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -754,4 +756,133 @@ public class TestVeniceDelegateMode {
     requests = finalScatter.getOnlineRequests();
     Assert.assertEquals(requests.size(), 1);
   }
+
+  @Test
+  public void testScatterForMultiGetWithPartitionLocalityRouting() throws RouterException {
+    String storeName = Utils.getUniqueString("test_store");
+    int version = 1;
+    String resourceName = storeName + "_v" + version;
+    List<RouterKey> keys = new ArrayList<>();
+    Map<RouterKey, String> keyPartitionMap = new HashMap<>();
+    String[] partitionNames = new String[5];
+    for (int partition = 1; partition <= 4; partition++) {
+      RouterKey key = new RouterKey(("key_" + partition).getBytes());
+      key.setPartitionId(partition);
+      keys.add(key);
+      partitionNames[partition] = HelixUtils.getPartitionName(resourceName, partition);
+      keyPartitionMap.put(key, partitionNames[partition]);
+    }
+    VenicePath path = getVenicePath(storeName, version, resourceName, RequestType.MULTI_GET, keys);
+    PartitionFinder<RouterKey> partitionFinder = getPartitionFinder(keyPartitionMap);
+
+    Instance instance1 = new Instance("host1_123", "host1", 123);
+    Instance instance2 = new Instance("host2_123", "host2", 123);
+    Instance instance3 = new Instance("host3_123", "host3", 123);
+    Instance instance4 = new Instance("host4_123", "host4", 123);
+    Map<String, List<Instance>> partitionInstanceMap = new HashMap<>();
+    partitionInstanceMap.put(partitionNames[1], Arrays.asList(instance1, instance2));
+    partitionInstanceMap.put(partitionNames[2], Arrays.asList(instance2, instance3));
+    partitionInstanceMap.put(partitionNames[3], Arrays.asList(instance1, instance3));
+    partitionInstanceMap.put(partitionNames[4], Arrays.asList(instance3, instance4));
+    HostFinder<Instance, VeniceRole> hostFinder = getHostFinder(partitionInstanceMap);
+
+    VeniceRouterConfig config = mock(VeniceRouterConfig.class);
+    doReturn(PARTITION_LOCALITY_ROUTING).when(config).getMultiKeyRoutingStrategy();
+    doReturn(10L).when(config).getPartitionLocalityRoutingPendingRequestSlack();
+    RouteHttpRequestStats routeHttpRequestStats = mock(RouteHttpRequestStats.class);
+    doReturn(5L).when(routeHttpRequestStats).getPendingRequestCount(instance1.getNodeId());
+    VeniceDelegateMode scatterMode = new VeniceDelegateMode(config, mock(RouterStats.class), routeHttpRequestStats);
+    scatterMode.initReadRequestThrottler(getReadRequestThrottle(false));
+
+    // host3 hosts 3 of the 4 partitions, and partition 1 goes to the least loaded of its replicas.
+    Scatter<Instance, VenicePath, RouterKey> scatter = new Scatter(path, getPathParser(), VeniceRole.REPLICA);
+    Scatter<Instance, VenicePath, RouterKey> finalScatter = scatterMode.scatter(
+        scatter,
+        HttpMethod.POST.name(),
+        resourceName,
+        partitionFinder,
+        hostFinder,
+        getHostHealthMonitor(),
+        VeniceRole.REPLICA);
+    Map<Instance, Set<RouterKey>> keysPerHost = new HashMap<>();
+    finalScatter.getOnlineRequests().forEach(request -> {
+      Assert.assertEquals(request.getHosts().size(), 1, "There should be only one host for each request");
+      keysPerHost.put(request.getHosts().get(0), request.getPartitionKeys());
+    });
+    Assert.assertEquals(keysPerHost.size(), 2);
+    Assert.assertEquals(keysPerHost.get(instance3), new HashSet<>(keys.subList(1, 4)));
+    Assert.assertEquals(keysPerHost.get(instance2), Collections.singleton(keys.get(0)));
+
+    // host3 is too busy compared to the other replicas, so the requests get spread over the other hosts.
+    doReturn(100L).when(routeHttpRequestStats).getPendingRequestCount(instance3.getNodeId());
+    scatter = new Scatter(path, getPathParser(), VeniceRole.REPLICA);
+    finalScatter = scatterMode.scatter(
+        scatter,
+        HttpMethod.POST.name(),
+        resourceName,
+        partitionFinder,
+        hostFinder,
+        getHostHealthMonitor(),
+        VeniceRole.REPLICA);
+    keysPerHost.clear();
+    finalScatter.getOnlineRequests()
+        .forEach(request -> keysPerHost.put(request.getHosts().get(0), request.getPartitionKeys()));
+    Assert.assertEquals(keysPerHost.size(), 3);
+    Assert.assertFalse(keysPerHost.containsKey(instance3));
+    Assert.assertEquals(keysPerHost.get(instance2), new HashSet<>(keys.subList(0, 2)));
+    Assert.assertEquals(keysPerHost.get(instance1), Collections.singleton(keys.get(2)));
+    Assert.assertEquals(keysPerHost.get(instance4), Collections.singleton(keys.get(3)));
+
+    // Partitions without any requestable replica are reported as offline.
+    Set<String> slowStorageNodeSet = new HashSet<>(Arrays.asList(instance1.getNodeId(), instance2.getNodeId()));
+    VenicePath pathWithSlowReplicas =
+        getVenicePath(storeName, version, resourceName, RequestType.MULTI_GET_STREAMING, keys, slowStorageNodeSet);
+    scatter = new Scatter(pathWithSlowReplicas, getPathParser(), VeniceRole.REPLICA);
+    finalScatter = scatterMode.scatter(
+        scatter,
+        HttpMethod.POST.name(),
+        resourceName,
+        partitionFinder,
+        hostFinder,
+        getHostHealthMonitor(),
+        VeniceRole.REPLICA);
+    Assert.assertEquals(finalScatter.getOfflineRequestCount(), 1);
+    Assert.assertEquals(
+        finalScatter.getOfflineRequests().iterator().next().getPartitionKeys(),
+        Collections.singleton(keys.get(0)));
+  }
+
+  @Test
+  public void testPartitionLocalityRoutingForSinglePartition() throws RouterException {
+    String storeName = Utils.getUniqueString("test_store");
+    String resourceName = storeName + "_v1";
+    RouterKey key = new RouterKey("key".getBytes());
+    key.setPartitionId(0);
+    List<RouterKey> keys = Collections.singletonList(key);
+    VenicePath path = getVenicePath(storeName, 1, resourceName, RequestType.MULTI_GET, keys);
+    Instance instance1 = new Instance("host1_123", "host1", 123);
+    Instance instance2 = new Instance("host2_123", "host2", 123);
+
+    VeniceRouterConfig config = mock(VeniceRouterConfig.class);
+    doReturn(PARTITION_LOCALITY_ROUTING).when(config).getMultiKeyRoutingStrategy();
+    doReturn(10L).when(config).getPartitionLocalityRoutingPendingRequestSlack();
+    RouteHttpRequestStats routeHttpRequestStats = mock(RouteHttpRequestStats.class);
+    doReturn(5L).when(routeHttpRequestStats).getPendingRequestCount(instance1.getNodeId());
+    VeniceDelegateMode scatterMode = new VeniceDelegateMode(config, mock(RouterStats.class), routeHttpRequestStats);
+    VeniceDelegateMode.PartitionLocalityRoutingModeForMultiKeyRequest mode =
+        scatterMode.new PartitionLocalityRoutingModeForMultiKeyRequest();
+
+    // Without any selected host, the least loaded replica is selected.
+    Map<Instance, VeniceDelegateMode.ScatterGatherModeForMultiKeyRequest.KeyPartitionSet<Instance, RouterKey>> hostMap =
+        new HashMap<>();
+    mode.selectHostForPartition(Arrays.asList(instance1, instance2), keys, path, hostMap, 0, 0);
+    Assert.assertEquals(hostMap.keySet(), Collections.singleton(instance2));
+
+    // An already selected replica is preferred, as long as it is within the pending request slack.
+    hostMap.clear();
+    hostMap.put(instance1, mode.new KeyPartitionSet<>(Collections.singletonList(instance1), Collections.emptyList()));
+    mode.selectHostForPartition(Arrays.asList(instance1, instance2), keys, path, hostMap, 0, 0);
+    Assert.assertEquals(hostMap.keySet(), Collections.singleton(instance1));
+    Assert.assertEquals(hostMap.get(instance1).keySet, Collections.singleton(key));
+  }
 }
@@ -30,6 +30,7 @@ import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import com.linkedin.venice.utils.Utils;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
@@ -356,4 +357,48 @@ public class TestVeniceResponseAggregator {
         routerResponse.headers().get(VENICE_COMPRESSION_STRATEGY),
         String.valueOf(CompressionStrategy.NO_OP.getValue()));
   }
+
+  /**
+   * A batch get fanning out to more parts than the default max number of components of a {@link CompositeByteBuf}
+   * should still be stitched together without copying any sub-response.
+   */
+  @Test
+  public void testMultiGetResponsesAreAggregatedWithoutCopy() {
+    String storeName = Utils.getUniqueString("test_store");
+    Map<String, String> headers = new HashMap<>();
+    headers.put(HttpHeaderNames.CONTENT_TYPE.toString(), HttpConstants.AVRO_BINARY);
+    headers.put(HttpConstants.VENICE_SCHEMA_ID, "1");
+
+    int partCount = 40;
+    List<FullHttpResponse> responses = new ArrayList<>(partCount);
+    List<byte[]> contents = new ArrayList<>(partCount);
+    for (int i = 0; i < partCount; i++) {
+      byte[] content = getResponseContentWithSchemaString("value" + i);
+      contents.add(content);
+      responses.add(buildFullHttpResponse(OK, content, headers));
+    }
+
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    VeniceResponseAggregator responseAggregator = new VeniceResponseAggregator(routerStats, Optional.empty());
+    FullHttpResponse routerResponse =
+        responseAggregator.processMultiGetResponses(responses, storeName, 1, Optional.empty());
+
+    Assert.assertEquals(routerResponse.status(), OK);
+    Assert.assertTrue(routerResponse.content() instanceof CompositeByteBuf);
+    CompositeByteBuf content = (CompositeByteBuf) routerResponse.content();
+    Assert.assertEquals(content.numComponents(), partCount);
+    int expectedSize = 0;
+    for (int i = 0; i < partCount; i++) {
+      Assert.assertSame(content.internalComponent(i).array(), contents.get(i));
+      expectedSize += contents.get(i).length;
+    }
+    Assert.assertEquals(routerResponse.headers().getInt(HttpHeaderNames.CONTENT_LENGTH).intValue(), expectedSize);
+
+    int count = 0;
+    for (CharSequence value: deserializeResponse(ByteBufUtil.getBytes(content))) {
+      Assert.assertEquals(value.toString(), "value" + count++);
+    }
+    Assert.assertEquals(count, partCount);
+    content.release();
+  }
 }
@@ -0,0 +1,77 @@
+package com.linkedin.venice.router.api.path;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestMultiKeyRequestKeyReader {
+  private static final RecordSerializer<ByteBuffer> KEY_SERIALIZER = SerializerDeserializerFactory
+      .getAvroGenericSerializer(ReadAvroProtocolDefinition.MULTI_GET_CLIENT_REQUEST_V1.getSchema());
+
+  private static List<ByteBuffer> readKeys(MultiKeyRequestKeyReader reader) {
+    List<ByteBuffer> keys = new ArrayList<>();
+    while (reader.next()) {
+      keys.add(ByteBuffer.wrap(reader.getContent(), reader.getKeyOffset(), reader.getKeyLength()));
+    }
+    return keys;
+  }
+
+  @Test
+  public void testReadKeysSerializedByClient() {
+    List<ByteBuffer> keys = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      keys.add(ByteBuffer.wrap(("key_" + i).getBytes()));
+    }
+    keys.add(ByteBuffer.wrap(new byte[0]));
+    byte[] serializedKeys = KEY_SERIALIZER.serializeObjects(keys);
+    // The keys could follow another part of the request content, e.g. the compute request.
+    byte[] content = new byte[serializedKeys.length + 3];
+    System.arraycopy(serializedKeys, 0, content, 3, serializedKeys.length);
+
+    MultiKeyRequestKeyReader reader = new MultiKeyRequestKeyReader();
+    Assert.assertEquals(readKeys(reader.reset(content, 3, serializedKeys.length)), keys);
+    Assert.assertFalse(reader.next());
+
+    // The reader is reusable.
+    Assert.assertEquals(readKeys(reader.reset(serializedKeys, 0, serializedKeys.length)), keys);
+    reader.clear();
+    Assert.assertFalse(reader.next());
+  }
+
+  @Test
+  public void testReadLargeAndEmptyKeys() {
+    List<ByteBuffer> keys = Arrays.asList(ByteBuffer.wrap(new byte[100_000]), ByteBuffer.wrap(new byte[0]));
+    byte[] serializedKeys = KEY_SERIALIZER.serializeObjects(keys);
+    Assert.assertEquals(readKeys(new MultiKeyRequestKeyReader().reset(serializedKeys, 0, serializedKeys.length)), keys);
+    Assert.assertTrue(readKeys(new MultiKeyRequestKeyReader().reset(serializedKeys, 0, 0)).isEmpty());
+  }
+
+  @Test
+  public void testMalformedContent() {
+    byte[] serializedKeys = KEY_SERIALIZER
+        .serializeObjects(Arrays.asList(ByteBuffer.wrap("key_1".getBytes()), ByteBuffer.wrap("key_2".getBytes())));
+
+    MultiKeyRequestKeyReader truncatedReader =
+        new MultiKeyRequestKeyReader().reset(serializedKeys, 0, serializedKeys.length - 3);
+    Assert.assertTrue(truncatedReader.next());
+    Assert.assertThrows(VeniceException.class, truncatedReader::next);
+
+    // A negative key length.
+    byte[] negativeKeyLength = new byte[] { 1 };
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> new MultiKeyRequestKeyReader().reset(negativeKeyLength, 0, negativeKeyLength.length).next());
+
+    Assert.assertThrows(
+        IllegalArgumentException.class,
+        () -> new MultiKeyRequestKeyReader().reset(serializedKeys, 1, serializedKeys.length));
+  }
+}
@@ -65,6 +65,7 @@ public class TestVeniceMultiGetPath {
     VenicePartitionFinder mockedPartitionFinder = mock(VenicePartitionFinder.class);
     VenicePartitioner venicePartitioner = mock(VenicePartitioner.class);
     when(venicePartitioner.getPartitionId(any(ByteBuffer.class), anyInt())).thenReturn(partitionId);
+    when(venicePartitioner.getPartitionId(any(byte[].class), anyInt(), anyInt(), anyInt())).thenReturn(partitionId);
     when(mockedPartitionFinder.findPartitioner(any(), anyInt())).thenReturn(venicePartitioner);
     return mockedPartitionFinder;
   }
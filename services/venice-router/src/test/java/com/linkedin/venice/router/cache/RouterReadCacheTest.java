@@ -0,0 +1,281 @@
+package com.linkedin.venice.router.cache;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.RetryManager;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.partitioner.VenicePartitioner;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
+import com.linkedin.venice.router.api.RouterKey;
+import com.linkedin.venice.router.api.VenicePartitionFinder;
+import com.linkedin.venice.router.api.path.VeniceMultiGetPath;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.utils.TestMockTime;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import io.tehuti.metrics.MetricsRepository;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.HttpStatus;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class RouterReadCacheTest {
+  private static final String STORE_NAME = "test_store";
+  private static final int VALUE_SCHEMA_ID = 1;
+  private static final RecordSerializer<MultiGetResponseRecordV1> RECORD_SERIALIZER =
+      SerializerDeserializerFactory.getAvroGenericSerializer(MultiGetResponseRecordV1.getClassSchema());
+  private static final RecordDeserializer<MultiGetResponseRecordV1> RECORD_DESERIALIZER = SerializerDeserializerFactory
+      .getAvroSpecificDeserializer(MultiGetResponseRecordV1.getClassSchema(), MultiGetResponseRecordV1.class);
+
+  private ReadOnlyStoreRepository storeRepository;
+  private Store store;
+  private TestMockTime time;
+
+  @BeforeMethod
+  public void setUp() {
+    storeRepository = mock(ReadOnlyStoreRepository.class);
+    store = mock(Store.class);
+    doReturn(STORE_NAME).when(store).getName();
+    doReturn(1).when(store).getCurrentVersion();
+    doReturn(false).when(store).isHybrid();
+    doReturn(store).when(storeRepository).getStore(STORE_NAME);
+    time = new TestMockTime();
+  }
+
+  @Test
+  public void testSingleGetIsCachedUntilVersionSwap() throws Exception {
+    RouterReadCache readCache = new RouterReadCache(storeRepository, 1024 * 1024, 0, time);
+    VenicePath path = getSingleGetPath(1, "key");
+    Assert.assertTrue(readCache.isCacheable(path));
+
+    ReadCacheLookup lookup = readCache.lookup(path);
+    Assert.assertFalse(lookup.isFullHit());
+    Assert.assertSame(lookup.getMissPath(), path);
+    PortableHttpResponse response = lookup.populateAndMerge(getServerResponse(toBytes("value"), VALUE_SCHEMA_ID));
+    Assert.assertEquals(ByteBufUtil.getBytes(response.getContentInByteBuf()), toBytes("value"));
+
+    lookup = readCache.lookup(getSingleGetPath(1, "key"));
+    Assert.assertTrue(lookup.isFullHit());
+    response = lookup.toResponse();
+    Assert.assertEquals(response.getStatusCode(), HttpStatus.SC_OK);
+    Assert.assertEquals(ByteBufUtil.getBytes(response.getContentInByteBuf()), toBytes("value"));
+    Assert.assertEquals(response.getFirstHeader(HttpConstants.VENICE_SCHEMA_ID), Integer.toString(VALUE_SCHEMA_ID));
+    Assert.assertEquals(
+        response.getFirstHeader(HttpConstants.VENICE_COMPRESSION_STRATEGY),
+        Integer.toString(CompressionStrategy.NO_OP.getValue()));
+
+    // Error responses are passed through without being cached.
+    PortableHttpResponse errorResponse = mock(PortableHttpResponse.class);
+    doReturn(HttpStatus.SC_NOT_FOUND).when(errorResponse).getStatusCode();
+    lookup = readCache.lookup(getSingleGetPath(1, "missing_key"));
+    Assert.assertSame(lookup.populateAndMerge(errorResponse), errorResponse);
+    Assert.assertFalse(readCache.lookup(getSingleGetPath(1, "missing_key")).isFullHit());
+
+    // The version swap drops all the entries of the store, and only the new current version is cacheable.
+    doReturn(2).when(store).getCurrentVersion();
+    readCache.handleStoreChanged(store);
+    Assert.assertEquals(readCache.getEstimatedEntryCount(), 0);
+    Assert.assertFalse(readCache.isCacheable(getSingleGetPath(1, "key")));
+    Assert.assertTrue(readCache.isCacheable(getSingleGetPath(2, "key")));
+    Assert.assertFalse(readCache.lookup(getSingleGetPath(2, "key")).isFullHit());
+
+    // A response of the previous version arriving after the swap is not cached.
+    readCache.lookup(path).populateAndMerge(getServerResponse(toBytes("value"), VALUE_SCHEMA_ID));
+    Assert.assertEquals(readCache.getEstimatedEntryCount(), 0);
+  }
+
+  @Test
+  public void testHybridStoreEntriesExpire() throws Exception {
+    doReturn(true).when(store).isHybrid();
+    VenicePath path = getSingleGetPath(1, "key");
+    Assert.assertFalse(new RouterReadCache(storeRepository, 1024 * 1024, 0, time).isCacheable(path));
+
+    RouterReadCache readCache = new RouterReadCache(storeRepository, 1024 * 1024, TimeUnit.SECONDS.toMillis(10), time);
+    Assert.assertTrue(readCache.isCacheable(path));
+    readCache.lookup(path).populateAndMerge(getServerResponse(toBytes("value"), VALUE_SCHEMA_ID));
+    Assert.assertTrue(readCache.lookup(path).isFullHit());
+
+    time.sleep(TimeUnit.SECONDS.toMillis(10));
+    Assert.assertFalse(readCache.lookup(path).isFullHit());
+  }
+
+  @Test
+  public void testCloseUnregistersListener() throws Exception {
+    RouterReadCache readCache = new RouterReadCache(storeRepository, 1024 * 1024, 0, time);
+    verify(storeRepository).registerStoreDataChangedListener(readCache);
+    VenicePath path = getSingleGetPath(1, "key");
+    readCache.lookup(path).populateAndMerge(getServerResponse(toBytes("value"), VALUE_SCHEMA_ID));
+    Assert.assertTrue(readCache.lookup(path).isFullHit());
+
+    readCache.close();
+    verify(storeRepository).unregisterStoreDataChangedListener(readCache);
+    Assert.assertFalse(readCache.lookup(path).isFullHit());
+  }
+
+  @Test
+  public void testCacheIsBoundedByBytes() throws Exception {
+    int valueSize = 1024;
+    RouterReadCache readCache = new RouterReadCache(storeRepository, 10 * valueSize, 0, time);
+    for (int i = 0; i < 100; i++) {
+      VenicePath path = getSingleGetPath(1, "key_" + i);
+      readCache.lookup(path).populateAndMerge(getServerResponse(new byte[valueSize], VALUE_SCHEMA_ID));
+    }
+    readCache.cleanUp();
+    Assert.assertTrue(readCache.getEstimatedEntryCount() < 10, "Got " + readCache.getEstimatedEntryCount());
+  }
+
+  @Test
+  public void testMultiGetPartialHitIsMergedWithServerResponse() throws Exception {
+    RouterReadCache readCache = new RouterReadCache(storeRepository, 1024 * 1024, 0, time);
+    List<ByteBuffer> keys = Arrays.asList(toByteBuffer("key_0"), toByteBuffer("key_1"), toByteBuffer("key_2"));
+
+    // Warm up the cache with the first key through a single-get.
+    readCache.lookup(getSingleGetPath(1, "key_0"))
+        .populateAndMerge(getServerResponse(toBytes("value_0"), VALUE_SCHEMA_ID));
+
+    VeniceMultiGetPath multiGetPath = getMultiGetPath(keys);
+    Assert.assertTrue(readCache.isCacheable(multiGetPath));
+    ReadCacheLookup lookup = readCache.lookup(multiGetPath);
+    Assert.assertEquals(lookup.getLookupKeyCount(), 3);
+    Assert.assertEquals(lookup.getHitKeyCount(), 1);
+    VenicePath missPath = lookup.getMissPath();
+    Assert.assertEquals(missPath.getPartitionKeys().size(), 2);
+    Assert.assertFalse(missPath.getPartitionKeys().contains(new RouterKey(toByteBuffer("key_0"))));
+
+    // key_2 does not exist, so the storage node only returns key_1.
+    PortableHttpResponse response = lookup.populateAndMerge(
+        getServerResponse(
+            RECORD_SERIALIZER.serializeObjects(Arrays.asList(getRecord(1, "value_1"))),
+            ReadAvroProtocolDefinition.MULTI_GET_RESPONSE_V1.getProtocolVersion()));
+    Assert.assertTrue(response.getContentInByteBuf() instanceof CompositeByteBuf);
+    Map<Integer, String> values = deserializeRecords(response.getContentInByteBuf());
+    Assert.assertEquals(values.size(), 2);
+    Assert.assertEquals(values.get(0), "value_0");
+    Assert.assertEquals(values.get(1), "value_1");
+
+    lookup = readCache.lookup(getMultiGetPath(keys.subList(0, 2)));
+    Assert.assertTrue(lookup.isFullHit());
+    response = lookup.toResponse();
+    Assert.assertEquals(
+        response.getFirstHeader(HttpConstants.VENICE_SCHEMA_ID),
+        Integer.toString(ReadAvroProtocolDefinition.MULTI_GET_RESPONSE_V1.getProtocolVersion()));
+    values = deserializeRecords(response.getContentInByteBuf());
+    Assert.assertEquals(values.size(), 2);
+    Assert.assertEquals(values.get(1), "value_1");
+  }
+
+  private static VenicePath getSingleGetPath(int version, String key) {
+    VenicePath path = mock(VenicePath.class);
+    doReturn(STORE_NAME).when(path).getStoreName();
+    doReturn(version).when(path).getVersionNumber();
+    doReturn(RequestType.SINGLE_GET).when(path).getRequestType();
+    doReturn(new RouterKey(toBytes(key))).when(path).getPartitionKey();
+    return path;
+  }
+
+  private static VeniceMultiGetPath getMultiGetPath(List<ByteBuffer> keys) throws Exception {
+    BasicFullHttpRequest request = new BasicFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.POST,
+        "/storage/" + STORE_NAME,
+        Unpooled.wrappedBuffer(
+            SerializerDeserializerFactory
+                .getAvroGenericSerializer(ReadAvroProtocolDefinition.MULTI_GET_CLIENT_REQUEST_V1.getSchema())
+                .serializeObjects(keys)),
+        0,
+        0);
+    request.headers()
+        .add(
+            HttpConstants.VENICE_API_VERSION,
+            ReadAvroProtocolDefinition.MULTI_GET_CLIENT_REQUEST_V1.getProtocolVersion());
+    VenicePartitionFinder partitionFinder = mock(VenicePartitionFinder.class);
+    VenicePartitioner partitioner = mock(VenicePartitioner.class);
+    doReturn(0).when(partitioner).getPartitionId(any(ByteBuffer.class), anyInt());
+    doReturn(partitioner).when(partitionFinder).findPartitioner(any(), anyInt());
+    return new VeniceMultiGetPath(
+        STORE_NAME,
+        1,
+        STORE_NAME + "_v1",
+        request,
+        partitionFinder,
+        10,
+        false,
+        -1,
+        null,
+        -1,
+        new RetryManager(new MetricsRepository(), "disabled-test-retry-manager", 0, 0, null));
+  }
+
+  private static PortableHttpResponse getServerResponse(byte[] content, int schemaId) {
+    PortableHttpResponse response = mock(PortableHttpResponse.class);
+    doReturn(HttpStatus.SC_OK).when(response).getStatusCode();
+    try {
+      doReturn(Unpooled.wrappedBuffer(content)).when(response).getContentInByteBuf();
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+    doReturn(Integer.toString(schemaId)).when(response).getFirstHeader(HttpConstants.VENICE_SCHEMA_ID);
+    doReturn(Integer.toString(CompressionStrategy.NO_OP.getValue())).when(response)
+        .getFirstHeader(HttpConstants.VENICE_COMPRESSION_STRATEGY);
+    return response;
+  }
+
+  private static MultiGetResponseRecordV1 getRecord(int keyIndex, String value) {
+    MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+    record.keyIndex = keyIndex;
+    record.value = toByteBuffer(value);
+    record.schemaId = VALUE_SCHEMA_ID;
+    return record;
+  }
+
+  private static Map<Integer, String> deserializeRecords(ByteBuf content) {
+    List<ByteBuf> components = new ArrayList<>();
+    if (content instanceof CompositeByteBuf) {
+      ((CompositeByteBuf) content).forEach(components::add);
+    } else {
+      components.add(content);
+    }
+    Map<Integer, String> values = new HashMap<>();
+    for (ByteBuf component: components) {
+      for (MultiGetResponseRecordV1 record: RECORD_DESERIALIZER.deserializeObjects(ByteBufUtil.getBytes(component))) {
+        values.put(record.keyIndex, StandardCharsets.UTF_8.decode(record.value).toString());
+      }
+    }
+    return values;
+  }
+
+  private static byte[] toBytes(String s) {
+    return s.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static ByteBuffer toByteBuffer(String s) {
+    return ByteBuffer.wrap(toBytes(s));
+  }
+}
@@ -0,0 +1,229 @@
+package com.linkedin.venice.router.throttle;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.RouterReadQuotaUsage;
+import com.linkedin.venice.meta.RoutersClusterManager;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
+import com.linkedin.venice.utils.TestMockTime;
+import com.linkedin.venice.utils.TestUtils;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+/**
+ * Simulates a few routers sharing the read quota of a store while receiving skewed traffic.
+ */
+public class ClusterReadQuotaCoordinatorTest {
+  private static final long STORE_QUOTA = 1000;
+  private static final long SYNC_INTERVAL_MS = TimeUnit.SECONDS.toMillis(5);
+  private static final double MIN_SHARE = 0.1;
+  private static final long SYNC_INTERVAL_SECONDS = TimeUnit.MILLISECONDS.toSeconds(SYNC_INTERVAL_MS);
+  private static final int ROUTER_COUNT = 3;
+  private static final int MAX_REPORTED_STORES = 2;
+
+  private TestMockTime time;
+  private Store store;
+  private ReadOnlyStoreRepository storeRepository;
+  private RoutersClusterManager routersClusterManager;
+  private List<ClusterReadQuotaCoordinator> coordinators;
+  private List<ReadRequestThrottler> throttlers;
+
+  @BeforeMethod
+  public void setUp() {
+    time = new TestMockTime();
+    store = TestUtils.createTestStore("test_store", "test", time.getMilliseconds());
+    store.setReadQuotaInCU(STORE_QUOTA);
+    store.setCurrentVersion(1);
+    storeRepository = mock(ReadOnlyStoreRepository.class);
+    doReturn(store).when(storeRepository).getStore(store.getName());
+    doReturn(Collections.singletonList(store)).when(storeRepository).getAllStores();
+    doReturn(STORE_QUOTA).when(storeRepository).getTotalStoreReadQuota();
+
+    // All the routers share the same cluster state, like they would through ZK.
+    Map<String, RouterReadQuotaUsage> routersUsage = new HashMap<>();
+    routersClusterManager = mock(RoutersClusterManager.class);
+    doReturn(ROUTER_COUNT).when(routersClusterManager).getLiveRoutersCount();
+    doReturn(true).when(routersClusterManager).isThrottlingEnabled();
+    doAnswer(invocation -> routersUsage.put(invocation.getArgument(0), invocation.getArgument(1)))
+        .when(routersClusterManager)
+        .updateRouterReadQuotaUsage(anyString(), any());
+    doAnswer(invocation -> new HashMap<>(routersUsage)).when(routersClusterManager).getRoutersReadQuotaUsage();
+
+    coordinators = new ArrayList<>();
+    throttlers = new ArrayList<>();
+    for (int i = 0; i < ROUTER_COUNT; i++) {
+      AggRouterHttpRequestStats stats = mock(AggRouterHttpRequestStats.class);
+      ClusterReadQuotaCoordinator coordinator = new ClusterReadQuotaCoordinator(
+          routersClusterManager,
+          storeRepository,
+          stats,
+          "router_" + i,
+          SYNC_INTERVAL_MS,
+          MIN_SHARE,
+          MAX_REPORTED_STORES,
+          Long.MAX_VALUE,
+          time);
+      coordinators.add(coordinator);
+      throttlers.add(
+          new ReadRequestThrottler(
+              routersClusterManager,
+              storeRepository,
+              Long.MAX_VALUE,
+              stats,
+              0,
+              ReadRequestThrottler.DEFAULT_STORE_QUOTA_TIME_WINDOW,
+              coordinator));
+    }
+  }
+
+  /**
+   * Sends the given read capacity units per second to each router for one sync interval, then syncs all the routers.
+   */
+  private void runSyncInterval(long[] usagePerSecond) {
+    for (int i = 0; i < ROUTER_COUNT; i++) {
+      coordinators.get(i).recordUsage(store.getName(), usagePerSecond[i] * SYNC_INTERVAL_SECONDS);
+    }
+    time.sleep(SYNC_INTERVAL_MS);
+    for (ClusterReadQuotaCoordinator coordinator: coordinators) {
+      coordinator.sync();
+    }
+  }
+
+  private long getStoreQuotaPerRouter(int router) {
+    return throttlers.get(router).getStoreReadThrottler(store.getName()).getMaxRatePerSecond();
+  }
+
+  /**
+   * @return the read capacity units per second the cluster admits with the current store quota per router.
+   */
+  private long getAdmittedUsage(long[] usagePerSecond) {
+    long admitted = 0;
+    for (int i = 0; i < ROUTER_COUNT; i++) {
+      admitted += Math.min(usagePerSecond[i], getStoreQuotaPerRouter(i));
+    }
+    return admitted;
+  }
+
+  private long getTotalStoreQuota() {
+    long total = 0;
+    for (int i = 0; i < ROUTER_COUNT; i++) {
+      total += getStoreQuotaPerRouter(i);
+    }
+    return total;
+  }
+
+  @Test
+  public void testSkewedTrafficIsNotFalselyThrottled() {
+    long[] usagePerSecond = { 600, 250, 50 };
+
+    // Before the first sync, each router gets an even share, which throttles the busiest router.
+    for (int i = 0; i < ROUTER_COUNT; i++) {
+      Assert.assertEquals(getStoreQuotaPerRouter(i), STORE_QUOTA / ROUTER_COUNT);
+    }
+    Assert.assertTrue(getAdmittedUsage(usagePerSecond) < 600);
+
+    runSyncInterval(usagePerSecond);
+    runSyncInterval(usagePerSecond);
+    // The quota follows the traffic, and the whole traffic fits into the store quota.
+    for (int i = 0; i < ROUTER_COUNT; i++) {
+      Assert.assertTrue(
+          getStoreQuotaPerRouter(i) >= usagePerSecond[i],
+          "Router " + i + " got quota: " + getStoreQuotaPerRouter(i) + " for usage: " + usagePerSecond[i]);
+    }
+    Assert.assertEquals(getAdmittedUsage(usagePerSecond), 900);
+    long totalQuota = getTotalStoreQuota();
+    Assert.assertTrue(totalQuota <= STORE_QUOTA && totalQuota >= STORE_QUOTA - ROUTER_COUNT, "Total: " + totalQuota);
+
+    // The quota moves along with the traffic.
+    long[] shiftedUsagePerSecond = { 50, 250, 600 };
+    runSyncInterval(shiftedUsagePerSecond);
+    runSyncInterval(shiftedUsagePerSecond);
+    Assert.assertEquals(getAdmittedUsage(shiftedUsagePerSecond), 900);
+  }
+
+  @Test
+  public void testOverloadIsBoundedByStoreQuota() {
+    long[] usagePerSecond = { 1600, 300, 100 };
+    runSyncInterval(usagePerSecond);
+    runSyncInterval(usagePerSecond);
+
+    long totalQuota = getTotalStoreQuota();
+    Assert.assertTrue(totalQuota <= STORE_QUOTA && totalQuota >= STORE_QUOTA - ROUTER_COUNT, "Total: " + totalQuota);
+    Assert.assertTrue(getAdmittedUsage(usagePerSecond) <= STORE_QUOTA);
+    // Every router keeps at least its minimum share.
+    for (int i = 0; i < ROUTER_COUNT; i++) {
+      Assert.assertTrue(getStoreQuotaPerRouter(i) >= (long) (STORE_QUOTA * MIN_SHARE / ROUTER_COUNT));
+    }
+  }
+
+  @Test
+  public void testStuckRouterKeepsEvenShare() {
+    long[] usagePerSecond = { 600, 250, 50 };
+    runSyncInterval(usagePerSecond);
+
+    // The last router stops reporting, so its report becomes stale and it falls back to an even share.
+    for (int round = 0; round < 4; round++) {
+      coordinators.get(0).recordUsage(store.getName(), usagePerSecond[0] * SYNC_INTERVAL_SECONDS);
+      coordinators.get(1).recordUsage(store.getName(), usagePerSecond[1] * SYNC_INTERVAL_SECONDS);
+      time.sleep(SYNC_INTERVAL_MS);
+      coordinators.get(0).sync();
+      coordinators.get(1).sync();
+    }
+    long reportingRoutersQuota = getStoreQuotaPerRouter(0) + getStoreQuotaPerRouter(1);
+    long evenShare = STORE_QUOTA / ROUTER_COUNT;
+    Assert.assertTrue(
+        reportingRoutersQuota <= STORE_QUOTA - evenShare && reportingRoutersQuota >= STORE_QUOTA - evenShare - 2,
+        "Quota of the reporting routers: " + reportingRoutersQuota);
+  }
+
+  @Test
+  public void testCalculateStoreQuotaPerRouter() {
+    ClusterReadQuotaCoordinator coordinator = coordinators.get(0);
+    // No usage at all leads to an even split.
+    Assert.assertEquals(coordinator.calculateStoreQuotaPerRouter(900, 0, 0, 3, 3), 300);
+    // Routers without usage still get the minimum share.
+    Assert.assertEquals(coordinator.calculateStoreQuotaPerRouter(900, 0, 100, 3, 3), 30);
+    Assert.assertEquals(coordinator.calculateStoreQuotaPerRouter(900, 100, 100, 3, 3), 840);
+    // A store with a tiny quota is never fully rejected.
+    Assert.assertEquals(
+        coordinator.calculateStoreQuotaPerRouter(3, 0, 100, 3, 3),
+        ReadRequestThrottler.MIN_STORE_QUOTA_PER_ROUTER);
+  }
+
+  @Test
+  public void testReportIsBounded() {
+    ClusterReadQuotaCoordinator coordinator = coordinators.get(0);
+    Map<String, Long> localUsage = new HashMap<>();
+    localUsage.put("store_a", 300L);
+    localUsage.put("store_b", 200L);
+    localUsage.put("store_c", 100L);
+    localUsage.put("store_d", 50L);
+    RouterReadQuotaUsage report = coordinator.buildReport(localUsage, time.getMilliseconds());
+    Assert.assertEquals(report.getStoreUsage().size(), MAX_REPORTED_STORES);
+    Assert.assertEquals(report.getStoreUsage("store_a"), 300L);
+    Assert.assertEquals(report.getStoreUsage("store_b"), 200L);
+    // The usage of the stores left out is over-estimated, never under-estimated.
+    Assert.assertEquals(report.getStoreUsage("store_c"), 100L);
+    Assert.assertEquals(report.getStoreUsage("store_d"), 100L);
+
+    localUsage.remove("store_c");
+    localUsage.remove("store_d");
+    report = coordinator.buildReport(localUsage, time.getMilliseconds());
+    Assert.assertEquals(report.getStoreUsage().size(), 2);
+    Assert.assertEquals(report.getStoreUsage("store_c"), 0L);
+  }
+}
@@ -9,6 +9,7 @@ import com.linkedin.venice.helix.ZkRoutersClusterManager;
 import com.linkedin.venice.meta.Instance;
 import com.linkedin.venice.meta.PartitionAssignment;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.RouterReadQuotaUsage;
 import com.linkedin.venice.meta.RoutersClusterManager;
 import com.linkedin.venice.meta.RoutingDataRepository;
 import com.linkedin.venice.meta.Store;
@@ -20,6 +21,7 @@ import com.linkedin.venice.utils.TestUtils;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.log4j.LogManager;
@@ -504,6 +506,16 @@ public class ReadRequestThrottlerTest {
       public void createRouterClusterConfig() {
 
       }
+
+      @Override
+      public void updateRouterReadQuotaUsage(String instanceId, RouterReadQuotaUsage usage) {
+
+      }
+
+      @Override
+      public Map<String, RouterReadQuotaUsage> getRoutersReadQuotaUsage() {
+        return Collections.emptyMap();
+      }
     };
 
     readRequestThrottler = new ReadRequestThrottler(